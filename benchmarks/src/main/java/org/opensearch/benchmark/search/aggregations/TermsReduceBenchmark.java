@@ -87,6 +87,11 @@ import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyList;
 
+/**
+ * Benchmarks the reduction of terms aggregations on the coordinating node, through the batched reduce of the
+ * {@link QueryPhaseResultConsumer} and through a single final reduce of all shard results. Run with {@code -prof gc} to
+ * compare the allocations of the reduce, most of which are the reduced buckets that don't make it to the top buckets.
+ */
 @Warmup(iterations = 5)
 @Measurement(iterations = 7)
 @BenchmarkMode(Mode.AverageTime)
@@ -96,29 +101,22 @@ import static java.util.Collections.emptyList;
 public class TermsReduceBenchmark {
     private final SearchModule searchModule = new SearchModule(Settings.EMPTY, emptyList());
     private final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(searchModule.getNamedWriteables());
-    private final SearchPhaseController controller = new SearchPhaseController(
-        namedWriteableRegistry,
-        req -> new InternalAggregation.ReduceContextBuilder() {
-            @Override
-            public InternalAggregation.ReduceContext forPartialReduction() {
-                return InternalAggregation.ReduceContext.forPartialReduction(null, null, () -> PipelineAggregator.PipelineTree.EMPTY);
-            }
+    private final InternalAggregation.ReduceContextBuilder reduceContextBuilder = new InternalAggregation.ReduceContextBuilder() {
+        @Override
+        public InternalAggregation.ReduceContext forPartialReduction() {
+            return InternalAggregation.ReduceContext.forPartialReduction(null, null, () -> PipelineAggregator.PipelineTree.EMPTY);
+        }
 
-            @Override
-            public InternalAggregation.ReduceContext forFinalReduction() {
-                final MultiBucketConsumerService.MultiBucketConsumer bucketConsumer = new MultiBucketConsumerService.MultiBucketConsumer(
-                    Integer.MAX_VALUE,
-                    new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
-                );
-                return InternalAggregation.ReduceContext.forFinalReduction(
-                    null,
-                    null,
-                    bucketConsumer,
-                    PipelineAggregator.PipelineTree.EMPTY
-                );
-            }
+        @Override
+        public InternalAggregation.ReduceContext forFinalReduction() {
+            final MultiBucketConsumerService.MultiBucketConsumer bucketConsumer = new MultiBucketConsumerService.MultiBucketConsumer(
+                Integer.MAX_VALUE,
+                new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+            );
+            return InternalAggregation.ReduceContext.forFinalReduction(null, null, bucketConsumer, PipelineAggregator.PipelineTree.EMPTY);
         }
-    );
+    };
+    private final SearchPhaseController controller = new SearchPhaseController(namedWriteableRegistry, req -> reduceContextBuilder);
 
     @State(Scope.Benchmark)
     public static class TermsList extends AbstractList<InternalAggregations> {
@@ -131,7 +129,7 @@ public class TermsReduceBenchmark {
         @Param({ "100" })
         int topNSize;
 
-        @Param({ "1", "10", "100" })
+        @Param({ "1", "10", "100", "1000" })
         int cardinalityFactor;
 
         List<InternalAggregations> aggsList;
@@ -240,4 +238,9 @@ public class TermsReduceBenchmark {
         executor.shutdownNow();
         return phase;
     }
+
+    @Benchmark
+    public InternalAggregations reduceTopLevel(TermsList candidateList) {
+        return InternalAggregations.topLevelReduce(candidateList, reduceContextBuilder.forFinalReduction());
+    }
 }
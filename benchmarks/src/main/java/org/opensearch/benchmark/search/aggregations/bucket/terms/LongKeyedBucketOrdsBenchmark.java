@@ -73,6 +73,11 @@ public class LongKeyedBucketOrdsBenchmark {
      * values won't be scattered evenly across the buckets.
      */
     private static final long DISTINCT_BUCKETS = 21;
+    /**
+     * The number of distinct values to add in the high cardinality cases, enough
+     * for the hash tables to outgrow the CPU caches.
+     */
+    private static final long HIGH_CARDINALITY_DISTINCT_VALUES = 500_000;
 
     private final PageCacheRecycler recycler = new PageCacheRecycler(Settings.EMPTY);
     private final BigArrays bigArrays = new BigArrays(recycler, null, "REQUEST");
@@ -86,6 +91,7 @@ public class LongKeyedBucketOrdsBenchmark {
     @Setup
     public void forceLoadClasses(Blackhole bh) {
         bh.consume(LongKeyedBucketOrds.FromSingle.class);
+        bh.consume(LongKeyedBucketOrds.FromSingleSwissTable.class);
         bh.consume(LongKeyedBucketOrds.FromMany.class);
     }
 
@@ -182,4 +188,46 @@ public class LongKeyedBucketOrdsBenchmark {
             bh.consume(ords);
         }
     }
+
+    /**
+     * Emulates a high cardinality {@code terms} aggregation collecting from
+     * a single bucket with the default implementation.
+     */
+    @Benchmark
+    public void highCardinalityIntoSingle(Blackhole bh) {
+        try (LongKeyedBucketOrds.FromSingle ords = new LongKeyedBucketOrds.FromSingle(bigArrays)) {
+            for (long i = 0; i < LIMIT; i++) {
+                ords.add(0, i % HIGH_CARDINALITY_DISTINCT_VALUES);
+            }
+            bh.consume(ords);
+        }
+    }
+
+    /**
+     * Emulates a high cardinality {@code terms} aggregation collecting from
+     * a single bucket with the swiss table, which is what it gets on large shards.
+     */
+    @Benchmark
+    public void highCardinalityIntoSingleSwissTable(Blackhole bh) {
+        try (LongKeyedBucketOrds.FromSingleSwissTable ords = new LongKeyedBucketOrds.FromSingleSwissTable(bigArrays)) {
+            for (long i = 0; i < LIMIT; i++) {
+                ords.add(0, i % HIGH_CARDINALITY_DISTINCT_VALUES);
+            }
+            bh.consume(ords);
+        }
+    }
+
+    /**
+     * Emulates a low cardinality aggregation that gets the swiss table because
+     * its shard is large.
+     */
+    @Benchmark
+    public void singleBucketIntoSingleSwissTable(Blackhole bh) {
+        try (LongKeyedBucketOrds.FromSingleSwissTable ords = new LongKeyedBucketOrds.FromSingleSwissTable(bigArrays)) {
+            for (long i = 0; i < LIMIT; i++) {
+                ords.add(0, i % DISTINCT_VALUES);
+            }
+            bh.consume(ords);
+        }
+    }
 }
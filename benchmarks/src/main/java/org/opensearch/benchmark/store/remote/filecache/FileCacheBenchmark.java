@@ -24,19 +24,23 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Simple benchmark test of {@link FileCache}. It uses a uniform random distribution
  * of keys, which is very simple but unlikely to be representative of any real life
- * workload.
+ * workload. The "highConcurrency" benchmarks run with many more threads than cores,
+ * like the search threads of a busy warm node.
  */
 @Warmup(iterations = 1)
 @Measurement(iterations = 1)
@@ -69,6 +73,33 @@ public class FileCacheBenchmark {
         parameters.fileCache.remove(randomKeyInCache(parameters));
     }
 
+    @Benchmark
+    public void computeAndDecRef(CacheParameters parameters, Blackhole blackhole) {
+        computeAndDecRef(parameters, blackhole, randomKeyInCache(parameters));
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void highConcurrencyComputeAndDecRef(CacheParameters parameters, Blackhole blackhole) {
+        computeAndDecRef(parameters, blackhole, randomKeyInCache(parameters));
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void highConcurrencyComputeAndDecRefWithMisses(CacheParameters parameters, Blackhole blackhole) {
+        // one access in ten misses, which makes the cache evict
+        final Path key = ThreadLocalRandom.current().nextInt(10) == 0 ? randomKeyNotInCache(parameters) : randomKeyInCache(parameters);
+        computeAndDecRef(parameters, blackhole, key);
+    }
+
+    /**
+     * The access pattern of a read of a block of a file through the file cache
+     */
+    private static void computeAndDecRef(CacheParameters parameters, Blackhole blackhole, Path key) {
+        blackhole.consume(parameters.fileCache.compute(key, (k, v) -> v == null ? INDEX_INPUT : v));
+        parameters.fileCache.decRef(key);
+    }
+
     private static Path randomKeyInCache(CacheParameters parameters) {
         int i = ThreadLocalRandom.current().nextInt(parameters.maximumNumberOfEntries);
         return Paths.get(Integer.toString(i));
@@ -87,21 +118,36 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "lru", "clock" })
+        String evictionPolicy;
+
         FileCache fileCache;
 
+        ExecutorService evictionExecutor;
+
         @Setup
         public void setup() {
-            fileCache = FileCacheFactory.createConcurrentLRUFileCache(
-                (long) maximumNumberOfEntries * INDEX_INPUT.length(),
-                concurrencyLevel,
-                new NoopCircuitBreaker(CircuitBreaker.REQUEST)
-            );
+            final long capacity = (long) maximumNumberOfEntries * INDEX_INPUT.length();
+            final CircuitBreaker circuitBreaker = new NoopCircuitBreaker(CircuitBreaker.REQUEST);
+            if ("clock".equals(evictionPolicy)) {
+                evictionExecutor = Executors.newCachedThreadPool();
+                fileCache = FileCacheFactory.createConcurrentClockFileCache(capacity, concurrencyLevel, circuitBreaker, evictionExecutor);
+            } else {
+                fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, concurrencyLevel, circuitBreaker);
+            }
             for (long i = 0; i < maximumNumberOfEntries; i++) {
                 final Path key = Paths.get(Long.toString(i));
                 fileCache.put(key, INDEX_INPUT);
                 fileCache.decRef(key);
             }
         }
+
+        @TearDown
+        public void tearDown() {
+            if (evictionExecutor != null) {
+                evictionExecutor.shutdownNow();
+            }
+        }
     }
 
     /**
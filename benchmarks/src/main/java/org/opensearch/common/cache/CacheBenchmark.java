@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput of {@link Cache} lookups and insertions. Keys are drawn from a skewed distribution so that
+ * most reads hit a small set of hot entries, which is where contention on the LRU list used to show. Run it against
+ * two revisions of the cache to compare them.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Threads(16)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CacheBenchmark {
+
+    @Benchmark
+    public void get(CacheParameters parameters, Blackhole blackhole) {
+        blackhole.consume(parameters.cache.get(parameters.randomKey()));
+    }
+
+    @Benchmark
+    public void put(CacheParameters parameters) {
+        Integer key = parameters.randomKey();
+        parameters.cache.put(key, key);
+    }
+
+    @Benchmark
+    public void readMostly(CacheParameters parameters, Blackhole blackhole) {
+        Integer key = parameters.randomKey();
+        if (ThreadLocalRandom.current().nextInt(100) < parameters.writePercentage) {
+            parameters.cache.put(key, key);
+        } else {
+            blackhole.consume(parameters.cache.get(key));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CacheParameters {
+        @Param({ "65536", "1048576" })
+        int maximumNumberOfEntries;
+
+        @Param({ "lru", "w_tinylfu" })
+        String evictionPolicy;
+
+        @Param({ "5" })
+        int writePercentage;
+
+        Cache<Integer, Integer> cache;
+
+        @Setup
+        public void setup() {
+            cache = CacheBuilder.<Integer, Integer>builder()
+                .setMaximumWeight(maximumNumberOfEntries)
+                .evictionPolicy(EvictionPolicy.fromString(evictionPolicy))
+                .build();
+            for (int i = 0; i < maximumNumberOfEntries; i++) {
+                cache.put(i, i);
+            }
+        }
+
+        /**
+         * Returns keys in twice the capacity of the cache, the lower keys being the most frequent
+         */
+        Integer randomKey() {
+            double r = ThreadLocalRandom.current().nextDouble();
+            return (int) (r * r * r * maximumNumberOfEntries * 2);
+        }
+    }
+}
@@ -48,7 +48,7 @@ public class LongHashBenchmark {
     @State(Scope.Benchmark)
     public static class HashTableOptions {
 
-        @Param({ "LongHash", "ReorganizingLongHash" })
+        @Param({ "LongHash", "ReorganizingLongHash", "SwissLongHash" })
         public String type;
 
         @Param({ "1" })
@@ -68,6 +68,9 @@ public class LongHashBenchmark {
                 case "ReorganizingLongHash":
                     supplier = this::newReorganizingLongHash;
                     break;
+                case "SwissLongHash":
+                    supplier = this::newSwissLongHash;
+                    break;
                 default:
                     throw new IllegalArgumentException("invalid hash table type: " + type);
             }
@@ -112,6 +115,22 @@ public class LongHashBenchmark {
                 }
             };
         }
+
+        private HashTable newSwissLongHash() {
+            return new HashTable() {
+                private final SwissLongHash table = new SwissLongHash(initialCapacity, loadFactor, BigArrays.NON_RECYCLING_INSTANCE);
+
+                @Override
+                public long add(long key) {
+                    return table.add(key);
+                }
+
+                @Override
+                public void close() {
+                    table.close();
+                }
+            };
+        }
     }
 
     /**
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indexes and looks up documents in a {@link LiveVersionMap} across refresh cycles, the way an update heavy workload does.
+ */
+@Fork(value = 3)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LiveVersionMapBenchmark {
+
+    @Param({ "object", "packed" })
+    public String type;
+
+    // number of documents that are indexed between two refreshes
+    @Param({ "10000", "100000", "1000000" })
+    public int docsPerRefresh;
+
+    // number of refreshes per invocation
+    @Param({ "3" })
+    public int refreshes;
+
+    // share of the operations that update a document that was indexed since the last refresh
+    @Param({ "0.5" })
+    public double updateRatio;
+
+    private BytesRef[] uids;
+    private int[] updates;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(docsPerRefresh);
+        uids = new BytesRef[docsPerRefresh * refreshes];
+        for (int i = 0; i < uids.length; i++) {
+            uids[i] = new BytesRef(new UUID(random.nextLong(), random.nextLong()).toString().getBytes(StandardCharsets.UTF_8));
+        }
+        updates = new int[uids.length];
+        for (int i = 0; i < updates.length; i++) {
+            int refreshStart = i - i % docsPerRefresh;
+            updates[i] = i > refreshStart && random.nextDouble() < updateRatio ? refreshStart + random.nextInt(i - refreshStart) : i;
+        }
+    }
+
+    @Benchmark
+    public void putGetRefresh(Blackhole bh) throws IOException {
+        LiveVersionMap map = new LiveVersionMap(VersionMapType.fromString(type));
+        map.enforceSafeAccess();
+        for (int refresh = 0; refresh < refreshes; refresh++) {
+            for (int i = refresh * docsPerRefresh; i < (refresh + 1) * docsPerRefresh; i++) {
+                BytesRef uid = uids[updates[i]];
+                try (Releasable ignore = map.acquireLock(uid)) {
+                    bh.consume(map.getUnderLock(uid));
+                    map.putIndexUnderLock(uid, new IndexVersionValue(new Translog.Location(refresh, i * 100L, 100), i, i, 1));
+                }
+            }
+            bh.consume(map.ramBytesUsed());
+            map.beforeRefresh();
+            map.afterRefresh(true);
+        }
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.core.common.io.stream;
 
 import org.opensearch.Version;
+import org.opensearch.core.common.bytes.BytesReference;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -60,6 +61,11 @@ public abstract class FilterStreamInput extends StreamInput {
         delegate.readBytes(b, offset, len);
     }
 
+    @Override
+    public BytesReference readRetainedBytesReference() throws IOException {
+        return delegate.readRetainedBytesReference();
+    }
+
     @Override
     public short readShort() throws IOException {
         return delegate.readShort();
@@ -153,6 +153,16 @@ public abstract class StreamInput extends InputStream {
         return readBytesReference(length);
     }
 
+    /**
+     * Reads a bytes reference from this stream that may share the underlying bytes of the stream rather than copy them. Streams over
+     * ref-counted buffers, like the ones of inbound transport messages, return a {@link org.opensearch.common.lease.Releasable}
+     * reference that keeps these buffers alive beyond the stream and that the caller must release once done with it. Other streams
+     * return a copy, same as {@link #readBytesReference()}.
+     */
+    public BytesReference readRetainedBytesReference() throws IOException {
+        return readBytesReference();
+    }
+
     /**
      * Reads an optional bytes reference from this stream. It might hold an actual reference to the underlying bytes of the stream. Use this
      * only if you must differentiate null from empty. Use {@link StreamInput#readBytesReference()} and
@@ -1317,7 +1327,7 @@ public abstract class StreamInput extends InputStream {
      * Reads a vint via {@link #readVInt()} and applies basic checks to ensure the read array size is sane.
      * This method uses {@link #ensureCanReadBytes(int)} to ensure this stream has enough bytes to read for the read array size.
      */
-    private int readArraySize() throws IOException {
+    protected final int readArraySize() throws IOException {
         final int arraySize = readVInt();
         if (arraySize > ArrayUtil.MAX_ARRAY_LENGTH) {
             throw new IllegalStateException("array length must be <= to " + ArrayUtil.MAX_ARRAY_LENGTH + " but was: " + arraySize);
@@ -89,9 +89,11 @@ import io.netty.handler.codec.http.HttpServerUpgradeHandler.UpgradeCodec;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler.UpgradeCodecFactory;
 import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
 import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
 import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
 import io.netty.handler.codec.http2.Http2MultiplexHandler;
 import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
@@ -172,9 +174,34 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         Property.NodeScope
     );
 
+    /**
+     * The maximum number of requests that a client can send concurrently over an HTTP/2 connection, each on its own stream.
+     * Requests beyond this limit are refused by the stream limit rather than queued behind the running ones.
+     */
+    public static final Setting<Integer> SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS = Setting.intSetting(
+        "http.netty.http2.max_concurrent_streams",
+        100,
+        1,
+        Property.NodeScope
+    );
+
+    /**
+     * The flow control window of each HTTP/2 stream, that is the number of bytes of its request that a client can send before
+     * waiting for the server to consume them. Streams are flow controlled independently, so a large request doesn't hold back
+     * the other streams of its connection. It can't be smaller than a frame, otherwise requests with a body would stall.
+     */
+    public static final Setting<ByteSizeValue> SETTING_HTTP_NETTY_HTTP2_INITIAL_WINDOW_SIZE = Setting.byteSizeSetting(
+        "http.netty.http2.initial_window_size",
+        new ByteSizeValue(Http2CodecUtil.DEFAULT_WINDOW_SIZE),
+        new ByteSizeValue(Http2CodecUtil.DEFAULT_MAX_FRAME_SIZE),
+        new ByteSizeValue(Http2CodecUtil.MAX_INITIAL_WINDOW_SIZE),
+        Property.NodeScope
+    );
+
     private final ByteSizeValue maxInitialLineLength;
     private final ByteSizeValue maxHeaderSize;
     private final ByteSizeValue maxChunkSize;
+    private final Http2Settings http2Settings;
 
     private final int pipeliningMaxEvents;
 
@@ -218,6 +245,7 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         this.maxHeaderSize = SETTING_HTTP_MAX_HEADER_SIZE.get(settings);
         this.maxInitialLineLength = SETTING_HTTP_MAX_INITIAL_LINE_LENGTH.get(settings);
         this.pipeliningMaxEvents = SETTING_PIPELINING_MAX_EVENTS.get(settings);
+        this.http2Settings = http2Settings(settings);
 
         this.maxCompositeBufferComponents = SETTING_HTTP_NETTY_MAX_COMPOSITE_BUFFER_COMPONENTS.get(settings);
 
@@ -228,14 +256,15 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
         logger.debug(
             "using max_chunk_size[{}], max_header_size[{}], max_initial_line_length[{}], max_content_length[{}], "
-                + "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}]",
+                + "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}], http2_settings[{}]",
             maxChunkSize,
             maxHeaderSize,
             maxInitialLineLength,
             maxContentLength,
             receivePredictor,
             maxCompositeBufferComponents,
-            pipeliningMaxEvents
+            pipeliningMaxEvents,
+            http2Settings
         );
     }
 
@@ -243,6 +272,16 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         return this.settings;
     }
 
+    /**
+     * The settings that the server announces to HTTP/2 clients when a connection starts.
+     */
+    static Http2Settings http2Settings(Settings settings) {
+        return Http2Settings.defaultSettings()
+            .maxConcurrentStreams(SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS.get(settings))
+            .initialWindowSize(SETTING_HTTP_NETTY_HTTP2_INITIAL_WINDOW_SIZE.get(settings).bytesAsInt())
+            .maxHeaderListSize(SETTING_HTTP_MAX_HEADER_SIZE.get(settings).getBytes());
+    }
+
     @Override
     protected void doStart() {
         boolean success = false;
@@ -398,7 +437,7 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
                 public UpgradeCodec newUpgradeCodec(CharSequence protocol) {
                     if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
                         return new Http2ServerUpgradeCodec(
-                            Http2FrameCodecBuilder.forServer().build(),
+                            createHttp2FrameCodec(),
                             new Http2MultiplexHandler(createHttp2ChannelInitializer(ch.pipeline()))
                         );
                     } else {
@@ -476,8 +515,12 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         }
 
         protected void configureDefaultHttp2Pipeline(ChannelPipeline pipeline) {
-            pipeline.addLast(Http2FrameCodecBuilder.forServer().build())
-                .addLast(new Http2MultiplexHandler(createHttp2ChannelInitializer(pipeline)));
+            pipeline.addLast(createHttp2FrameCodec()).addLast(new Http2MultiplexHandler(createHttp2ChannelInitializer(pipeline)));
+        }
+
+        private Http2FrameCodec createHttp2FrameCodec() {
+            // every stream of the connection is a child channel of its own with its own window, see createHttp2ChannelInitializer
+            return Http2FrameCodecBuilder.forServer().initialSettings(new Http2Settings().copyFrom(transport.http2Settings)).build();
         }
 
         private ChannelInitializer<Channel> createHttp2ChannelInitializerPriorKnowledge() {
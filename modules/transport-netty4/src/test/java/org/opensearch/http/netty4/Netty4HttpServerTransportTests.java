@@ -97,6 +97,8 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Settings;
 
 import static org.opensearch.core.rest.RestStatus.BAD_REQUEST;
 import static org.opensearch.core.rest.RestStatus.OK;
@@ -278,6 +280,41 @@ public class Netty4HttpServerTransportTests extends OpenSearchTestCase {
         }
     }
 
+    public void testHttp2Settings() {
+        Http2Settings defaults = Netty4HttpServerTransport.http2Settings(Settings.EMPTY);
+        assertEquals(Long.valueOf(100), defaults.maxConcurrentStreams());
+        assertEquals(Integer.valueOf(Http2CodecUtil.DEFAULT_WINDOW_SIZE), defaults.initialWindowSize());
+        ByteSizeValue defaultMaxHeaderSize = HttpTransportSettings.SETTING_HTTP_MAX_HEADER_SIZE.get(Settings.EMPTY);
+        assertEquals(Long.valueOf(defaultMaxHeaderSize.getBytes()), defaults.maxHeaderListSize());
+
+        final int maxConcurrentStreams = randomIntBetween(1, 1000);
+        final ByteSizeValue initialWindowSize = new ByteSizeValue(randomIntBetween(Http2CodecUtil.DEFAULT_MAX_FRAME_SIZE, 1 << 24));
+        final ByteSizeValue maxHeaderSize = new ByteSizeValue(randomIntBetween(1024, 1 << 16));
+        Http2Settings settings = Netty4HttpServerTransport.http2Settings(
+            Settings.builder()
+                .put(Netty4HttpServerTransport.SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS.getKey(), maxConcurrentStreams)
+                .put(Netty4HttpServerTransport.SETTING_HTTP_NETTY_HTTP2_INITIAL_WINDOW_SIZE.getKey(), initialWindowSize)
+                .put(HttpTransportSettings.SETTING_HTTP_MAX_HEADER_SIZE.getKey(), maxHeaderSize)
+                .build()
+        );
+        assertEquals(Long.valueOf(maxConcurrentStreams), settings.maxConcurrentStreams());
+        assertEquals(Integer.valueOf(initialWindowSize.bytesAsInt()), settings.initialWindowSize());
+        assertEquals(Long.valueOf(maxHeaderSize.getBytes()), settings.maxHeaderListSize());
+
+        final IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> Netty4HttpServerTransport.http2Settings(
+                Settings.builder()
+                    .put(
+                        Netty4HttpServerTransport.SETTING_HTTP_NETTY_HTTP2_INITIAL_WINDOW_SIZE.getKey(),
+                        new ByteSizeValue(randomIntBetween(0, Http2CodecUtil.DEFAULT_MAX_FRAME_SIZE - 1))
+                    )
+                    .build()
+            )
+        );
+        assertThat(e.getMessage(), containsString(Netty4HttpServerTransport.SETTING_HTTP_NETTY_HTTP2_INITIAL_WINDOW_SIZE.getKey()));
+    }
+
     public void testBadRequest() throws InterruptedException {
         final AtomicReference<Throwable> causeReference = new AtomicReference<>();
         final HttpServerTransport.Dispatcher dispatcher = new HttpServerTransport.Dispatcher() {
@@ -10,26 +10,36 @@ package org.opensearch.http.reactor.netty4;
 
 import org.opensearch.common.concurrent.CompletableContext;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.http.HttpChannel;
+import org.opensearch.http.HttpChunk;
 import org.opensearch.http.HttpResponse;
+import org.opensearch.http.StreamingHttpChannel;
 import org.opensearch.transport.reactor.netty4.Netty4Utils;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.FullHttpResponse;
-import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
 import reactor.core.publisher.FluxSink;
 import reactor.netty.http.server.HttpServerRequest;
 import reactor.netty.http.server.HttpServerResponse;
 
-class NonStreamingHttpChannel implements HttpChannel {
+/**
+ * The channel of a request whose content is aggregated before it is dispatched. The response is either sent at once, or
+ * streamed in chunks with chunked transfer encoding: the emitter then publishes the status and headers of the response
+ * followed by its chunks.
+ */
+class NonStreamingHttpChannel implements StreamingHttpChannel {
     private final HttpServerRequest request;
     private final HttpServerResponse response;
     private final CompletableContext<Void> closeContext = new CompletableContext<>();
-    private final FluxSink<HttpContent> emitter;
+    private final FluxSink<HttpObject> emitter;
 
-    NonStreamingHttpChannel(HttpServerRequest request, HttpServerResponse response, FluxSink<HttpContent> emitter) {
+    NonStreamingHttpChannel(HttpServerRequest request, HttpServerResponse response, FluxSink<HttpObject> emitter) {
         this.request = request;
         this.response = response;
         this.emitter = emitter;
@@ -60,6 +70,30 @@ class NonStreamingHttpChannel implements HttpChannel {
         emitter.complete();
     }
 
+    @Override
+    public void prepareResponse(HttpResponse response) {
+        final FullHttpResponse fullResponse = createResponse(response);
+        try {
+            // a response without content tells the transport to stream the chunks that follow
+            emitter.next(new DefaultHttpResponse(fullResponse.protocolVersion(), fullResponse.status(), fullResponse.headers()));
+        } finally {
+            fullResponse.release();
+        }
+    }
+
+    @Override
+    public void sendChunk(HttpChunk chunk, ActionListener<Void> listener) {
+        final ByteBuf content = Netty4Utils.toByteBuf(chunk.content());
+        if (chunk.isLast()) {
+            emitter.next(new DefaultLastHttpContent(content));
+            listener.onResponse(null);
+            emitter.complete();
+        } else {
+            emitter.next(new DefaultHttpContent(content));
+            listener.onResponse(null);
+        }
+    }
+
     @Override
     public InetSocketAddress getRemoteAddress() {
         return (InetSocketAddress) response.remoteAddress();
@@ -16,6 +16,7 @@ import java.util.function.Consumer;
 
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.LastHttpContent;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -25,14 +26,14 @@ import reactor.core.publisher.FluxSink;
 import reactor.netty.http.server.HttpServerRequest;
 import reactor.netty.http.server.HttpServerResponse;
 
-class NonStreamingRequestConsumer<T extends HttpContent> implements Consumer<T>, Publisher<HttpContent>, Disposable {
+class NonStreamingRequestConsumer<T extends HttpContent> implements Consumer<T>, Publisher<HttpObject>, Disposable {
     private final HttpServerRequest request;
     private final HttpServerResponse response;
     private final CompositeByteBuf content;
-    private final Publisher<HttpContent> publisher;
+    private final Publisher<HttpObject> publisher;
     private final AbstractHttpServerTransport transport;
     private final AtomicBoolean disposed = new AtomicBoolean(false);
-    private volatile FluxSink<HttpContent> emitter;
+    private volatile FluxSink<HttpObject> emitter;
 
     NonStreamingRequestConsumer(
         AbstractHttpServerTransport transport,
@@ -47,7 +48,7 @@ class NonStreamingRequestConsumer<T extends HttpContent> implements Consumer<T>,
         this.publisher = Flux.create(emitter -> register(emitter));
     }
 
-    private void register(FluxSink<HttpContent> emitter) {
+    private void register(FluxSink<HttpObject> emitter) {
         this.emitter = emitter.onDispose(this).onCancel(this);
     }
 
@@ -64,7 +65,7 @@ class NonStreamingRequestConsumer<T extends HttpContent> implements Consumer<T>,
         }
     }
 
-    public void process(HttpContent in, FluxSink<HttpContent> emitter) {
+    public void process(HttpContent in, FluxSink<HttpObject> emitter) {
         // Consume request body in full before dispatching it
         content.addComponent(true, in.content().retain());
 
@@ -91,7 +92,7 @@ class NonStreamingRequestConsumer<T extends HttpContent> implements Consumer<T>,
     }
 
     @Override
-    public void subscribe(Subscriber<? super HttpContent> s) {
+    public void subscribe(Subscriber<? super HttpObject> s) {
         publisher.subscribe(s);
     }
 
@@ -26,6 +26,7 @@ import org.opensearch.http.HttpReadTimeoutException;
 import org.opensearch.http.HttpServerChannel;
 import org.opensearch.http.reactor.netty4.ssl.SslUtils;
 import org.opensearch.plugins.SecureHttpTransportSettingsProvider;
+import org.opensearch.rest.RestRequest;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.reactor.SharedGroupFactory;
@@ -47,11 +48,13 @@ import io.netty.channel.socket.nio.NioChannelOption;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.ssl.ApplicationProtocolNegotiator;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.util.ReferenceCountUtil;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -351,6 +354,10 @@ public class ReactorNetty4HttpServerTransport extends AbstractHttpServerTranspor
      * @return response publisher
      */
     protected Publisher<Void> incomingRequest(HttpServerRequest request, HttpServerResponse response) {
+        if (supportsStreaming(request)) {
+            return sendResponse(new StreamingRequestConsumer(this, request, response), response);
+        }
+
         final NonStreamingRequestConsumer<HttpContent> consumer = new NonStreamingRequestConsumer<>(
             this,
             request,
@@ -360,15 +367,45 @@ public class ReactorNetty4HttpServerTransport extends AbstractHttpServerTranspor
 
         request.receiveContent().switchIfEmpty(Mono.just(DefaultLastHttpContent.EMPTY_LAST_CONTENT)).subscribe(consumer);
 
-        return Mono.from(consumer).flatMap(hc -> {
-            final FullHttpResponse r = (FullHttpResponse) hc;
-            response.status(r.status());
-            response.trailerHeaders(c -> r.trailingHeaders().forEach(h -> c.add(h.getKey(), h.getValue())));
-            response.chunkedTransfer(false);
-            response.compression(true);
-            r.headers().forEach(h -> response.addHeader(h.getKey(), h.getValue()));
-            return Mono.from(response.sendObject(r.content()));
-        });
+        return sendResponse(consumer, response);
+    }
+
+    private boolean supportsStreaming(HttpServerRequest request) {
+        final RestRequest.Method method;
+        try {
+            method = HttpConversionUtil.convertMethod(request.method());
+        } catch (IllegalArgumentException e) {
+            // the request is rejected once it's dispatched
+            return false;
+        }
+        final String uri = request.uri();
+        final int pathEndPos = uri.indexOf('?');
+        return dispatcher.supportsStreaming(method, pathEndPos < 0 ? uri : uri.substring(0, pathEndPos));
+    }
+
+    private Publisher<Void> sendResponse(Publisher<HttpObject> publisher, HttpServerResponse response) {
+        return Flux.from(publisher).switchOnFirst((signal, objects) -> {
+            final HttpObject first = signal.get();
+            if (first instanceof FullHttpResponse) {
+                final FullHttpResponse r = (FullHttpResponse) first;
+                response.status(r.status());
+                response.trailerHeaders(c -> r.trailingHeaders().forEach(h -> c.add(h.getKey(), h.getValue())));
+                response.chunkedTransfer(false);
+                response.compression(true);
+                r.headers().forEach(h -> response.addHeader(h.getKey(), h.getValue()));
+                return Mono.from(response.sendObject(r.content()));
+            } else if (first instanceof io.netty.handler.codec.http.HttpResponse) {
+                // a streamed response, its status and headers come first and are followed by the chunks of its content
+                final io.netty.handler.codec.http.HttpResponse r = (io.netty.handler.codec.http.HttpResponse) first;
+                response.status(r.status());
+                response.chunkedTransfer(true);
+                // every chunk is flushed as soon as it is sent, compressing would hold it back
+                response.compression(false);
+                r.headers().forEach(h -> response.addHeader(h.getKey(), h.getValue()));
+                return Mono.from(response.send(objects.skip(1).cast(HttpContent.class).map(HttpContent::content), content -> true));
+            }
+            return objects.then();
+        }).then();
     }
 
     /**
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.reactor.netty4;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.http.HttpChunk;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.handler.codec.http.HttpObject;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * The channel of a request whose content is streamed to its handler rather than aggregated: the content is read from the
+ * connection as the handler requests it, so a slow handler stops the reads and lets TCP push back on the client. The response
+ * is sent the same way as the one of a {@link NonStreamingHttpChannel}.
+ */
+class ReactorNetty4StreamingHttpChannel extends NonStreamingHttpChannel {
+    private final HttpServerRequest request;
+
+    ReactorNetty4StreamingHttpChannel(HttpServerRequest request, HttpServerResponse response, FluxSink<HttpObject> emitter) {
+        super(request, response, emitter);
+        this.request = request;
+    }
+
+    @Override
+    public Publisher<HttpChunk> requestContent() {
+        // the buffers are released once they are delivered, so their bytes are copied to outlive them
+        return request.receive()
+            .map(content -> new HttpChunk(new BytesArray(ByteBufUtil.getBytes(content)), false))
+            .concatWith(Mono.just(new HttpChunk(BytesArray.EMPTY, true)));
+    }
+}
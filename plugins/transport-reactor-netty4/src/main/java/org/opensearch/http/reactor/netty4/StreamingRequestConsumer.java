@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.reactor.netty4;
+
+import org.opensearch.http.AbstractHttpServerTransport;
+import org.opensearch.http.HttpRequest;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpObject;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * Dispatches a request to a handler that supports streaming as soon as its headers are received. The request has no content,
+ * the handler reads it from {@link ReactorNetty4StreamingHttpChannel#requestContent()}.
+ */
+class StreamingRequestConsumer implements Publisher<HttpObject> {
+    private final HttpServerRequest request;
+    private final HttpServerResponse response;
+    private final Publisher<HttpObject> publisher;
+    private final AbstractHttpServerTransport transport;
+
+    StreamingRequestConsumer(AbstractHttpServerTransport transport, HttpServerRequest request, HttpServerResponse response) {
+        this.transport = transport;
+        this.request = request;
+        this.response = response;
+        this.publisher = Flux.create(emitter -> process(emitter));
+    }
+
+    private void process(FluxSink<HttpObject> emitter) {
+        final ReactorNetty4StreamingHttpChannel channel = new ReactorNetty4StreamingHttpChannel(request, response, emitter);
+        final HttpRequest r = new ReactorNetty4HttpRequest(request, Unpooled.EMPTY_BUFFER);
+
+        try {
+            transport.incomingRequest(r, channel);
+        } catch (Exception ex) {
+            emitter.error(ex);
+            transport.onException(channel, ex);
+        } finally {
+            r.release();
+        }
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super HttpObject> s) {
+        publisher.subscribe(s);
+    }
+}
@@ -195,8 +195,8 @@ public class CacheStatsAPIIndicesRequestCacheIT extends ParameterizedStaticSetti
             searchIndex(client, index, String.valueOf(i));
         }
         Map<String, Object> xContentMap = getNodeCacheStatsXContentMap(client, null);
-        // Null levels should result in only the total cache stats being returned -> 6 fields inside the response.
-        assertEquals(6, ((Map<String, Object>) xContentMap.get("request_cache")).size());
+        // Null levels should result in only the total cache stats being returned -> 7 fields inside the response.
+        assertEquals(7, ((Map<String, Object>) xContentMap.get("request_cache")).size());
     }
 
     private void startIndex(Client client, String indexName) throws InterruptedException {
@@ -35,6 +35,7 @@ package org.opensearch.search.profile.aggregation;
 import com.carrotsearch.randomizedtesting.annotations.ParametersFactory;
 
 import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.search.aggregations.Aggregator.SubAggCollectionMode;
@@ -62,6 +63,7 @@ import java.util.stream.Collectors;
 
 import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.search.SearchService.MAX_AGGREGATION_REWRITE_FILTERS;
 import static org.opensearch.search.aggregations.AggregationBuilders.avg;
 import static org.opensearch.search.aggregations.AggregationBuilders.diversifiedSampler;
 import static org.opensearch.search.aggregations.AggregationBuilders.global;
@@ -217,10 +219,9 @@ public class AggregationProfilerIT extends ParameterizedStaticSettingsOpenSearch
     }
 
     public void testSimpleProfile() {
-        SearchResponse response = client().prepareSearch("idx")
-            .setProfile(true)
-            .addAggregation(histogram("histo").field(NUMBER_FIELD).interval(1L))
-            .get();
+        SearchResponse response = searchWithoutFilterRewrite(
+            client().prepareSearch("idx").setProfile(true).addAggregation(histogram("histo").field(NUMBER_FIELD).interval(1L))
+        );
         assertSearchResponse(response);
         Map<String, ProfileShardResult> profileResults = response.getProfileResults();
         assertThat(profileResults, notNullValue());
@@ -915,11 +916,12 @@ public class AggregationProfilerIT extends ParameterizedStaticSettingsOpenSearch
     }
 
     public void testMultipleAggregationsProfile() {
-        SearchResponse response = client().prepareSearch("idx")
-            .setProfile(true)
-            .addAggregation(histogram("histo_1").field(NUMBER_FIELD).interval(1L))
-            .addAggregation(histogram("histo_2").field(NUMBER_FIELD).interval(1L))
-            .get();
+        SearchResponse response = searchWithoutFilterRewrite(
+            client().prepareSearch("idx")
+                .setProfile(true)
+                .addAggregation(histogram("histo_1").field(NUMBER_FIELD).interval(1L))
+                .addAggregation(histogram("histo_2").field(NUMBER_FIELD).interval(1L))
+        );
         assertSearchResponse(response);
         Map<String, ProfileShardResult> profileResults = response.getProfileResults();
         assertThat(profileResults, notNullValue());
@@ -973,6 +975,31 @@ public class AggregationProfilerIT extends ParameterizedStaticSettingsOpenSearch
         }
     }
 
+    /**
+     * Runs the search with the filter rewrite disabled, so that top level histograms without sub-aggregations collect the
+     * documents that are profiled rather than counting them from the points.
+     */
+    private SearchResponse searchWithoutFilterRewrite(SearchRequestBuilder request) {
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().put(MAX_AGGREGATION_REWRITE_FILTERS.getKey(), 0))
+                .get()
+        );
+        try {
+            return request.get();
+        } finally {
+            assertAcked(
+                client().admin()
+                    .cluster()
+                    .prepareUpdateSettings()
+                    .setTransientSettings(Settings.builder().putNull(MAX_AGGREGATION_REWRITE_FILTERS.getKey()))
+                    .get()
+            );
+        }
+    }
+
     private void assertCollectorResult(QueryProfileShardResult collectorResult, int expectedChildrenCount) {
         long nodeTime = collectorResult.getCollectorResult().getTime();
         assertThat(collectorResult.getCollectorResult().getMaxSliceTime(), equalTo(nodeTime));
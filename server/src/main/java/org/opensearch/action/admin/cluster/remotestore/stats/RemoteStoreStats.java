@@ -195,6 +195,10 @@ public class RemoteStoreStats implements Writeable, ToXContentFragment {
         builder.startObject(UploadStatsFields.REMOTE_REFRESH_LATENCY_IN_MILLIS)
             .field(SubFields.MOVING_AVG, remoteSegmentShardStats.uploadTimeMovingAverage);
         builder.endObject();
+        builder.startObject(UploadStatsFields.UPLOAD_QUEUE_TIME_IN_MILLIS)
+            .field(SubFields.TOTAL, remoteSegmentShardStats.totalUploadQueueTimeInMs)
+            .field(SubFields.MOVING_AVG, remoteSegmentShardStats.uploadQueueTimeMovingAverage);
+        builder.endObject();
     }
 
     private void buildSegmentDownloadStats(XContentBuilder builder) throws IOException {
@@ -288,6 +292,11 @@ public class RemoteStoreStats implements Writeable, ToXContentFragment {
          */
         static final String REMOTE_REFRESH_LATENCY_IN_MILLIS = "remote_refresh_latency_in_millis";
 
+        /**
+         * Time segment uploads waited for the node level upload scheduler before they started
+         */
+        static final String UPLOAD_QUEUE_TIME_IN_MILLIS = "upload_queue_time_in_millis";
+
         /**
          * Timestamp of last successful remote store upload
          */
@@ -390,6 +399,11 @@ public class RemoteStoreStats implements Writeable, ToXContentFragment {
          * Most recent successful attempt stat
          */
         static final String LAST_SUCCESSFUL = "last_successful";
+
+        /**
+         * Cumulative sum stat
+         */
+        static final String TOTAL = "total";
     }
 
 }
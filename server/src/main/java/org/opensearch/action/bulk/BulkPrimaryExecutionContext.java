@@ -83,6 +83,8 @@ class BulkPrimaryExecutionContext {
 
     private final BulkShardRequest request;
     private final IndexShard primary;
+    // the positions of the items this context executes, in order, or null if it executes all the items of the request
+    private final int[] slots;
     private Translog.Location locationToSync = null;
     private int currentIndex = -1;
 
@@ -92,14 +94,31 @@ class BulkPrimaryExecutionContext {
     private int retryCounter;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
+        this(request, primary, null);
+    }
+
+    /**
+     * Creates a context that only executes the items of the request at the given positions, so that several contexts can execute
+     * disjoint sets of items of the same request concurrently.
+     */
+    BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary, int[] slots) {
         this.request = request;
         this.primary = primary;
+        this.slots = slots;
         advance();
     }
 
+    private int itemCount() {
+        return slots == null ? request.items().length : slots.length;
+    }
+
+    private int slot(int index) {
+        return slots == null ? index : slots[index];
+    }
+
     private int findNextNonAborted(int startIndex) {
-        final int length = request.items().length;
-        while (startIndex < length && isAborted(request.items()[startIndex].getPrimaryResponse())) {
+        final int length = itemCount();
+        while (startIndex < length && isAborted(request.items()[slot(startIndex)].getPrimaryResponse())) {
             startIndex++;
         }
         return startIndex;
@@ -173,10 +192,10 @@ class BulkPrimaryExecutionContext {
 
     /**
      * returns true if {@link #advance()} has moved the current item beyond the
-     * end of the {@link BulkShardRequest#items()} array.
+     * end of the items this context executes.
      */
     public boolean hasMoreOperationsToExecute() {
-        return currentIndex < request.items().length;
+        return currentIndex < itemCount();
     }
 
     /** returns the name of the index the current request used */
@@ -193,7 +212,7 @@ class BulkPrimaryExecutionContext {
     }
 
     private BulkItemRequest getCurrentItem() {
-        return request.items()[currentIndex];
+        return request.items()[slot(currentIndex)];
     }
 
     /** returns the primary shard */
@@ -325,7 +344,7 @@ class BulkPrimaryExecutionContext {
         assert translatedResponse.getItemId() == getCurrentItem().id();
 
         if (translatedResponse.isFailed() == false && requestToExecute != null && requestToExecute != getCurrent()) {
-            request.items()[currentIndex] = new BulkItemRequest(request.items()[currentIndex].id(), requestToExecute);
+            request.items()[slot(currentIndex)] = new BulkItemRequest(getCurrentItem().id(), requestToExecute);
         }
         getCurrentItem().setPrimaryResponse(translatedResponse);
         currentItemState = ItemProcessingState.COMPLETED;
@@ -335,6 +354,12 @@ class BulkPrimaryExecutionContext {
     /** builds the bulk shard response to return to the user */
     public BulkShardResponse buildShardResponse() {
         assert hasMoreOperationsToExecute() == false;
+        assert slots == null : "only the context of the whole request can build its response";
+        return buildShardResponse(request);
+    }
+
+    /** builds the bulk shard response of a request whose items have all been completed */
+    static BulkShardResponse buildShardResponse(BulkShardRequest request) {
         return new BulkShardResponse(
             request.shardId(),
             Arrays.stream(request.items()).map(BulkItemRequest::getPrimaryResponse).toArray(BulkItemResponse[]::new)
@@ -73,6 +73,8 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -109,6 +111,7 @@ import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -116,6 +119,7 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * Performs shard-level bulk (index, delete or update) operations
@@ -412,27 +416,35 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         IndexShard primary,
         ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener
     ) {
-        ClusterStateObserver observer = new ClusterStateObserver(clusterService, request.timeout(), logger, threadPool.getThreadContext());
         performOnPrimary(request, primary, updateHelper, threadPool::absoluteTimeInMillis, (update, shardId, mappingListener) -> {
             assert update != null;
             assert shardId != null;
             mappingUpdatedAction.updateMappingOnClusterManager(shardId.getIndex(), update, mappingListener);
-        }, mappingUpdateListener -> observer.waitForNextChange(new ClusterStateObserver.Listener() {
-            @Override
-            public void onNewClusterState(ClusterState state) {
-                mappingUpdateListener.onResponse(null);
-            }
+        }, () -> {
+            // an observer only supports one wait at a time, so each lane gets its own
+            final ClusterStateObserver observer = new ClusterStateObserver(
+                clusterService,
+                request.timeout(),
+                logger,
+                threadPool.getThreadContext()
+            );
+            return mappingUpdateListener -> observer.waitForNextChange(new ClusterStateObserver.Listener() {
+                @Override
+                public void onNewClusterState(ClusterState state) {
+                    mappingUpdateListener.onResponse(null);
+                }
 
-            @Override
-            public void onClusterServiceClose() {
-                mappingUpdateListener.onFailure(new NodeClosedException(clusterService.localNode()));
-            }
+                @Override
+                public void onClusterServiceClose() {
+                    mappingUpdateListener.onFailure(new NodeClosedException(clusterService.localNode()));
+                }
 
-            @Override
-            public void onTimeout(TimeValue timeout) {
-                mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
-            }
-        }), listener, threadPool, executor(primary));
+                @Override
+                public void onTimeout(TimeValue timeout) {
+                    mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
+                }
+            });
+        }, listener, threadPool, executor(primary), primary.indexSettings().getBulkPrimaryParallelism());
     }
 
     @Override
@@ -459,80 +471,266 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         ThreadPool threadPool,
         String executorName
     ) {
-        new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
-
-            private final Executor executor = threadPool.executor(executorName);
-
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
-
-            @Override
-            protected void doRun() throws Exception {
-                while (context.hasMoreOperationsToExecute()) {
-                    if (executeBulkItemRequest(
-                        context,
-                        updateHelper,
-                        nowInMillisSupplier,
-                        mappingUpdater,
-                        waitForMappingUpdate,
-                        ActionListener.wrap(v -> executor.execute(this), this::onRejection)
-                    ) == false) {
-                        // We are waiting for a mapping update on another thread, that will invoke this action again once its done
-                        // so we just break out here.
-                        return;
-                    }
-                    assert context.isInitial(); // either completed and moved to next or reset
-                }
-                // We're done, there's no more operations to execute so we resolve the wrapped listener
-                finishRequest();
+        performOnPrimary(
+            request,
+            primary,
+            updateHelper,
+            nowInMillisSupplier,
+            mappingUpdater,
+            () -> waitForMappingUpdate,
+            listener,
+            threadPool,
+            executorName,
+            1
+        );
+    }
+
+    /**
+     * Executes the items of the request on the primary. With a parallelism greater than one the items are spread by the hash of their
+     * id over up to that many lanes, which execute concurrently on the given executor, so that parsing, analysis and indexing of the
+     * items of a single shard use several cores. The items of a lane execute one after the other in the order of the request, and
+     * items that share an id always share a lane, so each document still sees its operations, versions and sequence numbers in the
+     * order of the request.
+     * <p>
+     * Lanes may wait for dynamic mapping updates at the same time, so {@code waitForMappingUpdate} supplies the wait of each lane.
+     */
+    public static void performOnPrimary(
+        BulkShardRequest request,
+        IndexShard primary,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        Supplier<Consumer<ActionListener<Void>>> waitForMappingUpdate,
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
+        ThreadPool threadPool,
+        String executorName,
+        int parallelism
+    ) {
+        final Executor executor = threadPool.executor(executorName);
+        final int[][] lanes = parallelism > 1 ? partitionItemsById(request.items(), parallelism) : null;
+        if (lanes == null || lanes.length <= 1) {
+            new PrimaryItemsExecution(
+                new BulkPrimaryExecutionContext(request, primary),
+                updateHelper,
+                nowInMillisSupplier,
+                mappingUpdater,
+                waitForMappingUpdate.get(),
+                executor,
+                ActionListener.map(listener, location -> newPrimaryResult(request, primary, location))
+            ).run();
+            return;
+        }
+        final LanesListener lanesListener = new LanesListener(
+            lanes.length,
+            ActionListener.map(listener, location -> newPrimaryResult(request, primary, location))
+        );
+        for (int i = lanes.length - 1; i >= 0; i--) {
+            final PrimaryItemsExecution execution = new PrimaryItemsExecution(
+                new BulkPrimaryExecutionContext(request, primary, lanes[i]),
+                updateHelper,
+                nowInMillisSupplier,
+                mappingUpdater,
+                waitForMappingUpdate.get(),
+                executor,
+                lanesListener.laneListener(i)
+            );
+            if (i > 0) {
+                execution.forceExecution = true;
+                executor.execute(execution);
+            } else {
+                // the calling thread executes the first lane
+                execution.run();
             }
+        }
+    }
 
-            @Override
-            public void onRejection(Exception e) {
-                // We must finish the outstanding request. Finishing the outstanding request can include
-                // refreshing and fsyncing. Therefore, we must force execution on the WRITE thread.
-                executor.execute(new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
-
-                    @Override
-                    protected void doRun() {
-                        // Fail all operations after a bulk rejection hit an action that waited for a mapping update and finish the request
-                        while (context.hasMoreOperationsToExecute()) {
-                            context.setRequestToExecute(context.getCurrent());
-                            final DocWriteRequest<?> docWriteRequest = context.getRequestToExecute();
-                            onComplete(
-                                exceptionToResult(
-                                    e,
-                                    primary,
-                                    docWriteRequest.opType() == DocWriteRequest.OpType.DELETE,
-                                    docWriteRequest.version()
-                                ),
-                                context,
-                                null
-                            );
-                        }
-                        finishRequest();
-                    }
+    /**
+     * Spreads the positions of the items over up to {@code parallelism} lanes by the hash of their id, keeping the order of the
+     * request within each lane. Empty lanes are left out.
+     */
+    static int[][] partitionItemsById(BulkItemRequest[] items, int parallelism) {
+        final int laneCount = Math.min(parallelism, items.length);
+        final int[] laneOfItem = new int[items.length];
+        final int[] laneSizes = new int[laneCount];
+        for (int i = 0; i < items.length; i++) {
+            laneOfItem[i] = Math.floorMod(Objects.hashCode(items[i].request().id()), laneCount);
+            laneSizes[laneOfItem[i]]++;
+        }
+        final int[][] lanes = new int[laneCount][];
+        for (int lane = 0; lane < laneCount; lane++) {
+            lanes[lane] = new int[laneSizes[lane]];
+            laneSizes[lane] = 0;
+        }
+        for (int i = 0; i < items.length; i++) {
+            final int lane = laneOfItem[i];
+            lanes[lane][laneSizes[lane]++] = i;
+        }
+        return Arrays.stream(lanes).filter(lane -> lane.length > 0).toArray(int[][]::new);
+    }
+
+    /**
+     * Collects the outcome of the lanes of a request, and completes once every lane is done: the primary result releases the operation
+     * permit and starts the replication, which must not happen while a lane still writes to the shard. Completes with the furthest
+     * translog location of the lanes, or fails with the failure of the first lane that failed, the failures of the others suppressed.
+     *
+     * @opensearch.internal
+     */
+    static final class LanesListener {
+
+        private final AtomicArray<Translog.Location> locations;
+        private final CountDown pendingLanes;
+        private final ActionListener<Translog.Location> delegate;
+        private Exception failure;
 
-                    @Override
-                    public boolean isForceExecution() {
-                        return true;
+        LanesListener(int lanes, ActionListener<Translog.Location> delegate) {
+            this.locations = new AtomicArray<>(lanes);
+            this.pendingLanes = new CountDown(lanes);
+            this.delegate = delegate;
+        }
+
+        ActionListener<Translog.Location> laneListener(int lane) {
+            return new ActionListener<Translog.Location>() {
+                @Override
+                public void onResponse(Translog.Location location) {
+                    locations.set(lane, location);
+                    onLaneDone();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    synchronized (LanesListener.this) {
+                        failure = ExceptionsHelper.useOrSuppress(failure, e);
                     }
-                });
+                    onLaneDone();
+                }
+            };
+        }
+
+        private void onLaneDone() {
+            if (pendingLanes.countDown() == false) {
+                return;
+            }
+            final Exception e;
+            synchronized (this) {
+                e = failure;
+            }
+            if (e != null) {
+                delegate.onFailure(e);
+                return;
             }
+            Translog.Location location = null;
+            for (Translog.Location laneLocation : locations.asList()) {
+                if (location == null || laneLocation.compareTo(location) > 0) {
+                    location = laneLocation;
+                }
+            }
+            delegate.onResponse(location);
+        }
+    }
 
-            private void finishRequest() {
-                ActionListener.completeWith(
-                    listener,
-                    () -> new WritePrimaryResult<>(
-                        context.getBulkShardRequest(),
-                        context.buildShardResponse(),
-                        context.getLocationToSync(),
-                        null,
-                        context.getPrimary(),
-                        logger
-                    )
-                );
+    private static WritePrimaryResult<BulkShardRequest, BulkShardResponse> newPrimaryResult(
+        BulkShardRequest request,
+        IndexShard primary,
+        Translog.Location location
+    ) {
+        return new WritePrimaryResult<>(request, BulkPrimaryExecutionContext.buildShardResponse(request), location, null, primary, logger);
+    }
+
+    /**
+     * Executes the items of a {@link BulkPrimaryExecutionContext} one after the other, and completes with the translog location that
+     * needs to be synced for them to be persisted.
+     *
+     * @opensearch.internal
+     */
+    private static final class PrimaryItemsExecution extends ActionRunnable<Translog.Location> {
+
+        private final BulkPrimaryExecutionContext context;
+        private final UpdateHelper updateHelper;
+        private final LongSupplier nowInMillisSupplier;
+        private final MappingUpdatePerformer mappingUpdater;
+        private final Consumer<ActionListener<Void>> waitForMappingUpdate;
+        private final Executor executor;
+
+        // the lanes of a request that was already admitted are not subject to the queue of the executor when they are first dispatched
+        private volatile boolean forceExecution;
+
+        PrimaryItemsExecution(
+            BulkPrimaryExecutionContext context,
+            UpdateHelper updateHelper,
+            LongSupplier nowInMillisSupplier,
+            MappingUpdatePerformer mappingUpdater,
+            Consumer<ActionListener<Void>> waitForMappingUpdate,
+            Executor executor,
+            ActionListener<Translog.Location> listener
+        ) {
+            super(listener);
+            this.context = context;
+            this.updateHelper = updateHelper;
+            this.nowInMillisSupplier = nowInMillisSupplier;
+            this.mappingUpdater = mappingUpdater;
+            this.waitForMappingUpdate = waitForMappingUpdate;
+            this.executor = executor;
+        }
+
+        @Override
+        public boolean isForceExecution() {
+            return forceExecution;
+        }
+
+        @Override
+        protected void doRun() throws Exception {
+            forceExecution = false;
+            while (context.hasMoreOperationsToExecute()) {
+                if (executeBulkItemRequest(
+                    context,
+                    updateHelper,
+                    nowInMillisSupplier,
+                    mappingUpdater,
+                    waitForMappingUpdate,
+                    ActionListener.wrap(v -> executor.execute(this), this::onRejection)
+                ) == false) {
+                    // We are waiting for a mapping update on another thread, that will invoke this action again once its done
+                    // so we just break out here.
+                    return;
+                }
+                assert context.isInitial(); // either completed and moved to next or reset
             }
-        }.run();
+            // We're done, there's no more operations to execute so we resolve the wrapped listener
+            listener.onResponse(context.getLocationToSync());
+        }
+
+        @Override
+        public void onRejection(Exception e) {
+            // We must finish the outstanding request. Finishing the outstanding request can include
+            // refreshing and fsyncing. Therefore, we must force execution on the WRITE thread.
+            executor.execute(new ActionRunnable<Translog.Location>(listener) {
+
+                @Override
+                protected void doRun() {
+                    // Fail all operations after a bulk rejection hit an action that waited for a mapping update and finish the request
+                    while (context.hasMoreOperationsToExecute()) {
+                        context.setRequestToExecute(context.getCurrent());
+                        final DocWriteRequest<?> docWriteRequest = context.getRequestToExecute();
+                        onComplete(
+                            exceptionToResult(
+                                e,
+                                context.getPrimary(),
+                                docWriteRequest.opType() == DocWriteRequest.OpType.DELETE,
+                                docWriteRequest.version()
+                            ),
+                            context,
+                            null
+                        );
+                    }
+                    listener.onResponse(context.getLocationToSync());
+                }
+
+                @Override
+                public boolean isForceExecution() {
+                    return true;
+                }
+            });
+        }
     }
 
     @Override
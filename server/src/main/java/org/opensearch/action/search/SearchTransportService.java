@@ -323,11 +323,13 @@ public class SearchTransportService {
         SearchTask task,
         final SearchActionListener<FetchSearchResult> listener
     ) {
+        // fetch responses carry the hits, which shrink well, and they are compressed along with the request they answer
         transportService.sendChildRequest(
             connection,
             action,
             request,
             task,
+            TransportRequestOptions.builder().withCompression(TransportRequestOptions.CompressionPolicy.ALWAYS).build(),
             new ConnectionCountingHandler<>(listener, FetchSearchResult::new, clientConnections, connection.getNode().getId())
         );
     }
@@ -256,6 +256,8 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
             configuredHostsResolver
         );
         this.publicationHandler = new PublicationTransportHandler(
+            settings,
+            clusterSettings,
             transportService,
             namedWriteableRegistry,
             this::handlePublishRequest,
@@ -1338,7 +1340,8 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
                 followersChecker.setCurrentNodes(publishNodes);
                 lagDetector.setTrackedNodes(publishNodes);
                 coordinationState.get().handlePrePublish(clusterState);
-                publication.start(followersChecker.getFaultyNodes());
+                // the publish requests to non-cluster-manager-eligible nodes may be relayed, see PublicationTransportHandler
+                publicationContext.batchPublishRequests(() -> publication.start(followersChecker.getFaultyNodes()));
             }
         } catch (Exception e) {
             logger.debug(() -> new ParameterizedMessage("[{}] publishing failed", clusterChangedEvent.source()), e);
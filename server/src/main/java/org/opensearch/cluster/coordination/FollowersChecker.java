@@ -357,7 +357,11 @@ public class FollowersChecker {
                 discoveryNode,
                 FOLLOWER_CHECK_ACTION_NAME,
                 request,
-                TransportRequestOptions.builder().withTimeout(followerCheckTimeout).withType(Type.PING).build(),
+                TransportRequestOptions.builder()
+                    .withTimeout(followerCheckTimeout)
+                    .withType(Type.PING)
+                    .withCompression(TransportRequestOptions.CompressionPolicy.NEVER)
+                    .build(),
                 new TransportResponseHandler<Empty>() {
                     @Override
                     public Empty read(StreamInput in) {
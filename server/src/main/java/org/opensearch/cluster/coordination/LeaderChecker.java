@@ -278,7 +278,11 @@ public class LeaderChecker {
                 leader,
                 LEADER_CHECK_ACTION_NAME,
                 new LeaderCheckRequest(transportService.getLocalNode()),
-                TransportRequestOptions.builder().withTimeout(leaderCheckTimeout).withType(Type.PING).build(),
+                TransportRequestOptions.builder()
+                    .withTimeout(leaderCheckTimeout)
+                    .withType(Type.PING)
+                    .withCompression(TransportRequestOptions.CompressionPolicy.NEVER)
+                    .build(),
 
                 new TransportResponseHandler<TransportResponse.Empty>() {
 
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Stats of the publish requests that a node sent at a given hop of the fan-out tree of publications: hop 1 for the requests the
+ * cluster-manager sends, hop 2 for the ones the nodes it reaches relay, and so on. The time of a request that is relayed further
+ * includes the time it takes to publish to its whole subtree.
+ *
+ * @opensearch.internal
+ */
+public class PublicationHopStats implements Writeable, ToXContentObject {
+
+    private final int hop;
+    private final long count;
+    private final long failedCount;
+    private final long timeInMillis;
+
+    public PublicationHopStats(int hop, long count, long failedCount, long timeInMillis) {
+        this.hop = hop;
+        this.count = count;
+        this.failedCount = failedCount;
+        this.timeInMillis = timeInMillis;
+    }
+
+    public PublicationHopStats(StreamInput in) throws IOException {
+        hop = in.readVInt();
+        count = in.readVLong();
+        failedCount = in.readVLong();
+        timeInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(hop);
+        out.writeVLong(count);
+        out.writeVLong(failedCount);
+        out.writeVLong(timeInMillis);
+    }
+
+    public int getHop() {
+        return hop;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public TimeValue getTime() {
+        return TimeValue.timeValueMillis(timeInMillis);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("hop", hop);
+        builder.field("count", count);
+        builder.field("failed", failedCount);
+        builder.humanReadableField("time_in_millis", "time", getTime());
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return "PublicationHopStats(hop=" + hop + ", count=" + count + ", failed=" + failedCount + ", time=" + timeInMillis + "ms)";
+    }
+}
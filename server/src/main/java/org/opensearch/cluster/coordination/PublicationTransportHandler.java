@@ -34,14 +34,26 @@ package org.opensearch.cluster.coordination;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ChannelActionListener;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.MeanMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
@@ -49,20 +61,27 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.BytesTransportRequest;
+import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportRequest;
 import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Transport handler for publication
@@ -75,6 +94,26 @@ public class PublicationTransportHandler {
 
     public static final String PUBLISH_STATE_ACTION_NAME = "internal:cluster/coordination/publish_state";
     public static final String COMMIT_STATE_ACTION_NAME = "internal:cluster/coordination/commit_state";
+    public static final String RELAY_PUBLISH_STATE_ACTION_NAME = "internal:cluster/coordination/relay_publish_state";
+
+    // the number of nodes the cluster-manager publishes a cluster state diff to, and that each of them relays it to in turn, when
+    // there are more non-cluster-manager-eligible nodes to publish it to than that. 0 publishes to every node directly.
+    public static final Setting<Integer> PUBLISH_FAN_OUT_SETTING = Setting.intSetting(
+        "cluster.publish.fan_out",
+        0,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    // the timeout of a relayed publication to a whole subtree of nodes, after which the cluster-manager publishes to them directly
+    public static final Setting<TimeValue> PUBLISH_RELAY_TIMEOUT_SETTING = Setting.timeSetting(
+        "cluster.publish.relay_timeout",
+        TimeValue.timeValueSeconds(10),
+        TimeValue.timeValueMillis(1),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
 
     private final TransportService transportService;
     private final NamedWriteableRegistry namedWriteableRegistry;
@@ -82,6 +121,9 @@ public class PublicationTransportHandler {
 
     private final AtomicReference<ClusterState> lastSeenClusterState = new AtomicReference<>();
 
+    // the UUID of the state this node accepted last from a remote cluster-manager, and the response it sent for it
+    private final AtomicReference<Tuple<String, PublishWithJoinResponse>> lastAcceptedPublication = new AtomicReference<>();
+
     // the cluster-manager needs the original non-serialized state as the cluster state contains some volatile information that we
     // don't want to be replicated because it's not usable on another node (e.g. UnassignedInfo.unassignedTimeNanos) or
     // because it's mostly just debugging info that would unnecessarily blow up CS updates (I think there was one in
@@ -98,7 +140,15 @@ public class PublicationTransportHandler {
         .withType(TransportRequestOptions.Type.STATE)
         .build();
 
+    // the stats of the publish requests this node sent, per hop of the fan-out tree
+    private final Map<Integer, HopStats> hopStats = ConcurrentCollections.newConcurrentMap();
+
+    private volatile int fanOut;
+    private volatile TimeValue relayTimeout;
+
     public PublicationTransportHandler(
+        Settings settings,
+        ClusterSettings clusterSettings,
         TransportService transportService,
         NamedWriteableRegistry namedWriteableRegistry,
         Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
@@ -107,6 +157,10 @@ public class PublicationTransportHandler {
         this.transportService = transportService;
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.handlePublishRequest = handlePublishRequest;
+        this.fanOut = PUBLISH_FAN_OUT_SETTING.get(settings);
+        this.relayTimeout = PUBLISH_RELAY_TIMEOUT_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(PUBLISH_FAN_OUT_SETTING, this::setFanOut);
+        clusterSettings.addSettingsUpdateConsumer(PUBLISH_RELAY_TIMEOUT_SETTING, this::setRelayTimeout);
 
         transportService.registerRequestHandler(
             PUBLISH_STATE_ACTION_NAME,
@@ -125,6 +179,23 @@ public class PublicationTransportHandler {
             ApplyCommitRequest::new,
             (request, channel, task) -> handleApplyCommit.accept(request, transportCommitCallback(channel))
         );
+
+        transportService.registerRequestHandler(
+            RELAY_PUBLISH_STATE_ACTION_NAME,
+            ThreadPool.Names.GENERIC,
+            false,
+            false,
+            RelayedPublishRequest::new,
+            (request, channel, task) -> handleRelayedPublishRequest(request, channel)
+        );
+    }
+
+    private void setFanOut(int fanOut) {
+        this.fanOut = fanOut;
+    }
+
+    private void setRelayTimeout(TimeValue relayTimeout) {
+        this.relayTimeout = relayTimeout;
     }
 
     private ActionListener<Void> transportCommitCallback(TransportChannel channel) {
@@ -155,10 +226,170 @@ public class PublicationTransportHandler {
         return new PublishClusterStateStats(
             fullClusterStateReceivedCount.get(),
             incompatibleClusterStateDiffReceivedCount.get(),
-            compatibleClusterStateDiffReceivedCount.get()
+            compatibleClusterStateDiffReceivedCount.get(),
+            hopStats.values()
+                .stream()
+                .map(HopStats::stats)
+                .sorted(Comparator.comparingInt(PublicationHopStats::getHop))
+                .collect(Collectors.toList())
         );
     }
 
+    private HopStats hopStats(int hop) {
+        return hopStats.computeIfAbsent(hop, HopStats::new);
+    }
+
+    /**
+     * Sends a publish request, timing it in the stats of the given hop.
+     */
+    private <T extends TransportResponse> void sendRequest(
+        DiscoveryNode destination,
+        String action,
+        TransportRequest request,
+        TransportRequestOptions options,
+        int hop,
+        TransportResponseHandler<T> handler
+    ) {
+        final HopStats stats = hopStats(hop);
+        final long startTimeMillis = transportService.getThreadPool().relativeTimeInMillis();
+        transportService.sendRequest(destination, action, request, options, new TransportResponseHandler<T>() {
+
+            @Override
+            public T read(StreamInput in) throws IOException {
+                return handler.read(in);
+            }
+
+            @Override
+            public void handleResponse(T response) {
+                stats.onResponse(startTimeMillis);
+                handler.handleResponse(response);
+            }
+
+            @Override
+            public void handleException(TransportException exp) {
+                stats.onFailure(startTimeMillis);
+                handler.handleException(exp);
+            }
+
+            @Override
+            public String executor() {
+                return handler.executor();
+            }
+        });
+    }
+
+    /**
+     * Relays the publication to the subtrees of the request before handling it like any other publish request, and responds
+     * with the outcome of the publication on this node and on every node of the subtrees.
+     */
+    private void handleRelayedPublishRequest(RelayedPublishRequest request, TransportChannel channel) {
+        final List<RelayedPublishRequest.Target> targets = request.getTargets();
+        final ActionListener<RelayedPublishResponse> channelListener = new ChannelActionListener<>(
+            channel,
+            RELAY_PUBLISH_STATE_ACTION_NAME,
+            request
+        );
+        final ActionListener<Collection<List<RelayedPublishResponse.NodeResult>>> responseListener = ActionListener.map(
+            channelListener,
+            results -> new RelayedPublishResponse(results.stream().flatMap(List::stream).collect(Collectors.toList()))
+        );
+        final GroupedActionListener<List<RelayedPublishResponse.NodeResult>> groupedListener = new GroupedActionListener<>(
+            responseListener,
+            targets.size() + 1
+        );
+        for (RelayedPublishRequest.Target target : targets) {
+            relayPublishRequest(request.getSerializedState(), request.getHop() + 1, target, groupedListener);
+        }
+
+        final DiscoveryNode localNode = transportService.getLocalNode();
+        RelayedPublishResponse.NodeResult localResult;
+        try {
+            final BytesTransportRequest localRequest = new BytesTransportRequest(request.getSerializedState(), localNode.getVersion());
+            localResult = RelayedPublishResponse.NodeResult.success(localNode.getId(), handleIncomingPublishRequest(localRequest));
+        } catch (Exception e) {
+            localResult = RelayedPublishResponse.NodeResult.rejected(localNode.getId(), e);
+        }
+        groupedListener.onResponse(List.of(localResult));
+    }
+
+    private void relayPublishRequest(
+        BytesReference serializedState,
+        int hop,
+        RelayedPublishRequest.Target target,
+        ActionListener<List<RelayedPublishResponse.NodeResult>> listener
+    ) {
+        final DiscoveryNode destination = target.getNode();
+        // the relays of this node have no timeout of their own, they are bounded by the timeout of the request this node received
+        if (target.getChildren().isEmpty()) {
+            final ActionListener<PublishWithJoinResponse> leafListener = ActionListener.wrap(
+                response -> listener.onResponse(List.of(RelayedPublishResponse.NodeResult.success(destination.getId(), response))),
+                e -> {
+                    logger.debug(() -> new ParameterizedMessage("failed to relay cluster state to {}", destination), e);
+                    // a node that handled the publication and failed it must not be published to again
+                    listener.onResponse(
+                        List.of(
+                            e instanceof RemoteTransportException
+                                ? RelayedPublishResponse.NodeResult.rejected(destination.getId(), e)
+                                : RelayedPublishResponse.NodeResult.undelivered(destination.getId(), e)
+                        )
+                    );
+                }
+            );
+            sendRequest(
+                destination,
+                PUBLISH_STATE_ACTION_NAME,
+                new BytesTransportRequest(serializedState, destination.getVersion()),
+                stateRequestOptions,
+                hop,
+                new ActionListenerResponseHandler<>(leafListener, PublishWithJoinResponse::new, ThreadPool.Names.GENERIC)
+            );
+        } else {
+            final ActionListener<RelayedPublishResponse> relayListener = ActionListener.wrap(
+                response -> listener.onResponse(response.getResults()),
+                e -> {
+                    logger.debug(() -> new ParameterizedMessage("failed to relay cluster state to {}", destination), e);
+                    final List<DiscoveryNode> nodes = new ArrayList<>();
+                    target.collectNodes(nodes);
+                    listener.onResponse(
+                        nodes.stream()
+                            .map(node -> RelayedPublishResponse.NodeResult.undelivered(node.getId(), e))
+                            .collect(Collectors.toList())
+                    );
+                }
+            );
+            sendRequest(
+                destination,
+                RELAY_PUBLISH_STATE_ACTION_NAME,
+                new RelayedPublishRequest(serializedState, hop, target.getChildren()),
+                stateRequestOptions,
+                hop,
+                new ActionListenerResponseHandler<>(relayListener, RelayedPublishResponse::new, ThreadPool.Names.GENERIC)
+            );
+        }
+    }
+
+    /**
+     * Lays the given nodes out as a complete tree of the given degree, in order: the roots are the first {@code fanOut} nodes, and
+     * the children of the node at index {@code i} are the ones at indices {@code fanOut * (i + 1)} to {@code fanOut * (i + 2) - 1}.
+     */
+    static List<RelayedPublishRequest.Target> buildFanOutTree(List<DiscoveryNode> nodes, int fanOut) {
+        assert fanOut > 0 : fanOut;
+        final List<RelayedPublishRequest.Target> roots = new ArrayList<>(fanOut);
+        for (int i = 0; i < Math.min(fanOut, nodes.size()); i++) {
+            roots.add(buildFanOutSubtree(nodes, fanOut, i));
+        }
+        return roots;
+    }
+
+    private static RelayedPublishRequest.Target buildFanOutSubtree(List<DiscoveryNode> nodes, int fanOut, int index) {
+        final int firstChild = fanOut * (index + 1);
+        final List<RelayedPublishRequest.Target> children = new ArrayList<>();
+        for (int i = firstChild; i < Math.min(firstChild + fanOut, nodes.size()); i++) {
+            children.add(buildFanOutSubtree(nodes, fanOut, i));
+        }
+        return new RelayedPublishRequest.Target(nodes.get(index), children);
+    }
+
     private PublishWithJoinResponse handleIncomingPublishRequest(BytesTransportRequest request) throws IOException {
         try (StreamInput in = CompressedStreamUtils.decompressBytes(request, namedWriteableRegistry)) {
             ClusterState incomingState;
@@ -221,7 +452,23 @@ public class PublicationTransportHandler {
                 return handlePublishRequest.apply(publishRequest);
             }
         }
-        return handlePublishRequest.apply(new PublishRequest(incomingState));
+        final Tuple<String, PublishWithJoinResponse> lastAccepted = lastAcceptedPublication.get();
+        if (lastAccepted != null && isSamePublication(lastAccepted, incomingState)) {
+            // the nodes below a relay that failed or timed out are published to directly, including the ones the relay reached: the
+            // state was accepted already, so acknowledge it again rather than reject it as not newer than the last accepted one
+            logger.debug("acknowledging already accepted cluster state version [{}] again", incomingState.version());
+            return lastAccepted.v2();
+        }
+        final PublishWithJoinResponse response = handlePublishRequest.apply(new PublishRequest(incomingState));
+        lastAcceptedPublication.set(new Tuple<>(incomingState.stateUUID(), response));
+        return response;
+    }
+
+    private static boolean isSamePublication(Tuple<String, PublishWithJoinResponse> publication, ClusterState state) {
+        final PublishResponse publishResponse = publication.v2().getPublishResponse();
+        return publication.v1().equals(state.stateUUID())
+            && publishResponse.getTerm() == state.term()
+            && publishResponse.getVersion() == state.version();
     }
 
     public PublicationContext newPublicationContext(ClusterChangedEvent clusterChangedEvent) {
@@ -270,6 +517,8 @@ public class PublicationTransportHandler {
         private final boolean sendFullVersion;
         private final Map<Version, BytesReference> serializedStates = new HashMap<>();
         private final Map<Version, BytesReference> serializedDiffs = new HashMap<>();
+        // the publish requests deferred until the end of the current batch, null when not batching
+        private List<DeferredPublishRequest> deferredPublishRequests;
 
         PublicationContext(ClusterChangedEvent clusterChangedEvent) {
             discoveryNodes = clusterChangedEvent.state().nodes();
@@ -308,6 +557,28 @@ public class PublicationTransportHandler {
             }
         }
 
+        /**
+         * Runs the given action, deferring the publish requests it sends to the nodes that may be published to through a fan-out
+         * tree until it completes. The requests to cluster-manager-eligible nodes are always sent directly, so that the fan-out
+         * doesn't delay the commit of the publication.
+         */
+        public void batchPublishRequests(Runnable runnable) {
+            assert deferredPublishRequests == null : "already batching publish requests";
+            final int fanOut = PublicationTransportHandler.this.fanOut;
+            if (fanOut == 0) {
+                runnable.run();
+                return;
+            }
+            deferredPublishRequests = new ArrayList<>();
+            try {
+                runnable.run();
+            } finally {
+                final List<DeferredPublishRequest> requests = deferredPublishRequests;
+                deferredPublishRequests = null;
+                sendDeferredPublishRequests(requests, fanOut);
+            }
+        }
+
         public void sendPublishRequest(
             DiscoveryNode destination,
             PublishRequest publishRequest,
@@ -342,12 +613,103 @@ public class PublicationTransportHandler {
             if (sendFullVersion || previousState.nodes().nodeExists(destination) == false) {
                 logger.trace("sending full cluster state version [{}] to [{}]", newState.version(), destination);
                 sendFullClusterState(destination, responseActionListener);
+            } else if (deferredPublishRequests != null && canRelayTo(destination)) {
+                logger.trace("deferring cluster state diff for version [{}] to [{}]", newState.version(), destination);
+                deferredPublishRequests.add(new DeferredPublishRequest(destination, ActionListener.notifyOnce(responseActionListener)));
             } else {
                 logger.trace("sending cluster state diff for version [{}] to [{}]", newState.version(), destination);
                 sendClusterStateDiff(destination, responseActionListener);
             }
         }
 
+        private boolean canRelayTo(DiscoveryNode destination) {
+            return destination.equals(discoveryNodes.getLocalNode()) == false
+                && destination.isClusterManagerNode() == false
+                && destination.getVersion().onOrAfter(Version.V_3_0_0);
+        }
+
+        private void sendDeferredPublishRequests(List<DeferredPublishRequest> requests, int fanOut) {
+            // the nodes of a tree share the serialization of the diff, so there is a tree per node version
+            final Map<Version, List<DeferredPublishRequest>> requestsByVersion = requests.stream()
+                .collect(Collectors.groupingBy(request -> request.destination.getVersion()));
+            for (List<DeferredPublishRequest> versionRequests : requestsByVersion.values()) {
+                if (versionRequests.size() <= fanOut) {
+                    for (DeferredPublishRequest request : versionRequests) {
+                        sendClusterStateDiff(request.destination, request.listener);
+                    }
+                    continue;
+                }
+                final Map<String, DeferredPublishRequest> requestsByNodeId = versionRequests.stream()
+                    .collect(Collectors.toMap(request -> request.destination.getId(), Function.identity()));
+                final List<DiscoveryNode> nodes = versionRequests.stream().map(request -> request.destination).collect(Collectors.toList());
+                for (RelayedPublishRequest.Target root : buildFanOutTree(nodes, fanOut)) {
+                    if (root.getChildren().isEmpty()) {
+                        sendClusterStateDiff(root.getNode(), requestsByNodeId.get(root.getNode().getId()).listener);
+                    } else {
+                        sendRelayedPublishRequest(root, requestsByNodeId);
+                    }
+                }
+            }
+        }
+
+        private void sendRelayedPublishRequest(RelayedPublishRequest.Target root, Map<String, DeferredPublishRequest> requestsByNodeId) {
+            final DiscoveryNode destination = root.getNode();
+            final List<DiscoveryNode> nodes = new ArrayList<>();
+            root.collectNodes(nodes);
+            logger.trace("relaying cluster state diff for version [{}] through [{}] to {}", newState.version(), destination, nodes);
+            final ActionListener<RelayedPublishResponse> listener = ActionListener.wrap(response -> {
+                final Map<String, RelayedPublishResponse.NodeResult> results = response.getResults()
+                    .stream()
+                    .collect(Collectors.toMap(RelayedPublishResponse.NodeResult::getNodeId, Function.identity()));
+                for (DiscoveryNode node : nodes) {
+                    onRelayedPublishResult(node, results.get(node.getId()), requestsByNodeId.get(node.getId()).listener);
+                }
+            }, e -> {
+                logger.debug(
+                    () -> new ParameterizedMessage("failed to relay cluster state through {}, sending it directly", destination),
+                    e
+                );
+                for (DiscoveryNode node : nodes) {
+                    sendClusterStateDiff(node, requestsByNodeId.get(node.getId()).listener);
+                }
+            });
+            try {
+                final TransportRequestOptions options = TransportRequestOptions.builder()
+                    .withType(TransportRequestOptions.Type.STATE)
+                    .withTimeout(relayTimeout)
+                    .build();
+                sendRequest(
+                    destination,
+                    RELAY_PUBLISH_STATE_ACTION_NAME,
+                    new RelayedPublishRequest(serializedDiffs.get(destination.getVersion()), 1, root.getChildren()),
+                    options,
+                    1,
+                    new ActionListenerResponseHandler<>(listener, RelayedPublishResponse::new, ThreadPool.Names.GENERIC)
+                );
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+        }
+
+        private void onRelayedPublishResult(
+            DiscoveryNode node,
+            RelayedPublishResponse.NodeResult result,
+            ActionListener<PublishWithJoinResponse> listener
+        ) {
+            if (result == null || result.isDelivered() == false) {
+                logger.debug("cluster state diff couldn't be relayed to {}, sending it directly", node);
+                sendClusterStateDiff(node, listener);
+            } else if (result.getResponse() != null) {
+                listener.onResponse(result.getResponse());
+            } else if (ExceptionsHelper.unwrapCause(result.getFailure()) instanceof IncompatibleClusterStateVersionException) {
+                logger.debug("resending full cluster state to node {} reason {}", node, result.getFailure().getMessage());
+                sendFullClusterState(node, listener);
+            } else {
+                logger.debug(() -> new ParameterizedMessage("failed to relay cluster state to {}", node), result.getFailure());
+                listener.onFailure(result.getFailure());
+            }
+        }
+
         public void sendApplyCommit(
             DiscoveryNode destination,
             ApplyCommitRequest applyCommitRequest,
@@ -452,7 +814,7 @@ public class PublicationTransportHandler {
                         return ThreadPool.Names.GENERIC;
                     }
                 };
-                transportService.sendRequest(destination, PUBLISH_STATE_ACTION_NAME, request, stateRequestOptions, responseHandler);
+                sendRequest(destination, PUBLISH_STATE_ACTION_NAME, request, stateRequestOptions, 1, responseHandler);
             } catch (Exception e) {
                 logger.warn(() -> new ParameterizedMessage("error sending cluster state to {}", destination), e);
                 listener.onFailure(e);
@@ -460,4 +822,49 @@ public class PublicationTransportHandler {
         }
     }
 
+    /**
+     * A publish request deferred until the end of a batch.
+     *
+     * @opensearch.internal
+     */
+    private static class DeferredPublishRequest {
+
+        private final DiscoveryNode destination;
+        private final ActionListener<PublishWithJoinResponse> listener;
+
+        DeferredPublishRequest(DiscoveryNode destination, ActionListener<PublishWithJoinResponse> listener) {
+            this.destination = destination;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Stats of the publish requests sent at a hop of the fan-out tree.
+     *
+     * @opensearch.internal
+     */
+    private class HopStats {
+
+        private final int hop;
+        // the count and total round-trip time of the requests
+        private final MeanMetric time = new MeanMetric();
+        private final CounterMetric failed = new CounterMetric();
+
+        HopStats(int hop) {
+            this.hop = hop;
+        }
+
+        void onResponse(long startTimeMillis) {
+            time.inc(Math.max(0, transportService.getThreadPool().relativeTimeInMillis() - startTimeMillis));
+        }
+
+        void onFailure(long startTimeMillis) {
+            failed.inc();
+            onResponse(startTimeMillis);
+        }
+
+        PublicationHopStats stats() {
+            return new PublicationHopStats(hop, time.count(), failed.count(), time.sum());
+        }
+    }
 }
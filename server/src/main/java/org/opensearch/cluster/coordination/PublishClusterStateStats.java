@@ -32,6 +32,7 @@
 
 package org.opensearch.cluster.coordination;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -39,6 +40,8 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Class encapsulating stats about the PublishClusterStateAction
@@ -50,6 +53,7 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
     private final long fullClusterStateReceivedCount;
     private final long incompatibleClusterStateDiffReceivedCount;
     private final long compatibleClusterStateDiffReceivedCount;
+    private final List<PublicationHopStats> hopStats;
 
     /**
      * @param fullClusterStateReceivedCount the number of times this node has received a full copy of the cluster state from the cluster-manager.
@@ -60,16 +64,34 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
         long fullClusterStateReceivedCount,
         long incompatibleClusterStateDiffReceivedCount,
         long compatibleClusterStateDiffReceivedCount
+    ) {
+        this(fullClusterStateReceivedCount, incompatibleClusterStateDiffReceivedCount, compatibleClusterStateDiffReceivedCount, List.of());
+    }
+
+    /**
+     * @param hopStats the stats of the publish requests this node sent, per hop of the fan-out tree of publications
+     */
+    public PublishClusterStateStats(
+        long fullClusterStateReceivedCount,
+        long incompatibleClusterStateDiffReceivedCount,
+        long compatibleClusterStateDiffReceivedCount,
+        List<PublicationHopStats> hopStats
     ) {
         this.fullClusterStateReceivedCount = fullClusterStateReceivedCount;
         this.incompatibleClusterStateDiffReceivedCount = incompatibleClusterStateDiffReceivedCount;
         this.compatibleClusterStateDiffReceivedCount = compatibleClusterStateDiffReceivedCount;
+        this.hopStats = Collections.unmodifiableList(hopStats);
     }
 
     public PublishClusterStateStats(StreamInput in) throws IOException {
         fullClusterStateReceivedCount = in.readVLong();
         incompatibleClusterStateDiffReceivedCount = in.readVLong();
         compatibleClusterStateDiffReceivedCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            hopStats = in.readList(PublicationHopStats::new);
+        } else {
+            hopStats = List.of();
+        }
     }
 
     @Override
@@ -77,6 +99,9 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
         out.writeVLong(fullClusterStateReceivedCount);
         out.writeVLong(incompatibleClusterStateDiffReceivedCount);
         out.writeVLong(compatibleClusterStateDiffReceivedCount);
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeList(hopStats);
+        }
     }
 
     @Override
@@ -86,6 +111,13 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
             builder.field("full_states", fullClusterStateReceivedCount);
             builder.field("incompatible_diffs", incompatibleClusterStateDiffReceivedCount);
             builder.field("compatible_diffs", compatibleClusterStateDiffReceivedCount);
+            if (hopStats.isEmpty() == false) {
+                builder.startArray("hops");
+                for (PublicationHopStats hop : hopStats) {
+                    hop.toXContent(builder, params);
+                }
+                builder.endArray();
+            }
         }
         builder.endObject();
         return builder;
@@ -103,6 +135,10 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
         return compatibleClusterStateDiffReceivedCount;
     }
 
+    public List<PublicationHopStats> getHopStats() {
+        return hopStats;
+    }
+
     @Override
     public String toString() {
         return "PublishClusterStateStats(full="
@@ -111,6 +147,8 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
             + incompatibleClusterStateDiffReceivedCount
             + ", compatible="
             + compatibleClusterStateDiffReceivedCount
+            + ", hops="
+            + hopStats
             + ")";
     }
 }
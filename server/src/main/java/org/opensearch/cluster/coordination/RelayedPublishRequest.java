@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A publish request that the receiving node handles like any other, and relays to the subtrees of nodes it's given. It holds the
+ * cluster state diff as it was serialized and compressed by the cluster-manager, so that relays don't serialize it again.
+ *
+ * @opensearch.internal
+ */
+public class RelayedPublishRequest extends TransportRequest {
+
+    private final BytesReference serializedState;
+    private final int hop;
+    private final List<Target> targets;
+
+    /**
+     * @param serializedState the state or diff to publish, serialized for the version of the receiving node and of its targets
+     * @param hop             the number of hops between the cluster-manager and the receiving node
+     * @param targets         the subtrees the receiving node relays the request to
+     */
+    public RelayedPublishRequest(BytesReference serializedState, int hop, List<Target> targets) {
+        this.serializedState = serializedState;
+        this.hop = hop;
+        this.targets = targets;
+    }
+
+    public RelayedPublishRequest(StreamInput in) throws IOException {
+        super(in);
+        serializedState = in.readBytesReference();
+        hop = in.readVInt();
+        targets = in.readList(Target::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeBytesReference(serializedState);
+        out.writeVInt(hop);
+        out.writeList(targets);
+    }
+
+    public BytesReference getSerializedState() {
+        return serializedState;
+    }
+
+    public int getHop() {
+        return hop;
+    }
+
+    public List<Target> getTargets() {
+        return targets;
+    }
+
+    @Override
+    public String toString() {
+        return "RelayedPublishRequest{hop=" + hop + ", targets=" + targets + '}';
+    }
+
+    /**
+     * A node of the fan-out tree of a publication, and the nodes it relays the publication to.
+     *
+     * @opensearch.internal
+     */
+    public static class Target implements Writeable {
+
+        private final DiscoveryNode node;
+        private final List<Target> children;
+
+        public Target(DiscoveryNode node, List<Target> children) {
+            this.node = node;
+            this.children = children;
+        }
+
+        public Target(StreamInput in) throws IOException {
+            node = new DiscoveryNode(in);
+            children = in.readList(Target::new);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            node.writeTo(out);
+            out.writeList(children);
+        }
+
+        public DiscoveryNode getNode() {
+            return node;
+        }
+
+        public List<Target> getChildren() {
+            return children;
+        }
+
+        /**
+         * Adds the node of this target and the ones of its subtree to the given list.
+         */
+        void collectNodes(List<DiscoveryNode> nodes) {
+            nodes.add(node);
+            for (Target child : children) {
+                child.collectNodes(nodes);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return children.isEmpty() ? node.getId() : node.getId() + children;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.transport.TransportResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Response to a {@link RelayedPublishRequest}, with the outcome of the publication on the node the request was sent to and on
+ * every node of the subtrees it relayed the request to.
+ *
+ * @opensearch.internal
+ */
+public class RelayedPublishResponse extends TransportResponse {
+
+    private final List<NodeResult> results;
+
+    public RelayedPublishResponse(List<NodeResult> results) {
+        this.results = results;
+    }
+
+    public RelayedPublishResponse(StreamInput in) throws IOException {
+        super(in);
+        results = in.readList(NodeResult::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeList(results);
+    }
+
+    public List<NodeResult> getResults() {
+        return results;
+    }
+
+    /**
+     * The outcome of a relayed publication on a node: either the response of the node, or the reason it has none.
+     *
+     * @opensearch.internal
+     */
+    public static class NodeResult implements Writeable {
+
+        private final String nodeId;
+        @Nullable
+        private final PublishWithJoinResponse response;
+        @Nullable
+        private final Exception failure;
+        private final boolean delivered;
+
+        private NodeResult(String nodeId, PublishWithJoinResponse response, Exception failure, boolean delivered) {
+            this.nodeId = nodeId;
+            this.response = response;
+            this.failure = failure;
+            this.delivered = delivered;
+        }
+
+        static NodeResult success(String nodeId, PublishWithJoinResponse response) {
+            return new NodeResult(nodeId, response, null, true);
+        }
+
+        /**
+         * The node handled the publication and failed it, the cluster-manager doesn't send the state to it again.
+         */
+        static NodeResult rejected(String nodeId, Exception failure) {
+            return new NodeResult(nodeId, null, failure, true);
+        }
+
+        /**
+         * The publication couldn't be relayed to the node, the cluster-manager sends the state to it directly instead.
+         */
+        static NodeResult undelivered(String nodeId, Exception failure) {
+            return new NodeResult(nodeId, null, failure, false);
+        }
+
+        NodeResult(StreamInput in) throws IOException {
+            nodeId = in.readString();
+            response = in.readOptionalWriteable(PublishWithJoinResponse::new);
+            failure = in.readBoolean() ? in.readException() : null;
+            delivered = in.readBoolean();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(nodeId);
+            out.writeOptionalWriteable(response);
+            if (failure == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                out.writeException(failure);
+            }
+            out.writeBoolean(delivered);
+        }
+
+        public String getNodeId() {
+            return nodeId;
+        }
+
+        @Nullable
+        public PublishWithJoinResponse getResponse() {
+            return response;
+        }
+
+        @Nullable
+        public Exception getFailure() {
+            return failure;
+        }
+
+        public boolean isDelivered() {
+            return delivered;
+        }
+    }
+}
@@ -36,10 +36,13 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.concurrent.RefCountedReleasable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.FilterStreamInput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.XContentBuilder;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -118,9 +121,13 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
         return delegate.ramBytesUsed();
     }
 
+    /**
+     * Returns a stream over the bytes of this reference whose {@link StreamInput#readRetainedBytesReference()} returns retained slices
+     * of this reference instead of copies.
+     */
     @Override
     public StreamInput streamInput() throws IOException {
-        return delegate.streamInput();
+        return new RetainingStreamInput(delegate.streamInput());
     }
 
     @Override
@@ -167,4 +174,34 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
     public int hashCode() {
         return delegate.hashCode();
     }
+
+    /**
+     * A stream over the bytes of a {@link ReleasableBytesReference} that shares them with the references it reads, rather than copy them.
+     *
+     * @opensearch.internal
+     */
+    private final class RetainingStreamInput extends FilterStreamInput {
+
+        RetainingStreamInput(StreamInput delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public BytesReference readRetainedBytesReference() throws IOException {
+            final int length = readArraySize();
+            if (length == 0) {
+                return BytesArray.EMPTY;
+            }
+            final int offset = ReleasableBytesReference.this.length() - available();
+            long skipped = 0;
+            while (skipped < length) {
+                final long n = delegate.skip(length - skipped);
+                if (n <= 0) {
+                    throw new EOFException("attempting to read " + length + " bytes but only " + skipped + " bytes are available");
+                }
+                skipped += n;
+            }
+            return retainedSlice(offset, length);
+        }
+    }
 }
@@ -36,17 +36,17 @@ import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -60,23 +60,23 @@ import java.util.function.ToLongBiFunction;
  * accept reduced write performance in exchange for easy-to-understand code. Cache statistics for hits, misses and
  * evictions are exposed.
  * <p>
- * The design of the cache is relatively simple. The cache is segmented into 256 segments which are backed by HashMaps.
- * Each segment is protected by a re-entrant read/write lock. The read/write locks permit multiple concurrent readers
- * without contention, and the segments gives us write throughput without impacting readers (so readers are blocked only
- * if they are reading a segment that a writer is writing to).
+ * The design of the cache is relatively simple. The cache is segmented into 256 segments which are backed by
+ * ConcurrentHashMaps. Reads don't take any lock, and writes take a lock per segment, so that the segments give us
+ * write throughput without impacting readers.
  * <p>
  * The LRU functionality is backed by a single doubly-linked list chaining the entries in order of insertion. This
- * LRU list is protected by a lock that serializes all writes to it. There are opportunities for improvements
- * here if write throughput is a concern.
- * <ol>
- * <li>LRU list mutations could be inserted into a blocking queue that a single thread is reading from
- * and applying to the LRU list.</li>
- * <li>Promotions could be deferred for entries that were "recently" promoted.</li>
- * <li>Locks on the list could be taken per node being modified instead of globally.</li>
- * </ol>
+ * LRU list is protected by a lock that serializes all writes to it. Reads don't promote entries under this lock: they
+ * are recorded in a {@link ReadBuffer} striped by thread, which is drained in batches by the thread holding the lock,
+ * either on the next write or when a reader finds its stripe full. Reads are dropped rather than waiting for the lock
+ * when the buffer is full and another thread is draining it, which only makes the LRU order slightly less accurate.
  * <p>
  * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
- * invalidation) or an explicit call to {@link #refresh()}.
+ * invalidation), a drain of the read buffer, or an explicit call to {@link #refresh()}.
+ * <p>
+ * With the {@link EvictionPolicy#W_TINYLFU} policy, new entries are first linked in a window list holding 1% of the
+ * maximum weight. Entries leaving the window are only admitted into the main space, split into a probation and a
+ * protected list like a segmented LRU, if a {@link FrequencySketch} estimates that they were accessed more often than the
+ * entry they would evict.
  *
  * @param <K> The type of the keys
  * @param <V> The type of the values
@@ -113,6 +113,12 @@ public class Cache<K, V> {
     // the removal callback
     private RemovalListener<K, V> removalListener = notification -> {};
 
+    // the policy picking the entries to evict
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    // estimates access frequencies, only used by the W_TINYLFU policy
+    private FrequencySketch sketch;
+
     // use CacheBuilder to construct
     Cache() {}
 
@@ -159,6 +165,16 @@ public class Cache<K, V> {
         this.removalListener = removalListener;
     }
 
+    void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        Objects.requireNonNull(evictionPolicy);
+        this.evictionPolicy = evictionPolicy;
+        this.sketch = evictionPolicy == EvictionPolicy.W_TINYLFU ? new FrequencySketch() : null;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
     /**
      * The relative time used to track time-based evictions.
      *
@@ -187,8 +203,10 @@ public class Cache<K, V> {
         final V value;
         long writeTime;
         volatile long accessTime;
+        long weight;
         Entry<K, V> before;
         Entry<K, V> after;
+        AccessOrderList<K, V> list;
         State state = State.NEW;
 
         Entry(K key, V value, long writeTime) {
@@ -201,7 +219,7 @@ public class Cache<K, V> {
     /**
      * A cache segment.
      * <p>
-     * A CacheSegment is backed by a HashMap and is protected by a read/write lock.
+     * A CacheSegment is backed by a ConcurrentHashMap, reads are lock-free and writes are serialized by a lock.
      *
      * @param <K> the type of the keys
      * @param <V> the type of the values
@@ -209,13 +227,13 @@ public class Cache<K, V> {
      * @opensearch.internal
      */
     private static class CacheSegment<K, V> {
-        // read/write lock protecting mutations to the segment
-        ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+        // lock serializing mutations to the segment
+        ReentrantLock segmentLock = new ReentrantLock();
 
-        ReleasableLock readLock = new ReleasableLock(segmentLock.readLock());
-        ReleasableLock writeLock = new ReleasableLock(segmentLock.writeLock());
+        ReleasableLock writeLock = new ReleasableLock(segmentLock);
 
-        Map<K, CompletableFuture<Entry<K, V>>> map = new HashMap<>();
+        // replaced by invalidateAll while holding the lock, read without it
+        volatile Map<K, CompletableFuture<Entry<K, V>>> map = new ConcurrentHashMap<>();
 
         SegmentStats segmentStats = new SegmentStats();
 
@@ -230,10 +248,7 @@ public class Cache<K, V> {
          * @return the entry if there was one, otherwise null
          */
         Entry<K, V> get(K key, long now, Predicate<Entry<K, V>> isExpired, Consumer<Entry<K, V>> onExpiration) {
-            CompletableFuture<Entry<K, V>> future;
-            try (ReleasableLock ignored = readLock.acquire()) {
-                future = map.get(key);
-            }
+            CompletableFuture<Entry<K, V>> future = map.get(key);
             if (future != null) {
                 Entry<K, V> entry;
                 try {
@@ -374,12 +389,91 @@ public class Cache<K, V> {
         }
     }
 
-    Entry<K, V> head;
-    Entry<K, V> tail;
+    /**
+     * A doubly-linked list of entries, the most recently accessed at the head.
+     *
+     * @opensearch.internal
+     */
+    static final class AccessOrderList<K, V> {
+        Entry<K, V> head;
+        Entry<K, V> tail;
+        // the weight of the entries in the list
+        long weight;
+
+        void linkAtHead(Entry<K, V> entry) {
+            Entry<K, V> h = head;
+            entry.before = null;
+            entry.after = head;
+            head = entry;
+            if (h == null) {
+                tail = entry;
+            } else {
+                h.before = entry;
+            }
+            entry.list = this;
+            weight += entry.weight;
+        }
+
+        void unlink(Entry<K, V> entry) {
+            assert entry.list == this;
+            final Entry<K, V> before = entry.before;
+            final Entry<K, V> after = entry.after;
+
+            if (before == null) {
+                // removing the head
+                assert head == entry;
+                head = after;
+                if (head != null) {
+                    head.before = null;
+                }
+            } else {
+                // removing inner element
+                before.after = after;
+                entry.before = null;
+            }
+
+            if (after == null) {
+                // removing tail
+                assert tail == entry;
+                tail = before;
+                if (tail != null) {
+                    tail.after = null;
+                }
+            } else {
+                // removing inner element
+                after.before = before;
+                entry.after = null;
+            }
+            entry.list = null;
+            weight -= entry.weight;
+        }
+    }
+
+    // new entries of the W_TINYLFU policy
+    private final AccessOrderList<K, V> window = new AccessOrderList<>();
+    // entries of the W_TINYLFU main space accessed a single time since they were admitted, all entries of the LRU policy
+    private final AccessOrderList<K, V> probation = new AccessOrderList<>();
+    // entries of the W_TINYLFU main space accessed again since they were admitted
+    private final AccessOrderList<K, V> protectedEntries = new AccessOrderList<>();
+    private final List<AccessOrderList<K, V>> accessOrderLists = List.of(window, protectedEntries, probation);
 
     // lock protecting mutations to the LRU list
     private final ReleasableLock lruLock = new ReleasableLock(new ReentrantLock());
 
+    // reads waiting to be applied to the LRU list
+    private final ReadBuffer<Entry<K, V>> readBuffer = new ReadBuffer<>();
+
+    // applies a buffered read to the LRU list
+    private final Consumer<Entry<K, V>> readConsumer = entry -> {
+        // the entry may have been removed since it was read, or not be linked yet if it was read while being put
+        if (entry.state == State.EXISTING) {
+            relinkAtHead(entry);
+            if (sketch != null) {
+                sketch.increment(entry.key);
+            }
+        }
+    };
+
     /**
      * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
      *
@@ -396,11 +490,30 @@ public class Cache<K, V> {
         if (entry == null) {
             return null;
         } else {
-            promote(entry, now);
+            recordRead(entry, now);
             return entry.value;
         }
     }
 
+    private void recordRead(Entry<K, V> entry, long now) {
+        if (readBuffer.offer(entry)) {
+            return;
+        }
+        // the buffer of this thread is full, drain it unless another thread is already holding the lock
+        try (ReleasableLock locked = lruLock.tryAcquire()) {
+            if (locked != null) {
+                drainReadBuffer();
+                readConsumer.accept(entry);
+                evict(now);
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        assert lruLock.isHeldByCurrentThread();
+        readBuffer.drainTo(readConsumer);
+    }
+
     /**
      * If the specified key is not already associated with a value (or is mapped to null), attempts to compute its
      * value using the given mapping function and enters it into this map unless null. The load method for a given key
@@ -567,36 +680,42 @@ public class Cache<K, V> {
      * {@link RemovalReason} INVALIDATED.
      */
     public void invalidateAll() {
-        Entry<K, V> h;
+        List<Entry<K, V>> heads = new ArrayList<>(accessOrderLists.size());
 
         boolean[] haveSegmentLock = new boolean[NUMBER_OF_SEGMENTS];
         try {
             for (int i = 0; i < NUMBER_OF_SEGMENTS; i++) {
-                segments[i].segmentLock.writeLock().lock();
+                segments[i].segmentLock.lock();
                 haveSegmentLock[i] = true;
             }
             try (ReleasableLock ignored = lruLock.acquire()) {
-                h = head;
-                Arrays.stream(segments).forEach(segment -> segment.map = new HashMap<>());
-                Entry<K, V> current = head;
-                while (current != null) {
-                    current.state = State.DELETED;
-                    current = current.after;
+                drainReadBuffer();
+                Arrays.stream(segments).forEach(segment -> segment.map = new ConcurrentHashMap<>());
+                for (AccessOrderList<K, V> list : accessOrderLists) {
+                    heads.add(list.head);
+                    Entry<K, V> current = list.head;
+                    while (current != null) {
+                        current.state = State.DELETED;
+                        current = current.after;
+                    }
+                    list.head = list.tail = null;
+                    list.weight = 0;
                 }
-                head = tail = null;
                 count = 0;
                 weight = 0;
             }
         } finally {
             for (int i = NUMBER_OF_SEGMENTS - 1; i >= 0; i--) {
                 if (haveSegmentLock[i]) {
-                    segments[i].segmentLock.writeLock().unlock();
+                    segments[i].segmentLock.unlock();
                 }
             }
         }
-        while (h != null) {
-            removalListener.onRemoval(new RemovalNotification<>(h.key, h.value, RemovalReason.INVALIDATED));
-            h = h.after;
+        for (Entry<K, V> h : heads) {
+            while (h != null) {
+                removalListener.onRemoval(new RemovalNotification<>(h.key, h.value, RemovalReason.INVALIDATED));
+                h = h.after;
+            }
         }
     }
 
@@ -606,6 +725,7 @@ public class Cache<K, V> {
     public void refresh() {
         long now = now();
         try (ReleasableLock ignored = lruLock.acquire()) {
+            drainReadBuffer();
             evict(now);
         }
     }
@@ -631,13 +751,13 @@ public class Cache<K, V> {
     /**
      * An LRU sequencing of the keys in the cache that supports removal. This sequence is not protected from mutations
      * to the cache (except for {@link Iterator#remove()}. The result of iteration under any other mutation is
-     * undefined.
+     * undefined. With the W_TINYLFU policy, the sequence is LRU-ordered within the window, protected and probation lists.
      *
      * @return an LRU-ordered {@link Iterable} over the keys in the cache
      */
     public Iterable<K> keys() {
         return () -> new Iterator<K>() {
-            private CacheIterator iterator = new CacheIterator(head);
+            private CacheIterator iterator = new CacheIterator();
 
             @Override
             public boolean hasNext() {
@@ -665,7 +785,7 @@ public class Cache<K, V> {
      */
     public Iterable<V> values() {
         return () -> new Iterator<V>() {
-            private CacheIterator iterator = new CacheIterator(head);
+            private CacheIterator iterator = new CacheIterator();
 
             @Override
             public boolean hasNext() {
@@ -685,12 +805,27 @@ public class Cache<K, V> {
     }
 
     private class CacheIterator implements Iterator<Entry<K, V>> {
+        private final Iterator<AccessOrderList<K, V>> lists = accessOrderLists.iterator();
         private Entry<K, V> current;
         private Entry<K, V> next;
 
-        CacheIterator(Entry<K, V> head) {
+        CacheIterator() {
+            // iterate in the order of the reads done so far
+            try (ReleasableLock ignored = lruLock.acquire()) {
+                drainReadBuffer();
+            }
             current = null;
-            next = head;
+            next = nextHead();
+        }
+
+        private Entry<K, V> nextHead() {
+            while (lists.hasNext()) {
+                Entry<K, V> head = lists.next().head;
+                if (head != null) {
+                    return head;
+                }
+            }
+            return null;
         }
 
         @Override
@@ -702,6 +837,9 @@ public class Cache<K, V> {
         public Entry<K, V> next() {
             current = next;
             next = next.after;
+            if (next == null) {
+                next = nextHead();
+            }
             return current;
         }
 
@@ -770,6 +908,7 @@ public class Cache<K, V> {
     private boolean promote(Entry<K, V> entry, long now) {
         boolean promoted = true;
         try (ReleasableLock ignored = lruLock.acquire()) {
+            drainReadBuffer();
             switch (entry.state) {
                 case DELETED:
                     promoted = false;
@@ -782,6 +921,9 @@ public class Cache<K, V> {
                     break;
             }
             if (promoted) {
+                if (sketch != null) {
+                    sketch.increment(entry.key);
+                }
                 evict(now);
             }
         }
@@ -791,11 +933,68 @@ public class Cache<K, V> {
     private void evict(long now) {
         assert lruLock.isHeldByCurrentThread();
 
-        while (tail != null && shouldPrune(tail, now)) {
-            evictEntry(tail);
+        if (evictionPolicy == EvictionPolicy.LRU) {
+            while (probation.tail != null && shouldPrune(probation.tail, now)) {
+                evictEntry(probation.tail);
+            }
+            return;
+        }
+
+        if (entriesExpireAfterAccess || entriesExpireAfterWrite) {
+            for (AccessOrderList<K, V> list : accessOrderLists) {
+                while (list.tail != null && isExpired(list.tail, now)) {
+                    evictEntry(list.tail);
+                }
+            }
+        }
+        sketch.ensureCapacity(count);
+        final long windowMaximumWeight = windowMaximumWeight();
+        while (window.weight > windowMaximumWeight) {
+            Entry<K, V> candidate = window.tail;
+            window.unlink(candidate);
+            probation.linkAtHead(candidate);
+            admit(candidate);
+        }
+        while (exceedsWeight()) {
+            Entry<K, V> victim = probation.tail;
+            if (victim == null) {
+                victim = protectedEntries.tail != null ? protectedEntries.tail : window.tail;
+            }
+            evictEntry(victim);
+        }
+    }
+
+    /**
+     * Makes room for an entry that moved from the window to the main space by evicting either the least recently used
+     * entries of the main space, or the candidate itself if it wasn't accessed more often than them.
+     */
+    private void admit(Entry<K, V> candidate) {
+        assert lruLock.isHeldByCurrentThread();
+
+        while (exceedsWeight()) {
+            Entry<K, V> victim = probation.tail != candidate ? probation.tail : protectedEntries.tail;
+            if (victim == null) {
+                return;
+            }
+            if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evictEntry(victim);
+            } else {
+                evictEntry(candidate);
+                return;
+            }
         }
     }
 
+    // W_TINYLFU gives 1% of the maximum weight to the window
+    private long windowMaximumWeight() {
+        return maximumWeight == -1 ? Long.MAX_VALUE : Math.max(1, maximumWeight / 100);
+    }
+
+    // and 80% of the main space to the protected entries
+    private long protectedMaximumWeight() {
+        return maximumWeight == -1 ? Long.MAX_VALUE : (maximumWeight - windowMaximumWeight()) / 5 * 4;
+    }
+
     private void evictEntry(Entry<K, V> entry) {
         assert lruLock.isHeldByCurrentThread();
 
@@ -831,37 +1030,9 @@ public class Cache<K, V> {
         assert lruLock.isHeldByCurrentThread();
 
         if (entry.state == State.EXISTING) {
-            final Entry<K, V> before = entry.before;
-            final Entry<K, V> after = entry.after;
-
-            if (before == null) {
-                // removing the head
-                assert head == entry;
-                head = after;
-                if (head != null) {
-                    head.before = null;
-                }
-            } else {
-                // removing inner element
-                before.after = after;
-                entry.before = null;
-            }
-
-            if (after == null) {
-                // removing tail
-                assert tail == entry;
-                tail = before;
-                if (tail != null) {
-                    tail.after = null;
-                }
-            } else {
-                // removing inner element
-                after.before = before;
-                entry.after = null;
-            }
-
+            entry.list.unlink(entry);
             count--;
-            weight -= weigher.applyAsLong(entry.key, entry.value);
+            weight -= entry.weight;
             entry.state = State.DELETED;
             return true;
         } else {
@@ -872,27 +1043,35 @@ public class Cache<K, V> {
     private void linkAtHead(Entry<K, V> entry) {
         assert lruLock.isHeldByCurrentThread();
 
-        Entry<K, V> h = head;
-        entry.before = null;
-        entry.after = head;
-        head = entry;
-        if (h == null) {
-            tail = entry;
+        entry.weight = weigher.applyAsLong(entry.key, entry.value);
+        if (evictionPolicy == EvictionPolicy.W_TINYLFU) {
+            window.linkAtHead(entry);
         } else {
-            h.before = entry;
+            probation.linkAtHead(entry);
         }
 
         count++;
-        weight += weigher.applyAsLong(entry.key, entry.value);
+        weight += entry.weight;
         entry.state = State.EXISTING;
     }
 
     private void relinkAtHead(Entry<K, V> entry) {
         assert lruLock.isHeldByCurrentThread();
 
-        if (head != entry) {
-            unlink(entry);
-            linkAtHead(entry);
+        final AccessOrderList<K, V> list = entry.list;
+        if (list == probation && evictionPolicy == EvictionPolicy.W_TINYLFU) {
+            // accessed again since it was admitted, the least recently used protected entries are demoted if needed
+            probation.unlink(entry);
+            protectedEntries.linkAtHead(entry);
+            final long protectedMaximumWeight = protectedMaximumWeight();
+            while (protectedEntries.weight > protectedMaximumWeight && protectedEntries.tail != entry) {
+                Entry<K, V> demoted = protectedEntries.tail;
+                protectedEntries.unlink(demoted);
+                probation.linkAtHead(demoted);
+            }
+        } else if (list.head != entry) {
+            list.unlink(entry);
+            list.linkAtHead(entry);
         }
     }
 
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.util.Locale;
+
+/**
+ * The policy a {@link Cache} uses to pick the entries to evict once it exceeds its maximum weight.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public enum EvictionPolicy {
+    /**
+     * Evicts the least recently used entry.
+     */
+    LRU,
+    /**
+     * Window TinyLFU: new entries go through a small LRU window, and only enter the main space if they were requested
+     * more often than the entry they would evict. Access frequencies are estimated with a count-min sketch, which keeps
+     * one-off lookups such as a scan from flushing frequently used entries.
+     */
+    W_TINYLFU;
+
+    public static EvictionPolicy fromString(String policy) {
+        try {
+            return valueOf(policy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown cache eviction policy [" + policy + "]", e);
+        }
+    }
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+/**
+ * A count-min sketch estimating how often keys were accessed, used by the TinyLFU admission filter.
+ * <p>
+ * Each key is mapped to four 4-bit counters, its frequency is the minimum of them so that collisions only cause
+ * overestimates. Counters saturate at 15, and all counters are halved once the number of increments reaches ten times
+ * the capacity, so that the sketch favors recent popularity over all-time popularity.
+ * <p>
+ * This class isn't thread-safe.
+ *
+ * @opensearch.internal
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = new long[] { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    // clears the bit shifted in from the neighbour counter when halving
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] table;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch() {
+        ensureCapacity(MIN_CAPACITY);
+    }
+
+    /**
+     * Grows the sketch so that it tracks about {@code expectedEntries} keys accurately. Growing forgets all frequencies.
+     */
+    void ensureCapacity(long expectedEntries) {
+        int capacity = (int) Math.min(Math.max(expectedEntries, MIN_CAPACITY), MAX_CAPACITY);
+        if (table != null && table.length >= capacity) {
+            return;
+        }
+        table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        sampleSize = 10 * table.length;
+        size = 0;
+    }
+
+    /**
+     * Returns the estimated number of accesses of the key, at most 15
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = rehash(hash, i);
+            int count = (int) ((table[index(h)] >>> offset(h)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = rehash(hash, i);
+            int index = index(h);
+            int offset = offset(h);
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+
+    // pkg-private for testing
+    int capacity() {
+        return table.length;
+    }
+
+    private int index(long h) {
+        return (int) (h >>> 32) & (table.length - 1);
+    }
+
+    private static int offset(long h) {
+        // 16 counters of 4 bits per long
+        return ((int) h & 0xf) << 2;
+    }
+
+    private static long rehash(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        return h ^ (h >>> 29);
+    }
+
+    private static int spread(int hash) {
+        // protects against poor hash codes, the same way HashMap does
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lossy buffer of cache reads, so that readers record accesses without taking the lock protecting the access order.
+ * <p>
+ * The buffer is striped by thread into bounded ring buffers. Readers claim a slot with a single CAS and give up
+ * instead of retrying if another reader won the race, since dropping an access only makes the access order slightly
+ * less accurate. A single consumer drains all stripes in batches while holding the access order lock.
+ *
+ * @opensearch.internal
+ */
+final class ReadBuffer<E> {
+
+    // the number of reads a stripe holds, a power of two
+    static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe<E>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        int numStripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+        stripes = new Stripe[Math.max(1, numStripes)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    /**
+     * Records a read.
+     *
+     * @return {@code true} if the read was recorded, {@code false} if it was dropped because the stripe of the current
+     *         thread is full or contended, in which case the caller should drain the buffer
+     */
+    boolean offer(E e) {
+        return stripes[stripeIndex()].offer(e);
+    }
+
+    /**
+     * Passes the recorded reads to the consumer, in the order they were recorded within a stripe. Must not be called
+     * concurrently.
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9e3779b9;
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    /**
+     * A bounded multi-producer single-consumer ring buffer
+     *
+     * @opensearch.internal
+     */
+    private static final class Stripe<E> {
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        // the number of reads claimed by producers
+        private final AtomicLong writeCounter = new AtomicLong();
+        // the number of reads passed to the consumer
+        private final AtomicLong readCounter = new AtomicLong();
+
+        boolean offer(E e) {
+            long head = readCounter.get();
+            long tail = writeCounter.get();
+            if (tail - head >= STRIPE_SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1) == false) {
+                return false;
+            }
+            buffer.lazySet((int) tail & STRIPE_MASK, e);
+            return true;
+        }
+
+        void drainTo(Consumer<E> consumer) {
+            long head = readCounter.get();
+            final long tail = writeCounter.get();
+            while (head < tail) {
+                final int index = (int) head & STRIPE_MASK;
+                final E e = buffer.get(index);
+                if (e == null) {
+                    // the slot was claimed but isn't published yet, the next drain picks it up
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(e);
+                head++;
+            }
+            readCounter.lazySet(head);
+        }
+    }
+}
@@ -11,6 +11,7 @@ package org.opensearch.common.cache.module;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.store.OpenSearchDiskCache;
 import org.opensearch.common.cache.store.OpenSearchOnHeapCache;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.plugins.CachePlugin;
@@ -44,6 +45,11 @@ public class CacheModule {
             OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME,
             new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory()
         );
+        // And the core disk tier, usable without third party dependencies.
+        cacheStoreTypeFactories.put(
+            OpenSearchDiskCache.OpenSearchDiskCacheFactory.NAME,
+            new OpenSearchDiskCache.OpenSearchDiskCacheFactory()
+        );
         for (CachePlugin cachePlugin : cachePlugins) {
             Map<String, ICache.Factory> factoryMap = cachePlugin.getCacheFactoryMap();
             for (Map.Entry<String, ICache.Factory> entry : factoryMap.entrySet()) {
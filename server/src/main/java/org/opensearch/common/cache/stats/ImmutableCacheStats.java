@@ -74,6 +74,15 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
         return items;
     }
 
+    /**
+     * Returns the fraction of lookups that were hits, or 0 if there were no lookups. It is derived from the hit and miss
+     * counts, so it compares the eviction policies of different stores or nodes without changing the wire format.
+     */
+    public double getHitRatio() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0d : (double) hits / lookups;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(hits);
@@ -112,6 +121,7 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
         builder.field(Fields.HIT_COUNT, hits);
         builder.field(Fields.MISS_COUNT, misses);
         builder.field(Fields.ITEM_COUNT, items);
+        builder.field(Fields.HIT_RATIO, getHitRatio());
         return builder;
     }
 
@@ -125,5 +135,6 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
         public static final String HIT_COUNT = "hit_count";
         public static final String MISS_COUNT = "miss_count";
         public static final String ITEM_COUNT = "item_count";
+        public static final String HIT_RATIO = "hit_ratio";
     }
 }
@@ -0,0 +1,717 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.ICacheKeySerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+import java.util.zip.CRC32C;
+
+import static org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings.COMPACTION_THRESHOLD_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings.SEGMENT_SIZE_IN_BYTES_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings.STORAGE_PATH_KEY;
+
+/**
+ * Disk tier cache which stores serialized entries in memory-mapped segment files.
+ * <p>
+ * Entries are appended to the active segment as {@code [key length][value length][key][value][crc32c]} records, only the
+ * keys and the location of their record are kept on heap. When the active segment is full it is sealed and a new one is
+ * created; sealed segments whose overwritten or invalidated bytes exceed the compaction threshold get their live records
+ * copied to the active segment, and the oldest segments are evicted as a whole once the cache exceeds its maximum size.
+ * A record whose checksum doesn't match is dropped and reported as a miss.
+ * <p>
+ * Java can't unmap a buffer explicitly without risking a crash of readers racing with an eviction, so segment files are
+ * reused instead of being deleted: readers hold a reference to the segment they read from, and once an evicted or compacted
+ * segment is released by all of them, its file and mapping go back to a pool that new segments are taken from. The node thus
+ * maps no more segment files than the maximum size allows. The only exception is a file that a reader still holds on to
+ * while its segment is replaced: it is deleted once released, and its mapping goes away with garbage collection.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ *
+ * @opensearch.experimental
+ */
+public class OpenSearchDiskCache<K, V> implements ICache<K, V> {
+
+    private static final Logger logger = LogManager.getLogger(OpenSearchDiskCache.class);
+
+    static final String SEGMENT_FILE_PREFIX = "segment_";
+    static final String SEGMENT_FILE_SUFFIX = ".cache";
+    static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+    static final int RECORD_FOOTER_BYTES = Integer.BYTES;
+
+    private final Path storagePath;
+    private final int segmentSizeInBytes;
+    private final int maxSegments;
+    private final double compactionThreshold;
+    private final ICacheKeySerializer<K> keySerializer;
+    private final Serializer<V, byte[]> valueSerializer;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+    private final CacheStatsHolder cacheStatsHolder;
+
+    private final Map<ICacheKey<K>, Location> index = new ConcurrentHashMap<>();
+    private final Map<ICacheKey<K>, CompletableFuture<V>> loadingFutures = new ConcurrentHashMap<>();
+
+    // Guards appending records, rolling, compacting and evicting segments
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Deque<Segment> sealedSegments = new ArrayDeque<>(); // oldest first
+    private Segment activeSegment;
+    private long nextSegmentId;
+    private volatile boolean closed;
+
+    // Files of released segments, ready to be reused, and the number of segment files, in use or not
+    private final Deque<SegmentFile> freeSegmentFiles = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger segmentFiles = new AtomicInteger();
+
+    private OpenSearchDiskCache(Builder<K, V> builder) {
+        if (builder.storagePath == null || builder.storagePath.isBlank()) {
+            throw new IllegalArgumentException("Storage path shouldn't be null or empty");
+        }
+        this.storagePath = Path.of(builder.storagePath);
+        this.segmentSizeInBytes = Math.toIntExact(builder.segmentSizeInBytes);
+        if (builder.getMaxWeightInBytes() < 2L * segmentSizeInBytes) {
+            throw new IllegalArgumentException(
+                "Disk cache size ["
+                    + builder.getMaxWeightInBytes()
+                    + "] should be at least twice the segment size ["
+                    + segmentSizeInBytes
+                    + "]"
+            );
+        }
+        this.maxSegments = Math.toIntExact(builder.getMaxWeightInBytes() / segmentSizeInBytes);
+        this.compactionThreshold = builder.compactionThreshold;
+        this.keySerializer = new ICacheKeySerializer<>(Objects.requireNonNull(builder.keySerializer, "Key serializer shouldn't be null"));
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer shouldn't be null");
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        this.weigher = Objects.requireNonNull(builder.getWeigher(), "Weigher can't be null");
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, OpenSearchDiskCacheFactory.NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+        try {
+            // Entries don't survive a restart, the key index only lives on heap
+            if (Files.exists(storagePath)) {
+                IOUtils.rm(storagePath);
+            }
+            Files.createDirectories(storagePath);
+            this.activeSegment = newSegment();
+        } catch (IOException e) {
+            throw new OpenSearchException("Failed to create disk cache under path [" + storagePath + "]", e);
+        }
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key passed to disk cache was null.");
+        }
+        V value = getValue(key);
+        if (value != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V getValue(ICacheKey<K> key) {
+        while (true) {
+            Location location = index.get(key);
+            if (location == null) {
+                return null;
+            }
+            Segment segment = location.segment;
+            if (segment.tryIncRef() == false) {
+                // the segment was released after the lookup, so the entry was evicted or moved to another segment in the meantime
+                continue;
+            }
+            byte[] valueBytes;
+            try {
+                valueBytes = readValue(location);
+                if (valueBytes == null) {
+                    logger.warn("Checksum mismatch for a disk cache entry stored in [{}], dropping it", segment.file.path);
+                    if (index.remove(key, location)) {
+                        segment.deadBytes.addAndGet(location.length);
+                        cacheStatsHolder.decrementItems(key.dimensions);
+                        cacheStatsHolder.decrementSizeInBytes(key.dimensions, location.weight);
+                    }
+                    return null;
+                }
+            } finally {
+                segment.decRef();
+            }
+            return valueSerializer.deserialize(valueBytes);
+        }
+    }
+
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        byte[] keyBytes = keySerializer.serialize(key);
+        byte[] valueBytes = valueSerializer.serialize(value);
+        int length = RECORD_HEADER_BYTES + keyBytes.length + valueBytes.length + RECORD_FOOTER_BYTES;
+        if (length > segmentSizeInBytes) {
+            logger.debug("Skipping disk cache entry of [{}] bytes, larger than the segment size [{}]", length, segmentSizeInBytes);
+            return;
+        }
+        long weight = weigher.applyAsLong(key, value);
+        Location previous;
+        writeLock.lock();
+        try {
+            ensureOpen();
+            Location location = append(key, keyBytes, valueBytes, weight);
+            previous = index.put(key, location);
+            if (previous != null) {
+                // keeps the replaced record readable for the removal notification
+                previous.segment.incRef();
+            }
+            cacheStatsHolder.incrementItems(key.dimensions);
+            cacheStatsHolder.incrementSizeInBytes(key.dimensions, weight);
+        } catch (IOException e) {
+            throw new OpenSearchException("Exception occurred while putting item to disk cache", e);
+        } finally {
+            writeLock.unlock();
+        }
+        if (previous != null) {
+            try {
+                previous.segment.deadBytes.addAndGet(previous.length);
+                onRemoval(key, previous, RemovalReason.REPLACED);
+            } finally {
+                previous.segment.decRef();
+            }
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        V value = getValue(key);
+        if (value == null) {
+            value = compute(key, loader);
+        }
+        if (!loader.isLoaded()) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V compute(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        // Only one of the threads loading the same key succeeds putting its future into the map, the others wait on it
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = loadingFutures.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing.get();
+        }
+        try {
+            V value = getValue(key);
+            if (value == null) {
+                value = loader.load(key);
+                if (value == null) {
+                    throw new NullPointerException("loader returned a null value");
+                }
+                put(key, value);
+            }
+            future.complete(value);
+            return value;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw new ExecutionException(e);
+        } finally {
+            loadingFutures.remove(key, future);
+        }
+    }
+
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key != null) {
+            Location location;
+            writeLock.lock();
+            try {
+                location = index.remove(key);
+                if (location != null) {
+                    // keeps the removed record readable for the removal notification
+                    location.segment.incRef();
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            if (location != null) {
+                try {
+                    location.segment.deadBytes.addAndGet(location.length);
+                    onRemoval(key, location, RemovalReason.INVALIDATED);
+                } finally {
+                    location.segment.decRef();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        writeLock.lock();
+        try {
+            for (ICacheKey<K> key : index.keySet()) {
+                Location location = index.remove(key);
+                if (location != null) {
+                    onRemoval(key, location, RemovalReason.INVALIDATED);
+                }
+            }
+            if (closed == false) {
+                for (Segment segment : sealedSegments) {
+                    segment.decRef();
+                }
+                sealedSegments.clear();
+                activeSegment.decRef();
+                activeSegment = newSegment();
+            }
+        } catch (IOException e) {
+            throw new OpenSearchException("Exception occurred while clearing disk cache", e);
+        } finally {
+            writeLock.unlock();
+        }
+        cacheStatsHolder.reset();
+    }
+
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    @Override
+    public long count() {
+        return index.size();
+    }
+
+    @Override
+    public void refresh() {
+        // Entries don't expire, space is reclaimed by compaction and eviction when the active segment is full
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            index.clear();
+            // the files of the segments are deleted as soon as they are released, the ones still read from are deleted later
+            for (Segment segment : sealedSegments) {
+                segment.decRef();
+            }
+            sealedSegments.clear();
+            activeSegment.decRef();
+            activeSegment = null;
+            SegmentFile file;
+            while ((file = freeSegmentFiles.pollFirst()) != null) {
+                deleteSegmentFile(file);
+            }
+            IOUtils.rm(storagePath);
+        } catch (IOException e) {
+            logger.error(() -> new ParameterizedMessage("Failed to delete disk cache data under path: {}", storagePath), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Disk cache under path [" + storagePath + "] is closed");
+        }
+    }
+
+    private void onRemoval(ICacheKey<K> key, Location location, RemovalReason reason) {
+        byte[] valueBytes = readValue(location);
+        if (valueBytes != null) {
+            removalListener.onRemoval(new RemovalNotification<>(key, valueSerializer.deserialize(valueBytes), reason));
+        } else {
+            logger.warn(
+                "Checksum mismatch for a disk cache entry stored in [{}], skipping its removal notification",
+                location.segment.file.path
+            );
+        }
+        cacheStatsHolder.decrementItems(key.dimensions);
+        cacheStatsHolder.decrementSizeInBytes(key.dimensions, location.weight);
+        if (reason == RemovalReason.EVICTED || reason == RemovalReason.CAPACITY) {
+            cacheStatsHolder.incrementEvictions(key.dimensions);
+        }
+    }
+
+    /**
+     * Returns the value bytes of the record, {@code null} if the record doesn't pass its checksum. The caller must hold a
+     * reference to the segment of the record, or the write lock while the record is live.
+     */
+    private byte[] readValue(Location location) {
+        // Absolute reads only, the buffer position is never moved so that readers don't need to synchronize
+        ByteBuffer buffer = location.segment.file.buffer;
+        int keyLength = buffer.getInt(location.offset);
+        int valueLength = buffer.getInt(location.offset + Integer.BYTES);
+        if (keyLength < 0 || valueLength < 0 || RECORD_HEADER_BYTES + keyLength + valueLength + RECORD_FOOTER_BYTES != location.length) {
+            return null;
+        }
+        int dataOffset = location.offset + RECORD_HEADER_BYTES;
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.slice(dataOffset, keyLength + valueLength));
+        if ((int) checksum.getValue() != buffer.getInt(dataOffset + keyLength + valueLength)) {
+            return null;
+        }
+        byte[] valueBytes = new byte[valueLength];
+        buffer.get(dataOffset + keyLength, valueBytes);
+        return valueBytes;
+    }
+
+    private Location append(ICacheKey<K> key, byte[] keyBytes, byte[] valueBytes, long weight) throws IOException {
+        assert writeLock.isHeldByCurrentThread();
+        int length = RECORD_HEADER_BYTES + keyBytes.length + valueBytes.length + RECORD_FOOTER_BYTES;
+        if (activeSegment.remaining() < length) {
+            rollSegment();
+        }
+        Segment segment = activeSegment;
+        int offset = segment.writePosition;
+        MappedByteBuffer buffer = segment.file.buffer;
+        buffer.putInt(offset, keyBytes.length);
+        buffer.putInt(offset + Integer.BYTES, valueBytes.length);
+        buffer.put(offset + RECORD_HEADER_BYTES, keyBytes);
+        buffer.put(offset + RECORD_HEADER_BYTES + keyBytes.length, valueBytes);
+        CRC32C checksum = new CRC32C();
+        checksum.update(keyBytes);
+        checksum.update(valueBytes);
+        buffer.putInt(offset + length - RECORD_FOOTER_BYTES, (int) checksum.getValue());
+        segment.writePosition += length;
+        return segment.newLocation(key, offset, length, weight);
+    }
+
+    private void rollSegment() throws IOException {
+        assert writeLock.isHeldByCurrentThread();
+        sealedSegments.addLast(activeSegment);
+        if (freeSegmentFiles.isEmpty() && segmentFiles.get() >= maxSegments && sealedSegments.size() > 1) {
+            // make room for the new active segment, which reuses the file of the evicted segment unless it's still being read
+            evictSegment(sealedSegments.pollFirst());
+        }
+        activeSegment = newSegment();
+        // Compacting first reclaims the space of dead records so that fewer live entries need to be evicted
+        compactSegments();
+        while (sealedSegments.size() + 1 > maxSegments) {
+            evictSegment(sealedSegments.pollFirst());
+        }
+    }
+
+    private void compactSegments() {
+        Iterator<Segment> iterator = sealedSegments.iterator();
+        while (iterator.hasNext()) {
+            Segment segment = iterator.next();
+            int deadBytes = segment.deadBytes.get();
+            if (deadBytes == 0 || deadBytes < compactionThreshold * segment.writePosition) {
+                continue;
+            }
+            // the live bytes can only shrink from now on, so all live records are guaranteed to fit
+            if (segment.writePosition - deadBytes > activeSegment.remaining()) {
+                continue;
+            }
+            for (int i = 0; i < segment.locations.size(); i++) {
+                ICacheKey<K> key = segment.keys.get(i);
+                Location location = segment.locations.get(i);
+                if (index.get(key) != location) {
+                    continue;
+                }
+                Segment target = activeSegment;
+                int offset = target.writePosition;
+                target.file.buffer.put(offset, segment.file.buffer, location.offset, location.length);
+                target.writePosition += location.length;
+                Location copy = target.newLocation(key, offset, location.length, location.weight);
+                if (index.replace(key, location, copy) == false) {
+                    // invalidated concurrently
+                    target.deadBytes.addAndGet(copy.length);
+                }
+            }
+            iterator.remove();
+            segment.decRef();
+        }
+    }
+
+    private void evictSegment(Segment segment) {
+        for (int i = 0; i < segment.locations.size(); i++) {
+            ICacheKey<K> key = segment.keys.get(i);
+            Location location = segment.locations.get(i);
+            if (index.remove(key, location)) {
+                onRemoval(key, location, RemovalReason.EVICTED);
+            }
+        }
+        segment.decRef();
+    }
+
+    private Segment newSegment() throws IOException {
+        SegmentFile file = freeSegmentFiles.pollFirst();
+        if (file == null) {
+            Path path = storagePath.resolve(SEGMENT_FILE_PREFIX + nextSegmentId++ + SEGMENT_FILE_SUFFIX);
+            try (
+                FileChannel channel = FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )
+            ) {
+                // the mapping stays valid after the channel is closed
+                file = new SegmentFile(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSizeInBytes));
+            }
+            segmentFiles.incrementAndGet();
+        }
+        return new Segment(file);
+    }
+
+    /**
+     * Called once a segment was released by the cache and by all its readers, possibly outside of the write lock.
+     */
+    private void releaseSegmentFile(SegmentFile file) {
+        if (closed == false && segmentFiles.get() <= maxSegments) {
+            freeSegmentFiles.addLast(file);
+        } else {
+            // a reader held on to the segment while a new file was created to replace it, or the cache is closed
+            segmentFiles.decrementAndGet();
+            deleteSegmentFile(file);
+        }
+    }
+
+    private void deleteSegmentFile(SegmentFile file) {
+        try {
+            Files.deleteIfExists(file.path);
+        } catch (IOException e) {
+            logger.warn(() -> new ParameterizedMessage("Failed to delete disk cache segment [{}]", file.path), e);
+        }
+    }
+
+    // Package private for testing
+    int numSegments() {
+        writeLock.lock();
+        try {
+            return closed ? 0 : sealedSegments.size() + 1;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * A segment file and its mapping, reused by the segments that are created after the one using it was released.
+     */
+    private static final class SegmentFile {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+
+        SegmentFile(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * A segment, records are appended under the write lock and read with absolute reads. The cache holds a reference to it
+     * until it's evicted or compacted, and readers hold one while reading it.
+     */
+    private class Segment extends AbstractRefCounted {
+        private final SegmentFile file;
+        private final AtomicInteger deadBytes = new AtomicInteger();
+        // Records appended to this segment, in order, to find live entries on compaction and eviction
+        private final List<ICacheKey<K>> keys = new ArrayList<>();
+        private final List<Location> locations = new ArrayList<>();
+        private int writePosition;
+
+        Segment(SegmentFile file) {
+            super("disk cache segment");
+            this.file = file;
+        }
+
+        @Override
+        protected void closeInternal() {
+            releaseSegmentFile(file);
+        }
+
+        int remaining() {
+            return segmentSizeInBytes - writePosition;
+        }
+
+        Location newLocation(ICacheKey<K> key, int offset, int length, long weight) {
+            Location location = new Location(this, offset, length, weight);
+            keys.add(key);
+            locations.add(location);
+            return location;
+        }
+    }
+
+    /**
+     * Location of the record of a live entry. Compared by identity so that an entry is only removed or moved if it wasn't
+     * replaced in the meantime.
+     */
+    private final class Location {
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+        private final long weight;
+
+        Location(Segment segment, int offset, int length, long weight) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Factory to create an OpenSearch disk cache.
+     */
+    public static class OpenSearchDiskCacheFactory implements Factory {
+
+        public static final String NAME = "opensearch_disk";
+
+        @Override
+        @SuppressWarnings({ "unchecked" }) // Required to ensure the serializers output byte[]
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Map<String, Setting<?>> settingList = OpenSearchDiskCacheSettings.getSettingListForCacheType(cacheType);
+            Settings settings = config.getSettings();
+
+            Serializer<K, byte[]> keySerializer;
+            try {
+                keySerializer = (Serializer<K, byte[]>) config.getKeySerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("OpenSearchDiskCache requires a key serializer of type Serializer<K, byte[]>");
+            }
+            Serializer<V, byte[]> valueSerializer;
+            try {
+                valueSerializer = (Serializer<V, byte[]>) config.getValueSerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("OpenSearchDiskCache requires a value serializer of type Serializer<V, byte[]>");
+            }
+
+            return new Builder<K, V>().setStoragePath((String) settingList.get(STORAGE_PATH_KEY).get(settings))
+                .setSegmentSizeInBytes(((ByteSizeValue) settingList.get(SEGMENT_SIZE_IN_BYTES_KEY).get(settings)).getBytes())
+                .setCompactionThreshold((Double) settingList.get(COMPACTION_THRESHOLD_KEY).get(settings))
+                .setKeySerializer(keySerializer)
+                .setValueSerializer(valueSerializer)
+                .setDimensionNames(config.getDimensionNames())
+                .setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setWeigher(config.getWeigher())
+                .setRemovalListener(config.getRemovalListener())
+                .setMaximumWeightInBytes(((ByteSizeValue) settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).get(settings)).getBytes())
+                .setSettings(settings)
+                .build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * Builder object
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+        private String storagePath;
+        private long segmentSizeInBytes = OpenSearchDiskCacheSettings.DEFAULT_SEGMENT_SIZE.getBytes();
+        private double compactionThreshold = OpenSearchDiskCacheSettings.DEFAULT_COMPACTION_THRESHOLD;
+        private List<String> dimensionNames;
+        private Serializer<K, byte[]> keySerializer;
+        private Serializer<V, byte[]> valueSerializer;
+
+        public Builder<K, V> setStoragePath(String storagePath) {
+            this.storagePath = storagePath;
+            return this;
+        }
+
+        public Builder<K, V> setSegmentSizeInBytes(long segmentSizeInBytes) {
+            this.segmentSizeInBytes = segmentSizeInBytes;
+            return this;
+        }
+
+        public Builder<K, V> setCompactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+            return this;
+        }
+
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        public Builder<K, V> setKeySerializer(Serializer<K, byte[]> keySerializer) {
+            this.keySerializer = keySerializer;
+            return this;
+        }
+
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        @Override
+        public OpenSearchDiskCache<K, V> build() {
+            return new OpenSearchDiskCache<>(this);
+        }
+    }
+}
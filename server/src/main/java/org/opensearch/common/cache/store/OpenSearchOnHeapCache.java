@@ -11,6 +11,7 @@ package org.opensearch.common.cache.store;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.EvictionPolicy;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.ICacheKey;
 import org.opensearch.common.cache.LoadAwareCacheLoader;
@@ -36,6 +37,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.ToLongBiFunction;
 
+import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.EVICTION_POLICY_KEY;
 import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.EXPIRE_AFTER_ACCESS_KEY;
 import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
 
@@ -60,6 +62,9 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
             .setMaximumWeight(builder.getMaxWeightInBytes())
             .weigher(builder.getWeigher())
             .removalListener(this);
+        if (builder.evictionPolicy != null) {
+            cacheBuilder.evictionPolicy(builder.evictionPolicy);
+        }
         if (builder.getExpireAfterAcess() != null) {
             cacheBuilder.setExpireAfterAccess(builder.getExpireAfterAcess());
         }
@@ -173,6 +178,7 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
             Settings settings = config.getSettings();
             boolean statsTrackingEnabled = statsTrackingEnabled(config.getSettings(), config.getStatsTrackingEnabled());
             ICacheBuilder<K, V> builder = new Builder<K, V>().setDimensionNames(config.getDimensionNames())
+                .setEvictionPolicy((EvictionPolicy) settingList.get(EVICTION_POLICY_KEY).get(settings))
                 .setStatsTrackingEnabled(statsTrackingEnabled)
                 .setMaximumWeightInBytes(((ByteSizeValue) settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).get(settings)).getBytes())
                 .setExpireAfterAccess(((TimeValue) settingList.get(EXPIRE_AFTER_ACCESS_KEY).get(settings)))
@@ -208,12 +214,18 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
      */
     public static class Builder<K, V> extends ICacheBuilder<K, V> {
         private List<String> dimensionNames;
+        private EvictionPolicy evictionPolicy;
 
         public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
             this.dimensionNames = dimensionNames;
             return this;
         }
 
+        public Builder<K, V> setEvictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         @Override
         public ICache<K, V> build() {
             return new OpenSearchOnHeapCache<K, V>(this);
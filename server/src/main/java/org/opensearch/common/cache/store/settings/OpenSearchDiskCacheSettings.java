@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store.settings;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.store.OpenSearchDiskCache;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings for OpenSearchDiskCache
+ */
+public class OpenSearchDiskCacheSettings {
+
+    public static final ByteSizeValue DEFAULT_SEGMENT_SIZE = new ByteSizeValue(64, ByteSizeUnit.MB);
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.5;
+
+    /**
+     * Setting to define the maximum size of the cache files on disk.
+     *
+     * Setting pattern: {cache_type}.opensearch_disk.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> MAXIMUM_SIZE_IN_BYTES = Setting.suffixKeySetting(
+        OpenSearchDiskCache.OpenSearchDiskCacheFactory.NAME + ".size",
+        (key) -> Setting.byteSizeSetting(key, new ByteSizeValue(1, ByteSizeUnit.GB), NodeScope)
+    );
+
+    /**
+     * Setting to define the size of a single segment file. The cache evicts and compacts whole segments, smaller
+     * segments make eviction more fine-grained at the cost of more open files.
+     *
+     * Setting pattern: {cache_type}.opensearch_disk.segment_size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> SEGMENT_SIZE_IN_BYTES = Setting.suffixKeySetting(
+        OpenSearchDiskCache.OpenSearchDiskCacheFactory.NAME + ".segment_size",
+        (key) -> Setting.byteSizeSetting(
+            key,
+            DEFAULT_SEGMENT_SIZE,
+            new ByteSizeValue(1, ByteSizeUnit.MB),
+            new ByteSizeValue(1, ByteSizeUnit.GB),
+            NodeScope
+        )
+    );
+
+    /**
+     * Setting to define the fraction of invalidated or overwritten bytes above which a segment is compacted.
+     *
+     * Setting pattern: {cache_type}.opensearch_disk.compaction_threshold
+     */
+    public static final Setting.AffixSetting<Double> COMPACTION_THRESHOLD = Setting.suffixKeySetting(
+        OpenSearchDiskCache.OpenSearchDiskCacheFactory.NAME + ".compaction_threshold",
+        (key) -> Setting.doubleSetting(key, DEFAULT_COMPACTION_THRESHOLD, 0.0, 1.0, NodeScope)
+    );
+
+    /**
+     * Setting to define the directory holding the segment files. Its content is deleted when the cache is created and
+     * closed.
+     *
+     * Setting pattern: {cache_type}.opensearch_disk.storage.path
+     */
+    public static final Setting.AffixSetting<String> STORAGE_PATH = Setting.suffixKeySetting(
+        OpenSearchDiskCache.OpenSearchDiskCacheFactory.NAME + ".storage.path",
+        (key) -> Setting.simpleString(key, "", NodeScope)
+    );
+
+    public static final String MAXIMUM_SIZE_IN_BYTES_KEY = "maximum_size_in_bytes";
+    public static final String SEGMENT_SIZE_IN_BYTES_KEY = "segment_size_in_bytes";
+    public static final String COMPACTION_THRESHOLD_KEY = "compaction_threshold";
+    public static final String STORAGE_PATH_KEY = "storage_path";
+
+    private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
+        MAXIMUM_SIZE_IN_BYTES_KEY,
+        MAXIMUM_SIZE_IN_BYTES,
+        SEGMENT_SIZE_IN_BYTES_KEY,
+        SEGMENT_SIZE_IN_BYTES,
+        COMPACTION_THRESHOLD_KEY,
+        COMPACTION_THRESHOLD,
+        STORAGE_PATH_KEY,
+        STORAGE_PATH
+    );
+
+    public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
+
+    private static Map<CacheType, Map<String, Setting<?>>> getCacheTypeMap() {
+        Map<CacheType, Map<String, Setting<?>>> cacheTypeMap = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            Map<String, Setting<?>> settingMap = new HashMap<>();
+            for (Map.Entry<String, Setting.AffixSetting<?>> entry : KEY_SETTING_MAP.entrySet()) {
+                settingMap.put(entry.getKey(), entry.getValue().getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
+            }
+            cacheTypeMap.put(cacheType, settingMap);
+        }
+        return cacheTypeMap;
+    }
+
+    public static Map<String, Setting<?>> getSettingListForCacheType(CacheType cacheType) {
+        Map<String, Setting<?>> cacheTypeSettings = CACHE_TYPE_MAP.get(cacheType);
+        if (cacheTypeSettings == null) {
+            throw new IllegalArgumentException(
+                "No settings exist for cache store name: "
+                    + OpenSearchDiskCache.OpenSearchDiskCacheFactory.NAME
+                    + " associated with cache type: "
+                    + cacheType
+            );
+        }
+        return cacheTypeSettings;
+    }
+}
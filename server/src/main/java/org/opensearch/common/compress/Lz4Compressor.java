@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.store.InputStreamDataInput;
+import org.apache.lucene.store.OutputStreamDataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} implementation based on the LZ4 block compression of Lucene, which trades compression ratio for speed. The
+ * stream is cut in blocks of at most {@link #BLOCK_SIZE} bytes, each of them preceded by its uncompressed length, and ends with an
+ * empty block.
+ * <p>
+ * This compressor is not registered in the {@link org.opensearch.core.compress.CompressorRegistry}, it's only used to compress
+ * transport messages.
+ *
+ * @opensearch.internal
+ */
+public class Lz4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams, see DeflateCompressor
+    private static final byte[] HEADER = new byte[] { 'L', 'Z', '4', '\0' };
+
+    /**
+     * The name of this compressor
+     */
+    public static final String NAME = "LZ4";
+
+    /**
+     * The maximum number of uncompressed bytes of a block
+     */
+    static final int BLOCK_SIZE = 1 << 16;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] header = in.readNBytes(HEADER.length);
+        if (Arrays.equals(header, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new Lz4InputStream(in);
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new Lz4OutputStream(out);
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = new BytesStreamOutput(bytesReference.length());
+        try (InputStream in = threadLocalInputStream(bytesReference.streamInput())) {
+            in.transferTo(buffer);
+        }
+        return buffer.bytes();
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = new BytesStreamOutput(bytesReference.length());
+        try (OutputStream out = threadLocalOutputStream(buffer)) {
+            bytesReference.writeTo(out);
+        }
+        return buffer.bytes();
+    }
+
+    private static final class Lz4OutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final DataOutput dataOut;
+        private final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private int blockLength;
+        private boolean closed;
+
+        Lz4OutputStream(OutputStream out) {
+            this.out = out;
+            this.dataOut = new OutputStreamDataOutput(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (blockLength == block.length) {
+                writeBlock();
+            }
+            block[blockLength++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (blockLength == block.length) {
+                    writeBlock();
+                }
+                final int toCopy = Math.min(len, block.length - blockLength);
+                System.arraycopy(b, off, block, blockLength, toCopy);
+                blockLength += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (blockLength > 0) {
+                dataOut.writeVInt(blockLength);
+                LZ4.compress(block, 0, blockLength, dataOut, hashTable);
+                blockLength = 0;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writeBlock();
+                // the empty block marks the end of the stream
+                dataOut.writeVInt(0);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private static final class Lz4InputStream extends InputStream {
+
+        private final InputStream in;
+        private final DataInput dataIn;
+        private byte[] block = new byte[0];
+        private int blockOffset;
+        private int blockLength;
+        private boolean eos;
+
+        Lz4InputStream(InputStream in) {
+            this.in = in;
+            this.dataIn = new InputStreamDataInput(in);
+        }
+
+        private boolean fill() throws IOException {
+            while (blockOffset == blockLength) {
+                if (eos) {
+                    return false;
+                }
+                final int length = dataIn.readVInt();
+                if (length == 0) {
+                    eos = true;
+                    return false;
+                }
+                if (length < 0 || length > BLOCK_SIZE) {
+                    throw new IOException("invalid LZ4 block length [" + length + "]");
+                }
+                // a few bytes of slack since LZ4 may copy matches by whole longs
+                block = ArrayUtil.growNoCopy(block, length + Long.BYTES);
+                LZ4.decompress(dataIn, length, block, 0);
+                blockOffset = 0;
+                blockLength = length;
+            }
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (fill() == false) {
+                return -1;
+            }
+            return block[blockOffset++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (fill() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, blockLength - blockOffset);
+            System.arraycopy(block, blockOffset, b, off, toCopy);
+            blockOffset += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
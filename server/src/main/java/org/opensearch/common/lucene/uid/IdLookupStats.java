@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.lucene.uid;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+/**
+ * Counts how the fuzzy sets that front the uid terms of the segments served the uid lookups of a shard. A hit is a segment that
+ * was skipped because its fuzzy set ruled the uid out, a miss is a segment whose fuzzy set may contain the uid, so that its terms
+ * dictionary had to be searched. Segments without a fuzzy set are not counted.
+ *
+ * @opensearch.internal
+ */
+public final class IdLookupStats {
+
+    private final CounterMetric fuzzySetHits = new CounterMetric();
+    private final CounterMetric fuzzySetMisses = new CounterMetric();
+
+    void onFuzzySetHit() {
+        fuzzySetHits.inc();
+    }
+
+    void onFuzzySetMiss() {
+        fuzzySetMisses.inc();
+    }
+
+    public long getFuzzySetHits() {
+        return fuzzySetHits.count();
+    }
+
+    public long getFuzzySetMisses() {
+        return fuzzySetMisses.count();
+    }
+}
@@ -44,6 +44,7 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
+import org.opensearch.index.codec.fuzzy.FuzzyFilteredTermsEnum;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.VersionFieldMapper;
 
@@ -72,6 +73,9 @@ final class PerThreadIDVersionAndSeqNoLookup {
     final String uidField;
     private final TermsEnum termsEnum;
 
+    /** the terms enum for uid field if it's fronted by a fuzzy set, null otherwise */
+    private final FuzzyFilteredTermsEnum fuzzyFilteredTermsEnum;
+
     /** Reused for iteration (when the term exists) */
     private PostingsEnum docsEnum;
 
@@ -104,6 +108,7 @@ final class PerThreadIDVersionAndSeqNoLookup {
         } else {
             termsEnum = terms.iterator();
         }
+        fuzzyFilteredTermsEnum = termsEnum instanceof FuzzyFilteredTermsEnum ? (FuzzyFilteredTermsEnum) termsEnum : null;
         if (reader.getNumericDocValues(VersionFieldMapper.NAME) == null) {
             throw new IllegalArgumentException("reader misses the [" + VersionFieldMapper.NAME + "] field; _uid terms [" + terms + "]");
         }
@@ -119,9 +124,14 @@ final class PerThreadIDVersionAndSeqNoLookup {
      * entirely for these readers.
      */
     public DocIdAndVersion lookupVersion(BytesRef id, boolean loadSeqNo, LeafReaderContext context) throws IOException {
+        return lookupVersion(id, loadSeqNo, context, null);
+    }
+
+    /** Same as {@link #lookupVersion(BytesRef, boolean, LeafReaderContext)}, counting the fuzzy set outcomes into the stats if not null. */
+    DocIdAndVersion lookupVersion(BytesRef id, boolean loadSeqNo, LeafReaderContext context, IdLookupStats stats) throws IOException {
         assert context.reader().getCoreCacheHelper().getKey().equals(readerKey)
             : "context's reader is not the same as the reader class was initialized on.";
-        int docID = getDocID(id, context);
+        int docID = getDocID(id, context, stats);
 
         if (docID != DocIdSetIterator.NO_MORE_DOCS) {
             final long seqNo;
@@ -144,9 +154,9 @@ final class PerThreadIDVersionAndSeqNoLookup {
      * returns the internal lucene doc id for the given id bytes.
      * {@link DocIdSetIterator#NO_MORE_DOCS} is returned if not found
      * */
-    private int getDocID(BytesRef id, LeafReaderContext context) throws IOException {
+    private int getDocID(BytesRef id, LeafReaderContext context, IdLookupStats stats) throws IOException {
         // termsEnum can possibly be null here if this leaf contains only no-ops.
-        if (termsEnum != null && termsEnum.seekExact(id)) {
+        if (termsEnum != null && seekExact(id, stats)) {
             final Bits liveDocs = context.reader().getLiveDocs();
             int docID = DocIdSetIterator.NO_MORE_DOCS;
             // there may be more than one matching docID, in the case of nested docs, so we want the last one:
@@ -163,6 +173,19 @@ final class PerThreadIDVersionAndSeqNoLookup {
         }
     }
 
+    private boolean seekExact(BytesRef id, IdLookupStats stats) throws IOException {
+        if (stats == null || fuzzyFilteredTermsEnum == null) {
+            return termsEnum.seekExact(id);
+        }
+        // probe the fuzzy set ourselves so that the segments it rules out are told apart from the ones that need a terms lookup
+        if (fuzzyFilteredTermsEnum.mightContain(id) == false) {
+            stats.onFuzzySetHit();
+            return false;
+        }
+        stats.onFuzzySetMiss();
+        return fuzzyFilteredTermsEnum.seekExactUnfiltered(id);
+    }
+
     private static long readNumericDocValues(LeafReader reader, String field, int docId) throws IOException {
         final NumericDocValues dv = reader.getNumericDocValues(field);
         if (dv == null || dv.advanceExact(docId) == false) {
@@ -174,9 +197,14 @@ final class PerThreadIDVersionAndSeqNoLookup {
 
     /** Return null if id is not found. */
     DocIdAndSeqNo lookupSeqNo(BytesRef id, LeafReaderContext context) throws IOException {
+        return lookupSeqNo(id, context, null);
+    }
+
+    /** Same as {@link #lookupSeqNo(BytesRef, LeafReaderContext)}, counting the fuzzy set outcomes into the stats if not null. */
+    DocIdAndSeqNo lookupSeqNo(BytesRef id, LeafReaderContext context, IdLookupStats stats) throws IOException {
         assert context.reader().getCoreCacheHelper().getKey().equals(readerKey)
             : "context's reader is not the same as the reader class was initialized on.";
-        final int docID = getDocID(id, context);
+        final int docID = getDocID(id, context, stats);
         if (docID != DocIdSetIterator.NO_MORE_DOCS) {
             final long seqNo = readNumericDocValues(context.reader(), SeqNoFieldMapper.NAME, docID);
             return new DocIdAndSeqNo(docID, seqNo, context);
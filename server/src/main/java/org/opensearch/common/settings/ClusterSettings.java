@@ -58,6 +58,7 @@ import org.opensearch.cluster.coordination.JoinHelper;
 import org.opensearch.cluster.coordination.LagDetector;
 import org.opensearch.cluster.coordination.LeaderChecker;
 import org.opensearch.cluster.coordination.NoClusterManagerBlockService;
+import org.opensearch.cluster.coordination.PublicationTransportHandler;
 import org.opensearch.cluster.coordination.Reconfigurator;
 import org.opensearch.cluster.metadata.IndexGraveyard;
 import org.opensearch.cluster.metadata.Metadata;
@@ -84,6 +85,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.settings.CacheSettings;
+import org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings;
 import org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.network.NetworkModule;
@@ -114,9 +116,11 @@ import org.opensearch.index.SegmentReplicationPressureService;
 import org.opensearch.index.ShardIndexingPressureMemoryManager;
 import org.opensearch.index.ShardIndexingPressureSettings;
 import org.opensearch.index.ShardIndexingPressureStore;
+import org.opensearch.index.remote.RemoteSegmentUploadScheduler;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.translog.transfer.TranslogUploadBatcher;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
@@ -306,6 +310,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
                 RecoverySettings.INDICES_INTERNAL_REMOTE_UPLOAD_TIMEOUT,
+                RecoverySettings.INDICES_REPLICATION_MERGED_SEGMENT_WARMER_ENABLED_SETTING,
+                RecoverySettings.INDICES_REPLICATION_MERGED_SEGMENT_WARMER_MIN_SEGMENT_SIZE_SETTING,
+                RecoverySettings.INDICES_REPLICATION_MERGED_SEGMENT_WARMER_TIMEOUT_SETTING,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_PRIMARIES_RECOVERIES_SETTING,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_REPLICAS_RECOVERIES_SETTING,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_INCOMING_RECOVERIES_SETTING,
@@ -434,6 +441,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSettings.PUBLISH_PORT_PROFILE,
                 TransportSettings.OLD_TRANSPORT_COMPRESS,
                 TransportSettings.TRANSPORT_COMPRESS,
+                TransportSettings.TRANSPORT_COMPRESSION_SCHEMES,
                 TransportSettings.PING_SCHEDULE,
                 TransportSettings.TCP_CONNECT_TIMEOUT,
                 TransportSettings.CONNECT_TIMEOUT,
@@ -605,6 +613,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ElectionSchedulerFactory.ELECTION_DURATION_SETTING,
                 Coordinator.PUBLISH_TIMEOUT_SETTING,
                 Coordinator.PUBLISH_INFO_TIMEOUT_SETTING,
+                PublicationTransportHandler.PUBLISH_FAN_OUT_SETTING,
+                PublicationTransportHandler.PUBLISH_RELAY_TIMEOUT_SETTING,
                 JoinHelper.JOIN_TIMEOUT_SETTING,
                 FollowersChecker.FOLLOWER_CHECK_TIMEOUT_SETTING,
                 FollowersChecker.FOLLOWER_CHECK_INTERVAL_SETTING,
@@ -689,6 +699,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
 
                 // Settings related to Searchable Snapshots
                 Node.NODE_SEARCH_CACHE_SIZE_SETTING,
+                Node.NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING,
                 FileCache.DATA_TO_FILE_CACHE_SIZE_RATIO_SETTING,
 
                 // Settings related to Remote Refresh Segment Pressure
@@ -700,6 +711,15 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Settings related to Remote Store stats
                 RemoteStoreStatsTrackerFactory.MOVING_AVERAGE_WINDOW_SIZE,
 
+                // Settings related to the scheduling of remote store segment uploads
+                RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING,
+                RemoteSegmentUploadScheduler.SMALL_FILE_THRESHOLD_SETTING,
+                RemoteSegmentUploadScheduler.MAX_BYTES_PER_SEC_SETTING,
+                TranslogUploadBatcher.ENABLED_SETTING,
+                TranslogUploadBatcher.MAX_BATCH_SIZE_SETTING,
+                TranslogUploadBatcher.MAX_CONCURRENT_UPLOADS_SETTING,
+                TranslogUploadBatcher.CLEANUP_INTERVAL_SETTING,
+
                 // Related to monitoring of task cancellation
                 TaskCancellationMonitoringSettings.IS_ENABLED_SETTING,
                 TaskCancellationMonitoringSettings.DURATION_MILLIS_SETTING,
@@ -735,6 +755,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Concurrent segment search settings
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING,
                 SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICING_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_MIN_PARTITION_DOC_COUNT_SETTING,
 
                 RemoteStoreSettings.CLUSTER_REMOTE_INDEX_SEGMENT_METADATA_RETENTION_MAX_COUNT_SETTING,
                 RemoteStoreSettings.CLUSTER_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING,
@@ -772,7 +794,20 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ),
             OpenSearchOnHeapCacheSettings.EXPIRE_AFTER_ACCESS_SETTING.getConcreteSettingForNamespace(
                 CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
-            )
+            ),
+            OpenSearchOnHeapCacheSettings.EVICTION_POLICY_SETTING.getConcreteSettingForNamespace(
+                CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+            ),
+            OpenSearchDiskCacheSettings.MAXIMUM_SIZE_IN_BYTES.getConcreteSettingForNamespace(
+                CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+            ),
+            OpenSearchDiskCacheSettings.SEGMENT_SIZE_IN_BYTES.getConcreteSettingForNamespace(
+                CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+            ),
+            OpenSearchDiskCacheSettings.COMPACTION_THRESHOLD.getConcreteSettingForNamespace(
+                CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+            ),
+            OpenSearchDiskCacheSettings.STORAGE_PATH.getConcreteSettingForNamespace(CacheType.INDICES_REQUEST_CACHE.getSettingPrefix())
         )
     );
 }
@@ -0,0 +1,285 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.Numbers;
+import org.opensearch.common.annotation.InternalApi;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+
+/**
+ * Specialized hash table implementation that maps a (primitive) long to an ordinal, using the layout of Swiss tables.
+ *
+ * <p>
+ * Slots are organized in groups of eight, and each slot has a one-byte control word that tells whether it is empty or, if it
+ * isn't, holds 7 bits of the hash of its key. The control words of a group are packed in a single long, so that one memory
+ * read loads the metadata of the whole group, and all eight slots are compared against the hash of a key at once using
+ * SWAR (SIMD within a register) bit tricks. Keys are only read for slots whose control word matches, which makes misses and
+ * collisions cheap even when the table is large and its keys don't fit in the CPU caches.
+ *
+ * <p>
+ * The table is columnar: control words, slot ordinals and keys live in three separate arrays. Keys are stored densely in the
+ * order of their ordinals, so that iterating over them doesn't touch the table at all.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public final class SwissLongHash implements Releasable {
+    private static final long DEFAULT_INITIAL_CAPACITY = 32;
+    private static final float DEFAULT_LOAD_FACTOR = 0.8f;
+
+    /**
+     * Number of slots per group, one per byte of a long.
+     */
+    private static final int GROUP_SIZE = 8;
+    private static final int GROUP_SHIFT = 3;
+
+    /**
+     * Bitmasks to manipulate the control words of a group.
+     * <p>
+     * A control word is {@code 0x80} if the slot is empty, or the 7 most significant bits of the hash of its key otherwise.
+     * Since keys are never removed, there is no need for tombstones.
+     */
+    private static final long EMPTY = 0x80L;
+    private static final long LSB = 0x0101010101010101L;  // least significant bit of every control word
+    private static final long MSB = 0x8080808080808080L;  // most significant bit of every control word
+    private static final long ALL_EMPTY = EMPTY * LSB;  // a group of empty slots
+
+    /**
+     * Maximum load factor after which the capacity is doubled. It is lower than 1 so that every probe sequence ends with a
+     * group that has an empty slot.
+     */
+    private final float loadFactor;
+
+    /**
+     * Utility class to allocate recyclable arrays.
+     */
+    private final BigArrays bigArrays;
+
+    /**
+     * Bitmask to identify the home group from a key's hash. The number of groups is always a power of two.
+     */
+    private long groupMask;
+
+    /**
+     * Size threshold after which the hash table needs to be doubled in capacity.
+     */
+    private long grow;
+
+    /**
+     * Current size of the hash table.
+     */
+    private long size;
+
+    /**
+     * The control words, eight per long: <code>control[group]</code> holds the control word of slot
+     * <code>group * 8 + i</code> in its byte <code>i</code>, starting from the least significant byte.
+     */
+    private LongArray control;
+
+    /**
+     * The ordinal of the key of each used slot: <code>slots[slot] = ordinal</code>
+     */
+    private LongArray slots;
+
+    /**
+     * The keys: <code>keys[ordinal] = key</code>
+     */
+    private LongArray keys;
+
+    public SwissLongHash(final BigArrays bigArrays) {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, bigArrays);
+    }
+
+    public SwissLongHash(final long initialCapacity, final float loadFactor, final BigArrays bigArrays) {
+        assert initialCapacity > 0 : "initial capacity must be greater than 0";
+        assert loadFactor > 0 && loadFactor < 1 : "load factor must be between 0 and 1";
+
+        this.bigArrays = bigArrays;
+        this.loadFactor = loadFactor;
+
+        final long capacity = Math.max(GROUP_SIZE, Numbers.nextPowerOfTwo((long) (initialCapacity / loadFactor)));
+        groupMask = (capacity >>> GROUP_SHIFT) - 1;
+        grow = (long) (capacity * loadFactor);
+        size = 0;
+        try {
+            control = bigArrays.newLongArray(capacity >>> GROUP_SHIFT, false);
+            control.fill(0, capacity >>> GROUP_SHIFT, ALL_EMPTY);
+            slots = bigArrays.newLongArray(capacity, false);
+            keys = bigArrays.newLongArray(initialCapacity, false);
+        } finally {
+            if (control == null || slots == null || keys == null) {
+                // it's important to close the arrays initialized above to prevent memory leak
+                Releasables.closeWhileHandlingException(control, slots, keys);
+            }
+        }
+    }
+
+    /**
+     * Adds the given key to the hash table and returns its ordinal.
+     * If the key exists already, it returns (-1 - ordinal).
+     */
+    public long add(final long key) {
+        final long hash = hash(key);
+        final long h2 = hash >>> 57;
+        final long pattern = h2 * LSB;
+        for (long group = hash & groupMask, step = 0;; group = (group + ++step) & groupMask) {
+            final long word = control.get(group);
+            for (long matches = match(word, pattern); matches != 0; matches &= matches - 1) {
+                final long ordinal = slots.get(slot(group, matches));
+                if (keys.get(ordinal) == key) {
+                    return -1 - ordinal;
+                }
+            }
+            final long empty = word & MSB;
+            if (empty != 0) {
+                // keys are never removed, so the key would be in this group if it was in the table
+                if (size >= grow) {
+                    grow();
+                    insert(hash, size);
+                } else {
+                    set(group, word, empty, h2, size);
+                }
+                return append(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the key associated with the given ordinal.
+     * The result is undefined for an unused ordinal.
+     */
+    public long get(final long ordinal) {
+        return keys.get(ordinal);
+    }
+
+    /**
+     * Returns the ordinal associated with the given key, or -1 if the key doesn't exist.
+     *
+     * <p>
+     * The least significant bits of the 64-bit hash identify the home group, and its 7 most significant bits are compared
+     * against the control words of the group. Groups are probed quadratically until a match or an empty slot is found, which
+     * visits every group since their number is a power of two.
+     */
+    public long find(final long key) {
+        final long hash = hash(key);
+        final long pattern = (hash >>> 57) * LSB;
+        for (long group = hash & groupMask, step = 0;; group = (group + ++step) & groupMask) {
+            final long word = control.get(group);
+            for (long matches = match(word, pattern); matches != 0; matches &= matches - 1) {
+                final long ordinal = slots.get(slot(group, matches));
+                if (keys.get(ordinal) == key) {
+                    return ordinal;
+                }
+            }
+            if ((word & MSB) != 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of mappings in this hash table.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots of the hash table.
+     * Visible for unit-tests.
+     */
+    long capacity() {
+        return (groupMask + 1) << GROUP_SHIFT;
+    }
+
+    /**
+     * Returns a mask with the most significant bit of the control words of a group that are equal to the given pattern set.
+     *
+     * <p>
+     * This is the classic "has zero byte" trick applied to {@code word ^ pattern}. It may report false positives for a byte
+     * that follows a true match, which the key comparison weeds out, but never false negatives. Empty slots never match
+     * since their most significant bit is set whereas hashes only use 7 bits.
+     */
+    private static long match(final long word, final long pattern) {
+        final long x = word ^ pattern;
+        return (x - LSB) & ~x & MSB;
+    }
+
+    /**
+     * Returns the slot of the lowest control word flagged in the given mask.
+     */
+    private static long slot(final long group, final long mask) {
+        return (group << GROUP_SHIFT) | (Long.numberOfTrailingZeros(mask) >>> 3);
+    }
+
+    /**
+     * Uses the lowest empty slot flagged in the given mask for the given ordinal.
+     */
+    private void set(final long group, final long word, final long empty, final long h2, final long ordinal) {
+        final int shift = Long.numberOfTrailingZeros(empty) & ~7;
+        control.set(group, (word & ~(0xFFL << shift)) | (h2 << shift));
+        slots.set((group << GROUP_SHIFT) | (shift >>> 3), ordinal);
+    }
+
+    /**
+     * Inserts the given ordinal, which must not be in the table yet, in the first empty slot of its probe sequence.
+     */
+    private void insert(final long hash, final long ordinal) {
+        for (long group = hash & groupMask, step = 0;; group = (group + ++step) & groupMask) {
+            final long word = control.get(group);
+            final long empty = word & MSB;
+            if (empty != 0) {
+                set(group, word, empty, hash >>> 57, ordinal);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Appends the key in the keys' table.
+     */
+    private long append(final long key) {
+        keys = bigArrays.grow(keys, size + 1);
+        keys.set(size, key);
+        return size++;
+    }
+
+    /**
+     * Returns the hash for the given key.
+     */
+    private static long hash(final long key) {
+        return BitMixer.mix64(key);
+    }
+
+    /**
+     * Grows the hash table by doubling its capacity and reinserting the keys.
+     */
+    private void grow() {
+        final long capacity = capacity() << 1;
+        final long groups = capacity >>> GROUP_SHIFT;
+        groupMask = groups - 1;
+        grow = (long) (capacity * loadFactor);
+        control = bigArrays.resize(control, groups);
+        control.fill(0, groups, ALL_EMPTY);
+        slots = bigArrays.resize(slots, capacity);
+
+        for (long ordinal = 0; ordinal < size; ordinal++) {
+            insert(hash(keys.get(ordinal)), ordinal);
+        }
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(control, slots, keys);
+    }
+}
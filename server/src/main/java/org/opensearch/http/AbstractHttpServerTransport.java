@@ -438,29 +438,11 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
             RestChannel innerChannel;
             ThreadContext threadContext = threadPool.getThreadContext();
             try {
-                innerChannel = new DefaultRestChannel(
-                    httpChannel,
-                    httpRequest,
-                    restRequest,
-                    bigArrays,
-                    handlingSettings,
-                    threadContext,
-                    corsHandler,
-                    trace
-                );
+                innerChannel = createRestChannel(httpChannel, httpRequest, restRequest, threadContext, trace);
             } catch (final IllegalArgumentException e) {
                 badRequestCause = ExceptionsHelper.useOrSuppress(badRequestCause, e);
                 final RestRequest innerRequest = RestRequest.requestWithoutParameters(xContentRegistry, httpRequest, httpChannel);
-                innerChannel = new DefaultRestChannel(
-                    httpChannel,
-                    httpRequest,
-                    innerRequest,
-                    bigArrays,
-                    handlingSettings,
-                    threadContext,
-                    corsHandler,
-                    trace
-                );
+                innerChannel = createRestChannel(httpChannel, httpRequest, innerRequest, threadContext, trace);
             }
             channel = innerChannel;
         }
@@ -468,6 +450,37 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
         dispatchRequest(restRequest, channel, badRequestCause);
     }
 
+    private RestChannel createRestChannel(
+        HttpChannel httpChannel,
+        HttpRequest httpRequest,
+        RestRequest restRequest,
+        ThreadContext threadContext,
+        HttpTracer trace
+    ) {
+        if (httpChannel instanceof StreamingHttpChannel) {
+            return new DefaultStreamingRestChannel(
+                (StreamingHttpChannel) httpChannel,
+                httpRequest,
+                restRequest,
+                bigArrays,
+                handlingSettings,
+                threadContext,
+                corsHandler,
+                trace
+            );
+        }
+        return new DefaultRestChannel(
+            httpChannel,
+            httpRequest,
+            restRequest,
+            bigArrays,
+            handlingSettings,
+            threadContext,
+            corsHandler,
+            trace
+        );
+    }
+
     private RestRequest requestWithoutContentTypeHeader(HttpRequest httpRequest, HttpChannel httpChannel, Exception badRequestCause) {
         HttpRequest httpRequestWithoutContentType = httpRequest.removeHeader("Content-Type");
         try {
@@ -143,19 +143,8 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
             }
 
             final HttpResponse httpResponse = httpRequest.createResponse(restResponse.status(), finalContent);
-
-            corsHandler.setCorsResponseHeaders(httpRequest, httpResponse);
-
             opaque = request.header(X_OPAQUE_ID);
-            if (opaque != null) {
-                setHeaderField(httpResponse, X_OPAQUE_ID, opaque);
-            }
-
-            // Add all custom headers
-            addCustomHeaders(httpResponse, restResponse.getHeaders());
-            addCustomHeaders(httpResponse, threadContext.getResponseHeaders());
-
-            addCustomHeaders(httpResponse, SERVER_VERSION_HEADER);
+            addResponseHeaders(httpResponse, restResponse.getHeaders());
 
             // If our response doesn't specify a content-type header, set one
             setHeaderField(httpResponse, CONTENT_TYPE, restResponse.contentType(), false);
@@ -163,8 +152,6 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
             contentLength = String.valueOf(restResponse.content().length());
             setHeaderField(httpResponse, CONTENT_LENGTH, contentLength, false);
 
-            addCookies(httpResponse);
-
             BytesStreamOutput bytesStreamOutput = bytesOutputOrNull();
             if (bytesStreamOutput instanceof ReleasableBytesStreamOutput) {
                 toClose.add((Releasable) bytesStreamOutput);
@@ -183,6 +170,34 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
         }
     }
 
+    /**
+     * Sets the cors, opaque id, custom, thread context, version and cookie headers of a response.
+     */
+    void addResponseHeaders(HttpResponse httpResponse, Map<String, List<String>> responseHeaders) {
+        corsHandler.setCorsResponseHeaders(httpRequest, httpResponse);
+
+        final String opaque = request.header(X_OPAQUE_ID);
+        if (opaque != null) {
+            setHeaderField(httpResponse, X_OPAQUE_ID, opaque);
+        }
+
+        // Add all custom headers
+        addCustomHeaders(httpResponse, responseHeaders);
+        addCustomHeaders(httpResponse, threadContext.getResponseHeaders());
+
+        addCustomHeaders(httpResponse, SERVER_VERSION_HEADER);
+
+        addCookies(httpResponse);
+    }
+
+    HttpRequest httpRequest() {
+        return httpRequest;
+    }
+
+    HttpChannel httpChannel() {
+        return httpChannel;
+    }
+
     private void setHeaderField(HttpResponse response, String headerField, String value) {
         setHeaderField(response, headerField, value, true);
     }
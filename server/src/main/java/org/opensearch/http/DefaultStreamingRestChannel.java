@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.network.CloseableChannel;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.StreamingRestChannel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+/**
+ * The rest channel for requests received on a {@link StreamingHttpChannel}. It sends a single response like the
+ * {@link DefaultRestChannel} unless the handler starts streaming its response, in which case the headers are set the same way
+ * and the body is sent in chunks.
+ *
+ * @opensearch.internal
+ */
+class DefaultStreamingRestChannel extends DefaultRestChannel implements StreamingRestChannel {
+
+    private final AtomicBoolean prepared = new AtomicBoolean();
+
+    DefaultStreamingRestChannel(
+        StreamingHttpChannel httpChannel,
+        HttpRequest httpRequest,
+        RestRequest request,
+        BigArrays bigArrays,
+        HttpHandlingSettings settings,
+        ThreadContext threadContext,
+        CorsHandler corsHandler,
+        @Nullable HttpTracer tracerLog
+    ) {
+        super(httpChannel, httpRequest, request, bigArrays, settings, threadContext, corsHandler, tracerLog);
+    }
+
+    @Override
+    public void sendResponse(RestResponse restResponse) {
+        if (prepared.get()) {
+            throw new IllegalStateException("the response is already streamed");
+        }
+        super.sendResponse(restResponse);
+    }
+
+    @Override
+    public void prepareResponse(RestStatus status, Map<String, List<String>> headers) {
+        if (prepared.compareAndSet(false, true) == false) {
+            throw new IllegalStateException("the response is already prepared");
+        }
+        // the whole request was parsed by the handler before it started streaming
+        Releasables.closeWhileHandlingException(httpRequest()::release);
+        final HttpResponse httpResponse = httpRequest().createResponse(status, BytesArray.EMPTY);
+        addResponseHeaders(httpResponse, headers);
+        ((StreamingHttpChannel) httpChannel()).prepareResponse(httpResponse);
+    }
+
+    @Override
+    public void sendChunk(HttpChunk chunk) {
+        if (prepared.get() == false) {
+            throw new IllegalStateException("the response must be prepared before sending chunks");
+        }
+        final ActionListener<Void> listener;
+        if (chunk.isLast() && HttpUtils.shouldCloseConnection(httpRequest())) {
+            listener = ActionListener.wrap(() -> CloseableChannel.closeChannel(httpChannel()));
+        } else {
+            listener = ActionListener.wrap(() -> {});
+        }
+        ((StreamingHttpChannel) httpChannel()).sendChunk(chunk, listener);
+    }
+
+    @Override
+    public Publisher<HttpChunk> requestContent() {
+        final Publisher<HttpChunk> content = ((StreamingHttpChannel) httpChannel()).requestContent();
+        if (content != null) {
+            return content;
+        }
+        // the content was aggregated, it's a copy unless the handler allows unsafe buffers, see RestHandler#allowsUnsafeBuffers()
+        return Flux.just(new HttpChunk(request().content(), true));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.common.bytes.BytesReference;
+
+import java.util.Objects;
+
+/**
+ * A chunk of the body of a streamed http response.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class HttpChunk {
+
+    private final BytesReference content;
+    private final boolean last;
+
+    public HttpChunk(BytesReference content, boolean last) {
+        this.content = Objects.requireNonNull(content);
+        this.last = last;
+    }
+
+    /**
+     * The content of the chunk
+     */
+    public BytesReference content() {
+        return content;
+    }
+
+    /**
+     * Whether this chunk ends the response
+     */
+    public boolean isLast() {
+        return last;
+    }
+}
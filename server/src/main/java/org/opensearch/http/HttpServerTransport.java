@@ -82,5 +82,16 @@ public interface HttpServerTransport extends LifecycleComponent, ReportingServic
          */
         void dispatchBadRequest(RestChannel channel, ThreadContext threadContext, Throwable cause);
 
+        /**
+         * Returns whether the handler of requests with the given method and path consumes their content as it comes in, see
+         * {@link org.opensearch.rest.RestHandler#supportsStreaming()}.
+         *
+         * @param method  the method of the request
+         * @param rawPath the path of the request, without its query string
+         */
+        default boolean supportsStreaming(RestRequest.Method method, String rawPath) {
+            return false;
+        }
+
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.action.ActionListener;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * An HTTP channel that can send the body of a response in chunks, as it is produced, rather than in a single response. Http
+ * modules implement it when they support chunked transfer encoding.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public interface StreamingHttpChannel extends HttpChannel {
+
+    /**
+     * Starts a streamed response. The status and headers of the response are sent, its content is ignored. Must be called
+     * once, before the first chunk and instead of {@link #sendResponse}.
+     *
+     * @param response the status and headers of the response
+     */
+    void prepareResponse(HttpResponse response);
+
+    /**
+     * Sends a chunk of the body of the response started with {@link #prepareResponse}. The response is complete once the last
+     * chunk is sent.
+     *
+     * @param chunk the chunk to send
+     * @param listener to execute once the chunk is sent
+     */
+    void sendChunk(HttpChunk chunk, ActionListener<Void> listener);
+
+    /**
+     * Returns the content of the request as it's received, {@code null} if the content was aggregated before the request was
+     * dispatched, in which case it's available from the request itself. Http modules stream the content of the requests of the
+     * handlers that {@link org.opensearch.rest.RestHandler#supportsStreaming() support streaming}, the publisher only reads from
+     * the socket as its subscriber requests chunks.
+     */
+    @Nullable
+    default Publisher<HttpChunk> requestContent() {
+        return null;
+    }
+}
@@ -48,6 +48,7 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.Index;
+import org.opensearch.index.engine.VersionMapType;
 import org.opensearch.index.remote.RemoteStorePathStrategy;
 import org.opensearch.index.remote.RemoteStoreUtils;
 import org.opensearch.index.translog.Translog;
@@ -606,6 +607,31 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * How the shards of the index keep the versions of the documents that were indexed since the last refresh. {@code packed} keeps
+     * them in paged primitive arrays rather than in one map entry per document, which lowers the heap and GC overhead of update heavy
+     * workloads with long refresh intervals.
+     */
+    public static final Setting<VersionMapType> INDEX_VERSION_MAP_TYPE_SETTING = new Setting<>(
+        "index.version_map.type",
+        VersionMapType.OBJECT.getValue(),
+        VersionMapType::fromString,
+        Property.IndexScope
+    );
+
+    /**
+     * Up to how many threads execute the items of a bulk request on a primary shard. Items that share an id are always executed by
+     * the same thread, in the order of the request. Lets the indices with few shards and a high ingest rate use more than one core per
+     * shard.
+     */
+    public static final Setting<Integer> INDEX_BULK_PRIMARY_PARALLELISM_SETTING = Setting.intSetting(
+        "index.bulk.primary_parallelism",
+        1,
+        1,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<Boolean> INDEX_MERGE_ON_FLUSH_ENABLED = Setting.boolSetting(
         "index.merge_on_flush.enabled",
         true, /* https://issues.apache.org/jira/browse/LUCENE-10078 */
@@ -683,9 +709,14 @@ public final class IndexSettings {
         Property.Dynamic
     );
 
+    /**
+     * Whether the {@code _id} terms of new segments are fronted by a fuzzy set, so that uid lookups skip the segments that don't
+     * contain the uid without searching their terms dictionary. Defaults to enabled on the indices that use the {@code packed}
+     * {@link #INDEX_VERSION_MAP_TYPE_SETTING version map}, which are meant for update heavy workloads.
+     */
     public static final Setting<Boolean> INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING = Setting.boolSetting(
         "index.optimize_doc_id_lookup.fuzzy_set.enabled",
-        false,
+        settings -> Boolean.toString(INDEX_VERSION_MAP_TYPE_SETTING.get(settings) == VersionMapType.PACKED),
         Property.IndexScope,
         Property.Dynamic
     );
@@ -764,6 +795,8 @@ public final class IndexSettings {
     private final boolean assignedOnRemoteNode;
     private final RemoteStorePathStrategy remoteStorePathStrategy;
     private final boolean isTranslogMetadataEnabled;
+    private final VersionMapType versionMapType;
+    private volatile int bulkPrimaryParallelism;
 
     /**
      * The maximum age of a retention lease before it is considered expired.
@@ -943,6 +976,8 @@ public final class IndexSettings {
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
         softDeleteEnabled = scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
+        versionMapType = scopedSettings.get(INDEX_VERSION_MAP_TYPE_SETTING);
+        bulkPrimaryParallelism = scopedSettings.get(INDEX_BULK_PRIMARY_PARALLELISM_SETTING);
         assert softDeleteEnabled || version.before(Version.V_2_0_0) : "soft deletes must be enabled in version " + version;
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
@@ -1074,6 +1109,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_SIZE_SETTING, this::setTranslogRetentionSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_INTERVAL_SETTING, this::setRefreshInterval);
         scopedSettings.addSettingsUpdateConsumer(MAX_REFRESH_LISTENERS_PER_SHARD, this::setMaxRefreshListeners);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PRIMARY_PARALLELISM_SETTING, this::setBulkPrimaryParallelism);
         scopedSettings.addSettingsUpdateConsumer(MAX_ANALYZED_OFFSET_SETTING, this::setHighlightMaxAnalyzedOffset);
         scopedSettings.addSettingsUpdateConsumer(MAX_TERMS_COUNT_SETTING, this::setMaxTermsCount);
         scopedSettings.addSettingsUpdateConsumer(MAX_NESTED_QUERY_DEPTH_SETTING, this::setMaxNestedQueryDepth);
@@ -1761,6 +1797,24 @@ public final class IndexSettings {
         return softDeleteEnabled;
     }
 
+    /**
+     * Returns how the shards keep the versions of the documents that were indexed since the last refresh.
+     */
+    public VersionMapType getVersionMapType() {
+        return versionMapType;
+    }
+
+    /**
+     * Returns up to how many threads execute the items of a bulk request on a primary shard.
+     */
+    public int getBulkPrimaryParallelism() {
+        return bulkPrimaryParallelism;
+    }
+
+    private void setBulkPrimaryParallelism(int bulkPrimaryParallelism) {
+        this.bulkPrimaryParallelism = bulkPrimaryParallelism;
+    }
+
     private void setSoftDeleteRetentionOperations(long ops) {
         this.softDeleteRetentionOperations = ops;
     }
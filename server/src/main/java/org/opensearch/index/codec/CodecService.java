@@ -39,15 +39,20 @@ import org.apache.lucene.codecs.lucene99.Lucene99Codec.Mode;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.codec.composite.StarTreeCodec;
+import org.opensearch.index.compositeindex.CompositeIndexSettings;
+import org.opensearch.index.compositeindex.startree.StarTreeFieldConfiguration;
 import org.opensearch.index.mapper.MapperService;
 
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Since Lucene 4.0 low level index segments are read and written through a
  * codec layer that allows to use use-case specific file formats &amp;
  * data-structures per field. OpenSearch exposes the full
  * {@link Codec} capabilities through this {@link CodecService}.
+ * When the index has a star tree configured, the default codecs are wrapped in a {@link StarTreeCodec}.
  *
  * @opensearch.internal
  */
@@ -73,10 +78,19 @@ public class CodecService {
             codecs.put(BEST_COMPRESSION_CODEC, new Lucene99Codec(Mode.BEST_COMPRESSION));
             codecs.put(ZLIB, new Lucene99Codec(Mode.BEST_COMPRESSION));
         } else {
-            codecs.put(DEFAULT_CODEC, new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger));
-            codecs.put(LZ4, new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger));
-            codecs.put(BEST_COMPRESSION_CODEC, new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger));
-            codecs.put(ZLIB, new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger));
+            final StarTreeFieldConfiguration starTreeConfiguration = CompositeIndexSettings.starTreeConfiguration(
+                indexSettings.getSettings()
+            );
+            final Function<Codec, Codec> wrapper = starTreeConfiguration == null
+                ? Function.identity()
+                : codec -> new StarTreeCodec(codec, starTreeConfiguration, mapperService);
+            codecs.put(DEFAULT_CODEC, wrapper.apply(new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger)));
+            codecs.put(LZ4, wrapper.apply(new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger)));
+            codecs.put(
+                BEST_COMPRESSION_CODEC,
+                wrapper.apply(new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger))
+            );
+            codecs.put(ZLIB, wrapper.apply(new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger)));
         }
         codecs.put(LUCENE_DEFAULT_CODEC, Codec.getDefault());
         for (String codec : Codec.availableCodecs()) {
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.composite;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.opensearch.index.compositeindex.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+
+import java.util.function.Function;
+
+/**
+ * Codec that builds a star tree for every segment on top of the codec it wraps.
+ * <p>
+ * The codec name is stored in the segment info, the no-arg constructor is used by the SPI to read segments written
+ * with this codec: all formats except doc values are read by the default codec, which resolves the per field formats
+ * and the stored fields compression mode from the segment attributes.
+ *
+ * @opensearch.internal
+ */
+public class StarTreeCodec extends FilterCodec {
+
+    public static final String STAR_TREE_CODEC_NAME = "StarTreeCodec99";
+
+    private final DocValuesFormat docValuesFormat;
+
+    // Needed for SPI
+    public StarTreeCodec() {
+        this(new Lucene99Codec(), null, (Function<String, MappedFieldType>) null);
+    }
+
+    public StarTreeCodec(Codec delegate, StarTreeFieldConfiguration configuration, MapperService mapperService) {
+        this(delegate, configuration, mapperService == null ? null : (Function<String, MappedFieldType>) mapperService::fieldType);
+    }
+
+    StarTreeCodec(Codec delegate, StarTreeFieldConfiguration configuration, Function<String, MappedFieldType> fieldTypeLookup) {
+        super(STAR_TREE_CODEC_NAME, delegate);
+        this.docValuesFormat = new StarTreeDocValuesFormat(delegate.docValuesFormat(), configuration, fieldTypeLookup);
+    }
+
+    @Override
+    public DocValuesFormat docValuesFormat() {
+        return docValuesFormat;
+    }
+}
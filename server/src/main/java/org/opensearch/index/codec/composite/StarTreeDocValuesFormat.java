@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.composite;
+
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.compositeindex.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.mapper.MappedFieldType;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Doc values format that writes a star tree next to the doc values of a segment.
+ * <p>
+ * All doc values are written by the delegate format, the configured dimension and metric fields are additionally read
+ * back when the consumer is closed to build the star tree of the segment, both at flush and at merge time.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeDocValuesFormat extends DocValuesFormat {
+
+    /**
+     * This name is stored in headers. If changing the implementation for the format, this name/version should be updated
+     * so that reads can work as expected.
+     */
+    public static final String STAR_TREE_CODEC_NAME = "StarTreeDocValues99";
+
+    public static final int VERSION_START = 0;
+    public static final int VERSION_CURRENT = VERSION_START;
+
+    /** Extension of star tree files */
+    public static final String STAR_TREE_FILE_EXTENSION = "stt";
+
+    private final DocValuesFormat delegate;
+    private final StarTreeFieldConfiguration configuration;
+    private final Function<String, MappedFieldType> fieldTypeLookup;
+
+    /**
+     * @param delegate the format writing and reading the doc values
+     * @param configuration the star tree to build, {@code null} if the format is only used for reading
+     * @param fieldTypeLookup resolves the mapped type of the dimension and metric fields
+     */
+    public StarTreeDocValuesFormat(
+        DocValuesFormat delegate,
+        @Nullable StarTreeFieldConfiguration configuration,
+        @Nullable Function<String, MappedFieldType> fieldTypeLookup
+    ) {
+        super(STAR_TREE_CODEC_NAME);
+        this.delegate = delegate;
+        this.configuration = configuration;
+        this.fieldTypeLookup = fieldTypeLookup;
+    }
+
+    @Override
+    public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        return new StarTreeDocValuesWriter(delegate.fieldsConsumer(state), state, configuration, fieldTypeLookup);
+    }
+
+    @Override
+    public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
+        return new StarTreeDocValuesReader(delegate.fieldsProducer(state), state);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(delegate=" + delegate + ", configuration=" + configuration + ")";
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.composite;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.index.compositeindex.startree.StarTree;
+
+import java.io.IOException;
+
+/**
+ * Reads the doc values through the delegate producer and exposes the star tree of the segment.
+ * The star tree is loaded lazily, the first time an aggregation asks for it.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeDocValuesReader extends DocValuesProducer {
+
+    private final DocValuesProducer delegate;
+    private final IndexInput starTreeIn;
+    private final long starTreeOffset;
+    private volatile StarTree starTree;
+
+    StarTreeDocValuesReader(DocValuesProducer delegate, SegmentReadState state) throws IOException {
+        this.delegate = delegate;
+        final String fileName = IndexFileNames.segmentFileName(
+            state.segmentInfo.name,
+            state.segmentSuffix,
+            StarTreeDocValuesFormat.STAR_TREE_FILE_EXTENSION
+        );
+        IndexInput in = null;
+        boolean success = false;
+        try {
+            in = state.directory.openInput(fileName, state.context);
+            CodecUtil.checkIndexHeader(
+                in,
+                StarTreeDocValuesFormat.STAR_TREE_CODEC_NAME,
+                StarTreeDocValuesFormat.VERSION_START,
+                StarTreeDocValuesFormat.VERSION_CURRENT,
+                state.segmentInfo.getId(),
+                state.segmentSuffix
+            );
+            final boolean hasStarTree = in.readByte() == 1;
+            starTreeOffset = in.getFilePointer();
+            CodecUtil.retrieveChecksum(in);
+            if (hasStarTree) {
+                starTreeIn = in;
+            } else {
+                starTreeIn = null;
+                in.close();
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(in, delegate);
+            }
+        }
+    }
+
+    /**
+     * Returns the star tree of the segment, or {@code null} if none was built for it
+     */
+    public StarTree getStarTree() throws IOException {
+        if (starTreeIn == null) {
+            return null;
+        }
+        StarTree tree = starTree;
+        if (tree == null) {
+            synchronized (this) {
+                tree = starTree;
+                if (tree == null) {
+                    final IndexInput in = starTreeIn.clone();
+                    in.seek(starTreeOffset);
+                    tree = StarTree.readFrom(in);
+                    starTree = tree;
+                }
+            }
+        }
+        return tree;
+    }
+
+    @Override
+    public NumericDocValues getNumeric(FieldInfo field) throws IOException {
+        return delegate.getNumeric(field);
+    }
+
+    @Override
+    public BinaryDocValues getBinary(FieldInfo field) throws IOException {
+        return delegate.getBinary(field);
+    }
+
+    @Override
+    public SortedDocValues getSorted(FieldInfo field) throws IOException {
+        return delegate.getSorted(field);
+    }
+
+    @Override
+    public SortedNumericDocValues getSortedNumeric(FieldInfo field) throws IOException {
+        return delegate.getSortedNumeric(field);
+    }
+
+    @Override
+    public SortedSetDocValues getSortedSet(FieldInfo field) throws IOException {
+        return delegate.getSortedSet(field);
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+        delegate.checkIntegrity();
+        if (starTreeIn != null) {
+            CodecUtil.checksumEntireFile(starTreeIn.clone());
+        }
+    }
+
+    @Override
+    public DocValuesProducer getMergeInstance() {
+        // merges only read doc values, the star tree of the merged segment is built from them
+        return delegate.getMergeInstance();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(starTreeIn, delegate);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(delegate=" + delegate + ", hasStarTree=" + (starTreeIn != null) + ")";
+    }
+}
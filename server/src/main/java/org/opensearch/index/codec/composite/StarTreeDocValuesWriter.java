@@ -0,0 +1,300 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.composite;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.index.compositeindex.startree.StarTree;
+import org.opensearch.index.compositeindex.startree.StarTreeBuilder;
+import org.opensearch.index.compositeindex.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.DocCountFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Writes the doc values through the delegate consumer and builds the star tree of the segment on close.
+ * <p>
+ * The producers handed to the consumer stay valid until the consumer is closed, both while flushing and merging, which
+ * lets the star tree be built with a single pass over the dimension and metric values once all fields were written.
+ *
+ * @opensearch.internal
+ */
+final class StarTreeDocValuesWriter extends DocValuesConsumer {
+
+    private static final Logger logger = LogManager.getLogger(StarTreeDocValuesWriter.class);
+
+    private final DocValuesConsumer delegate;
+    private final SegmentWriteState state;
+    private final StarTreeFieldConfiguration configuration;
+    private final Function<String, MappedFieldType> fieldTypeLookup;
+    private final Map<String, FieldInfo> capturedFields = new HashMap<>();
+    private final Map<String, DocValuesProducer> capturedProducers = new HashMap<>();
+
+    StarTreeDocValuesWriter(
+        DocValuesConsumer delegate,
+        SegmentWriteState state,
+        StarTreeFieldConfiguration configuration,
+        Function<String, MappedFieldType> fieldTypeLookup
+    ) {
+        this.delegate = delegate;
+        this.state = state;
+        // doc values updates are written with a generation suffix and only carry the updated fields
+        this.configuration = state.segmentSuffix.isEmpty() ? configuration : null;
+        this.fieldTypeLookup = fieldTypeLookup;
+    }
+
+    @Override
+    public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addNumericField(field, valuesProducer);
+        capture(field, valuesProducer);
+    }
+
+    @Override
+    public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addBinaryField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedNumericField(field, valuesProducer);
+        capture(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedSetField(field, valuesProducer);
+    }
+
+    private void capture(FieldInfo field, DocValuesProducer valuesProducer) {
+        if (configuration == null) {
+            return;
+        }
+        if (DocCountFieldMapper.NAME.equals(field.name)
+            || configuration.dimensionOrd(field.name) >= 0
+            || configuration.getMetrics().contains(field.name)) {
+            capturedFields.put(field.name, field);
+            capturedProducers.put(field.name, valuesProducer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        boolean success = false;
+        IndexOutput out = null;
+        try {
+            final StarTree starTree = buildStarTree();
+            final String fileName = IndexFileNames.segmentFileName(
+                state.segmentInfo.name,
+                state.segmentSuffix,
+                StarTreeDocValuesFormat.STAR_TREE_FILE_EXTENSION
+            );
+            out = state.directory.createOutput(fileName, state.context);
+            CodecUtil.writeIndexHeader(
+                out,
+                StarTreeDocValuesFormat.STAR_TREE_CODEC_NAME,
+                StarTreeDocValuesFormat.VERSION_CURRENT,
+                state.segmentInfo.getId(),
+                state.segmentSuffix
+            );
+            if (starTree == null) {
+                out.writeByte((byte) 0);
+            } else {
+                out.writeByte((byte) 1);
+                starTree.writeTo(out);
+            }
+            CodecUtil.writeFooter(out);
+            success = true;
+        } finally {
+            capturedFields.clear();
+            capturedProducers.clear();
+            if (success) {
+                IOUtils.close(out, delegate);
+            } else {
+                IOUtils.closeWhileHandlingException(out, delegate);
+            }
+        }
+    }
+
+    private StarTree buildStarTree() throws IOException {
+        final int maxDoc = state.segmentInfo.maxDoc();
+        if (configuration == null || maxDoc == 0) {
+            return null;
+        }
+
+        final List<StarTreeFieldConfiguration.Dimension> dimensions = configuration.getDimensions();
+        final String[] dimensionNames = new String[dimensions.size()];
+        final long[] intervals = new long[dimensions.size()];
+        final SortedNumericDocValues[] dimensionValues = new SortedNumericDocValues[dimensions.size()];
+        for (int dim = 0; dim < dimensions.size(); dim++) {
+            final StarTreeFieldConfiguration.Dimension dimension = dimensions.get(dim);
+            final MappedFieldType fieldType = fieldTypeLookup.apply(dimension.getField());
+            if (fieldType != null && isSupportedDimension(fieldType) == false) {
+                logger.debug("field [{}] of type [{}] can't be used as a star tree dimension", dimension.getField(), fieldType.typeName());
+                return null;
+            }
+            dimensionNames[dim] = dimension.getField();
+            intervals[dim] = dimension.getInterval();
+            dimensionValues[dim] = values(dimension.getField());
+        }
+
+        final List<String> metricNames = new ArrayList<>();
+        final List<LongToDoubleFunction> decoders = new ArrayList<>();
+        final List<SortedNumericDocValues> metricValues = new ArrayList<>();
+        for (String metric : configuration.getMetrics()) {
+            final LongToDoubleFunction decoder = metricDecoder(fieldTypeLookup.apply(metric));
+            if (decoder == null) {
+                logger.debug("field [{}] can't be used as a star tree metric", metric);
+                continue;
+            }
+            metricNames.add(metric);
+            decoders.add(decoder);
+            metricValues.add(values(metric));
+        }
+        final int numMetrics = metricNames.size();
+        final SortedNumericDocValues docCountValues = values(DocCountFieldMapper.NAME);
+
+        final StarTreeBuilder builder = new StarTreeBuilder(
+            dimensionNames,
+            intervals,
+            metricNames.toArray(new String[0]),
+            configuration.getMaxLeafDocs()
+        );
+        final long[] dimensionBuffer = new long[dimensionNames.length];
+        final double[] sums = new double[numMetrics];
+        final double[] mins = new double[numMetrics];
+        final double[] maxs = new double[numMetrics];
+        final long[] valueCounts = new long[numMetrics];
+        for (int doc = 0; doc < maxDoc; doc++) {
+            long missingMask = 0;
+            for (int dim = 0; dim < dimensionValues.length; dim++) {
+                final SortedNumericDocValues values = dimensionValues[dim];
+                if (values != null && advance(values, doc)) {
+                    if (values.docValueCount() != 1) {
+                        logger.debug("star tree dimension [{}] is multi-valued, skip building the star tree", dimensionNames[dim]);
+                        return null;
+                    }
+                    dimensionBuffer[dim] = dimensions.get(dim).round(values.nextValue());
+                } else {
+                    dimensionBuffer[dim] = 0L;
+                    missingMask |= 1L << dim;
+                }
+            }
+            Arrays.fill(sums, 0d);
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+            Arrays.fill(valueCounts, 0L);
+            for (int metric = 0; metric < numMetrics; metric++) {
+                final SortedNumericDocValues values = metricValues.get(metric);
+                if (values != null && advance(values, doc)) {
+                    final LongToDoubleFunction decoder = decoders.get(metric);
+                    final int count = values.docValueCount();
+                    for (int i = 0; i < count; i++) {
+                        final double value = decoder.applyAsDouble(values.nextValue());
+                        sums[metric] += value;
+                        mins[metric] = Math.min(mins[metric], value);
+                        maxs[metric] = Math.max(maxs[metric], value);
+                    }
+                    valueCounts[metric] = count;
+                }
+            }
+            final long docCount = docCountValues != null && advance(docCountValues, doc) ? docCountValues.nextValue() : 1L;
+            builder.addDocument(dimensionBuffer, missingMask, docCount, sums, mins, maxs, valueCounts);
+        }
+        return builder.build();
+    }
+
+    private SortedNumericDocValues values(String field) throws IOException {
+        final FieldInfo fieldInfo = capturedFields.get(field);
+        if (fieldInfo == null) {
+            return null;
+        }
+        final DocValuesProducer producer = capturedProducers.get(field);
+        if (fieldInfo.getDocValuesType() == DocValuesType.NUMERIC) {
+            return DocValues.singleton(producer.getNumeric(fieldInfo));
+        }
+        return producer.getSortedNumeric(fieldInfo);
+    }
+
+    /**
+     * Flush time iterators only support {@link DocIdSetIterator#nextDoc()}
+     */
+    private static boolean advance(DocIdSetIterator iterator, int doc) throws IOException {
+        int current = iterator.docID();
+        while (current < doc) {
+            current = iterator.nextDoc();
+        }
+        return current == doc;
+    }
+
+    static boolean isSupportedDimension(MappedFieldType fieldType) {
+        if (fieldType.hasDocValues() == false) {
+            return false;
+        }
+        if (fieldType instanceof DateFieldMapper.DateFieldType) {
+            return ((DateFieldMapper.DateFieldType) fieldType).resolution() == DateFieldMapper.Resolution.MILLISECONDS;
+        }
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
+            final IndexNumericFieldData.NumericType numericType = ((NumberFieldMapper.NumberFieldType) fieldType).numericType();
+            return numericType.isFloatingPoint() == false && numericType != IndexNumericFieldData.NumericType.UNSIGNED_LONG;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the function converting the raw doc values of a metric field to doubles, {@code null} if the field can't be
+     * used as a metric
+     */
+    static LongToDoubleFunction metricDecoder(MappedFieldType fieldType) {
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType == false || fieldType.hasDocValues() == false) {
+            return null;
+        }
+        switch (((NumberFieldMapper.NumberFieldType) fieldType).numericType()) {
+            case HALF_FLOAT:
+                return value -> HalfFloatPoint.sortableShortToHalfFloat((short) value);
+            case FLOAT:
+                return value -> NumericUtils.sortableIntToFloat((int) value);
+            case DOUBLE:
+                return NumericUtils::sortableLongToDouble;
+            case UNSIGNED_LONG:
+                return null;
+            default:
+                return value -> value;
+        }
+    }
+}
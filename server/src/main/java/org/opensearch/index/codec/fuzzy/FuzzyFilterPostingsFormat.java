@@ -251,7 +251,7 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
             }
         }
 
-        static final class FilterAppliedTermsEnum extends BaseTermsEnum {
+        static final class FilterAppliedTermsEnum extends BaseTermsEnum implements FuzzyFilteredTermsEnum {
 
             private Terms delegateTerms;
             private TermsEnum delegateTermsEnum;
@@ -290,12 +290,22 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
                 // structure
                 // that may occasionally give a false positive but guaranteed no false
                 // negatives
-                if (filter.contains(text) == FuzzySet.Result.NO) {
+                if (mightContain(text) == false) {
                     return false;
                 }
                 return delegate().seekExact(text);
             }
 
+            @Override
+            public boolean mightContain(BytesRef term) {
+                return filter.contains(term) != FuzzySet.Result.NO;
+            }
+
+            @Override
+            public boolean seekExactUnfiltered(BytesRef term) throws IOException {
+                return delegate().seekExact(term);
+            }
+
             @Override
             public SeekStatus seekCeil(BytesRef text) throws IOException {
                 return delegate().seekCeil(text);
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.fuzzy;
+
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+
+/**
+ * Terms enum of a field whose terms are fronted by a {@link FuzzySet}. Exposes the set so that callers can tell the terms that the
+ * set rules out apart from the ones that had to be looked up in the terms dictionary.
+ *
+ * @opensearch.internal
+ */
+public interface FuzzyFilteredTermsEnum {
+
+    /**
+     * Returns {@code false} if the term is definitely absent from the field, {@code true} if it may be present.
+     */
+    boolean mightContain(BytesRef term);
+
+    /**
+     * Seeks to the term in the terms dictionary without consulting the fuzzy set, for callers that already did.
+     */
+    boolean seekExactUnfiltered(BytesRef term) throws IOException;
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.compositeindex.startree.StarTreeFieldConfiguration;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Index settings that control the composite indices built for every segment of an index.
+ * All the settings are final since the structures are written at flush and merge time and can't be
+ * changed for existing segments.
+ *
+ * @opensearch.internal
+ */
+public final class CompositeIndexSettings {
+
+    private CompositeIndexSettings() {}
+
+    public static final Setting<Boolean> STAR_TREE_ENABLED_SETTING = Setting.boolSetting(
+        "index.composite_index.star_tree.enabled",
+        false,
+        Property.IndexScope,
+        Property.Final
+    );
+
+    /**
+     * Ordered list of dimensions, each entry is either {@code field} or {@code field:interval} where the interval
+     * (for example {@code 1m}) is used to pre-round date values.
+     */
+    public static final Setting<List<StarTreeFieldConfiguration.Dimension>> STAR_TREE_DIMENSIONS_SETTING = Setting.listSetting(
+        "index.composite_index.star_tree.dimensions",
+        Collections.emptyList(),
+        StarTreeFieldConfiguration.Dimension::parse,
+        dimensions -> {
+            if (dimensions.size() > StarTreeFieldConfiguration.MAX_DIMENSIONS) {
+                throw new IllegalArgumentException(
+                    "star tree supports at most [" + StarTreeFieldConfiguration.MAX_DIMENSIONS + "] dimensions but got " + dimensions
+                );
+            }
+            Set<String> names = new HashSet<>();
+            for (StarTreeFieldConfiguration.Dimension dimension : dimensions) {
+                if (names.add(dimension.getField()) == false) {
+                    throw new IllegalArgumentException("duplicate star tree dimension [" + dimension.getField() + "]");
+                }
+            }
+        },
+        Property.IndexScope,
+        Property.Final
+    );
+
+    public static final Setting<List<String>> STAR_TREE_METRICS_SETTING = Setting.listSetting(
+        "index.composite_index.star_tree.metrics",
+        Collections.emptyList(),
+        Function.identity(),
+        Property.IndexScope,
+        Property.Final
+    );
+
+    public static final Setting<Integer> STAR_TREE_MAX_LEAF_DOCS_SETTING = Setting.intSetting(
+        "index.composite_index.star_tree.max_leaf_docs",
+        10000,
+        1,
+        Property.IndexScope,
+        Property.Final
+    );
+
+    /**
+     * Returns the star tree configuration for the given index settings, or {@code null} if the star tree is disabled.
+     */
+    public static StarTreeFieldConfiguration starTreeConfiguration(Settings settings) {
+        if (STAR_TREE_ENABLED_SETTING.get(settings) == false) {
+            return null;
+        }
+        List<StarTreeFieldConfiguration.Dimension> dimensions = STAR_TREE_DIMENSIONS_SETTING.get(settings);
+        if (dimensions.isEmpty()) {
+            throw new IllegalArgumentException(
+                "[" + STAR_TREE_DIMENSIONS_SETTING.getKey() + "] must be set when [" + STAR_TREE_ENABLED_SETTING.getKey() + "] is true"
+            );
+        }
+        return new StarTreeFieldConfiguration(
+            dimensions,
+            STAR_TREE_METRICS_SETTING.get(settings),
+            STAR_TREE_MAX_LEAF_DOCS_SETTING.get(settings)
+        );
+    }
+}
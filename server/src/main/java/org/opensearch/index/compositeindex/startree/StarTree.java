@@ -0,0 +1,397 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.startree;
+
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * An immutable, per segment star tree.
+ * <p>
+ * The tree is made of pre-aggregated records: every record holds one combination of dimension values together with the
+ * document count and the sum, min, max and value count of every metric for the documents sharing that combination.
+ * Every node of the tree covers a contiguous range of records and splits it on the next dimension, one child per value plus
+ * an optional <em>star</em> child that covers the same documents with that dimension collapsed. Traversal therefore only
+ * visits star children for dimensions that are neither filtered nor grouped on, and reads the pre-aggregated values of a
+ * node as soon as no remaining dimension is of interest.
+ * <p>
+ * Rows {@code [0, numRecords)} are the records, rows {@code [numRecords, numRecords + numNodes)} hold the aggregate of every
+ * node, so that both can be read through the same accessors.
+ *
+ * @opensearch.internal
+ */
+public final class StarTree {
+
+    static final byte FLAG_STAR = 1;
+    static final byte FLAG_MISSING = 2;
+
+    private final String[] dimensions;
+    private final long[] intervals;
+    private final String[] metrics;
+
+    private final int numRecords;
+    private final long[][] dimensionValues;
+    private final long[] missingMasks;
+
+    private final long[] docCounts;
+    private final double[][] sums;
+    private final double[][] mins;
+    private final double[][] maxs;
+    private final long[][] valueCounts;
+
+    private final int numNodes;
+    private final int[] nodeDimensions;
+    private final long[] nodeValues;
+    private final byte[] nodeFlags;
+    private final int[] nodeStarts;
+    private final int[] nodeEnds;
+    private final int[] nodeFirstChildren;
+    private final int[] nodeChildCounts;
+
+    StarTree(
+        String[] dimensions,
+        long[] intervals,
+        String[] metrics,
+        int numRecords,
+        long[][] dimensionValues,
+        long[] missingMasks,
+        long[] docCounts,
+        double[][] sums,
+        double[][] mins,
+        double[][] maxs,
+        long[][] valueCounts,
+        int numNodes,
+        int[] nodeDimensions,
+        long[] nodeValues,
+        byte[] nodeFlags,
+        int[] nodeStarts,
+        int[] nodeEnds,
+        int[] nodeFirstChildren,
+        int[] nodeChildCounts
+    ) {
+        this.dimensions = dimensions;
+        this.intervals = intervals;
+        this.metrics = metrics;
+        this.numRecords = numRecords;
+        this.dimensionValues = dimensionValues;
+        this.missingMasks = missingMasks;
+        this.docCounts = docCounts;
+        this.sums = sums;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.valueCounts = valueCounts;
+        this.numNodes = numNodes;
+        this.nodeDimensions = nodeDimensions;
+        this.nodeValues = nodeValues;
+        this.nodeFlags = nodeFlags;
+        this.nodeStarts = nodeStarts;
+        this.nodeEnds = nodeEnds;
+        this.nodeFirstChildren = nodeFirstChildren;
+        this.nodeChildCounts = nodeChildCounts;
+    }
+
+    /**
+     * Collects the rows matched by a traversal.
+     */
+    @FunctionalInterface
+    public interface RowCollector {
+        /**
+         * @param groupKey the value of the group by dimension, {@code 0} if the traversal isn't grouped
+         * @param row      the row holding the pre-aggregated values
+         */
+        void collect(long groupKey, int row);
+    }
+
+    /**
+     * Visits the pre-aggregated rows that match the given predicates.
+     *
+     * @param predicates one entry per dimension, {@code null} entries match every document including the ones without value
+     * @param groupByDimension the dimension whose value is passed as group key, {@code -1} to not group
+     * @param collector receives the matching rows, possibly several rows per group key
+     */
+    public void traverse(LongPredicate[] predicates, int groupByDimension, RowCollector collector) {
+        if (predicates.length != dimensions.length) {
+            throw new IllegalArgumentException("expected [" + dimensions.length + "] predicates but got [" + predicates.length + "]");
+        }
+        if (groupByDimension >= dimensions.length) {
+            throw new IllegalArgumentException("unknown group by dimension [" + groupByDimension + "]");
+        }
+        int lastRequiredDimension = groupByDimension;
+        for (int dim = 0; dim < predicates.length; dim++) {
+            if (predicates[dim] != null) {
+                lastRequiredDimension = Math.max(lastRequiredDimension, dim);
+            }
+        }
+        traverse(0, 0L, predicates, groupByDimension, lastRequiredDimension, collector);
+    }
+
+    private void traverse(
+        int node,
+        long groupKey,
+        LongPredicate[] predicates,
+        int groupByDimension,
+        int lastRequiredDimension,
+        RowCollector collector
+    ) {
+        final int dim = nodeDimensions[node];
+        if (dim > lastRequiredDimension) {
+            // all filtered and grouped dimensions are fixed along the path, the node aggregate is the answer
+            collector.collect(groupKey, numRecords + node);
+            return;
+        }
+        final int childCount = nodeChildCounts[node];
+        if (childCount == 0) {
+            scanRecords(node, groupKey, predicates, groupByDimension, collector);
+            return;
+        }
+        final int firstChild = nodeFirstChildren[node];
+        if (predicates[dim] != null || groupByDimension == dim) {
+            for (int child = firstChild; child < firstChild + childCount; child++) {
+                if ((nodeFlags[child] & (FLAG_STAR | FLAG_MISSING)) != 0) {
+                    continue;
+                }
+                final long value = nodeValues[child];
+                if (predicates[dim] != null && predicates[dim].test(value) == false) {
+                    continue;
+                }
+                traverse(child, groupByDimension == dim ? value : groupKey, predicates, groupByDimension, lastRequiredDimension, collector);
+            }
+        } else {
+            final int lastChild = firstChild + childCount - 1;
+            if ((nodeFlags[lastChild] & FLAG_STAR) != 0) {
+                traverse(lastChild, groupKey, predicates, groupByDimension, lastRequiredDimension, collector);
+            } else {
+                for (int child = firstChild; child <= lastChild; child++) {
+                    traverse(child, groupKey, predicates, groupByDimension, lastRequiredDimension, collector);
+                }
+            }
+        }
+    }
+
+    private void scanRecords(int node, long groupKey, LongPredicate[] predicates, int groupByDimension, RowCollector collector) {
+        final int fromDim = nodeDimensions[node];
+        for (int record = nodeStarts[node]; record < nodeEnds[node]; record++) {
+            final long missing = missingMasks[record];
+            boolean matches = true;
+            for (int dim = fromDim; dim < predicates.length && matches; dim++) {
+                if (predicates[dim] != null) {
+                    matches = (missing & (1L << dim)) == 0 && predicates[dim].test(dimensionValues[dim][record]);
+                }
+            }
+            if (matches == false) {
+                continue;
+            }
+            if (groupByDimension >= fromDim) {
+                if ((missing & (1L << groupByDimension)) != 0) {
+                    continue;
+                }
+                collector.collect(dimensionValues[groupByDimension][record], record);
+            } else {
+                collector.collect(groupKey, record);
+            }
+        }
+    }
+
+    public int numDimensions() {
+        return dimensions.length;
+    }
+
+    public String dimension(int dim) {
+        return dimensions[dim];
+    }
+
+    /**
+     * The interval dimension values were rounded to, {@code 0} if they are stored as is
+     */
+    public long interval(int dim) {
+        return intervals[dim];
+    }
+
+    /**
+     * Returns the ordinal of the dimension or {@code -1} if the field isn't a dimension of this tree
+     */
+    public int dimensionOrd(String field) {
+        return Arrays.asList(dimensions).indexOf(field);
+    }
+
+    /**
+     * Returns the ordinal of the metric or {@code -1} if the field isn't pre-aggregated by this tree
+     */
+    public int metricOrd(String field) {
+        return Arrays.asList(metrics).indexOf(field);
+    }
+
+    public int numRecords() {
+        return numRecords;
+    }
+
+    public int numNodes() {
+        return numNodes;
+    }
+
+    public long docCount(int row) {
+        return docCounts[row];
+    }
+
+    public double sum(int metric, int row) {
+        return sums[metric][row];
+    }
+
+    public double min(int metric, int row) {
+        return mins[metric][row];
+    }
+
+    public double max(int metric, int row) {
+        return maxs[metric][row];
+    }
+
+    public long valueCount(int metric, int row) {
+        return valueCounts[metric][row];
+    }
+
+    /**
+     * Returns a predicate array matching every document, to be filled for the filtered dimensions
+     */
+    public LongPredicate[] matchAll() {
+        return new LongPredicate[dimensions.length];
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeVInt(dimensions.length);
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            out.writeString(dimensions[dim]);
+            out.writeVLong(intervals[dim]);
+        }
+        out.writeVInt(metrics.length);
+        for (String metric : metrics) {
+            out.writeString(metric);
+        }
+        out.writeVInt(numRecords);
+        for (int record = 0; record < numRecords; record++) {
+            for (int dim = 0; dim < dimensions.length; dim++) {
+                out.writeZLong(dimensionValues[dim][record]);
+            }
+            out.writeVLong(missingMasks[record]);
+        }
+        out.writeVInt(numNodes);
+        for (int node = 0; node < numNodes; node++) {
+            out.writeVInt(nodeDimensions[node]);
+            out.writeZLong(nodeValues[node]);
+            out.writeByte(nodeFlags[node]);
+            out.writeVInt(nodeStarts[node]);
+            out.writeVInt(nodeEnds[node]);
+            out.writeInt(nodeFirstChildren[node]);
+            out.writeVInt(nodeChildCounts[node]);
+        }
+        final int numRows = numRecords + numNodes;
+        for (int row = 0; row < numRows; row++) {
+            out.writeVLong(docCounts[row]);
+            for (int metric = 0; metric < metrics.length; metric++) {
+                out.writeLong(Double.doubleToRawLongBits(sums[metric][row]));
+                out.writeLong(Double.doubleToRawLongBits(mins[metric][row]));
+                out.writeLong(Double.doubleToRawLongBits(maxs[metric][row]));
+                out.writeVLong(valueCounts[metric][row]);
+            }
+        }
+    }
+
+    public static StarTree readFrom(DataInput in) throws IOException {
+        final int numDimensions = in.readVInt();
+        final String[] dimensions = new String[numDimensions];
+        final long[] intervals = new long[numDimensions];
+        for (int dim = 0; dim < numDimensions; dim++) {
+            dimensions[dim] = in.readString();
+            intervals[dim] = in.readVLong();
+        }
+        final int numMetrics = in.readVInt();
+        final String[] metrics = new String[numMetrics];
+        for (int metric = 0; metric < numMetrics; metric++) {
+            metrics[metric] = in.readString();
+        }
+        final int numRecords = in.readVInt();
+        final long[][] dimensionValues = new long[numDimensions][numRecords];
+        final long[] missingMasks = new long[numRecords];
+        for (int record = 0; record < numRecords; record++) {
+            for (int dim = 0; dim < numDimensions; dim++) {
+                dimensionValues[dim][record] = in.readZLong();
+            }
+            missingMasks[record] = in.readVLong();
+        }
+        final int numNodes = in.readVInt();
+        final int[] nodeDimensions = new int[numNodes];
+        final long[] nodeValues = new long[numNodes];
+        final byte[] nodeFlags = new byte[numNodes];
+        final int[] nodeStarts = new int[numNodes];
+        final int[] nodeEnds = new int[numNodes];
+        final int[] nodeFirstChildren = new int[numNodes];
+        final int[] nodeChildCounts = new int[numNodes];
+        for (int node = 0; node < numNodes; node++) {
+            nodeDimensions[node] = in.readVInt();
+            nodeValues[node] = in.readZLong();
+            nodeFlags[node] = in.readByte();
+            nodeStarts[node] = in.readVInt();
+            nodeEnds[node] = in.readVInt();
+            nodeFirstChildren[node] = in.readInt();
+            nodeChildCounts[node] = in.readVInt();
+        }
+        final int numRows = numRecords + numNodes;
+        final long[] docCounts = new long[numRows];
+        final double[][] sums = new double[numMetrics][numRows];
+        final double[][] mins = new double[numMetrics][numRows];
+        final double[][] maxs = new double[numMetrics][numRows];
+        final long[][] valueCounts = new long[numMetrics][numRows];
+        for (int row = 0; row < numRows; row++) {
+            docCounts[row] = in.readVLong();
+            for (int metric = 0; metric < numMetrics; metric++) {
+                sums[metric][row] = Double.longBitsToDouble(in.readLong());
+                mins[metric][row] = Double.longBitsToDouble(in.readLong());
+                maxs[metric][row] = Double.longBitsToDouble(in.readLong());
+                valueCounts[metric][row] = in.readVLong();
+            }
+        }
+        return new StarTree(
+            dimensions,
+            intervals,
+            metrics,
+            numRecords,
+            dimensionValues,
+            missingMasks,
+            docCounts,
+            sums,
+            mins,
+            maxs,
+            valueCounts,
+            numNodes,
+            nodeDimensions,
+            nodeValues,
+            nodeFlags,
+            nodeStarts,
+            nodeEnds,
+            nodeFirstChildren,
+            nodeChildCounts
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "StarTree{dimensions="
+            + Arrays.toString(dimensions)
+            + ", metrics="
+            + Arrays.toString(metrics)
+            + ", records="
+            + numRecords
+            + ", nodes="
+            + numNodes
+            + "}";
+    }
+}
@@ -0,0 +1,427 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.startree;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.IntroSorter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds a {@link StarTree} from per document records.
+ * <p>
+ * Documents sharing the same dimension values are merged into a single record as they are added, and the records are
+ * then sorted on all dimensions. The tree is built top-down: a node with more than {@code maxLeafDocs} records is split
+ * on its dimension, and unless it has a single child a star child is added whose records are the node records with that
+ * dimension collapsed, re-sorted and merged.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeBuilder {
+
+    private final String[] dimensions;
+    private final long[] intervals;
+    private final String[] metrics;
+    private final int maxLeafDocs;
+
+    private final RecordStore docs;
+    private final Map<DimensionKey, Integer> recordsByKey = new HashMap<>();
+    private final DimensionKey probe = new DimensionKey();
+
+    private int numNodes;
+    private int[] nodeDimensions = new int[16];
+    private long[] nodeValues = new long[16];
+    private byte[] nodeFlags = new byte[16];
+    private int[] nodeStarts = new int[16];
+    private int[] nodeEnds = new int[16];
+    private int[] nodeFirstChildren = new int[16];
+    private int[] nodeChildCounts = new int[16];
+
+    public StarTreeBuilder(String[] dimensions, long[] intervals, String[] metrics, int maxLeafDocs) {
+        if (dimensions.length == 0 || dimensions.length > StarTreeFieldConfiguration.MAX_DIMENSIONS) {
+            throw new IllegalArgumentException("invalid number of dimensions [" + dimensions.length + "]");
+        }
+        this.dimensions = dimensions;
+        this.intervals = intervals;
+        this.metrics = metrics;
+        this.maxLeafDocs = maxLeafDocs;
+        this.docs = new RecordStore(dimensions.length, metrics.length);
+    }
+
+    /**
+     * Adds the record of a single document. Documents with the same dimension values are merged right away so that the
+     * memory used by the builder is proportional to the number of distinct dimension value combinations.
+     *
+     * @param dimensionValues the (already rounded) value of every dimension
+     * @param missingMask bit {@code i} is set if the document has no value for dimension {@code i}
+     * @param docCount the number of documents the record stands for, usually {@code 1}
+     * @param sums per metric sum of the document values
+     * @param mins per metric minimum of the document values
+     * @param maxs per metric maximum of the document values
+     * @param valueCounts per metric number of values of the document
+     */
+    public void addDocument(
+        long[] dimensionValues,
+        long missingMask,
+        long docCount,
+        double[] sums,
+        double[] mins,
+        double[] maxs,
+        long[] valueCounts
+    ) {
+        probe.reset(dimensionValues, missingMask);
+        Integer existing = recordsByKey.get(probe);
+        final int record;
+        if (existing == null) {
+            record = docs.newRecord();
+            for (int dim = 0; dim < dimensions.length; dim++) {
+                docs.dimensionValues[dim][record] = dimensionValues[dim];
+            }
+            docs.missingMasks[record] = missingMask;
+            recordsByKey.put(probe.copy(), record);
+        } else {
+            record = existing;
+        }
+        docs.docCounts[record] += docCount;
+        for (int metric = 0; metric < metrics.length; metric++) {
+            docs.sums[metric][record] += sums[metric];
+            docs.mins[metric][record] = Math.min(docs.mins[metric][record], mins[metric]);
+            docs.maxs[metric][record] = Math.max(docs.maxs[metric][record], maxs[metric]);
+            docs.valueCounts[metric][record] += valueCounts[metric];
+        }
+    }
+
+    public StarTree build() {
+        final RecordStore records = new RecordStore(dimensions.length, metrics.length);
+        appendSortedAndMerged(docs, docs.size, 0, records);
+        recordsByKey.clear();
+
+        int root = newNode(0, 0L, (byte) 0, 0, records.size);
+        split(root, records);
+
+        // node aggregates are stored after the records, children always have a higher index than their parent
+        final int numRecords = records.size;
+        for (int node = 0; node < numNodes; node++) {
+            records.newRecord();
+        }
+        for (int node = numNodes - 1; node >= 0; node--) {
+            final int row = numRecords + node;
+            if (nodeChildCounts[node] == 0) {
+                for (int record = nodeStarts[node]; record < nodeEnds[node]; record++) {
+                    records.merge(row, records, record);
+                }
+            } else {
+                final int firstChild = nodeFirstChildren[node];
+                for (int child = firstChild; child < firstChild + nodeChildCounts[node]; child++) {
+                    if ((nodeFlags[child] & StarTree.FLAG_STAR) == 0) {
+                        records.merge(row, records, numRecords + child);
+                    }
+                }
+            }
+        }
+
+        final int numRows = records.size;
+        final long[][] dimensionValues = new long[dimensions.length][];
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            dimensionValues[dim] = ArrayUtil.copyOfSubArray(records.dimensionValues[dim], 0, numRecords);
+        }
+        final double[][] sums = new double[metrics.length][];
+        final double[][] mins = new double[metrics.length][];
+        final double[][] maxs = new double[metrics.length][];
+        final long[][] valueCounts = new long[metrics.length][];
+        for (int metric = 0; metric < metrics.length; metric++) {
+            sums[metric] = ArrayUtil.copyOfSubArray(records.sums[metric], 0, numRows);
+            mins[metric] = ArrayUtil.copyOfSubArray(records.mins[metric], 0, numRows);
+            maxs[metric] = ArrayUtil.copyOfSubArray(records.maxs[metric], 0, numRows);
+            valueCounts[metric] = ArrayUtil.copyOfSubArray(records.valueCounts[metric], 0, numRows);
+        }
+        return new StarTree(
+            dimensions,
+            intervals,
+            metrics,
+            numRecords,
+            dimensionValues,
+            ArrayUtil.copyOfSubArray(records.missingMasks, 0, numRecords),
+            ArrayUtil.copyOfSubArray(records.docCounts, 0, numRows),
+            sums,
+            mins,
+            maxs,
+            valueCounts,
+            numNodes,
+            ArrayUtil.copyOfSubArray(nodeDimensions, 0, numNodes),
+            ArrayUtil.copyOfSubArray(nodeValues, 0, numNodes),
+            ArrayUtil.copyOfSubArray(nodeFlags, 0, numNodes),
+            ArrayUtil.copyOfSubArray(nodeStarts, 0, numNodes),
+            ArrayUtil.copyOfSubArray(nodeEnds, 0, numNodes),
+            ArrayUtil.copyOfSubArray(nodeFirstChildren, 0, numNodes),
+            ArrayUtil.copyOfSubArray(nodeChildCounts, 0, numNodes)
+        );
+    }
+
+    private void split(int node, RecordStore records) {
+        final int dim = nodeDimensions[node];
+        final int start = nodeStarts[node];
+        final int end = nodeEnds[node];
+        if (dim >= dimensions.length || end - start <= maxLeafDocs) {
+            return;
+        }
+        final int firstChild = numNodes;
+        int runStart = start;
+        for (int record = start + 1; record <= end; record++) {
+            if (record == end || records.compareDimension(record, runStart, dim) != 0) {
+                final boolean missing = (records.missingMasks[runStart] & (1L << dim)) != 0;
+                newNode(
+                    dim + 1,
+                    missing ? 0L : records.dimensionValues[dim][runStart],
+                    missing ? StarTree.FLAG_MISSING : 0,
+                    runStart,
+                    record
+                );
+                runStart = record;
+            }
+        }
+        if (numNodes - firstChild > 1) {
+            final RecordStore collapsed = new RecordStore(dimensions.length, metrics.length);
+            for (int record = start; record < end; record++) {
+                int copy = collapsed.newRecord();
+                collapsed.copy(copy, records, record);
+                collapsed.dimensionValues[dim][copy] = 0L;
+                collapsed.missingMasks[copy] &= ~(1L << dim);
+            }
+            final int starStart = records.size;
+            appendSortedAndMerged(collapsed, collapsed.size, dim + 1, records);
+            newNode(dim + 1, 0L, StarTree.FLAG_STAR, starStart, records.size);
+        }
+        final int lastChild = numNodes;
+        nodeFirstChildren[node] = firstChild;
+        nodeChildCounts[node] = lastChild - firstChild;
+        for (int child = firstChild; child < lastChild; child++) {
+            split(child, records);
+        }
+    }
+
+    /**
+     * Sorts the first {@code size} records of {@code source} on dimensions {@code [fromDim, numDims)}, merges records
+     * with equal dimension values and appends them to {@code target}. Dimensions before {@code fromDim} must be equal
+     * across all the source records.
+     */
+    private static void appendSortedAndMerged(RecordStore source, int size, int fromDim, RecordStore target) {
+        final int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        new IntroSorter() {
+            int pivot;
+
+            @Override
+            protected void swap(int i, int j) {
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+
+            @Override
+            protected void setPivot(int i) {
+                pivot = order[i];
+            }
+
+            @Override
+            protected int comparePivot(int j) {
+                return source.compareDimensions(pivot, order[j], fromDim);
+            }
+
+            @Override
+            protected int compare(int i, int j) {
+                return source.compareDimensions(order[i], order[j], fromDim);
+            }
+        }.sort(0, size);
+
+        int last = -1;
+        for (int i = 0; i < size; i++) {
+            final int record = order[i];
+            if (last >= 0 && source.compareDimensions(order[i - 1], record, fromDim) == 0) {
+                target.merge(last, source, record);
+            } else {
+                last = target.newRecord();
+                target.copy(last, source, record);
+            }
+        }
+    }
+
+    private int newNode(int dim, long value, byte flags, int start, int end) {
+        if (numNodes == nodeDimensions.length) {
+            final int newSize = ArrayUtil.oversize(numNodes + 1, Long.BYTES);
+            nodeDimensions = ArrayUtil.growExact(nodeDimensions, newSize);
+            nodeValues = ArrayUtil.growExact(nodeValues, newSize);
+            nodeFlags = ArrayUtil.growExact(nodeFlags, newSize);
+            nodeStarts = ArrayUtil.growExact(nodeStarts, newSize);
+            nodeEnds = ArrayUtil.growExact(nodeEnds, newSize);
+            nodeFirstChildren = ArrayUtil.growExact(nodeFirstChildren, newSize);
+            nodeChildCounts = ArrayUtil.growExact(nodeChildCounts, newSize);
+        }
+        final int node = numNodes++;
+        nodeDimensions[node] = dim;
+        nodeValues[node] = value;
+        nodeFlags[node] = flags;
+        nodeStarts[node] = start;
+        nodeEnds[node] = end;
+        nodeFirstChildren[node] = -1;
+        nodeChildCounts[node] = 0;
+        return node;
+    }
+
+    /**
+     * Hash key over the dimension values of a document
+     */
+    private static final class DimensionKey {
+        private long[] values;
+        private long missingMask;
+        private int hash;
+
+        void reset(long[] values, long missingMask) {
+            this.values = values;
+            this.missingMask = missingMask;
+            this.hash = 31 * Arrays.hashCode(values) + Long.hashCode(missingMask);
+        }
+
+        DimensionKey copy() {
+            DimensionKey copy = new DimensionKey();
+            copy.values = values.clone();
+            copy.missingMask = missingMask;
+            copy.hash = hash;
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            DimensionKey that = (DimensionKey) o;
+            return missingMask == that.missingMask && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Growable column oriented storage of records
+     */
+    private static final class RecordStore {
+        private final int numDimensions;
+        private final int numMetrics;
+
+        int size;
+        long[][] dimensionValues;
+        long[] missingMasks;
+        long[] docCounts;
+        double[][] sums;
+        double[][] mins;
+        double[][] maxs;
+        long[][] valueCounts;
+
+        RecordStore(int numDimensions, int numMetrics) {
+            this.numDimensions = numDimensions;
+            this.numMetrics = numMetrics;
+            final int initialSize = 16;
+            dimensionValues = new long[numDimensions][initialSize];
+            missingMasks = new long[initialSize];
+            docCounts = new long[initialSize];
+            sums = new double[numMetrics][initialSize];
+            mins = new double[numMetrics][initialSize];
+            maxs = new double[numMetrics][initialSize];
+            valueCounts = new long[numMetrics][initialSize];
+        }
+
+        /**
+         * Appends an empty record: no documents, no values
+         */
+        int newRecord() {
+            if (size == docCounts.length) {
+                final int newSize = ArrayUtil.oversize(size + 1, Long.BYTES);
+                for (int dim = 0; dim < numDimensions; dim++) {
+                    dimensionValues[dim] = ArrayUtil.growExact(dimensionValues[dim], newSize);
+                }
+                missingMasks = ArrayUtil.growExact(missingMasks, newSize);
+                docCounts = ArrayUtil.growExact(docCounts, newSize);
+                for (int metric = 0; metric < numMetrics; metric++) {
+                    sums[metric] = ArrayUtil.growExact(sums[metric], newSize);
+                    mins[metric] = ArrayUtil.growExact(mins[metric], newSize);
+                    maxs[metric] = ArrayUtil.growExact(maxs[metric], newSize);
+                    valueCounts[metric] = ArrayUtil.growExact(valueCounts[metric], newSize);
+                }
+            }
+            final int record = size++;
+            for (int metric = 0; metric < numMetrics; metric++) {
+                mins[metric][record] = Double.POSITIVE_INFINITY;
+                maxs[metric][record] = Double.NEGATIVE_INFINITY;
+            }
+            return record;
+        }
+
+        void copy(int record, RecordStore source, int sourceRecord) {
+            for (int dim = 0; dim < numDimensions; dim++) {
+                dimensionValues[dim][record] = source.dimensionValues[dim][sourceRecord];
+            }
+            missingMasks[record] = source.missingMasks[sourceRecord];
+            docCounts[record] = source.docCounts[sourceRecord];
+            for (int metric = 0; metric < numMetrics; metric++) {
+                sums[metric][record] = source.sums[metric][sourceRecord];
+                mins[metric][record] = source.mins[metric][sourceRecord];
+                maxs[metric][record] = source.maxs[metric][sourceRecord];
+                valueCounts[metric][record] = source.valueCounts[metric][sourceRecord];
+            }
+        }
+
+        /**
+         * Adds the metrics of the source record to this record, dimension values are left untouched
+         */
+        void merge(int record, RecordStore source, int sourceRecord) {
+            docCounts[record] += source.docCounts[sourceRecord];
+            for (int metric = 0; metric < numMetrics; metric++) {
+                sums[metric][record] += source.sums[metric][sourceRecord];
+                mins[metric][record] = Math.min(mins[metric][record], source.mins[metric][sourceRecord]);
+                maxs[metric][record] = Math.max(maxs[metric][record], source.maxs[metric][sourceRecord]);
+                valueCounts[metric][record] += source.valueCounts[metric][sourceRecord];
+            }
+        }
+
+        /**
+         * Records without value sort before records with a value
+         */
+        int compareDimension(int a, int b, int dim) {
+            final long bit = 1L << dim;
+            final boolean aMissing = (missingMasks[a] & bit) != 0;
+            final boolean bMissing = (missingMasks[b] & bit) != 0;
+            if (aMissing || bMissing) {
+                return Boolean.compare(bMissing, aMissing);
+            }
+            return Long.compare(dimensionValues[dim][a], dimensionValues[dim][b]);
+        }
+
+        int compareDimensions(int a, int b, int fromDim) {
+            for (int dim = fromDim; dim < numDimensions; dim++) {
+                int cmp = compareDimension(a, b, dim);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StarTreeBuilder{dimensions=" + Arrays.toString(dimensions) + ", metrics=" + Arrays.toString(metrics) + "}";
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.startree;
+
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes the star tree to build for every segment: the ordered dimensions the tree is split on,
+ * the numeric fields whose values are pre-aggregated and the maximum number of records of a leaf node.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeFieldConfiguration {
+
+    public static final int MAX_DIMENSIONS = 10;
+
+    private final List<Dimension> dimensions;
+    private final List<String> metrics;
+    private final int maxLeafDocs;
+
+    public StarTreeFieldConfiguration(List<Dimension> dimensions, List<String> metrics, int maxLeafDocs) {
+        if (dimensions.isEmpty() || dimensions.size() > MAX_DIMENSIONS) {
+            throw new IllegalArgumentException("star tree requires between 1 and " + MAX_DIMENSIONS + " dimensions but got " + dimensions);
+        }
+        if (maxLeafDocs < 1) {
+            throw new IllegalArgumentException("max leaf docs must be at least 1 but was [" + maxLeafDocs + "]");
+        }
+        this.dimensions = List.copyOf(dimensions);
+        this.metrics = List.copyOf(metrics);
+        this.maxLeafDocs = maxLeafDocs;
+    }
+
+    public List<Dimension> getDimensions() {
+        return dimensions;
+    }
+
+    public List<String> getMetrics() {
+        return metrics;
+    }
+
+    public int getMaxLeafDocs() {
+        return maxLeafDocs;
+    }
+
+    /**
+     * Returns the ordinal of the given field in the dimension list, or {@code -1}
+     */
+    public int dimensionOrd(String field) {
+        for (int i = 0; i < dimensions.size(); i++) {
+            if (dimensions.get(i).getField().equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "StarTreeFieldConfiguration{dimensions=" + dimensions + ", metrics=" + metrics + ", maxLeafDocs=" + maxLeafDocs + "}";
+    }
+
+    /**
+     * A dimension of the star tree. Values are rounded down to a multiple of the interval when it is greater than zero,
+     * which is how date fields are stored at a fixed granularity.
+     *
+     * @opensearch.internal
+     */
+    public static final class Dimension {
+        private final String field;
+        private final long interval;
+
+        public Dimension(String field, long interval) {
+            if (field == null || field.isEmpty()) {
+                throw new IllegalArgumentException("star tree dimension requires a field name");
+            }
+            if (interval < 0) {
+                throw new IllegalArgumentException(
+                    "star tree dimension [" + field + "] interval must be positive but was [" + interval + "]"
+                );
+            }
+            this.field = field;
+            this.interval = interval;
+        }
+
+        /**
+         * Parses {@code field} or {@code field:interval}
+         */
+        public static Dimension parse(String value) {
+            int idx = value.lastIndexOf(':');
+            if (idx < 0) {
+                return new Dimension(value.trim(), 0);
+            }
+            String field = value.substring(0, idx).trim();
+            TimeValue interval = TimeValue.parseTimeValue(value.substring(idx + 1).trim(), "star tree dimension [" + field + "]");
+            if (interval.millis() <= 0) {
+                throw new IllegalArgumentException(
+                    "star tree dimension [" + field + "] interval must be positive but was [" + interval + "]"
+                );
+            }
+            return new Dimension(field, interval.millis());
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        /**
+         * The rounding interval of the values, {@code 0} if the values are stored as is
+         */
+        public long getInterval() {
+            return interval;
+        }
+
+        /**
+         * Rounds a raw doc value down to the granularity of this dimension
+         */
+        public long round(long value) {
+            return interval > 0 ? Math.floorDiv(value, interval) * interval : value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Dimension that = (Dimension) o;
+            return interval == that.interval && field.equals(that.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, interval);
+        }
+
+        @Override
+        public String toString() {
+            return interval > 0 ? field + ":" + interval + "ms" : field;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+/** Star-tree composite index: building, serialization and traversal of pre-aggregated metrics */
+package org.opensearch.index.compositeindex.startree;
@@ -33,6 +33,7 @@ package org.opensearch.index.engine;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.search.QueryCache;
@@ -110,6 +111,8 @@ public final class EngineConfig {
     private final boolean isReadOnlyReplica;
     private final BooleanSupplier startedPrimarySupplier;
     private final Comparator<LeafReader> leafSorter;
+    @Nullable
+    private final IndexWriter.IndexReaderWarmer mergedSegmentWarmer;
 
     /**
      * A supplier of the outstanding retention leases. This is used during merged operations to determine which operations that have been
@@ -296,6 +299,7 @@ public final class EngineConfig {
         this.startedPrimarySupplier = builder.startedPrimarySupplier;
         this.translogFactory = builder.translogFactory;
         this.leafSorter = builder.leafSorter;
+        this.mergedSegmentWarmer = builder.mergedSegmentWarmer;
     }
 
     /**
@@ -557,6 +561,15 @@ public final class EngineConfig {
         return this.leafSorter;
     }
 
+    /**
+     * Returns the warmer that the index writer runs on newly merged segments before they are committed to the index writer,
+     * or {@code null} if there is none.
+     */
+    @Nullable
+    public IndexWriter.IndexReaderWarmer getMergedSegmentWarmer() {
+        return this.mergedSegmentWarmer;
+    }
+
     /**
      * Builder for EngineConfig class
      *
@@ -590,6 +603,7 @@ public final class EngineConfig {
         private BooleanSupplier startedPrimarySupplier;
         private TranslogFactory translogFactory = new InternalTranslogFactory();
         Comparator<LeafReader> leafSorter;
+        private IndexWriter.IndexReaderWarmer mergedSegmentWarmer;
 
         public Builder shardId(ShardId shardId) {
             this.shardId = shardId;
@@ -726,6 +740,11 @@ public final class EngineConfig {
             return this;
         }
 
+        public Builder mergedSegmentWarmer(IndexWriter.IndexReaderWarmer mergedSegmentWarmer) {
+            this.mergedSegmentWarmer = mergedSegmentWarmer;
+            return this;
+        }
+
         public EngineConfig build() {
             return new EngineConfig(this);
         }
@@ -10,6 +10,7 @@ package org.opensearch.index.engine;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.search.QueryCache;
@@ -154,7 +155,8 @@ public class EngineConfigFactory {
         boolean isReadOnlyReplica,
         BooleanSupplier startedPrimarySupplier,
         TranslogFactory translogFactory,
-        Comparator<LeafReader> leafSorter
+        Comparator<LeafReader> leafSorter,
+        IndexWriter.IndexReaderWarmer mergedSegmentWarmer
     ) {
         CodecService codecServiceToUse = codecService;
         if (codecService == null && this.codecServiceFactory != null) {
@@ -188,6 +190,7 @@ public class EngineConfigFactory {
             .startedPrimarySupplier(startedPrimarySupplier)
             .translogFactory(translogFactory)
             .leafSorter(leafSorter)
+            .mergedSegmentWarmer(mergedSegmentWarmer)
             .build();
     }
 
@@ -90,6 +90,22 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             this.map = map;
         }
 
+        static VersionLookup create(VersionMapType type, int expectedSize) {
+            switch (type) {
+                case OBJECT:
+                    return new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize));
+                case PACKED:
+                    return new VersionLookup(new PackedVersionMap(expectedSize));
+                default:
+                    throw new IllegalArgumentException("unknown version map type [" + type + "]");
+            }
+        }
+
+        long ramBytesUsed() {
+            // the packed map accounts for its own entries, whose memory is only released once the whole map is dropped
+            return map instanceof PackedVersionMap ? ((PackedVersionMap) map).ramBytesUsed() : ramBytesUsed.get();
+        }
+
         VersionValue get(BytesRef key) {
             return map.get(key);
         }
@@ -132,6 +148,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private static final class Maps {
 
+        final VersionMapType type;
+
         // All writes (adds and deletes) go into here:
         final VersionLookup current;
 
@@ -143,14 +161,15 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        Maps(VersionMapType type, VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+            this.type = type;
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(VersionMapType type) {
+            this(type, VersionLookup.create(type, 16), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -168,18 +187,14 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(type, VersionLookup.create(type, current.size()), current, shouldInheritSafeAccess());
         }
 
         /**
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(type, current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
         }
 
         void put(BytesRef uid, VersionValue version) {
@@ -219,10 +234,21 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private final VersionMapType type;
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap;
+
+    LiveVersionMap() {
+        this(VersionMapType.OBJECT);
+    }
+
+    LiveVersionMap(VersionMapType type) {
+        this.type = type;
+        this.maps = new Maps(type);
+        this.unsafeKeysMap = new Maps(type);
+    }
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -443,7 +469,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = new Maps(type);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -453,7 +479,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     @Override
     public long ramBytesUsed() {
-        return maps.current.ramBytesUsed.get() + ramBytesUsedTombstones.get();
+        return maps.current.ramBytesUsed() + ramBytesUsedTombstones.get();
     }
 
     /**
@@ -461,7 +487,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * don't clear on refresh.
      */
     long ramBytesUsedForRefresh() {
-        return maps.current.ramBytesUsed.get();
+        return maps.current.ramBytesUsed();
     }
 
     /**
@@ -469,7 +495,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * except does not include tombstones because they don't clear on refresh.
      */
     long getRefreshingBytes() {
-        return maps.old.ramBytesUsed.get();
+        return maps.old.ramBytesUsed();
     }
 
     @Override
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent map of uids to {@link IndexVersionValue}s that doesn't allocate any object per entry: the entries are spread over
+ * segments, each of them an open addressing {@link BytesRefHash} keyed by the hash of the uid that stores the uid bytes, and a
+ * {@link LongArray} that stores the version, the sequence number, the primary term and the translog location of each uid, all of
+ * them paged primitive arrays. The values are materialized on reads.
+ * <p>
+ * The hash tables don't support removals, so removed entries are only marked as such and keep their slot until the whole map is
+ * dropped. This suits the live version map, which starts a new map on every refresh.
+ * <p>
+ * The arrays are not recycled since readers may still hold on to a map that the live version map already dropped. Each segment is
+ * guarded by its own lock, which is held for the duration of a single lookup or update.
+ *
+ * @opensearch.internal
+ */
+final class PackedVersionMap extends AbstractMap<BytesRef, VersionValue> {
+
+    // version, seqNo, term, translog generation, translog location, and the state of the entry along with the translog size
+    private static final int LONGS_PER_ENTRY = 6;
+    private static final int VERSION = 0;
+    private static final int SEQ_NO = 1;
+    private static final int TERM = 2;
+    private static final int GENERATION = 3;
+    private static final int LOCATION = 4;
+    private static final int STATE_AND_SIZE = 5;
+
+    // the state is kept in the upper 32 bits of the last long of an entry, the translog size in the lower 32 bits
+    private static final long HAS_LOCATION = 0;
+    private static final long NO_LOCATION = 1;
+    private static final long REMOVED = 2;
+
+    /**
+     * Bytes used by an entry, on top of the bytes of the uid: the values, the hash table slot along with its free space, the offset
+     * of the uid and its hash.
+     */
+    static final long BYTES_PER_ENTRY = (LONGS_PER_ENTRY + 4) * Long.BYTES;
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong ramBytesUsed = new AtomicLong();
+
+    PackedVersionMap() {
+        this(0);
+    }
+
+    PackedVersionMap(int expectedSize) {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(Math.max(1, expectedSize / SEGMENTS));
+        }
+    }
+
+    private Segment segment(BytesRef uid) {
+        return segments[uid.hashCode() & (SEGMENTS - 1)];
+    }
+
+    @Override
+    public VersionValue get(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final Segment segment = segment((BytesRef) key);
+        synchronized (segment) {
+            final long ordinal = segment.keys.find((BytesRef) key);
+            return ordinal < 0 ? null : segment.read(ordinal);
+        }
+    }
+
+    @Override
+    public VersionValue put(BytesRef uid, VersionValue value) {
+        assert value instanceof IndexVersionValue : "only index versions are kept in the live maps, got " + value;
+        final Segment segment = segment(uid);
+        synchronized (segment) {
+            long ordinal = segment.keys.add(uid);
+            final VersionValue previous;
+            if (ordinal < 0) {
+                ordinal = -1 - ordinal;
+                previous = segment.read(ordinal);
+            } else {
+                segment.values = BigArrays.NON_RECYCLING_INSTANCE.grow(segment.values, (ordinal + 1) * LONGS_PER_ENTRY);
+                ramBytesUsed.addAndGet(BYTES_PER_ENTRY + uid.length);
+                previous = null;
+            }
+            segment.write(ordinal, (IndexVersionValue) value);
+            if (previous == null) {
+                size.incrementAndGet();
+            }
+            return previous;
+        }
+    }
+
+    @Override
+    public VersionValue remove(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final Segment segment = segment((BytesRef) key);
+        synchronized (segment) {
+            final long ordinal = segment.keys.find((BytesRef) key);
+            if (ordinal < 0) {
+                return null;
+            }
+            final VersionValue previous = segment.read(ordinal);
+            if (previous != null) {
+                segment.values.set(ordinal * LONGS_PER_ENTRY + STATE_AND_SIZE, REMOVED << 32);
+                size.decrementAndGet();
+            }
+            return previous;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the bytes used by the entries of this map, including the ones that were removed.
+     */
+    long ramBytesUsed() {
+        return ramBytesUsed.get();
+    }
+
+    /**
+     * Returns a point in time snapshot of the entries of this map, each segment being consistent on its own.
+     */
+    @Override
+    public Set<Map.Entry<BytesRef, VersionValue>> entrySet() {
+        final Set<Map.Entry<BytesRef, VersionValue>> entries = new HashSet<>();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (long ordinal = 0; ordinal < segment.keys.size(); ordinal++) {
+                    final VersionValue value = segment.read(ordinal);
+                    if (value != null) {
+                        final BytesRef uid = BytesRef.deepCopyOf(segment.keys.get(ordinal, new BytesRef()));
+                        entries.add(new SimpleImmutableEntry<>(uid, value));
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * A hash table of uids and the versions of these uids, guarded by its own monitor.
+     */
+    private static final class Segment {
+        private final BytesRefHash keys;
+        private LongArray values;
+
+        Segment(long initialCapacity) {
+            this.keys = new BytesRefHash(initialCapacity, BigArrays.NON_RECYCLING_INSTANCE);
+            this.values = BigArrays.NON_RECYCLING_INSTANCE.newLongArray(initialCapacity * LONGS_PER_ENTRY, false);
+        }
+
+        IndexVersionValue read(long ordinal) {
+            final long offset = ordinal * LONGS_PER_ENTRY;
+            final long stateAndSize = values.get(offset + STATE_AND_SIZE);
+            final long state = stateAndSize >>> 32;
+            if (state == REMOVED) {
+                return null;
+            }
+            final Translog.Location location = state == NO_LOCATION
+                ? null
+                : new Translog.Location(values.get(offset + GENERATION), values.get(offset + LOCATION), (int) stateAndSize);
+            return new IndexVersionValue(location, values.get(offset + VERSION), values.get(offset + SEQ_NO), values.get(offset + TERM));
+        }
+
+        void write(long ordinal, IndexVersionValue value) {
+            final long offset = ordinal * LONGS_PER_ENTRY;
+            values.set(offset + VERSION, value.version);
+            values.set(offset + SEQ_NO, value.seqNo);
+            values.set(offset + TERM, value.term);
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                values.set(offset + STATE_AND_SIZE, NO_LOCATION << 32);
+            } else {
+                values.set(offset + GENERATION, location.generation);
+                values.set(offset + LOCATION, location.translogLocation);
+                values.set(offset + STATE_AND_SIZE, (HAS_LOCATION << 32) | (location.size & 0xFFFFFFFFL));
+            }
+        }
+    }
+}
@@ -62,6 +62,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
     private long versionMapMemoryInBytes;
     private long maxUnsafeAutoIdTimestamp = Long.MIN_VALUE;
     private long bitsetMemoryInBytes;
+    private long idLookupFuzzySetHits;
+    private long idLookupFuzzySetMisses;
     private final Map<String, Long> fileSizes;
     private final RemoteSegmentStats remoteSegmentStats;
     private static final ByteSizeValue ZERO_BYTE_SIZE_VALUE = new ByteSizeValue(0L);
@@ -131,6 +133,10 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             remoteSegmentStats = new RemoteSegmentStats();
             replicationStats = new ReplicationStats();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            idLookupFuzzySetHits = in.readVLong();
+            idLookupFuzzySetMisses = in.readVLong();
+        }
     }
 
     public void add(long count) {
@@ -153,6 +159,14 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         this.bitsetMemoryInBytes += bitsetMemoryInBytes;
     }
 
+    public void addIdLookupFuzzySetHits(long idLookupFuzzySetHits) {
+        this.idLookupFuzzySetHits += idLookupFuzzySetHits;
+    }
+
+    public void addIdLookupFuzzySetMisses(long idLookupFuzzySetMisses) {
+        this.idLookupFuzzySetMisses += idLookupFuzzySetMisses;
+    }
+
     public void addRemoteSegmentStats(RemoteSegmentStats remoteSegmentStats) {
         this.remoteSegmentStats.add(remoteSegmentStats);
     }
@@ -178,6 +192,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         addIndexWriterMemoryInBytes(mergeStats.indexWriterMemoryInBytes);
         addVersionMapMemoryInBytes(mergeStats.versionMapMemoryInBytes);
         addBitsetMemoryInBytes(mergeStats.bitsetMemoryInBytes);
+        addIdLookupFuzzySetHits(mergeStats.idLookupFuzzySetHits);
+        addIdLookupFuzzySetMisses(mergeStats.idLookupFuzzySetMisses);
         addFileSizes(mergeStats.fileSizes);
         addRemoteSegmentStats(mergeStats.remoteSegmentStats);
         addReplicationStats(mergeStats.replicationStats);
@@ -223,6 +239,20 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(bitsetMemoryInBytes);
     }
 
+    /**
+     * Number of segments that uid lookups skipped because the fuzzy set of the segment ruled the uid out.
+     */
+    public long getIdLookupFuzzySetHits() {
+        return idLookupFuzzySetHits;
+    }
+
+    /**
+     * Number of segments whose terms dictionary uid lookups had to search because the fuzzy set of the segment may contain the uid.
+     */
+    public long getIdLookupFuzzySetMisses() {
+        return idLookupFuzzySetMisses;
+    }
+
     /** Returns mapping of file names to their size (only used in tests) */
     public Map<String, Long> getFileSizes() {
         return Collections.unmodifiableMap(this.fileSizes);
@@ -260,6 +290,10 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.VERSION_MAP_MEMORY_IN_BYTES, Fields.VERSION_MAP_MEMORY, getVersionMapMemory());
         builder.humanReadableField(Fields.FIXED_BIT_SET_MEMORY_IN_BYTES, Fields.FIXED_BIT_SET, getBitsetMemory());
         builder.field(Fields.MAX_UNSAFE_AUTO_ID_TIMESTAMP, maxUnsafeAutoIdTimestamp);
+        builder.startObject(Fields.ID_LOOKUP_FUZZY_SET);
+        builder.field(Fields.HITS, idLookupFuzzySetHits);
+        builder.field(Fields.MISSES, idLookupFuzzySetMisses);
+        builder.endObject();
         remoteSegmentStats.toXContent(builder, params);
         replicationStats.toXContent(builder, params);
         builder.startObject(Fields.FILE_SIZES);
@@ -301,6 +335,9 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         static final String VERSION_MAP_MEMORY = "version_map_memory";
         static final String VERSION_MAP_MEMORY_IN_BYTES = "version_map_memory_in_bytes";
         static final String MAX_UNSAFE_AUTO_ID_TIMESTAMP = "max_unsafe_auto_id_timestamp";
+        static final String ID_LOOKUP_FUZZY_SET = "id_lookup_fuzzy_set";
+        static final String HITS = "hits";
+        static final String MISSES = "misses";
         static final String FIXED_BIT_SET = "fixed_bit_set";
         static final String FIXED_BIT_SET_MEMORY_IN_BYTES = "fixed_bit_set_memory_in_bytes";
         static final String FILE_SIZES = "file_sizes";
@@ -332,6 +369,10 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             out.writeOptionalWriteable(remoteSegmentStats);
             out.writeOptionalWriteable(replicationStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeVLong(idLookupFuzzySetHits);
+            out.writeVLong(idLookupFuzzySetMisses);
+        }
     }
 
     public void clearFileSizes() {
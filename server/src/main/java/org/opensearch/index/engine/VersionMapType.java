@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Storage of the versions of the documents that were indexed since the last refresh of a shard.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public enum VersionMapType {
+    /**
+     * One {@link java.util.concurrent.ConcurrentHashMap} entry, along with its key and value objects, per document.
+     */
+    OBJECT,
+    /**
+     * Open addressing hash tables keyed by the hash of the uid, whose keys and versions are packed in paged primitive arrays.
+     */
+    PACKED;
+
+    public String getValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static VersionMapType fromString(String value) {
+        for (VersionMapType type : values()) {
+            if (type.getValue().equals(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(
+            "unknown version map type ["
+                + value
+                + "], must be one of "
+                + Arrays.toString(Arrays.stream(values()).map(VersionMapType::getValue).toArray())
+        );
+    }
+}
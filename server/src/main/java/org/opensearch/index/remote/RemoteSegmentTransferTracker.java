@@ -10,9 +10,11 @@ package org.opensearch.index.remote;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.logging.Loggers;
+import org.opensearch.common.util.MovingAverage;
 import org.opensearch.common.util.Streak;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -30,6 +32,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static org.opensearch.index.shard.RemoteStoreRefreshListener.EXCLUDE_FILES;
@@ -126,6 +129,22 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
      */
     private final DirectoryFileTransferTracker directoryFileTransferTracker;
 
+    /**
+     * Total time segment uploads of this shard spent waiting for a slot of the {@link RemoteSegmentUploadScheduler}.
+     */
+    private final AtomicLong totalUploadQueueTimeInMillis = new AtomicLong();
+
+    /**
+     * Provides moving average over the last N queueing delays of segment uploads. N is window size.
+     * Wrapped with {@code AtomicReference} for dynamic changes in window size.
+     */
+    private final AtomicReference<MovingAverage> uploadQueueTimeMsMovingAverageReference;
+
+    /**
+     * This lock object is used for making sure we do not miss any data.
+     */
+    private final Object uploadQueueTimeMsMutex = new Object();
+
     public RemoteSegmentTransferTracker(
         ShardId shardId,
         DirectoryFileTransferTracker directoryFileTransferTracker,
@@ -143,6 +162,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
         localRefreshClockTimeMs = currentClockTimeMs;
         remoteRefreshClockTimeMs = currentClockTimeMs;
         this.directoryFileTransferTracker = directoryFileTransferTracker;
+        this.uploadQueueTimeMsMovingAverageReference = new AtomicReference<>(new MovingAverage(movingAverageWindowSize));
     }
 
     public static long currentTimeMsUsingSystemNanos() {
@@ -370,6 +390,28 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
         return directoryFileTransferTracker;
     }
 
+    public long getTotalUploadQueueTimeInMillis() {
+        return totalUploadQueueTimeInMillis.get();
+    }
+
+    double getUploadQueueTimeMovingAverage() {
+        return uploadQueueTimeMsMovingAverageReference.get().getAverage();
+    }
+
+    /**
+     * Records the time a segment upload waited in the queue of the {@link RemoteSegmentUploadScheduler} before it started.
+     */
+    public void addUploadQueueTimeInMillis(long queueTimeInMillis) {
+        totalUploadQueueTimeInMillis.addAndGet(queueTimeInMillis);
+        updateMovingAverage(queueTimeInMillis, uploadQueueTimeMsMutex, uploadQueueTimeMsMovingAverageReference);
+    }
+
+    @Override
+    void updateMovingAverageWindowSize(int updatedSize) {
+        super.updateMovingAverageWindowSize(updatedSize);
+        updateMovingAverageWindowSize(updatedSize, uploadQueueTimeMsMutex, uploadQueueTimeMsMovingAverageReference);
+    }
+
     public RemoteSegmentTransferTracker.Stats stats() {
         return new RemoteSegmentTransferTracker.Stats(
             shardId,
@@ -392,6 +434,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             uploadTimeMsMovingAverageReference.get().getAverage(),
             getBytesLag(),
             totalUploadTimeInMillis.get(),
+            totalUploadQueueTimeInMillis.get(),
+            uploadQueueTimeMsMovingAverageReference.get().getAverage(),
             directoryFileTransferTracker.stats()
         );
     }
@@ -424,6 +468,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
         public final long totalUploadTimeInMs;
         public final double uploadTimeMovingAverage;
         public final long bytesLag;
+        public final long totalUploadQueueTimeInMs;
+        public final double uploadQueueTimeMovingAverage;
         public final DirectoryFileTransferTracker.Stats directoryFileTransferTrackerStats;
 
         public Stats(
@@ -447,6 +493,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             double uploadTimeMovingAverage,
             long bytesLag,
             long totalUploadTimeInMs,
+            long totalUploadQueueTimeInMs,
+            double uploadQueueTimeMovingAverage,
             DirectoryFileTransferTracker.Stats directoryFileTransferTrackerStats
         ) {
             this.shardId = shardId;
@@ -469,6 +517,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             this.uploadTimeMovingAverage = uploadTimeMovingAverage;
             this.bytesLag = bytesLag;
             this.totalUploadTimeInMs = totalUploadTimeInMs;
+            this.totalUploadQueueTimeInMs = totalUploadQueueTimeInMs;
+            this.uploadQueueTimeMovingAverage = uploadQueueTimeMovingAverage;
             this.directoryFileTransferTrackerStats = directoryFileTransferTrackerStats;
         }
 
@@ -495,6 +545,13 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 this.bytesLag = in.readLong();
                 this.totalUploadTimeInMs = in.readLong();
                 this.directoryFileTransferTrackerStats = in.readOptionalWriteable(DirectoryFileTransferTracker.Stats::new);
+                if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+                    this.totalUploadQueueTimeInMs = in.readLong();
+                    this.uploadQueueTimeMovingAverage = in.readDouble();
+                } else {
+                    this.totalUploadQueueTimeInMs = 0;
+                    this.uploadQueueTimeMovingAverage = 0;
+                }
             } catch (IOException e) {
                 throw e;
             }
@@ -523,6 +580,10 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             out.writeLong(bytesLag);
             out.writeLong(totalUploadTimeInMs);
             out.writeOptionalWriteable(directoryFileTransferTrackerStats);
+            if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+                out.writeLong(totalUploadQueueTimeInMs);
+                out.writeDouble(uploadQueueTimeMovingAverage);
+            }
         }
 
         @Override
@@ -551,6 +612,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 && Double.compare(this.uploadTimeMovingAverage, other.uploadTimeMovingAverage) == 0
                 && this.bytesLag == other.bytesLag
                 && this.totalUploadTimeInMs == other.totalUploadTimeInMs
+                && this.totalUploadQueueTimeInMs == other.totalUploadQueueTimeInMs
+                && Double.compare(this.uploadQueueTimeMovingAverage, other.uploadQueueTimeMovingAverage) == 0
                 && this.directoryFileTransferTrackerStats.equals(other.directoryFileTransferTrackerStats);
         }
 
@@ -577,6 +640,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 uploadTimeMovingAverage,
                 bytesLag,
                 totalUploadTimeInMs,
+                totalUploadQueueTimeInMs,
+                uploadQueueTimeMovingAverage,
                 directoryFileTransferTrackerStats
             );
         }
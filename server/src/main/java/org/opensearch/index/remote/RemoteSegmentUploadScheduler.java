@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.remote;
+
+import org.apache.lucene.store.RateLimiter;
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.blobstore.transfer.stream.OffsetRangeInputStream;
+import org.opensearch.common.blobstore.transfer.stream.RateLimitingOffsetRangeInputStream;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Node level scheduler of the segment uploads of all the remote store backed shards of a node.
+ * <p>
+ * At most {@link #MAX_CONCURRENT_UPLOADS_SETTING} segment files are uploaded at the same time, each of them possibly in parallel
+ * parts by the {@link org.opensearch.common.blobstore.AsyncMultiStreamBlobContainer} of the repository. Uploads that don't get a
+ * slot are queued. Small files, which are typically the output of a refresh and gate how fresh the remote copy is, go first.
+ * Large files, the output of merges, and low priority uploads, such as the ones of a recovery, may only take up half of the
+ * slots, and one of them is always allowed to run so that they cannot starve.
+ * <p>
+ * The bytes read by all the segment uploads of the node are also rate limited by {@link #MAX_BYTES_PER_SEC_SETTING}, on top of
+ * the rate limit of the repository.
+ * <p>
+ * Uploads are started on the given executor, rather than on the thread that schedules them or on the one that completes the
+ * previous upload, so that neither a refresh nor the callback of an upload ends up running the next upload.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.0.0")
+public class RemoteSegmentUploadScheduler {
+
+    public static final Setting<Integer> MAX_CONCURRENT_UPLOADS_SETTING = new Setting<>(
+        "remote_store.segment.upload.max_concurrent_uploads",
+        s -> Integer.toString(Math.max(4, 2 * OpenSearchExecutors.allocatedProcessors(s))),
+        s -> Setting.parseInt(s, 1, "remote_store.segment.upload.max_concurrent_uploads"),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> SMALL_FILE_THRESHOLD_SETTING = Setting.byteSizeSetting(
+        "remote_store.segment.upload.small_file_threshold",
+        new ByteSizeValue(32, ByteSizeUnit.MB),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> MAX_BYTES_PER_SEC_SETTING = Setting.byteSizeSetting(
+        "remote_store.segment.upload.max_bytes_per_sec",
+        ByteSizeValue.ZERO,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    private final Queue<Upload> smallUploads = new ArrayDeque<>();
+    private final Queue<Upload> largeUploads = new ArrayDeque<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Executor executor;
+    private final CounterMetric rateLimitingTimeInNanos = new CounterMetric();
+
+    private int maxConcurrentUploads;
+    private int inFlightUploads;
+    private int inFlightLargeUploads;
+    private volatile long smallFileThresholdInBytes;
+    private volatile RateLimiter rateLimiter;
+
+    public RemoteSegmentUploadScheduler(Settings settings, ClusterSettings clusterSettings, Executor executor) {
+        this.executor = executor;
+        this.maxConcurrentUploads = MAX_CONCURRENT_UPLOADS_SETTING.get(settings);
+        this.smallFileThresholdInBytes = SMALL_FILE_THRESHOLD_SETTING.get(settings).getBytes();
+        setMaxBytesPerSec(MAX_BYTES_PER_SEC_SETTING.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_UPLOADS_SETTING, this::setMaxConcurrentUploads);
+        clusterSettings.addSettingsUpdateConsumer(SMALL_FILE_THRESHOLD_SETTING, value -> smallFileThresholdInBytes = value.getBytes());
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_PER_SEC_SETTING, this::setMaxBytesPerSec);
+    }
+
+    /**
+     * Schedules the upload of a segment file.
+     *
+     * @param sizeInBytes the size of the file to upload
+     * @param lowPriority whether the upload is not on the critical path of the freshness of the remote store
+     * @param listener    the listener to notify once the upload completes
+     * @param upload      starts the upload, and completes the listener it is given once it is done
+     */
+    public void schedule(long sizeInBytes, boolean lowPriority, ActionListener<Void> listener, Consumer<ActionListener<Void>> upload) {
+        final boolean large = lowPriority || sizeInBytes > smallFileThresholdInBytes;
+        synchronized (this) {
+            (large ? largeUploads : smallUploads).add(new Upload(large, listener, upload));
+        }
+        drain();
+    }
+
+    /**
+     * Rate limits the given stream with the node wide budget for segment uploads.
+     */
+    public OffsetRangeInputStream maybeRateLimit(OffsetRangeInputStream stream) {
+        return new RateLimitingOffsetRangeInputStream(stream, () -> rateLimiter, rateLimitingTimeInNanos::inc);
+    }
+
+    public synchronized int getInFlightUploads() {
+        return inFlightUploads;
+    }
+
+    public synchronized int getQueuedUploads() {
+        return smallUploads.size() + largeUploads.size();
+    }
+
+    public long getRateLimitingTimeInNanos() {
+        return rateLimitingTimeInNanos.count();
+    }
+
+    /**
+     * Starts queued uploads as long as there are free slots. Uploads that complete on the thread that starts them, such as the
+     * ones with a direct executor, free their slot within the loop instead of recursing.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Upload next;
+            while ((next = pollNext()) != null) {
+                next.start();
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private synchronized Upload pollNext() {
+        if (inFlightUploads >= maxConcurrentUploads) {
+            return null;
+        }
+        final Upload next;
+        if (inFlightLargeUploads == 0 && largeUploads.isEmpty() == false) {
+            next = largeUploads.poll();
+        } else if (smallUploads.isEmpty() == false) {
+            next = smallUploads.poll();
+        } else if (inFlightLargeUploads < maxConcurrentLargeUploads()) {
+            next = largeUploads.poll();
+        } else {
+            next = null;
+        }
+        if (next != null) {
+            inFlightUploads++;
+            if (next.large) {
+                inFlightLargeUploads++;
+            }
+        }
+        return next;
+    }
+
+    private synchronized void release(Upload upload) {
+        inFlightUploads--;
+        if (upload.large) {
+            inFlightLargeUploads--;
+        }
+    }
+
+    private int maxConcurrentLargeUploads() {
+        return Math.max(1, maxConcurrentUploads / 2);
+    }
+
+    private void setMaxConcurrentUploads(int maxConcurrentUploads) {
+        synchronized (this) {
+            this.maxConcurrentUploads = maxConcurrentUploads;
+        }
+        drain();
+    }
+
+    private void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+        if (maxBytesPerSec.getBytes() <= 0) {
+            rateLimiter = null;
+        } else if (rateLimiter != null) {
+            rateLimiter.setMBPerSec(maxBytesPerSec.getMbFrac());
+        } else {
+            rateLimiter = new RateLimiter.SimpleRateLimiter(maxBytesPerSec.getMbFrac());
+        }
+    }
+
+    /**
+     * A queued upload.
+     */
+    private final class Upload {
+        private final boolean large;
+        private final ActionListener<Void> listener;
+        private final Consumer<ActionListener<Void>> upload;
+
+        private Upload(boolean large, ActionListener<Void> listener, Consumer<ActionListener<Void>> upload) {
+            this.large = large;
+            this.listener = listener;
+            this.upload = upload;
+        }
+
+        private void start() {
+            final ActionListener<Void> releasingListener = ActionListener.notifyOnce(ActionListener.runBefore(listener, () -> {
+                release(this);
+                drain();
+            }));
+            try {
+                executor.execute(() -> {
+                    try {
+                        upload.accept(releasingListener);
+                    } catch (Exception e) {
+                        releasingListener.onFailure(e);
+                    }
+                });
+            } catch (Exception e) {
+                // the executor rejected the upload, which releases its slot
+                releasingListener.onFailure(e);
+            }
+        }
+    }
+}
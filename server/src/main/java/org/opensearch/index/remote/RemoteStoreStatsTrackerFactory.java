@@ -19,6 +19,8 @@ import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.translog.transfer.TranslogUploadBatcher;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.util.Map;
 
@@ -59,11 +61,27 @@ public class RemoteStoreStatsTrackerFactory implements IndexEventListener {
      */
     private final Map<ShardId, RemoteTranslogTransferTracker> remoteTranslogTrackerMap = ConcurrentCollections.newConcurrentMap();
 
-    public RemoteStoreStatsTrackerFactory(ClusterService clusterService, Settings settings) {
+    /**
+     * Schedules the segment uploads of all the remote-backed index shards of the node.
+     */
+    private final RemoteSegmentUploadScheduler segmentUploadScheduler;
+
+    /**
+     * Batches the translog uploads of all the remote-backed index shards of the node.
+     */
+    private final TranslogUploadBatcher translogUploadBatcher;
+
+    public RemoteStoreStatsTrackerFactory(ClusterService clusterService, Settings settings, ThreadPool threadPool) {
         ClusterSettings clusterSettings = clusterService.getClusterSettings();
 
         this.movingAverageWindowSize = MOVING_AVERAGE_WINDOW_SIZE.get(settings);
         clusterSettings.addSettingsUpdateConsumer(MOVING_AVERAGE_WINDOW_SIZE, this::updateMovingAverageWindowSize);
+        this.segmentUploadScheduler = new RemoteSegmentUploadScheduler(
+            settings,
+            clusterSettings,
+            threadPool.executor(ThreadPool.Names.REMOTE_SEGMENT_UPLOAD)
+        );
+        this.translogUploadBatcher = new TranslogUploadBatcher(settings, clusterSettings);
     }
 
     @Override
@@ -110,6 +128,14 @@ public class RemoteStoreStatsTrackerFactory implements IndexEventListener {
         return remoteTranslogTrackerMap.get(shardId);
     }
 
+    public RemoteSegmentUploadScheduler getSegmentUploadScheduler() {
+        return segmentUploadScheduler;
+    }
+
+    public TranslogUploadBatcher getTranslogUploadBatcher() {
+        return translogUploadBatcher;
+    }
+
     // visible for testing
     int getMovingAverageWindowSize() {
         return movingAverageWindowSize;
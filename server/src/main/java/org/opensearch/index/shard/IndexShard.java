@@ -41,6 +41,7 @@ import org.apache.lucene.index.FilterDirectoryReader;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexFileNames;
 import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
@@ -189,6 +190,7 @@ import org.opensearch.indices.recovery.RecoveryListener;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.indices.replication.common.ReplicationTimer;
@@ -624,6 +626,29 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return recoverySettings;
     }
 
+    /**
+     * Publishes a segment that a merge just wrote to the replicas of this primary shard, so that they can copy its files before
+     * the checkpoint that references it is published. Returns once the replicas copied the files, or gave up.
+     *
+     * @param segmentCommitInfo the merged segment
+     */
+    public void publishMergedSegment(SegmentCommitInfo segmentCommitInfo) throws IOException {
+        assert shardRouting.primary() && indexSettings.isSegRepLocalEnabled();
+        final ReplicationCheckpoint latestCheckpoint = getLatestReplicationCheckpoint();
+        final Map<String, StoreFileMetadata> metadataMap = store.getSegmentMetadataMap(segmentCommitInfo);
+        final MergedSegmentCheckpoint checkpoint = new MergedSegmentCheckpoint(
+            shardId,
+            getOperationPrimaryTerm(),
+            latestCheckpoint.getSegmentsGen(),
+            latestCheckpoint.getSegmentInfosVersion(),
+            metadataMap.values().stream().mapToLong(StoreFileMetadata::length).sum(),
+            getEngine().config().getCodec().getName(),
+            metadataMap,
+            segmentCommitInfo.info.name
+        );
+        checkpointPublisher.publishMergedSegment(this, checkpoint);
+    }
+
     public RemoteStoreSettings getRemoteStoreSettings() {
         return remoteStoreSettings;
     }
@@ -3971,7 +3996,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     this,
                     this.checkpointPublisher,
                     remoteStoreStatsTrackerFactory.getRemoteSegmentTransferTracker(shardId()),
-                    remoteStoreSettings
+                    remoteStoreSettings,
+                    remoteStoreStatsTrackerFactory.getSegmentUploadScheduler()
                 )
             );
         }
@@ -4015,8 +4041,11 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             isReadOnlyReplica,
             this::enableUploadToRemoteTranslog,
             translogFactorySupplier.apply(indexSettings, shardRouting),
-            isTimeSeriesDescSortOptimizationEnabled() ? DataStream.TIMESERIES_LEAF_SORTER : null // DESC @timestamp default order for
+            isTimeSeriesDescSortOptimizationEnabled() ? DataStream.TIMESERIES_LEAF_SORTER : null, // DESC @timestamp default order for
             // timeseries
+            this.checkpointPublisher != null && shardRouting.primary() && indexSettings.isSegRepLocalEnabled()
+                ? new MergedSegmentWarmer(this)
+                : null
         );
     }
 
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.indices.recovery.RecoverySettings;
+
+/**
+ * An {@link IndexWriter.IndexReaderWarmer} that publishes large merged segments of a primary shard to its replicas as soon as
+ * the merge is over. The index writer only commits the merge once the warmer returns, so the files of the merged segment are
+ * copied while the primary keeps refreshing, and the round of replication to the checkpoint that publishes the merged segment
+ * only has to copy the small segments that were flushed meanwhile.
+ * This class is only used with Segment Replication enabled on the local store.
+ *
+ * @opensearch.internal
+ */
+class MergedSegmentWarmer implements IndexWriter.IndexReaderWarmer {
+
+    private static final Logger logger = LogManager.getLogger(MergedSegmentWarmer.class);
+
+    private final IndexShard indexShard;
+
+    MergedSegmentWarmer(IndexShard indexShard) {
+        this.indexShard = indexShard;
+    }
+
+    @Override
+    public void warm(LeafReader reader) {
+        final RecoverySettings recoverySettings = indexShard.getRecoverySettings();
+        if (recoverySettings.isMergedSegmentWarmerEnabled() == false
+            || indexShard.state() != IndexShardState.STARTED
+            || indexShard.getReplicationTracker().isPrimaryMode() == false) {
+            return;
+        }
+        try {
+            final SegmentCommitInfo segmentCommitInfo = Lucene.segmentReader(reader).getSegmentInfo();
+            if (segmentCommitInfo.sizeInBytes() < recoverySettings.getMergedSegmentWarmerMinSegmentSize().getBytes()) {
+                return;
+            }
+            indexShard.publishMergedSegment(segmentCommitInfo);
+        } catch (Exception e) {
+            // the replicas copy the merged segment with the next checkpoint instead, there is no need to fail the merge
+            logger.warn(() -> new ParameterizedMessage("{} failed to publish merged segment", indexShard.shardId()), e);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.engine.EngineException;
 import org.opensearch.index.engine.InternalEngine;
 import org.opensearch.index.remote.RemoteSegmentTransferTracker;
+import org.opensearch.index.remote.RemoteSegmentUploadScheduler;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.store.RemoteSegmentStoreDirectory;
 import org.opensearch.index.store.remote.metadata.RemoteSegmentMetadata;
@@ -92,12 +93,14 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
     private volatile Iterator<TimeValue> backoffDelayIterator;
     private final SegmentReplicationCheckpointPublisher checkpointPublisher;
     private final RemoteStoreSettings remoteStoreSettings;
+    private final RemoteSegmentUploadScheduler uploadScheduler;
 
     public RemoteStoreRefreshListener(
         IndexShard indexShard,
         SegmentReplicationCheckpointPublisher checkpointPublisher,
         RemoteSegmentTransferTracker segmentTracker,
-        RemoteStoreSettings remoteStoreSettings
+        RemoteStoreSettings remoteStoreSettings,
+        RemoteSegmentUploadScheduler uploadScheduler
     ) {
         super(indexShard.getThreadPool());
         logger = Loggers.getLogger(getClass(), indexShard.shardId());
@@ -121,6 +124,7 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
         resetBackOffDelayIterator();
         this.checkpointPublisher = checkpointPublisher;
         this.remoteStoreSettings = remoteStoreSettings;
+        this.uploadScheduler = uploadScheduler;
     }
 
     @Override
@@ -431,6 +435,7 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
         logger.debug("Effective new segments files to upload {}", filteredFiles);
         ActionListener<Collection<Void>> mappedListener = ActionListener.map(listener, resp -> null);
         GroupedActionListener<Void> batchUploadListener = new GroupedActionListener<>(mappedListener, filteredFiles.size());
+        final boolean lowPriorityUpload = isLowPriorityUpload();
 
         for (String src : filteredFiles) {
             // Initializing listener here to ensure that the stats increment operations are thread-safe
@@ -446,8 +451,13 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
                 statsListener.onFailure(src);
                 batchUploadListener.onFailure(ex);
             });
-            statsListener.beforeUpload(src);
-            remoteDirectory.copyFrom(storeDirectory, src, IOContext.DEFAULT, aggregatedListener, isLowPriorityUpload());
+            // The upload waits for a slot of the node level scheduler, which lets the small files of a refresh go ahead of merges
+            final long queuedAtNanos = System.nanoTime();
+            uploadScheduler.schedule(localSegmentsSizeMap.getOrDefault(src, 0L), lowPriorityUpload, aggregatedListener, uploadListener -> {
+                segmentTracker.addUploadQueueTimeInMillis(TimeValue.nsecToMSec(System.nanoTime() - queuedAtNanos));
+                statsListener.beforeUpload(src);
+                remoteDirectory.copyFrom(storeDirectory, src, IOContext.DEFAULT, uploadListener, lowPriorityUpload);
+            });
         }
     }
 
@@ -9,10 +9,13 @@
 package org.opensearch.index.store;
 
 import org.apache.lucene.store.Directory;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.transfer.stream.OffsetRangeInputStream;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.remote.RemoteSegmentUploadScheduler;
 import org.opensearch.index.remote.RemoteStorePathStrategy;
 import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.store.lockmanager.RemoteStoreLockManager;
@@ -27,6 +30,7 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static org.opensearch.index.remote.RemoteStoreEnums.DataCategory.SEGMENTS;
 import static org.opensearch.index.remote.RemoteStoreEnums.DataType.DATA;
@@ -43,9 +47,21 @@ public class RemoteSegmentStoreDirectoryFactory implements IndexStorePlugin.Dire
 
     private final ThreadPool threadPool;
 
+    @Nullable
+    private final RemoteSegmentUploadScheduler segmentUploadScheduler;
+
     public RemoteSegmentStoreDirectoryFactory(Supplier<RepositoriesService> repositoriesService, ThreadPool threadPool) {
+        this(repositoriesService, threadPool, null);
+    }
+
+    public RemoteSegmentStoreDirectoryFactory(
+        Supplier<RepositoriesService> repositoriesService,
+        ThreadPool threadPool,
+        @Nullable RemoteSegmentUploadScheduler segmentUploadScheduler
+    ) {
         this.repositoriesService = repositoriesService;
         this.threadPool = threadPool;
+        this.segmentUploadScheduler = segmentUploadScheduler;
     }
 
     @Override
@@ -74,9 +90,13 @@ public class RemoteSegmentStoreDirectoryFactory implements IndexStorePlugin.Dire
                 .build();
             // Derive the path for data directory of SEGMENTS
             BlobPath dataPath = pathStrategy.generatePath(dataPathInput);
+            // Segment uploads are rate limited by the repository, and by the node wide budget of the scheduler if there is one
+            UnaryOperator<OffsetRangeInputStream> uploadRateLimiter = segmentUploadScheduler == null
+                ? blobStoreRepository::maybeRateLimitRemoteUploadTransfers
+                : stream -> segmentUploadScheduler.maybeRateLimit(blobStoreRepository.maybeRateLimitRemoteUploadTransfers(stream));
             RemoteDirectory dataDirectory = new RemoteDirectory(
                 blobStoreRepository.blobStore().blobContainer(dataPath),
-                blobStoreRepository::maybeRateLimitRemoteUploadTransfers,
+                uploadRateLimiter,
                 blobStoreRepository::maybeRateLimitRemoteDownloadTransfers
             );
 
@@ -395,6 +395,17 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         }
     }
 
+    /**
+     * Segment Replication method
+     * Returns the metadata of the files of a single segment, such as the output of a merge that is not part of the latest
+     * {@link SegmentInfos} yet.
+     */
+    public Map<String, StoreFileMetadata> getSegmentMetadataMap(SegmentCommitInfo segmentCommitInfo) throws IOException {
+        assert indexSettings.isSegRepEnabledOrRemoteNode();
+        failIfCorrupted();
+        return MetadataSnapshot.loadMetadata(segmentCommitInfo, directory, logger);
+    }
+
     /**
      * Segment Replication method
      * Returns a diff between the Maps of StoreFileMetadata that can be used for getting list of files to copy over to a replica for segment replication. The returned diff will hold a list of files that are:
@@ -1199,6 +1210,22 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
             return new LoadedMetadata(unmodifiableMap(builder), unmodifiableMap(commitUserDataBuilder), numDocs);
         }
 
+        static Map<String, StoreFileMetadata> loadMetadata(SegmentCommitInfo segmentCommitInfo, Directory directory, Logger logger)
+            throws IOException {
+            final Map<String, StoreFileMetadata> builder = new HashMap<>();
+            for (String file : segmentCommitInfo.files()) {
+                checksumFromLuceneFile(
+                    directory,
+                    file,
+                    builder,
+                    logger,
+                    segmentCommitInfo.info.getVersion(),
+                    SEGMENT_INFO_EXTENSION.equals(IndexFileNames.getExtension(file))
+                );
+            }
+            return unmodifiableMap(builder);
+        }
+
         private static void checksumFromLuceneFile(
             Directory directory,
             String file,
@@ -10,6 +10,7 @@ package org.opensearch.index.store.remote.directory;
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
@@ -17,15 +18,20 @@ import org.apache.lucene.store.Lock;
 import org.apache.lucene.store.NoLockFactory;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
+import org.opensearch.index.store.remote.utils.BlobFetchRequest;
 import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -77,8 +83,69 @@ public final class RemoteSnapshotDirectory extends Directory {
         return new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager);
     }
 
+    /**
+     * Returns up to {@code max} of the blocks of the files of this directory that were read the most, the hottest first. Blocks
+     * are identified by the name of their file in the file cache.
+     */
+    public List<String> hotBlocks(int max) {
+        return transferManager.hotBlocks().hottest(max);
+    }
+
+    /**
+     * Fetches the given blocks into the file cache and waits for them, typically the {@link #hotBlocks} of this shard on the node
+     * it is relocating from. Blocks of files that are not part of this directory are ignored.
+     * @param blockFileNames the names of the files of the blocks in the file cache
+     * @return the number of bytes of the given blocks that are now in the file cache
+     */
+    public long warmBlocks(Collection<String> blockFileNames) throws IOException {
+        final Map<String, List<Integer>> blockIdsPerFile = new HashMap<>();
+        for (String blockFileName : blockFileNames) {
+            final int separator = blockFileName.lastIndexOf('.');
+            if (separator <= 0) {
+                continue;
+            }
+            final String physicalName = blockFileName.substring(0, separator);
+            final BlobStoreIndexShardSnapshot.FileInfo fileInfo = fileInfoMap.get(physicalName);
+            if (fileInfo == null || fileInfo.name().startsWith(VIRTUAL_FILE_PREFIX)) {
+                continue;
+            }
+            try {
+                final int blockId = Integer.parseInt(blockFileName.substring(separator + 1));
+                blockIdsPerFile.computeIfAbsent(physicalName, k -> new ArrayList<>()).add(blockId);
+            } catch (NumberFormatException e) {
+                // not a block file
+            }
+        }
+
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : blockIdsPerFile.entrySet()) {
+            // blocks are sorted so that the reads of adjacent blocks can be coalesced
+            final int[] blockIds = entry.getValue().stream().mapToInt(Integer::intValue).sorted().toArray();
+            try (
+                OnDemandBlockSnapshotIndexInput indexInput = new OnDemandBlockSnapshotIndexInput(
+                    fileInfoMap.get(entry.getKey()),
+                    localStoreDir,
+                    transferManager
+                )
+            ) {
+                blobFetchRequests.addAll(indexInput.getBlobFetchRequests(blockIds));
+            }
+        }
+        return transferManager.warmBlobs(blobFetchRequests);
+    }
+
+    /**
+     * Returns the remote snapshot directory that the given directory wraps, or null if it doesn't wrap one.
+     */
+    @Nullable
+    public static RemoteSnapshotDirectory unwrap(Directory directory) {
+        final Directory unwrapped = FilterDirectory.unwrap(directory);
+        return unwrapped instanceof RemoteSnapshotDirectory ? (RemoteSnapshotDirectory) unwrapped : null;
+    }
+
     @Override
     public void close() throws IOException {
+        transferManager.close();
         localStoreDir.close();
     }
 
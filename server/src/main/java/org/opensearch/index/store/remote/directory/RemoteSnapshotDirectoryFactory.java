@@ -94,7 +94,12 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
             assert indexShardSnapshot instanceof BlobStoreIndexShardSnapshot
                 : "indexShardSnapshot should be an instance of BlobStoreIndexShardSnapshot";
             final BlobStoreIndexShardSnapshot snapshot = (BlobStoreIndexShardSnapshot) indexShardSnapshot;
-            TransferManager transferManager = new TransferManager(blobContainer, remoteStoreFileCache);
+            // blocks read ahead of searches are downloaded like the files of remote store recoveries
+            TransferManager transferManager = new TransferManager(
+                blobContainer,
+                remoteStoreFileCache,
+                threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY)
+            );
             return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
         });
     }
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.file;
+
+/**
+ * Detects sequential and strided block accesses of an {@link OnDemandBlockIndexInput} and decides which blocks to fetch ahead
+ * of the reads.
+ * <p>
+ * An access pattern is established once two consecutive block switches move forward by the same number of blocks, the stride.
+ * The read-ahead window then starts at one block and doubles on every access that follows the pattern, up to the maximum, so
+ * that a short sequential scan doesn't download much more than it reads. Any other access resets the window. Blocks that were
+ * already requested are never requested again while the pattern holds.
+ * <p>
+ * Like {@link OnDemandBlockIndexInput}, this class is not thread safe, each clone has its own instance.
+ *
+ * @opensearch.internal
+ */
+final class BlockReadAhead {
+    private static final int[] NONE = new int[0];
+
+    private final int maxBlocks;
+
+    private int lastBlockId = -1;
+    private int stride;
+    private int window;
+
+    /**
+     * The furthest block requested ahead of the reads of the current pattern
+     */
+    private int readAheadUpTo;
+
+    BlockReadAhead(int maxBlocks) {
+        assert maxBlocks >= 0 : "maximum read-ahead must not be negative";
+        this.maxBlocks = maxBlocks;
+    }
+
+    /**
+     * Records a switch to the given block and returns the blocks to fetch ahead, in the order they would be read.
+     *
+     * @param blockId the block the input switched to
+     * @param lastBlockId the last block of the input, no block past it is returned
+     */
+    int[] onBlockSwitch(int blockId, int lastBlockId) {
+        if (maxBlocks == 0) {
+            return NONE;
+        }
+        final int delta = this.lastBlockId == -1 ? 0 : blockId - this.lastBlockId;
+        this.lastBlockId = blockId;
+        if (delta <= 0 || delta != stride) {
+            // random or backward access, or the first step of a new stride: wait for the pattern to repeat
+            stride = Math.max(delta, 0);
+            window = 0;
+            readAheadUpTo = blockId;
+            return NONE;
+        }
+
+        window = Math.min(maxBlocks, window == 0 ? 1 : window << 1);
+        final long to = Math.min((long) blockId + (long) window * stride, lastBlockId);
+        final long from = (long) Math.max(readAheadUpTo, blockId) + stride;
+        if (from > to) {
+            return NONE;
+        }
+        final int[] blocks = new int[(int) ((to - from) / stride) + 1];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = (int) (from + (long) i * stride);
+        }
+        readAheadUpTo = blocks[blocks.length - 1];
+        return blocks;
+    }
+}
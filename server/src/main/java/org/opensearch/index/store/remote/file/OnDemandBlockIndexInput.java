@@ -27,6 +27,9 @@ import java.util.Objects;
  * <br>
  * This class delegate the responsibility of actually fetching the block when demanded to its subclasses using
  * {@link OnDemandBlockIndexInput#fetchBlock(int)}.
+ * <br>
+ * Every instance tracks the blocks it switches to with a {@link BlockReadAhead}, and once its reads are sequential or strided
+ * it asks its subclass to fetch the next blocks in the background with {@link OnDemandBlockIndexInput#prefetchBlocks(int[])}.
  * <p>
  * Like {@link IndexInput}, this class may only be used from one thread as it is not thread safe.
  * However, a cleaning action may run from another thread triggered by the {@link Cleaner}, but
@@ -72,6 +75,11 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
     protected final int blockSize;
     protected final int blockMask;
 
+    /**
+     * Maximum number of blocks to fetch ahead of sequential or strided reads
+     */
+    protected final int maxReadAheadBlocks;
+
     /**
      * ID of the current block
      */
@@ -79,6 +87,8 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
 
     private final BlockHolder blockHolder = new BlockHolder();
 
+    private final BlockReadAhead readAhead;
+
     OnDemandBlockIndexInput(Builder builder) {
         super(builder.resourceDescription);
         this.isClone = builder.isClone;
@@ -87,6 +97,8 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
         this.blockSizeShift = builder.blockSizeShift;
         this.blockSize = builder.blockSize;
         this.blockMask = builder.blockMask;
+        this.maxReadAheadBlocks = builder.maxReadAheadBlocks;
+        this.readAhead = new BlockReadAhead(builder.maxReadAheadBlocks);
         CLEANER.register(this, blockHolder);
     }
 
@@ -102,6 +114,13 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Starts fetching the given blocks in the background, so that they are available by the time they are read. This must not
+     * block nor fail the read that triggered it. Does nothing by default.
+     * @param blockIds the blocks to fetch, in the order they are expected to be read
+     */
+    protected void prefetchBlocks(int[] blockIds) {}
+
     @Override
     public abstract OnDemandBlockIndexInput clone();
 
@@ -334,6 +353,14 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
     private void demandBlock(int blockId) throws IOException {
         if (blockHolder.block != null && currentBlockId == blockId) return;
 
+        if (length > 0) {
+            // start fetching the next blocks before blocking on this one
+            final int[] readAheadBlocks = readAhead.onBlockSwitch(blockId, getBlock(offset + length - 1));
+            if (readAheadBlocks.length > 0) {
+                prefetchBlocks(readAheadBlocks);
+            }
+        }
+
         // close the current block before jumping to the new block
         blockHolder.close();
 
@@ -376,6 +403,8 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
         // Block size shift (default value is 23 == 2^23 == 8MiB)
         public static final int DEFAULT_BLOCK_SIZE_SHIFT = 23;
         public static final int DEFAULT_BLOCK_SIZE = 1 << DEFAULT_BLOCK_SIZE_SHIFT;;
+        // Maximum read-ahead (default value is 4 blocks == 32MiB with the default block size)
+        public static final int DEFAULT_MAX_READ_AHEAD_BLOCKS = 4;
 
         private String resourceDescription;
         private boolean isClone;
@@ -384,6 +413,7 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
         private int blockSizeShift = DEFAULT_BLOCK_SIZE_SHIFT;
         private int blockSize = 1 << blockSizeShift;
         private int blockMask = blockSize - 1;
+        private int maxReadAheadBlocks = DEFAULT_MAX_READ_AHEAD_BLOCKS;
 
         private Builder() {}
 
@@ -414,6 +444,12 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
             this.blockMask = blockSize - 1;
             return this;
         }
+
+        Builder maxReadAheadBlocks(int maxReadAheadBlocks) {
+            assert maxReadAheadBlocks >= 0 : "maxReadAheadBlocks must be >= 0";
+            this.maxReadAheadBlocks = maxReadAheadBlocks;
+            return this;
+        }
     }
 
     /**
@@ -121,6 +121,7 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
         return new OnDemandBlockSnapshotIndexInput(
             OnDemandBlockIndexInput.builder()
                 .blockSizeShift(blockSizeShift)
+                .maxReadAheadBlocks(maxReadAheadBlocks)
                 .isClone(true)
                 .offset(this.offset + offset)
                 .length(length)
@@ -133,6 +134,35 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
 
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
+        return transferManager.fetchBlob(getBlobFetchRequest(blockId));
+    }
+
+    @Override
+    protected void prefetchBlocks(int[] blockIds) {
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>(blockIds.length);
+        for (int blockId : blockIds) {
+            blobFetchRequests.add(getBlobFetchRequest(blockId));
+        }
+        transferManager.prefetchBlobs(blobFetchRequests);
+    }
+
+    /**
+     * Returns the requests to fetch the given blocks of this file into the file cache, skipping the ids that are not blocks of
+     * this file.
+     * @param blockIds the blocks to fetch
+     */
+    public List<BlobFetchRequest> getBlobFetchRequests(int[] blockIds) {
+        final int lastBlockId = getBlock(originalFileSize - 1);
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>(blockIds.length);
+        for (int blockId : blockIds) {
+            if (blockId >= 0 && blockId <= lastBlockId) {
+                blobFetchRequests.add(getBlobFetchRequest(blockId));
+            }
+        }
+        return blobFetchRequests;
+    }
+
+    private BlobFetchRequest getBlobFetchRequest(int blockId) {
         final String blockFileName = fileName + "." + blockId;
 
         final long blockStart = getBlockStart(blockId);
@@ -140,12 +170,11 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
 
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     /**
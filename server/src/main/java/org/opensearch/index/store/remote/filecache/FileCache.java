@@ -11,8 +11,10 @@ package org.opensearch.index.store.remote.filecache;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.index.store.remote.utils.HotBlockTracker;
 import org.opensearch.index.store.remote.utils.cache.CacheUsage;
 import org.opensearch.index.store.remote.utils.cache.RefCountedCache;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
@@ -23,6 +25,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -52,6 +55,11 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
 
     private final CircuitBreaker circuitBreaker;
 
+    /**
+     * The trackers of the accesses to the blocks of the shards that read through this cache
+     */
+    private final Set<HotBlockTracker> hotBlockTrackers = ConcurrentCollections.newConcurrentSet();
+
     /**
      * Defines a limit of how much total remote data can be referenced as a ratio of the size of the disk reserved for
      * the file cache. For example, if 100GB disk space is configured for use as a file cache and the
@@ -207,12 +215,32 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
             });
     }
 
+    /**
+     * Adds the tracker of the block accesses of a shard to the ones reported in the {@link FileCacheStats}
+     */
+    public void addHotBlockTracker(HotBlockTracker hotBlockTracker) {
+        hotBlockTrackers.add(hotBlockTracker);
+    }
+
+    /**
+     * Removes the tracker of the block accesses of a shard once the shard is closed
+     */
+    public void removeHotBlockTracker(HotBlockTracker hotBlockTracker) {
+        hotBlockTrackers.remove(hotBlockTracker);
+    }
+
     /**
      * Returns the current {@link FileCacheStats}
      */
     public FileCacheStats fileCacheStats() {
         CacheStats stats = stats();
         CacheUsage usage = usage();
+        long trackedBlocks = 0;
+        long blockAccesses = 0;
+        for (HotBlockTracker hotBlockTracker : hotBlockTrackers) {
+            trackedBlocks += hotBlockTracker.trackedBlocks();
+            blockAccesses += hotBlockTracker.totalAccesses();
+        }
         return new FileCacheStats(
             System.currentTimeMillis(),
             usage.activeUsage(),
@@ -220,7 +248,9 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
             usage.usage(),
             stats.evictionWeight(),
             stats.hitCount(),
-            stats.missCount()
+            stats.missCount(),
+            trackedBlocks,
+            blockAccesses
         );
     }
 
@@ -14,6 +14,7 @@ import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 import static org.opensearch.ExceptionsHelper.catchAsRuntimeException;
 
@@ -45,6 +46,36 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build(), circuitBreaker);
     }
 
+    /**
+     * Creates a file cache whose hits don't take any lock, and that closes and deletes the files it evicts on the given executor
+     * rather than on the threads that add files to it. See {@link SegmentedCache.EvictionPolicy#CLOCK}.
+     */
+    public static FileCache createConcurrentClockFileCache(long capacity, CircuitBreaker circuitBreaker, Executor evictionExecutor) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity)
+                .evictionPolicy(SegmentedCache.EvictionPolicy.CLOCK)
+                .evictionExecutor(evictionExecutor)
+                .build(),
+            circuitBreaker
+        );
+    }
+
+    public static FileCache createConcurrentClockFileCache(
+        long capacity,
+        int concurrencyLevel,
+        CircuitBreaker circuitBreaker,
+        Executor evictionExecutor
+    ) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity)
+                .concurrencyLevel(concurrencyLevel)
+                .evictionPolicy(SegmentedCache.EvictionPolicy.CLOCK)
+                .evictionExecutor(evictionExecutor)
+                .build(),
+            circuitBreaker
+        );
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -33,6 +34,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long evicted;
     private final long hits;
     private final long misses;
+    private final long trackedBlocks;
+    private final long blockAccesses;
 
     public FileCacheStats(
         final long timestamp,
@@ -42,6 +45,20 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long evicted,
         final long hits,
         final long misses
+    ) {
+        this(timestamp, active, total, used, evicted, hits, misses, 0, 0);
+    }
+
+    public FileCacheStats(
+        final long timestamp,
+        final long active,
+        final long total,
+        final long used,
+        final long evicted,
+        final long hits,
+        final long misses,
+        final long trackedBlocks,
+        final long blockAccesses
     ) {
         this.timestamp = timestamp;
         this.active = active;
@@ -50,6 +67,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.evicted = evicted;
         this.hits = hits;
         this.misses = misses;
+        this.trackedBlocks = trackedBlocks;
+        this.blockAccesses = blockAccesses;
     }
 
     public FileCacheStats(final StreamInput in) throws IOException {
@@ -60,6 +79,13 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.evicted = in.readLong();
         this.hits = in.readLong();
         this.misses = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            this.trackedBlocks = in.readVLong();
+            this.blockAccesses = in.readVLong();
+        } else {
+            this.trackedBlocks = 0;
+            this.blockAccesses = 0;
+        }
     }
 
     public static short calculatePercentage(long used, long max) {
@@ -75,6 +101,10 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(evicted);
         out.writeLong(hits);
         out.writeLong(misses);
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeVLong(trackedBlocks);
+            out.writeVLong(blockAccesses);
+        }
     }
 
     public long getTimestamp() {
@@ -113,6 +143,21 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    /**
+     * Returns the number of blocks whose accesses are tracked to find the hottest blocks of the shards, that are warmed up when
+     * the shards relocate
+     */
+    public long getTrackedBlocks() {
+        return trackedBlocks;
+    }
+
+    /**
+     * Returns the number of block accesses recorded by the shards currently reading through the file cache
+     */
+    public long getBlockAccesses() {
+        return blockAccesses;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.FILE_CACHE);
@@ -125,6 +170,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.field(Fields.TRACKED_BLOCK_COUNT, getTrackedBlocks());
+        builder.field(Fields.BLOCK_ACCESS_COUNT, getBlockAccesses());
         builder.endObject();
         return builder;
     }
@@ -146,5 +193,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+
+        static final String TRACKED_BLOCK_COUNT = "tracked_block_count";
+        static final String BLOCK_ACCESS_COUNT = "block_access_count";
     }
 }
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the accesses to the file cache blocks of a shard, so that its hottest blocks can be warmed up on the node the shard
+ * relocates to.
+ * <p>
+ * Blocks are identified by the name of their file in the file cache, that is the name of the Lucene file followed by the block
+ * id. The number of tracked blocks is bounded: once it reaches twice the maximum, only the most accessed blocks are kept and
+ * their counts are halved, so that blocks that used to be hot don't stay on top forever.
+ * <p>
+ * This class is thread safe. Counts are approximate while the tracker is being pruned.
+ *
+ * @opensearch.internal
+ */
+public final class HotBlockTracker {
+    public static final int DEFAULT_MAX_TRACKED_BLOCKS = 1024;
+
+    private static final Comparator<Map.Entry<String, Long>> HOTTEST_FIRST = Map.Entry.<String, Long>comparingByValue()
+        .reversed()
+        .thenComparing(Map.Entry.comparingByKey());
+
+    private final int maxTrackedBlocks;
+    private final ConcurrentHashMap<String, LongAdder> accesses = new ConcurrentHashMap<>();
+    private final AtomicBoolean pruning = new AtomicBoolean();
+    private final LongAdder totalAccesses = new LongAdder();
+
+    public HotBlockTracker() {
+        this(DEFAULT_MAX_TRACKED_BLOCKS);
+    }
+
+    public HotBlockTracker(int maxTrackedBlocks) {
+        if (maxTrackedBlocks <= 0) {
+            throw new IllegalArgumentException("maxTrackedBlocks must be greater than 0, got [" + maxTrackedBlocks + "]");
+        }
+        this.maxTrackedBlocks = maxTrackedBlocks;
+    }
+
+    /**
+     * Records an access to the given block.
+     */
+    public void record(String blockFileName) {
+        LongAdder counter = accesses.get(blockFileName);
+        if (counter == null) {
+            counter = accesses.computeIfAbsent(blockFileName, k -> new LongAdder());
+        }
+        counter.increment();
+        totalAccesses.increment();
+        if (accesses.size() >= maxTrackedBlocks << 1 && pruning.compareAndSet(false, true)) {
+            try {
+                prune();
+            } finally {
+                pruning.set(false);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code max} of the most accessed blocks, the hottest first.
+     */
+    public List<String> hottest(int max) {
+        final List<Map.Entry<String, Long>> entries = sortedEntries();
+        final List<String> hottest = new ArrayList<>(Math.min(max, entries.size()));
+        for (int i = 0; i < entries.size() && i < max; i++) {
+            hottest.add(entries.get(i).getKey());
+        }
+        return hottest;
+    }
+
+    /**
+     * Returns the number of blocks currently tracked.
+     */
+    public int trackedBlocks() {
+        return accesses.size();
+    }
+
+    /**
+     * Returns the number of accesses recorded since this tracker was created.
+     */
+    public long totalAccesses() {
+        return totalAccesses.sum();
+    }
+
+    private void prune() {
+        final List<Map.Entry<String, Long>> entries = sortedEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            final Map.Entry<String, Long> entry = entries.get(i);
+            if (i < maxTrackedBlocks) {
+                final LongAdder counter = accesses.get(entry.getKey());
+                if (counter != null) {
+                    counter.add(-(entry.getValue() >> 1));
+                }
+            } else {
+                accesses.remove(entry.getKey());
+            }
+        }
+    }
+
+    private List<Map.Entry<String, Long>> sortedEntries() {
+        final List<Map.Entry<String, Long>> entries = new ArrayList<>(accesses.size());
+        for (Map.Entry<String, LongAdder> entry : accesses.entrySet()) {
+            entries.add(Map.entry(entry.getKey(), entry.getValue().sum()));
+        }
+        entries.sort(HOTTEST_FIRST);
+        return entries;
+    }
+}
@@ -12,12 +12,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.io.Streams;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCachedIndexInput;
 
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -26,9 +29,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * This acts as entry point to fetch {@link BlobFetchRequest} and return actual {@link IndexInput}. Utilizes the BlobContainer interface to
@@ -41,10 +49,22 @@ public class TransferManager {
 
     private final BlobContainer blobContainer;
     private final FileCache fileCache;
+    @Nullable
+    private final Executor prefetchExecutor;
+    private final HotBlockTracker hotBlocks = new HotBlockTracker();
 
     public TransferManager(final BlobContainer blobContainer, final FileCache fileCache) {
+        this(blobContainer, fileCache, null);
+    }
+
+    /**
+     * @param prefetchExecutor the executor to fetch blobs in the background on, prefetching is disabled if it is null
+     */
+    public TransferManager(final BlobContainer blobContainer, final FileCache fileCache, @Nullable final Executor prefetchExecutor) {
         this.blobContainer = blobContainer;
         this.fileCache = fileCache;
+        this.prefetchExecutor = prefetchExecutor;
+        fileCache.addHotBlockTracker(hotBlocks);
     }
 
     /**
@@ -55,8 +75,102 @@ public class TransferManager {
     public IndexInput fetchBlob(BlobFetchRequest blobFetchRequest) throws IOException {
 
         final Path key = blobFetchRequest.getFilePath();
+        hotBlocks.record(blobFetchRequest.getFileName());
+
+        final CachedIndexInput cacheEntry = computeCacheEntry(blobFetchRequest);
+
+        // Cache entry was either retrieved from the cache or newly added, either
+        // way the reference count has been incremented by one. We can only
+        // decrement this reference _after_ creating the clone to be returned.
+        try {
+            return cacheEntry.getIndexInput().clone();
+        } finally {
+            fileCache.decRef(key);
+        }
+    }
+
+    /**
+     * Starts fetching the given blobs into the file cache in the background, skipping those that are already cached or being
+     * fetched. Adjacent blob parts, such as those of consecutive blocks of a file, are coalesced into a single ranged read. A
+     * later {@link #fetchBlob} of one of these blobs waits for its prefetch rather than fetching it again.
+     * <p>
+     * This never blocks nor fails: blobs whose prefetch could not be started are fetched on demand as usual.
+     * @param blobFetchRequests the blobs to fetch, in the order they are expected to be read
+     */
+    public void prefetchBlobs(List<BlobFetchRequest> blobFetchRequests) {
+        if (prefetchExecutor == null || blobFetchRequests.isEmpty()) {
+            return;
+        }
+        // every entry returned by compute holds a reference, so that it can't be evicted before the prefetch completes
+        final List<DelayedCreationCachedIndexInput> entries = new ArrayList<>(blobFetchRequests.size());
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            final Path key = blobFetchRequest.getFilePath();
+            final CachedIndexInput cacheEntry = computeCacheEntry(blobFetchRequest);
+            if (cacheEntry instanceof DelayedCreationCachedIndexInput) {
+                final DelayedCreationCachedIndexInput delayedEntry = (DelayedCreationCachedIndexInput) cacheEntry;
+                if (delayedEntry.isStarted() == false) {
+                    entries.add(delayedEntry);
+                    continue;
+                }
+            }
+            // already cached or being fetched
+            fileCache.decRef(key);
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            prefetchExecutor.execute(() -> prefetch(entries));
+        } catch (RejectedExecutionException e) {
+            logger.debug("prefetch of [{}] blobs rejected", entries.size());
+            releaseAll(entries);
+        }
+    }
+
+    /**
+     * Fetches the given blobs into the file cache and waits for them, coalescing the reads of adjacent blob parts like
+     * {@link #prefetchBlobs} does when prefetching is enabled. Unlike {@link #fetchBlob}, this doesn't count as an access to
+     * the blobs.
+     * @param blobFetchRequests the blobs to fetch
+     * @return the number of bytes of the given blobs that are now in the file cache
+     */
+    public long warmBlobs(List<BlobFetchRequest> blobFetchRequests) throws IOException {
+        prefetchBlobs(blobFetchRequests);
+        long bytes = 0;
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            final Path key = blobFetchRequest.getFilePath();
+            final CachedIndexInput cacheEntry = computeCacheEntry(blobFetchRequest);
+            try {
+                // waits for the prefetch of the blob, or fetches it if it wasn't prefetched
+                cacheEntry.getIndexInput();
+                bytes += blobFetchRequest.getBlobLength();
+            } finally {
+                fileCache.decRef(key);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the accesses to the blobs fetched by this transfer manager, that is to the blocks of the files of a shard.
+     */
+    public HotBlockTracker hotBlocks() {
+        return hotBlocks;
+    }
 
-        final CachedIndexInput cacheEntry = fileCache.compute(key, (path, cachedIndexInput) -> {
+    /**
+     * Stops reporting the accesses to the blobs of this transfer manager in the stats of the file cache, once the files it reads
+     * are closed.
+     */
+    public void close() {
+        fileCache.removeHotBlockTracker(hotBlocks);
+    }
+
+    /**
+     * Returns the cache entry of the given blob, creating one if needed, with its reference count incremented by one.
+     */
+    private CachedIndexInput computeCacheEntry(BlobFetchRequest blobFetchRequest) {
+        return fileCache.compute(blobFetchRequest.getFilePath(), (path, cachedIndexInput) -> {
             if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
                 // Doesn't exist or is closed, either way create a new one
                 return new DelayedCreationCachedIndexInput(fileCache, blobContainer, blobFetchRequest);
@@ -65,14 +179,111 @@ public class TransferManager {
                 return cachedIndexInput;
             }
         });
+    }
 
-        // Cache entry was either retrieved from the cache or newly added, either
-        // way the reference count has been incremented by one. We can only
-        // decrement this reference _after_ creating the clone to be returned.
+    @SuppressWarnings("removal")
+    private void prefetch(List<DelayedCreationCachedIndexInput> entries) {
         try {
-            return cacheEntry.getIndexInput().clone();
+            // entries that were requested since they were added are already being fetched by their reader
+            final List<DelayedCreationCachedIndexInput> toDownload = new ArrayList<>(entries.size());
+            for (DelayedCreationCachedIndexInput entry : entries) {
+                if (entry.tryStart()) {
+                    if (Files.exists(entry.request.getFilePath())) {
+                        entry.create(() -> createIndexInput(fileCache, blobContainer, entry.request));
+                    } else {
+                        toDownload.add(entry);
+                    }
+                }
+            }
+            if (toDownload.isEmpty() == false) {
+                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                    downloadCoalesced(toDownload);
+                    return null;
+                });
+            }
         } finally {
-            fileCache.decRef(key);
+            releaseAll(entries);
+        }
+    }
+
+    /**
+     * Downloads the blobs of the given entries, reading each run of adjacent blob parts with a single ranged read. If a ranged
+     * read fails, the entries it didn't complete are downloaded one by one instead.
+     */
+    private void downloadCoalesced(List<DelayedCreationCachedIndexInput> entries) {
+        final List<BlobFetchRequest.BlobPart> parts = new ArrayList<>();
+        for (DelayedCreationCachedIndexInput entry : entries) {
+            parts.addAll(entry.request.blobParts());
+        }
+        // the length of the ranged read starting at each part, or 0 if the part continues the previous range
+        final long[] rangeLengths = new long[parts.size()];
+        for (int i = 0, start = 0; i < parts.size(); i++) {
+            final BlobFetchRequest.BlobPart part = parts.get(i);
+            if (i > 0 && isAdjacent(parts.get(i - 1), part)) {
+                rangeLengths[start] += part.getLength();
+            } else {
+                start = i;
+                rangeLengths[start] = part.getLength();
+            }
+        }
+
+        InputStream range = null;
+        int partIndex = 0;
+        int entryIndex = 0;
+        try {
+            for (; entryIndex < entries.size(); entryIndex++) {
+                final BlobFetchRequest request = entries.get(entryIndex).request;
+                try (
+                    OutputStream fileOutputStream = Files.newOutputStream(request.getFilePath());
+                    OutputStream localFileOutputStream = new BufferedOutputStream(fileOutputStream)
+                ) {
+                    for (BlobFetchRequest.BlobPart blobPart : request.blobParts()) {
+                        if (rangeLengths[partIndex] > 0) {
+                            if (range != null) {
+                                range.close();
+                            }
+                            range = blobContainer.readBlob(blobPart.getBlobName(), blobPart.getPosition(), rangeLengths[partIndex]);
+                        }
+                        partIndex++;
+                        final long copied = Streams.limitStream(range, blobPart.getLength()).transferTo(localFileOutputStream);
+                        if (copied != blobPart.getLength()) {
+                            throw new EOFException(
+                                "expected [" + blobPart.getLength() + "] bytes of [" + blobPart.getBlobName() + "], got [" + copied + "]"
+                            );
+                        }
+                    }
+                }
+                entries.get(entryIndex).create(() -> openIndexInput(fileCache, request));
+            }
+        } catch (Exception e) {
+            logger.debug("coalesced prefetch failed, fetching the remaining blobs one by one", e);
+            for (; entryIndex < entries.size(); entryIndex++) {
+                final DelayedCreationCachedIndexInput entry = entries.get(entryIndex);
+                try {
+                    Files.deleteIfExists(entry.request.getFilePath());
+                } catch (IOException inner) {
+                    logger.debug("failed to delete partially prefetched file", inner);
+                }
+                entry.create(() -> createIndexInput(fileCache, blobContainer, entry.request));
+            }
+        } finally {
+            if (range != null) {
+                try {
+                    range.close();
+                } catch (IOException e) {
+                    logger.debug("failed to close blob stream", e);
+                }
+            }
+        }
+    }
+
+    private static boolean isAdjacent(BlobFetchRequest.BlobPart previous, BlobFetchRequest.BlobPart next) {
+        return previous.getBlobName().equals(next.getBlobName()) && previous.getPosition() + previous.getLength() == next.getPosition();
+    }
+
+    private void releaseAll(List<DelayedCreationCachedIndexInput> entries) {
+        for (DelayedCreationCachedIndexInput entry : entries) {
+            fileCache.decRef(entry.request.getFilePath());
         }
     }
 
@@ -102,14 +313,22 @@ public class TransferManager {
                         }
                     }
                 }
-                final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.READ);
-                return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+                return openIndexInput(fileCache, request);
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
         });
     }
 
+    private static FileCachedIndexInput openIndexInput(FileCache fileCache, BlobFetchRequest request) {
+        try {
+            final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.READ);
+            return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Implementation of CachedIndexInput the defers creation of the underlying
      * IndexInput until the first invocation of {@link #getIndexInput()}. This
@@ -138,12 +357,7 @@ public class TransferManager {
             }
             if (isStarted.getAndSet(true) == false) {
                 // We're the first one here, need to download the block
-                try {
-                    result.complete(createIndexInput(fileCache, blobContainer, request));
-                } catch (Exception e) {
-                    result.completeExceptionally(e);
-                    fileCache.remove(request.getFilePath());
-                }
+                create(() -> createIndexInput(fileCache, blobContainer, request));
             }
             try {
                 return result.join();
@@ -157,6 +371,30 @@ public class TransferManager {
             }
         }
 
+        /**
+         * Claims the creation of the IndexInput, returns false if another thread already did.
+         */
+        private boolean tryStart() {
+            return isStarted.compareAndSet(false, true);
+        }
+
+        private boolean isStarted() {
+            return isStarted.get();
+        }
+
+        /**
+         * Completes the IndexInput, must only be called by the thread that claimed its creation.
+         */
+        private void create(Supplier<FileCachedIndexInput> supplier) {
+            assert isStarted.get();
+            try {
+                result.complete(supplier.get());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+                fileCache.remove(request.getFilePath());
+            }
+        }
+
         @Override
         public long length() {
             return request.getBlobLength();
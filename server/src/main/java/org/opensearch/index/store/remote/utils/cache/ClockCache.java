@@ -0,0 +1,486 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.Weigher;
+import org.opensearch.index.store.remote.utils.cache.stats.CacheStats;
+import org.opensearch.index.store.remote.utils.cache.stats.ConcurrentStatsCounter;
+import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * Concurrent implementation of {@link RefCountedCache} that approximates LRU with the CLOCK algorithm. As long as
+ * {@link Node#refCount} is greater than 0 then the node is not eligible for eviction, like with {@link LRUCache}.
+ * <br>
+ * Unlike {@link LRUCache}, this cache doesn't take any lock on hits: {@link #get} and {@link #incRef} are a lookup in a
+ * {@link ConcurrentHashMap} followed by a compare-and-set of the reference count, and they mark the entry as recently used by
+ * setting its reference bit rather than by moving it in a list. Insertions and removals only lock the bin of their key in the map.
+ * <br>
+ * Entries are kept in a queue in insertion order, the clock. Eviction scans the clock from its head: pinned entries and entries
+ * whose reference bit is set, which is cleared on the way, are moved to the tail, and the first unpinned entry that wasn't used
+ * since the last scan is evicted. Eviction, and thus the removal listener, runs on the given executor so that the threads that
+ * insert entries don't pay for it. At most one eviction runs at a time. If no executor is given, eviction runs on the thread that
+ * made the cache overflow, after the insertion completed.
+ *
+ * @see RefCountedCache
+ *
+ * @opensearch.internal
+ */
+class ClockCache<K, V> implements RefCountedCache<K, V> {
+    private static final Logger logger = LogManager.getLogger(ClockCache.class);
+
+    /**
+     * Minimum number of removed entries to leave in the clock before purging them
+     */
+    private static final int MIN_REMOVED_TO_PURGE = 64;
+
+    private final long capacity;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+
+    /** the clock, every entry of the cache is in it once, removed entries may stay in it until the next scan */
+    private final ConcurrentLinkedQueue<Node<K, V>> clock;
+
+    private final RemovalListener<K, V> listener;
+
+    private final Weigher<V> weigher;
+
+    private final StatsCounter<K> statsCounter;
+
+    @Nullable
+    private final Executor evictionExecutor;
+
+    private final AtomicBoolean evicting;
+
+    /**
+     * this tracks cache usage on the system (as long as cache entry is in the cache)
+     */
+    private final AtomicLong usage;
+
+    /**
+     * this tracks cache usage only by entries which are being referred ({@link Node#refCount > 0})
+     */
+    private final LongAdder activeUsage;
+
+    /**
+     * approximate number of explicitly removed entries that are still in the clock
+     */
+    private final AtomicInteger removedInClock;
+
+    static class Node<K, V> {
+        static final int REMOVED = -1;
+
+        final K key;
+
+        volatile V value;
+
+        volatile long weight;
+
+        /**
+         * the number of references, or {@link #REMOVED} once the node is no longer in the cache
+         */
+        final AtomicInteger refCount;
+
+        /**
+         * whether the node was used since the last time the clock hand passed it
+         */
+        volatile boolean referenced;
+
+        Node(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.refCount = new AtomicInteger(1);
+        }
+
+        /**
+         * Increments the reference count unless the node was removed, returns the previous reference count or {@link #REMOVED}.
+         */
+        int tryIncRef() {
+            for (;;) {
+                final int refCount = this.refCount.get();
+                if (refCount == REMOVED) {
+                    return REMOVED;
+                }
+                if (this.refCount.compareAndSet(refCount, refCount + 1)) {
+                    return refCount;
+                }
+            }
+        }
+
+        /**
+         * Decrements the reference count if it is positive, returns the new reference count or {@link #REMOVED} if it wasn't.
+         */
+        int decRef() {
+            for (;;) {
+                final int refCount = this.refCount.get();
+                if (refCount <= 0) {
+                    return REMOVED;
+                }
+                if (this.refCount.compareAndSet(refCount, refCount - 1)) {
+                    return refCount - 1;
+                }
+            }
+        }
+
+        boolean removed() {
+            return refCount.get() == REMOVED;
+        }
+    }
+
+    /**
+     * The outcome of a mutation of the map, to act on once the lock of its bin is released
+     */
+    private static class Mutation<K, V> {
+        Node<K, V> added;
+        Node<K, V> removed;
+        int removedRefCount;
+        V previousValue;
+        V replacedValue;
+        V result;
+    }
+
+    ClockCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher, @Nullable Executor evictionExecutor) {
+        this.capacity = capacity;
+        this.listener = listener;
+        this.weigher = weigher;
+        this.evictionExecutor = evictionExecutor;
+        this.data = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.statsCounter = new ConcurrentStatsCounter<>();
+        this.evicting = new AtomicBoolean();
+        this.usage = new AtomicLong();
+        this.activeUsage = new LongAdder();
+        this.removedInClock = new AtomicInteger();
+    }
+
+    @Override
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null) {
+            final int refCount = node.tryIncRef();
+            if (refCount != Node.REMOVED) {
+                // hit
+                onIncRef(node, refCount);
+                statsCounter.recordHits(key, 1);
+                return node.value;
+            }
+        }
+        // miss
+        statsCounter.recordMisses(key, 1);
+        return null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        final Mutation<K, V> mutation = new Mutation<>();
+        data.compute(key, (k, node) -> {
+            if (node != null) {
+                final int refCount = node.tryIncRef();
+                if (refCount != Node.REMOVED) {
+                    onIncRef(node, refCount);
+                    mutation.previousValue = node.value;
+                    mutation.replacedValue = replaceValue(node, value);
+                    return node;
+                }
+            }
+            return mutation.added = new Node<>(k, value, weigher.weightOf(value));
+        });
+        afterMutation(key, mutation);
+        return mutation.previousValue;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(remappingFunction);
+        final Mutation<K, V> mutation = new Mutation<>();
+        data.compute(key, (k, node) -> {
+            final boolean exists = node != null && node.removed() == false;
+            final V newValue = remappingFunction.apply(k, exists ? node.value : null);
+            if (newValue == null) {
+                if (exists) {
+                    // Remapping function asked for removal
+                    final int refCount = node.refCount.getAndSet(Node.REMOVED);
+                    if (refCount != Node.REMOVED) {
+                        mutation.removed = node;
+                        mutation.removedRefCount = refCount;
+                    }
+                }
+                return null;
+            }
+            if (exists) {
+                final int refCount = node.tryIncRef();
+                if (refCount != Node.REMOVED) {
+                    onIncRef(node, refCount);
+                    statsCounter.recordHits(k, 1);
+                    mutation.replacedValue = replaceValue(node, newValue);
+                    mutation.result = newValue;
+                    return node;
+                }
+                // evicted concurrently, add the new value as a new entry
+            }
+            statsCounter.recordMisses(k, 1);
+            mutation.result = newValue;
+            return mutation.added = new Node<>(k, newValue, weigher.weightOf(newValue));
+        });
+        afterMutation(key, mutation);
+        return mutation.result;
+    }
+
+    @Override
+    public void remove(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.remove(key);
+        if (node != null) {
+            final int refCount = node.refCount.getAndSet(Node.REMOVED);
+            if (refCount != Node.REMOVED) {
+                onRemoval(node, refCount, RemovalReason.EXPLICIT);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Node<K, V> node : data.values()) {
+            if (data.remove(node.key, node)) {
+                final int refCount = node.refCount.getAndSet(Node.REMOVED);
+                if (refCount != Node.REMOVED) {
+                    onRemoval(node, refCount, RemovalReason.EXPLICIT);
+                }
+            }
+        }
+        clock.removeIf(Node::removed);
+        removedInClock.set(0);
+    }
+
+    @Override
+    public long size() {
+        return data.size();
+    }
+
+    @Override
+    public void incRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null) {
+            final int refCount = node.tryIncRef();
+            if (refCount != Node.REMOVED) {
+                onIncRef(node, refCount);
+            }
+        }
+    }
+
+    @Override
+    public void decRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null && node.decRef() == 0) {
+            // if it was active, we should remove its weight from active usage
+            activeUsage.add(-node.weight);
+        }
+    }
+
+    @Override
+    public long prune(Predicate<K> keyPredicate) {
+        long sum = 0L;
+        for (Node<K, V> node : data.values()) {
+            if (keyPredicate != null && !keyPredicate.test(node.key)) {
+                continue;
+            }
+            if (node.refCount.compareAndSet(0, Node.REMOVED)) {
+                data.remove(node.key, node);
+                sum += node.weight;
+                onRemoval(node, 0, RemovalReason.EXPLICIT);
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public CacheUsage usage() {
+        return new CacheUsage(usage.get(), activeUsage.sum());
+    }
+
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    private void onIncRef(Node<K, V> node, int previousRefCount) {
+        if (previousRefCount == 0) {
+            // if it was inactive, we should add the weight to active usage from now
+            activeUsage.add(node.weight);
+        }
+        // only write the reference bit if needed, so that hits on a hot entry don't keep invalidating its cache line
+        if (node.referenced == false) {
+            node.referenced = true;
+        }
+    }
+
+    /**
+     * Replaces the value of a referenced node, returns the replaced value if it is not the same instance as the new one.
+     */
+    private V replaceValue(Node<K, V> node, V newValue) {
+        final V oldValue = node.value;
+        if (oldValue == newValue) {
+            return null;
+        }
+        final long newWeight = weigher.weightOf(newValue);
+        final long weightDiff = newWeight - node.weight;
+        node.value = newValue;
+        node.weight = newWeight;
+        usage.addAndGet(weightDiff);
+        activeUsage.add(weightDiff);
+        statsCounter.recordReplacement();
+        return oldValue;
+    }
+
+    private void afterMutation(K key, Mutation<K, V> mutation) {
+        if (mutation.removed != null) {
+            onRemoval(mutation.removed, mutation.removedRefCount, RemovalReason.EXPLICIT);
+        }
+        if (mutation.replacedValue != null) {
+            listener.onRemoval(new RemovalNotification<>(key, mutation.replacedValue, RemovalReason.REPLACED));
+        }
+        if (mutation.added != null) {
+            final Node<K, V> node = mutation.added;
+            clock.offer(node);
+            usage.addAndGet(node.weight);
+            activeUsage.add(node.weight);
+        }
+        if (mutation.added != null || mutation.replacedValue != null) {
+            maybeEvict();
+        }
+    }
+
+    private void onRemoval(Node<K, V> node, int refCount, RemovalReason reason) {
+        usage.addAndGet(-node.weight);
+        if (refCount > 0) {
+            activeUsage.add(-node.weight);
+        }
+        if (reason == RemovalReason.CAPACITY) {
+            statsCounter.recordEviction(node.weight);
+        } else {
+            statsCounter.recordRemoval(node.weight);
+            if (removedInClock.incrementAndGet() > Math.max(MIN_REMOVED_TO_PURGE, data.size())) {
+                purgeRemoved();
+            }
+        }
+        listener.onRemoval(new RemovalNotification<>(node.key, node.value, reason));
+    }
+
+    /**
+     * Removes the removed entries from the clock, so that it doesn't grow if entries are removed faster than they are evicted.
+     */
+    private void purgeRemoved() {
+        final AtomicInteger purged = new AtomicInteger();
+        clock.removeIf(node -> {
+            if (node.removed()) {
+                purged.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
+        removedInClock.addAndGet(-purged.get());
+    }
+
+    private boolean hasOverflowed() {
+        return usage.get() >= capacity;
+    }
+
+    private void maybeEvict() {
+        if (hasOverflowed() && evicting.compareAndSet(false, true)) {
+            if (evictionExecutor == null) {
+                runEviction();
+                return;
+            }
+            try {
+                evictionExecutor.execute(this::runEviction);
+            } catch (RejectedExecutionException e) {
+                runEviction();
+            }
+        }
+    }
+
+    private void runEviction() {
+        boolean again;
+        do {
+            boolean evicted = false;
+            try {
+                evicted = evict();
+            } catch (RuntimeException e) {
+                logger.warn("failed to evict cache entries", e);
+            } finally {
+                evicting.set(false);
+            }
+            // entries may have been added while the eviction flag was set, give up if everything left is pinned
+            again = evicted && hasOverflowed() && evicting.compareAndSet(false, true);
+        } while (again);
+    }
+
+    /**
+     * Advances the clock hand until the cache no longer overflows, or until every entry was visited twice so that entries that
+     * were used since the last scan can be evicted too. Returns whether any entry was evicted.
+     */
+    private boolean evict() {
+        boolean evicted = false;
+        long remaining = 2L * (data.size() + Math.max(removedInClock.get(), 0)) + 1;
+        while (hasOverflowed() && remaining-- > 0) {
+            final Node<K, V> node = clock.poll();
+            if (node == null) {
+                break;
+            }
+            if (node.removed()) {
+                removedInClock.decrementAndGet();
+                continue;
+            }
+            if (node.refCount.get() > 0) {
+                // pinned
+                clock.offer(node);
+                continue;
+            }
+            if (node.referenced) {
+                // second chance
+                node.referenced = false;
+                clock.offer(node);
+                continue;
+            }
+            if (node.refCount.compareAndSet(0, Node.REMOVED)) {
+                data.remove(node.key, node);
+                onRemoval(node, 0, RemovalReason.CAPACITY);
+                evicted = true;
+            } else {
+                // referenced or removed concurrently
+                clock.offer(node);
+            }
+        }
+        return evicted;
+    }
+}
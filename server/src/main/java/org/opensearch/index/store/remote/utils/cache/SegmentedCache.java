@@ -8,17 +8,19 @@
 
 package org.opensearch.index.store.remote.utils.cache;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.cache.Weigher;
 import org.opensearch.index.store.remote.utils.cache.stats.CacheStats;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 /**
- * Segmented {@link LRUCache} to offer concurrent access with less contention.
+ * Segmented {@link LRUCache} or {@link ClockCache} to offer concurrent access with less contention.
  * @param <K> type of the key
  * @param <V> type of th value
  *
@@ -56,7 +58,16 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            switch (builder.evictionPolicy) {
+                case LRU:
+                    table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+                    break;
+                case CLOCK:
+                    table[i] = new ClockCache<>(perSegmentCapacity, builder.listener, builder.weigher, builder.evictionExecutor);
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown eviction policy [" + builder.evictionPolicy + "]");
+            }
         }
     }
 
@@ -183,6 +194,20 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         return new CacheStats(hitCount, missCount, removeCount, removeWeight, replaceCount, evictionCount, evictionWeight);
     }
 
+    /**
+     * How the segments of the cache pick the entries to evict.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Exact LRU. Every operation, including hits, locks the segment, and eviction runs on the thread that inserts an entry.
+         */
+        LRU,
+        /**
+         * CLOCK approximation of LRU. Hits don't lock anything, and each segment evicts on the eviction executor, if any.
+         */
+        CLOCK
+    }
+
     enum SingletonWeigher implements Weigher<Object> {
         INSTANCE;
 
@@ -234,9 +259,15 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        EvictionPolicy evictionPolicy;
+
+        @Nullable
+        Executor evictionExecutor;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
+            evictionPolicy = EvictionPolicy.LRU;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
@@ -299,6 +330,32 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies how the segments pick the entries to evict (default {@link EvictionPolicy#LRU}).
+         *
+         * @param evictionPolicy the eviction policy of the segments
+         * @throws NullPointerException if the eviction policy is null
+         */
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            Objects.requireNonNull(evictionPolicy);
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         * Specifies the executor on which the segments evict entries and notify the listener of their eviction, with at most
+         * one eviction running per segment. Only used by the {@link EvictionPolicy#CLOCK} policy, which evicts on the thread
+         * that inserts an entry if no executor is specified.
+         *
+         * @param evictionExecutor the executor to evict entries on
+         * @throws NullPointerException if the executor is null
+         */
+        public Builder<K, V> evictionExecutor(Executor evictionExecutor) {
+            Objects.requireNonNull(evictionExecutor);
+            this.evictionExecutor = evictionExecutor;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
@@ -8,7 +8,9 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.index.remote.RemoteTranslogTransferTracker;
+import org.opensearch.index.translog.transfer.TranslogUploadBatcher;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
@@ -37,12 +39,26 @@ public class RemoteBlobStoreInternalTranslogFactory implements TranslogFactory {
 
     private final RemoteStoreSettings remoteStoreSettings;
 
+    @Nullable
+    private final TranslogUploadBatcher translogUploadBatcher;
+
     public RemoteBlobStoreInternalTranslogFactory(
         Supplier<RepositoriesService> repositoriesServiceSupplier,
         ThreadPool threadPool,
         String repositoryName,
         RemoteTranslogTransferTracker remoteTranslogTransferTracker,
         RemoteStoreSettings remoteStoreSettings
+    ) {
+        this(repositoriesServiceSupplier, threadPool, repositoryName, remoteTranslogTransferTracker, remoteStoreSettings, null);
+    }
+
+    public RemoteBlobStoreInternalTranslogFactory(
+        Supplier<RepositoriesService> repositoriesServiceSupplier,
+        ThreadPool threadPool,
+        String repositoryName,
+        RemoteTranslogTransferTracker remoteTranslogTransferTracker,
+        RemoteStoreSettings remoteStoreSettings,
+        @Nullable TranslogUploadBatcher translogUploadBatcher
     ) {
         Repository repository;
         try {
@@ -54,6 +70,7 @@ public class RemoteBlobStoreInternalTranslogFactory implements TranslogFactory {
         this.threadPool = threadPool;
         this.remoteTranslogTransferTracker = remoteTranslogTransferTracker;
         this.remoteStoreSettings = remoteStoreSettings;
+        this.translogUploadBatcher = translogUploadBatcher;
     }
 
     @Override
@@ -80,7 +97,8 @@ public class RemoteBlobStoreInternalTranslogFactory implements TranslogFactory {
             threadPool,
             startedPrimarySupplier,
             remoteTranslogTransferTracker,
-            remoteStoreSettings
+            remoteStoreSettings,
+            translogUploadBatcher
         );
     }
 
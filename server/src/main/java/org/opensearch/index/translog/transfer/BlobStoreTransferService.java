@@ -200,6 +200,11 @@ public class BlobStoreTransferService implements TransferService {
         return blobStore.blobContainer((BlobPath) path).readBlob(fileName);
     }
 
+    @Override
+    public InputStream downloadBlob(Iterable<String> path, String fileName, long position, long length) throws IOException {
+        return blobStore.blobContainer((BlobPath) path).readBlob(fileName, position, length);
+    }
+
     @Override
     @ExperimentalApi
     public InputStreamWithMetadata downloadBlobWithMetadata(Iterable<String> path, String fileName) throws IOException {
@@ -127,6 +127,17 @@ public interface TransferService {
      */
     InputStream downloadBlob(Iterable<String> path, String fileName) throws IOException;
 
+    /**
+     *
+     * @param path  the remote path from where download should be made
+     * @param fileName the name of the file
+     * @param position the position in the file to start reading from
+     * @param length the number of bytes to read
+     * @return inputstream of the given range of the remote file
+     * @throws IOException the exception while reading the data
+     */
+    InputStream downloadBlob(Iterable<String> path, String fileName, long position, long length) throws IOException;
+
     /**
      *
      * @param path  the remote path from where download should be made
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog.transfer;
+
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Location of the translog and checkpoint files of a translog generation that were uploaded as part of a batch blob written by
+ * the {@link TranslogUploadBatcher}, along with the files of other generations and other shards.
+ *
+ * @opensearch.internal
+ */
+public final class TranslogBatchLocation {
+
+    private final String blobName;
+
+    private final long translogOffset;
+
+    private final long translogLength;
+
+    private final long checkpointOffset;
+
+    private final long checkpointLength;
+
+    public TranslogBatchLocation(String blobName, long translogOffset, long translogLength, long checkpointOffset, long checkpointLength) {
+        this.blobName = Objects.requireNonNull(blobName);
+        this.translogOffset = translogOffset;
+        this.translogLength = translogLength;
+        this.checkpointOffset = checkpointOffset;
+        this.checkpointLength = checkpointLength;
+    }
+
+    static TranslogBatchLocation readFrom(DataInput in) throws IOException {
+        return new TranslogBatchLocation(in.readString(), in.readVLong(), in.readVLong(), in.readVLong(), in.readVLong());
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeString(blobName);
+        out.writeVLong(translogOffset);
+        out.writeVLong(translogLength);
+        out.writeVLong(checkpointOffset);
+        out.writeVLong(checkpointLength);
+    }
+
+    public String getBlobName() {
+        return blobName;
+    }
+
+    public long getTranslogOffset() {
+        return translogOffset;
+    }
+
+    public long getTranslogLength() {
+        return translogLength;
+    }
+
+    public long getCheckpointOffset() {
+        return checkpointOffset;
+    }
+
+    public long getCheckpointLength() {
+        return checkpointLength;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TranslogBatchLocation other = (TranslogBatchLocation) o;
+        return translogOffset == other.translogOffset
+            && translogLength == other.translogLength
+            && checkpointOffset == other.checkpointOffset
+            && checkpointLength == other.checkpointLength
+            && blobName.equals(other.blobName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(blobName, translogOffset, translogLength, checkpointOffset, checkpointLength);
+    }
+
+    @Override
+    public String toString() {
+        return "TranslogBatchLocation{"
+            + "blobName="
+            + blobName
+            + ", translog=["
+            + translogOffset
+            + "+"
+            + translogLength
+            + "], checkpoint=["
+            + checkpointOffset
+            + "+"
+            + checkpointLength
+            + "]}";
+    }
+}
@@ -13,6 +13,7 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.OutputStreamIndexOutput;
 import org.opensearch.action.LatchedActionListener;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.BlobPath;
@@ -22,12 +23,15 @@ import org.opensearch.common.io.VersionedCodecStreamWrapper;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.remote.RemoteStoreUtils;
 import org.opensearch.index.remote.RemoteTranslogTransferTracker;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.transfer.TranslogUploadBatcher.BatchQueue;
+import org.opensearch.index.translog.transfer.TranslogUploadBatcher.BatchedGeneration;
 import org.opensearch.index.translog.transfer.listener.TranslogTransferListener;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.threadpool.ThreadPool;
@@ -47,6 +51,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static org.opensearch.index.translog.transfer.FileSnapshot.CheckpointFileSnapshot;
 import static org.opensearch.index.translog.transfer.FileSnapshot.TransferFileSnapshot;
 import static org.opensearch.index.translog.transfer.FileSnapshot.TranslogFileSnapshot;
 
@@ -64,6 +69,14 @@ public class TranslogTransferManager {
     private final FileTransferTracker fileTransferTracker;
     private final RemoteTranslogTransferTracker remoteTranslogTransferTracker;
     private final RemoteStoreSettings remoteStoreSettings;
+    @Nullable
+    private final BlobPath remoteBatchTransferPath;
+    @Nullable
+    private final TranslogUploadBatcher translogUploadBatcher;
+    @Nullable
+    private final BatchQueue batchQueue;
+    // Locations of the referenced generations that were uploaded as part of a batch blob rather than as their own files
+    private final Map<Long, TranslogBatchLocation> batchLocations = ConcurrentCollections.newConcurrentMap();
     private static final int METADATA_FILES_TO_FETCH = 10;
     // Flag to include checkpoint file data as translog file metadata during upload/download
     private final boolean isTranslogMetadataEnabled;
@@ -86,6 +99,34 @@ public class TranslogTransferManager {
         RemoteTranslogTransferTracker remoteTranslogTransferTracker,
         RemoteStoreSettings remoteStoreSettings,
         boolean isTranslogMetadataEnabled
+    ) {
+        this(
+            shardId,
+            transferService,
+            remoteDataTransferPath,
+            remoteMetadataTransferPath,
+            null,
+            fileTransferTracker,
+            remoteTranslogTransferTracker,
+            remoteStoreSettings,
+            isTranslogMetadataEnabled,
+            null,
+            null
+        );
+    }
+
+    public TranslogTransferManager(
+        ShardId shardId,
+        TransferService transferService,
+        BlobPath remoteDataTransferPath,
+        BlobPath remoteMetadataTransferPath,
+        @Nullable BlobPath remoteBatchTransferPath,
+        FileTransferTracker fileTransferTracker,
+        RemoteTranslogTransferTracker remoteTranslogTransferTracker,
+        RemoteStoreSettings remoteStoreSettings,
+        boolean isTranslogMetadataEnabled,
+        @Nullable TranslogUploadBatcher translogUploadBatcher,
+        @Nullable BatchQueue batchQueue
     ) {
         this.shardId = shardId;
         this.transferService = transferService;
@@ -96,6 +137,9 @@ public class TranslogTransferManager {
         this.remoteTranslogTransferTracker = remoteTranslogTransferTracker;
         this.remoteStoreSettings = remoteStoreSettings;
         this.isTranslogMetadataEnabled = isTranslogMetadataEnabled;
+        this.remoteBatchTransferPath = remoteBatchTransferPath;
+        this.translogUploadBatcher = translogUploadBatcher;
+        this.batchQueue = batchQueue;
     }
 
     public RemoteTranslogTransferTracker getRemoteTranslogTransferTracker() {
@@ -117,7 +161,13 @@ public class TranslogTransferManager {
         long prevUploadTimeInMillis = remoteTranslogTransferTracker.getTotalUploadTimeInMillis();
 
         try {
-            if (isTranslogMetadataEnabled) {
+            final List<BatchedGeneration> batch = prepareBatch(transferSnapshot);
+            if (batch != null) {
+                for (BatchedGeneration generation : batch) {
+                    toUpload.add(generation.getTranslogFile());
+                    toUpload.add(generation.getCheckpointFile());
+                }
+            } else if (isTranslogMetadataEnabled) {
                 toUpload.addAll(fileTransferTracker.exclusionFilter(transferSnapshot.getTranslogFileSnapshotWithMetadata()));
             } else {
                 toUpload.addAll(fileTransferTracker.exclusionFilter(transferSnapshot.getTranslogFileSnapshots()));
@@ -160,7 +210,11 @@ public class TranslogTransferManager {
             // TODO: Ideally each file's upload start time should be when it is actually picked for upload
             // https://github.com/opensearch-project/OpenSearch/issues/9729
             fileTransferTracker.recordFileTransferStartTime(uploadStartTime);
-            transferService.uploadBlobs(toUpload, blobPathMap, latchedActionListener, WritePriority.HIGH);
+            if (batch != null) {
+                uploadBatch(batch, toUpload, latchedActionListener);
+            } else {
+                transferService.uploadBlobs(toUpload, blobPathMap, latchedActionListener, WritePriority.HIGH);
+            }
 
             try {
                 if (latch.await(remoteStoreSettings.getClusterRemoteTranslogTransferTimeout().millis(), TimeUnit.MILLISECONDS) == false) {
@@ -208,6 +262,48 @@ public class TranslogTransferManager {
         }
     }
 
+    /**
+     * Returns the generations of the given snapshot to upload as part of a batch of the {@link TranslogUploadBatcher}, or
+     * {@code null} if the files of the snapshot should be uploaded as their own blobs, because batching is disabled or because
+     * they are larger than a batch.
+     */
+    private List<BatchedGeneration> prepareBatch(TransferSnapshot transferSnapshot) throws IOException {
+        if (batchQueue == null || translogUploadBatcher.isEnabled() == false) {
+            return null;
+        }
+        Map<Long, TransferFileSnapshot> checkpointFiles = new HashMap<>();
+        for (TransferFileSnapshot checkpointFile : transferSnapshot.getCheckpointFileSnapshots()) {
+            checkpointFiles.put(((CheckpointFileSnapshot) checkpointFile).getGeneration(), checkpointFile);
+        }
+        List<BatchedGeneration> batch = new ArrayList<>();
+        long sizeInBytes = 0;
+        for (TransferFileSnapshot translogFile : fileTransferTracker.exclusionFilter(transferSnapshot.getTranslogFileSnapshots())) {
+            long generation = ((TranslogFileSnapshot) translogFile).getGeneration();
+            TransferFileSnapshot checkpointFile = checkpointFiles.get(generation);
+            if (checkpointFile == null) {
+                return null;
+            }
+            sizeInBytes += translogFile.getContentLength() + checkpointFile.getContentLength();
+            batch.add(new BatchedGeneration(translogFile.getPrimaryTerm(), generation, translogFile, checkpointFile));
+        }
+        return sizeInBytes <= translogUploadBatcher.getMaxBatchSizeInBytes() ? batch : null;
+    }
+
+    /**
+     * Uploads the given generations as part of a batch, and notifies the listener of each of their files once the batch is
+     * uploaded.
+     */
+    private void uploadBatch(
+        List<BatchedGeneration> batch,
+        Set<TransferFileSnapshot> toUpload,
+        ActionListener<TransferFileSnapshot> listener
+    ) {
+        batchQueue.upload(remoteMetadataTransferPath, batch, ActionListener.wrap(locations -> {
+            batchLocations.putAll(locations);
+            toUpload.forEach(listener::onResponse);
+        }, e -> toUpload.forEach(file -> listener.onFailure(new FileTransferException(file, e)))));
+    }
+
     /**
      * Adds relevant stats to the tracker when an upload is started
      */
@@ -249,7 +345,13 @@ public class TranslogTransferManager {
         );
         String ckpFileName = Translog.getCommitCheckpointFileName(Long.parseLong(generation));
         String translogFilename = Translog.getFilename(Long.parseLong(generation));
-        if (isTranslogMetadataEnabled == false) {
+        TranslogBatchLocation batchLocation = batchLocations.get(Long.parseLong(generation));
+        if (batchLocation != null) {
+            // Download the checkpoint and translog files from their ranges of the batch blob they were uploaded in
+            String blobName = batchLocation.getBlobName();
+            downloadRangeToFS(ckpFileName, location, blobName, batchLocation.getCheckpointOffset(), batchLocation.getCheckpointLength());
+            downloadRangeToFS(translogFilename, location, blobName, batchLocation.getTranslogOffset(), batchLocation.getTranslogLength());
+        } else if (isTranslogMetadataEnabled == false) {
             // Download Checkpoint file, translog file from remote to local FS
             downloadToFS(ckpFileName, location, primaryTerm, false);
             downloadToFS(translogFilename, location, primaryTerm, false);
@@ -331,6 +433,42 @@ public class TranslogTransferManager {
         return metadata;
     }
 
+    private void downloadRangeToFS(String fileName, Path location, String blobName, long position, long length) throws IOException {
+        if (remoteBatchTransferPath == null) {
+            throw new IllegalStateException("translog file " + fileName + " is part of a batch but the path of the batches is unknown");
+        }
+        Path filePath = location.resolve(fileName);
+        deleteFileIfExists(filePath);
+
+        boolean downloadStatus = false;
+        long downloadStartTime = System.nanoTime();
+        try (InputStream inputStream = transferService.downloadBlob(remoteBatchTransferPath, blobName, position, length)) {
+            Files.copy(inputStream, filePath);
+            downloadStatus = true;
+        } finally {
+            remoteTranslogTransferTracker.addDownloadTimeInMillis((System.nanoTime() - downloadStartTime) / 1_000_000L);
+            if (downloadStatus) {
+                remoteTranslogTransferTracker.addDownloadBytesSucceeded(length);
+            }
+        }
+
+        // Mark in FileTransferTracker so that the same files are not uploaded at the time of translog sync
+        fileTransferTracker.add(fileName, true);
+    }
+
+    /**
+     * Tracks the locations of the generations of the downloaded metadata that were uploaded as part of a batch, so that they
+     * are downloaded from their batch and still referenced by the metadata files this shard uploads.
+     */
+    public void addBatchLocations(Map<Long, TranslogBatchLocation> locations) {
+        batchLocations.putAll(locations);
+    }
+
+    // Visible for testing
+    Map<Long, TranslogBatchLocation> getBatchLocations() {
+        return batchLocations;
+    }
+
     private void deleteFileIfExists(Path filePath) throws IOException {
         if (Files.exists(filePath)) {
             Files.delete(filePath);
@@ -354,8 +492,7 @@ public class TranslogTransferManager {
                 try (InputStream inputStream = transferService.downloadBlob(remoteMetadataTransferPath, filename)) {
                     // Capture number of bytes for stats before reading
                     bytesToRead = inputStream.available();
-                    IndexInput indexInput = new ByteArrayIndexInput("metadata file", inputStream.readAllBytes());
-                    metadataSetOnce.set(metadataStreamWrapper.readStream(indexInput));
+                    metadataSetOnce.set(readMetadata(filename, inputStream.readAllBytes()));
                     downloadStatus = true;
                 } catch (IOException e) {
                     logger.error(() -> new ParameterizedMessage("Exception while reading metadata file: {}", filename), e);
@@ -396,6 +533,14 @@ public class TranslogTransferManager {
         return metadataSetOnce.get();
     }
 
+    /**
+     * Parses the content of a translog metadata file.
+     */
+    static TranslogTransferMetadata readMetadata(String fileName, byte[] content) throws IOException {
+        IndexInput indexInput = new ByteArrayIndexInput("metadata file " + fileName, content);
+        return metadataStreamWrapper.readStream(indexInput);
+    }
+
     private TransferFileSnapshot prepareMetadata(TransferSnapshot transferSnapshot) throws IOException {
         Map<String, String> generationPrimaryTermMap = transferSnapshot.getTranslogFileSnapshots().stream().map(s -> {
             assert s instanceof TranslogFileSnapshot;
@@ -409,6 +554,14 @@ public class TranslogTransferManager {
             );
         TranslogTransferMetadata translogTransferMetadata = transferSnapshot.getTranslogTransferMetadata();
         translogTransferMetadata.setGenerationToPrimaryTermMapper(new HashMap<>(generationPrimaryTermMap));
+        Map<Long, TranslogBatchLocation> referencedBatchLocations = new HashMap<>();
+        for (String generation : generationPrimaryTermMap.keySet()) {
+            TranslogBatchLocation batchLocation = batchLocations.get(Long.parseLong(generation));
+            if (batchLocation != null) {
+                referencedBatchLocations.put(Long.parseLong(generation), batchLocation);
+            }
+        }
+        translogTransferMetadata.setBatchLocations(referencedBatchLocations);
 
         return new TransferFileSnapshot(
             translogTransferMetadata.getFileName(),
@@ -453,7 +606,13 @@ public class TranslogTransferManager {
      */
     public void deleteGenerationAsync(long primaryTerm, Set<Long> generations, Runnable onCompletion) {
         List<String> translogFiles = new ArrayList<>();
+        List<String> batchedFiles = new ArrayList<>();
         generations.forEach(generation -> {
+            // Batch blobs are shared with other shards and cleaned up by the batcher once none of their generations is referenced
+            if (batchLocations.remove(generation) != null) {
+                batchedFiles.addAll(List.of(Translog.getCommitCheckpointFileName(generation), Translog.getFilename(generation)));
+                return;
+            }
             // Add .ckp and .tlog file to translog file list which is located in basePath/<primaryTerm>
             String ckpFileName = Translog.getCommitCheckpointFileName(generation);
             String translogFileName = Translog.getFilename(generation);
@@ -463,6 +622,13 @@ public class TranslogTransferManager {
                 translogFiles.add(translogFileName);
             }
         });
+        if (batchedFiles.isEmpty() == false) {
+            fileTransferTracker.delete(batchedFiles);
+        }
+        if (translogFiles.isEmpty()) {
+            onCompletion.run();
+            return;
+        }
         // Delete the translog and checkpoint files asynchronously
         deleteTranslogFilesAsync(primaryTerm, translogFiles, onCompletion);
     }
@@ -13,6 +13,7 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.index.remote.RemoteStoreUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
@@ -35,6 +36,8 @@ public class TranslogTransferMetadata {
 
     private final SetOnce<Map<String, String>> generationToPrimaryTermMapper = new SetOnce<>();
 
+    private volatile Map<Long, TranslogBatchLocation> batchLocations = Collections.emptyMap();
+
     public static final String METADATA_SEPARATOR = "__";
 
     public static final String METADATA_PREFIX = "metadata";
@@ -89,6 +92,21 @@ public class TranslogTransferMetadata {
         return generationToPrimaryTermMapper.get();
     }
 
+    /**
+     * Sets the locations of the generations that were uploaded as part of a batch blob rather than as their own files.
+     */
+    public void setBatchLocations(Map<Long, TranslogBatchLocation> batchLocations) {
+        this.batchLocations = Collections.unmodifiableMap(batchLocations);
+    }
+
+    /**
+     * Returns the locations of the generations that were uploaded as part of a batch blob, keyed by generation. Generations
+     * that are not in this map were uploaded as their own files.
+     */
+    public Map<Long, TranslogBatchLocation> getBatchLocations() {
+        return batchLocations;
+    }
+
     /*
     This should be used only at the time of creation.
      */
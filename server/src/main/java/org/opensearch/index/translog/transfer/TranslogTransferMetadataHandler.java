@@ -8,6 +8,7 @@
 
 package org.opensearch.index.translog.transfer;
 
+import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.opensearch.common.io.IndexIOStreamHandler;
@@ -40,6 +41,17 @@ public class TranslogTransferMetadataHandler implements IndexIOStreamHandler<Tra
         TranslogTransferMetadata metadata = new TranslogTransferMetadata(primaryTerm, generation, minTranslogGeneration, count);
         metadata.setGenerationToPrimaryTermMapper(generationToPrimaryTermMapper);
 
+        // The batch locations are optional and written after the content known to older versions, which ignore them
+        if (indexInput.getFilePointer() < indexInput.length() - CodecUtil.footerLength()) {
+            int numBatchLocations = indexInput.readVInt();
+            Map<Long, TranslogBatchLocation> batchLocations = new HashMap<>(numBatchLocations);
+            for (int i = 0; i < numBatchLocations; i++) {
+                long batchedGeneration = indexInput.readVLong();
+                batchLocations.put(batchedGeneration, TranslogBatchLocation.readFrom(indexInput));
+            }
+            metadata.setBatchLocations(batchLocations);
+        }
+
         return metadata;
     }
 
@@ -59,5 +71,13 @@ public class TranslogTransferMetadataHandler implements IndexIOStreamHandler<Tra
         } else {
             indexOutput.writeMapOfStrings(new HashMap<>());
         }
+        Map<Long, TranslogBatchLocation> batchLocations = content.getBatchLocations();
+        if (batchLocations.isEmpty() == false) {
+            indexOutput.writeVInt(batchLocations.size());
+            for (Map.Entry<Long, TranslogBatchLocation> entry : batchLocations.entrySet()) {
+                indexOutput.writeVLong(entry.getKey());
+                entry.getValue().writeTo(indexOutput);
+            }
+        }
     }
 }
@@ -0,0 +1,575 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog.transfer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobMetadata;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.BlobStore;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.index.remote.RemoteStoreUtils;
+import org.opensearch.index.translog.transfer.FileSnapshot.TransferFileSnapshot;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opensearch.common.blobstore.BlobContainer.BlobNameSortOrder.LEXICOGRAPHIC;
+
+/**
+ * Node level batcher of the translog uploads of the remote store backed shards of a node.
+ * <p>
+ * Without batching, every sync of a remote translog uploads the translog and checkpoint files of the new generation as two
+ * blobs, plus a metadata file. With many shards on a node, most of these uploads are tiny and the cost of the remote store is
+ * dominated by the number of requests. When batching is enabled, the translog and checkpoint files of a sync are instead
+ * handed to the {@link BatchQueue} of the repository. Up to {@link #MAX_CONCURRENT_UPLOADS_SETTING} batches are uploaded at the
+ * same time per repository, and the syncs that come in while all of them are in flight are packed into the next batch blob,
+ * up to {@link #MAX_BATCH_SIZE_SETTING} bytes, in the manner of a group commit.
+ * <p>
+ * A batch blob holds the content of its files, followed by an index of the generations it holds and the length of that index.
+ * A sync is only acknowledged once its batch blob is uploaded, and the metadata file of the shard, which references the
+ * {@link TranslogBatchLocation} of each of its batched generations, is still uploaded per shard afterwards, so the durability
+ * guarantees of each shard are unchanged.
+ * <p>
+ * Batch blobs are shared between shards, so they are not deleted by the shards when they trim their translog. Instead, every
+ * {@link #CLEANUP_INTERVAL_SETTING}, the batch queue lists the batch blobs of the repository, whichever node wrote them, and
+ * deletes the ones whose generations are all below the minimum generation referenced by the oldest metadata file of their
+ * shard, or whose shard does not have any metadata file anymore. The batches of a node that left the cluster are thus cleaned
+ * up by the nodes that remain.
+ *
+ * @opensearch.internal
+ */
+public class TranslogUploadBatcher {
+
+    private static final Logger logger = LogManager.getLogger(TranslogUploadBatcher.class);
+
+    public static final String BATCHES_PATH = "translog-batches";
+
+    static final int BATCH_FORMAT_VERSION = 1;
+
+    static final int MAX_BATCHES_PER_SWEEP = 1000;
+
+    static final String SEPARATOR = "__";
+
+    public static final Setting<Boolean> ENABLED_SETTING = Setting.boolSetting(
+        "remote_store.translog.batch_upload.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> MAX_BATCH_SIZE_SETTING = Setting.byteSizeSetting(
+        "remote_store.translog.batch_upload.max_batch_size",
+        new ByteSizeValue(8, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.KB),
+        new ByteSizeValue(256, ByteSizeUnit.MB),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Integer> MAX_CONCURRENT_UPLOADS_SETTING = Setting.intSetting(
+        "remote_store.translog.batch_upload.max_concurrent_uploads",
+        4,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> CLEANUP_INTERVAL_SETTING = Setting.timeSetting(
+        "remote_store.translog.batch_upload.cleanup_interval",
+        TimeValue.timeValueMinutes(10),
+        TimeValue.timeValueSeconds(1),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    private final Map<String, BatchQueue> queues = ConcurrentCollections.newConcurrentMap();
+
+    private volatile boolean enabled;
+    private volatile long maxBatchSizeInBytes;
+    private volatile int maxConcurrentUploads;
+    private volatile long cleanupIntervalInMillis;
+
+    public TranslogUploadBatcher(Settings settings, ClusterSettings clusterSettings) {
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.maxBatchSizeInBytes = MAX_BATCH_SIZE_SETTING.get(settings).getBytes();
+        this.maxConcurrentUploads = MAX_CONCURRENT_UPLOADS_SETTING.get(settings);
+        this.cleanupIntervalInMillis = CLEANUP_INTERVAL_SETTING.get(settings).millis();
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, value -> enabled = value);
+        clusterSettings.addSettingsUpdateConsumer(MAX_BATCH_SIZE_SETTING, value -> maxBatchSizeInBytes = value.getBytes());
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_UPLOADS_SETTING, this::setMaxConcurrentUploads);
+        clusterSettings.addSettingsUpdateConsumer(CLEANUP_INTERVAL_SETTING, value -> cleanupIntervalInMillis = value.millis());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getMaxBatchSizeInBytes() {
+        return maxBatchSizeInBytes;
+    }
+
+    /**
+     * Returns the path under which the batch blobs of the repository with the given base path are written.
+     */
+    public static BlobPath batchPath(BlobPath basePath) {
+        return basePath.add(BATCHES_PATH);
+    }
+
+    /**
+     * Returns the batch queue of the given repository.
+     */
+    public BatchQueue queue(BlobStoreRepository repository, ThreadPool threadPool, String nodeId) {
+        final BlobStore blobStore = repository.blobStore();
+        return queues.compute(
+            repository.getMetadata().name(),
+            (name, queue) -> queue != null && queue.blobStore == blobStore
+                ? queue
+                : newQueue(
+                    blobStore,
+                    batchPath(repository.basePath()),
+                    threadPool.executor(ThreadPool.Names.TRANSLOG_TRANSFER),
+                    threadPool.executor(ThreadPool.Names.REMOTE_PURGE),
+                    nodeId
+                )
+        );
+    }
+
+    // Visible for testing
+    BatchQueue newQueue(BlobStore blobStore, BlobPath batchPath, Executor uploadExecutor, Executor purgeExecutor, String nodeId) {
+        return new BatchQueue(blobStore, batchPath, uploadExecutor, purgeExecutor, nodeId);
+    }
+
+    private void setMaxConcurrentUploads(int maxConcurrentUploads) {
+        this.maxConcurrentUploads = maxConcurrentUploads;
+        queues.values().forEach(BatchQueue::drain);
+    }
+
+    /**
+     * The translog and checkpoint files of a generation of a shard to upload as part of a batch.
+     *
+     * @opensearch.internal
+     */
+    public static final class BatchedGeneration {
+        private final long primaryTerm;
+        private final long generation;
+        private final TransferFileSnapshot translogFile;
+        private final TransferFileSnapshot checkpointFile;
+
+        public BatchedGeneration(
+            long primaryTerm,
+            long generation,
+            TransferFileSnapshot translogFile,
+            TransferFileSnapshot checkpointFile
+        ) {
+            this.primaryTerm = primaryTerm;
+            this.generation = generation;
+            this.translogFile = Objects.requireNonNull(translogFile);
+            this.checkpointFile = Objects.requireNonNull(checkpointFile);
+        }
+
+        public long getGeneration() {
+            return generation;
+        }
+
+        public TransferFileSnapshot getTranslogFile() {
+            return translogFile;
+        }
+
+        public TransferFileSnapshot getCheckpointFile() {
+            return checkpointFile;
+        }
+
+        long sizeInBytes() throws IOException {
+            return translogFile.getContentLength() + checkpointFile.getContentLength();
+        }
+    }
+
+    /**
+     * An entry of the index of a batch blob.
+     *
+     * @opensearch.internal
+     */
+    static final class BatchIndexEntry {
+        final BlobPath metadataPath;
+        final long primaryTerm;
+        final long generation;
+        final TranslogBatchLocation location;
+
+        BatchIndexEntry(BlobPath metadataPath, long primaryTerm, long generation, TranslogBatchLocation location) {
+            this.metadataPath = metadataPath;
+            this.primaryTerm = primaryTerm;
+            this.generation = generation;
+            this.location = location;
+        }
+    }
+
+    /**
+     * Reads the index at the end of the given batch blob.
+     */
+    static List<BatchIndexEntry> readIndex(BlobContainer container, String blobName, long blobLength) throws IOException {
+        final long indexLength;
+        try (InputStream in = container.readBlob(blobName, blobLength - Long.BYTES, Long.BYTES)) {
+            indexLength = StreamInput.wrap(in.readAllBytes()).readLong();
+        }
+        if (indexLength < 0 || indexLength > blobLength - Long.BYTES) {
+            throw new IOException("invalid index length [" + indexLength + "] for batch blob [" + blobName + "]");
+        }
+        try (InputStream in = container.readBlob(blobName, blobLength - Long.BYTES - indexLength, indexLength)) {
+            final StreamInput index = StreamInput.wrap(in.readAllBytes());
+            final int version = index.readVInt();
+            if (version != BATCH_FORMAT_VERSION) {
+                throw new IOException("unsupported version [" + version + "] of batch blob [" + blobName + "]");
+            }
+            final int numEntries = index.readVInt();
+            final List<BatchIndexEntry> entries = new ArrayList<>(numEntries);
+            for (int i = 0; i < numEntries; i++) {
+                BlobPath metadataPath = BlobPath.cleanPath();
+                for (String part : index.readStringArray()) {
+                    metadataPath = metadataPath.add(part);
+                }
+                final long primaryTerm = index.readLong();
+                final long generation = index.readLong();
+                final TranslogBatchLocation location = new TranslogBatchLocation(
+                    blobName,
+                    index.readVLong(),
+                    index.readVLong(),
+                    index.readVLong(),
+                    index.readVLong()
+                );
+                entries.add(new BatchIndexEntry(metadataPath, primaryTerm, generation, location));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * The batches of the translog uploads of the shards of a node to a repository.
+     *
+     * @opensearch.internal
+     */
+    public final class BatchQueue {
+        private final BlobStore blobStore;
+        private final BlobPath batchPath;
+        private final Executor uploadExecutor;
+        private final Executor purgeExecutor;
+        private final String blobNamePrefix;
+        private final Queue<Submission> pending = new ArrayDeque<>();
+        private final AtomicBoolean sweeping = new AtomicBoolean();
+        private final CounterMetric uploadedBatches = new CounterMetric();
+        private final CounterMetric uploadedGenerations = new CounterMetric();
+        private final CounterMetric deletedBatches = new CounterMetric();
+
+        private int inFlightUploads;
+        private volatile long lastSweepMillis;
+
+        BatchQueue(BlobStore blobStore, BlobPath batchPath, Executor uploadExecutor, Executor purgeExecutor, String nodeId) {
+            this.blobStore = blobStore;
+            this.batchPath = batchPath;
+            this.uploadExecutor = uploadExecutor;
+            this.purgeExecutor = purgeExecutor;
+            this.blobNamePrefix = Objects.hash(nodeId) + SEPARATOR;
+            this.lastSweepMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * Uploads the given generations of a shard as part of the next batch, and completes the listener with their location
+         * once the batch is uploaded.
+         *
+         * @param metadataPath the path of the metadata files of the shard
+         * @param generations  the generations to upload
+         * @param listener     the listener to notify with the location of each generation, keyed by generation
+         */
+        public void upload(
+            BlobPath metadataPath,
+            List<BatchedGeneration> generations,
+            ActionListener<Map<Long, TranslogBatchLocation>> listener
+        ) {
+            long sizeInBytes = 0;
+            try {
+                for (BatchedGeneration generation : generations) {
+                    sizeInBytes += generation.sizeInBytes();
+                }
+            } catch (IOException e) {
+                listener.onFailure(e);
+                return;
+            }
+            synchronized (this) {
+                pending.add(new Submission(metadataPath, generations, sizeInBytes, listener));
+            }
+            drain();
+        }
+
+        public long getUploadedBatches() {
+            return uploadedBatches.count();
+        }
+
+        public long getUploadedGenerations() {
+            return uploadedGenerations.count();
+        }
+
+        public long getDeletedBatches() {
+            return deletedBatches.count();
+        }
+
+        synchronized int getInFlightUploads() {
+            return inFlightUploads;
+        }
+
+        private void drain() {
+            List<Submission> batch;
+            while ((batch = pollBatch()) != null) {
+                final List<Submission> toUpload = batch;
+                try {
+                    uploadExecutor.execute(() -> uploadBatch(toUpload));
+                } catch (Exception e) {
+                    onBatchFailure(toUpload, e);
+                    release();
+                }
+            }
+        }
+
+        private synchronized List<Submission> pollBatch() {
+            if (inFlightUploads >= maxConcurrentUploads || pending.isEmpty()) {
+                return null;
+            }
+            final List<Submission> batch = new ArrayList<>();
+            long sizeInBytes = 0;
+            do {
+                final Submission next = pending.poll();
+                batch.add(next);
+                sizeInBytes += next.sizeInBytes;
+            } while (pending.isEmpty() == false && sizeInBytes + pending.peek().sizeInBytes <= maxBatchSizeInBytes);
+            inFlightUploads++;
+            return batch;
+        }
+
+        private void release() {
+            synchronized (this) {
+                inFlightUploads--;
+            }
+            drain();
+        }
+
+        private void uploadBatch(List<Submission> batch) {
+            final String blobName = blobNamePrefix
+                + RemoteStoreUtils.invertLong(System.currentTimeMillis())
+                + SEPARATOR
+                + UUIDs.randomBase64UUID();
+            final List<Map<Long, TranslogBatchLocation>> locations = new ArrayList<>(batch.size());
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                final List<BatchIndexEntry> index = new ArrayList<>();
+                for (Submission submission : batch) {
+                    final Map<Long, TranslogBatchLocation> submissionLocations = new HashMap<>();
+                    for (BatchedGeneration generation : submission.generations) {
+                        final long translogOffset = out.size();
+                        copy(generation.translogFile, out);
+                        final long checkpointOffset = out.size();
+                        copy(generation.checkpointFile, out);
+                        final TranslogBatchLocation location = new TranslogBatchLocation(
+                            blobName,
+                            translogOffset,
+                            checkpointOffset - translogOffset,
+                            checkpointOffset,
+                            out.size() - checkpointOffset
+                        );
+                        submissionLocations.put(generation.generation, location);
+                        index.add(new BatchIndexEntry(submission.metadataPath, generation.primaryTerm, generation.generation, location));
+                    }
+                    locations.add(submissionLocations);
+                }
+                final int indexOffset = out.size();
+                out.writeVInt(BATCH_FORMAT_VERSION);
+                out.writeVInt(index.size());
+                for (BatchIndexEntry entry : index) {
+                    out.writeStringArray(entry.metadataPath.toArray());
+                    out.writeLong(entry.primaryTerm);
+                    out.writeLong(entry.generation);
+                    out.writeVLong(entry.location.getTranslogOffset());
+                    out.writeVLong(entry.location.getTranslogLength());
+                    out.writeVLong(entry.location.getCheckpointOffset());
+                    out.writeVLong(entry.location.getCheckpointLength());
+                }
+                out.writeLong(out.size() - indexOffset);
+
+                final BytesReference bytes = out.bytes();
+                blobStore.blobContainer(batchPath).writeBlob(blobName, bytes.streamInput(), bytes.length(), true);
+                uploadedBatches.inc();
+                uploadedGenerations.inc(index.size());
+            } catch (Exception e) {
+                logger.error(() -> new ParameterizedMessage("Failed to upload translog batch {}", blobName), e);
+                release();
+                onBatchFailure(batch, e);
+                return;
+            }
+            release();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).listener.onResponse(locations.get(i));
+            }
+            maybeSweep();
+        }
+
+        private void copy(TransferFileSnapshot file, BytesStreamOutput out) throws IOException {
+            try (InputStream in = file.inputStream()) {
+                in.transferTo(out);
+            } finally {
+                IOUtils.close(file);
+            }
+        }
+
+        private void onBatchFailure(List<Submission> batch, Exception e) {
+            for (Submission submission : batch) {
+                for (BatchedGeneration generation : submission.generations) {
+                    IOUtils.closeWhileHandlingException(generation.translogFile, generation.checkpointFile);
+                }
+                submission.listener.onFailure(e);
+            }
+        }
+
+        private void maybeSweep() {
+            if (System.currentTimeMillis() - lastSweepMillis < cleanupIntervalInMillis || sweeping.compareAndSet(false, true) == false) {
+                return;
+            }
+            try {
+                purgeExecutor.execute(() -> {
+                    try {
+                        sweep(System.currentTimeMillis() - cleanupIntervalInMillis);
+                    } catch (Exception e) {
+                        logger.warn(() -> new ParameterizedMessage("Failed to clean up translog batches at path={}", batchPath), e);
+                    } finally {
+                        lastSweepMillis = System.currentTimeMillis();
+                        sweeping.set(false);
+                    }
+                });
+            } catch (Exception e) {
+                sweeping.set(false);
+                logger.warn("Failed to schedule the clean up of translog batches", e);
+            }
+        }
+
+        /**
+         * Deletes the batch blobs written by any node up to the given time whose generations are not referenced by their shard
+         * anymore. The oldest batches are checked first.
+         */
+        void sweep(long maxCreatedAt) throws IOException {
+            final BlobContainer container = blobStore.blobContainer(batchPath);
+            final List<BlobMetadata> candidates = new ArrayList<>();
+            for (BlobMetadata batch : container.listBlobs().values()) {
+                final String[] tokens = batch.name().split(SEPARATOR);
+                if (tokens.length == 3 && RemoteStoreUtils.invertLong(tokens[1]) <= maxCreatedAt) {
+                    candidates.add(batch);
+                }
+            }
+            // inverted timestamps sort the oldest batches last
+            candidates.sort(Comparator.comparing((BlobMetadata batch) -> batch.name().split(SEPARATOR)[1]).reversed());
+            final Map<String, Long> minReferencedGenerations = new HashMap<>();
+            final List<String> toDelete = new ArrayList<>();
+            for (BlobMetadata batch : candidates.subList(0, Math.min(candidates.size(), MAX_BATCHES_PER_SWEEP))) {
+                try {
+                    boolean referenced = false;
+                    for (BatchIndexEntry entry : readIndex(container, batch.name(), batch.length())) {
+                        if (entry.generation >= minReferencedGeneration(entry.metadataPath, minReferencedGenerations)) {
+                            referenced = true;
+                            break;
+                        }
+                    }
+                    if (referenced == false) {
+                        toDelete.add(batch.name());
+                    }
+                } catch (NoSuchFileException e) {
+                    // deleted by the sweep of another node in the meantime
+                } catch (IOException e) {
+                    logger.warn(() -> new ParameterizedMessage("Failed to check whether translog batch {} is referenced", batch.name()), e);
+                }
+            }
+            if (toDelete.isEmpty() == false) {
+                logger.debug("Deleting unreferenced translog batches {}", toDelete);
+                container.deleteBlobsIgnoringIfNotExists(toDelete);
+                deletedBatches.inc(toDelete.size());
+            }
+        }
+
+        /**
+         * Returns the minimum generation referenced by the oldest metadata file of the shard with the given metadata path, or
+         * {@link Long#MAX_VALUE} if the shard does not have any metadata file anymore.
+         */
+        private long minReferencedGeneration(BlobPath metadataPath, Map<String, Long> cache) throws IOException {
+            final String key = metadataPath.buildAsString();
+            final Long cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            final BlobContainer container = blobStore.blobContainer(metadataPath);
+            final List<BlobMetadata> metadataFiles = container.listBlobsByPrefixInSortedOrder(
+                TranslogTransferMetadata.METADATA_PREFIX,
+                Integer.MAX_VALUE,
+                LEXICOGRAPHIC
+            );
+            long minReferencedGeneration = Long.MAX_VALUE;
+            if (metadataFiles.isEmpty() == false) {
+                final String oldest = metadataFiles.get(metadataFiles.size() - 1).name();
+                try (InputStream in = container.readBlob(oldest)) {
+                    minReferencedGeneration = TranslogTransferManager.readMetadata(oldest, in.readAllBytes()).getMinTranslogGeneration();
+                }
+            }
+            cache.put(key, minReferencedGeneration);
+            return minReferencedGeneration;
+        }
+    }
+
+    /**
+     * The generations of a shard waiting to be part of a batch.
+     */
+    private static final class Submission {
+        private final BlobPath metadataPath;
+        private final List<BatchedGeneration> generations;
+        private final long sizeInBytes;
+        private final ActionListener<Map<Long, TranslogBatchLocation>> listener;
+
+        private Submission(
+            BlobPath metadataPath,
+            List<BatchedGeneration> generations,
+            long sizeInBytes,
+            ActionListener<Map<Long, TranslogBatchLocation>> listener
+        ) {
+            this.metadataPath = metadataPath;
+            this.generations = generations;
+            this.sizeInBytes = sizeInBytes;
+            this.listener = listener;
+        }
+    }
+}
@@ -33,21 +33,25 @@
 package org.opensearch.indices.recovery;
 
 import org.apache.lucene.util.Version;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.transport.ZeroCopyWriteable;
 
 import java.io.IOException;
 
 /**
- * Request containing a file chunk.
+ * Request containing a file chunk. The content is the last field on the wire, so that it is sent without being copied, and a request
+ * that is read from an inbound transport message shares its content with the message until {@link #releaseContent()} is called.
  *
  * @opensearch.internal
  */
-public final class FileChunkRequest extends RecoveryTransportRequest {
+public final class FileChunkRequest extends RecoveryTransportRequest implements ZeroCopyWriteable {
     private final boolean lastChunk;
     private final long recoveryId;
     private final ShardId shardId;
@@ -57,6 +61,7 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
     private final long sourceThrottleTimeInNanos;
 
     private final int totalTranslogOps;
+    private final Releasable contentRelease;
 
     public FileChunkRequest(StreamInput in) throws IOException {
         super(in);
@@ -66,13 +71,19 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
         position = in.readVLong();
         long length = in.readVLong();
         String checksum = in.readString();
-        content = in.readBytesReference();
+        final boolean contentLast = in.getVersion().onOrAfter(org.opensearch.Version.V_3_0_0);
+        BytesReference content = contentLast ? null : in.readRetainedBytesReference();
         Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
         assert writtenBy != null;
         metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
         lastChunk = in.readBoolean();
         totalTranslogOps = in.readVInt();
         sourceThrottleTimeInNanos = in.readLong();
+        if (contentLast) {
+            content = in.readRetainedBytesReference();
+        }
+        this.content = content;
+        this.contentRelease = content instanceof Releasable ? (Releasable) content : () -> {};
     }
 
     public FileChunkRequest(
@@ -95,6 +106,7 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
         this.lastChunk = lastChunk;
         this.totalTranslogOps = totalTranslogOps;
         this.sourceThrottleTimeInNanos = sourceThrottleTimeInNanos;
+        this.contentRelease = () -> {};
     }
 
     public long recoveryId() {
@@ -121,6 +133,14 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
         return content;
     }
 
+    /**
+     * Releases the buffers of the inbound message that the content of this request was read from, once the content was handled.
+     * Consumers that hold on to the content beyond that must retain it first.
+     */
+    public void releaseContent() {
+        contentRelease.close();
+    }
+
     public int totalTranslogOps() {
         return totalTranslogOps;
     }
@@ -131,6 +151,12 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
+        final BytesReference trailingBytes = writeThin(out);
+        trailingBytes.writeTo(out);
+    }
+
+    @Override
+    public BytesReference writeThin(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeLong(recoveryId);
         shardId.writeTo(out);
@@ -138,11 +164,19 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
         out.writeVLong(position);
         out.writeVLong(metadata.length());
         out.writeString(metadata.checksum());
-        out.writeBytesReference(content);
+        final boolean contentLast = out.getVersion().onOrAfter(org.opensearch.Version.V_3_0_0);
+        if (contentLast == false) {
+            out.writeBytesReference(content);
+        }
         out.writeString(metadata.writtenBy().toString());
         out.writeBoolean(lastChunk);
         out.writeVInt(totalTranslogOps);
         out.writeLong(sourceThrottleTimeInNanos);
+        if (contentLast == false) {
+            return BytesArray.EMPTY;
+        }
+        out.writeVInt(content.length());
+        return content;
     }
 
     @Override
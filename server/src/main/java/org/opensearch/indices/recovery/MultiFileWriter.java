@@ -37,7 +37,9 @@ import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.Strings;
@@ -89,7 +91,11 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         throws IOException {
         assert Transports.assertNotTransportThread("multi_file_writer");
         final FileChunkWriter writer = fileChunkWriters.computeIfAbsent(fileMetadata.name(), name -> new FileChunkWriter());
-        writer.writeChunk(new FileChunk(fileMetadata, content, position, lastChunk));
+        // the chunk may have to wait for the ones before it, so it holds on to its content until it's written
+        final BytesReference retained = content instanceof ReleasableBytesReference
+            ? ((ReleasableBytesReference) content).retain()
+            : content;
+        writer.writeChunk(new FileChunk(fileMetadata, retained, position, lastChunk));
     }
 
     /** Get a temporary name for the provided file name. */
@@ -178,6 +184,9 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
 
     @Override
     protected void closeInternal() {
+        for (FileChunkWriter writer : fileChunkWriters.values()) {
+            writer.releasePendingChunks();
+        }
         fileChunkWriters.clear();
         // clean open index outputs
         Iterator<Map.Entry<String, IndexOutput>> iterator = openIndexOutputs.entrySet().iterator();
@@ -211,7 +220,7 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
      *
      * @opensearch.internal
      */
-    static final class FileChunk {
+    static final class FileChunk implements Releasable {
         final StoreFileMetadata md;
         final BytesReference content;
         final long position;
@@ -223,6 +232,13 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
             this.position = position;
             this.lastChunk = lastChunk;
         }
+
+        @Override
+        public void close() {
+            if (content instanceof ReleasableBytesReference) {
+                ((ReleasableBytesReference) content).close();
+            }
+        }
     }
 
     private final class FileChunkWriter {
@@ -243,7 +259,11 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                     }
                     pendingChunks.remove();
                 }
-                innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                try {
+                    innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                } finally {
+                    chunk.close();
+                }
                 synchronized (this) {
                     assert lastPosition == chunk.position : "last_position " + lastPosition + " != chunk_position " + chunk.position;
                     lastPosition += chunk.content.length();
@@ -255,5 +275,10 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                 }
             }
         }
+
+        synchronized void releasePendingChunks() {
+            Releasables.close(pendingChunks);
+            pendingChunks.clear();
+        }
     }
 }
@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchTimeoutException;
@@ -64,6 +65,7 @@ import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardNotFoundException;
 import org.opensearch.index.store.Store;
+import org.opensearch.index.store.remote.directory.RemoteSnapshotDirectory;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogCorruptedException;
 import org.opensearch.indices.replication.common.ReplicationCollection;
@@ -80,6 +82,8 @@ import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
@@ -582,6 +586,8 @@ public class PeerRecoveryTargetService implements IndexEventListener {
                     recoverySettings.recoveryRateLimiter(),
                     listener
                 );
+            } finally {
+                request.releaseContent();
             }
         }
     }
@@ -625,6 +631,21 @@ public class PeerRecoveryTargetService implements IndexEventListener {
         }
     }
 
+    /**
+     * Fetches the given file cache blocks into the file cache, if the directory reads the files of its shard from a snapshot
+     * through it.
+     *
+     * @return the number of bytes of the blocks that are now in the file cache, or {@code -1} if the directory doesn't read
+     *         through the file cache
+     */
+    static long warmFileCache(Directory directory, List<String> hotBlocks) throws IOException {
+        final RemoteSnapshotDirectory remoteSnapshotDirectory = RemoteSnapshotDirectory.unwrap(directory);
+        if (remoteSnapshotDirectory == null) {
+            return -1;
+        }
+        return remoteSnapshotDirectory.warmBlocks(hotBlocks);
+    }
+
     private class RecoveryResponseHandler implements TransportResponseHandler<RecoveryResponse> {
 
         private final long recoveryId;
@@ -639,6 +660,10 @@ public class PeerRecoveryTargetService implements IndexEventListener {
 
         @Override
         public void handleResponse(RecoveryResponse recoveryResponse) {
+            if (recoveryResponse.hotBlocks.isEmpty() == false) {
+                // before the shard is marked as started, so that it doesn't serve searches with a cold file cache
+                warmFileCache(recoveryResponse.hotBlocks);
+            }
             final TimeValue recoveryTime = new TimeValue(timer.time());
             // do this through ongoing recoveries to remove it from the collection
             onGoingRecoveries.markAsDone(recoveryId);
@@ -683,6 +708,33 @@ public class PeerRecoveryTargetService implements IndexEventListener {
             }
         }
 
+        /**
+         * Fetches the blocks that were read the most on the source node into the file cache. Failures are only logged: the
+         * blocks are fetched on demand anyway.
+         */
+        private void warmFileCache(List<String> hotBlocks) {
+            try (ReplicationRef<RecoveryTarget> recoveryRef = onGoingRecoveries.get(recoveryId)) {
+                if (recoveryRef == null) {
+                    return;
+                }
+                final long startNanos = System.nanoTime();
+                final long bytes = warmFileCache(recoveryRef.get().store().directory(), hotBlocks);
+                if (bytes < 0) {
+                    return;
+                }
+                logger.debug(
+                    "{} warmed [{}] of the file cache with [{}] blocks from [{}], took [{}]",
+                    request.shardId(),
+                    new ByteSizeValue(bytes),
+                    hotBlocks.size(),
+                    request.sourceNode(),
+                    new TimeValue(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS)
+                );
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("{} failed to warm the file cache", request.shardId()), e);
+            }
+        }
+
         @Override
         public void handleException(TransportException e) {
             onException(e);
@@ -32,6 +32,7 @@
 
 package org.opensearch.indices.recovery;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.transport.TransportResponse;
@@ -60,6 +61,11 @@ public final class RecoveryResponse extends TransportResponse {
     final int phase2Operations;
     final long phase2Time;
 
+    /**
+     * The file cache blocks of the shard that were read the most on the source node, to warm up on the target node
+     */
+    final List<String> hotBlocks;
+
     RecoveryResponse(
         List<String> phase1FileNames,
         List<Long> phase1FileSizes,
@@ -71,7 +77,8 @@ public final class RecoveryResponse extends TransportResponse {
         long phase1ThrottlingWaitTime,
         long startTime,
         int phase2Operations,
-        long phase2Time
+        long phase2Time,
+        List<String> hotBlocks
     ) {
         this.phase1FileNames = phase1FileNames;
         this.phase1FileSizes = phase1FileSizes;
@@ -84,6 +91,7 @@ public final class RecoveryResponse extends TransportResponse {
         this.startTime = startTime;
         this.phase2Operations = phase2Operations;
         this.phase2Time = phase2Time;
+        this.hotBlocks = hotBlocks;
     }
 
     RecoveryResponse(StreamInput in) throws IOException {
@@ -99,6 +107,11 @@ public final class RecoveryResponse extends TransportResponse {
         startTime = in.readVLong();
         phase2Operations = in.readVInt();
         phase2Time = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            hotBlocks = in.readStringList();
+        } else {
+            hotBlocks = List.of();
+        }
     }
 
     @Override
@@ -114,5 +127,8 @@ public final class RecoveryResponse extends TransportResponse {
         out.writeVLong(startTime);
         out.writeVInt(phase2Operations);
         out.writeVLong(phase2Time);
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeStringCollection(hotBlocks);
+        }
     }
 }
@@ -176,6 +176,32 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * Whether primaries of segment replication indices copy the output of large merges to their replicas as soon as the merge
+     * finishes, rather than with the next checkpoint.
+     */
+    public static final Setting<Boolean> INDICES_REPLICATION_MERGED_SEGMENT_WARMER_ENABLED_SETTING = Setting.boolSetting(
+        "indices.replication.merged_segment_warmer.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> INDICES_REPLICATION_MERGED_SEGMENT_WARMER_MIN_SEGMENT_SIZE_SETTING = Setting
+        .byteSizeSetting(
+            "indices.replication.merged_segment_warmer.min_segment_size",
+            new ByteSizeValue(500, ByteSizeUnit.MB),
+            Property.Dynamic,
+            Property.NodeScope
+        );
+
+    public static final Setting<TimeValue> INDICES_REPLICATION_MERGED_SEGMENT_WARMER_TIMEOUT_SETTING = Setting.positiveTimeSetting(
+        "indices.replication.merged_segment_warmer.timeout",
+        TimeValue.timeValueMinutes(15),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // choose 512KB-16B to ensure that the resulting byte[] is not a humongous allocation in G1.
     public static final ByteSizeValue DEFAULT_CHUNK_SIZE = new ByteSizeValue(512 * 1024 - 16, ByteSizeUnit.BYTES);
 
@@ -195,6 +221,9 @@ public class RecoverySettings {
 
     private volatile ByteSizeValue chunkSize = DEFAULT_CHUNK_SIZE;
     private volatile TimeValue internalRemoteUploadTimeout;
+    private volatile boolean mergedSegmentWarmerEnabled;
+    private volatile ByteSizeValue mergedSegmentWarmerMinSegmentSize;
+    private volatile TimeValue mergedSegmentWarmerTimeout;
 
     public RecoverySettings(Settings settings, ClusterSettings clusterSettings) {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
@@ -221,6 +250,9 @@ public class RecoverySettings {
 
         logger.debug("using recovery max_bytes_per_sec[{}]", recoveryMaxBytesPerSec);
         this.internalRemoteUploadTimeout = INDICES_INTERNAL_REMOTE_UPLOAD_TIMEOUT.get(settings);
+        this.mergedSegmentWarmerEnabled = INDICES_REPLICATION_MERGED_SEGMENT_WARMER_ENABLED_SETTING.get(settings);
+        this.mergedSegmentWarmerMinSegmentSize = INDICES_REPLICATION_MERGED_SEGMENT_WARMER_MIN_SEGMENT_SIZE_SETTING.get(settings);
+        this.mergedSegmentWarmerTimeout = INDICES_REPLICATION_MERGED_SEGMENT_WARMER_TIMEOUT_SETTING.get(settings);
 
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING, this::setRecoveryMaxBytesPerSec);
         clusterSettings.addSettingsUpdateConsumer(INDICES_REPLICATION_MAX_BYTES_PER_SEC_SETTING, this::setReplicationMaxBytesPerSec);
@@ -239,6 +271,18 @@ public class RecoverySettings {
         );
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_ACTIVITY_TIMEOUT_SETTING, this::setActivityTimeout);
         clusterSettings.addSettingsUpdateConsumer(INDICES_INTERNAL_REMOTE_UPLOAD_TIMEOUT, this::setInternalRemoteUploadTimeout);
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_REPLICATION_MERGED_SEGMENT_WARMER_ENABLED_SETTING,
+            value -> this.mergedSegmentWarmerEnabled = value
+        );
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_REPLICATION_MERGED_SEGMENT_WARMER_MIN_SEGMENT_SIZE_SETTING,
+            value -> this.mergedSegmentWarmerMinSegmentSize = value
+        );
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_REPLICATION_MERGED_SEGMENT_WARMER_TIMEOUT_SETTING,
+            value -> this.mergedSegmentWarmerTimeout = value
+        );
 
     }
 
@@ -278,6 +322,18 @@ public class RecoverySettings {
         return internalRemoteUploadTimeout;
     }
 
+    public boolean isMergedSegmentWarmerEnabled() {
+        return mergedSegmentWarmerEnabled;
+    }
+
+    public ByteSizeValue getMergedSegmentWarmerMinSegmentSize() {
+        return mergedSegmentWarmerMinSegmentSize;
+    }
+
+    public TimeValue getMergedSegmentWarmerTimeout() {
+        return mergedSegmentWarmerTimeout;
+    }
+
     public ByteSizeValue getChunkSize() {
         return chunkSize;
     }
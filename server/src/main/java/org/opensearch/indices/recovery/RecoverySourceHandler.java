@@ -68,6 +68,7 @@ import org.opensearch.index.shard.IndexShardClosedException;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.index.store.remote.directory.RemoteSnapshotDirectory;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.RunUnderPrimaryPermit;
 import org.opensearch.indices.replication.SegmentFileTransferHandler;
@@ -118,6 +119,11 @@ public abstract class RecoverySourceHandler {
     protected final List<Closeable> resources = new CopyOnWriteArrayList<>();
     protected final ListenableFuture<RecoveryResponse> future = new ListenableFuture<>();
     public static final String PEER_RECOVERY_NAME = "peer-recovery";
+
+    /**
+     * Maximum number of file cache blocks that the target warms up, that is 1GB with the default block size
+     */
+    static final int MAX_HOT_BLOCKS = 128;
     private final SegmentFileTransferHandler transferHandler;
 
     RecoverySourceHandler(
@@ -222,7 +228,8 @@ public abstract class RecoverySourceHandler {
                 phase1ThrottlingWaitTime,
                 prepareEngineStep.result().millis(),
                 sendSnapshotResult.sentOperations,
-                sendSnapshotResult.tookTime.millis()
+                sendSnapshotResult.tookTime.millis(),
+                hotBlocks()
             );
             try {
                 future.onResponse(response);
@@ -232,6 +239,15 @@ public abstract class RecoverySourceHandler {
         }, onFailure);
     }
 
+    /**
+     * Returns the file cache blocks of the shard that were read the most, if its files are read from a snapshot through the file
+     * cache, so that the target can fetch them before it starts serving searches.
+     */
+    private List<String> hotBlocks() {
+        final RemoteSnapshotDirectory directory = RemoteSnapshotDirectory.unwrap(shard.store().directory());
+        return directory == null ? Collections.emptyList() : directory.hotBlocks(MAX_HOT_BLOCKS);
+    }
+
     protected void onSendFileStepComplete(
         StepListener<SendFileResult> sendFileStep,
         GatedCloseable<IndexCommit> wrappedSafeCommit,
@@ -103,6 +103,7 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
         this.translogOpsRequestOptions = TransportRequestOptions.builder()
             .withType(TransportRequestOptions.Type.RECOVERY)
             .withTimeout(recoverySettings.internalActionLongTimeout())
+            .withCompression(TransportRequestOptions.CompressionPolicy.ALWAYS)
             .build();
         this.fileChunkWriter = new RemoteSegmentFileChunkWriter(
             recoveryId,
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
+import org.opensearch.indices.replication.common.ReplicationListener;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Copies the files of a segment that a merge just wrote on the primary, before the primary publishes it with its next
+ * checkpoint. The files are only moved to their final name in the store of the replica: they become part of the index of the
+ * replica once a regular round of segment replication reaches a checkpoint that references them, and this round won't copy
+ * them again since they are already present with the same checksum.
+ *
+ * @opensearch.internal
+ */
+public class MergedSegmentReplicationTarget extends SegmentReplicationTarget {
+
+    public final static String MERGE_REPLICATION_PREFIX = "merge.";
+
+    private final List<StoreFileMetadata> filesToFetch;
+
+    public MergedSegmentReplicationTarget(
+        IndexShard indexShard,
+        MergedSegmentCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        SegmentReplicationSource source,
+        ReplicationListener listener
+    ) {
+        super(indexShard, checkpoint, source, listener);
+        this.filesToFetch = filesToFetch;
+    }
+
+    @Override
+    protected String getPrefix() {
+        return MERGE_REPLICATION_PREFIX + super.getPrefix();
+    }
+
+    @Override
+    public MergedSegmentCheckpoint getCheckpoint() {
+        return (MergedSegmentCheckpoint) super.getCheckpoint();
+    }
+
+    @Override
+    public SegmentReplicationTarget retryCopy() {
+        return new MergedSegmentReplicationTarget(indexShard, getCheckpoint(), filesToFetch, source, listener);
+    }
+
+    @Override
+    public String description() {
+        return String.format(
+            Locale.ROOT,
+            "Id:[%d] Merged segment [%s] Shard:[%s] Source:[%s]",
+            getId(),
+            getCheckpoint().getSegmentName(),
+            shardId(),
+            source.getDescription()
+        );
+    }
+
+    @Override
+    public void startReplication(ActionListener<Void> listener) {
+        cancellableThreads.setOnCancel((reason, beforeCancelEx) -> {
+            throw new CancellableThreads.ExecutionCancelledException("merged segment replication was canceled reason [" + reason + "]");
+        });
+        logger.trace(new ParameterizedMessage("Starting Merged Segment Replication Target: {}", description()));
+        // the checkpoint already holds the metadata of the files, and the service only asks for the files that are missing
+        state().setStage(SegmentReplicationState.Stage.REPLICATING);
+        state().setStage(SegmentReplicationState.Stage.GET_CHECKPOINT_INFO);
+        state().setStage(SegmentReplicationState.Stage.FILE_DIFF);
+        for (StoreFileMetadata file : filesToFetch) {
+            state().getIndex().addFileDetail(file.name(), file.length(), false);
+        }
+        state().setStage(SegmentReplicationState.Stage.GET_FILES);
+        cancellableThreads.checkForCancel();
+        source.getMergedSegmentFiles(
+            getId(),
+            getCheckpoint(),
+            filesToFetch,
+            indexShard,
+            this::updateFileRecoveryBytes,
+            ActionListener.wrap(response -> {
+                cancellableThreads.checkForCancel();
+                state().setStage(SegmentReplicationState.Stage.FINALIZE_REPLICATION);
+                store.incRef();
+                try {
+                    multiFileWriter.renameAllTempFiles();
+                } finally {
+                    store.decRef();
+                }
+                listener.onResponse(null);
+            }, listener::onFailure)
+        );
+    }
+}
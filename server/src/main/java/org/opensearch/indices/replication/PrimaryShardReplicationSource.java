@@ -14,6 +14,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportRequestOptions;
@@ -23,6 +24,7 @@ import java.util.List;
 import java.util.function.BiConsumer;
 
 import static org.opensearch.indices.replication.SegmentReplicationSourceService.Actions.GET_CHECKPOINT_INFO;
+import static org.opensearch.indices.replication.SegmentReplicationSourceService.Actions.GET_MERGED_SEGMENT_FILES;
 import static org.opensearch.indices.replication.SegmentReplicationSourceService.Actions.GET_SEGMENT_FILES;
 
 /**
@@ -99,6 +101,31 @@ public class PrimaryShardReplicationSource implements SegmentReplicationSource {
         );
     }
 
+    @Override
+    public void getMergedSegmentFiles(
+        long replicationId,
+        MergedSegmentCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        IndexShard indexShard,
+        BiConsumer<String, Long> fileProgressTracker,
+        ActionListener<GetSegmentFilesResponse> listener
+    ) {
+        final GetMergedSegmentFilesRequest request = new GetMergedSegmentFilesRequest(
+            replicationId,
+            targetAllocationId,
+            targetNode,
+            filesToFetch,
+            checkpoint
+        );
+        transportService.sendRequest(
+            sourceNode,
+            GET_MERGED_SEGMENT_FILES,
+            request,
+            TransportRequestOptions.builder().withTimeout(recoverySettings.internalActionLongTimeout()).build(),
+            new ActionListenerResponseHandler<>(listener, GetSegmentFilesResponse::new, ThreadPool.Names.GENERIC)
+        );
+    }
+
     @Override
     public String getDescription() {
         return sourceNode.getName();
@@ -16,13 +16,13 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
-import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
@@ -131,28 +131,33 @@ public final class SegmentFileTransferHandler {
                     throw new CorruptIndexException("file truncated; length=" + md.length() + " offset=" + offset, md.name());
                 }
                 final boolean lastChunk = offset + bytesRead == md.length();
-                final FileChunk chunk = new FileChunk(
-                    md,
+                // the content is sent without being copied, so the buffer is only reused once both the chunk and the send let go of it
+                final ReleasableBytesReference content = new ReleasableBytesReference(
                     new BytesArray(buffer, 0, bytesRead),
-                    offset,
-                    lastChunk,
                     () -> buffers.addFirst(buffer)
                 );
+                final FileChunk chunk = new FileChunk(md, content, offset, lastChunk);
                 offset += bytesRead;
                 return chunk;
             }
 
             @Override
             protected void executeChunkRequest(FileChunk request, ActionListener<Void> listener1) {
-                cancellableThreads.checkForCancel();
-                chunkWriter.writeFileChunk(
-                    request.md,
-                    request.position,
-                    request.content,
-                    request.lastChunk,
-                    translogOps.getAsInt(),
-                    ActionListener.runBefore(listener1, request::close)
-                );
+                final ActionListener<Void> chunkListener = ActionListener.notifyOnce(ActionListener.runBefore(listener1, request::close));
+                try {
+                    cancellableThreads.checkForCancel();
+                    chunkWriter.writeFileChunk(
+                        request.md,
+                        request.position,
+                        request.content,
+                        request.lastChunk,
+                        translogOps.getAsInt(),
+                        chunkListener
+                    );
+                } catch (Exception e) {
+                    // the chunk was rejected before it was sent
+                    chunkListener.onFailure(e);
+                }
             }
 
             @Override
@@ -213,17 +218,15 @@ public final class SegmentFileTransferHandler {
      */
     public static final class FileChunk implements MultiChunkTransfer.ChunkRequest, Releasable {
         final StoreFileMetadata md;
-        final BytesReference content;
+        final ReleasableBytesReference content;
         final long position;
         final boolean lastChunk;
-        final Releasable onClose;
 
-        FileChunk(StoreFileMetadata md, BytesReference content, long position, boolean lastChunk, Releasable onClose) {
+        FileChunk(StoreFileMetadata md, ReleasableBytesReference content, long position, boolean lastChunk) {
             this.md = md;
             this.content = content;
             this.position = position;
             this.lastChunk = lastChunk;
-            this.onClose = onClose;
         }
 
         @Override
@@ -233,7 +236,7 @@ public final class SegmentFileTransferHandler {
 
         @Override
         public void close() {
-            onClose.close();
+            content.close();
         }
     }
 }
@@ -16,6 +16,7 @@ import org.opensearch.common.util.CancellableThreads.ExecutionCancelledException
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 
 import java.io.IOException;
@@ -57,6 +58,28 @@ public interface SegmentReplicationSource {
         ActionListener<GetSegmentFilesResponse> listener
     );
 
+    /**
+     * Fetch the files of a merged segment that the source did not publish yet. Passes a listener that completes when files are
+     * stored locally.
+     *
+     * @param replicationId {@link long} - ID of the replication event.
+     * @param checkpoint    {@link MergedSegmentCheckpoint} Checkpoint of the merged segment.
+     * @param filesToFetch  {@link List} List of files to fetch.
+     * @param indexShard    {@link IndexShard} Reference to the IndexShard.
+     * @param fileProgressTracker {@link BiConsumer} A consumer that updates the replication progress for shard files.
+     * @param listener      {@link ActionListener} Listener that completes with the list of files copied.
+     */
+    default void getMergedSegmentFiles(
+        long replicationId,
+        MergedSegmentCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        IndexShard indexShard,
+        BiConsumer<String, Long> fileProgressTracker,
+        ActionListener<GetSegmentFilesResponse> listener
+    ) {
+        listener.onFailure(new UnsupportedOperationException("Merged segment replication is not supported by " + getDescription()));
+    }
+
     /**
      * Get the source description
      */
@@ -11,6 +11,7 @@ package org.opensearch.indices.replication;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.StepListener;
 import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterStateListener;
@@ -21,12 +22,17 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.MultiChunkTransfer;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RetryableTransportClient;
 import org.opensearch.indices.replication.common.ReplicationTimer;
@@ -64,6 +70,7 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
         public static final String GET_CHECKPOINT_INFO = "internal:index/shard/replication/get_checkpoint_info";
         public static final String GET_SEGMENT_FILES = "internal:index/shard/replication/get_segment_files";
         public static final String UPDATE_VISIBLE_CHECKPOINT = "internal:index/shard/replication/update_visible_checkpoint";
+        public static final String GET_MERGED_SEGMENT_FILES = "internal:index/shard/replication/get_merged_segment_files";
     }
 
     private final OngoingSegmentReplications ongoingSegmentReplications;
@@ -96,6 +103,12 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
             UpdateVisibleCheckpointRequest::new,
             new UpdateVisibleCheckpointRequestHandler()
         );
+        transportService.registerRequestHandler(
+            Actions.GET_MERGED_SEGMENT_FILES,
+            ThreadPool.Names.GENERIC,
+            GetMergedSegmentFilesRequest::new,
+            new GetMergedSegmentFilesRequestHandler()
+        );
     }
 
     public SegmentReplicationSourceService(
@@ -151,6 +164,70 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Sends the files of a merged segment that is not published yet. The files don't need to be protected by a {@link CopyState}:
+     * the primary holds the merge back from being committed to its index writer until its replicas copied them.
+     */
+    private class GetMergedSegmentFilesRequestHandler implements TransportRequestHandler<GetMergedSegmentFilesRequest> {
+        @Override
+        public void messageReceived(GetMergedSegmentFilesRequest request, TransportChannel channel, Task task) throws Exception {
+            final ShardId shardId = request.getCheckpoint().getShardId();
+            final IndexShard indexShard = indicesService.indexServiceSafe(shardId.getIndex()).getShard(shardId.id());
+            final ActionListener<GetSegmentFilesResponse> listener = new ChannelActionListener<>(
+                channel,
+                Actions.GET_MERGED_SEGMENT_FILES,
+                request
+            );
+            final RemoteSegmentFileChunkWriter segmentSegmentFileChunkWriter = new RemoteSegmentFileChunkWriter(
+                request.getReplicationId(),
+                recoverySettings,
+                new RetryableTransportClient(
+                    transportService,
+                    request.getTargetNode(),
+                    recoverySettings.internalActionRetryTimeout(),
+                    logger
+                ),
+                shardId,
+                SegmentReplicationTargetService.Actions.FILE_CHUNK,
+                new AtomicLong(0),
+                (throttleTime) -> {},
+                recoverySettings::replicationRateLimiter
+            );
+            final SegmentFileTransferHandler transferHandler = new SegmentFileTransferHandler(
+                indexShard,
+                request.getTargetNode(),
+                segmentSegmentFileChunkWriter,
+                logger,
+                indexShard.getThreadPool(),
+                new CancellableThreads(),
+                Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
+                recoverySettings.getMaxConcurrentFileChunks()
+            );
+            final ReplicationTimer timer = new ReplicationTimer();
+            timer.start();
+            final StepListener<Void> sendFileStep = new StepListener<>();
+            final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = transferHandler.createTransfer(
+                indexShard.store(),
+                request.getFilesToFetch().toArray(new StoreFileMetadata[0]),
+                () -> 0,
+                sendFileStep
+            );
+            sendFileStep.whenComplete(r -> {
+                IOUtils.close(transfer);
+                timer.stop();
+                logger.trace(
+                    "[replication id {}] Source node sent merged segment [{}] to target node [{}], timing: {}",
+                    request.getReplicationId(),
+                    request.getCheckpoint().getSegmentName(),
+                    request.getTargetNode().getId(),
+                    timer.time()
+                );
+                listener.onResponse(new GetSegmentFilesResponse(request.getFilesToFetch()));
+            }, e -> IOUtils.closeWhileHandlingException(transfer, () -> listener.onFailure(e)));
+            transfer.start();
+        }
+    }
+
     private class UpdateVisibleCheckpointRequestHandler implements TransportRequestHandler<UpdateVisibleCheckpointRequest> {
         @Override
         public void messageReceived(UpdateVisibleCheckpointRequest request, TransportChannel channel, Task task) throws Exception {
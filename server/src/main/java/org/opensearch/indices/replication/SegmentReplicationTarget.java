@@ -49,7 +49,7 @@ import java.util.stream.Collectors;
 public class SegmentReplicationTarget extends ReplicationTarget {
 
     private final ReplicationCheckpoint checkpoint;
-    private final SegmentReplicationSource source;
+    protected final SegmentReplicationSource source;
     private final SegmentReplicationState state;
     protected final MultiFileWriter multiFileWriter;
 
@@ -272,7 +272,7 @@ public class SegmentReplicationTarget extends ReplicationTarget {
      * @param fileName Name of the file being downloaded
      * @param bytesRecovered Number of bytes recovered
      */
-    private void updateFileRecoveryBytes(String fileName, long bytesRecovered) {
+    protected void updateFileRecoveryBytes(String fileName, long bytesRecovered) {
         ReplicationLuceneIndex index = state.getIndex();
         if (index != null) {
             index.addRecoveredBytesToFile(fileName, bytesRecovered);
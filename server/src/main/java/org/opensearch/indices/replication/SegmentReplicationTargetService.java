@@ -34,11 +34,14 @@ import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.recovery.FileChunkRequest;
 import org.opensearch.indices.recovery.ForceSyncRequest;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RetryableTransportClient;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
+import org.opensearch.indices.replication.checkpoint.PublishMergedSegmentRequest;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.ReplicationCollection;
 import org.opensearch.indices.replication.common.ReplicationCollection.ReplicationRef;
@@ -53,9 +56,15 @@ import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import static org.opensearch.index.seqno.SequenceNumbers.NO_OPS_PERFORMED;
 import static org.opensearch.indices.replication.SegmentReplicationSourceService.Actions.UPDATE_VISIBLE_CHECKPOINT;
@@ -74,6 +83,11 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
 
     private final ReplicationCollection<SegmentReplicationTarget> onGoingReplications;
 
+    private final ReplicationCollection<SegmentReplicationTarget> onGoingMergedSegmentReplications;
+
+    // files of merged segments that were copied ahead of the checkpoint that references them, with the time they were copied at
+    private final Map<ShardId, Map<String, Long>> pendingMergedSegmentFiles = ConcurrentCollections.newConcurrentMap();
+
     private final Map<ShardId, SegmentReplicationState> completedReplications = ConcurrentCollections.newConcurrentMap();
 
     private final SegmentReplicationSourceFactory sourceFactory;
@@ -92,6 +106,7 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
     public static class Actions {
         public static final String FILE_CHUNK = "internal:index/shard/replication/file_chunk";
         public static final String FORCE_SYNC = "internal:index/shard/replication/segments_sync";
+        public static final String PUBLISH_MERGED_SEGMENT = "internal:index/shard/replication/publish_merged_segment";
     }
 
     public SegmentReplicationTargetService(
@@ -125,6 +140,7 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
         this.threadPool = threadPool;
         this.recoverySettings = recoverySettings;
         this.onGoingReplications = ongoingSegmentReplications;
+        this.onGoingMergedSegmentReplications = new ReplicationCollection<>(logger, threadPool);
         this.sourceFactory = sourceFactory;
         this.indicesService = indicesService;
         this.clusterService = clusterService;
@@ -142,6 +158,12 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
             ForceSyncRequest::new,
             new ForceSyncTransportRequestHandler()
         );
+        transportService.registerRequestHandler(
+            Actions.PUBLISH_MERGED_SEGMENT,
+            ThreadPool.Names.GENERIC,
+            PublishMergedSegmentRequest::new,
+            new PublishMergedSegmentTransportRequestHandler()
+        );
     }
 
     @Override
@@ -200,7 +222,9 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
     public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
         if (indexShard != null && indexShard.indexSettings().isSegRepEnabledOrRemoteNode()) {
             onGoingReplications.cancelForShard(indexShard.shardId(), "Shard closing");
+            onGoingMergedSegmentReplications.cancelForShard(indexShard.shardId(), "Shard closing");
             latestReceivedCheckpoint.remove(shardId);
+            pendingMergedSegmentFiles.remove(shardId);
         }
     }
 
@@ -225,7 +249,9 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
             && oldRouting.primary() == false
             && newRouting.primary()) {
             onGoingReplications.cancelForShard(indexShard.shardId(), "Shard has been promoted to primary");
+            onGoingMergedSegmentReplications.cancelForShard(indexShard.shardId(), "Shard has been promoted to primary");
             latestReceivedCheckpoint.remove(indexShard.shardId());
+            pendingMergedSegmentFiles.remove(indexShard.shardId());
         }
     }
 
@@ -324,6 +350,8 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
                         // update visible checkpoint to primary
                         updateVisibleCheckpoint(state.getReplicationId(), replicaShard);
 
+                        cleanUpMergedSegmentFiles(replicaShard);
+
                         // if we received a checkpoint during the copy event that is ahead of this
                         // try and process it.
                         processLatestReceivedCheckpoint(replicaShard, thread);
@@ -357,6 +385,143 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Invoked when a primary shard publishes a segment that a merge just wrote, before the checkpoint that references it.
+     * Copies the files of the segment that are missing locally, so that the round of replication to that checkpoint does not
+     * have to. The primary waits for the copy before it commits the merge, so the listener completes once the files are
+     * stored locally, or are not going to be.
+     *
+     * @param checkpoint checkpoint of the merged segment
+     * @param listener   listener that completes once the copy is over
+     */
+    public void onNewMergedSegmentCheckpoint(final MergedSegmentCheckpoint checkpoint, final ActionListener<Void> listener) {
+        logger.trace(() -> new ParameterizedMessage("Replica received merged segment from primary [{}]", checkpoint));
+        final IndexShard replicaShard = indicesService.getShardOrNull(checkpoint.getShardId());
+        if (replicaShard == null
+            || replicaShard.state().equals(IndexShardState.STARTED) == false
+            || replicaShard.routingEntry().primary()
+            || checkpoint.getPrimaryTerm() < replicaShard.getOperationPrimaryTerm()) {
+            logger.trace(() -> new ParameterizedMessage("Ignoring merged segment {}", checkpoint));
+            listener.onResponse(null);
+            return;
+        }
+        final List<StoreFileMetadata> filesToFetch;
+        try {
+            final Set<String> localFiles = new HashSet<>(Arrays.asList(replicaShard.store().directory().listAll()));
+            filesToFetch = checkpoint.getMetadataMap()
+                .values()
+                .stream()
+                .filter(file -> localFiles.contains(file.name()) == false)
+                .collect(Collectors.toList());
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (filesToFetch.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        final SegmentReplicationTarget target = new MergedSegmentReplicationTarget(
+            replicaShard,
+            checkpoint,
+            filesToFetch,
+            sourceFactory.get(replicaShard),
+            new SegmentReplicationListener() {
+                @Override
+                public void onReplicationDone(SegmentReplicationState state) {
+                    logger.debug(
+                        () -> new ParameterizedMessage(
+                            "[shardId {}] [replication id {}] Merged segment replication complete to {}, timing data: {}",
+                            replicaShard.shardId().getId(),
+                            state.getReplicationId(),
+                            checkpoint,
+                            state.getTimingData()
+                        )
+                    );
+                    final long now = threadPool.relativeTimeInMillis();
+                    final Map<String, Long> pendingFiles = pendingMergedSegmentFiles.computeIfAbsent(
+                        replicaShard.shardId(),
+                        k -> ConcurrentCollections.newConcurrentMap()
+                    );
+                    for (StoreFileMetadata file : filesToFetch) {
+                        pendingFiles.put(file.name(), now);
+                    }
+                    listener.onResponse(null);
+                }
+
+                @Override
+                public void onReplicationFailure(
+                    SegmentReplicationState state,
+                    ReplicationFailedException e,
+                    boolean sendShardFailure
+                ) {
+                    // copying ahead of the checkpoint is best effort, the next round of replication copies whatever is missing
+                    logReplicationFailure(state, e, replicaShard);
+                    listener.onFailure(e);
+                }
+            }
+        );
+        final long replicationId = onGoingMergedSegmentReplications.start(target, recoverySettings.activityTimeout());
+        threadPool.generic().execute(new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                onGoingMergedSegmentReplications.fail(
+                    replicationId,
+                    new ReplicationFailedException("Unexpected Error during merged segment replication", e),
+                    false
+                );
+            }
+
+            @Override
+            protected void doRun() {
+                target.startReplication(ActionListener.wrap(r -> onGoingMergedSegmentReplications.markAsDone(replicationId), e -> {
+                    onGoingMergedSegmentReplications.fail(
+                        replicationId,
+                        new ReplicationFailedException("Merged segment replication failed", e),
+                        false
+                    );
+                }));
+            }
+        });
+    }
+
+    /**
+     * Forgets about the files copied ahead of time that the replica now references, they are tracked by its engine from now on.
+     * Deletes the ones that are still not referenced after the primary had all the time it is given to publish them, their
+     * segment was merged away or the primary failed before it published them.
+     */
+    private void cleanUpMergedSegmentFiles(IndexShard replicaShard) {
+        final Map<String, Long> pendingFiles = pendingMergedSegmentFiles.get(replicaShard.shardId());
+        if (pendingFiles == null || pendingFiles.isEmpty()) {
+            return;
+        }
+        final Set<String> referencedFiles = replicaShard.getLatestReplicationCheckpoint().getMetadataMap().keySet();
+        final long expiredBefore = threadPool.relativeTimeInMillis() - 2 * recoverySettings.getMergedSegmentWarmerTimeout().millis();
+        final List<String> abandonedFiles = new ArrayList<>();
+        pendingFiles.entrySet().removeIf(entry -> {
+            if (referencedFiles.contains(entry.getKey())) {
+                return true;
+            }
+            if (entry.getValue() < expiredBefore) {
+                abandonedFiles.add(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+        if (abandonedFiles.isEmpty() == false && replicaShard.store().tryIncRef()) {
+            try {
+                logger.debug(
+                    "[shardId {}] Deleting merged segment files that were never published {}",
+                    replicaShard.shardId(),
+                    abandonedFiles
+                );
+                replicaShard.store().deleteQuiet(abandonedFiles.toArray(new String[0]));
+            } finally {
+                replicaShard.store().decRef();
+            }
+        }
+    }
+
     private void logReplicationFailure(SegmentReplicationState state, ReplicationFailedException e, IndexShard replicaShard) {
         // only log as error if error is not a cancellation.
         if (ExceptionsHelper.unwrap(e, CancellableThreads.ExecutionCancelledException.class) == null) {
@@ -632,10 +797,16 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
 
         @Override
         public void messageReceived(final FileChunkRequest request, TransportChannel channel, Task task) throws Exception {
-            try (ReplicationRef<SegmentReplicationTarget> ref = onGoingReplications.getSafe(request.recoveryId(), request.shardId())) {
+            // chunks of merged segments that are copied ahead of their checkpoint belong to a replication of their own
+            final ReplicationCollection<SegmentReplicationTarget> replications = onGoingMergedSegmentReplications.getTarget(
+                request.recoveryId()
+            ) != null ? onGoingMergedSegmentReplications : onGoingReplications;
+            try (ReplicationRef<SegmentReplicationTarget> ref = replications.getSafe(request.recoveryId(), request.shardId())) {
                 final SegmentReplicationTarget target = ref.get();
                 final ActionListener<Void> listener = target.createOrFinishListener(channel, Actions.FILE_CHUNK, request);
                 target.handleFileChunk(request, target, bytesSinceLastPause, recoverySettings.replicationRateLimiter(), listener);
+            } finally {
+                request.releaseContent();
             }
         }
     }
@@ -651,6 +822,19 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
         }
     }
 
+    private class PublishMergedSegmentTransportRequestHandler implements TransportRequestHandler<PublishMergedSegmentRequest> {
+        @Override
+        public void messageReceived(final PublishMergedSegmentRequest request, TransportChannel channel, Task task) throws Exception {
+            onNewMergedSegmentCheckpoint(
+                request.getCheckpoint(),
+                ActionListener.map(
+                    new ChannelActionListener<>(channel, Actions.PUBLISH_MERGED_SEGMENT, request),
+                    r -> TransportResponse.Empty.INSTANCE
+                )
+            );
+        }
+    }
+
     private void forceReplication(ForceSyncRequest request, ActionListener<TransportResponse> listener) {
         final ShardId shardId = request.getShardId();
         assert indicesService != null;
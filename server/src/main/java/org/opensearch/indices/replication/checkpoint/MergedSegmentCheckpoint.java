@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Describes a segment that a merge just wrote on the primary, before it is published by a {@link ReplicationCheckpoint}. The
+ * metadata map only holds the files of the merged segment, and the generation and version are the ones of the latest checkpoint
+ * of the primary when the merge finished.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class MergedSegmentCheckpoint extends ReplicationCheckpoint {
+
+    private final String segmentName;
+
+    public MergedSegmentCheckpoint(
+        ShardId shardId,
+        long primaryTerm,
+        long segmentsGen,
+        long segmentInfosVersion,
+        long length,
+        String codec,
+        Map<String, StoreFileMetadata> metadataMap,
+        String segmentName
+    ) {
+        super(shardId, primaryTerm, segmentsGen, segmentInfosVersion, length, codec, metadataMap);
+        this.segmentName = Objects.requireNonNull(segmentName);
+    }
+
+    public MergedSegmentCheckpoint(StreamInput in) throws IOException {
+        super(in);
+        this.segmentName = in.readString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(segmentName);
+    }
+
+    /**
+     * @return the name of the merged segment
+     */
+    public String getSegmentName() {
+        return segmentName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && segmentName.equals(((MergedSegmentCheckpoint) o).segmentName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), segmentName);
+    }
+
+    @Override
+    public String toString() {
+        return "MergedSegmentCheckpoint{"
+            + "shardId="
+            + getShardId()
+            + ", primaryTerm="
+            + getPrimaryTerm()
+            + ", segmentName="
+            + segmentName
+            + ", size="
+            + getLength()
+            + ", files="
+            + getMetadataMap().keySet()
+            + '}';
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
+import org.opensearch.indices.replication.common.ReplicationTimer;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Action responsible for publishing a segment that a merge just wrote on a primary shard to its replicas, before the checkpoint
+ * that references it is published.
+ * <p>
+ * Unlike {@link PublishCheckpointAction}, this action does not go through the replication of a primary operation: replicas copy
+ * the files of the segment before they respond, which may take a while, and they must not hold an operation permit meanwhile.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class PublishMergedSegmentAction {
+
+    protected static Logger logger = LogManager.getLogger(PublishMergedSegmentAction.class);
+
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+
+    @Inject
+    public PublishMergedSegmentAction(TransportService transportService, ClusterService clusterService, ThreadPool threadPool) {
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+    }
+
+    /**
+     * Publishes the merged segment to the replicas of the shard, and waits until they copied it, up to the merged segment warmer
+     * timeout. Failures are only logged: the replicas copy whatever they miss with the next checkpoint anyway.
+     */
+    final void publish(IndexShard indexShard, MergedSegmentCheckpoint checkpoint) {
+        final DiscoveryNodes nodes = clusterService.state().nodes();
+        final List<DiscoveryNode> replicaNodes = new ArrayList<>();
+        for (ShardRouting shardRouting : indexShard.getReplicationGroup().getReplicationTargets()) {
+            if (shardRouting.primary() == false && shardRouting.assignedToNode()) {
+                final DiscoveryNode node = nodes.get(shardRouting.currentNodeId());
+                if (node != null) {
+                    replicaNodes.add(node);
+                }
+            }
+        }
+        if (replicaNodes.isEmpty()) {
+            return;
+        }
+        final TimeValue timeout = indexShard.getRecoverySettings().getMergedSegmentWarmerTimeout();
+        final PlainActionFuture<Collection<Void>> future = PlainActionFuture.newFuture();
+        final GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(future, replicaNodes.size());
+        final ReplicationTimer timer = new ReplicationTimer();
+        timer.start();
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        try (ThreadContext.StoredContext ignore = threadContext.stashContext()) {
+            // we have to execute under the system context so that if security is enabled the request is authorized
+            threadContext.markAsSystemContext();
+            final PublishMergedSegmentRequest request = new PublishMergedSegmentRequest(checkpoint);
+            for (DiscoveryNode node : replicaNodes) {
+                final ActionListener<TransportResponse.Empty> listener = ActionListener.wrap(r -> groupedListener.onResponse(null), e -> {
+                    logger.warn(
+                        () -> new ParameterizedMessage(
+                            "{} merged segment [{}] publication to node [{}] failed",
+                            indexShard.shardId(),
+                            checkpoint.getSegmentName(),
+                            node
+                        ),
+                        e
+                    );
+                    groupedListener.onResponse(null);
+                });
+                transportService.sendRequest(
+                    node,
+                    SegmentReplicationTargetService.Actions.PUBLISH_MERGED_SEGMENT,
+                    request,
+                    TransportRequestOptions.builder().withTimeout(timeout).build(),
+                    new ActionListenerResponseHandler<>(listener, in -> TransportResponse.Empty.INSTANCE, ThreadPool.Names.SAME)
+                );
+            }
+        }
+        try {
+            future.actionGet(timeout);
+            timer.stop();
+            logger.trace(
+                () -> new ParameterizedMessage(
+                    "[shardId {}] Completed publishing merged segment [{}], timing: {}",
+                    indexShard.shardId().getId(),
+                    checkpoint,
+                    timer.time()
+                )
+            );
+        } catch (Exception e) {
+            logger.warn(
+                () -> new ParameterizedMessage(
+                    "{} gave up waiting for replicas to copy merged segment [{}]",
+                    indexShard.shardId(),
+                    checkpoint.getSegmentName()
+                ),
+                e
+            );
+        }
+    }
+}
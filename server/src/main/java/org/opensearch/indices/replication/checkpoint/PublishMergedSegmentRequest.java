@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Request sent by a primary shard to each of its replicas to publish a segment that a merge just wrote.
+ *
+ * @opensearch.internal
+ */
+public class PublishMergedSegmentRequest extends TransportRequest {
+
+    private final MergedSegmentCheckpoint checkpoint;
+
+    public PublishMergedSegmentRequest(MergedSegmentCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    public PublishMergedSegmentRequest(StreamInput in) throws IOException {
+        super(in);
+        this.checkpoint = new MergedSegmentCheckpoint(in);
+    }
+
+    /**
+     * Returns the checkpoint of the merged segment
+     */
+    public MergedSegmentCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        checkpoint.writeTo(out);
+    }
+
+    @Override
+    public String toString() {
+        return "PublishMergedSegmentRequest{" + "checkpoint=" + checkpoint + '}';
+    }
+}
@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.replication.checkpoint;
 
+import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.index.shard.IndexShard;
@@ -23,15 +24,24 @@ import java.util.Objects;
 public class SegmentReplicationCheckpointPublisher {
 
     private final PublishAction publishAction;
+    private final PublishMergedAction publishMergedAction;
 
     // This Component is behind feature flag so we are manually binding this in IndicesModule.
     @Inject
-    public SegmentReplicationCheckpointPublisher(PublishCheckpointAction publishAction) {
-        this(publishAction::publish);
+    public SegmentReplicationCheckpointPublisher(
+        PublishCheckpointAction publishAction,
+        PublishMergedSegmentAction publishMergedSegmentAction
+    ) {
+        this(publishAction::publish, publishMergedSegmentAction::publish);
     }
 
     public SegmentReplicationCheckpointPublisher(PublishAction publishAction) {
+        this(publishAction, (indexShard, checkpoint) -> {});
+    }
+
+    public SegmentReplicationCheckpointPublisher(PublishAction publishAction, PublishMergedAction publishMergedAction) {
         this.publishAction = Objects.requireNonNull(publishAction);
+        this.publishMergedAction = Objects.requireNonNull(publishMergedAction);
     }
 
     public void publish(IndexShard indexShard, ReplicationCheckpoint checkpoint) {
@@ -39,6 +49,13 @@ public class SegmentReplicationCheckpointPublisher {
         indexShard.onCheckpointPublished(checkpoint);
     }
 
+    /**
+     * Publishes a segment that a merge just wrote, and returns once the replicas copied it or the publication timed out.
+     */
+    public void publishMergedSegment(IndexShard indexShard, MergedSegmentCheckpoint checkpoint) {
+        publishMergedAction.publish(indexShard, checkpoint);
+    }
+
     /**
      * Represents an action that is invoked to publish segment replication checkpoint to replica shard
      *
@@ -49,6 +66,16 @@ public class SegmentReplicationCheckpointPublisher {
         void publish(IndexShard indexShard, ReplicationCheckpoint checkpoint);
     }
 
+    /**
+     * Represents an action that is invoked to publish a merged segment to replica shards
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public interface PublishMergedAction {
+        void publish(IndexShard indexShard, MergedSegmentCheckpoint checkpoint);
+    }
+
     /**
      * NoOp Checkpoint publisher
      */
@@ -155,6 +155,7 @@ import org.opensearch.index.store.RemoteSegmentStoreDirectoryFactory;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheCleaner;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.RemoteStoreSettings;
@@ -377,6 +378,17 @@ public class Node implements Closeable {
         Property.NodeScope
     );
 
+    /**
+     * How the file cache of a search node picks the files to evict: {@code lru} evicts the least recently used file exactly, and
+     * {@code clock} approximates it without taking any lock on cache hits, and closes and deletes evicted files in the background.
+     */
+    public static final Setting<SegmentedCache.EvictionPolicy> NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        "lru",
+        s -> SegmentedCache.EvictionPolicy.valueOf(s.toUpperCase(Locale.ROOT)),
+        Property.NodeScope
+    );
+
     private static final String CLIENT_TYPE = "node";
 
     /**
@@ -713,7 +725,7 @@ public class Node implements Closeable {
                 settingsModule.getClusterSettings()
             );
             // File cache will be initialized by the node once circuit breakers are in place.
-            initializeFileCache(settings, circuitBreakerService.getBreaker(CircuitBreaker.REQUEST));
+            initializeFileCache(settings, circuitBreakerService.getBreaker(CircuitBreaker.REQUEST), threadPool);
             final MonitorService monitorService = new MonitorService(settings, nodeEnvironment, threadPool, fileCache);
 
             pluginsService.filterPlugins(CircuitBreakerPlugin.class).forEach(plugin -> {
@@ -829,15 +841,16 @@ public class Node implements Closeable {
 
             final RemoteStoreSettings remoteStoreSettings = new RemoteStoreSettings(settings, settingsModule.getClusterSettings());
 
+            remoteStoreStatsTrackerFactory = new RemoteStoreStatsTrackerFactory(clusterService, settings, threadPool);
             final IndexStorePlugin.DirectoryFactory remoteDirectoryFactory = new RemoteSegmentStoreDirectoryFactory(
                 repositoriesServiceReference::get,
-                threadPool
+                threadPool,
+                remoteStoreStatsTrackerFactory.getSegmentUploadScheduler()
             );
 
             final SearchRequestStats searchRequestStats = new SearchRequestStats(clusterService.getClusterSettings());
             final SearchRequestSlowLog searchRequestSlowLog = new SearchRequestSlowLog(clusterService);
 
-            remoteStoreStatsTrackerFactory = new RemoteStoreStatsTrackerFactory(clusterService, settings);
             CacheModule cacheModule = new CacheModule(pluginsService.filterPlugins(CachePlugin.class), settings);
             CacheService cacheService = cacheModule.getCacheService();
             final IndicesService indicesService = new IndicesService(
@@ -2000,7 +2013,7 @@ public class Node implements Closeable {
      * If the user doesn't configure the cache size, it fails if the node is a data + search node.
      * Else it configures the size to 80% of available capacity for a dedicated search node, if not explicitly defined.
      */
-    private void initializeFileCache(Settings settings, CircuitBreaker circuitBreaker) throws IOException {
+    private void initializeFileCache(Settings settings, CircuitBreaker circuitBreaker, ThreadPool threadPool) throws IOException {
         if (DiscoveryNode.isSearchNode(settings)) {
             NodeEnvironment.NodePath fileCacheNodePath = nodeEnvironment.fileCacheNodePath();
             long capacity = NODE_SEARCH_CACHE_SIZE_SETTING.get(settings).getBytes();
@@ -2025,7 +2038,11 @@ public class Node implements Closeable {
             }
             capacity = Math.min(capacity, availableCapacity);
             fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(capacity, ByteSizeUnit.BYTES);
-            this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, circuitBreaker);
+            if (NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.get(settings) == SegmentedCache.EvictionPolicy.CLOCK) {
+                this.fileCache = FileCacheFactory.createConcurrentClockFileCache(capacity, circuitBreaker, threadPool.generic());
+            } else {
+                this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, circuitBreaker);
+            }
             List<Path> fileCacheDataPaths = collectFileCacheDataPath(fileCacheNodePath);
             this.fileCache.restoreFromDirectory(fileCacheDataPaths);
         }
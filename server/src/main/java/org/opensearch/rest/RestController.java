@@ -54,6 +54,7 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.http.HttpChunk;
 import org.opensearch.http.HttpServerTransport;
 import org.opensearch.identity.IdentityService;
 import org.opensearch.identity.Subject;
@@ -77,6 +78,8 @@ import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import org.reactivestreams.Publisher;
+
 import static org.opensearch.cluster.metadata.IndexNameExpressionResolver.SYSTEM_INDEX_ACCESS_CONTROL_HEADER_KEY;
 import static org.opensearch.core.rest.RestStatus.BAD_REQUEST;
 import static org.opensearch.core.rest.RestStatus.INTERNAL_SERVER_ERROR;
@@ -271,6 +274,20 @@ public class RestController implements HttpServerTransport.Dispatcher {
         }
     }
 
+    @Override
+    public boolean supportsStreaming(RestRequest.Method method, String rawPath) {
+        final Iterator<RestMethodHandlers> allHandlers = getAllRestMethodHandlers(new HashMap<>(), rawPath);
+        while (allHandlers.hasNext()) {
+            final RestMethodHandlers handlers = allHandlers.next();
+            final RestHandler handler = handlers == null ? null : handlers.getHandler(method);
+            if (handler != null) {
+                // the same handler that tryAllHandlers will dispatch the request to
+                return handler.supportsStreaming();
+            }
+        }
+        return false;
+    }
+
     @Override
     public void dispatchBadRequest(final RestChannel channel, final ThreadContext threadContext, final Throwable cause) {
         try {
@@ -294,7 +311,8 @@ public class RestController implements HttpServerTransport.Dispatcher {
 
     private void dispatchRequest(RestRequest request, RestChannel channel, RestHandler handler) throws Exception {
         final int contentLength = request.content().length();
-        if (contentLength > 0) {
+        // the content of a request to a streaming handler is yet to be received
+        if (contentLength > 0 || handler.supportsStreaming()) {
             final MediaType mediaType = request.getMediaType();
             if (mediaType == null) {
                 sendContentTypeErrorMessage(request.getAllHeaderValues("Content-Type"), channel);
@@ -319,7 +337,15 @@ public class RestController implements HttpServerTransport.Dispatcher {
                 inFlightRequestsBreaker(circuitBreakerService).addWithoutBreaking(contentLength);
             }
             // iff we could reserve bytes for the request we need to send the response also over this channel
-            responseChannel = new ResourceHandlingHttpChannel(channel, circuitBreakerService, contentLength);
+            if (channel instanceof StreamingRestChannel) {
+                responseChannel = new ResourceHandlingStreamingHttpChannel(
+                    (StreamingRestChannel) channel,
+                    circuitBreakerService,
+                    contentLength
+                );
+            } else {
+                responseChannel = new ResourceHandlingHttpChannel(channel, circuitBreakerService, contentLength);
+            }
             // TODO: Count requests double in the circuit breaker if they need copying?
             if (handler.allowsUnsafeBuffers() == false) {
                 request.ensureSafeBuffers();
@@ -582,7 +608,7 @@ public class RestController implements HttpServerTransport.Dispatcher {
         return validMethods;
     }
 
-    private static final class ResourceHandlingHttpChannel implements RestChannel {
+    private static class ResourceHandlingHttpChannel implements RestChannel {
         private final RestChannel delegate;
         private final CircuitBreakerService circuitBreakerService;
         private final int contentLength;
@@ -635,7 +661,7 @@ public class RestController implements HttpServerTransport.Dispatcher {
             delegate.sendResponse(response);
         }
 
-        private void close() {
+        void close() {
             // attempt to close once atomically
             if (closed.compareAndSet(false, true) == false) {
                 throw new IllegalStateException("Channel is already closed");
@@ -645,6 +671,37 @@ public class RestController implements HttpServerTransport.Dispatcher {
 
     }
 
+    private static final class ResourceHandlingStreamingHttpChannel extends ResourceHandlingHttpChannel implements StreamingRestChannel {
+        private final StreamingRestChannel delegate;
+
+        ResourceHandlingStreamingHttpChannel(
+            StreamingRestChannel delegate,
+            CircuitBreakerService circuitBreakerService,
+            int contentLength
+        ) {
+            super(delegate, circuitBreakerService, contentLength);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void prepareResponse(RestStatus status, Map<String, List<String>> headers) {
+            delegate.prepareResponse(status, headers);
+        }
+
+        @Override
+        public void sendChunk(HttpChunk chunk) {
+            if (chunk.isLast()) {
+                close();
+            }
+            delegate.sendChunk(chunk);
+        }
+
+        @Override
+        public Publisher<HttpChunk> requestContent() {
+            return delegate.requestContent();
+        }
+    }
+
     private static CircuitBreaker inFlightRequestsBreaker(CircuitBreakerService circuitBreakerService) {
         // We always obtain a fresh breaker to reflect changes to the breaker configuration.
         return circuitBreakerService.getBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS);
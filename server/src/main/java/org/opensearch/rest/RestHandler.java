@@ -72,6 +72,15 @@ public interface RestHandler {
         return false;
     }
 
+    /**
+     * Indicates if the RestHandler consumes the content of requests as it comes in, through
+     * {@link StreamingRestChannel#requestContent()}. Http transports that can stream request content then dispatch the request
+     * before reading its content, which isn't aggregated in {@link RestRequest#content()}.
+     */
+    default boolean supportsStreaming() {
+        return false;
+    }
+
     /**
      * Indicates if the RestHandler supports working with pooled buffers. If the request handler will not escape the return
      * {@link RestRequest#content()} or any buffers extracted from it then there is no need to make a copies of any pooled buffers in the
@@ -153,6 +162,11 @@ public interface RestHandler {
             return delegate.supportsContentStream();
         }
 
+        @Override
+        public boolean supportsStreaming() {
+            return delegate.supportsStreaming();
+        }
+
         @Override
         public boolean allowsUnsafeBuffers() {
             return delegate.allowsUnsafeBuffers();
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.http.HttpChunk;
+
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * A rest channel that can stream the body of its response in chunks. Handlers may still send a single response with
+ * {@link #sendResponse} as long as they haven't started streaming, typically to report a failure.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public interface StreamingRestChannel extends RestChannel {
+
+    /**
+     * Starts the streamed response, sending its status and headers.
+     */
+    void prepareResponse(RestStatus status, Map<String, List<String>> headers);
+
+    /**
+     * Sends a chunk of the body of the response, the response is complete once the last chunk is sent.
+     */
+    void sendChunk(HttpChunk chunk);
+
+    /**
+     * Returns the content of the request in chunks, the last of them flagged as such. Unless the handler of the request
+     * {@link RestHandler#supportsStreaming() supports streaming}, the content is the one of the request in a single chunk.
+     */
+    Publisher<HttpChunk> requestContent();
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.client.Requests;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.rest.RestRequest.Method.PUT;
+
+/**
+ * Rest action for a bulk request whose content is indexed as it's received, rather than once it's fully buffered. The request
+ * and its parameters are the same as for {@link RestBulkAction}, the content is cut into batches of {@code batch_size_in_bytes}
+ * which are executed while the rest of the content is read, and the response is a chunked stream of newline delimited json
+ * holding the bulk response of each batch, see {@link StreamingBulkRequestHandler}. Streaming requires an http transport that
+ * streams the content of requests and responses. Requests received over other transports, including the default netty4 one,
+ * are rejected with a bad request error, and should go through {@link RestBulkAction} instead.
+ *
+ * @opensearch.api
+ */
+public class RestBulkStreamingAction extends BaseRestHandler {
+
+    /**
+     * The size of the batches the content is cut into when the request doesn't set {@code batch_size_in_bytes}.
+     */
+    public static final ByteSizeValue DEFAULT_BATCH_SIZE = new ByteSizeValue(5, ByteSizeUnit.MB);
+
+    private final boolean allowExplicitIndex;
+
+    public RestBulkStreamingAction(Settings settings) {
+        this.allowExplicitIndex = MULTI_ALLOW_EXPLICIT_INDEX.get(settings);
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(
+            new Route(POST, "/_bulk/stream"),
+            new Route(PUT, "/_bulk/stream"),
+            new Route(POST, "/{index}/_bulk/stream"),
+            new Route(PUT, "/{index}/_bulk/stream")
+        );
+    }
+
+    @Override
+    public String getName() {
+        return "bulk_streaming_action";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final String defaultIndex = request.param("index");
+        final String defaultRouting = request.param("routing");
+        final FetchSourceContext defaultFetchSourceContext = FetchSourceContext.parseFromRestRequest(request);
+        final String defaultPipeline = request.param("pipeline");
+        final String waitForActiveShards = request.param("wait_for_active_shards");
+        final ActiveShardCount activeShardCount = waitForActiveShards == null ? null : ActiveShardCount.parseString(waitForActiveShards);
+        final Boolean defaultRequireAlias = request.paramAsBoolean(DocWriteRequest.REQUIRE_ALIAS, null);
+        final TimeValue timeout = request.paramAsTime("timeout", BulkShardRequest.DEFAULT_TIMEOUT);
+        final String refresh = request.param("refresh");
+        final int batchSize = request.paramAsInt("batch_size", 1);
+        final ByteSizeValue batchSizeInBytes = request.paramAsSize("batch_size_in_bytes", DEFAULT_BATCH_SIZE);
+        if (batchSizeInBytes.getBytes() <= 0) {
+            throw new IllegalArgumentException("[batch_size_in_bytes] must be positive but was [" + batchSizeInBytes + "]");
+        }
+        // checked by the rest controller, the content of the request is streamed
+        final MediaType mediaType = request.getMediaType();
+
+        final CheckedFunction<BytesReference, BulkRequest, IOException> requestParser = content -> {
+            final BulkRequest bulkRequest = Requests.bulkRequest();
+            if (activeShardCount != null) {
+                bulkRequest.waitForActiveShards(activeShardCount);
+            }
+            bulkRequest.timeout(timeout);
+            bulkRequest.setRefreshPolicy(refresh);
+            bulkRequest.batchSize(batchSize);
+            return bulkRequest.add(
+                content,
+                defaultIndex,
+                defaultRouting,
+                defaultFetchSourceContext,
+                defaultPipeline,
+                defaultRequireAlias,
+                allowExplicitIndex,
+                mediaType
+            );
+        };
+
+        return channel -> {
+            if (channel instanceof StreamingRestChannel == false) {
+                channel.sendResponse(
+                    new BytesRestResponse(channel, new IllegalArgumentException("the http transport does not support streaming responses"))
+                );
+                return;
+            }
+            final StreamingRestChannel streamingChannel = (StreamingRestChannel) channel;
+            final long batchBytes = batchSizeInBytes.getBytes();
+            streamingChannel.requestContent().subscribe(
+                new StreamingBulkRequestHandler(streamingChannel, client, requestParser, mediaType, batchBytes)
+            );
+        };
+    }
+
+    @Override
+    public boolean supportsContentStream() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+}
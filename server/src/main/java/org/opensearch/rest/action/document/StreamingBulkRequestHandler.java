@@ -0,0 +1,337 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.http.HttpChunk;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import static org.opensearch.core.xcontent.DeprecationHandler.THROW_UNSUPPORTED_OPERATION;
+
+/**
+ * Indexes the content of a bulk request as it's received. Complete items are accumulated into batches of about
+ * {@code batchSizeInBytes} that are executed as bulk requests of their own, while the rest of the content is still being read.
+ * The response of each batch is streamed to the channel as a line of newline delimited json, in the order of the batches.
+ * <p>
+ * Reading is paced by the execution of the batches: the next chunk is only requested while fewer than
+ * {@link #MAX_IN_FLIGHT_BATCHES} batches are executing, and a batch rejected by the indexing pressure of the coordinating node
+ * is retried with an exponential backoff in the meantime. A client that sends faster than the cluster indexes is therefore held
+ * back by TCP flow control rather than buffered on the heap.
+ *
+ * @opensearch.internal
+ */
+final class StreamingBulkRequestHandler implements Subscriber<HttpChunk> {
+
+    private static final Logger logger = LogManager.getLogger(StreamingBulkRequestHandler.class);
+
+    static final String CONTENT_TYPE = "application/x-ndjson";
+    static final int MAX_IN_FLIGHT_BATCHES = 2;
+    private static final BytesReference LINE_SEPARATOR = new BytesArray(new byte[] { '\n' });
+
+    private final StreamingRestChannel channel;
+    private final NodeClient client;
+    private final CheckedFunction<BytesReference, BulkRequest, IOException> requestParser;
+    private final XContent xContent;
+    private final byte separator;
+    private final long batchSizeInBytes;
+    private final Supplier<ThreadContext.StoredContext> contextSupplier;
+
+    // the batches that are executing or whose response waits for the ones of the previous batches to be sent
+    private final ArrayDeque<Batch> batches = new ArrayDeque<>();
+    private Subscription subscription;
+    // the received content that doesn't end with a separator yet
+    private BytesStreamOutput pending = new BytesStreamOutput();
+    private int scannedBytes;
+    // the complete items of the next batch
+    private BytesStreamOutput items = new BytesStreamOutput();
+    private boolean sourceExpected;
+    private int executedBatches;
+    private int inFlight;
+    private boolean demanded;
+    private boolean completed;
+    private boolean started;
+    private boolean done;
+    private Exception failure;
+
+    StreamingBulkRequestHandler(
+        StreamingRestChannel channel,
+        NodeClient client,
+        CheckedFunction<BytesReference, BulkRequest, IOException> requestParser,
+        MediaType mediaType,
+        long batchSizeInBytes
+    ) {
+        this.channel = channel;
+        this.client = client;
+        this.requestParser = requestParser;
+        this.xContent = mediaType.xContent();
+        this.separator = xContent.streamSeparator();
+        this.batchSizeInBytes = batchSizeInBytes;
+        this.contextSupplier = client.threadPool().getThreadContext().newRestorableContext(false);
+    }
+
+    @Override
+    public synchronized void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        demanded = true;
+        subscription.request(1);
+    }
+
+    @Override
+    public synchronized void onNext(HttpChunk chunk) {
+        demanded = false;
+        if (completed) {
+            return;
+        }
+        try {
+            chunk.content().writeTo(pending);
+            consumeLines();
+            if (chunk.isLast() && completed == false) {
+                if (pending.size() > 0) {
+                    // the last line may lack its separator
+                    pending.writeByte(separator);
+                    consumeLines();
+                }
+                if (sourceExpected) {
+                    throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
+                }
+                if (items.size() > 0 || executedBatches == 0) {
+                    executeBatch();
+                }
+                completed = true;
+            }
+        } catch (Exception e) {
+            fail(e);
+        }
+        maybeRequestOrFinish();
+    }
+
+    @Override
+    public synchronized void onError(Throwable t) {
+        // the channel was closed or failed to read, there is no one to respond to anymore
+        logger.debug("failed to read the content of a streamed bulk request", t);
+        completed = true;
+        done = true;
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (completed == false) {
+            fail(new IllegalStateException("the content of the bulk request ended unexpectedly"));
+            maybeRequestOrFinish();
+        }
+    }
+
+    /**
+     * Moves the complete lines of the pending content to the items of the next batch, and executes the batch once it's full.
+     */
+    private void consumeLines() throws IOException {
+        final BytesReference content = pending.bytes();
+        int from = 0;
+        // a batch that fails right away completes the request while its lines are consumed
+        for (int i = scannedBytes; i < content.length() && completed == false; i++) {
+            if (content.get(i) != separator) {
+                continue;
+            }
+            final BytesReference line = content.slice(from, i + 1 - from);
+            if (sourceExpected) {
+                sourceExpected = false;
+            } else {
+                sourceExpected = hasSource(line);
+            }
+            line.writeTo(items);
+            from = i + 1;
+            if (sourceExpected == false && items.size() >= batchSizeInBytes) {
+                executeBatch();
+            }
+        }
+        if (from > 0) {
+            final BytesStreamOutput remaining = new BytesStreamOutput();
+            content.slice(from, content.length() - from).writeTo(remaining);
+            pending = remaining;
+        }
+        scannedBytes = pending.size();
+    }
+
+    /**
+     * Returns whether the item of the given action line has a source line, that is whether it isn't a delete. Malformed lines
+     * are left to {@link org.opensearch.action.bulk.BulkRequestParser}, which reports them.
+     */
+    private boolean hasSource(BytesReference line) throws IOException {
+        try (
+            XContentParser parser = xContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                THROW_UNSUPPORTED_OPERATION,
+                line.slice(0, line.length() - 1).streamInput()
+            )
+        ) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                return false;
+            }
+            return parser.nextToken() == XContentParser.Token.FIELD_NAME && "delete".equals(parser.currentName()) == false;
+        }
+    }
+
+    private void executeBatch() throws IOException {
+        final BulkRequest request = requestParser.apply(items.bytes());
+        items = new BytesStreamOutput();
+        final Batch batch = new Batch(request);
+        batches.add(batch);
+        executedBatches++;
+        inFlight++;
+        execute(batch);
+    }
+
+    private void execute(Batch batch) {
+        try (ThreadContext.StoredContext ignore = contextSupplier.get()) {
+            client.bulk(batch.request, ActionListener.wrap(response -> onBatchResponse(batch, response), e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof OpenSearchRejectedExecutionException && batch.backoff.hasNext()) {
+                    final TimeValue delay = batch.backoff.next();
+                    logger.trace("retrying rejected batch of streamed bulk request in [{}]", delay);
+                    client.threadPool().schedule(() -> execute(batch), delay, ThreadPool.Names.SAME);
+                } else {
+                    onBatchFailure(batch, e);
+                }
+            }));
+        }
+    }
+
+    private synchronized void onBatchResponse(Batch batch, BulkResponse response) {
+        batch.response = response;
+        inFlight--;
+        maybeRequestOrFinish();
+    }
+
+    private synchronized void onBatchFailure(Batch batch, Exception e) {
+        batch.failure = e;
+        inFlight--;
+        maybeRequestOrFinish();
+    }
+
+    private void fail(Exception e) {
+        if (failure == null) {
+            failure = e;
+        }
+        completed = true;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Sends the responses of the batches that are done in order, then either requests more content or ends the response.
+     */
+    private void maybeRequestOrFinish() {
+        if (done) {
+            return;
+        }
+        try {
+            while (batches.isEmpty() == false && batches.peek().isDone()) {
+                final Batch batch = batches.poll();
+                if (batch.failure != null) {
+                    fail(batch.failure);
+                    // the batches after a failed one are still executed, their responses are dropped with the failure
+                    batches.clear();
+                    break;
+                }
+                final XContentBuilder builder = XContentFactory.jsonBuilder();
+                batch.response.toXContent(builder, channel.request());
+                sendChunk(builder, false);
+            }
+            if (completed == false) {
+                if (inFlight < MAX_IN_FLIGHT_BATCHES && demanded == false) {
+                    demanded = true;
+                    subscription.request(1);
+                }
+            } else if (batches.isEmpty()) {
+                done = true;
+                if (failure != null) {
+                    sendFailure(failure);
+                } else {
+                    channel.sendChunk(new HttpChunk(BytesArray.EMPTY, true));
+                }
+            }
+        } catch (Exception e) {
+            done = true;
+            logger.error("failed to send the response of a streamed bulk request", e);
+            channel.request().getHttpChannel().close();
+        }
+    }
+
+    private void sendFailure(Exception e) throws IOException {
+        if (started == false) {
+            channel.sendResponse(new BytesRestResponse(channel, e));
+            return;
+        }
+        final XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        OpenSearchException.generateFailureXContent(builder, channel.request(), e, channel.detailedErrorsEnabled());
+        builder.field("status", ExceptionsHelper.status(e).getStatus());
+        builder.endObject();
+        sendChunk(builder, true);
+    }
+
+    private void sendChunk(XContentBuilder builder, boolean last) {
+        if (started == false) {
+            channel.prepareResponse(RestStatus.OK, Map.of("Content-Type", List.of(CONTENT_TYPE)));
+            started = true;
+        }
+        final BytesReference content = CompositeBytesReference.of(BytesReference.bytes(builder), LINE_SEPARATOR);
+        channel.sendChunk(new HttpChunk(content, last));
+    }
+
+    private static final class Batch {
+        private final BulkRequest request;
+        private final Iterator<TimeValue> backoff = BackoffPolicy.exponentialBackoff().iterator();
+        private BulkResponse response;
+        private Exception failure;
+
+        Batch(BulkRequest request) {
+            this.request = request;
+        }
+
+        boolean isDone() {
+            return response != null || failure != null;
+        }
+    }
+}
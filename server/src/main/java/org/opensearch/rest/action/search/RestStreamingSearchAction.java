@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchTask;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+import org.opensearch.tasks.TaskId;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.rest.action.search.RestSearchAction.INCLUDE_NAMED_QUERIES_SCORE_PARAM;
+import static org.opensearch.rest.action.search.RestSearchAction.TOTAL_HITS_AS_INT_PARAM;
+import static org.opensearch.rest.action.search.RestSearchAction.TYPED_KEYS_PARAM;
+
+/**
+ * Rest action for a search that streams its partial results while shards are still running, so that clients can render the
+ * results of the fastest shards first. The request is the same as for {@link RestSearchAction}, the response is a chunked
+ * stream of newline delimited json objects, see {@link StreamingSearchResponseListener}. Streaming requires an http transport
+ * that supports chunked responses.
+ *
+ * @opensearch.api
+ */
+public class RestStreamingSearchAction extends BaseRestHandler {
+
+    /**
+     * The number of shard results between two partial reduces when the request doesn't set a batched reduce size, lower than
+     * for a regular search so that results stream at a finer grain.
+     */
+    public static final int DEFAULT_BATCHED_REDUCE_SIZE = 5;
+
+    private static final Set<String> RESPONSE_PARAMS = Set.of(TYPED_KEYS_PARAM, TOTAL_HITS_AS_INT_PARAM, INCLUDE_NAMED_QUERIES_SCORE_PARAM);
+
+    @Override
+    public String getName() {
+        return "streaming_search_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(
+            new Route(GET, "/_search/stream"),
+            new Route(POST, "/_search/stream"),
+            new Route(GET, "/{index}/_search/stream"),
+            new Route(POST, "/{index}/_search/stream")
+        );
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final SearchRequest searchRequest = new SearchRequest();
+        IntConsumer setSize = size -> searchRequest.source().size(size);
+        request.withContentOrSourceParamParserOrNull(
+            parser -> RestSearchAction.parseSearchRequest(searchRequest, request, parser, client.getNamedWriteableRegistry(), setSize)
+        );
+        if (request.hasParam("batched_reduce_size") == false) {
+            searchRequest.setBatchedReduceSize(DEFAULT_BATCHED_REDUCE_SIZE);
+        }
+        if (searchRequest.scroll() != null) {
+            throw new IllegalArgumentException("[scroll] is not supported by streaming search");
+        }
+
+        return channel -> {
+            if (channel instanceof StreamingRestChannel == false) {
+                channel.sendResponse(
+                    new BytesRestResponse(channel, new IllegalArgumentException("the http transport does not support streaming responses"))
+                );
+                return;
+            }
+            final StreamingSearchResponseListener listener = new StreamingSearchResponseListener((StreamingRestChannel) channel);
+            // the progress listener must be set on the task before the search starts
+            final SearchRequest progressRequest = new SearchRequest(searchRequest) {
+                @Override
+                public SearchTask createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                    SearchTask task = super.createTask(id, type, action, parentTaskId, headers);
+                    task.setProgressListener(listener);
+                    return task;
+                }
+            };
+            RestCancellableNodeClient cancelClient = new RestCancellableNodeClient(client, request.getHttpChannel());
+            cancelClient.execute(SearchAction.INSTANCE, progressRequest, listener);
+        };
+    }
+
+    @Override
+    protected Set<String> responseParams() {
+        return RESPONSE_PARAMS;
+    }
+}
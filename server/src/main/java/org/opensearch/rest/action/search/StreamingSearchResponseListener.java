@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.search.SearchProgressActionListener;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchShard;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.http.HttpChunk;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.rest.action.search.RestSearchAction.TOTAL_HITS_AS_INT_PARAM;
+
+/**
+ * Streams the progress of a search to a {@link StreamingRestChannel} as newline delimited json. Each partial reduce of the query
+ * phase is sent as a {@code partial} object with the number of shards reduced so far, their total hits and their partially
+ * reduced aggregations. The stream ends with a {@code response} object holding the search response, or with an {@code error}
+ * object if the search fails after the stream started. A search that fails before anything was streamed gets a regular error
+ * response instead.
+ *
+ * @opensearch.internal
+ */
+final class StreamingSearchResponseListener extends SearchProgressActionListener {
+
+    private static final Logger logger = LogManager.getLogger(StreamingSearchResponseListener.class);
+
+    static final String CONTENT_TYPE = "application/x-ndjson";
+    private static final BytesReference LINE_SEPARATOR = new BytesArray(new byte[] { '\n' });
+
+    private final StreamingRestChannel channel;
+    private int totalShards;
+    private int skippedShards;
+    private boolean started;
+    private boolean done;
+
+    StreamingSearchResponseListener(StreamingRestChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    protected synchronized void onListShards(
+        List<SearchShard> shards,
+        List<SearchShard> skippedShards,
+        SearchResponse.Clusters clusters,
+        boolean fetchPhase
+    ) {
+        this.totalShards = shards.size();
+        this.skippedShards = skippedShards.size();
+    }
+
+    @Override
+    protected synchronized void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+        if (done) {
+            return;
+        }
+        try {
+            final XContentBuilder builder = newBuilder();
+            builder.startObject();
+            builder.startObject("partial");
+            builder.field("num_reduce_phases", reducePhase);
+            builder.startObject("_shards");
+            builder.field("total", totalShards);
+            builder.field("skipped", skippedShards);
+            builder.field("reduced", shards.size());
+            builder.endObject();
+            if (totalHits != null) {
+                builder.startObject("hits");
+                if (channel.request().paramAsBoolean(TOTAL_HITS_AS_INT_PARAM, false)) {
+                    builder.field("total", totalHits.value);
+                } else {
+                    builder.startObject("total");
+                    builder.field("value", totalHits.value);
+                    builder.field("relation", totalHits.relation == TotalHits.Relation.EQUAL_TO ? "eq" : "gte");
+                    builder.endObject();
+                }
+                builder.endObject();
+            }
+            if (aggs != null) {
+                aggs.toXContent(builder, channel.request());
+            }
+            builder.endObject();
+            builder.endObject();
+            sendChunk(builder, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void onResponse(SearchResponse response) {
+        if (done) {
+            return;
+        }
+        final XContentBuilder builder;
+        try {
+            builder = newBuilder();
+            builder.startObject();
+            builder.field("response");
+            response.toXContent(builder, channel.request());
+            builder.endObject();
+        } catch (Exception e) {
+            onFailure(e);
+            return;
+        }
+        done = true;
+        sendChunk(builder, true);
+    }
+
+    @Override
+    public synchronized void onFailure(Exception e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        try {
+            if (started == false) {
+                channel.sendResponse(new BytesRestResponse(channel, e));
+                return;
+            }
+            final XContentBuilder builder = newBuilder();
+            builder.startObject();
+            OpenSearchException.generateFailureXContent(builder, channel.request(), e, channel.detailedErrorsEnabled());
+            builder.field("status", ExceptionsHelper.status(e).getStatus());
+            builder.endObject();
+            sendChunk(builder, true);
+        } catch (Exception inner) {
+            inner.addSuppressed(e);
+            logger.error("failed to send failure of streamed search", inner);
+        }
+    }
+
+    private XContentBuilder newBuilder() throws IOException {
+        // every chunk is a single line, so the response is never pretty printed
+        final XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.humanReadable(channel.request().paramAsBoolean("human", false));
+        return builder;
+    }
+
+    private void sendChunk(XContentBuilder builder, boolean last) {
+        if (started == false) {
+            channel.prepareResponse(RestStatus.OK, Map.of("Content-Type", List.of(CONTENT_TYPE)));
+            started = true;
+        }
+        final BytesReference content = CompositeBytesReference.of(BytesReference.bytes(builder), LINE_SEPARATOR);
+        channel.sendChunk(new HttpChunk(content, last));
+    }
+}
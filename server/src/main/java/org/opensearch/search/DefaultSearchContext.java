@@ -991,6 +991,17 @@ final class DefaultSearchContext extends SearchContext {
         return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING);
     }
 
+    @Override
+    public boolean shouldUseCostAwareSlicing() {
+        return shouldUseConcurrentSearch()
+            && clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICING_SETTING);
+    }
+
+    @Override
+    public int getMinPartitionDocCount() {
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_MIN_PARTITION_DOC_COUNT_SETTING);
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return indexShard.isTimeSeriesDescSortOptimizationEnabled()
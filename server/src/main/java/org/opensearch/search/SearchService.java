@@ -272,6 +272,26 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    // settings to balance the slices of concurrent segment search by the estimated cost of the query on each segment, splitting
+    // large segments into doc id ranges. The slice count is lowered while the search thread pool has queued tasks
+    public static final Setting<Boolean> CONCURRENT_SEGMENT_SEARCH_COST_AWARE_SLICING_SETTING = Setting.boolSetting(
+        "search.concurrent.cost_aware_slicing.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // segments are only split into doc id ranges that hold at least this many documents
+    public static final int CONCURRENT_SEGMENT_SEARCH_MIN_PARTITION_DOC_COUNT_DEFAULT_VALUE = 100_000;
+
+    public static final Setting<Integer> CONCURRENT_SEGMENT_SEARCH_MIN_PARTITION_DOC_COUNT_SETTING = Setting.intSetting(
+        "search.concurrent.cost_aware_slicing.min_partition_doc_count",
+        CONCURRENT_SEGMENT_SEARCH_MIN_PARTITION_DOC_COUNT_DEFAULT_VALUE,
+        1_000,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // value 0 means rewrite filters optimization in aggregations will be disabled
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
         "search.max_aggregation_rewrite_filters",
@@ -64,7 +64,7 @@ public abstract class AggregationCollectorManager implements CollectorManager<Co
         return buildAggregationResult(internalAggregations);
     }
 
-    protected AggregationReduceableSearchResult buildAggregationResult(InternalAggregations internalAggregations) {
+    protected AggregationReduceableSearchResult buildAggregationResult(InternalAggregations internalAggregations) throws IOException {
         return new AggregationReduceableSearchResult(internalAggregations);
     }
 
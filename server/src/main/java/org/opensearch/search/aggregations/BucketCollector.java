@@ -81,4 +81,13 @@ public abstract class BucketCollector implements Collector {
      */
     public abstract void postCollection() throws IOException;
 
+    /**
+     * Whether this collector can collect a leaf as several ranges of doc ids, each from its own instance of the collector as a
+     * concurrent search with intra-segment slices does. Collectors that answer a leaf as a whole, e.g. from the points or the
+     * star tree of the segment, don't.
+     */
+    public boolean supportsPartitions() throws IOException {
+        return false;
+    }
+
 }
@@ -14,6 +14,7 @@ import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.lucene.MinimumScoreCollector;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.profile.query.InternalProfileCollector;
+import org.opensearch.search.query.MultiCollectorWrapper;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -85,6 +86,36 @@ public class BucketCollectorProcessor {
         }
     }
 
+    /**
+     * Returns whether all the {@link BucketCollector} in the given {@link Collector} collector tree support collecting a leaf as
+     * several ranges of doc ids, see {@link BucketCollector#supportsPartitions()}. The other collectors of the query phase do: each
+     * range is collected by the collector of its own slice, and the weight of a range doesn't report the count of the whole leaf.
+     * @param collectorTree collector tree of a slice
+     */
+    public boolean supportsPartitions(Collector collectorTree) throws IOException {
+        final Queue<Collector> collectors = new LinkedList<>();
+        collectors.offer(collectorTree);
+        while (!collectors.isEmpty()) {
+            Collector currentCollector = collectors.poll();
+            if (currentCollector instanceof InternalProfileCollector) {
+                collectors.offer(((InternalProfileCollector) currentCollector).getCollector());
+            } else if (currentCollector instanceof MinimumScoreCollector) {
+                collectors.offer(((MinimumScoreCollector) currentCollector).getCollector());
+            } else if (currentCollector instanceof MultiCollector) {
+                for (Collector innerCollector : ((MultiCollector) currentCollector).getCollectors()) {
+                    collectors.offer(innerCollector);
+                }
+            } else if (currentCollector instanceof MultiCollectorWrapper) {
+                collectors.addAll(((MultiCollectorWrapper) currentCollector).getCollectors());
+            } else if (currentCollector instanceof BucketCollector) {
+                if (((BucketCollector) currentCollector).supportsPartitions() == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Unwraps the input collection of {@link Collector} to get the list of the {@link Aggregator} used by different slice threads. The
      * input is expected to contain the collectors related to Aggregations only as that is passed to {@link AggregationCollectorManager}
@@ -16,7 +16,6 @@ import org.opensearch.search.query.ReduceableSearchResult;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Objects;
 
 /**
@@ -58,12 +57,10 @@ public class GlobalAggCollectorManager extends AggregationCollectorManager {
     }
 
     @Override
-    protected AggregationReduceableSearchResult buildAggregationResult(InternalAggregations internalAggregations) {
+    protected AggregationReduceableSearchResult buildAggregationResult(InternalAggregations internalAggregations) throws IOException {
         // Reduce the aggregations across slices before sending to the coordinator. We will perform shard level reduce as long as any slices
         // were created so that we can apply shard level bucket count thresholds in the reduce phase.
-        return new AggregationReduceableSearchResult(
-            InternalAggregations.reduce(Collections.singletonList(internalAggregations), context.partialOnShard())
-        );
+        return new AggregationReduceableSearchResult(SliceAggregationsReducer.reduce(internalAggregations, context));
     }
 
     @Override
@@ -97,6 +97,7 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
         private final PipelineTree pipelineTreeRoot;
 
         private boolean isSliceLevel;
+        private boolean isPartialSliceReduce;
         /**
          * Supplies the pipelines when the result of the reduce is serialized
          * to node versions that need pipeline aggregators to be serialized
@@ -166,6 +167,19 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
             return this.isSliceLevel;
         }
 
+        /**
+         * Marks a slice level reduce as partial, when it reduces the results of only some of the slices of a shard. Like any slice
+         * level reduce it doesn't sum the shard level counts of the slices, but it leaves the slice level bucket count thresholds to
+         * the reduce of all the slices.
+         */
+        public void setPartialSliceReduce(boolean partialSliceReduce) {
+            this.isPartialSliceReduce = partialSliceReduce;
+        }
+
+        public boolean isPartialSliceReduce() {
+            return this.isSliceLevel && this.isPartialSliceReduce;
+        }
+
         /**
          * For slice level partial reduce we will apply shard level `shard_size` and `shard_min_doc_count` limits
          * whereas for coordinator level partial reduce it will use top level `size` and `min_doc_count`
@@ -61,7 +61,7 @@ public final class InternalAggregations extends Aggregations implements Writeabl
 
     public static final InternalAggregations EMPTY = new InternalAggregations(Collections.emptyList());
 
-    private static final Comparator<InternalAggregation> INTERNAL_AGG_COMPARATOR = (agg1, agg2) -> {
+    static final Comparator<InternalAggregation> INTERNAL_AGG_COMPARATOR = (agg1, agg2) -> {
         if (agg1.isMapped() == agg2.isMapped()) {
             return 0;
         } else if (agg1.isMapped() && agg2.isMapped() == false) {
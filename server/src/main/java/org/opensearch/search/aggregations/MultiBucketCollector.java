@@ -145,6 +145,16 @@ public class MultiBucketCollector extends BucketCollector {
         }
     }
 
+    @Override
+    public boolean supportsPartitions() throws IOException {
+        for (BucketCollector collector : collectors) {
+            if (collector.supportsPartitions() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void postCollection() throws IOException {
         for (BucketCollector collector : collectors) {
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.search.TaskExecutor;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Reduces the aggregations built by the slices of a concurrent segment search as a tree.
+ * <p>
+ * The results of each aggregation are reduced in batches of {@link #FAN_IN} slices, all batches of a level of the tree
+ * running in parallel on the executor of the searcher, until at most {@link #FAN_IN} results are left for each
+ * aggregation. These intermediate reductions are partial slice level reductions: they keep the slice level semantics of
+ * shard level counts, such as the superset sizes of {@code significant_terms}, which are the same for all slices and not
+ * summed, but they don't apply the slice level bucket count thresholds. The remaining results are then reduced with a
+ * slice level context on the calling thread, which applies them.
+ *
+ * @opensearch.internal
+ */
+final class SliceAggregationsReducer {
+
+    // the number of results reduced together by a single task
+    static final int FAN_IN = 4;
+
+    private SliceAggregationsReducer() {}
+
+    static InternalAggregations reduce(InternalAggregations sliceAggregations, SearchContext context) throws IOException {
+        return reduce(sliceAggregations, context::partialOnShard, context.searcher().getTaskExecutor());
+    }
+
+    /**
+     * @param sliceContext supplies slice level reduce contexts, one for each intermediate reduction and one for the final one
+     */
+    static InternalAggregations reduce(
+        InternalAggregations sliceAggregations,
+        Supplier<InternalAggregation.ReduceContext> sliceContext,
+        TaskExecutor executor
+    ) throws IOException {
+        Map<String, List<InternalAggregation>> resultsByName = new LinkedHashMap<>();
+        for (InternalAggregation aggregation : sliceAggregations.copyResults()) {
+            resultsByName.computeIfAbsent(aggregation.getName(), k -> new ArrayList<>()).add(aggregation);
+        }
+
+        while (resultsByName.values().stream().anyMatch(results -> results.size() > FAN_IN)) {
+            final List<Callable<InternalAggregation>> tasks = new ArrayList<>();
+            final List<List<InternalAggregation>> targets = new ArrayList<>();
+            for (Map.Entry<String, List<InternalAggregation>> entry : resultsByName.entrySet()) {
+                final List<InternalAggregation> results = entry.getValue();
+                if (results.size() <= FAN_IN) {
+                    continue;
+                }
+                final List<InternalAggregation> next = new ArrayList<>();
+                entry.setValue(next);
+                for (int from = 0; from < results.size(); from += FAN_IN) {
+                    final List<InternalAggregation> batch = new ArrayList<>(results.subList(from, Math.min(from + FAN_IN, results.size())));
+                    if (batch.size() == 1) {
+                        tasks.add(() -> batch.get(0));
+                    } else {
+                        // contexts are built on this thread, since building them isn't thread-safe
+                        final InternalAggregation.ReduceContext reduceContext = sliceContext.get();
+                        assert reduceContext.isSliceLevel() : "intermediate reductions must keep the slice level semantics";
+                        reduceContext.setPartialSliceReduce(true);
+                        tasks.add(() -> {
+                            // unmapped aggregations come last, so that a mapped one leads the reduction
+                            batch.sort(InternalAggregations.INTERNAL_AGG_COMPARATOR);
+                            return batch.get(0).reduce(batch, reduceContext);
+                        });
+                    }
+                    targets.add(next);
+                }
+            }
+            final List<InternalAggregation> reduced = executor.invokeAll(tasks);
+            for (int i = 0; i < reduced.size(); i++) {
+                targets.get(i).add(reduced.get(i));
+            }
+        }
+
+        final List<InternalAggregation> remaining = new ArrayList<>();
+        resultsByName.values().forEach(remaining::addAll);
+        return InternalAggregations.reduce(Collections.singletonList(InternalAggregations.from(remaining)), sliceContext.get());
+    }
+}
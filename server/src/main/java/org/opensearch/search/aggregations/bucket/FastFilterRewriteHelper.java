@@ -14,6 +14,8 @@ import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -25,6 +27,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.Rounding;
@@ -32,23 +35,26 @@ import org.opensearch.common.lucene.search.function.FunctionScoreQuery;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.query.DateRangeIncludingNowQuery;
-import org.opensearch.search.aggregations.bucket.composite.CompositeAggregator;
 import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceConfig;
 import org.opensearch.search.aggregations.bucket.composite.RoundingValuesSource;
+import org.opensearch.search.aggregations.bucket.histogram.DoubleBounds;
 import org.opensearch.search.aggregations.bucket.histogram.LongBounds;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
 
@@ -60,7 +66,15 @@ import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
  * <ul>
  *  <li> date histogram : date range filter.
  *   Applied: DateHistogramAggregator, AutoDateHistogramAggregator, CompositeAggregator </li>
+ *  <li> histogram : numeric range filter, one per bucket.
+ *   Applied: NumericHistogramAggregator </li>
+ *  <li> range : numeric range filter, one per range that doesn't overlap the others.
+ *   Applied: RangeAggregator </li>
+ *  <li> terms : doc freqs of the indexed terms, when the query matches the whole segment.
+ *   Applied: GlobalOrdinalsStringTermsAggregator </li>
  * </ul>
+ * Numeric rewrites traverse the point tree of the field with sorted ranges, counting whole nodes that fall inside a range
+ * without visiting their documents.
  *
  * @opensearch.internal
  */
@@ -86,26 +100,51 @@ public final class FastFilterRewriteHelper {
      * for applying the optimization
      */
     private static Query unwrapIntoConcreteQuery(Query query) {
-        while (queryWrappers.containsKey(query.getClass())) {
+        while (query != null && queryWrappers.containsKey(query.getClass())) {
             query = queryWrappers.get(query.getClass()).apply(query);
         }
 
         return query;
     }
 
+    /**
+     * Decodes the sortable long of a single dimension point
+     */
+    private static long decodePoint(final byte[] packedValue, final int bytesPerDim) {
+        if (bytesPerDim == Long.BYTES) {
+            return NumericUtils.sortableBytesToLong(packedValue, 0);
+        }
+        return NumericUtils.sortableBytesToInt(packedValue, 0);
+    }
+
+    private static byte[] encodePoint(final long point, final int bytesPerDim) {
+        final byte[] packedValue = new byte[bytesPerDim];
+        if (bytesPerDim == Long.BYTES) {
+            NumericUtils.longToSortableBytes(point, packedValue, 0);
+        } else {
+            NumericUtils.intToSortableBytes(Math.toIntExact(point), packedValue, 0);
+        }
+        return packedValue;
+    }
+
+    private static boolean hasSingleDimension(final PointValues values, final int bytesPerDim) throws IOException {
+        return values.getNumDimensions() == 1 && values.getBytesPerDimension() == bytesPerDim;
+    }
+
     /**
      * Finds the global min and max bounds of the field for the shard across all segments
      *
      * @return null if the field is empty or not indexed
      */
-    private static long[] getShardBounds(final SearchContext context, final String fieldName) throws IOException {
+    private static long[] getShardBounds(final SearchContext context, final String fieldName, final int bytesPerDim)
+        throws IOException {
         final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
         long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
         for (LeafReaderContext leaf : leaves) {
-            final PointValues values = leaf.reader().getPointValues(fieldName);
-            if (values != null) {
-                min = Math.min(min, NumericUtils.sortableBytesToLong(values.getMinPackedValue(), 0));
-                max = Math.max(max, NumericUtils.sortableBytesToLong(values.getMaxPackedValue(), 0));
+            final long[] segmentBounds = getSegmentBounds(leaf, fieldName, bytesPerDim);
+            if (segmentBounds != null) {
+                min = Math.min(min, segmentBounds[0]);
+                max = Math.max(max, segmentBounds[1]);
             }
         }
 
@@ -120,17 +159,14 @@ public final class FastFilterRewriteHelper {
      *
      * @return null if the field is empty or not indexed
      */
-    private static long[] getSegmentBounds(final LeafReaderContext context, final String fieldName) throws IOException {
-        long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+    private static long[] getSegmentBounds(final LeafReaderContext context, final String fieldName, final int bytesPerDim)
+        throws IOException {
         final PointValues values = context.reader().getPointValues(fieldName);
-        if (values != null) {
-            min = Math.min(min, NumericUtils.sortableBytesToLong(values.getMinPackedValue(), 0));
-            max = Math.max(max, NumericUtils.sortableBytesToLong(values.getMaxPackedValue(), 0));
-        }
-
-        if (min == Long.MAX_VALUE || max == Long.MIN_VALUE) {
+        if (values == null || values.size() == 0 || hasSingleDimension(values, bytesPerDim) == false) {
             return null;
         }
+        final long min = decodePoint(values.getMinPackedValue(), bytesPerDim);
+        final long max = decodePoint(values.getMaxPackedValue(), bytesPerDim);
         return new long[] { min, max };
     }
 
@@ -138,34 +174,36 @@ public final class FastFilterRewriteHelper {
      * Gets the min and max bounds of the field for the shard search
      * Depending on the query part, the bounds are computed differently
      *
+     * @param bytesPerDim the number of bytes of the points of the field, bounds are sortable longs or ints accordingly
      * @return null if the processed query not supported by the optimization
      */
-    public static long[] getDateHistoAggBounds(final SearchContext context, final String fieldName) throws IOException {
+    public static long[] getAggregationBounds(final SearchContext context, final String fieldName, final int bytesPerDim)
+        throws IOException {
         final Query cq = unwrapIntoConcreteQuery(context.query());
         if (cq instanceof PointRangeQuery) {
             final PointRangeQuery prq = (PointRangeQuery) cq;
-            final long[] indexBounds = getShardBounds(context, fieldName);
+            final long[] indexBounds = getShardBounds(context, fieldName, bytesPerDim);
             if (indexBounds == null) return null;
-            return getBoundsWithRangeQuery(prq, fieldName, indexBounds);
+            return getBoundsWithRangeQuery(prq, fieldName, indexBounds, bytesPerDim);
         } else if (cq instanceof MatchAllDocsQuery) {
-            return getShardBounds(context, fieldName);
+            return getShardBounds(context, fieldName, bytesPerDim);
         } else if (cq instanceof FieldExistsQuery) {
             // when a range query covers all values of a shard, it will be rewrite field exists query
             if (((FieldExistsQuery) cq).getField().equals(fieldName)) {
-                return getShardBounds(context, fieldName);
+                return getShardBounds(context, fieldName, bytesPerDim);
             }
         }
 
         return null;
     }
 
-    private static long[] getBoundsWithRangeQuery(PointRangeQuery prq, String fieldName, long[] indexBounds) {
+    private static long[] getBoundsWithRangeQuery(PointRangeQuery prq, String fieldName, long[] indexBounds, int bytesPerDim) {
         // Ensure that the query and aggregation are on the same field
-        if (prq.getField().equals(fieldName)) {
+        if (prq.getField().equals(fieldName) && prq.getNumDims() == 1 && prq.getBytesPerDim() == bytesPerDim) {
             // Minimum bound for aggregation is the max between query and global
-            long lower = Math.max(NumericUtils.sortableBytesToLong(prq.getLowerPoint(), 0), indexBounds[0]);
+            long lower = Math.max(decodePoint(prq.getLowerPoint(), bytesPerDim), indexBounds[0]);
             // Maximum bound for aggregation is the min between query and global
-            long upper = Math.min(NumericUtils.sortableBytesToLong(prq.getUpperPoint(), 0), indexBounds[1]);
+            long upper = Math.min(decodePoint(prq.getUpperPoint(), bytesPerDim), indexBounds[1]);
             if (lower > upper) {
                 return null;
             }
@@ -188,7 +226,7 @@ public final class FastFilterRewriteHelper {
         private final SearchContext context;
 
         private String fieldName;
-        private long[][] ranges;
+        private Ranges ranges;
 
         // debug info related fields
         public int leaf;
@@ -230,8 +268,8 @@ public final class FastFilterRewriteHelper {
             }
         }
 
-        public long[][] buildRanges(LeafReaderContext leaf) throws IOException {
-            long[][] ranges = this.aggregationType.buildRanges(leaf, context);
+        Ranges buildRanges(LeafReaderContext leaf) throws IOException {
+            Ranges ranges = this.aggregationType.buildRanges(leaf, context);
             if (ranges != null) {
                 logger.debug("Ranges built for shard {} segment {}", context.indexShard().shardId(), leaf.ord);
             }
@@ -242,6 +280,18 @@ public final class FastFilterRewriteHelper {
             leaf += debug.leaf;
             inner += debug.inner;
         }
+
+        /**
+         * Adds the debug info of the optimization to the profile of the aggregator, only if it was applied to a segment
+         */
+        public void collectDebugInfo(BiConsumer<String, Object> add) {
+            if (optimizedSegments > 0) {
+                add.accept("optimized_segments", optimizedSegments);
+                add.accept("unoptimized_segments", segments - optimizedSegments);
+                add.accept("leaf_visited", leaf);
+                add.accept("inner_visited", inner);
+            }
+        }
     }
 
     /**
@@ -250,9 +300,37 @@ public final class FastFilterRewriteHelper {
     interface AggregationType {
         boolean isRewriteable(Object parent, int subAggLength);
 
-        long[][] buildRanges(SearchContext ctx) throws IOException;
+        Ranges buildRanges(SearchContext ctx) throws IOException;
+
+        Ranges buildRanges(LeafReaderContext leaf, SearchContext ctx) throws IOException;
 
-        long[][] buildRanges(LeafReaderContext leaf, SearchContext ctx) throws IOException;
+        /**
+         * @return the number of non-zero ranges to collect
+         */
+        default int getSize() {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * The ranges to count the documents of, ascending and without overlap, though not necessarily contiguous. The bounds are
+     * inclusive and expressed as the sortable longs of the points of the field, each range counting into the bucket of its key.
+     */
+    static final class Ranges {
+        final long[][] bounds;
+        final long[] keys;
+        final int bytesPerDim;
+
+        Ranges(long[][] bounds, long[] keys, int bytesPerDim) {
+            assert bounds.length == keys.length;
+            this.bounds = bounds;
+            this.keys = keys;
+            this.bytesPerDim = bytesPerDim;
+        }
+
+        int size() {
+            return bounds.length;
+        }
     }
 
     /**
@@ -286,13 +364,13 @@ public final class FastFilterRewriteHelper {
         }
 
         @Override
-        public long[][] buildRanges(SearchContext context) throws IOException {
-            long[] bounds = getDateHistoAggBounds(context, fieldType.name());
+        public Ranges buildRanges(SearchContext context) throws IOException {
+            long[] bounds = getAggregationBounds(context, fieldType.name(), Long.BYTES);
             logger.debug("Bounds are {} for shard {}", bounds, context.indexShard().shardId());
             return buildRanges(context, bounds);
         }
 
-        private long[][] buildRanges(SearchContext context, long[] bounds) throws IOException {
+        private Ranges buildRanges(SearchContext context, long[] bounds) throws IOException {
             bounds = processHardBounds(bounds);
             if (bounds == null) {
                 return null;
@@ -320,8 +398,8 @@ public final class FastFilterRewriteHelper {
         }
 
         @Override
-        public long[][] buildRanges(LeafReaderContext leaf, SearchContext context) throws IOException {
-            long[] bounds = getSegmentBounds(leaf, fieldType.name());
+        public Ranges buildRanges(LeafReaderContext leaf, SearchContext context) throws IOException {
+            long[] bounds = getSegmentBounds(leaf, fieldType.name(), Long.BYTES);
             logger.debug("Bounds are {} for shard {} segment {}", bounds, context.indexShard().shardId(), leaf.ord);
             return buildRanges(context, bounds);
         }
@@ -356,6 +434,288 @@ public final class FastFilterRewriteHelper {
         }
     }
 
+    /**
+     * Maps the points of a numeric field to the values aggregators read from its doc values, so that bounds on values can be
+     * turned into bounds on points. Values are monotonic in points, which is what allows searching the point of a value.
+     */
+    static final class NumericPointEncoding {
+        private static final NumericPointEncoding LONG_ENCODING = new NumericPointEncoding(
+            Long.BYTES,
+            Long.MIN_VALUE,
+            Long.MAX_VALUE,
+            p -> p
+        );
+        private static final NumericPointEncoding INT_ENCODING = new NumericPointEncoding(
+            Integer.BYTES,
+            Integer.MIN_VALUE,
+            Integer.MAX_VALUE,
+            p -> p
+        );
+        // NaN sorts above positive infinity, it is left out since no range or bucket matches it
+        private static final NumericPointEncoding DOUBLE_ENCODING = new NumericPointEncoding(
+            Long.BYTES,
+            NumericUtils.doubleToSortableLong(Double.NEGATIVE_INFINITY),
+            NumericUtils.doubleToSortableLong(Double.POSITIVE_INFINITY),
+            NumericUtils::sortableLongToDouble
+        );
+        private static final NumericPointEncoding FLOAT_ENCODING = new NumericPointEncoding(
+            Integer.BYTES,
+            NumericUtils.floatToSortableInt(Float.NEGATIVE_INFINITY),
+            NumericUtils.floatToSortableInt(Float.POSITIVE_INFINITY),
+            p -> NumericUtils.sortableIntToFloat((int) p)
+        );
+
+        final int bytesPerDim;
+        private final long minPoint;
+        private final long maxPoint;
+        private final LongToDoubleFunction pointToValue;
+
+        private NumericPointEncoding(int bytesPerDim, long minPoint, long maxPoint, LongToDoubleFunction pointToValue) {
+            this.bytesPerDim = bytesPerDim;
+            this.minPoint = minPoint;
+            this.maxPoint = maxPoint;
+            this.pointToValue = pointToValue;
+        }
+
+        /**
+         * @return null if the points of the field can't be mapped to its values
+         */
+        static NumericPointEncoding of(MappedFieldType fieldType) {
+            if (fieldType instanceof DateFieldMapper.DateFieldType) {
+                // points and doc values hold the same longs, whatever the resolution
+                return LONG_ENCODING;
+            }
+            if (fieldType instanceof NumberFieldMapper.NumberFieldType == false) {
+                return null;
+            }
+            switch (((NumberFieldMapper.NumberFieldType) fieldType).numericType()) {
+                case LONG:
+                    return LONG_ENCODING;
+                case INT:
+                case SHORT:
+                case BYTE:
+                    return INT_ENCODING;
+                case DOUBLE:
+                    return DOUBLE_ENCODING;
+                case FLOAT:
+                    return FLOAT_ENCODING;
+                default:
+                    return null;
+            }
+        }
+
+        double value(long point) {
+            return pointToValue.applyAsDouble(point);
+        }
+
+        /**
+         * @return the bounds restricted to the points of non-NaN values, null if none is left
+         */
+        long[] clip(long[] bounds) {
+            if (bounds == null) {
+                return null;
+            }
+            final long min = Math.max(bounds[0], minPoint);
+            final long max = Math.min(bounds[1], maxPoint);
+            return min <= max ? new long[] { min, max } : null;
+        }
+
+        /**
+         * Binary searches the first point of {@code [low, high]} whose value matches the predicate, which must be false then
+         * true as points grow, and true for {@code high}.
+         */
+        long firstPoint(long low, long high, DoublePredicate predicate) {
+            assert predicate.test(value(high));
+            while (low < high) {
+                // unsigned shift so that the distance between the points can't overflow
+                final long mid = low + ((high - low) >>> 1);
+                if (predicate.test(value(mid))) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * For range aggregation
+     */
+    public static class RangeAggregationType implements AggregationType {
+        private final MappedFieldType fieldType;
+        private final boolean missing;
+        private final boolean hasScript;
+        private final double[] from;
+        private final double[] to;
+        private final NumericPointEncoding encoding;
+
+        /**
+         * @param from the inclusive lower bounds of the ranges, ascending
+         * @param to the exclusive upper bounds of the ranges
+         */
+        public RangeAggregationType(MappedFieldType fieldType, boolean missing, boolean hasScript, double[] from, double[] to) {
+            assert from.length == to.length;
+            this.fieldType = fieldType;
+            this.missing = missing;
+            this.hasScript = hasScript;
+            this.from = from;
+            this.to = to;
+            this.encoding = fieldType == null ? null : NumericPointEncoding.of(fieldType);
+        }
+
+        @Override
+        public boolean isRewriteable(Object parent, int subAggLength) {
+            if (parent != null || subAggLength != 0 || missing || hasScript || encoding == null || fieldType.isSearchable() == false) {
+                return false;
+            }
+            // a point must fall in at most one range to be counted in a single pass over the tree
+            for (int i = 1; i < from.length; i++) {
+                if (to[i - 1] > from[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Ranges buildRanges(SearchContext context) throws IOException {
+            long[] bounds = getAggregationBounds(context, fieldType.name(), encoding.bytesPerDim);
+            logger.debug("Bounds are {} for shard {}", bounds, context.indexShard().shardId());
+            return buildRanges(encoding.clip(bounds), context.maxAggRewriteFilters());
+        }
+
+        @Override
+        public Ranges buildRanges(LeafReaderContext leaf, SearchContext context) throws IOException {
+            long[] bounds = getSegmentBounds(leaf, fieldType.name(), encoding.bytesPerDim);
+            logger.debug("Bounds are {} for shard {} segment {}", bounds, context.indexShard().shardId(), leaf.ord);
+            return buildRanges(encoding.clip(bounds), context.maxAggRewriteFilters());
+        }
+
+        private Ranges buildRanges(long[] bounds, int maxNumFilterBuckets) {
+            if (bounds == null) {
+                return null;
+            }
+            if (from.length > maxNumFilterBuckets) {
+                logger.debug("Max number of filters reached [{}], skip the fast filter optimization", maxNumFilterBuckets);
+                return null;
+            }
+            final long low = bounds[0], high = bounds[1];
+            final List<long[]> ranges = new ArrayList<>(from.length);
+            final List<Long> keys = new ArrayList<>(from.length);
+            for (int i = 0; i < from.length; i++) {
+                final double rangeFrom = from[i], rangeTo = to[i];
+                if (encoding.value(high) < rangeFrom || encoding.value(low) >= rangeTo) {
+                    // no point of the bounds falls in the range
+                    continue;
+                }
+                final long lower = encoding.firstPoint(low, high, v -> v >= rangeFrom);
+                final long upper = encoding.value(high) < rangeTo ? high : encoding.firstPoint(low, high, v -> v >= rangeTo) - 1;
+                if (lower <= upper) {
+                    ranges.add(new long[] { lower, upper });
+                    keys.add((long) i);
+                }
+            }
+            if (ranges.isEmpty()) {
+                return null;
+            }
+            return new Ranges(ranges.toArray(new long[0][]), keys.stream().mapToLong(Long::longValue).toArray(), encoding.bytesPerDim);
+        }
+    }
+
+    /**
+     * For numeric histogram aggregation
+     */
+    public static class NumericHistogramAggregationType implements AggregationType {
+        // keys above are no longer contiguous doubles, so can't be enumerated
+        private static final double MAX_EXACT_KEY = 1L << 52;
+
+        private final MappedFieldType fieldType;
+        private final boolean missing;
+        private final boolean hasScript;
+        private final double interval;
+        private final double offset;
+        private final DoubleBounds hardBounds;
+        private final NumericPointEncoding encoding;
+
+        public NumericHistogramAggregationType(
+            MappedFieldType fieldType,
+            boolean missing,
+            boolean hasScript,
+            double interval,
+            double offset,
+            DoubleBounds hardBounds
+        ) {
+            this.fieldType = fieldType;
+            this.missing = missing;
+            this.hasScript = hasScript;
+            this.interval = interval;
+            this.offset = offset;
+            this.hardBounds = hardBounds;
+            this.encoding = fieldType == null ? null : NumericPointEncoding.of(fieldType);
+        }
+
+        @Override
+        public boolean isRewriteable(Object parent, int subAggLength) {
+            return parent == null && subAggLength == 0 && !missing && !hasScript && encoding != null && fieldType.isSearchable();
+        }
+
+        @Override
+        public Ranges buildRanges(SearchContext context) throws IOException {
+            long[] bounds = getAggregationBounds(context, fieldType.name(), encoding.bytesPerDim);
+            logger.debug("Bounds are {} for shard {}", bounds, context.indexShard().shardId());
+            return buildRanges(encoding.clip(bounds), context.maxAggRewriteFilters());
+        }
+
+        @Override
+        public Ranges buildRanges(LeafReaderContext leaf, SearchContext context) throws IOException {
+            long[] bounds = getSegmentBounds(leaf, fieldType.name(), encoding.bytesPerDim);
+            logger.debug("Bounds are {} for shard {} segment {}", bounds, context.indexShard().shardId(), leaf.ord);
+            return buildRanges(encoding.clip(bounds), context.maxAggRewriteFilters());
+        }
+
+        /**
+         * The bucket of a value, computed exactly like the aggregator does
+         */
+        private double bucketKey(double value) {
+            return Math.floor((value - offset) / interval);
+        }
+
+        private Ranges buildRanges(long[] bounds, int maxNumFilterBuckets) {
+            if (bounds == null) {
+                return null;
+            }
+            final long low = bounds[0], high = bounds[1];
+            final double minKey = bucketKey(encoding.value(low));
+            final double maxKey = bucketKey(encoding.value(high));
+            // also false for infinite keys
+            if ((maxKey - minKey < maxNumFilterBuckets && Math.abs(minKey) < MAX_EXACT_KEY && Math.abs(maxKey) < MAX_EXACT_KEY) == false) {
+                logger.debug("Max number of filters reached [{}], skip the fast filter optimization", maxNumFilterBuckets);
+                return null;
+            }
+
+            final int bucketCount = (int) (maxKey - minKey) + 1;
+            final List<long[]> ranges = new ArrayList<>(bucketCount);
+            final List<Long> keys = new ArrayList<>(bucketCount);
+            long lower = low;
+            for (int i = 0; i < bucketCount; i++) {
+                final double key = minKey + i;
+                final double nextKey = key + 1;
+                // the first point of the next bucket, if any, bounds this one
+                final long upper = i + 1 == bucketCount ? high : encoding.firstPoint(lower, high, v -> bucketKey(v) >= nextKey) - 1;
+                if (lower <= upper && (hardBounds == null || hardBounds.contain(key * interval))) {
+                    ranges.add(new long[] { lower, upper });
+                    keys.add(Double.doubleToLongBits(key));
+                }
+                lower = upper + 1;
+            }
+            if (ranges.isEmpty()) {
+                return null;
+            }
+            return new Ranges(ranges.toArray(new long[0][]), keys.stream().mapToLong(Long::longValue).toArray(), encoding.bytesPerDim);
+        }
+    }
+
     public static boolean isCompositeAggRewriteable(CompositeValuesSourceConfig[] sourceConfigs) {
         return sourceConfigs.length == 1 && sourceConfigs[0].valuesSource() instanceof RoundingValuesSource;
     }
@@ -369,7 +729,7 @@ public final class FastFilterRewriteHelper {
     }
 
     /**
-     * Try to get the bucket doc counts for the date histogram aggregation
+     * Try to get the bucket doc counts of the aggregation by traversing the point tree of the field with its ranges
      * <p>
      * Usage: invoked at segment level — in getLeafCollector of aggregator
      *
@@ -392,8 +752,7 @@ public final class FastFilterRewriteHelper {
         // only proceed if every document corresponds to exactly one point
         if (values.getDocCount() != values.size()) return false;
 
-        NumericDocValues docCountValues = DocValues.getNumeric(ctx.reader(), DocCountFieldMapper.NAME);
-        if (docCountValues.nextDoc() != NO_MORE_DOCS) {
+        if (hasDocCountField(ctx)) {
             logger.debug(
                 "Shard {} segment {} has at least one document with _doc_count field, skip fast filter optimization",
                 fastFilterContext.context.indexShard().shardId(),
@@ -407,7 +766,7 @@ public final class FastFilterRewriteHelper {
         if (!fastFilterContext.rangesBuiltAtShardLevel && !segmentMatchAll(fastFilterContext.context, ctx)) {
             return false;
         }
-        long[][] ranges = fastFilterContext.ranges;
+        Ranges ranges = fastFilterContext.ranges;
         if (ranges == null) {
             logger.debug(
                 "Shard {} segment {} functionally match all documents. Build the fast filter",
@@ -419,15 +778,10 @@ public final class FastFilterRewriteHelper {
                 return false;
             }
         }
+        if (hasSingleDimension(values, ranges.bytesPerDim) == false) return false;
 
-        final AggregationType aggregationType = fastFilterContext.aggregationType;
-        assert aggregationType instanceof AbstractDateHistogramAggregationType;
-        final DateFieldMapper.DateFieldType fieldType = ((AbstractDateHistogramAggregationType) aggregationType).getFieldType();
-        int size = Integer.MAX_VALUE;
-        if (aggregationType instanceof CompositeAggregator.CompositeAggregationType) {
-            size = ((CompositeAggregator.CompositeAggregationType) aggregationType).getSize();
-        }
-        DebugInfo debugInfo = multiRangesTraverse(values.getPointTree(), ranges, incrementDocCount, fieldType, size);
+        final int size = fastFilterContext.aggregationType.getSize();
+        DebugInfo debugInfo = multiRangesTraverse(values.getPointTree(), ranges, incrementDocCount, size);
         fastFilterContext.consumeDebugInfo(debugInfo);
 
         fastFilterContext.optimizedSegments++;
@@ -436,16 +790,78 @@ public final class FastFilterRewriteHelper {
         return true;
     }
 
+    private static boolean hasDocCountField(LeafReaderContext ctx) throws IOException {
+        NumericDocValues docCountValues = DocValues.getNumeric(ctx.reader(), DocCountFieldMapper.NAME);
+        return docCountValues.nextDoc() != NO_MORE_DOCS;
+    }
+
     private static boolean segmentMatchAll(SearchContext ctx, LeafReaderContext leafCtx) throws IOException {
         Weight weight = ctx.searcher().createWeight(ctx.query(), ScoreMode.COMPLETE_NO_SCORES, 1f);
         return weight != null && weight.count(leafCtx) == leafCtx.reader().numDocs();
     }
 
+    /**
+     * Try to get the bucket doc counts of a terms aggregation from the doc freqs of the indexed terms, instead of reading the
+     * ordinals of every document. Doc freqs are exact when the top level query matches all documents of the segment, which
+     * also implies that the segment has no deletions.
+     * <p>
+     * Usage: invoked at segment level — in getLeafCollector of aggregator
+     *
+     * @param weight the weight of the top level query
+     * @param ordinalsTermsEnum the terms of the ordinals the aggregator counts, sorted like the indexed terms
+     * @param acceptedOrds whether the term of an ordinal is counted
+     * @param incrementDocCount takes in the ordinal and the doc count of its term
+     */
+    public static boolean tryPostingsTermsCount(
+        final LeafReaderContext ctx,
+        final Weight weight,
+        final String fieldName,
+        final TermsEnum ordinalsTermsEnum,
+        final LongPredicate acceptedOrds,
+        final BiConsumer<Long, Integer> incrementDocCount
+    ) throws IOException {
+        if (weight == null || weight.count(ctx) != ctx.reader().maxDoc()) {
+            return false;
+        }
+
+        Terms segmentTerms = ctx.reader().terms(fieldName);
+        if (segmentTerms == null) {
+            // Field is not indexed.
+            return false;
+        }
+
+        if (hasDocCountField(ctx)) {
+            return false;
+        }
+
+        TermsEnum indexTermsEnum = segmentTerms.iterator();
+        BytesRef indexTerm = indexTermsEnum.next();
+        BytesRef ordinalTerm = ordinalsTermsEnum.next();
+
+        // Iterate over the terms in the segment, look for matches in the ordinal terms,
+        // and increment bucket count when segment terms match ordinal terms.
+        while (indexTerm != null && ordinalTerm != null) {
+            int compare = indexTerm.compareTo(ordinalTerm);
+            if (compare == 0) {
+                if (acceptedOrds.test(ordinalsTermsEnum.ord())) {
+                    incrementDocCount.accept(ordinalsTermsEnum.ord(), indexTermsEnum.docFreq());
+                }
+                indexTerm = indexTermsEnum.next();
+                ordinalTerm = ordinalsTermsEnum.next();
+            } else if (compare < 0) {
+                indexTerm = indexTermsEnum.next();
+            } else {
+                ordinalTerm = ordinalsTermsEnum.next();
+            }
+        }
+        return true;
+    }
+
     /**
      * Creates the date ranges from date histo aggregations using its interval,
      * and min/max boundaries
      */
-    private static long[][] createRangesFromAgg(
+    private static Ranges createRangesFromAgg(
         final SearchContext context,
         final DateFieldMapper.DateFieldType fieldType,
         final long interval,
@@ -472,6 +888,7 @@ public final class FastFilterRewriteHelper {
         }
 
         long[][] ranges = new long[bucketCount][2];
+        long[] keys = new long[bucketCount];
         if (bucketCount > 0) {
             roundedLow = preparedRounding.round(fieldType.convertNanosToMillis(low));
 
@@ -487,11 +904,12 @@ public final class FastFilterRewriteHelper {
 
                 ranges[i][0] = lower;
                 ranges[i][1] = upper;
+                keys[i] = fieldType.convertNanosToMillis(lower);
                 i++;
             }
         }
 
-        return ranges;
+        return new Ranges(ranges, keys, Long.BYTES);
     }
 
     /**
@@ -499,38 +917,30 @@ public final class FastFilterRewriteHelper {
      */
     private static DebugInfo multiRangesTraverse(
         final PointValues.PointTree tree,
-        final long[][] ranges,
+        final Ranges ranges,
         final BiConsumer<Long, Integer> incrementDocCount,
-        final DateFieldMapper.DateFieldType fieldType,
         final int maxNumNonZeroRanges
     ) throws IOException {
-        // ranges are connected and in ascending order
-        Iterator<long[]> rangeIter = Arrays.stream(ranges).iterator();
-        long[] activeRange = rangeIter.next();
+        // ranges are in ascending order, there may be gaps between them
+        int rangeIndex = 0;
 
         // make sure the first range at least crosses the min value of the tree
         DebugInfo debugInfo = new DebugInfo();
-        if (activeRange[0] > NumericUtils.sortableBytesToLong(tree.getMaxPackedValue(), 0)) {
+        if (ranges.bounds[0][0] > decodePoint(tree.getMaxPackedValue(), ranges.bytesPerDim)) {
             logger.debug("No ranges match the query, skip the fast filter optimization");
             return debugInfo;
         }
-        while (activeRange[1] < NumericUtils.sortableBytesToLong(tree.getMinPackedValue(), 0)) {
-            if (!rangeIter.hasNext()) {
+        final long treeMin = decodePoint(tree.getMinPackedValue(), ranges.bytesPerDim);
+        while (ranges.bounds[rangeIndex][1] < treeMin) {
+            if (++rangeIndex == ranges.size()) {
                 logger.debug("No ranges match the query, skip the fast filter optimization");
                 return debugInfo;
             }
-            activeRange = rangeIter.next();
         }
 
-        RangeCollectorForPointTree collector = new RangeCollectorForPointTree(
-            incrementDocCount,
-            fieldType,
-            rangeIter,
-            maxNumNonZeroRanges,
-            activeRange
-        );
+        RangeCollectorForPointTree collector = new RangeCollectorForPointTree(incrementDocCount, ranges, rangeIndex, maxNumNonZeroRanges);
 
-        final ArrayUtil.ByteArrayComparator comparator = ArrayUtil.getUnsignedComparator(8);
+        final ArrayUtil.ByteArrayComparator comparator = ArrayUtil.getUnsignedComparator(ranges.bytesPerDim);
         PointValues.IntersectVisitor visitor = getIntersectVisitor(collector, comparator);
         try {
             intersectWithRanges(visitor, tree, collector, debugInfo);
@@ -633,10 +1043,14 @@ public final class FastFilterRewriteHelper {
                         throw new CollectionTerminatedException();
                     }
                     // compare the next range with this node's min max again
-                    // new rangeMin = previous rangeMax + 1 <= min
+                    rangeMin = collector.activeRangeAsByteArray[0];
                     rangeMax = collector.activeRangeAsByteArray[1];
                 }
 
+                if (compareByteValue(rangeMin, maxPackedValue) > 0) {
+                    // the node falls in the gap before the active range
+                    return PointValues.Relation.CELL_OUTSIDE_QUERY;
+                }
                 if (compareByteValue(rangeMin, minPackedValue) > 0 || compareByteValue(rangeMax, maxPackedValue) < 0) {
                     return PointValues.Relation.CELL_CROSSES_QUERY;
                 } else {
@@ -648,28 +1062,25 @@ public final class FastFilterRewriteHelper {
 
     private static class RangeCollectorForPointTree {
         private final BiConsumer<Long, Integer> incrementDocCount;
-        private final DateFieldMapper.DateFieldType fieldType;
+        private final Ranges ranges;
         private int counter = 0;
 
-        private long[] activeRange;
+        private int activeRange;
         private byte[][] activeRangeAsByteArray;
-        private final Iterator<long[]> rangeIter;
 
         private int visitedRange = 0;
         private final int maxNumNonZeroRange;
 
         public RangeCollectorForPointTree(
             BiConsumer<Long, Integer> incrementDocCount,
-            DateFieldMapper.DateFieldType fieldType,
-            Iterator<long[]> rangeIter,
-            int maxNumNonZeroRange,
-            long[] activeRange
+            Ranges ranges,
+            int activeRange,
+            int maxNumNonZeroRange
         ) {
             this.incrementDocCount = incrementDocCount;
-            this.fieldType = fieldType;
-            this.rangeIter = rangeIter;
-            this.maxNumNonZeroRange = maxNumNonZeroRange;
+            this.ranges = ranges;
             this.activeRange = activeRange;
+            this.maxNumNonZeroRange = maxNumNonZeroRange;
             this.activeRangeAsByteArray = activeRangeAsByteArray();
         }
 
@@ -683,9 +1094,9 @@ public final class FastFilterRewriteHelper {
 
         private void finalizePreviousRange() {
             if (counter > 0) {
-                logger.debug("finalize previous range: {}", activeRange[0]);
+                logger.debug("finalize previous range: {}", ranges.bounds[activeRange][0]);
                 logger.debug("counter: {}", counter);
-                incrementDocCount.accept(fieldType.convertNanosToMillis(activeRange[0]), counter);
+                incrementDocCount.accept(ranges.keys[activeRange], counter);
                 counter = 0;
             }
         }
@@ -697,10 +1108,10 @@ public final class FastFilterRewriteHelper {
             // the new value may not be contiguous to the previous one
             // so try to find the first next range that cross the new value
             while (comparator.apply(activeRangeAsByteArray[1], value) < 0) {
-                if (!rangeIter.hasNext()) {
+                if (activeRange + 1 == ranges.size()) {
                     return true;
                 }
-                activeRange = rangeIter.next();
+                activeRange++;
                 activeRangeAsByteArray = activeRangeAsByteArray();
             }
             visitedRange++;
@@ -708,10 +1119,8 @@ public final class FastFilterRewriteHelper {
         }
 
         private byte[][] activeRangeAsByteArray() {
-            byte[] lower = new byte[8];
-            byte[] upper = new byte[8];
-            NumericUtils.longToSortableBytes(activeRange[0], lower, 0);
-            NumericUtils.longToSortableBytes(activeRange[1], upper, 0);
+            byte[] lower = encodePoint(ranges.bounds[activeRange][0], ranges.bytesPerDim);
+            byte[] upper = encodePoint(ranges.bounds[activeRange][1], ranges.bytesPerDim);
             return new byte[][] { lower, upper };
         }
     }
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges lists of buckets sorted by key, such as the results of the shards of a multi bucket aggregation, into a stream of the
+ * groups of buckets that share a key, in key order. Only the current bucket of each list is kept in a heap, so that the merge
+ * itself needs memory in the order of the number of lists rather than of the number of distinct keys, and callers that only
+ * need the first buckets, or that only keep the top buckets, can reduce the groups one at a time as they come.
+ *
+ * @opensearch.internal
+ */
+public final class MergingBucketsIterator<B extends InternalMultiBucketAggregation.InternalBucket> implements Iterator<List<B>> {
+
+    private final Comparator<? super B> comparator;
+    private final PriorityQueue<IteratorAndCurrent<B>> pq;
+    private final List<B> sameKeyBuckets;
+
+    /**
+     * @param sortedBuckets lists of buckets, each sorted by key in the order of the comparator and without duplicate keys
+     * @param comparator the order of the keys
+     */
+    public MergingBucketsIterator(List<? extends List<B>> sortedBuckets, Comparator<? super B> comparator) {
+        this.comparator = comparator;
+        this.pq = new PriorityQueue<>(Math.max(1, sortedBuckets.size())) {
+            @Override
+            protected boolean lessThan(IteratorAndCurrent<B> a, IteratorAndCurrent<B> b) {
+                return comparator.compare(a.current(), b.current()) < 0;
+            }
+        };
+        for (List<B> buckets : sortedBuckets) {
+            if (buckets.isEmpty() == false) {
+                pq.add(new IteratorAndCurrent<>(buckets.iterator()));
+            }
+        }
+        this.sameKeyBuckets = new ArrayList<>(sortedBuckets.size());
+    }
+
+    @Override
+    public boolean hasNext() {
+        return pq.size() > 0;
+    }
+
+    /**
+     * Returns the buckets with the next smallest key, at most one per list. The returned list is reused, it is only valid until
+     * the next call.
+     */
+    @Override
+    public List<B> next() {
+        if (hasNext() == false) {
+            throw new NoSuchElementException();
+        }
+        sameKeyBuckets.clear();
+        final B first = pq.top().current();
+        do {
+            final IteratorAndCurrent<B> top = pq.top();
+            final B current = top.current();
+            sameKeyBuckets.add(current);
+            if (top.hasNext()) {
+                top.next();
+                assert comparator.compare(top.current(), current) > 0 : "buckets must be sorted by key";
+                pq.updateTop();
+            } else {
+                pq.pop();
+            }
+        } while (pq.size() > 0 && comparator.compare(pq.top().current(), first) == 0);
+        return sameKeyBuckets;
+    }
+}
@@ -212,6 +212,7 @@ public final class CompositeAggregator extends BucketsAggregator {
             }
         }
 
+        @Override
         public int getSize() {
             return size;
         }
@@ -710,11 +711,6 @@ public final class CompositeAggregator extends BucketsAggregator {
 
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
-        if (fastFilterContext.optimizedSegments > 0) {
-            add.accept("optimized_segments", fastFilterContext.optimizedSegments);
-            add.accept("unoptimized_segments", fastFilterContext.segments - fastFilterContext.optimizedSegments);
-            add.accept("leaf_visited", fastFilterContext.leaf);
-            add.accept("inner_visited", fastFilterContext.inner);
-        }
+        fastFilterContext.collectDebugInfo(add);
     }
 }
@@ -42,6 +42,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.KeyComparable;
+import org.opensearch.search.aggregations.bucket.MergingBucketsIterator;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 
 import java.io.IOException;
@@ -53,7 +54,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.Set;
 
 /**
@@ -210,50 +210,30 @@ public class InternalComposite extends InternalMultiBucketAggregation<InternalCo
 
     @Override
     public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
-        PriorityQueue<BucketIterator> pq = new PriorityQueue<>(aggregations.size());
         boolean earlyTerminated = false;
+        List<List<InternalBucket>> sortedBuckets = new ArrayList<>(aggregations.size());
         for (InternalAggregation agg : aggregations) {
             InternalComposite sortedAgg = (InternalComposite) agg;
             earlyTerminated |= sortedAgg.earlyTerminated;
-            BucketIterator it = new BucketIterator(sortedAgg.buckets);
-            if (it.next() != null) {
-                pq.add(it);
-            }
-        }
-        InternalBucket lastBucket = null;
-        List<InternalBucket> buckets = new ArrayList<>();
-        List<InternalBucket> result = new ArrayList<>();
-        while (pq.size() > 0) {
-            BucketIterator bucketIt = pq.poll();
-            if (lastBucket != null && bucketIt.current.compareKey(lastBucket) != 0) {
-                InternalBucket reduceBucket = reduceBucket(buckets, reduceContext);
-                buckets.clear();
-                result.add(reduceBucket);
-                if (result.size() >= size) {
-                    break;
-                }
-            }
-            lastBucket = bucketIt.current;
-            buckets.add(bucketIt.current);
-            if (bucketIt.next() != null) {
-                pq.add(bucketIt);
-            }
+            sortedBuckets.add(sortedAgg.buckets);
         }
-        if (buckets.size() > 0) {
-            InternalBucket reduceBucket = reduceBucket(buckets, reduceContext);
-            result.add(reduceBucket);
+        // merge the buckets of the shards in key order, stopping as soon as the page is full
+        MergingBucketsIterator<InternalBucket> merged = new MergingBucketsIterator<>(sortedBuckets, InternalBucket::compareKey);
+        List<InternalBucket> result = new ArrayList<>(Math.min(size, 1024));
+        while (result.size() < size && merged.hasNext()) {
+            result.add(reduceBucket(merged.next(), reduceContext));
+            reduceContext.consumeBucketsAndMaybeBreak(1);
         }
 
         List<DocValueFormat> reducedFormats = formats;
         CompositeKey lastKey = null;
         if (result.size() > 0) {
-            lastBucket = result.get(result.size() - 1);
+            InternalBucket lastBucket = result.get(result.size() - 1);
             /* Attach the formats from the last bucket to the reduced composite
              * so that we can properly format the after key. */
             reducedFormats = lastBucket.formats;
             lastKey = lastBucket.getRawKey();
         }
-        reduceContext.consumeBucketsAndMaybeBreak(result.size());
         return new InternalComposite(
             name,
             size,
@@ -305,29 +285,6 @@ public class InternalComposite extends InternalMultiBucketAggregation<InternalCo
         return Objects.hash(super.hashCode(), size, buckets, afterKey, Arrays.hashCode(reverseMuls), Arrays.hashCode(missingOrders));
     }
 
-    /**
-     * The bucket iterator
-     *
-     * @opensearch.internal
-     */
-    private static class BucketIterator implements Comparable<BucketIterator> {
-        final Iterator<InternalBucket> it;
-        InternalBucket current;
-
-        private BucketIterator(List<InternalBucket> buckets) {
-            this.it = buckets.iterator();
-        }
-
-        @Override
-        public int compareTo(BucketIterator other) {
-            return current.compareKey(other.current);
-        }
-
-        InternalBucket next() {
-            return current = it.hasNext() ? it.next() : null;
-        }
-    }
-
     /**
      * Internal bucket for the internal composite agg
      *
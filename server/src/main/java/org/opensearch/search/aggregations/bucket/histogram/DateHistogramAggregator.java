@@ -39,6 +39,7 @@ import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.index.compositeindex.startree.StarTree;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -51,6 +52,7 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.aggregations.bucket.FastFilterRewriteHelper;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
+import org.opensearch.search.aggregations.startree.StarTreeQueryHelper;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -84,6 +86,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     private final LongKeyedBucketOrds bucketOrds;
 
     private final FastFilterRewriteHelper.FastFilterContext fastFilterContext;
+    private int starTreeOptimizedSegments;
 
     DateHistogramAggregator(
         String name,
@@ -172,6 +175,31 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         );
         if (optimized) throw new CollectionTerminatedException();
 
+        if (hardBounds == null) {
+            final StarTree starTree = StarTreeQueryHelper.getStarTreeForDimension(
+                context,
+                ctx,
+                parent,
+                subAggregators.length,
+                valuesSource
+            );
+            if (starTree != null) {
+                final Map<Long, Long> docCounts = StarTreeQueryHelper.docCountsByRoundedValue(
+                    starTree,
+                    starTree.dimensionOrd(StarTreeQueryHelper.fieldName(valuesSource)),
+                    preparedRounding::round
+                );
+                if (docCounts != null) {
+                    for (Map.Entry<Long, Long> entry : docCounts.entrySet()) {
+                        long bucketOrd = FastFilterRewriteHelper.getBucketOrd(bucketOrds.add(0, entry.getKey()));
+                        incrementBucketDocCount(bucketOrd, entry.getValue());
+                    }
+                    starTreeOptimizedSegments++;
+                    throw new CollectionTerminatedException();
+                }
+            }
+        }
+
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -256,11 +284,9 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
-        if (fastFilterContext.optimizedSegments > 0) {
-            add.accept("optimized_segments", fastFilterContext.optimizedSegments);
-            add.accept("unoptimized_segments", fastFilterContext.segments - fastFilterContext.optimizedSegments);
-            add.accept("leaf_visited", fastFilterContext.leaf);
-            add.accept("inner_visited", fastFilterContext.inner);
+        fastFilterContext.collectDebugInfo(add);
+        if (starTreeOptimizedSegments > 0) {
+            add.accept("star_tree_optimized_segments", starTreeOptimizedSegments);
         }
     }
 
@@ -32,7 +32,9 @@
 package org.opensearch.search.aggregations.bucket.range;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.opensearch.common.Nullable;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -54,7 +56,9 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.FastFilterRewriteHelper;
 import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -62,6 +66,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import static org.opensearch.core.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
@@ -245,6 +250,36 @@ public class RangeAggregator extends BucketsAggregator {
 
     final double[] maxTo;
 
+    private final FastFilterRewriteHelper.FastFilterContext fastFilterContext;
+
+    public RangeAggregator(
+        String name,
+        AggregatorFactories factories,
+        ValuesSourceConfig config,
+        InternalRange.Factory rangeFactory,
+        Range[] ranges,
+        boolean keyed,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
+    ) throws IOException {
+        this(
+            name,
+            factories,
+            (ValuesSource.Numeric) config.getValuesSource(),
+            config.format(),
+            rangeFactory,
+            ranges,
+            keyed,
+            context,
+            parent,
+            cardinality,
+            metadata,
+            config
+        );
+    }
+
     public RangeAggregator(
         String name,
         AggregatorFactories factories,
@@ -258,6 +293,23 @@ public class RangeAggregator extends BucketsAggregator {
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
     ) throws IOException {
+        this(name, factories, valuesSource, format, rangeFactory, ranges, keyed, context, parent, cardinality, metadata, null);
+    }
+
+    private RangeAggregator(
+        String name,
+        AggregatorFactories factories,
+        ValuesSource.Numeric valuesSource,
+        DocValueFormat format,
+        InternalRange.Factory rangeFactory,
+        Range[] ranges,
+        boolean keyed,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata,
+        @Nullable ValuesSourceConfig config
+    ) throws IOException {
 
         super(name, factories, context, parent, cardinality.multiply(ranges.length), metadata);
         assert valuesSource != null;
@@ -274,6 +326,29 @@ public class RangeAggregator extends BucketsAggregator {
             maxTo[i] = Math.max(this.ranges[i].to, maxTo[i - 1]);
         }
 
+        fastFilterContext = new FastFilterRewriteHelper.FastFilterContext(context);
+        // the ranges of other values sources, such as geo distances, aren't backed by the points of a field
+        if (config != null) {
+            final double[] from = new double[ranges.length];
+            final double[] to = new double[ranges.length];
+            for (int i = 0; i < ranges.length; i++) {
+                from[i] = ranges[i].from;
+                to[i] = ranges[i].to;
+            }
+            fastFilterContext.setAggregationType(
+                new FastFilterRewriteHelper.RangeAggregationType(
+                    config.fieldType(),
+                    config.missing() != null,
+                    config.script() != null,
+                    from,
+                    to
+                )
+            );
+            if (fastFilterContext.isRewriteable(parent, subAggregators.length)) {
+                fastFilterContext.setFieldName(config.fieldType().name());
+                fastFilterContext.buildRanges();
+            }
+        }
     }
 
     @Override
@@ -286,6 +361,13 @@ public class RangeAggregator extends BucketsAggregator {
 
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
+        boolean optimized = FastFilterRewriteHelper.tryFastFilterAggregation(
+            ctx,
+            fastFilterContext,
+            (key, count) -> incrementBucketDocCount(subBucketOrdinal(0, key.intValue()), count)
+        );
+        if (optimized) throw new CollectionTerminatedException();
+
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -367,6 +449,12 @@ public class RangeAggregator extends BucketsAggregator {
         );
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        fastFilterContext.collectDebugInfo(add);
+    }
+
     @Override
     public InternalAggregation buildEmptyAggregation() {
         InternalAggregations subAggs = buildEmptySubAggregations();
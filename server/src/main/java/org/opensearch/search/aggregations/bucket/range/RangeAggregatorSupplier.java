@@ -31,11 +31,10 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
-import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
-import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -50,8 +49,7 @@ public interface RangeAggregatorSupplier {
     Aggregator build(
         String name,
         AggregatorFactories factories,
-        ValuesSource.Numeric valuesSource,
-        DocValueFormat format,
+        ValuesSourceConfig config,
         InternalRange.Factory rangeFactory,
         RangeAggregator.Range[] ranges,
         boolean keyed,
@@ -35,11 +35,8 @@ package org.opensearch.search.aggregations.bucket.terms;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
-import org.apache.lucene.index.Terms;
-import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.ArrayUtil;
@@ -52,7 +49,6 @@ import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongHash;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContentBuilder;
-import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
@@ -64,6 +60,7 @@ import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.InternalOrder;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.bucket.FastFilterRewriteHelper;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForBytes;
 import org.opensearch.search.aggregations.bucket.terms.heuristic.SignificanceHeuristic;
@@ -80,7 +77,6 @@ import java.util.function.LongUnaryOperator;
 
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 import static org.apache.lucene.index.SortedSetDocValues.NO_MORE_ORDS;
-import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
 
 /**
  * An aggregator of string values that relies on global ordinals in order to build buckets.
@@ -99,6 +95,7 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
     private final SetOnce<SortedSetDocValues> dvs = new SetOnce<>();
     protected int segmentsWithSingleValuedOrds = 0;
     protected int segmentsWithMultiValuedOrds = 0;
+    protected int segmentsCountedFromPostings = 0;
 
     /**
      * Lookup global ordinals
@@ -171,53 +168,23 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         SortedSetDocValues globalOrds,
         BiConsumer<Long, Integer> ordCountConsumer
     ) throws IOException {
-        if (weight == null) {
-            // Weight not assigned - cannot use this optimization
-            return null;
-        } else {
-            if (weight.count(ctx) == 0) {
-                // No documents matches top level query on this segment, we can skip the segment entirely
-                return LeafBucketCollector.NO_OP_COLLECTOR;
-            } else if (weight.count(ctx) != ctx.reader().maxDoc()) {
-                // weight.count(ctx) == ctx.reader().maxDoc() implies there are no deleted documents and
-                // top-level query matches all docs in the segment
-                return null;
-            }
-        }
-
-        Terms segmentTerms = ctx.reader().terms(this.fieldName);
-        if (segmentTerms == null) {
-            // Field is not indexed.
-            return null;
+        if (weight != null && weight.count(ctx) == 0) {
+            // No documents matches top level query on this segment, we can skip the segment entirely
+            return LeafBucketCollector.NO_OP_COLLECTOR;
         }
 
-        NumericDocValues docCountValues = DocValues.getNumeric(ctx.reader(), DocCountFieldMapper.NAME);
-        if (docCountValues.nextDoc() != NO_MORE_DOCS) {
-            // This segment has at least one document with the _doc_count field.
+        boolean counted = FastFilterRewriteHelper.tryPostingsTermsCount(
+            ctx,
+            weight,
+            fieldName,
+            globalOrds.termsEnum(),
+            acceptedGlobalOrdinals,
+            ordCountConsumer
+        );
+        if (counted == false) {
             return null;
         }
-
-        TermsEnum indexTermsEnum = segmentTerms.iterator();
-        BytesRef indexTerm = indexTermsEnum.next();
-        TermsEnum globalOrdinalTermsEnum = globalOrds.termsEnum();
-        BytesRef ordinalTerm = globalOrdinalTermsEnum.next();
-
-        // Iterate over the terms in the segment, look for matches in the global ordinal terms,
-        // and increment bucket count when segment terms match global ordinal terms.
-        while (indexTerm != null && ordinalTerm != null) {
-            int compare = indexTerm.compareTo(ordinalTerm);
-            if (compare == 0) {
-                if (acceptedGlobalOrdinals.test(globalOrdinalTermsEnum.ord())) {
-                    ordCountConsumer.accept(globalOrdinalTermsEnum.ord(), indexTermsEnum.docFreq());
-                }
-                indexTerm = indexTermsEnum.next();
-                ordinalTerm = globalOrdinalTermsEnum.next();
-            } else if (compare < 0) {
-                indexTerm = indexTermsEnum.next();
-            } else {
-                ordinalTerm = globalOrdinalTermsEnum.next();
-            }
-        }
+        segmentsCountedFromPostings++;
         return new LeafBucketCollector() {
             @Override
             public void collect(int doc, long owningBucketOrd) throws IOException {
@@ -329,6 +296,7 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         add.accept("result_strategy", resultStrategy.describe());
         add.accept("segments_with_single_valued_ords", segmentsWithSingleValuedOrds);
         add.accept("segments_with_multi_valued_ords", segmentsWithMultiValuedOrds);
+        add.accept("segments_counted_from_postings", segmentsCountedFromPostings);
         add.accept("has_filter", acceptedGlobalOrdinals != ALWAYS_TRUE);
     }
 
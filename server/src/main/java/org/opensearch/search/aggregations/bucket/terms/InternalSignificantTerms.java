@@ -276,9 +276,10 @@ public abstract class InternalSignificantTerms<A extends InternalSignificantTerm
             }
         }
         SignificanceHeuristic heuristic = getSignificanceHeuristic().rewrite(reduceContext);
-        boolean isCoordinatorPartialReduce = reduceContext.isFinalReduce() == false && reduceContext.isSliceLevel() == false;
-        // Do not apply size threshold on coordinator partial reduce
-        final int size = !isCoordinatorPartialReduce
+        boolean isPartialReduce = reduceContext.isFinalReduce() == false
+            && (reduceContext.isSliceLevel() == false || reduceContext.isPartialSliceReduce());
+        // Do not apply size threshold on coordinator or partial slice level reduce
+        final int size = !isPartialReduce
             ? Math.min(localBucketCountThresholds.getRequiredSize(), buckets.size())
             : buckets.size();
         BucketSignificancePriorityQueue<B> ordered = new BucketSignificancePriorityQueue<>(size);
@@ -290,7 +291,7 @@ public abstract class InternalSignificantTerms<A extends InternalSignificantTerm
             // reduce. However, the bucket score is only evaluated at the final coordinator reduce.
             boolean meetsThresholds = (b.subsetDf >= localBucketCountThresholds.getMinDocCount())
                 && (((b.score > 0) || reduceContext.isSliceLevel()));
-            if (isCoordinatorPartialReduce || meetsThresholds) {
+            if (isPartialReduce || meetsThresholds) {
                 B removed = ordered.insertWithOverflow(b);
                 if (removed == null) {
                     reduceContext.consumeBucketsAndMaybeBreak(1);
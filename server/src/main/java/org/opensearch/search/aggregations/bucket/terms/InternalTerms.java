@@ -31,7 +31,6 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
-import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -45,15 +44,15 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.InternalOrder;
 import org.opensearch.search.aggregations.KeyComparable;
-import org.opensearch.search.aggregations.bucket.IteratorAndCurrent;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
+import org.opensearch.search.aggregations.bucket.MergingBucketsIterator;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -317,55 +316,33 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
     }
 
-    private List<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
+    /**
+     * Reduces buckets that are sorted by key with a k-way merge. The buckets are reduced lazily, one key at a time, so that the
+     * reduced buckets that don't make it to the top buckets can be released as soon as they are compared.
+     */
+    private Iterator<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
         assert isKeyOrder(thisReduceOrder);
-        final Comparator<MultiBucketsAggregation.Bucket> cmp = thisReduceOrder.comparator();
-        final PriorityQueue<IteratorAndCurrent<B>> pq = new PriorityQueue<IteratorAndCurrent<B>>(aggregations.size()) {
-            @Override
-            protected boolean lessThan(IteratorAndCurrent<B> a, IteratorAndCurrent<B> b) {
-                return cmp.compare(a.current(), b.current()) < 0;
-            }
-        };
+        final List<List<B>> sortedBuckets = new ArrayList<>(aggregations.size());
         for (InternalAggregation aggregation : aggregations) {
             @SuppressWarnings("unchecked")
             InternalTerms<A, B> terms = (InternalTerms<A, B>) aggregation;
-            if (terms.getBuckets().isEmpty() == false) {
-                assert reduceOrder.equals(reduceOrder);
-                pq.add(new IteratorAndCurrent(terms.getBuckets().iterator()));
-            }
+            sortedBuckets.add(terms.getBuckets());
         }
-        List<B> reducedBuckets = new ArrayList<>();
-        // list of buckets coming from different shards that have the same key
-        List<B> currentBuckets = new ArrayList<>();
-        B lastBucket = null;
-        while (pq.size() > 0) {
-            final IteratorAndCurrent<B> top = pq.top();
-            assert lastBucket == null || cmp.compare(top.current(), lastBucket) >= 0;
-            if (lastBucket != null && cmp.compare(top.current(), lastBucket) != 0) {
-                // the key changes, reduce what we already buffered and reset the buffer for current buckets
-                final B reduced = reduceBucket(currentBuckets, reduceContext);
-                reducedBuckets.add(reduced);
-                currentBuckets.clear();
-            }
-            lastBucket = top.current();
-            currentBuckets.add(top.current());
-            if (top.hasNext()) {
-                top.next();
-                assert cmp.compare(top.current(), lastBucket) > 0 : "shards must return data sorted by key";
-                pq.updateTop();
-            } else {
-                pq.pop();
+        final MergingBucketsIterator<B> merged = new MergingBucketsIterator<>(sortedBuckets, thisReduceOrder.comparator());
+        return new Iterator<B>() {
+            @Override
+            public boolean hasNext() {
+                return merged.hasNext();
             }
-        }
 
-        if (currentBuckets.isEmpty() == false) {
-            final B reduced = reduceBucket(currentBuckets, reduceContext);
-            reducedBuckets.add(reduced);
-        }
-        return reducedBuckets;
+            @Override
+            public B next() {
+                return reduceBucket(merged.next(), reduceContext);
+            }
+        };
     }
 
-    private List<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+    private Iterator<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
         Map<Object, List<B>> bucketMap = new HashMap<>();
         for (InternalAggregation aggregation : aggregations) {
             @SuppressWarnings("unchecked")
@@ -381,12 +358,18 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 }
             }
         }
-        List<B> reducedBuckets = new ArrayList<>();
-        for (List<B> sameTermBuckets : bucketMap.values()) {
-            final B b = reduceBucket(sameTermBuckets, reduceContext);
-            reducedBuckets.add(b);
-        }
-        return reducedBuckets;
+        final Iterator<List<B>> sameTermBuckets = bucketMap.values().iterator();
+        return new Iterator<B>() {
+            @Override
+            public boolean hasNext() {
+                return sameTermBuckets.hasNext();
+            }
+
+            @Override
+            public B next() {
+                return reduceBucket(sameTermBuckets.next(), reduceContext);
+            }
+        };
     }
 
     public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
@@ -440,7 +423,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             }
         }
 
-        final List<B> reducedBuckets;
+        final Iterator<B> reducedBuckets;
         /*
           Buckets returned by a partial reduce or a shard response are sorted by key.
           That allows to perform a merge sort when reducing multiple aggregations together.
@@ -456,11 +439,13 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             reducedBuckets = reduceLegacy(aggregations, reduceContext);
         }
         final B[] list;
-        if (reduceContext.isFinalReduce() || reduceContext.isSliceLevel()) {
-            final int size = Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size());
+        if (reduceContext.isFinalReduce() || (reduceContext.isSliceLevel() && reduceContext.isPartialSliceReduce() == false)) {
+            // there are at most as many reduced buckets as input buckets
+            final int size = (int) Math.min(localBucketCountThresholds.getRequiredSize(), countBuckets(aggregations));
             // final comparator
             final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(size, order.comparator());
-            for (B bucket : reducedBuckets) {
+            while (reducedBuckets.hasNext()) {
+                final B bucket = reducedBuckets.next();
                 if (sumDocCountError == -1) {
                     bucket.setDocCountError(-1);
                 } else {
@@ -485,21 +470,23 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             }
         } else {
             // we can prune the list on partial reduce if the aggregation is ordered by key
-            // and not filtered (minDocCount == 0)
-            int size = isKeyOrder(order) && localBucketCountThresholds.getMinDocCount() == 0
-                ? Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size())
-                : reducedBuckets.size();
-            list = createBucketsArray(size);
-            for (int i = 0; i < size; i++) {
+            // and not filtered (minDocCount == 0), in which case the merge stops after the required size
+            final long size = isKeyOrder(order) && localBucketCountThresholds.getMinDocCount() == 0
+                ? localBucketCountThresholds.getRequiredSize()
+                : Long.MAX_VALUE;
+            final List<B> partialBuckets = new ArrayList<>();
+            while (partialBuckets.size() < size && reducedBuckets.hasNext()) {
+                final B bucket = reducedBuckets.next();
                 reduceContext.consumeBucketsAndMaybeBreak(1);
-                list[i] = reducedBuckets.get(i);
                 if (sumDocCountError == -1) {
-                    list[i].setDocCountError(-1);
+                    bucket.setDocCountError(-1);
                 } else {
                     final long fSumDocCountError = sumDocCountError;
-                    list[i].setDocCountError(docCountError -> docCountError + fSumDocCountError);
+                    bucket.setDocCountError(docCountError -> docCountError + fSumDocCountError);
                 }
+                partialBuckets.add(bucket);
             }
+            list = partialBuckets.toArray(createBucketsArray(partialBuckets.size()));
         }
         long docCountError;
         if (sumDocCountError == -1) {
@@ -519,6 +506,14 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         return create(name, Arrays.asList(list), reduceContext.isFinalReduce() ? order : thisReduceOrder, docCountError, otherDocCount);
     }
 
+    private static long countBuckets(List<InternalAggregation> aggregations) {
+        long count = 0;
+        for (InternalAggregation aggregation : aggregations) {
+            count += ((InternalTerms<?, ?>) aggregation).getBuckets().size();
+        }
+        return count;
+    }
+
     @Override
     protected B reduceBucket(List<B> buckets, ReduceContext context) {
         assert !buckets.isEmpty();
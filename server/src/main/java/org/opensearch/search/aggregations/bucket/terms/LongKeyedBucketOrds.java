@@ -36,6 +36,7 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.LongLongHash;
 import org.opensearch.common.util.ReorganizingLongHash;
+import org.opensearch.common.util.SwissLongHash;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 
 /**
@@ -44,6 +45,12 @@ import org.opensearch.search.aggregations.CardinalityUpperBound;
  * @opensearch.internal
  */
 public abstract class LongKeyedBucketOrds implements Releasable {
+    /**
+     * The number of keys from which {@link FromSingleSwissTable} is used when collecting from a single bucket. Below it the
+     * table of {@link FromSingle} fits in the CPU caches and its reorganization makes correlated keys cheaper to look up.
+     */
+    static final long SWISS_TABLE_MIN_KEYS = 1 << 16;
+
     /**
      * Build a {@link LongKeyedBucketOrds}.
      */
@@ -51,6 +58,20 @@ public abstract class LongKeyedBucketOrds implements Releasable {
         return cardinality.map(estimate -> estimate < 2 ? new FromSingle(bigArrays) : new FromMany(bigArrays));
     }
 
+    /**
+     * Build a {@link LongKeyedBucketOrds} given an upper bound of the number of distinct keys, such as the one derived from the
+     * points of the field, or 0 if unknown. High cardinality keys get a {@link FromSingleSwissTable} when collecting from a
+     * single bucket.
+     */
+    public static LongKeyedBucketOrds build(BigArrays bigArrays, CardinalityUpperBound cardinality, long estimatedKeys) {
+        return cardinality.map(estimate -> {
+            if (estimate >= 2) {
+                return new FromMany(bigArrays);
+            }
+            return estimatedKeys >= SWISS_TABLE_MIN_KEYS ? new FromSingleSwissTable(bigArrays) : new FromSingle(bigArrays);
+        });
+    }
+
     private LongKeyedBucketOrds() {}
 
     /**
@@ -223,6 +244,88 @@ public abstract class LongKeyedBucketOrds implements Releasable {
         }
     }
 
+    /**
+     * Implementation that only works if it is collecting from a single bucket, backed by a {@link SwissLongHash} whose lookups
+     * stay cheap once the table outgrows the CPU caches.
+     *
+     * @opensearch.internal
+     */
+    public static class FromSingleSwissTable extends LongKeyedBucketOrds {
+        private final SwissLongHash ords;
+
+        public FromSingleSwissTable(BigArrays bigArrays) {
+            ords = new SwissLongHash(bigArrays);
+        }
+
+        @Override
+        public long add(long owningBucketOrd, long value) {
+            // This is in the critical path for collecting most aggs. Be careful of performance.
+            assert owningBucketOrd == 0;
+            return ords.add(value);
+        }
+
+        @Override
+        public long find(long owningBucketOrd, long value) {
+            assert owningBucketOrd == 0;
+            return ords.find(value);
+        }
+
+        @Override
+        public long get(long ordinal) {
+            return ords.get(ordinal);
+        }
+
+        @Override
+        public long bucketsInOrd(long owningBucketOrd) {
+            assert owningBucketOrd == 0;
+            return ords.size();
+        }
+
+        @Override
+        public long size() {
+            return ords.size();
+        }
+
+        @Override
+        public long maxOwningBucketOrd() {
+            return 0;
+        }
+
+        @Override
+        public BucketOrdsEnum ordsEnum(long owningBucketOrd) {
+            assert owningBucketOrd == 0;
+            return new BucketOrdsEnum() {
+                private long ord = -1;
+                private long value;
+
+                @Override
+                public boolean next() {
+                    ord++;
+                    if (ord >= ords.size()) {
+                        return false;
+                    }
+                    value = ords.get(ord);
+                    return true;
+                }
+
+                @Override
+                public long value() {
+                    return value;
+                }
+
+                @Override
+                public long ord() {
+                    return ord;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            ords.close();
+        }
+    }
+
     /**
      * Implementation that works properly when collecting from many buckets.
      *
@@ -31,9 +31,13 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.PriorityQueue;
@@ -41,6 +45,7 @@ import org.opensearch.common.Numbers;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.compositeindex.startree.StarTree;
 import org.opensearch.index.fielddata.FieldData;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -57,6 +62,7 @@ import org.opensearch.search.aggregations.bucket.terms.IncludeExclude.LongFilter
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds.BucketOrdsEnum;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForLong;
 import org.opensearch.search.aggregations.bucket.terms.heuristic.SignificanceHeuristic;
+import org.opensearch.search.aggregations.startree.StarTreeQueryHelper;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
@@ -68,6 +74,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
@@ -83,6 +90,7 @@ public class NumericTermsAggregator extends TermsAggregator {
     private final ValuesSource.Numeric valuesSource;
     private final LongKeyedBucketOrds bucketOrds;
     private final LongFilter longFilter;
+    private int starTreeOptimizedSegments;
 
     public NumericTermsAggregator(
         String name,
@@ -103,7 +111,41 @@ public class NumericTermsAggregator extends TermsAggregator {
         this.resultStrategy = resultStrategy.apply(this); // ResultStrategy needs a reference to the Aggregator to do its job.
         this.valuesSource = valuesSource;
         this.longFilter = longFilter;
-        bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality, estimateDistinctKeys(valuesSource, context));
+    }
+
+    /**
+     * Returns an upper bound of the number of distinct keys of the field of the given values source: the number of its indexed
+     * points, or the number of integers between their min and max values if lower. Returns 0 if it can't be estimated, such as
+     * for scripts and floating point fields, so that the regular hash table is used.
+     */
+    private static long estimateDistinctKeys(ValuesSource.Numeric valuesSource, SearchContext context) throws IOException {
+        if (valuesSource instanceof ValuesSource.Numeric.FieldData == false
+            || valuesSource.isFloatingPoint()
+            || valuesSource.isBigInteger()) {
+            return 0;
+        }
+        final String field = ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName();
+        return estimateDistinctKeys(context.searcher().getIndexReader(), field);
+    }
+
+    static long estimateDistinctKeys(IndexReader reader, String field) throws IOException {
+        final long size = PointValues.size(reader, field);
+        if (size == 0) {
+            return 0;
+        }
+        final byte[] min = PointValues.getMinPackedValue(reader, field);
+        final byte[] max = PointValues.getMaxPackedValue(reader, field);
+        final long range;
+        if (min.length == Long.BYTES) {
+            range = LongPoint.decodeDimension(max, 0) - LongPoint.decodeDimension(min, 0);
+        } else if (min.length == Integer.BYTES) {
+            range = (long) IntPoint.decodeDimension(max, 0) - IntPoint.decodeDimension(min, 0);
+        } else {
+            return 0;
+        }
+        // the range overflows if the values span more than half of the longs, in which case the number of points is lower anyway
+        return range < 0 ? size : Math.min(size, range + 1);
     }
 
     @Override
@@ -116,6 +158,33 @@ public class NumericTermsAggregator extends TermsAggregator {
 
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        if (longFilter == null && resultStrategy instanceof LongTermsResults) {
+            final StarTree starTree = StarTreeQueryHelper.getStarTreeForDimension(
+                context,
+                ctx,
+                parent,
+                subAggregators.length,
+                valuesSource
+            );
+            if (starTree != null) {
+                final Map<Long, Long> docCounts = StarTreeQueryHelper.docCountsByRoundedValue(
+                    starTree,
+                    starTree.dimensionOrd(StarTreeQueryHelper.fieldName(valuesSource)),
+                    LongUnaryOperator.identity()
+                );
+                if (docCounts != null) {
+                    for (Map.Entry<Long, Long> entry : docCounts.entrySet()) {
+                        long bucketOrd = bucketOrds.add(0, entry.getKey());
+                        if (bucketOrd < 0) { // already seen
+                            bucketOrd = -1 - bucketOrd;
+                        }
+                        incrementBucketDocCount(bucketOrd, entry.getValue());
+                    }
+                    starTreeOptimizedSegments++;
+                    throw new CollectionTerminatedException();
+                }
+            }
+        }
         SortedNumericDocValues values = resultStrategy.getValues(ctx);
         return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -165,6 +234,9 @@ public class NumericTermsAggregator extends TermsAggregator {
         super.collectDebugInfo(add);
         add.accept("result_strategy", resultStrategy.describe());
         add.accept("total_buckets", bucketOrds.size());
+        if (starTreeOptimizedSegments > 0) {
+            add.accept("star_tree_optimized_segments", starTreeOptimizedSegments);
+        }
     }
 
     /**
@@ -32,17 +32,20 @@
 package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.compositeindex.startree.StarTree;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.startree.StarTreeQueryHelper;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -88,14 +91,32 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    @Override
+    public boolean supportsPartitions() throws IOException {
+        return StarTreeQueryHelper.mayUseStarTreeForMetric(context, parent, valuesSource) == false;
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
         final BigArrays bigArrays = context.bigArrays();
-        final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final StarTree starTree = StarTreeQueryHelper.getStarTreeForMetric(context, ctx, parent, valuesSource);
+        if (starTree != null) {
+            // top level aggregation, the only bucket is 0
+            final int metric = starTree.metricOrd(StarTreeQueryHelper.fieldName(valuesSource));
+            kahanSummation.reset(sums.get(0), compensations.get(0));
+            starTree.traverse(starTree.matchAll(), -1, (key, row) -> {
+                counts.increment(0, starTree.valueCount(metric, row));
+                kahanSummation.add(starTree.sum(metric, row));
+            });
+            compensations.set(0, kahanSummation.delta());
+            sums.set(0, kahanSummation.value());
+            throw new CollectionTerminatedException();
+        }
+        final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -40,6 +40,7 @@ import org.apache.lucene.util.Bits;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.compositeindex.startree.StarTree;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
@@ -48,6 +49,7 @@ import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.startree.StarTreeQueryHelper;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -120,6 +122,13 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
                 throw new CollectionTerminatedException();
             }
         }
+        final StarTree starTree = StarTreeQueryHelper.getStarTreeForMetric(context, ctx, parent, valuesSource);
+        if (starTree != null) {
+            // top level aggregation, the only bucket is 0
+            final int metric = starTree.metricOrd(StarTreeQueryHelper.fieldName(valuesSource));
+            starTree.traverse(starTree.matchAll(), -1, (key, row) -> maxes.set(0, Math.max(maxes.get(0), starTree.max(metric, row))));
+            throw new CollectionTerminatedException();
+        }
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MAX.select(allValues);
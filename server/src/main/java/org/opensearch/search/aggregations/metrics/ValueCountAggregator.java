@@ -33,16 +33,19 @@ package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.compositeindex.startree.StarTree;
 import org.opensearch.index.fielddata.MultiGeoPointValues;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.startree.StarTreeQueryHelper;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -87,6 +90,14 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         }
         final BigArrays bigArrays = context.bigArrays();
 
+        final StarTree starTree = StarTreeQueryHelper.getStarTreeForMetric(context, ctx, parent, valuesSource);
+        if (starTree != null) {
+            // top level aggregation, the only bucket is 0
+            final int metric = starTree.metricOrd(StarTreeQueryHelper.fieldName(valuesSource));
+            starTree.traverse(starTree.matchAll(), -1, (key, row) -> counts.increment(0, starTree.valueCount(metric, row)));
+            throw new CollectionTerminatedException();
+        }
+
         if (valuesSource instanceof ValuesSource.Numeric) {
             final SortedNumericDocValues values = ((ValuesSource.Numeric) valuesSource).longValues(ctx);
             return new LeafBucketCollectorBase(sub, values) {
@@ -146,6 +157,11 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    @Override
+    public boolean supportsPartitions() throws IOException {
+        return StarTreeQueryHelper.mayUseStarTreeForMetric(context, parent, valuesSource) == false;
+    }
+
     @Override
     public InternalAggregation buildEmptyAggregation() {
         return new InternalValueCount(name, 0L, metadata());
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.index.codec.composite.StarTreeDocValuesReader;
+import org.opensearch.index.compositeindex.startree.StarTree;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Utility class to answer aggregations from the star tree of a segment instead of collecting its documents.
+ * <p>
+ * A segment can be answered from its star tree when the aggregation is top level and has no sub-aggregations, the
+ * segment has no deleted documents and the query matches all of its documents. The aggregated field must be a plain
+ * field, scripts and missing values are not supported.
+ * <p>
+ * Currently supported:
+ * <ul>
+ *  <li> sum, min, max, avg and value_count on a star tree metric </li>
+ *  <li> date_histogram on a star tree date dimension whose interval divides the histogram buckets </li>
+ *  <li> terms on a numeric star tree dimension </li>
+ * </ul>
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeQueryHelper {
+
+    private static final Logger logger = LogManager.getLogger(StarTreeQueryHelper.class);
+
+    private StarTreeQueryHelper() {}
+
+    /**
+     * Returns the name of the field the values source reads, {@code null} if it isn't a plain field
+     */
+    public static String fieldName(ValuesSource valuesSource) {
+        if (valuesSource instanceof ValuesSource.Numeric.FieldData) {
+            return ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the star tree that can answer a metric aggregation on the values source for this segment, or {@code null}
+     * if the documents of the segment must be collected.
+     */
+    public static StarTree getStarTreeForMetric(SearchContext context, LeafReaderContext ctx, Aggregator parent, ValuesSource valuesSource)
+        throws IOException {
+        if (parent != null) {
+            return null;
+        }
+        final String field = fieldName(valuesSource);
+        if (field == null) {
+            return null;
+        }
+        final StarTree starTree = getStarTree(ctx);
+        if (starTree == null || starTree.metricOrd(field) < 0 || segmentMatchAll(context, ctx) == false) {
+            return null;
+        }
+        return starTree;
+    }
+
+    /**
+     * Returns whether a metric aggregation on the values source may be answered from the star tree of a segment, in which case the
+     * segments must be collected whole.
+     */
+    public static boolean mayUseStarTreeForMetric(SearchContext context, Aggregator parent, ValuesSource valuesSource)
+        throws IOException {
+        final String field = fieldName(valuesSource);
+        if (parent != null || field == null) {
+            return false;
+        }
+        for (LeafReaderContext ctx : context.searcher().getIndexReader().leaves()) {
+            final StarTree starTree = getStarTree(ctx);
+            if (starTree != null && starTree.metricOrd(field) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the star tree that can answer a bucket aggregation on the values source for this segment, or {@code null}
+     * if the documents of the segment must be collected.
+     */
+    public static StarTree getStarTreeForDimension(
+        SearchContext context,
+        LeafReaderContext ctx,
+        Aggregator parent,
+        int subAggregators,
+        ValuesSource valuesSource
+    ) throws IOException {
+        if (parent != null || subAggregators > 0) {
+            return null;
+        }
+        final String field = fieldName(valuesSource);
+        if (field == null) {
+            return null;
+        }
+        final StarTree starTree = getStarTree(ctx);
+        if (starTree == null || starTree.dimensionOrd(field) < 0 || segmentMatchAll(context, ctx) == false) {
+            return null;
+        }
+        return starTree;
+    }
+
+    /**
+     * Returns the doc count of every value of the dimension, keyed by the value after rounding.
+     *
+     * @return {@code null} if a value stored in the star tree would be split between two rounded values, which
+     *         happens when the rounding isn't aligned with the interval of the dimension
+     */
+    public static Map<Long, Long> docCountsByRoundedValue(StarTree starTree, int dim, LongUnaryOperator rounding) {
+        final Map<Long, Long> docCounts = new TreeMap<>();
+        starTree.traverse(starTree.matchAll(), dim, (value, row) -> docCounts.merge(value, starTree.docCount(row), Long::sum));
+
+        final long interval = Math.max(1L, starTree.interval(dim));
+        final Map<Long, Long> rounded = new TreeMap<>();
+        for (Map.Entry<Long, Long> entry : docCounts.entrySet()) {
+            final long value = entry.getKey();
+            final long key = rounding.applyAsLong(value);
+            if (interval > 1 && key != rounding.applyAsLong(value + interval - 1)) {
+                logger.debug(
+                    "star tree interval [{}] of [{}] isn't aligned with the requested rounding",
+                    interval,
+                    starTree.dimension(dim)
+                );
+                return null;
+            }
+            rounded.merge(key, entry.getValue(), Long::sum);
+        }
+        return rounded;
+    }
+
+    /**
+     * Returns the star tree of the segment if it can be used to answer aggregations, {@code null} otherwise
+     */
+    private static StarTree getStarTree(LeafReaderContext ctx) throws IOException {
+        // the star tree pre-aggregates all documents of the segment, deleted ones included
+        if (ctx.reader().hasDeletions()) {
+            return null;
+        }
+        final SegmentReader segmentReader;
+        try {
+            segmentReader = Lucene.segmentReader(ctx.reader());
+        } catch (IllegalStateException e) {
+            return null;
+        }
+        final DocValuesProducer docValuesReader = segmentReader.getDocValuesReader();
+        if (docValuesReader instanceof StarTreeDocValuesReader) {
+            return ((StarTreeDocValuesReader) docValuesReader).getStarTree();
+        }
+        return null;
+    }
+
+    private static boolean segmentMatchAll(SearchContext ctx, LeafReaderContext leafCtx) throws IOException {
+        Weight weight = ctx.queryWeight();
+        return weight != null && weight.count(leafCtx) == leafCtx.reader().numDocs();
+    }
+}
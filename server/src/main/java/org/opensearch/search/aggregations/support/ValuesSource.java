@@ -601,6 +601,13 @@ public abstract class ValuesSource {
                 this.indexFieldData = indexFieldData;
             }
 
+            /**
+             * The name of the field the values are read from
+             */
+            public String getIndexFieldName() {
+                return indexFieldData.getFieldName();
+            }
+
             @Override
             public boolean isFloatingPoint() {
                 return indexFieldData.getNumericType().isFloatingPoint();
@@ -54,6 +54,7 @@ import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TermStatistics;
 import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
@@ -72,9 +73,11 @@ import org.opensearch.search.SearchService;
 import org.opensearch.search.dfs.AggregatedDfs;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 import org.opensearch.search.profile.Timer;
+import org.opensearch.search.profile.query.ConcurrentQueryProfileBreakdown;
 import org.opensearch.search.profile.query.ProfileWeight;
 import org.opensearch.search.profile.query.QueryProfiler;
 import org.opensearch.search.profile.query.QueryTimingType;
+import org.opensearch.search.profile.query.SlicingResult;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -83,11 +86,14 @@ import org.opensearch.search.sort.MinAndMax;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -109,6 +115,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    private final Executor executor;
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -147,6 +154,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
         this.searchContext = searchContext;
+        this.executor = executor;
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -268,6 +276,103 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        if (executor == null || searchContext.shouldUseCostAwareSlicing() == false) {
+            return super.search(query, collectorManager);
+        }
+        final C firstCollector = collectorManager.newCollector();
+        query = rewrite(query);
+        final Weight weight = createWeight(query, firstCollector.scoreMode(), 1);
+        if (leafContexts.isEmpty()) {
+            return collectorManager.reduce(Collections.singletonList(firstCollector));
+        }
+
+        final List<List<CostAwareSliceSupplier.Partition>> slices = planSlices(
+            weight,
+            searchContext.bucketCollectorProcessor().supportsPartitions(firstCollector)
+        );
+        if (slices.size() <= 1) {
+            search(leafContexts, weight, firstCollector);
+            return collectorManager.reduce(Collections.singletonList(firstCollector));
+        }
+        final List<Callable<C>> tasks = new ArrayList<>(slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            final List<CostAwareSliceSupplier.Partition> slice = slices.get(i);
+            final C collector = i == 0 ? firstCollector : collectorManager.newCollector();
+            tasks.add(() -> {
+                searchPartitions(slice, weight, collector);
+                return collector;
+            });
+        }
+        return collectorManager.reduce(getTaskExecutor().invokeAll(tasks));
+    }
+
+    /**
+     * Plans the slices of a search by the cost of the weight on each leaf, see {@link CostAwareSliceSupplier}. Leaves are only
+     * split into doc id ranges when the collectors of the search support it, see
+     * {@link org.opensearch.search.aggregations.BucketCollectorProcessor#supportsPartitions}: some aggregations answer a leaf as a
+     * whole from the structures of the segment (star trees, points, filter rewrites).
+     */
+    private List<List<CostAwareSliceSupplier.Partition>> planSlices(Weight weight, boolean allowPartitions) throws IOException {
+        final long[] costs = new long[leafContexts.size()];
+        for (int i = 0; i < costs.length; i++) {
+            final ScorerSupplier scorerSupplier = weight.scorerSupplier(leafContexts.get(i));
+            costs[i] = scorerSupplier == null ? 0 : scorerSupplier.cost();
+        }
+        int poolSize = 0;
+        int queueSize = 0;
+        if (executor instanceof ThreadPoolExecutor) {
+            poolSize = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+            queueSize = ((ThreadPoolExecutor) executor).getQueue().size();
+        }
+        int targetSliceCount = searchContext.getTargetMaxSliceCount();
+        if (targetSliceCount == 0) {
+            targetSliceCount = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        }
+        targetSliceCount = CostAwareSliceSupplier.adaptSliceCount(targetSliceCount, poolSize, queueSize);
+        final List<List<CostAwareSliceSupplier.Partition>> slices = CostAwareSliceSupplier.plan(
+            leafContexts,
+            costs,
+            targetSliceCount,
+            allowPartitions ? searchContext.getMinPartitionDocCount() : Integer.MAX_VALUE
+        );
+        logger.debug("Slice count using cost aware slice supplier [{}], queued search tasks [{}]", slices.size(), queueSize);
+        if (profiler != null) {
+            final SlicingResult slicing = CostAwareSliceSupplier.toSlicingResult(slices, targetSliceCount, queueSize);
+            profiler.setSlicing(slicing);
+        }
+        return slices;
+    }
+
+    private void searchPartitions(List<CostAwareSliceSupplier.Partition> partitions, Weight weight, Collector collector)
+        throws IOException {
+        // same leaf order as search(List<LeafReaderContext>, Weight, Collector)
+        if (searchContext.shouldUseTimeSeriesDescSortOptimization()) {
+            for (int i = partitions.size() - 1; i >= 0; i--) {
+                searchPartition(partitions.get(i), weight, collector);
+            }
+        } else {
+            for (int i = 0; i < partitions.size(); i++) {
+                searchPartition(partitions.get(i), weight, collector);
+            }
+        }
+        searchContext.bucketCollectorProcessor().processPostCollection(collector);
+    }
+
+    private void searchPartition(CostAwareSliceSupplier.Partition partition, Weight weight, Collector collector) throws IOException {
+        if (partition.isWholeLeaf()) {
+            searchLeaf(partition.ctx, weight, collector);
+        } else if (profiler != null) {
+            ConcurrentQueryProfileBreakdown.profilePartition(
+                collector,
+                () -> searchLeaf(partition.ctx, partition.minDoc, partition.maxDoc, partitionWeight(weight), collector)
+            );
+        } else {
+            searchLeaf(partition.ctx, partition.minDoc, partition.maxDoc, partitionWeight(weight), collector);
+        }
+    }
+
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
         // Time series based workload by default traverses segments in desc order i.e. latest to the oldest order.
@@ -293,6 +398,14 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      * the provided <code>ctx</code>.
      */
     private void searchLeaf(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
+        searchLeaf(ctx, 0, DocIdSetIterator.NO_MORE_DOCS, weight, collector);
+    }
+
+    /**
+     * Collects the matching documents of <code>ctx</code> whose doc ids are between <code>minDoc</code> inclusive and
+     * <code>maxDoc</code> exclusive.
+     */
+    private void searchLeaf(LeafReaderContext ctx, int minDoc, int maxDoc, Weight weight, Collector collector) throws IOException {
 
         // Check if at all we need to call this leaf for collecting results.
         if (canMatch(ctx) == false) {
@@ -324,7 +437,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             BulkScorer bulkScorer = weight.bulkScorer(ctx);
             if (bulkScorer != null) {
                 try {
-                    bulkScorer.score(leafCollector, liveDocs);
+                    bulkScorer.score(leafCollector, liveDocs, minDoc, maxDoc);
                 } catch (CollectionTerminatedException e) {
                     // collection was terminated prematurely
                     // continue with the following leaf
@@ -342,7 +455,9 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
                         scorer,
                         liveDocsBitSet,
                         leafCollector,
-                        this.cancellable.isEnabled() ? cancellable::checkCancelled : () -> {}
+                        this.cancellable.isEnabled() ? cancellable::checkCancelled : () -> {},
+                        minDoc,
+                        maxDoc
                     );
                 } catch (CollectionTerminatedException e) {
                     // collection was terminated prematurely
@@ -398,6 +513,45 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Wraps the weight of a search over a range of doc ids of a leaf, so that collectors don't take the count of the whole leaf
+     * as the count of the range.
+     */
+    private static Weight partitionWeight(Weight weight) {
+        return new Weight(weight.getQuery()) {
+
+            @Override
+            public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+                return weight.explain(context, doc);
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                return weight.isCacheable(ctx);
+            }
+
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                return weight.scorer(context);
+            }
+
+            @Override
+            public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                return weight.scorerSupplier(context);
+            }
+
+            @Override
+            public BulkScorer bulkScorer(LeafReaderContext context) throws IOException {
+                return weight.bulkScorer(context);
+            }
+
+            @Override
+            public int count(LeafReaderContext context) {
+                return -1;
+            }
+        };
+    }
+
     private static BitSet getSparseBitSetOrNull(Bits liveDocs) {
         if (liveDocs instanceof SparseFixedBitSet) {
             return (BitSet) liveDocs;
@@ -413,6 +567,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     static void intersectScorerAndBitSet(Scorer scorer, BitSet acceptDocs, LeafCollector collector, Runnable checkCancelled)
         throws IOException {
+        intersectScorerAndBitSet(scorer, acceptDocs, collector, checkCancelled, 0, DocIdSetIterator.NO_MORE_DOCS);
+    }
+
+    static void intersectScorerAndBitSet(
+        Scorer scorer,
+        BitSet acceptDocs,
+        LeafCollector collector,
+        Runnable checkCancelled,
+        int minDoc,
+        int maxDoc
+    ) throws IOException {
         collector.setScorer(scorer);
         // ConjunctionDISI uses the DocIdSetIterator#cost() to order the iterators, so if roleBits has the lowest cardinality it should
         // be used first:
@@ -421,7 +586,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         );
         int seen = 0;
         checkCancelled.run();
-        for (int docId = iterator.nextDoc(); docId < DocIdSetIterator.NO_MORE_DOCS; docId = iterator.nextDoc()) {
+        for (int docId = iterator.advance(minDoc); docId < maxDoc; docId = iterator.nextDoc()) {
             if (++seen % CHECK_CANCELLED_SCORER_INTERVAL == 0) {
                 checkCancelled.run();
             }
@@ -537,7 +702,12 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     // package-private for testing
     LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice) {
         LeafSlice[] leafSlices;
-        if (targetMaxSlice == 0) {
+        if (searchContext.shouldUseCostAwareSlicing()) {
+            // the slices searched are planned per query by search(Query, CollectorManager), these are balanced by live docs only
+            final int targetSliceCount = targetMaxSlice == 0 ? Runtime.getRuntime().availableProcessors() : targetMaxSlice;
+            leafSlices = CostAwareSliceSupplier.getSlices(leaves, targetSliceCount);
+            logger.debug("Slice count using cost aware slice supplier [{}]", leafSlices.length);
+        } else if (targetMaxSlice == 0) {
             // use the default lucene slice calculation
             leafSlices = super.slices(leaves);
             logger.debug("Slice count using lucene default [{}]", leafSlices.length);
@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.opensearch.search.profile.query.SlicingResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Supplier to compute slices that are balanced by the estimated cost of the query on each leaf, rather than by leaf count as
+ * {@link MaxTargetSliceSupplier} does. A leaf whose cost exceeds the average slice cost is split into contiguous doc id ranges,
+ * so that a shard with one large merged segment and many small ones still spreads its work evenly. Leaves and ranges are then
+ * assigned to slices using the longest-processing-time-first heuristic: from the most to the least expensive, each goes to the
+ * least loaded slice that doesn't hold another range of the same leaf yet.
+ * <p>
+ * The slice count is also lowered in proportion to the queue of the search thread pool, since slices beyond the number of idle
+ * threads only wait in the queue and add to the reduce cost.
+ *
+ * @opensearch.internal
+ */
+final class CostAwareSliceSupplier {
+
+    private CostAwareSliceSupplier() {}
+
+    /**
+     * Returns the slice count to aim for given the configured target and the state of the search thread pool. Every queued task
+     * is a slice of a concurrent request waiting for a thread, so the target is scaled down by the share of the pool that is
+     * backlogged, and never goes below a single slice.
+     */
+    static int adaptSliceCount(int targetSliceCount, int poolSize, int queueSize) {
+        if (targetSliceCount <= 0) {
+            throw new IllegalArgumentException("CostAwareSliceSupplier called with unexpected slice count of " + targetSliceCount);
+        }
+        if (poolSize <= 0 || queueSize <= 0) {
+            return targetSliceCount;
+        }
+        return (int) Math.max(1L, (long) targetSliceCount * poolSize / (poolSize + queueSize));
+    }
+
+    /**
+     * Computes whole-leaf slices balanced by the number of live documents of each leaf, used when no query is known yet.
+     */
+    static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, int targetSliceCount) {
+        final long[] costs = new long[leaves.size()];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = leaves.get(i).reader().numDocs();
+        }
+        final List<List<Partition>> slices = plan(leaves, costs, targetSliceCount, Integer.MAX_VALUE);
+        final IndexSearcher.LeafSlice[] leafSlices = new IndexSearcher.LeafSlice[slices.size()];
+        for (int i = 0; i < leafSlices.length; i++) {
+            final List<LeafReaderContext> sliceLeaves = new ArrayList<>(slices.get(i).size());
+            for (Partition partition : slices.get(i)) {
+                sliceLeaves.add(partition.ctx);
+            }
+            leafSlices[i] = new IndexSearcher.LeafSlice(sliceLeaves);
+        }
+        return leafSlices;
+    }
+
+    /**
+     * Plans the slices of a search.
+     *
+     * @param leaves all the leaves of the reader
+     * @param costs the estimated number of documents the query matches in each leaf
+     * @param targetSliceCount the maximum number of slices
+     * @param minPartitionDocCount the minimum number of documents of a doc id range, leaves are never split if it is
+     *                             {@link Integer#MAX_VALUE}
+     * @return the partitions of each slice, ordered by leaf and doc id
+     */
+    static List<List<Partition>> plan(List<LeafReaderContext> leaves, long[] costs, int targetSliceCount, int minPartitionDocCount) {
+        if (targetSliceCount <= 0) {
+            throw new IllegalArgumentException("CostAwareSliceSupplier called with unexpected slice count of " + targetSliceCount);
+        }
+        assert leaves.size() == costs.length;
+
+        long totalCost = 0;
+        for (long cost : costs) {
+            totalCost += cost;
+        }
+        final long sliceCost = (totalCost + targetSliceCount - 1) / targetSliceCount;
+
+        final List<Partition> partitions = new ArrayList<>(leaves.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            final LeafReaderContext ctx = leaves.get(i);
+            final int maxDoc = ctx.reader().maxDoc();
+            final int numPartitions = numPartitions(costs[i], maxDoc, sliceCost, targetSliceCount, minPartitionDocCount);
+            if (numPartitions == 1) {
+                partitions.add(new Partition(ctx, 0, maxDoc, costs[i]));
+                continue;
+            }
+            // split into ranges of equal size, assuming that matches are spread uniformly across the doc id space
+            for (int p = 0; p < numPartitions; p++) {
+                final int minDoc = (int) ((long) maxDoc * p / numPartitions);
+                final int partitionMaxDoc = (int) ((long) maxDoc * (p + 1) / numPartitions);
+                final long cost = costs[i] * (partitionMaxDoc - minDoc) / maxDoc;
+                partitions.add(new Partition(ctx, minDoc, partitionMaxDoc, cost));
+            }
+        }
+
+        final int sliceCount = Math.min(targetSliceCount, partitions.size());
+        final List<List<Partition>> slices = new ArrayList<>(sliceCount);
+        final long[] sliceCosts = new long[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            slices.add(new ArrayList<>());
+        }
+
+        // most expensive first, the sort is stable so that leaves of equal cost keep their order
+        partitions.sort(Comparator.comparingLong((Partition p) -> p.cost).reversed());
+        for (Partition partition : partitions) {
+            int target = -1;
+            for (int i = 0; i < sliceCount; i++) {
+                if (target != -1
+                    && (sliceCosts[i] > sliceCosts[target]
+                        || (sliceCosts[i] == sliceCosts[target] && slices.get(i).size() >= slices.get(target).size()))) {
+                    continue;
+                }
+                if (containsLeaf(slices.get(i), partition.ctx)) {
+                    continue;
+                }
+                target = i;
+            }
+            // a leaf is split in at most targetSliceCount ranges, so there is always a slice without the leaf
+            assert target != -1;
+            slices.get(target).add(partition);
+            sliceCosts[target] += partition.cost;
+        }
+
+        for (List<Partition> slice : slices) {
+            slice.sort(Comparator.comparingInt((Partition p) -> p.ctx.ord).thenComparingInt(p -> p.minDoc));
+        }
+        return slices;
+    }
+
+    private static int numPartitions(long cost, int maxDoc, long sliceCost, int targetSliceCount, int minPartitionDocCount) {
+        if (sliceCost == 0 || cost <= sliceCost || maxDoc / 2 < minPartitionDocCount) {
+            return 1;
+        }
+        final long byCost = (cost + sliceCost - 1) / sliceCost;
+        return (int) Math.min(Math.min(byCost, targetSliceCount), maxDoc / minPartitionDocCount);
+    }
+
+    private static boolean containsLeaf(List<Partition> slice, LeafReaderContext ctx) {
+        for (Partition partition : slice) {
+            if (partition.ctx == ctx) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Describes the planned slices for the search profile.
+     */
+    static SlicingResult toSlicingResult(List<List<Partition>> slices, int targetSliceCount, int queueSize) {
+        final List<SlicingResult.Slice> results = new ArrayList<>(slices.size());
+        for (List<Partition> slice : slices) {
+            long cost = 0;
+            final List<SlicingResult.Partition> partitions = new ArrayList<>(slice.size());
+            for (Partition partition : slice) {
+                cost += partition.cost;
+                partitions.add(new SlicingResult.Partition(partition.ctx.ord, partition.minDoc, partition.maxDoc));
+            }
+            results.add(new SlicingResult.Slice(cost, partitions));
+        }
+        return new SlicingResult(targetSliceCount, queueSize, results);
+    }
+
+    /**
+     * A range of doc ids of a leaf searched by a slice.
+     *
+     * @opensearch.internal
+     */
+    static final class Partition {
+        final LeafReaderContext ctx;
+        // inclusive
+        final int minDoc;
+        // exclusive
+        final int maxDoc;
+        final long cost;
+
+        Partition(LeafReaderContext ctx, int minDoc, int maxDoc, long cost) {
+            this.ctx = ctx;
+            this.minDoc = minDoc;
+            this.maxDoc = maxDoc;
+            this.cost = cost;
+        }
+
+        /**
+         * Whether this partition covers the whole leaf
+         */
+        boolean isWholeLeaf() {
+            return minDoc == 0 && maxDoc == ctx.reader().maxDoc();
+        }
+    }
+}
@@ -578,6 +578,16 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.getTargetMaxSliceCount();
     }
 
+    @Override
+    public boolean shouldUseCostAwareSlicing() {
+        return in.shouldUseCostAwareSlicing();
+    }
+
+    @Override
+    public int getMinPartitionDocCount() {
+        return in.getMinPartitionDocCount();
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return in.shouldUseTimeSeriesDescSortOptimization();
@@ -35,6 +35,8 @@ import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
 import org.opensearch.common.Nullable;
@@ -53,6 +55,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.SearchExtBuilder;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.BucketCollectorProcessor;
@@ -78,6 +81,7 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -124,6 +128,7 @@ public abstract class SearchContext implements Releasable {
     private final List<Releasable> releasables = new CopyOnWriteArrayList<>();
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private InnerHitsContext innerHitsContext;
+    private Weight queryWeight;
 
     private volatile boolean searchTimedOut;
 
@@ -365,6 +370,17 @@ public abstract class SearchContext implements Releasable {
      */
     public abstract Query query();
 
+    /**
+     * The weight of the {@link #query()} without scores, created on first use so that the aggregators which check how many
+     * documents of a segment the query matches don't each create their own, for every segment.
+     */
+    public synchronized Weight queryWeight() throws IOException {
+        if (queryWeight == null) {
+            queryWeight = searcher().createWeight(query(), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        }
+        return queryWeight;
+    }
+
     public abstract int from();
 
     public abstract SearchContext from(int from);
@@ -517,6 +533,20 @@ public abstract class SearchContext implements Releasable {
 
     public abstract int getTargetMaxSliceCount();
 
+    /**
+     * Returns whether concurrent segment search balances its slices by the estimated cost of the query on each segment
+     */
+    public boolean shouldUseCostAwareSlicing() {
+        return false;
+    }
+
+    /**
+     * Returns the minimum number of documents of a doc id range when concurrent segment search splits a segment across slices
+     */
+    public int getMinPartitionDocCount() {
+        return SearchService.CONCURRENT_SEGMENT_SEARCH_MIN_PARTITION_DOC_COUNT_DEFAULT_VALUE;
+    }
+
     public abstract boolean shouldUseTimeSeriesDescSortOptimization();
 
     public int maxAggRewriteFilters() {
@@ -151,6 +151,11 @@ public class ProfilingAggregator extends Aggregator {
         }
     }
 
+    @Override
+    public boolean supportsPartitions() throws IOException {
+        return delegate.supportsPartitions();
+    }
+
     @Override
     public String toString() {
         return delegate.toString();
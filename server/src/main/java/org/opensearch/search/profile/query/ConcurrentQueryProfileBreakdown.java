@@ -11,6 +11,7 @@ package org.opensearch.search.profile.query;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.CheckedRunnable;
 import org.opensearch.search.profile.AbstractProfileBreakdown;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 
@@ -19,6 +20,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -34,6 +36,8 @@ public final class ConcurrentQueryProfileBreakdown extends ContextualProfileBrea
     static final String MAX_PREFIX = "max_";
     static final String MIN_PREFIX = "min_";
     static final String AVG_PREFIX = "avg_";
+    // the collector of the slice that searches a range of doc ids of a leaf on the current thread, see profilePartition
+    private static final ThreadLocal<Collector> PARTITION_COLLECTOR = new ThreadLocal<>();
     private long queryNodeTime = Long.MIN_VALUE;
     private long maxSliceNodeTime = Long.MIN_VALUE;
     private long minSliceNodeTime = Long.MAX_VALUE;
@@ -50,8 +54,26 @@ public final class ConcurrentQueryProfileBreakdown extends ContextualProfileBrea
         super(QueryTimingType.class);
     }
 
+    /**
+     * Runs the search of a range of doc ids of a leaf by the slice of the given collector. Other slices may search other ranges of
+     * the same leaf at the same time, so the timings of each range are recorded in a breakdown of their own rather than in the
+     * breakdown of the leaf.
+     */
+    public static <E extends Exception> void profilePartition(Collector sliceCollector, CheckedRunnable<E> search) throws E {
+        PARTITION_COLLECTOR.set(sliceCollector);
+        try {
+            search.run();
+        } finally {
+            PARTITION_COLLECTOR.remove();
+        }
+    }
+
     @Override
     public AbstractProfileBreakdown<QueryTimingType> context(Object context) {
+        final Collector partitionCollector = PARTITION_COLLECTOR.get();
+        if (partitionCollector != null && context instanceof LeafReaderContext) {
+            context = new SliceLeaf(partitionCollector, (LeafReaderContext) context);
+        }
         // See please https://bugs.openjdk.java.net/browse/JDK-8161372
         final AbstractProfileBreakdown<QueryTimingType> profile = contexts.get(context);
 
@@ -170,7 +192,8 @@ public final class ConcurrentQueryProfileBreakdown extends ContextualProfileBrea
                 final String timingTypeSliceEndTimeKey = timingType + SLICE_END_TIME_SUFFIX;
 
                 for (LeafReaderContext sliceLeaf : slice.getValue()) {
-                    if (!contexts.containsKey(sliceLeaf)) {
+                    final AbstractProfileBreakdown<QueryTimingType> sliceLeafBreakdown = sliceLeafBreakdown(sliceCollector, sliceLeaf);
+                    if (sliceLeafBreakdown == null) {
                         // In case like early termination, the sliceCollectorToLeave association will be added for a
                         // leaf, but the leaf level breakdown will not be created in the contexts map.
                         // This is because before updating the contexts map, the query hits earlyTerminationException.
@@ -183,7 +206,7 @@ public final class ConcurrentQueryProfileBreakdown extends ContextualProfileBrea
                         // for second clause weight.
                         continue;
                     }
-                    final Map<String, Long> currentSliceLeafBreakdownMap = contexts.get(sliceLeaf).toBreakdownMap();
+                    final Map<String, Long> currentSliceLeafBreakdownMap = sliceLeafBreakdown.toBreakdownMap();
                     // get the count for current leaf timing type
                     final long sliceLeafTimingTypeCount = currentSliceLeafBreakdownMap.get(timingTypeCountKey);
                     currentSliceBreakdown.compute(
@@ -379,6 +402,14 @@ public final class ConcurrentQueryProfileBreakdown extends ContextualProfileBrea
         return queryBreakdownMap;
     }
 
+    /**
+     * Returns the breakdown of the leaf as searched by the slice, a leaf split between slices has a breakdown per slice
+     */
+    private AbstractProfileBreakdown<QueryTimingType> sliceLeafBreakdown(Collector sliceCollector, LeafReaderContext leaf) {
+        final AbstractProfileBreakdown<QueryTimingType> breakdown = contexts.get(new SliceLeaf(sliceCollector, leaf));
+        return breakdown != null ? breakdown : contexts.get(leaf);
+    }
+
     @Override
     public long toNodeTime() {
         return queryNodeTime;
@@ -415,4 +446,34 @@ public final class ConcurrentQueryProfileBreakdown extends ContextualProfileBrea
     long getAvgSliceNodeTime() {
         return avgSliceNodeTime;
     }
+
+    /**
+     * Key of the breakdown of a range of doc ids of a leaf searched by a slice
+     */
+    private static final class SliceLeaf {
+        private final Collector collector;
+        private final LeafReaderContext leaf;
+
+        private SliceLeaf(Collector collector, LeafReaderContext leaf) {
+            this.collector = collector;
+            this.leaf = leaf;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final SliceLeaf that = (SliceLeaf) o;
+            return collector == that.collector && leaf == that.leaf;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(collector), System.identityHashCode(leaf));
+        }
+    }
 }
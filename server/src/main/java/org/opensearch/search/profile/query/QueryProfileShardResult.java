@@ -32,6 +32,8 @@
 
 package org.opensearch.search.profile.query;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -50,7 +52,8 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 
 /**
  * A container class to hold the profile results for a single shard in the request.
- * Contains a list of query profiles, a collector tree and a total rewrite tree.
+ * Contains a list of query profiles, a collector tree, a total rewrite tree and, when concurrent segment search planned
+ * its slices by cost, the chosen slicing.
  *
  * @opensearch.api
  */
@@ -67,11 +70,24 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
     private final long rewriteTime;
 
+    @Nullable
+    private final SlicingResult slicing;
+
     public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime, CollectorResult profileCollector) {
+        this(queryProfileResults, rewriteTime, profileCollector, null);
+    }
+
+    public QueryProfileShardResult(
+        List<ProfileResult> queryProfileResults,
+        long rewriteTime,
+        CollectorResult profileCollector,
+        @Nullable SlicingResult slicing
+    ) {
         assert (profileCollector != null);
         this.queryProfileResults = queryProfileResults;
         this.profileCollector = profileCollector;
         this.rewriteTime = rewriteTime;
+        this.slicing = slicing;
     }
 
     /**
@@ -86,6 +102,11 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
         profileCollector = new CollectorResult(in);
         rewriteTime = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_0_0)) {
+            slicing = in.readOptionalWriteable(SlicingResult::new);
+        } else {
+            slicing = null;
+        }
     }
 
     @Override
@@ -96,6 +117,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         profileCollector.writeTo(out);
         out.writeLong(rewriteTime);
+        if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
+            out.writeOptionalWriteable(slicing);
+        }
     }
 
     public List<ProfileResult> getQueryResults() {
@@ -110,6 +134,14 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         return profileCollector;
     }
 
+    /**
+     * The slices planned by concurrent segment search, or {@code null} if the default slice computation was used
+     */
+    @Nullable
+    public SlicingResult getSlicing() {
+        return slicing;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject();
@@ -122,6 +154,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         builder.startArray(COLLECTOR);
         profileCollector.toXContent(builder, params);
         builder.endArray();
+        if (slicing != null) {
+            builder.field(SlicingResult.SLICING, slicing);
+        }
         builder.endObject();
         return builder;
     }
@@ -133,6 +168,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         List<ProfileResult> queryProfileResults = new ArrayList<>();
         long rewriteTime = 0;
         CollectorResult collector = null;
+        SlicingResult slicing = null;
         while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
                 currentFieldName = parser.currentName();
@@ -154,10 +190,12 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
                 } else {
                     parser.skipChildren();
                 }
+            } else if (token == XContentParser.Token.START_OBJECT && SlicingResult.SLICING.equals(currentFieldName)) {
+                slicing = SlicingResult.fromXContent(parser);
             } else {
                 parser.skipChildren();
             }
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector, slicing);
     }
 }
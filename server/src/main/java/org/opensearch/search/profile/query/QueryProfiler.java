@@ -33,6 +33,7 @@
 package org.opensearch.search.profile.query;
 
 import org.apache.lucene.search.Query;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.search.profile.AbstractProfiler;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
@@ -60,6 +61,11 @@ public class QueryProfiler extends AbstractProfiler<ContextualProfileBreakdown<Q
      */
     private InternalProfileComponent collector;
 
+    /**
+     * The slices planned by concurrent segment search, if it planned them by cost
+     */
+    private volatile SlicingResult slicing;
+
     public QueryProfiler(AbstractQueryProfileTree profileTree) {
         super(profileTree);
     }
@@ -104,4 +110,17 @@ public class QueryProfiler extends AbstractProfiler<ContextualProfileBreakdown<Q
         return collector.getCollectorTree();
     }
 
+    /** Set the slices that concurrent segment search planned for this search. */
+    public void setSlicing(SlicingResult slicing) {
+        this.slicing = Objects.requireNonNull(slicing);
+    }
+
+    /**
+     * Return the slices planned for this search, or {@code null} if the default slice computation was used
+     */
+    @Nullable
+    public SlicingResult getSlicing() {
+        return slicing;
+    }
+
 }
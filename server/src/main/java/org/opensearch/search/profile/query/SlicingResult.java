@@ -0,0 +1,353 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.query;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Public interface and serialization container for the slices that concurrent segment search planned for a query. Each slice
+ * lists the segment partitions it searched, a partition being either a whole segment or a range of its doc ids, along with the
+ * estimated cost that the planner used to balance the slices.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class SlicingResult implements Writeable, ToXContentObject {
+
+    public static final String SLICING = "slicing";
+
+    private static final ParseField TARGET_SLICE_COUNT = new ParseField("target_slice_count");
+    private static final ParseField QUEUE_SIZE = new ParseField("queue_size");
+    private static final ParseField SLICES = new ParseField("slices");
+    private static final ParseField COST = new ParseField("cost");
+    private static final ParseField PARTITIONS = new ParseField("partitions");
+    private static final ParseField SEGMENT = new ParseField("segment");
+    private static final ParseField MIN_DOC = new ParseField("min_doc");
+    private static final ParseField MAX_DOC = new ParseField("max_doc");
+
+    /**
+     * The slice count the planner aimed for, after adapting it to the queue of the search thread pool
+     */
+    private final int targetSliceCount;
+
+    /**
+     * The number of tasks waiting in the queue of the search thread pool when the slices were planned
+     */
+    private final int queueSize;
+
+    private final List<Slice> slices;
+
+    public SlicingResult(int targetSliceCount, int queueSize, List<Slice> slices) {
+        this.targetSliceCount = targetSliceCount;
+        this.queueSize = queueSize;
+        this.slices = Objects.requireNonNull(slices);
+    }
+
+    /**
+     * Read from a stream.
+     */
+    public SlicingResult(StreamInput in) throws IOException {
+        this.targetSliceCount = in.readVInt();
+        this.queueSize = in.readVInt();
+        this.slices = in.readList(Slice::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(targetSliceCount);
+        out.writeVInt(queueSize);
+        out.writeList(slices);
+    }
+
+    public int getTargetSliceCount() {
+        return targetSliceCount;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public List<Slice> getSlices() {
+        return Collections.unmodifiableList(slices);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(TARGET_SLICE_COUNT.getPreferredName(), targetSliceCount);
+        builder.field(QUEUE_SIZE.getPreferredName(), queueSize);
+        builder.startArray(SLICES.getPreferredName());
+        for (Slice slice : slices) {
+            slice.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    public static SlicingResult fromXContent(XContentParser parser) throws IOException {
+        XContentParser.Token token = parser.currentToken();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, token, parser);
+        String currentFieldName = null;
+        int targetSliceCount = 0;
+        int queueSize = 0;
+        List<Slice> slices = new ArrayList<>();
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token.isValue()) {
+                if (TARGET_SLICE_COUNT.match(currentFieldName, parser.getDeprecationHandler())) {
+                    targetSliceCount = parser.intValue();
+                } else if (QUEUE_SIZE.match(currentFieldName, parser.getDeprecationHandler())) {
+                    queueSize = parser.intValue();
+                } else {
+                    parser.skipChildren();
+                }
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                if (SLICES.match(currentFieldName, parser.getDeprecationHandler())) {
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        slices.add(Slice.fromXContent(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new SlicingResult(targetSliceCount, queueSize, slices);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SlicingResult that = (SlicingResult) o;
+        return targetSliceCount == that.targetSliceCount && queueSize == that.queueSize && slices.equals(that.slices);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetSliceCount, queueSize, slices);
+    }
+
+    /**
+     * The segment partitions searched by a single slice.
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static final class Slice implements Writeable, ToXContentObject {
+
+        private final long cost;
+        private final List<Partition> partitions;
+
+        public Slice(long cost, List<Partition> partitions) {
+            this.cost = cost;
+            this.partitions = Objects.requireNonNull(partitions);
+        }
+
+        /**
+         * Read from a stream.
+         */
+        public Slice(StreamInput in) throws IOException {
+            this.cost = in.readVLong();
+            this.partitions = in.readList(Partition::new);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(cost);
+            out.writeList(partitions);
+        }
+
+        /**
+         * The estimated number of documents the query matches in this slice
+         */
+        public long getCost() {
+            return cost;
+        }
+
+        public List<Partition> getPartitions() {
+            return Collections.unmodifiableList(partitions);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field(COST.getPreferredName(), cost);
+            builder.startArray(PARTITIONS.getPreferredName());
+            for (Partition partition : partitions) {
+                partition.toXContent(builder, params);
+            }
+            builder.endArray();
+            return builder.endObject();
+        }
+
+        static Slice fromXContent(XContentParser parser) throws IOException {
+            XContentParser.Token token = parser.currentToken();
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, token, parser);
+            String currentFieldName = null;
+            long cost = 0;
+            List<Partition> partitions = new ArrayList<>();
+            while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                if (token == XContentParser.Token.FIELD_NAME) {
+                    currentFieldName = parser.currentName();
+                } else if (token.isValue()) {
+                    if (COST.match(currentFieldName, parser.getDeprecationHandler())) {
+                        cost = parser.longValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    if (PARTITIONS.match(currentFieldName, parser.getDeprecationHandler())) {
+                        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                            partitions.add(Partition.fromXContent(parser));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new Slice(cost, partitions);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Slice slice = (Slice) o;
+            return cost == slice.cost && partitions.equals(slice.partitions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cost, partitions);
+        }
+    }
+
+    /**
+     * A range of doc ids of a segment, identified by its ordinal in the index reader. The range covers the whole segment unless
+     * the planner split the segment across slices.
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static final class Partition implements Writeable, ToXContentObject {
+
+        private final int segment;
+        private final int minDoc;
+        private final int maxDoc;
+
+        public Partition(int segment, int minDoc, int maxDoc) {
+            this.segment = segment;
+            this.minDoc = minDoc;
+            this.maxDoc = maxDoc;
+        }
+
+        /**
+         * Read from a stream.
+         */
+        public Partition(StreamInput in) throws IOException {
+            this.segment = in.readVInt();
+            this.minDoc = in.readVInt();
+            this.maxDoc = in.readVInt();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(segment);
+            out.writeVInt(minDoc);
+            out.writeVInt(maxDoc);
+        }
+
+        public int getSegment() {
+            return segment;
+        }
+
+        /**
+         * The first doc id of the range, inclusive
+         */
+        public int getMinDoc() {
+            return minDoc;
+        }
+
+        /**
+         * The last doc id of the range, exclusive
+         */
+        public int getMaxDoc() {
+            return maxDoc;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field(SEGMENT.getPreferredName(), segment);
+            builder.field(MIN_DOC.getPreferredName(), minDoc);
+            builder.field(MAX_DOC.getPreferredName(), maxDoc);
+            return builder.endObject();
+        }
+
+        static Partition fromXContent(XContentParser parser) throws IOException {
+            XContentParser.Token token = parser.currentToken();
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, token, parser);
+            String currentFieldName = null;
+            int segment = 0;
+            int minDoc = 0;
+            int maxDoc = 0;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                if (token == XContentParser.Token.FIELD_NAME) {
+                    currentFieldName = parser.currentName();
+                } else if (token.isValue()) {
+                    if (SEGMENT.match(currentFieldName, parser.getDeprecationHandler())) {
+                        segment = parser.intValue();
+                    } else if (MIN_DOC.match(currentFieldName, parser.getDeprecationHandler())) {
+                        minDoc = parser.intValue();
+                    } else if (MAX_DOC.match(currentFieldName, parser.getDeprecationHandler())) {
+                        maxDoc = parser.intValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new Partition(segment, minDoc, maxDoc);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Partition that = (Partition) o;
+            return segment == that.segment && minDoc == that.minDoc && maxDoc == that.maxDoc;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(segment, minDoc, maxDoc);
+        }
+    }
+}
@@ -115,6 +115,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public static final String REMOTE_PURGE = "remote_purge";
         public static final String REMOTE_REFRESH_RETRY = "remote_refresh_retry";
         public static final String REMOTE_RECOVERY = "remote_recovery";
+        public static final String REMOTE_SEGMENT_UPLOAD = "remote_segment_upload";
         public static final String INDEX_SEARCHER = "index_searcher";
     }
 
@@ -186,6 +187,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         map.put(Names.REMOTE_PURGE, ThreadPoolType.SCALING);
         map.put(Names.REMOTE_REFRESH_RETRY, ThreadPoolType.SCALING);
         map.put(Names.REMOTE_RECOVERY, ThreadPoolType.SCALING);
+        map.put(Names.REMOTE_SEGMENT_UPLOAD, ThreadPoolType.SCALING);
         map.put(Names.INDEX_SEARCHER, ThreadPoolType.RESIZABLE);
         THREAD_POOL_TYPES = Collections.unmodifiableMap(map);
     }
@@ -279,6 +281,15 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 TimeValue.timeValueMinutes(5)
             )
         );
+        builders.put(
+            Names.REMOTE_SEGMENT_UPLOAD,
+            new ScalingExecutorBuilder(
+                Names.REMOTE_SEGMENT_UPLOAD,
+                1,
+                twiceAllocatedProcessors(allocatedProcessors),
+                TimeValue.timeValueMinutes(5)
+            )
+        );
         builders.put(
             Names.INDEX_SEARCHER,
             new ResizableExecutorBuilder(
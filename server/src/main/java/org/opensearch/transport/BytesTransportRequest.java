@@ -45,7 +45,7 @@ import java.io.IOException;
  *
  * @opensearch.internal
  */
-public class BytesTransportRequest extends TransportRequest {
+public class BytesTransportRequest extends TransportRequest implements ZeroCopyWriteable {
 
     BytesReference bytes;
     Version version;
@@ -73,9 +73,11 @@ public class BytesTransportRequest extends TransportRequest {
      * Writes the data in a "thin" manner, without the actual bytes, assumes
      * the actual bytes will be appended right after this content.
      */
-    public void writeThin(StreamOutput out) throws IOException {
+    @Override
+    public BytesReference writeThin(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeVInt(bytes.length());
+        return bytes;
     }
 
     @Override
@@ -63,6 +63,8 @@ public class Header {
     String actionName;
     Tuple<Map<String, String>, Map<String, Set<String>>> headers;
     Set<String> features;
+    // set by the decoder once it read the start of the compressed content
+    private TransportCompressionScheme compressionScheme;
 
     Header(int networkMessageSize, long requestId, byte status, Version version) {
         this.networkMessageSize = networkMessageSize;
@@ -107,6 +109,20 @@ public class Header {
         return TransportStatus.isCompress(status);
     }
 
+    /**
+     * Returns the scheme the content of the message was compressed with, {@link TransportCompressionScheme#NONE} if it wasn't.
+     */
+    TransportCompressionScheme getCompressionScheme() {
+        if (isCompressed() == false) {
+            return TransportCompressionScheme.NONE;
+        }
+        return compressionScheme == null ? TransportCompressionScheme.DEFLATE : compressionScheme;
+    }
+
+    void setCompressionScheme(TransportCompressionScheme compressionScheme) {
+        this.compressionScheme = compressionScheme;
+    }
+
     public String getActionName() {
         return actionName;
     }
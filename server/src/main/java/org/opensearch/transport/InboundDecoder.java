@@ -55,7 +55,12 @@ public class InboundDecoder implements Releasable {
 
     private final Version version;
     private final PageCacheRecycler recycler;
+    private final StatsTracker statsTracker;
     private TransportDecompressor decompressor;
+    private Header compressedHeader;
+    private long compressedBytes;
+    private long decompressedBytes;
+    private long decompressionTimeInNanos;
     private int totalNetworkSize = -1;
     private int bytesConsumed = 0;
     private boolean isClosed = false;
@@ -63,8 +68,13 @@ public class InboundDecoder implements Releasable {
     private static Version V_4_0_0 = Version.fromId(4000099 ^ Version.MASK);
 
     public InboundDecoder(Version version, PageCacheRecycler recycler) {
+        this(version, recycler, new StatsTracker());
+    }
+
+    public InboundDecoder(Version version, PageCacheRecycler recycler, StatsTracker statsTracker) {
         this.version = version;
         this.recycler = recycler;
+        this.statsTracker = statsTracker;
     }
 
     public int decode(ReleasableBytesReference reference, Consumer<Object> fragmentConsumer) throws IOException {
@@ -95,7 +105,8 @@ public class InboundDecoder implements Releasable {
                     Header header = readHeader(version, messageLength, reference);
                     bytesConsumed += headerBytesToRead;
                     if (header.isCompressed()) {
-                        decompressor = new TransportDecompressor(recycler);
+                        decompressor = new TransportDecompressor(recycler, totalNetworkSize - bytesConsumed);
+                        compressedHeader = header;
                     }
                     fragmentConsumer.accept(header);
 
@@ -119,9 +130,14 @@ public class InboundDecoder implements Releasable {
                 retainedContent = reference.retain();
             }
             if (decompressor != null) {
+                final long startTime = System.nanoTime();
                 decompress(retainedContent);
+                decompressionTimeInNanos += System.nanoTime() - startTime;
+                compressedBytes += bytesToConsume;
+                compressedHeader.setCompressionScheme(decompressor.getScheme());
                 ReleasableBytesReference decompressed;
                 while ((decompressed = decompressor.pollDecompressedPage()) != null) {
+                    decompressedBytes += decompressed.length();
                     fragmentConsumer.accept(decompressed);
                 }
             } else {
@@ -142,6 +158,9 @@ public class InboundDecoder implements Releasable {
     }
 
     private void finishMessage(Consumer<Object> fragmentConsumer) {
+        if (decompressor != null && decompressor.getScheme() != null) {
+            statsTracker.markDecompressed(decompressor.getScheme(), compressedBytes, decompressedBytes, decompressionTimeInNanos);
+        }
         cleanDecodeState();
         fragmentConsumer.accept(END_CONTENT);
     }
@@ -149,6 +168,10 @@ public class InboundDecoder implements Releasable {
     private void cleanDecodeState() {
         IOUtils.closeWhileHandlingException(decompressor);
         decompressor = null;
+        compressedHeader = null;
+        compressedBytes = 0;
+        decompressedBytes = 0;
+        decompressionTimeInNanos = 0;
         totalNetworkSize = -1;
         bytesConsumed = 0;
     }
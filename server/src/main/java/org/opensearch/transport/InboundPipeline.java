@@ -78,7 +78,7 @@ public class InboundPipeline implements Releasable {
         this(
             statsTracker,
             relativeTimeInMillis,
-            new InboundDecoder(version, recycler),
+            new InboundDecoder(version, recycler, statsTracker),
             new InboundAggregator(circuitBreaker, registryFunction),
             messageHandler
         );
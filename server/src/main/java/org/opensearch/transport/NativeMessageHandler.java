@@ -224,7 +224,7 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
                     requestId,
                     version,
                     header.getFeatures(),
-                    header.isCompressed(),
+                    header.getCompressionScheme(),
                     header.isHandshake(),
                     message.takeBreakerReleaseControl()
                 );
@@ -254,7 +254,7 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
                     requestId,
                     version,
                     header.getFeatures(),
-                    header.isCompressed(),
+                    header.getCompressionScheme(),
                     header.isHandshake(),
                     message.takeBreakerReleaseControl()
                 );
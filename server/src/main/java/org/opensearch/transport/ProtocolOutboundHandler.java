@@ -35,7 +35,7 @@ public abstract class ProtocolOutboundHandler {
         final TransportRequest request,
         final TransportRequestOptions options,
         final Version channelVersion,
-        final boolean compressRequest,
+        final TransportCompressionScheme compressionScheme,
         final boolean isHandshake
     ) throws IOException, TransportException;
 
@@ -52,7 +52,7 @@ public abstract class ProtocolOutboundHandler {
         final long requestId,
         final String action,
         final TransportResponse response,
-        final boolean compress,
+        final TransportCompressionScheme compressionScheme,
         final boolean isHandshake
     ) throws IOException;
 
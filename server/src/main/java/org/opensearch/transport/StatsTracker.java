@@ -35,6 +35,10 @@ package org.opensearch.transport;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.metrics.MeanMetric;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
@@ -48,6 +52,15 @@ public final class StatsTracker {
     private final LongAdder bytesRead = new LongAdder();
     private final LongAdder messagesReceived = new LongAdder();
     private final MeanMetric writeBytesMetric = new MeanMetric();
+    private final Map<TransportCompressionScheme, CompressionTracker> compressionTrackers = new EnumMap<>(TransportCompressionScheme.class);
+
+    public StatsTracker() {
+        for (TransportCompressionScheme scheme : TransportCompressionScheme.values()) {
+            if (scheme != TransportCompressionScheme.NONE) {
+                compressionTrackers.put(scheme, new CompressionTracker());
+            }
+        }
+    }
 
     public void markBytesRead(long bytesReceived) {
         bytesRead.add(bytesReceived);
@@ -80,4 +93,61 @@ public final class StatsTracker {
     public long getMessagesSent() {
         return writeBytesMetric.count();
     }
+
+    /**
+     * Records an outbound message whose content was compressed from the given number of bytes to the other one.
+     */
+    public void markCompressed(TransportCompressionScheme scheme, long uncompressedBytes, long compressedBytes, long timeInNanos) {
+        final CompressionTracker tracker = compressionTrackers.get(scheme);
+        tracker.compressedMessages.increment();
+        tracker.bytesBeforeCompression.add(uncompressedBytes);
+        tracker.bytesAfterCompression.add(compressedBytes);
+        tracker.compressionTimeInNanos.add(timeInNanos);
+    }
+
+    /**
+     * Records an inbound message whose content was decompressed from the given number of bytes to the other one.
+     */
+    public void markDecompressed(TransportCompressionScheme scheme, long compressedBytes, long uncompressedBytes, long timeInNanos) {
+        final CompressionTracker tracker = compressionTrackers.get(scheme);
+        tracker.decompressedMessages.increment();
+        tracker.bytesBeforeDecompression.add(compressedBytes);
+        tracker.bytesAfterDecompression.add(uncompressedBytes);
+        tracker.decompressionTimeInNanos.add(timeInNanos);
+    }
+
+    /**
+     * Returns the compression stats of each scheme.
+     */
+    public List<TransportCompressionStats> getCompressionStats() {
+        final List<TransportCompressionStats> stats = new ArrayList<>(compressionTrackers.size());
+        for (Map.Entry<TransportCompressionScheme, CompressionTracker> entry : compressionTrackers.entrySet()) {
+            final CompressionTracker tracker = entry.getValue();
+            stats.add(
+                new TransportCompressionStats(
+                    entry.getKey().getValue(),
+                    tracker.compressedMessages.sum(),
+                    tracker.bytesBeforeCompression.sum(),
+                    tracker.bytesAfterCompression.sum(),
+                    tracker.compressionTimeInNanos.sum(),
+                    tracker.decompressedMessages.sum(),
+                    tracker.bytesBeforeDecompression.sum(),
+                    tracker.bytesAfterDecompression.sum(),
+                    tracker.decompressionTimeInNanos.sum()
+                )
+            );
+        }
+        return stats;
+    }
+
+    private static final class CompressionTracker {
+        private final LongAdder compressedMessages = new LongAdder();
+        private final LongAdder bytesBeforeCompression = new LongAdder();
+        private final LongAdder bytesAfterCompression = new LongAdder();
+        private final LongAdder compressionTimeInNanos = new LongAdder();
+        private final LongAdder decompressedMessages = new LongAdder();
+        private final LongAdder bytesBeforeDecompression = new LongAdder();
+        private final LongAdder bytesAfterDecompression = new LongAdder();
+        private final LongAdder decompressionTimeInNanos = new LongAdder();
+    }
 }
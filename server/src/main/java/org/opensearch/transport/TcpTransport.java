@@ -200,6 +200,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             bigArrays,
             outboundHandler
         );
+        final List<TransportCompressionScheme> compressionSchemes = TransportSettings.TRANSPORT_COMPRESSION_SCHEMES.get(settings);
         this.handshaker = new TransportHandshaker(
             version,
             threadPool,
@@ -208,12 +209,13 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
                 channel,
                 requestId,
                 TransportHandshaker.HANDSHAKE_ACTION_NAME,
-                new TransportHandshaker.HandshakeRequest(version),
+                new TransportHandshaker.HandshakeRequest(version, compressionSchemes),
                 TransportRequestOptions.EMPTY,
                 v,
-                false,
+                TransportCompressionScheme.NONE,
                 true
-            )
+            ),
+            compressionSchemes
         );
         this.keepAlive = new TransportKeepAlive(threadPool, this.outboundHandler::sendBytes);
         this.inboundHandler = new InboundHandler(
@@ -274,9 +276,16 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         private final DiscoveryNode node;
         private final Version version;
         private final boolean compress;
+        private final TransportCompressionScheme compressionScheme;
         private final AtomicBoolean isClosing = new AtomicBoolean(false);
 
-        NodeChannels(DiscoveryNode node, List<TcpChannel> channels, ConnectionProfile connectionProfile, Version handshakeVersion) {
+        NodeChannels(
+            DiscoveryNode node,
+            List<TcpChannel> channels,
+            ConnectionProfile connectionProfile,
+            Version handshakeVersion,
+            TransportCompressionScheme compressionScheme
+        ) {
             this.node = node;
             this.channels = Collections.unmodifiableList(channels);
             assert channels.size() == connectionProfile.getNumConnections() : "expected channels size to be == "
@@ -291,6 +300,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             }
             version = handshakeVersion;
             compress = connectionProfile.getCompressionEnabled();
+            this.compressionScheme = compressionScheme;
         }
 
         @Override
@@ -335,7 +345,28 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
                 throw new NodeNotConnectedException(node, "connection already closed");
             }
             TcpChannel channel = channel(options.type());
-            handshakerHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), compress, false);
+            TransportCompressionScheme scheme = requestCompressionScheme(options.compression(), compress, compressionScheme);
+            handshakerHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), scheme, false);
+        }
+    }
+
+    /**
+     * Returns the scheme to compress a request with, given the compression policy of its action, whether compression is enabled
+     * for the connection and the scheme negotiated for it.
+     */
+    // exposed for tests
+    static TransportCompressionScheme requestCompressionScheme(
+        TransportRequestOptions.CompressionPolicy policy,
+        boolean compress,
+        TransportCompressionScheme negotiatedScheme
+    ) {
+        switch (policy) {
+            case ALWAYS:
+                return negotiatedScheme;
+            case NEVER:
+                return TransportCompressionScheme.NONE;
+            default:
+                return compress ? negotiatedScheme : TransportCompressionScheme.NONE;
         }
     }
 
@@ -960,7 +991,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             messagesReceived,
             bytesRead,
             messagesSent,
-            bytesWritten
+            bytesWritten,
+            statsTracker.getCompressionStats()
         );
     }
 
@@ -1069,7 +1101,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
                     executeHandshake(node, handshakeChannel, connectionProfile, ActionListener.wrap(version -> {
                         final long connectionId = outboundConnectionCount.incrementAndGet();
                         logger.debug("opened transport connection [{}] to [{}] using channels [{}]", connectionId, node, channels);
-                        NodeChannels nodeChannels = new NodeChannels(node, channels, connectionProfile, version);
+                        final TransportCompressionScheme compressionScheme = handshaker.removeCompressionScheme(handshakeChannel);
+                        NodeChannels nodeChannels = new NodeChannels(node, channels, connectionProfile, version, compressionScheme);
                         long relativeMillisTime = threadPool.relativeTimeInMillis();
                         nodeChannels.channels.forEach(ch -> {
                             // Mark the channel init time
@@ -55,7 +55,7 @@ public final class TcpTransportChannel extends BaseTcpTransportChannel {
     private final long requestId;
     private final Version version;
     private final Set<String> features;
-    private final boolean compressResponse;
+    private final TransportCompressionScheme compressionScheme;
     private final boolean isHandshake;
     private final Releasable breakerRelease;
 
@@ -66,7 +66,7 @@ public final class TcpTransportChannel extends BaseTcpTransportChannel {
         long requestId,
         Version version,
         Set<String> features,
-        boolean compressResponse,
+        TransportCompressionScheme compressionScheme,
         boolean isHandshake,
         Releasable breakerRelease
     ) {
@@ -76,7 +76,7 @@ public final class TcpTransportChannel extends BaseTcpTransportChannel {
         this.outboundHandler = outboundHandler;
         this.action = action;
         this.requestId = requestId;
-        this.compressResponse = compressResponse;
+        this.compressionScheme = compressionScheme;
         this.isHandshake = isHandshake;
         this.breakerRelease = breakerRelease;
     }
@@ -93,7 +93,7 @@ public final class TcpTransportChannel extends BaseTcpTransportChannel {
                 // update outbound network time with current time before sending response over network
                 ((QuerySearchResult) response).getShardSearchRequest().setOutboundNetworkTime(System.currentTimeMillis());
             }
-            outboundHandler.sendResponse(version, features, getChannel(), requestId, action, response, compressResponse, isHandshake);
+            outboundHandler.sendResponse(version, features, getChannel(), requestId, action, response, compressionScheme, isHandshake);
         } finally {
             release(false);
         }
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.compress.DeflateCompressor;
+import org.opensearch.common.compress.Lz4Compressor;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Compression scheme of the messages sent over a transport connection, negotiated by the nodes during the handshake. Compressed
+ * messages start with the header of their {@link Compressor}, so the receiving side can tell the scheme of any message it gets.
+ *
+ * @opensearch.internal
+ */
+public enum TransportCompressionScheme {
+    /**
+     * Messages are never compressed, even the ones of actions that ask for it.
+     */
+    NONE,
+    /**
+     * The DEFLATE compression that nodes used before schemes were negotiated.
+     */
+    DEFLATE,
+    /**
+     * Zstandard, which compresses better than DEFLATE at a fraction of its CPU cost.
+     */
+    ZSTD,
+    /**
+     * LZ4, the cheapest to compress and decompress, for a lower ratio.
+     */
+    LZ4;
+
+    /**
+     * The longest header of the compressors of the schemes, that is the number of bytes needed to tell the scheme of a message.
+     */
+    static final int MAX_HEADER_LENGTH = 5;
+
+    private static final Compressor LZ4_COMPRESSOR = new Lz4Compressor();
+
+    public String getValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the compressor of this scheme, {@code null} for {@link #NONE}.
+     */
+    @Nullable
+    public Compressor compressor() {
+        switch (this) {
+            case DEFLATE:
+                return CompressorRegistry.getCompressor(DeflateCompressor.NAME);
+            case ZSTD:
+                return CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+            case LZ4:
+                return LZ4_COMPRESSOR;
+            default:
+                return null;
+        }
+    }
+
+    public static TransportCompressionScheme fromString(String value) {
+        for (TransportCompressionScheme scheme : values()) {
+            if (scheme.getValue().equals(value)) {
+                return scheme;
+            }
+        }
+        throw new IllegalArgumentException(
+            "unknown transport compression scheme ["
+                + value
+                + "], must be one of "
+                + Arrays.toString(Arrays.stream(values()).map(TransportCompressionScheme::getValue).toArray())
+        );
+    }
+
+    /**
+     * Returns the scheme the given compressed bytes were compressed with, {@code null} if none of the schemes matches their header.
+     */
+    @Nullable
+    public static TransportCompressionScheme fromCompressedBytes(BytesReference bytes) {
+        for (TransportCompressionScheme scheme : values()) {
+            final Compressor compressor = scheme.compressor();
+            if (compressor != null && compressor.isCompressed(bytes)) {
+                return scheme;
+            }
+        }
+        return null;
+    }
+}
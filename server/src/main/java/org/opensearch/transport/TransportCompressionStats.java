@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Stats of the transport messages that were compressed with a {@link TransportCompressionScheme}: the bytes the compression saved
+ * on the wire, and the time spent compressing and decompressing them.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.0.0")
+public class TransportCompressionStats implements Writeable, ToXContentFragment {
+
+    private final String scheme;
+    private final long compressedMessages;
+    private final long bytesBeforeCompression;
+    private final long bytesAfterCompression;
+    private final long compressionTimeInNanos;
+    private final long decompressedMessages;
+    private final long bytesBeforeDecompression;
+    private final long bytesAfterDecompression;
+    private final long decompressionTimeInNanos;
+
+    public TransportCompressionStats(
+        String scheme,
+        long compressedMessages,
+        long bytesBeforeCompression,
+        long bytesAfterCompression,
+        long compressionTimeInNanos,
+        long decompressedMessages,
+        long bytesBeforeDecompression,
+        long bytesAfterDecompression,
+        long decompressionTimeInNanos
+    ) {
+        this.scheme = scheme;
+        this.compressedMessages = compressedMessages;
+        this.bytesBeforeCompression = bytesBeforeCompression;
+        this.bytesAfterCompression = bytesAfterCompression;
+        this.compressionTimeInNanos = compressionTimeInNanos;
+        this.decompressedMessages = decompressedMessages;
+        this.bytesBeforeDecompression = bytesBeforeDecompression;
+        this.bytesAfterDecompression = bytesAfterDecompression;
+        this.decompressionTimeInNanos = decompressionTimeInNanos;
+    }
+
+    public TransportCompressionStats(StreamInput in) throws IOException {
+        scheme = in.readString();
+        compressedMessages = in.readVLong();
+        bytesBeforeCompression = in.readVLong();
+        bytesAfterCompression = in.readVLong();
+        compressionTimeInNanos = in.readVLong();
+        decompressedMessages = in.readVLong();
+        bytesBeforeDecompression = in.readVLong();
+        bytesAfterDecompression = in.readVLong();
+        decompressionTimeInNanos = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(scheme);
+        out.writeVLong(compressedMessages);
+        out.writeVLong(bytesBeforeCompression);
+        out.writeVLong(bytesAfterCompression);
+        out.writeVLong(compressionTimeInNanos);
+        out.writeVLong(decompressedMessages);
+        out.writeVLong(bytesBeforeDecompression);
+        out.writeVLong(bytesAfterDecompression);
+        out.writeVLong(decompressionTimeInNanos);
+    }
+
+    public String getScheme() {
+        return scheme;
+    }
+
+    public long getCompressedMessages() {
+        return compressedMessages;
+    }
+
+    public long getBytesBeforeCompression() {
+        return bytesBeforeCompression;
+    }
+
+    public long getBytesAfterCompression() {
+        return bytesAfterCompression;
+    }
+
+    public TimeValue getCompressionTime() {
+        return TimeValue.timeValueNanos(compressionTimeInNanos);
+    }
+
+    public long getDecompressedMessages() {
+        return decompressedMessages;
+    }
+
+    public long getBytesBeforeDecompression() {
+        return bytesBeforeDecompression;
+    }
+
+    public long getBytesAfterDecompression() {
+        return bytesAfterDecompression;
+    }
+
+    public TimeValue getDecompressionTime() {
+        return TimeValue.timeValueNanos(decompressionTimeInNanos);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(scheme);
+        builder.startObject(Fields.TX);
+        builder.field(Fields.MESSAGES, compressedMessages);
+        builder.humanReadableField(Fields.UNCOMPRESSED_SIZE_IN_BYTES, Fields.UNCOMPRESSED_SIZE, new ByteSizeValue(bytesBeforeCompression));
+        builder.humanReadableField(Fields.COMPRESSED_SIZE_IN_BYTES, Fields.COMPRESSED_SIZE, new ByteSizeValue(bytesAfterCompression));
+        builder.humanReadableField(
+            Fields.SAVED_SIZE_IN_BYTES,
+            Fields.SAVED_SIZE,
+            new ByteSizeValue(Math.max(0, bytesBeforeCompression - bytesAfterCompression))
+        );
+        builder.humanReadableField(Fields.TIME_IN_MILLIS, Fields.TIME, getCompressionTime());
+        builder.endObject();
+        builder.startObject(Fields.RX);
+        builder.field(Fields.MESSAGES, decompressedMessages);
+        builder.humanReadableField(Fields.COMPRESSED_SIZE_IN_BYTES, Fields.COMPRESSED_SIZE, new ByteSizeValue(bytesBeforeDecompression));
+        builder.humanReadableField(Fields.UNCOMPRESSED_SIZE_IN_BYTES, Fields.UNCOMPRESSED_SIZE, new ByteSizeValue(bytesAfterDecompression));
+        builder.humanReadableField(
+            Fields.SAVED_SIZE_IN_BYTES,
+            Fields.SAVED_SIZE,
+            new ByteSizeValue(Math.max(0, bytesAfterDecompression - bytesBeforeDecompression))
+        );
+        builder.humanReadableField(Fields.TIME_IN_MILLIS, Fields.TIME, getDecompressionTime());
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    static final class Fields {
+        static final String TX = "tx";
+        static final String RX = "rx";
+        static final String MESSAGES = "messages";
+        static final String UNCOMPRESSED_SIZE = "uncompressed_size";
+        static final String UNCOMPRESSED_SIZE_IN_BYTES = "uncompressed_size_in_bytes";
+        static final String COMPRESSED_SIZE = "compressed_size";
+        static final String COMPRESSED_SIZE_IN_BYTES = "compressed_size_in_bytes";
+        static final String SAVED_SIZE = "saved_size";
+        static final String SAVED_SIZE_IN_BYTES = "saved_size_in_bytes";
+        static final String TIME = "time";
+        static final String TIME_IN_MILLIS = "time_in_millis";
+    }
+}
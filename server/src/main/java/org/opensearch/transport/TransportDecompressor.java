@@ -39,39 +39,53 @@ import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
-import org.opensearch.core.compress.Compressor;
-import org.opensearch.core.compress.CompressorRegistry;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
 /**
- * Decompresses data over the transport wire
+ * Decompresses data over the transport wire. DEFLATE compressed messages are inflated as their bytes come in, the ones of the other
+ * {@link TransportCompressionScheme}s are decompressed at once when all of their bytes are in, which requires the length of the
+ * compressed content to be known.
  *
  * @opensearch.internal
  */
 public class TransportDecompressor implements Closeable {
 
-    private final Inflater inflater;
     private final PageCacheRecycler recycler;
+    private final int compressedLength;
     private final ArrayDeque<Recycler.V<byte[]>> pages;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
-    private boolean hasReadHeader = false;
+    private TransportCompressionScheme scheme;
+    private Inflater inflater;
+    // the compressed bytes of the schemes that aren't decompressed incrementally, until all of them are in
+    private final ArrayList<BytesReference> compressed = new ArrayList<>();
+    private int compressedBytes;
+    private boolean decompressed;
 
     public TransportDecompressor(PageCacheRecycler recycler) {
+        this(recycler, -1);
+    }
+
+    /**
+     * @param compressedLength the length of the compressed content, or {@code -1} if unknown, which is only supported for DEFLATE
+     */
+    public TransportDecompressor(PageCacheRecycler recycler, int compressedLength) {
         this.recycler = recycler;
-        inflater = new Inflater(true);
+        this.compressedLength = compressedLength;
         pages = new ArrayDeque<>(4);
     }
 
     public int decompress(BytesReference bytesReference) throws IOException {
-        int bytesConsumed = 0;
-        if (hasReadHeader == false) {
-            final Compressor compressor = CompressorRegistry.defaultCompressor();
-            if (compressor.isCompressed(bytesReference) == false) {
+        if (scheme == null) {
+            scheme = TransportCompressionScheme.fromCompressedBytes(bytesReference);
+            if (scheme == null) {
                 int maxToRead = Math.min(bytesReference.length(), 10);
                 StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [").append(maxToRead)
                     .append("] content bytes out of [")
@@ -86,12 +100,22 @@ public class TransportDecompressor implements Closeable {
                 sb.append("]");
                 throw new IllegalStateException(sb.toString());
             }
-            hasReadHeader = true;
-            int headerLength = compressor.headerLength();
-            bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
-            bytesConsumed += headerLength;
+            if (scheme == TransportCompressionScheme.DEFLATE) {
+                inflater = new Inflater(true);
+                int headerLength = scheme.compressor().headerLength();
+                return headerLength + inflate(bytesReference.slice(headerLength, bytesReference.length() - headerLength));
+            } else if (compressedLength < 0) {
+                throw new IllegalStateException("the length of [" + scheme.getValue() + "] compressed content must be known");
+            }
         }
+        if (inflater != null) {
+            return inflate(bytesReference);
+        }
+        return buffer(bytesReference);
+    }
 
+    private int inflate(BytesReference bytesReference) throws IOException {
+        int bytesConsumed = 0;
         BytesRefIterator refIterator = bytesReference.iterator();
         BytesRef ref;
         while ((ref = refIterator.next()) != null) {
@@ -136,12 +160,64 @@ public class TransportDecompressor implements Closeable {
         return bytesConsumed;
     }
 
+    private int buffer(BytesReference bytesReference) throws IOException {
+        final int bytesConsumed = Math.min(bytesReference.length(), compressedLength - compressedBytes);
+        // the caller releases the bytes once they are consumed, while these ones are only decompressed along with the last ones
+        if (bytesReference instanceof ReleasableBytesReference) {
+            compressed.add(((ReleasableBytesReference) bytesReference).retainedSlice(0, bytesConsumed));
+        } else {
+            compressed.add(bytesReference.slice(0, bytesConsumed));
+        }
+        compressedBytes += bytesConsumed;
+        if (compressedBytes == compressedLength) {
+            final BytesReference content = CompositeBytesReference.of(compressed.toArray(new BytesReference[0]));
+            try (InputStream in = scheme.compressor().threadLocalInputStream(content.streamInput())) {
+                while (true) {
+                    final boolean isNewPage = pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE;
+                    if (isNewPage) {
+                        pages.add(recycler.bytePage(false));
+                        pageOffset = 0;
+                    }
+                    final int bytesRead = in.read(pages.getLast().v(), pageOffset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+                    if (bytesRead == -1) {
+                        if (isNewPage) {
+                            pages.pollLast().close();
+                            pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+                        }
+                        break;
+                    }
+                    pageOffset += bytesRead;
+                }
+            } finally {
+                releaseCompressed();
+            }
+            decompressed = true;
+        }
+        return bytesConsumed;
+    }
+
+    private void releaseCompressed() {
+        for (BytesReference reference : compressed) {
+            if (reference instanceof ReleasableBytesReference) {
+                ((ReleasableBytesReference) reference).close();
+            }
+        }
+        compressed.clear();
+    }
+
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorRegistry.defaultCompressor().headerLength();
+        return scheme != null || bytesAvailable >= TransportCompressionScheme.MAX_HEADER_LENGTH;
     }
 
     public boolean isEOS() {
-        return inflater.finished();
+        return inflater != null ? inflater.finished() : decompressed;
+    }
+
+    /**
+     * Returns the scheme of the decompressed content, {@code null} if none of it was read yet.
+     */
+    public TransportCompressionScheme getScheme() {
+        return scheme;
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -164,7 +240,10 @@ public class TransportDecompressor implements Closeable {
 
     @Override
     public void close() {
-        inflater.end();
+        if (inflater != null) {
+            inflater.end();
+        }
+        releaseCompressed();
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
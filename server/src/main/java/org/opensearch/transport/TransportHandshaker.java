@@ -33,6 +33,7 @@ package org.opensearch.transport;
 
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.unit.TimeValue;
@@ -45,13 +46,21 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * Sends and receives transport-level connection handshakes. This class will send the initial handshake,
  * manage state/timeouts while the handshake is in transit, and handle the eventual response.
+ * <p>
+ * The handshake also negotiates the {@link TransportCompressionScheme} of the connection: the request lists the schemes of the
+ * sending node in order of preference, and the response carries the first of them that the receiving node offers too. Nodes that
+ * don't list schemes, or that don't answer with one, compress with {@link TransportCompressionScheme#DEFLATE}.
  *
  * @opensearch.internal
  */
@@ -59,25 +68,38 @@ final class TransportHandshaker {
 
     static final String HANDSHAKE_ACTION_NAME = "internal:tcp/handshake";
     private final ConcurrentMap<Long, HandshakeResponseHandler> pendingHandshakes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TcpChannel, TransportCompressionScheme> negotiatedCompressionSchemes = new ConcurrentHashMap<>();
     private final CounterMetric numHandshakes = new CounterMetric();
 
     private final Version version;
     private final ThreadPool threadPool;
     private final HandshakeRequestSender handshakeRequestSender;
+    private final List<TransportCompressionScheme> compressionSchemes;
 
     TransportHandshaker(Version version, ThreadPool threadPool, HandshakeRequestSender handshakeRequestSender) {
+        this(version, threadPool, handshakeRequestSender, Collections.singletonList(TransportCompressionScheme.DEFLATE));
+    }
+
+    TransportHandshaker(
+        Version version,
+        ThreadPool threadPool,
+        HandshakeRequestSender handshakeRequestSender,
+        List<TransportCompressionScheme> compressionSchemes
+    ) {
         this.version = version;
         this.threadPool = threadPool;
         this.handshakeRequestSender = handshakeRequestSender;
+        this.compressionSchemes = compressionSchemes;
     }
 
     void sendHandshake(long requestId, DiscoveryNode node, TcpChannel channel, TimeValue timeout, ActionListener<Version> listener) {
         numHandshakes.inc();
-        final HandshakeResponseHandler handler = new HandshakeResponseHandler(requestId, version, listener);
+        final HandshakeResponseHandler handler = new HandshakeResponseHandler(requestId, version, channel, listener);
         pendingHandshakes.put(requestId, handler);
-        channel.addCloseListener(
-            ActionListener.wrap(() -> handler.handleLocalException(new TransportException("handshake failed because connection reset")))
-        );
+        channel.addCloseListener(ActionListener.wrap(() -> {
+            negotiatedCompressionSchemes.remove(channel);
+            handler.handleLocalException(new TransportException("handshake failed because connection reset"));
+        }));
         boolean success = false;
         try {
             // for the request we use the minCompatVersion since we don't know what's the version of the node we talk to
@@ -117,7 +139,32 @@ final class TransportHandshaker {
                     + "]; resetting"
             );
         }
-        channel.sendResponse(new HandshakeResponse(this.version));
+        channel.sendResponse(new HandshakeResponse(this.version, selectCompressionScheme(handshakeRequest.compressionSchemes)));
+    }
+
+    /**
+     * Picks the first of the compression schemes offered by the other node that this node offers too, {@code null} if the other
+     * node didn't offer any so that the response stays readable by nodes that don't negotiate schemes.
+     */
+    private TransportCompressionScheme selectCompressionScheme(List<TransportCompressionScheme> offeredSchemes) {
+        if (offeredSchemes.isEmpty()) {
+            return null;
+        }
+        for (TransportCompressionScheme scheme : offeredSchemes) {
+            if (compressionSchemes.contains(scheme)) {
+                return scheme;
+            }
+        }
+        return TransportCompressionScheme.NONE;
+    }
+
+    /**
+     * Returns the compression scheme negotiated by the handshake that was sent over the given channel, and forgets about it.
+     * Defaults to {@link TransportCompressionScheme#DEFLATE} if no scheme was negotiated.
+     */
+    TransportCompressionScheme removeCompressionScheme(TcpChannel channel) {
+        final TransportCompressionScheme scheme = negotiatedCompressionSchemes.remove(channel);
+        return scheme == null ? TransportCompressionScheme.DEFLATE : scheme;
     }
 
     TransportResponseHandler<HandshakeResponse> removeHandlerForHandshake(long requestId) {
@@ -136,12 +183,14 @@ final class TransportHandshaker {
 
         private final long requestId;
         private final Version currentVersion;
+        private final TcpChannel channel;
         private final ActionListener<Version> listener;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
 
-        private HandshakeResponseHandler(long requestId, Version currentVersion, ActionListener<Version> listener) {
+        private HandshakeResponseHandler(long requestId, Version currentVersion, TcpChannel channel, ActionListener<Version> listener) {
             this.requestId = requestId;
             this.currentVersion = currentVersion;
+            this.channel = channel;
             this.listener = listener;
         }
 
@@ -165,6 +214,9 @@ final class TransportHandshaker {
                         )
                     );
                 } else {
+                    if (response.compressionScheme != null && channel.isOpen()) {
+                        negotiatedCompressionSchemes.put(channel, response.compressionScheme);
+                    }
                     listener.onResponse(version);
                 }
             }
@@ -192,9 +244,15 @@ final class TransportHandshaker {
     static final class HandshakeRequest extends TransportRequest {
 
         private final Version version;
+        private final List<TransportCompressionScheme> compressionSchemes;
 
         HandshakeRequest(Version version) {
+            this(version, Collections.emptyList());
+        }
+
+        HandshakeRequest(Version version, List<TransportCompressionScheme> compressionSchemes) {
             this.version = version;
+            this.compressionSchemes = compressionSchemes;
         }
 
         HandshakeRequest(StreamInput streamInput) throws IOException {
@@ -207,19 +265,41 @@ final class TransportHandshaker {
             }
             if (remainingMessage == null) {
                 version = null;
+                compressionSchemes = Collections.emptyList();
             } else {
                 try (StreamInput messageStreamInput = remainingMessage.streamInput()) {
                     this.version = messageStreamInput.readVersion();
+                    this.compressionSchemes = messageStreamInput.available() > 0
+                        ? readCompressionSchemes(messageStreamInput)
+                        : Collections.emptyList();
                 }
             }
         }
 
+        private static List<TransportCompressionScheme> readCompressionSchemes(StreamInput in) throws IOException {
+            final List<TransportCompressionScheme> schemes = new ArrayList<>();
+            for (String value : in.readStringList()) {
+                // skip the schemes of newer nodes that this node doesn't know about
+                for (TransportCompressionScheme scheme : TransportCompressionScheme.values()) {
+                    if (scheme.getValue().equals(value)) {
+                        schemes.add(scheme);
+                    }
+                }
+            }
+            return schemes;
+        }
+
         @Override
         public void writeTo(StreamOutput streamOutput) throws IOException {
             super.writeTo(streamOutput);
             assert version != null;
             try (BytesStreamOutput messageStreamOutput = new BytesStreamOutput(4)) {
                 messageStreamOutput.writeVersion(version);
+                if (compressionSchemes.isEmpty() == false) {
+                    messageStreamOutput.writeStringCollection(
+                        compressionSchemes.stream().map(TransportCompressionScheme::getValue).collect(Collectors.toList())
+                    );
+                }
                 BytesReference reference = messageStreamOutput.bytes();
                 streamOutput.writeBytesReference(reference);
             }
@@ -229,25 +309,41 @@ final class TransportHandshaker {
     static final class HandshakeResponse extends TransportResponse {
 
         private final Version responseVersion;
+        private final TransportCompressionScheme compressionScheme;
 
         HandshakeResponse(Version responseVersion) {
+            this(responseVersion, null);
+        }
+
+        HandshakeResponse(Version responseVersion, @Nullable TransportCompressionScheme compressionScheme) {
             this.responseVersion = responseVersion;
+            this.compressionScheme = compressionScheme;
         }
 
         private HandshakeResponse(StreamInput in) throws IOException {
             super(in);
             responseVersion = in.readVersion();
+            // only nodes that negotiate compression schemes append the one they picked
+            compressionScheme = in.available() > 0 ? TransportCompressionScheme.fromString(in.readString()) : null;
         }
 
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             assert responseVersion != null;
             out.writeVersion(responseVersion);
+            if (compressionScheme != null) {
+                out.writeString(compressionScheme.getValue());
+            }
         }
 
         Version getResponseVersion() {
             return responseVersion;
         }
+
+        @Nullable
+        TransportCompressionScheme getCompressionScheme() {
+            return compressionScheme;
+        }
     }
 
     @FunctionalInterface
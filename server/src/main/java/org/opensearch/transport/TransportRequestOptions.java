@@ -45,10 +45,12 @@ public class TransportRequestOptions {
 
     private final TimeValue timeout;
     private final Type type;
+    private final CompressionPolicy compression;
 
-    private TransportRequestOptions(TimeValue timeout, Type type) {
+    private TransportRequestOptions(TimeValue timeout, Type type, CompressionPolicy compression) {
         this.timeout = timeout;
         this.type = type;
+        this.compression = compression;
     }
 
     public TimeValue timeout() {
@@ -59,6 +61,10 @@ public class TransportRequestOptions {
         return this.type;
     }
 
+    public CompressionPolicy compression() {
+        return this.compression;
+    }
+
     public static final TransportRequestOptions EMPTY = new TransportRequestOptions.Builder().build();
 
     /**
@@ -75,6 +81,27 @@ public class TransportRequestOptions {
         PING
     }
 
+    /**
+     * Whether a transport request is compressed with the compression scheme negotiated for its connection
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.0.0")
+    public enum CompressionPolicy {
+        /**
+         * The request is compressed if {@code transport.compress} is enabled for the connection
+         */
+        DEFAULT,
+        /**
+         * The request is always compressed, for large payloads like recovery operations or search hits that shrink well
+         */
+        ALWAYS,
+        /**
+         * The request is never compressed, for small latency sensitive requests like pings
+         */
+        NEVER
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -88,6 +115,7 @@ public class TransportRequestOptions {
     public static class Builder {
         private TimeValue timeout;
         private Type type = Type.REG;
+        private CompressionPolicy compression = CompressionPolicy.DEFAULT;
 
         private Builder() {}
 
@@ -105,8 +133,13 @@ public class TransportRequestOptions {
             return this;
         }
 
+        public Builder withCompression(CompressionPolicy compression) {
+            this.compression = compression;
+            return this;
+        }
+
         public TransportRequestOptions build() {
-            return new TransportRequestOptions(timeout, type);
+            return new TransportRequestOptions(timeout, type, compression);
         }
     }
 }
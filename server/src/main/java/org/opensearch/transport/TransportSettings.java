@@ -117,6 +117,17 @@ public final class TransportSettings {
         OLD_TRANSPORT_COMPRESS,
         Setting.Property.NodeScope
     );
+    // the compression schemes this node offers when opening a connection, in order of preference
+    public static final Setting<List<TransportCompressionScheme>> TRANSPORT_COMPRESSION_SCHEMES = listSetting(
+        "transport.compression_schemes",
+        List.of(
+            TransportCompressionScheme.LZ4.getValue(),
+            TransportCompressionScheme.ZSTD.getValue(),
+            TransportCompressionScheme.DEFLATE.getValue()
+        ),
+        TransportCompressionScheme::fromString,
+        Setting.Property.NodeScope
+    );
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE = timeSetting(
         "transport.ping_schedule",
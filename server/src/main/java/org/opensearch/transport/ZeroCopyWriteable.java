@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+
+/**
+ * A transport message whose serialized form ends with a bulk of bytes, like the content of a file chunk. Unless the message is
+ * compressed, the outbound path appends these bytes to the message as they are instead of copying them into the buffer the rest of
+ * the message is serialized to.
+ *
+ * @opensearch.internal
+ */
+public interface ZeroCopyWriteable extends Writeable {
+
+    /**
+     * Writes this message in a "thin" manner, without the bytes it ends with, and returns these bytes. The caller must append them
+     * right after what was written, so that the outcome is the same as the one of {@link #writeTo(StreamOutput)}. Bytes that are a
+     * {@link org.opensearch.common.bytes.ReleasableBytesReference} are retained by the outbound path until they were written to the
+     * channel, so the owner of the message may release them as soon as it is done with the message.
+     */
+    BytesReference writeThin(StreamOutput out) throws IOException;
+}
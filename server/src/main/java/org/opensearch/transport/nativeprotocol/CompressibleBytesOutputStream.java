@@ -32,13 +32,17 @@
 
 package org.opensearch.transport.nativeprotocol;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.compress.CompressorRegistry;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.zip.DeflaterOutputStream;
@@ -55,25 +59,58 @@ import java.util.zip.DeflaterOutputStream;
  * <p>
  * {@link CompressibleBytesOutputStream#close()} will NOT close the underlying stream. The byte stream passed
  * in the constructor must be closed individually.
+ * <p>
+ * When compressing, the stream keeps track of the number of uncompressed bytes written to it and of the time spent in the
+ * compressor, see {@link #getUncompressedBytes()} and {@link #getCompressionTimeInNanos()}.
  *
  * @opensearch.internal
  */
 final class CompressibleBytesOutputStream extends StreamOutput {
 
+    private static final int COMPRESSOR_BUFFER_SIZE = 8192;
+
     private final OutputStream stream;
     private final BytesStream bytesStreamOutput;
     private final boolean shouldCompress;
+    private final TimedOutputStream compressorStream;
+    private long uncompressedBytes;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress ? CompressorRegistry.defaultCompressor() : null);
+    }
+
+    /**
+     * Creates a stream that compresses what is written to it with the given compressor, or that doesn't compress it if the
+     * compressor is {@code null}.
+     */
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, @Nullable Compressor compressor) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
-        this.shouldCompress = shouldCompress;
+        this.shouldCompress = compressor != null;
         if (shouldCompress) {
-            this.stream = CompressorRegistry.defaultCompressor().threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            // buffer in front of the compressor so that timing it doesn't cost a clock read per written byte
+            final OutputStream compressed = compressor.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.compressorStream = new TimedOutputStream(compressed);
+            this.stream = new BufferedOutputStream(compressorStream, COMPRESSOR_BUFFER_SIZE);
         } else {
+            this.compressorStream = null;
             this.stream = bytesStreamOutput;
         }
     }
 
+    /**
+     * Returns the number of bytes written to this stream, before compression.
+     */
+    long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Returns the time spent in the compressor, {@code 0} if this stream doesn't compress.
+     */
+    long getCompressionTimeInNanos() {
+        return compressorStream == null ? 0 : compressorStream.timeInNanos;
+    }
+
     /**
      * This method ensures that compression is complete and returns the underlying bytes.
      *
@@ -94,11 +131,13 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     @Override
     public void writeByte(byte b) throws IOException {
         stream.write(b);
+        uncompressedBytes++;
     }
 
     @Override
     public void writeBytes(byte[] b, int offset, int length) throws IOException {
         stream.write(b, offset, length);
+        uncompressedBytes += length;
     }
 
     @Override
@@ -118,4 +157,56 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     public void reset() throws IOException {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Measures the time spent writing to the wrapped compressor stream.
+     */
+    private static final class TimedOutputStream extends FilterOutputStream {
+
+        private long timeInNanos;
+
+        TimedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            final long startTime = System.nanoTime();
+            try {
+                out.write(b);
+            } finally {
+                timeInNanos += System.nanoTime() - startTime;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            final long startTime = System.nanoTime();
+            try {
+                out.write(b, off, len);
+            } finally {
+                timeInNanos += System.nanoTime() - startTime;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            final long startTime = System.nanoTime();
+            try {
+                out.flush();
+            } finally {
+                timeInNanos += System.nanoTime() - startTime;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            final long startTime = System.nanoTime();
+            try {
+                out.close();
+            } finally {
+                timeInNanos += System.nanoTime() - startTime;
+            }
+        }
+    }
 }
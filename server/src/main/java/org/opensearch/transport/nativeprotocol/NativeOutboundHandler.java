@@ -49,6 +49,7 @@ import org.opensearch.transport.ProtocolOutboundHandler;
 import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.StatsTracker;
 import org.opensearch.transport.TcpChannel;
+import org.opensearch.transport.TransportCompressionScheme;
 import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportMessageListener;
 import org.opensearch.transport.TransportRequest;
@@ -103,7 +104,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
         final TransportRequest request,
         final TransportRequestOptions options,
         final Version channelVersion,
-        final boolean compressRequest,
+        final TransportCompressionScheme compressionScheme,
         final boolean isHandshake
     ) throws IOException, TransportException {
         Version version = Version.min(this.version, channelVersion);
@@ -115,7 +116,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             action,
             requestId,
             isHandshake,
-            compressRequest
+            compressionScheme
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onRequestSent(node, requestId, action, request, options));
         sendMessage(channel, message, listener);
@@ -135,7 +136,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
         final long requestId,
         final String action,
         final TransportResponse response,
-        final boolean compress,
+        final TransportCompressionScheme compressionScheme,
         final boolean isHandshake
     ) throws IOException {
         Version version = Version.min(this.version, nodeVersion);
@@ -146,7 +147,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             version,
             requestId,
             isHandshake,
-            compress
+            compressionScheme
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
         sendMessage(channel, message, listener);
@@ -174,14 +175,14 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             version,
             requestId,
             false,
-            false
+            TransportCompressionScheme.NONE
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, error));
         sendMessage(channel, message, listener);
     }
 
     private void sendMessage(TcpChannel channel, NativeOutboundMessage networkMessage, ActionListener<Void> listener) throws IOException {
-        MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
+        MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays, statsTracker);
         OutboundHandler.SendContext sendContext = new OutboundHandler.SendContext(statsTracker, channel, serializer, listener, serializer);
         handler.sendBytes(channel, sendContext);
     }
@@ -203,22 +204,24 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
 
         private final NativeOutboundMessage message;
         private final BigArrays bigArrays;
+        private final StatsTracker statsTracker;
         private volatile ReleasableBytesStreamOutput bytesStreamOutput;
 
-        private MessageSerializer(NativeOutboundMessage message, BigArrays bigArrays) {
+        private MessageSerializer(NativeOutboundMessage message, BigArrays bigArrays, StatsTracker statsTracker) {
             this.message = message;
             this.bigArrays = bigArrays;
+            this.statsTracker = statsTracker;
         }
 
         @Override
         public BytesReference get() throws IOException {
             bytesStreamOutput = new ReleasableBytesStreamOutput(bigArrays);
-            return message.serialize(bytesStreamOutput);
+            return message.serialize(bytesStreamOutput, statsTracker);
         }
 
         @Override
         public void close() {
-            IOUtils.closeWhileHandlingException(bytesStreamOutput);
+            IOUtils.closeWhileHandlingException(bytesStreamOutput, message::releaseTrailingBytes);
         }
     }
 }
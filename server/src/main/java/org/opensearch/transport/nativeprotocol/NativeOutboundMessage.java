@@ -32,7 +32,10 @@
 package org.opensearch.transport.nativeprotocol;
 
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -41,8 +44,11 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.transport.BytesTransportRequest;
 import org.opensearch.transport.RemoteTransportException;
+import org.opensearch.transport.StatsTracker;
 import org.opensearch.transport.TcpHeader;
+import org.opensearch.transport.TransportCompressionScheme;
 import org.opensearch.transport.TransportStatus;
+import org.opensearch.transport.ZeroCopyWriteable;
 
 import java.io.IOException;
 import java.util.Set;
@@ -55,13 +61,30 @@ import java.util.Set;
 abstract class NativeOutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final TransportCompressionScheme compressionScheme;
+    private volatile Releasable trailingBytesRelease = () -> {};
 
-    NativeOutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    NativeOutboundMessage(
+        ThreadContext threadContext,
+        Version version,
+        byte status,
+        long requestId,
+        Writeable message,
+        TransportCompressionScheme compressionScheme
+    ) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressionScheme = TransportStatus.isCompress(status) ? compressionScheme : TransportCompressionScheme.NONE;
     }
 
     BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
+        return serialize(bytesStream, null);
+    }
+
+    /**
+     * Serializes this message, recording the outcome of its compression in the given stats tracker if it is not {@code null}.
+     */
+    BytesReference serialize(BytesStreamOutput bytesStream, @Nullable StatsTracker statsTracker) throws IOException {
         bytesStream.setVersion(version);
         bytesStream.skip(TcpHeader.headerSize(version));
 
@@ -72,7 +95,8 @@ abstract class NativeOutboundMessage extends NetworkMessage {
         writeVariableHeader(bytesStream);
         variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
 
-        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+        final long preMessagePosition = bytesStream.position();
+        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, compressionScheme.compressor())) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -80,6 +104,14 @@ abstract class NativeOutboundMessage extends NetworkMessage {
                 writeVariableHeader(stream);
             }
             reference = writeMessage(stream);
+            if (statsTracker != null && compressionScheme != TransportCompressionScheme.NONE) {
+                statsTracker.markCompressed(
+                    compressionScheme,
+                    stream.getUncompressedBytes(),
+                    bytesStream.position() - preMessagePosition,
+                    stream.getCompressionTimeInNanos()
+                );
+            }
         }
 
         bytesStream.seek(0);
@@ -88,16 +120,28 @@ abstract class NativeOutboundMessage extends NetworkMessage {
         return reference;
     }
 
+    /**
+     * Releases the trailing bytes of a {@link ZeroCopyWriteable} message that were retained when this message was serialized, once the
+     * serialized message was written to the channel or failed to be.
+     */
+    void releaseTrailingBytes() {
+        final Releasable release = trailingBytesRelease;
+        trailingBytesRelease = () -> {};
+        release.close();
+    }
+
     protected void writeVariableHeader(StreamOutput stream) throws IOException {
         threadContext.writeTo(stream);
     }
 
     protected BytesReference writeMessage(CompressibleBytesOutputStream stream) throws IOException {
         final BytesReference zeroCopyBuffer;
-        if (message instanceof BytesTransportRequest) {
-            BytesTransportRequest bRequest = (BytesTransportRequest) message;
-            bRequest.writeThin(stream);
-            zeroCopyBuffer = bRequest.bytes();
+        if (message instanceof ZeroCopyWriteable && TransportStatus.isCompress(status) == false) {
+            zeroCopyBuffer = ((ZeroCopyWriteable) message).writeThin(stream);
+            if (zeroCopyBuffer instanceof ReleasableBytesReference) {
+                // the bytes go out as they are, so they must stay alive until the message was written to the channel
+                trailingBytesRelease = ((ReleasableBytesReference) zeroCopyBuffer).retain();
+            }
         } else if (message instanceof RemoteTransportException) {
             stream.writeException((RemoteTransportException) message);
             zeroCopyBuffer = BytesArray.EMPTY;
@@ -138,7 +182,27 @@ abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake, defaultScheme(compress));
+        }
+
+        Request(
+            ThreadContext threadContext,
+            String[] features,
+            Writeable message,
+            Version version,
+            String action,
+            long requestId,
+            boolean isHandshake,
+            TransportCompressionScheme compressionScheme
+        ) {
+            super(
+                threadContext,
+                version,
+                setStatus(compressionScheme != TransportCompressionScheme.NONE, isHandshake, message),
+                requestId,
+                message,
+                compressionScheme
+            );
             this.features = features;
             this.action = action;
         }
@@ -182,7 +246,26 @@ abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake, defaultScheme(compress));
+        }
+
+        Response(
+            ThreadContext threadContext,
+            Set<String> features,
+            Writeable message,
+            Version version,
+            long requestId,
+            boolean isHandshake,
+            TransportCompressionScheme compressionScheme
+        ) {
+            super(
+                threadContext,
+                version,
+                setStatus(compressionScheme != TransportCompressionScheme.NONE, isHandshake, message),
+                requestId,
+                message,
+                compressionScheme
+            );
             this.features = features;
         }
 
@@ -209,6 +292,10 @@ abstract class NativeOutboundMessage extends NetworkMessage {
         }
     }
 
+    private static TransportCompressionScheme defaultScheme(boolean compress) {
+        return compress ? TransportCompressionScheme.DEFLATE : TransportCompressionScheme.NONE;
+    }
+
     private static boolean canCompress(Writeable message) {
         return message instanceof BytesTransportRequest == false;
     }
@@ -85,6 +85,8 @@ import org.opensearch.script.ScriptStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
+import org.opensearch.transport.TransportCompressionScheme;
+import org.opensearch.transport.TransportCompressionStats;
 import org.opensearch.transport.TransportStats;
 
 import java.io.IOException;
@@ -327,6 +329,18 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(nodeStats.getTransport().getServerOpen(), deserializedNodeStats.getTransport().getServerOpen());
                     assertEquals(nodeStats.getTransport().getTxCount(), deserializedNodeStats.getTransport().getTxCount());
                     assertEquals(nodeStats.getTransport().getTxSize(), deserializedNodeStats.getTransport().getTxSize());
+                    assertEquals(
+                        nodeStats.getTransport().getCompressionStats().size(),
+                        deserializedNodeStats.getTransport().getCompressionStats().size()
+                    );
+                    for (int i = 0; i < nodeStats.getTransport().getCompressionStats().size(); i++) {
+                        TransportCompressionStats stats = nodeStats.getTransport().getCompressionStats().get(i);
+                        TransportCompressionStats deserializedStats = deserializedNodeStats.getTransport().getCompressionStats().get(i);
+                        assertEquals(stats.getScheme(), deserializedStats.getScheme());
+                        assertEquals(stats.getBytesBeforeCompression(), deserializedStats.getBytesBeforeCompression());
+                        assertEquals(stats.getBytesAfterCompression(), deserializedStats.getBytesAfterCompression());
+                        assertEquals(stats.getDecompressionTime(), deserializedStats.getDecompressionTime());
+                    }
                 }
                 if (nodeStats.getHttp() == null) {
                     assertNull(deserializedNodeStats.getHttp());
@@ -778,7 +792,22 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 randomNonNegativeLong(),
                 randomNonNegativeLong(),
                 randomNonNegativeLong(),
-                randomNonNegativeLong()
+                randomNonNegativeLong(),
+                randomList(
+                    0,
+                    3,
+                    () -> new TransportCompressionStats(
+                        randomFrom(TransportCompressionScheme.values()).getValue(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong()
+                    )
+                )
             )
             : null;
         HttpStats httpStats = frequently() ? new HttpStats(randomNonNegativeLong(), randomNonNegativeLong()) : null;
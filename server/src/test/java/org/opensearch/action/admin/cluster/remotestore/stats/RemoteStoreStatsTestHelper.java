@@ -49,6 +49,8 @@ public class RemoteStoreStatsTestHelper {
             0,
             0,
             10,
+            7,
+            3.5,
             createZeroDirectoryFileTransferStats()
         );
     }
@@ -75,6 +77,8 @@ public class RemoteStoreStatsTestHelper {
             0,
             0,
             0,
+            0,
+            0,
             createSampleDirectoryFileTransferStats()
         );
     }
@@ -101,6 +105,8 @@ public class RemoteStoreStatsTestHelper {
             0,
             100,
             10,
+            0,
+            0,
             createSampleDirectoryFileTransferStats()
         );
     }
@@ -275,6 +281,18 @@ public class RemoteStoreStatsTestHelper {
                 ),
                 segmentTransferStats.uploadTimeMovingAverage
             );
+            assertEquals(
+                ((Map) segmentUploads.get(RemoteStoreStats.UploadStatsFields.UPLOAD_QUEUE_TIME_IN_MILLIS)).get(
+                    RemoteStoreStats.SubFields.TOTAL
+                ),
+                (int) segmentTransferStats.totalUploadQueueTimeInMs
+            );
+            assertEquals(
+                ((Map) segmentUploads.get(RemoteStoreStats.UploadStatsFields.UPLOAD_QUEUE_TIME_IN_MILLIS)).get(
+                    RemoteStoreStats.SubFields.MOVING_AVG
+                ),
+                segmentTransferStats.uploadQueueTimeMovingAverage
+            );
         } else {
             assertTrue(segmentUploads.isEmpty());
         }
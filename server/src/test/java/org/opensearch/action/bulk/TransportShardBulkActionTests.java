@@ -48,6 +48,7 @@ import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
 import org.opensearch.action.support.replication.ReplicationMode;
 import org.opensearch.action.support.replication.ReplicationTask;
+import org.opensearch.action.support.replication.TransportReplicationAction;
 import org.opensearch.action.support.replication.TransportReplicationAction.ReplicaResponse;
 import org.opensearch.action.support.replication.TransportWriteAction.WritePrimaryResult;
 import org.opensearch.action.update.UpdateHelper;
@@ -60,6 +61,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.routing.AllocationId;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -69,6 +71,7 @@ import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressureService;
@@ -99,13 +102,20 @@ import org.opensearch.transport.TransportService;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 import static org.opensearch.index.remote.RemoteStoreTestsHelper.createIndexSettings;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -114,6 +124,7 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
@@ -863,6 +874,180 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testPartitionItemsById() {
+        int numIds = randomIntBetween(1, 10);
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(1, 50)];
+        for (int i = 0; i < items.length; i++) {
+            IndexRequest writeRequest = new IndexRequest("index").id("id_" + randomInt(numIds - 1)).source(Requests.INDEX_CONTENT_TYPE);
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        int parallelism = randomIntBetween(2, 8);
+        int[][] lanes = TransportShardBulkAction.partitionItemsById(items, parallelism);
+        assertTrue(lanes.length <= Math.min(parallelism, items.length));
+        Map<String, Integer> laneOfId = new HashMap<>();
+        Set<Integer> positions = new HashSet<>();
+        for (int lane = 0; lane < lanes.length; lane++) {
+            assertTrue(lanes[lane].length > 0);
+            for (int i = 0; i < lanes[lane].length; i++) {
+                if (i > 0) {
+                    // the items of a lane keep the order of the request
+                    assertTrue(lanes[lane][i - 1] < lanes[lane][i]);
+                }
+                assertTrue(positions.add(lanes[lane][i]));
+                assertEquals(Integer.valueOf(lane), laneOfId.computeIfAbsent(items[lanes[lane][i]].request().id(), id -> lane));
+            }
+        }
+        assertEquals(items.length, positions.size());
+    }
+
+    public void testLanesListenerWaitsForEveryLane() {
+        int numLanes = randomIntBetween(2, 8);
+        PlainActionFuture<Translog.Location> future = PlainActionFuture.newFuture();
+        TransportShardBulkAction.LanesListener lanesListener = new TransportShardBulkAction.LanesListener(numLanes, future);
+        List<Exception> failures = new ArrayList<>();
+        for (int lane = 0; lane < numLanes; lane++) {
+            // a failed lane doesn't complete the request while the others still execute
+            assertFalse(future.isDone());
+            if (lane == 0 || randomBoolean()) {
+                Exception failure = new IllegalStateException("lane " + lane);
+                failures.add(failure);
+                lanesListener.laneListener(lane).onFailure(failure);
+            } else {
+                lanesListener.laneListener(lane).onResponse(new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), 1));
+            }
+        }
+        assertTrue(future.isDone());
+        Exception e = expectThrows(IllegalStateException.class, future::actionGet);
+        assertSame(failures.get(0), e);
+        assertEquals(failures.subList(1, failures.size()), List.of(e.getSuppressed()));
+
+        PlainActionFuture<Translog.Location> successFuture = PlainActionFuture.newFuture();
+        lanesListener = new TransportShardBulkAction.LanesListener(numLanes, successFuture);
+        Translog.Location furthest = null;
+        for (int lane = 0; lane < numLanes; lane++) {
+            assertFalse(successFuture.isDone());
+            Translog.Location location = new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), 1);
+            if (furthest == null || location.compareTo(furthest) > 0) {
+                furthest = location;
+            }
+            lanesListener.laneListener(lane).onResponse(location);
+        }
+        assertEquals(furthest, successFuture.actionGet());
+    }
+
+    public void testParallelExecutionOnPrimary() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        int numIds = randomIntBetween(1, 20);
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(1, 100)];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<IndexRequest> writeRequest = new IndexRequest("index").id("id_" + randomInt(numIds - 1))
+                .source(Requests.INDEX_CONTENT_TYPE, "foo", "bar_" + i);
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        PlainActionFuture<TransportReplicationAction.PrimaryResult<BulkShardRequest, BulkShardResponse>> future = PlainActionFuture
+            .newFuture();
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new ApplyingMappingUpdatePerformer(shard),
+            () -> listener -> listener.onResponse(null),
+            future,
+            threadPool,
+            Names.WRITE,
+            randomIntBetween(2, 8)
+        );
+        WritePrimaryResult<BulkShardRequest, BulkShardResponse> result = (WritePrimaryResult<BulkShardRequest, BulkShardResponse>) future
+            .get();
+        assertThat(result.location, notNullValue());
+        assertThat(result.finalResponseIfSuccessful.getResponses(), arrayWithSize(items.length));
+
+        // the operations on each id are applied in the order of the request
+        Map<String, Long> lastVersions = new HashMap<>();
+        Map<String, Long> lastSeqNos = new HashMap<>();
+        Set<Long> seqNos = new HashSet<>();
+        for (int i = 0; i < items.length; i++) {
+            BulkItemResponse response = result.finalResponseIfSuccessful.getResponses()[i];
+            assertThat(response.getItemId(), equalTo(i));
+            assertFalse(response.isFailed());
+            String id = items[i].request().id();
+            assertThat(response.getId(), equalTo(id));
+            long version = lastVersions.getOrDefault(id, 0L) + 1;
+            assertThat(response.getVersion(), equalTo(version));
+            lastVersions.put(id, version);
+            long seqNo = response.getResponse().getSeqNo();
+            assertTrue(seqNo > lastSeqNos.getOrDefault(id, SequenceNumbers.NO_OPS_PERFORMED));
+            lastSeqNos.put(id, seqNo);
+            assertTrue(seqNos.add(seqNo));
+        }
+        assertDocCount(shard, lastVersions.size());
+        closeShards(shard);
+    }
+
+    public void testParallelExecutionOnPrimaryWithMappingUpdates() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        // every item adds a field, so every lane waits for mapping updates
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(20, 50)];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<IndexRequest> writeRequest = new IndexRequest("index").id("id_" + i)
+                .source(Requests.INDEX_CONTENT_TYPE, "field_" + i, "bar");
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        // like a cluster state observer, each wait only supports one listener at a time
+        AtomicInteger usedWaits = new AtomicInteger();
+        Supplier<Consumer<ActionListener<Void>>> waitForMappingUpdate = () -> {
+            AtomicBoolean waiting = new AtomicBoolean();
+            AtomicBoolean used = new AtomicBoolean();
+            return listener -> {
+                if (used.compareAndSet(false, true)) {
+                    usedWaits.incrementAndGet();
+                }
+                if (waiting.compareAndSet(false, true) == false) {
+                    listener.onFailure(new OpenSearchException("already waiting for a cluster state change"));
+                    return;
+                }
+                threadPool.generic().execute(() -> {
+                    waiting.set(false);
+                    listener.onResponse(null);
+                });
+            };
+        };
+
+        PlainActionFuture<TransportReplicationAction.PrimaryResult<BulkShardRequest, BulkShardResponse>> future = PlainActionFuture
+            .newFuture();
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new ApplyingMappingUpdatePerformer(shard),
+            waitForMappingUpdate,
+            future,
+            threadPool,
+            Names.WRITE,
+            randomIntBetween(2, 8)
+        );
+        WritePrimaryResult<BulkShardRequest, BulkShardResponse> result = (WritePrimaryResult<BulkShardRequest, BulkShardResponse>) future
+            .get();
+        assertThat(result.finalResponseIfSuccessful.getResponses(), arrayWithSize(items.length));
+        for (BulkItemResponse response : result.finalResponseIfSuccessful.getResponses()) {
+            assertFalse(response.getFailureMessage(), response.isFailed());
+        }
+        assertThat(usedWaits.get(), greaterThan(1));
+        for (int i = 0; i < items.length; i++) {
+            assertNotNull(shard.mapperService().fieldType("field_" + i));
+        }
+        assertDocCount(shard, items.length);
+        closeShards(shard);
+    }
+
     public void testNoOpReplicationOnPrimaryDocumentFailure() throws Exception {
         final IndexShard shard = spy(newStartedShard(false));
         BulkItemRequest itemRequest = new BulkItemRequest(0, new IndexRequest("index").source(Requests.INDEX_CONTENT_TYPE));
@@ -1361,6 +1546,28 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         }
     }
 
+    /** Applies the mapping updates to the mapper service of the shard, like the cluster-manager and the cluster applier would */
+    private static class ApplyingMappingUpdatePerformer implements MappingUpdatePerformer {
+        private final IndexShard shard;
+
+        ApplyingMappingUpdatePerformer(IndexShard shard) {
+            this.shard = shard;
+        }
+
+        @Override
+        public void updateMappings(Mapping update, ShardId shardId, ActionListener<Void> listener) {
+            ActionListener.completeWith(listener, () -> {
+                shard.mapperService()
+                    .merge(
+                        MapperService.SINGLE_MAPPING_NAME,
+                        new CompressedXContent(update, ToXContent.EMPTY_PARAMS),
+                        MapperService.MergeReason.MAPPING_UPDATE
+                    );
+                return null;
+            });
+        }
+    }
+
     /** Always throw the given exception */
     private class ThrowingMappingUpdatePerformer implements MappingUpdatePerformer {
         private final RuntimeException e;
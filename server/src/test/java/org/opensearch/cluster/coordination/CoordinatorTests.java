@@ -1044,6 +1044,48 @@ public class CoordinatorTests extends AbstractCoordinatorTestCase {
         }
     }
 
+    public void testFanOutPublishing() {
+        final int fanOut = 2;
+        final Settings settings = Settings.builder().put(PublicationTransportHandler.PUBLISH_FAN_OUT_SETTING.getKey(), fanOut).build();
+        try (Cluster cluster = new Cluster(randomIntBetween(4, 7), false, settings)) {
+            cluster.runRandomly();
+            cluster.stabilise();
+
+            final ClusterNode leader = cluster.getAnyLeader();
+            final long finalValue = randomLong();
+            final Map<ClusterNode, PublishClusterStateStats> prePublishStats = cluster.clusterNodes.stream()
+                .collect(Collectors.toMap(Function.identity(), cn -> cn.coordinator.stats().getPublishStats()));
+            logger.info("--> submitting value [{}] to [{}]", finalValue, leader);
+            leader.submitValue(finalValue);
+            // the relays add a round-trip per level of the fan-out tree
+            cluster.stabilise(DEFAULT_CLUSTER_STATE_UPDATE_DELAY * 2);
+            final Map<ClusterNode, PublishClusterStateStats> postPublishStats = cluster.clusterNodes.stream()
+                .collect(Collectors.toMap(Function.identity(), cn -> cn.coordinator.stats().getPublishStats()));
+
+            for (ClusterNode cn : cluster.clusterNodes) {
+                assertThat(value(cn.getLastAppliedClusterState()), is(finalValue));
+                assertEquals(
+                    cn.toString(),
+                    prePublishStats.get(cn).getCompatibleClusterStateDiffReceivedCount() + 1,
+                    postPublishStats.get(cn).getCompatibleClusterStateDiffReceivedCount()
+                );
+            }
+
+            final long nonClusterManagerNodes = cluster.clusterNodes.stream()
+                .filter(cn -> cn.getLocalNode().isClusterManagerNode() == false)
+                .count();
+            final long relayedRequests = cluster.clusterNodes.stream()
+                .mapToLong(cn -> relayedRequestCount(postPublishStats.get(cn)) - relayedRequestCount(prePublishStats.get(cn)))
+                .sum();
+            // the relays publish to the nodes the cluster-manager doesn't publish to directly
+            assertEquals(Math.max(0, nonClusterManagerNodes - fanOut), relayedRequests);
+        }
+    }
+
+    private static long relayedRequestCount(PublishClusterStateStats stats) {
+        return stats.getHopStats().stream().filter(hop -> hop.getHop() >= 2).mapToLong(PublicationHopStats::getCount).sum();
+    }
+
     public void testJoiningNodeReceivesFullState() {
         try (Cluster cluster = new Cluster(randomIntBetween(1, 5))) {
             cluster.runRandomly();
@@ -33,26 +33,43 @@ package org.opensearch.cluster.coordination;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.coordination.CoordinationMetadata.VotingConfiguration;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.node.Node;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.transport.CapturingTransport;
+import org.opensearch.transport.BytesTransportRequest;
+import org.opensearch.transport.RequestHandlerRegistry;
+import org.opensearch.transport.TestTransportChannel;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class PublicationTransportHandlerTests extends OpenSearchTestCase {
 
@@ -73,6 +90,8 @@ public class PublicationTransportHandlerTests extends OpenSearchTestCase {
             NoopTracer.INSTANCE
         );
         final PublicationTransportHandler handler = new PublicationTransportHandler(
+            Settings.EMPTY,
+            clusterSettings,
             transportService,
             writableRegistry(),
             pu -> null,
@@ -117,4 +136,144 @@ public class PublicationTransportHandlerTests extends OpenSearchTestCase {
         assertThat(e.getCause(), instanceOf(IOException.class));
         assertThat(e.getCause().getMessage(), containsString("Simulated failure of diff serialization"));
     }
+
+    public void testBuildFanOutTree() {
+        final int fanOut = randomIntBetween(1, 5);
+        final List<DiscoveryNode> nodes = new ArrayList<>();
+        for (int i = between(0, 50); i > 0; i--) {
+            nodes.add(new DiscoveryNode("node" + i, buildNewFakeTransportAddress(), Version.CURRENT));
+        }
+        final List<RelayedPublishRequest.Target> roots = PublicationTransportHandler.buildFanOutTree(nodes, fanOut);
+        assertEquals(Math.min(fanOut, nodes.size()), roots.size());
+
+        final List<DiscoveryNode> treeNodes = new ArrayList<>();
+        for (RelayedPublishRequest.Target root : roots) {
+            assertMaxDepth(root, fanOut, depth(nodes.size(), fanOut));
+            root.collectNodes(treeNodes);
+        }
+        // every node is in exactly one subtree
+        assertEquals(nodes.size(), treeNodes.size());
+        assertEquals(Set.copyOf(nodes), Set.copyOf(treeNodes));
+    }
+
+    public void testRelayedPublishRequestSerialization() throws IOException {
+        final DiscoveryNode node1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT);
+        final DiscoveryNode node2 = new DiscoveryNode("node2", buildNewFakeTransportAddress(), Version.CURRENT);
+        final DiscoveryNode node3 = new DiscoveryNode("node3", buildNewFakeTransportAddress(), Version.CURRENT);
+        final RelayedPublishRequest request = new RelayedPublishRequest(
+            new BytesArray(randomByteArrayOfLength(between(1, 100))),
+            between(1, 5),
+            List.of(new RelayedPublishRequest.Target(node1, List.of(leaf(node2))), leaf(node3))
+        );
+        final RelayedPublishRequest copy;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                copy = new RelayedPublishRequest(in);
+            }
+        }
+        assertEquals(request.getSerializedState(), copy.getSerializedState());
+        assertEquals(request.getHop(), copy.getHop());
+        assertEquals(request.getTargets().toString(), copy.getTargets().toString());
+        assertEquals(
+            List.of(node1, node2, node3),
+            copy.getTargets().stream().flatMap(target -> {
+                final List<DiscoveryNode> nodes = new ArrayList<>();
+                target.collectNodes(nodes);
+                return nodes.stream();
+            }).collect(Collectors.toList())
+        );
+    }
+
+    public void testAcknowledgesAlreadyAcceptedStateAgain() throws Exception {
+        DeterministicTaskQueue deterministicTaskQueue = new DeterministicTaskQueue(
+            Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), "test").build(),
+            random()
+        );
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final DiscoveryNode localNode = new DiscoveryNode("localNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final TransportService transportService = new CapturingTransport().createTransportService(
+            Settings.EMPTY,
+            deterministicTaskQueue.getThreadPool(),
+            TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+            x -> localNode,
+            clusterSettings,
+            Collections.emptySet(),
+            NoopTracer.INSTANCE
+        );
+        // accepts every state once, like the coordination state does
+        final AtomicInteger acceptedStates = new AtomicInteger();
+        final AtomicLong lastAcceptedVersion = new AtomicLong(-1L);
+        new PublicationTransportHandler(Settings.EMPTY, clusterSettings, transportService, writableRegistry(), publishRequest -> {
+            final ClusterState state = publishRequest.getAcceptedState();
+            if (state.version() <= lastAcceptedVersion.get()) {
+                throw new CoordinationStateRejectedException("incoming version " + state.version() + " lower or equal to current version");
+            }
+            lastAcceptedVersion.set(state.version());
+            acceptedStates.incrementAndGet();
+            return new PublishWithJoinResponse(new PublishResponse(state.term(), state.version()), Optional.empty());
+        }, (pu, l) -> {});
+        transportService.start();
+        transportService.acceptIncomingRequests();
+
+        final DiscoveryNode clusterManagerNode = new DiscoveryNode("clusterManagerNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final ClusterState clusterState = CoordinationStateTests.clusterState(
+            2L,
+            randomLongBetween(1L, 10L),
+            DiscoveryNodes.builder()
+                .add(localNode)
+                .add(clusterManagerNode)
+                .localNodeId(localNode.getId())
+                .clusterManagerNodeId(clusterManagerNode.getId())
+                .build(),
+            VotingConfiguration.EMPTY_CONFIG,
+            VotingConfiguration.EMPTY_CONFIG,
+            0L
+        );
+        final BytesTransportRequest request = new BytesTransportRequest(
+            CompressedStreamUtils.createCompressedStream(Version.CURRENT, stream -> {
+                stream.writeBoolean(true);
+                clusterState.writeTo(stream);
+            }),
+            Version.CURRENT
+        );
+
+        // the second request stands for a direct publication to a node that a relay reached before failing or timing out
+        final PublishWithJoinResponse firstResponse = publish(transportService, request);
+        final PublishWithJoinResponse secondResponse = publish(transportService, request);
+        assertEquals(1, acceptedStates.get());
+        assertEquals(firstResponse, secondResponse);
+        assertEquals(new PublishResponse(clusterState.term(), clusterState.version()), secondResponse.getPublishResponse());
+    }
+
+    private static PublishWithJoinResponse publish(TransportService transportService, BytesTransportRequest request) throws Exception {
+        @SuppressWarnings("unchecked")
+        final RequestHandlerRegistry<BytesTransportRequest> handler = (RequestHandlerRegistry<BytesTransportRequest>) transportService
+            .getRequestHandler(PublicationTransportHandler.PUBLISH_STATE_ACTION_NAME);
+        final PlainActionFuture<TransportResponse> future = new PlainActionFuture<>();
+        handler.processMessageReceived(request, new TestTransportChannel(future));
+        return (PublishWithJoinResponse) future.get();
+    }
+
+    private static RelayedPublishRequest.Target leaf(DiscoveryNode node) {
+        return new RelayedPublishRequest.Target(node, List.of());
+    }
+
+    // the depth of a complete tree of the given degree holding the given number of nodes, its roots being at depth 1
+    private static int depth(int nodes, int fanOut) {
+        int depth = 0;
+        for (long levelSize = fanOut, total = 0; total < nodes; levelSize *= fanOut) {
+            total += levelSize;
+            depth++;
+        }
+        return depth;
+    }
+
+    private static void assertMaxDepth(RelayedPublishRequest.Target target, int fanOut, int maxDepth) {
+        assertThat(maxDepth, greaterThanOrEqualTo(1));
+        assertThat(target.getChildren().size(), lessThanOrEqualTo(fanOut));
+        for (RelayedPublishRequest.Target child : target.getChildren()) {
+            assertMaxDepth(child, fanOut, maxDepth - 1);
+        }
+    }
 }
@@ -34,17 +34,23 @@ package org.opensearch.common.bytes;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.util.ByteArray;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 
 public class ReleasableBytesReferenceTests extends AbstractBytesReferenceTestCase {
 
@@ -100,6 +106,44 @@ public class ReleasableBytesReferenceTests extends AbstractBytesReferenceTestCas
         return ReleasableBytesReference.wrap(delegate);
     }
 
+    public void testStreamInputReadsRetainedSlices() throws IOException {
+        final BytesReference content = newBytesReference(randomIntBetween(1, 1 << 14));
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.writeVInt(42);
+        out.writeBytesReference(content);
+        out.writeBytesReference(BytesArray.EMPTY);
+        out.writeString("tail");
+        final AtomicBoolean released = new AtomicBoolean();
+        final Releasable release = () -> assertTrue(released.compareAndSet(false, true));
+        final ReleasableBytesReference message = new ReleasableBytesReference(out.bytes(), release);
+        final BytesReference slice;
+        try (StreamInput in = new NamedWriteableAwareStreamInput(message.streamInput(), writableRegistry())) {
+            assertEquals(42, in.readVInt());
+            slice = in.readRetainedBytesReference();
+            assertEquals(0, in.readRetainedBytesReference().length());
+            assertEquals("tail", in.readString());
+        }
+        assertThat(slice, instanceOf(ReleasableBytesReference.class));
+        assertEquals(content, slice);
+        assertEquals(2, message.refCount());
+        message.close();
+        assertFalse(released.get());
+        assertEquals(content, slice);
+        ((ReleasableBytesReference) slice).close();
+        assertTrue(released.get());
+    }
+
+    public void testStreamInputOfUnreleasableBytesCopies() throws IOException {
+        final BytesReference content = newBytesReference(randomIntBetween(1, 1 << 14));
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.writeBytesReference(content);
+        try (StreamInput in = out.bytes().streamInput()) {
+            final BytesReference copy = in.readRetainedBytesReference();
+            assertThat(copy, not(instanceOf(Releasable.class)));
+            assertEquals(content, copy);
+        }
+    }
+
     @Override
     public void testToBytesRefSharedPage() throws IOException {
         // CompositeBytesReference doesn't share pages
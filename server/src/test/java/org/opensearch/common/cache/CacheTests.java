@@ -62,6 +62,7 @@ import java.util.stream.Collectors;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 
 public class CacheTests extends OpenSearchTestCase {
     private int numberOfEntries;
@@ -170,6 +171,88 @@ public class CacheTests extends OpenSearchTestCase {
         }
     }
 
+    // access a set of hot keys while scanning through many keys accessed once, then check that the hot keys survive the
+    // scan with the W_TINYLFU policy while they are flushed by the LRU policy
+    public void testTinyLfuIsScanResistant() {
+        int numHotKeys = 50;
+        assertEquals(numHotKeys, hotKeysAfterScan(EvictionPolicy.W_TINYLFU, numHotKeys));
+        assertThat(hotKeysAfterScan(EvictionPolicy.LRU, numHotKeys), lessThan(numHotKeys));
+    }
+
+    private int hotKeysAfterScan(EvictionPolicy evictionPolicy, int numHotKeys) {
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setMaximumWeight(2 * numHotKeys)
+            .evictionPolicy(evictionPolicy)
+            .build();
+        for (int i = 0; i < numHotKeys; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        for (int i = 0; i < numHotKeys; i++) {
+            cache.get(i);
+        }
+        // every hot key is accessed once per 4 * numHotKeys scanned keys, which is more than the cache holds
+        for (int i = 0; i < 100 * numHotKeys; i++) {
+            int key = numHotKeys + i;
+            cache.put(key, Integer.toString(key));
+            if (i % 4 == 0) {
+                cache.get((i / 4) % numHotKeys);
+            }
+            assertThat(cache.weight(), lessThan(2L * numHotKeys + 1));
+        }
+        int hotKeys = 0;
+        for (Integer key : cache.keys()) {
+            if (key < numHotKeys) {
+                hotKeys++;
+            }
+        }
+        return hotKeys;
+    }
+
+    // randomly put, get and invalidate entries with the W_TINYLFU policy, then check that the cache respects its maximum
+    // weight and that its count and weight match its entries
+    public void testTinyLfuWeight() {
+        long maximumWeight = randomIntBetween(1, 200);
+        AtomicLong removals = new AtomicLong();
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setMaximumWeight(maximumWeight)
+            .evictionPolicy(EvictionPolicy.W_TINYLFU)
+            .weigher((k, v) -> v.length())
+            .removalListener(notification -> removals.incrementAndGet())
+            .build();
+        int puts = 0;
+        for (int i = 0; i < numberOfEntries * 10; i++) {
+            int key = randomIntBetween(0, numberOfEntries);
+            switch (randomIntBetween(0, 4)) {
+                case 0:
+                    cache.invalidate(key);
+                    break;
+                case 1:
+                case 2:
+                    cache.get(key);
+                    break;
+                default:
+                    cache.put(key, randomAlphaOfLengthBetween(1, 3));
+                    puts++;
+                    break;
+            }
+            assertThat(cache.weight(), lessThan(maximumWeight + 1));
+        }
+        long count = 0;
+        long weight = 0;
+        for (String value : cache.values()) {
+            count++;
+            weight += value.length();
+        }
+        assertEquals(count, cache.count());
+        assertEquals(weight, cache.weight());
+        assertEquals(puts, count + removals.get());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weight());
+        assertEquals(puts, removals.get());
+    }
+
     // cache some entries and exceed the maximum weight, then check that the cache has the expected weight and the
     // expected evictions occurred
     public void testWeigher() {
@@ -383,6 +466,64 @@ public class CacheTests extends OpenSearchTestCase {
         barrier.await();
     }
 
+    // read and write concurrently, then check that the buffered reads left the cache within its maximum weight and with
+    // a count matching its entries
+    public void testConcurrentReadsAndWrites() throws BrokenBarrierException, InterruptedException {
+        int numberOfThreads = randomIntBetween(2, 32);
+        final Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setMaximumWeight(1000)
+            .evictionPolicy(randomFrom(EvictionPolicy.values()))
+            .build();
+
+        CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    Random random = new Random(random().nextLong());
+                    for (int j = 0; j < numberOfEntries; j++) {
+                        Integer key = random.nextInt(2000);
+                        if (random.nextInt(10) == 0) {
+                            cache.put(key, Integer.toString(key));
+                        } else {
+                            String value = cache.get(key);
+                            if (value != null) {
+                                assertEquals(Integer.toString(key), value);
+                            }
+                        }
+                    }
+                    barrier.await();
+                } catch (BrokenBarrierException | InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+        }
+
+        // wait for all threads to be ready
+        barrier.await();
+        // wait for all threads to finish
+        barrier.await();
+
+        cache.refresh();
+        assertThat(cache.weight(), lessThan(1001L));
+        int count = 0;
+        for (Integer ignored : cache.keys()) {
+            count++;
+        }
+        assertEquals(count, cache.count());
+    }
+
+    // read an entry fewer times than the read buffer holds, then check that the read is applied to the LRU order
+    public void testBufferedReadsPromote() {
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().build();
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        cache.get(0);
+        assertEquals(0, (int) cache.keys().iterator().next());
+    }
+
     // randomly promote some entries, step the clock forward, then check that the promoted entries remain and the
     // non-promoted entries were removed
     public void testPromotion() {
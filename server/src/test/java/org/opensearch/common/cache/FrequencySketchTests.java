@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testIncrement() {
+        FrequencySketch sketch = new FrequencySketch();
+        sketch.ensureCapacity(1024);
+        String key = randomAlphaOfLength(10);
+        assertEquals(0, sketch.frequency(key));
+        int increments = randomIntBetween(1, 10);
+        for (int i = 0; i < increments; i++) {
+            sketch.increment(key);
+        }
+        // collisions can only cause overestimates
+        assertTrue(sketch.frequency(key) >= increments);
+    }
+
+    public void testSaturation() {
+        FrequencySketch sketch = new FrequencySketch();
+        sketch.ensureCapacity(1024);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(42);
+        }
+        assertEquals(15, sketch.frequency(42));
+    }
+
+    public void testAging() {
+        FrequencySketch sketch = new FrequencySketch();
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(42);
+        }
+        assertEquals(15, sketch.frequency(42));
+        // the sample size is ten times the capacity, all counters are halved once it is reached
+        for (int i = 0; i < 12 * sketch.capacity(); i++) {
+            sketch.increment(-i - 1);
+        }
+        assertTrue(sketch.frequency(42) < 15);
+    }
+
+    public void testEnsureCapacity() {
+        FrequencySketch sketch = new FrequencySketch();
+        assertEquals(16, sketch.capacity());
+        sketch.increment(42);
+        sketch.ensureCapacity(10);
+        assertEquals(16, sketch.capacity());
+        assertEquals(1, sketch.frequency(42));
+
+        sketch.ensureCapacity(100);
+        assertEquals(128, sketch.capacity());
+        // growing forgets frequencies
+        assertEquals(0, sketch.frequency(42));
+    }
+}
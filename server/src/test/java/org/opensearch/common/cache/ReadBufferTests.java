@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReadBufferTests extends OpenSearchTestCase {
+
+    public void testDrainInOrder() {
+        ReadBuffer<Integer> buffer = new ReadBuffer<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < ReadBuffer.STRIPE_SIZE; i++) {
+            assertTrue(buffer.offer(i));
+            expected.add(i);
+        }
+        // the stripe of this thread is full
+        assertFalse(buffer.offer(ReadBuffer.STRIPE_SIZE));
+
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained::add);
+        assertEquals(expected, drained);
+
+        drained.clear();
+        buffer.drainTo(drained::add);
+        assertTrue(drained.isEmpty());
+        assertTrue(buffer.offer(42));
+        buffer.drainTo(drained::add);
+        assertEquals(List.of(42), drained);
+    }
+
+    public void testConcurrentOffers() throws InterruptedException {
+        ReadBuffer<Integer> buffer = new ReadBuffer<>();
+        int numberOfThreads = randomIntBetween(2, 8);
+        int offersPerThread = randomIntBetween(100, 1000);
+        AtomicInteger recorded = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < offersPerThread; j++) {
+                    if (buffer.offer(j)) {
+                        recorded.incrementAndGet();
+                    } else {
+                        synchronized (buffer) {
+                            buffer.drainTo(e -> {});
+                        }
+                    }
+                }
+                latch.countDown();
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        AtomicInteger drained = new AtomicInteger();
+        while (latch.getCount() > 0) {
+            synchronized (buffer) {
+                buffer.drainTo(e -> drained.incrementAndGet());
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        buffer.drainTo(e -> drained.incrementAndGet());
+        // reads drained by the producers themselves aren't counted
+        assertTrue(drained.get() <= recorded.get());
+        assertTrue(recorded.get() > 0);
+    }
+}
@@ -270,8 +270,8 @@ public class ImmutableCacheStatsHolderTests extends OpenSearchTestCase {
             Map<String, Object> result = XContentHelper.convertToMap(MediaTypeRegistry.JSON.xContent(), resultString, true);
 
             assertTotalStatsPresentInXContentResponse(result);
-            // assert there are no other entries in the map besides these 6
-            assertEquals(6, result.size());
+            // assert there are no other entries in the map besides these 7
+            assertEquals(7, result.size());
         }
 
         // if we pass recognized levels in any order, alongside ignored unrecognized levels, we should see the above plus level aggregation
@@ -287,7 +287,7 @@ public class ImmutableCacheStatsHolderTests extends OpenSearchTestCase {
         Map<String, Object> result = XContentHelper.convertToMap(MediaTypeRegistry.JSON.xContent(), resultString, true);
         assertTotalStatsPresentInXContentResponse(result);
         assertNotNull(result.get("A"));
-        assertEquals(7, result.size());
+        assertEquals(8, result.size());
     }
 
     private void assertTotalStatsPresentInXContentResponse(Map<String, Object> result) {
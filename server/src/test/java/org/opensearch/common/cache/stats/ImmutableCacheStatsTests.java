@@ -44,4 +44,10 @@ public class ImmutableCacheStatsTests extends OpenSearchTestCase {
         assertEquals(ics1.hashCode(), ics2.hashCode());
         assertNotEquals(ics1.hashCode(), ics3.hashCode());
     }
+
+    public void testHitRatio() throws Exception {
+        assertEquals(0d, new ImmutableCacheStats(0, 0, 0, 0, 0).getHitRatio(), 0d);
+        assertEquals(0.25d, new ImmutableCacheStats(1, 3, 0, 0, 0).getHitRatio(), 0d);
+        assertEquals(1d, new ImmutableCacheStats(5, 0, 0, 0, 0).getHitRatio(), 0d);
+    }
 }
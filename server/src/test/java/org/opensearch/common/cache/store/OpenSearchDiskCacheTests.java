@@ -0,0 +1,305 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings.SEGMENT_SIZE_IN_BYTES_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchDiskCacheSettings.STORAGE_PATH_KEY;
+
+public class OpenSearchDiskCacheTests extends OpenSearchTestCase {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final List<String> dimensionNames = List.of("dim1");
+
+    public void testPutGetInvalidate() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        try (OpenSearchDiskCache<String, BytesReference> cache = getCache(createTempDir(), 16 * SEGMENT_SIZE, 0.5, listener)) {
+            int numKeys = randomIntBetween(10, 50);
+            for (int i = 0; i < numKeys; i++) {
+                cache.put(getICacheKey("key" + i), value(i, 20));
+            }
+            assertEquals(numKeys, cache.count());
+            for (int i = 0; i < numKeys; i++) {
+                assertEquals(value(i, 20), cache.get(getICacheKey("key" + i)));
+            }
+            assertNull(cache.get(getICacheKey("missing")));
+            assertEquals(numKeys, cache.stats().getTotalHits());
+            assertEquals(1, cache.stats().getTotalMisses());
+            assertEquals(numKeys, cache.stats().getTotalItems());
+            assertEquals(numKeys * 20L, cache.stats().getTotalSizeInBytes());
+
+            cache.put(getICacheKey("key0"), value(100, 20));
+            assertEquals(value(100, 20), cache.get(getICacheKey("key0")));
+            assertEquals(numKeys, cache.count());
+            assertEquals(1, listener.count(RemovalReason.REPLACED));
+
+            cache.invalidate(getICacheKey("key1"));
+            assertNull(cache.get(getICacheKey("key1")));
+            assertEquals(numKeys - 1, cache.count());
+            assertEquals(numKeys - 1, cache.stats().getTotalItems());
+            assertEquals(1, listener.count(RemovalReason.INVALIDATED));
+
+            cache.invalidateAll();
+            assertEquals(0, cache.count());
+            assertEquals(numKeys, listener.count(RemovalReason.INVALIDATED));
+            assertNull(cache.get(getICacheKey("key2")));
+        }
+    }
+
+    public void testEvictsOldestSegments() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        int maxSegments = 4;
+        try (OpenSearchDiskCache<String, BytesReference> cache = getCache(createTempDir(), maxSegments * SEGMENT_SIZE, 0.5, listener)) {
+            int numKeys = 500;
+            for (int i = 0; i < numKeys; i++) {
+                cache.put(getICacheKey("key" + i), value(i, 100));
+                assertTrue(cache.numSegments() <= maxSegments);
+            }
+            long evictions = cache.stats().getTotalEvictions();
+            assertTrue(evictions > 0);
+            assertEquals(evictions, listener.count(RemovalReason.EVICTED));
+            assertEquals(numKeys - evictions, cache.count());
+            // the most recent entries are never evicted
+            assertEquals(value(numKeys - 1, 100), cache.get(getICacheKey("key" + (numKeys - 1))));
+            assertNull(cache.get(getICacheKey("key0")));
+        }
+    }
+
+    public void testSegmentFilesAreReused() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        Path path = createTempDir();
+        int maxSegments = 4;
+        try (OpenSearchDiskCache<String, BytesReference> cache = getCache(path, maxSegments * SEGMENT_SIZE, 0.5, listener)) {
+            for (int i = 0; i < 500; i++) {
+                cache.put(getICacheKey("key" + i), value(i, 100));
+                if (randomBoolean()) {
+                    cache.put(getICacheKey("key" + randomIntBetween(0, i)), value(i, 100));
+                }
+                if (rarely()) {
+                    cache.invalidate(getICacheKey("key" + randomIntBetween(0, i)));
+                }
+                // evicted and compacted segments hand their file over to new segments instead of leaving a mapping behind
+                assertTrue(numSegmentFiles(path) <= maxSegments);
+            }
+            assertTrue(cache.stats().getTotalEvictions() > 0);
+            cache.invalidateAll();
+            assertTrue(numSegmentFiles(path) <= maxSegments);
+            cache.put(getICacheKey("key"), value(1, 100));
+            assertEquals(value(1, 100), cache.get(getICacheKey("key")));
+        }
+        assertFalse(Files.exists(path));
+    }
+
+    private static long numSegmentFiles(Path path) throws IOException {
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(OpenSearchDiskCache.SEGMENT_FILE_PREFIX)).count();
+        }
+    }
+
+    public void testCompactionKeepsLiveEntries() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        int maxSegments = 4;
+        try (OpenSearchDiskCache<String, BytesReference> cache = getCache(createTempDir(), maxSegments * SEGMENT_SIZE, 0.5, listener)) {
+            int numKeys = 10;
+            int numWrites = 1000;
+            for (int i = 0; i < numWrites; i++) {
+                cache.put(getICacheKey("key" + (i % numKeys)), value(i, 100));
+            }
+            // overwritten records are reclaimed by compaction, live entries are never evicted
+            assertEquals(0, cache.stats().getTotalEvictions());
+            assertEquals(numKeys, cache.count());
+            for (int i = numWrites - numKeys; i < numWrites; i++) {
+                assertEquals(value(i, 100), cache.get(getICacheKey("key" + (i % numKeys))));
+            }
+        }
+    }
+
+    public void testChecksumMismatchIsAMiss() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        Path path = createTempDir();
+        try (OpenSearchDiskCache<String, BytesReference> cache = getCache(path, 4 * SEGMENT_SIZE, 0.5, listener)) {
+            cache.put(getICacheKey("key"), value(1, 100));
+            Path segment;
+            try (Stream<Path> files = Files.list(path)) {
+                segment = files.filter(file -> file.getFileName().toString().startsWith(OpenSearchDiskCache.SEGMENT_FILE_PREFIX))
+                    .findFirst()
+                    .orElseThrow();
+            }
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                // overwrite a byte in the middle of the value
+                channel.write(ByteBuffer.wrap(new byte[] { 42 }), 100);
+            }
+            assertNull(cache.get(getICacheKey("key")));
+            assertEquals(0, cache.count());
+            assertEquals(0, cache.stats().getTotalItems());
+        }
+    }
+
+    public void testEntriesLargerThanSegmentAreSkipped() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        try (OpenSearchDiskCache<String, BytesReference> cache = getCache(createTempDir(), 4 * SEGMENT_SIZE, 0.5, listener)) {
+            cache.put(getICacheKey("key"), value(1, SEGMENT_SIZE));
+            assertEquals(0, cache.count());
+            assertNull(cache.get(getICacheKey("key")));
+        }
+    }
+
+    public void testComputeIfAbsent() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        try (OpenSearchDiskCache<String, BytesReference> cache = getCache(createTempDir(), 4 * SEGMENT_SIZE, 0.5, listener)) {
+            LoadAwareCacheLoader<ICacheKey<String>, BytesReference> loader = getLoadAwareCacheLoader(value(1, 50));
+            assertEquals(value(1, 50), cache.computeIfAbsent(getICacheKey("key"), loader));
+            assertTrue(loader.isLoaded());
+
+            loader = getLoadAwareCacheLoader(value(2, 50));
+            assertEquals(value(1, 50), cache.computeIfAbsent(getICacheKey("key"), loader));
+            assertFalse(loader.isLoaded());
+            assertEquals(1, cache.stats().getTotalHits());
+            assertEquals(1, cache.stats().getTotalMisses());
+        }
+    }
+
+    public void testFactory() throws Exception {
+        Path path = createTempDir();
+        Map<String, Setting<?>> settingList = OpenSearchDiskCacheSettings.getSettingListForCacheType(CacheType.INDICES_REQUEST_CACHE);
+        Settings settings = Settings.builder()
+            .put(settingList.get(STORAGE_PATH_KEY).getKey(), path.toString())
+            .put(settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).getKey(), "10mb")
+            .put(settingList.get(SEGMENT_SIZE_IN_BYTES_KEY).getKey(), "1mb")
+            .build();
+        CacheConfig<String, BytesReference> config = new CacheConfig.Builder<String, BytesReference>().setKeyType(String.class)
+            .setValueType(BytesReference.class)
+            .setKeySerializer(new StringSerializer())
+            .setValueSerializer(new BytesReferenceSerializer())
+            .setWeigher((k, v) -> v.length())
+            .setRemovalListener(new MockRemovalListener())
+            .setSettings(settings)
+            .setDimensionNames(dimensionNames)
+            .build();
+        ICache<String, BytesReference> cache = new OpenSearchDiskCache.OpenSearchDiskCacheFactory().create(
+            config,
+            CacheType.INDICES_REQUEST_CACHE,
+            Map.of()
+        );
+        try {
+            cache.put(getICacheKey("key"), value(1, 10));
+            assertEquals(value(1, 10), cache.get(getICacheKey("key")));
+        } finally {
+            cache.close();
+        }
+        assertFalse(Files.exists(path));
+    }
+
+    private OpenSearchDiskCache<String, BytesReference> getCache(
+        Path path,
+        long maxSizeInBytes,
+        double compactionThreshold,
+        MockRemovalListener listener
+    ) {
+        OpenSearchDiskCache.Builder<String, BytesReference> builder = new OpenSearchDiskCache.Builder<>();
+        builder.setStoragePath(path.toString())
+            .setSegmentSizeInBytes(SEGMENT_SIZE)
+            .setCompactionThreshold(compactionThreshold)
+            .setKeySerializer(new StringSerializer())
+            .setValueSerializer(new BytesReferenceSerializer())
+            .setDimensionNames(dimensionNames)
+            .setWeigher((k, v) -> v.length())
+            .setRemovalListener(listener)
+            .setMaximumWeightInBytes(maxSizeInBytes);
+        return builder.build();
+    }
+
+    private static BytesReference value(int seed, int length) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) seed);
+        return new BytesArray(bytes);
+    }
+
+    private static ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, List.of("0"));
+    }
+
+    private static LoadAwareCacheLoader<ICacheKey<String>, BytesReference> getLoadAwareCacheLoader(BytesReference value) {
+        return new LoadAwareCacheLoader<>() {
+            boolean isLoaded = false;
+
+            @Override
+            public BytesReference load(ICacheKey<String> key) {
+                isLoaded = true;
+                return value;
+            }
+
+            @Override
+            public boolean isLoaded() {
+                return isLoaded;
+            }
+        };
+    }
+
+    private static class MockRemovalListener implements RemovalListener<ICacheKey<String>, BytesReference> {
+        final Map<RemovalReason, List<ICacheKey<String>>> removals = new EnumMap<>(RemovalReason.class);
+
+        @Override
+        public synchronized void onRemoval(RemovalNotification<ICacheKey<String>, BytesReference> notification) {
+            removals.computeIfAbsent(notification.getRemovalReason(), r -> new ArrayList<>()).add(notification.getKey());
+        }
+
+        synchronized int count(RemovalReason reason) {
+            return removals.getOrDefault(reason, List.of()).size();
+        }
+    }
+
+    private static class StringSerializer implements Serializer<String, byte[]> {
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.common.lucene.uid;
 
+import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.NumericDocValuesField;
@@ -42,14 +43,20 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.util.TestUtil;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
+import org.opensearch.index.codec.fuzzy.FuzzyFilterPostingsFormat;
+import org.opensearch.index.codec.fuzzy.FuzzySetFactory;
+import org.opensearch.index.codec.fuzzy.FuzzySetParameters;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.VersionFieldMapper;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Map;
+
 /**
  * test per-segment lookup of version-related data structures
  */
@@ -138,4 +145,69 @@ public class VersionLookupTests extends OpenSearchTestCase {
         writer.close();
         dir.close();
     }
+
+    /**
+     * test that lookups skip the segments whose fuzzy set rules the id out, and count them
+     */
+    public void testFuzzySetStats() throws Exception {
+        Directory dir = newDirectory();
+        FuzzySetFactory fuzzySetFactory = new FuzzySetFactory(
+            Map.of(IdFieldMapper.NAME, new FuzzySetParameters(() -> FuzzySetParameters.DEFAULT_FALSE_POSITIVE_PROBABILITY))
+        );
+        Codec codec = TestUtil.alwaysPostingsFormat(new FuzzyFilterPostingsFormat(TestUtil.getDefaultPostingsFormat(), fuzzySetFactory));
+        IndexWriter writer = new IndexWriter(
+            dir,
+            new IndexWriterConfig(Lucene.STANDARD_ANALYZER).setMergePolicy(NoMergePolicy.INSTANCE).setCodec(codec)
+        );
+        int numSegments = randomIntBetween(2, 4);
+        int docsPerSegment = randomIntBetween(10, 100);
+        for (int segment = 0; segment < numSegments; segment++) {
+            for (int i = 0; i < docsPerSegment; i++) {
+                Document doc = new Document();
+                doc.add(new Field(IdFieldMapper.NAME, Integer.toString(segment * docsPerSegment + i), IdFieldMapper.Defaults.FIELD_TYPE));
+                doc.add(new NumericDocValuesField(VersionFieldMapper.NAME, segment));
+                doc.add(new NumericDocValuesField(SeqNoFieldMapper.NAME, segment * docsPerSegment + i));
+                doc.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, 1));
+                writer.addDocument(doc);
+            }
+            writer.commit();
+        }
+        DirectoryReader reader = DirectoryReader.open(writer);
+        assertEquals(numSegments, reader.leaves().size());
+
+        // ids of the first segment are looked up in every segment, the later ones first
+        IdLookupStats stats = new IdLookupStats();
+        String id = Integer.toString(randomIntBetween(0, docsPerSegment - 1));
+        DocIdAndVersion result = VersionsAndSeqNoResolver.loadDocIdAndVersion(
+            reader,
+            new Term(IdFieldMapper.NAME, id),
+            randomBoolean(),
+            stats
+        );
+        assertNotNull(result);
+        assertEquals(0, result.version);
+        assertEquals(numSegments, stats.getFuzzySetHits() + stats.getFuzzySetMisses());
+        assertTrue(stats.getFuzzySetMisses() >= 1);
+
+        // absent ids are looked up in every segment, and most of them are ruled out by the fuzzy sets
+        stats = new IdLookupStats();
+        int absentIds = 100;
+        for (int i = 0; i < absentIds; i++) {
+            Term term = new Term(IdFieldMapper.NAME, "absent-" + i);
+            if (randomBoolean()) {
+                assertNull(VersionsAndSeqNoResolver.loadDocIdAndVersion(reader, term, randomBoolean(), stats));
+            } else {
+                assertNull(VersionsAndSeqNoResolver.loadDocIdAndSeqNo(reader, term, stats));
+            }
+        }
+        assertEquals((long) absentIds * numSegments, stats.getFuzzySetHits() + stats.getFuzzySetMisses());
+        assertTrue(stats.getFuzzySetHits() > stats.getFuzzySetMisses());
+
+        // lookups without stats go through the fuzzy set as well
+        assertEquals(0, VersionsAndSeqNoResolver.loadDocIdAndVersion(reader, new Term(IdFieldMapper.NAME, id), false).version);
+        assertNull(VersionsAndSeqNoResolver.loadDocIdAndSeqNo(reader, new Term(IdFieldMapper.NAME, "absent")));
+        reader.close();
+        writer.close();
+        dir.close();
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class SwissLongHashTests extends OpenSearchTestCase {
+
+    public void testFuzzy() {
+        Map<Long, Long> reference = new HashMap<>();
+
+        try (
+            SwissLongHash h = new SwissLongHash(
+                randomIntBetween(1, 100),      // random capacity
+                0.5f + randomFloat() * 0.49f,  // random load factor to verify probing across full groups
+                BigArrays.NON_RECYCLING_INSTANCE
+            )
+        ) {
+            // Verify the behaviour of "add" and "find".
+            for (int i = 0; i < (1 << 20); i++) {
+                long key = randomLong() % (1 << 12);  // roughly ~4% unique keys
+                if (reference.containsKey(key)) {
+                    long expectedOrdinal = reference.get(key);
+                    assertEquals(-1 - expectedOrdinal, h.add(key));
+                    assertEquals(expectedOrdinal, h.find(key));
+                } else {
+                    assertEquals(-1, h.find(key));
+                    reference.put(key, (long) reference.size());
+                    assertEquals((long) reference.get(key), h.add(key));
+                }
+            }
+
+            // Verify the behaviour of "get".
+            for (Map.Entry<Long, Long> entry : reference.entrySet()) {
+                assertEquals((long) entry.getKey(), h.get(entry.getValue()));
+            }
+
+            // Verify the behaviour of "size".
+            assertEquals(reference.size(), h.size());
+        }
+    }
+
+    public void testGrowth() {
+        try (SwissLongHash h = new SwissLongHash(1, 0.8f, BigArrays.NON_RECYCLING_INSTANCE)) {
+            // a single group to start with
+            assertEquals(8, h.capacity());
+            int numKeys = randomIntBetween(100, 10_000);
+            for (int i = 0; i < numKeys; i++) {
+                // sequential keys, such as rounded timestamps
+                assertEquals(i, h.add(1420070400000L + 3600000L * i));
+                assertTrue(h.size() <= (long) (h.capacity() * 0.8f));
+            }
+            // the table only doubles once it is full
+            long expectedCapacity = 8;
+            while ((long) (expectedCapacity * 0.8f) < numKeys) {
+                expectedCapacity <<= 1;
+            }
+            assertEquals(expectedCapacity, h.capacity());
+            for (int i = 0; i < numKeys; i++) {
+                assertEquals(i, h.find(1420070400000L + 3600000L * i));
+                assertEquals(-1 - i, h.add(1420070400000L + 3600000L * i));
+            }
+            assertEquals(-1, h.find(-1));
+        }
+    }
+
+    public void testExtremeKeys() {
+        try (SwissLongHash h = new SwissLongHash(BigArrays.NON_RECYCLING_INSTANCE)) {
+            long[] keys = new long[] { 0, -1, 1, Long.MIN_VALUE, Long.MAX_VALUE };
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(i, h.add(keys[i]));
+            }
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(i, h.find(keys[i]));
+                assertEquals(keys[i], h.get(i));
+            }
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.opensearch.common.settings.SettingsException;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.index.engine.VersionMapType;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.search.pipeline.SearchPipelineService;
@@ -326,6 +327,30 @@ public class IndexSettingsTests extends OpenSearchTestCase {
         assertTrue(settings.isWarmerEnabled());
     }
 
+    public void testDocIdFuzzySetDefaultsToEnabledWithPackedVersionMap() {
+        Settings defaults = Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT).build();
+        assertFalse(new IndexSettings(newIndexMeta("index", defaults), Settings.EMPTY).isEnableFuzzySetForDocId());
+        IndexMetadata metadata = newIndexMeta(
+            "index",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexSettings.INDEX_VERSION_MAP_TYPE_SETTING.getKey(), VersionMapType.PACKED.getValue())
+                .build()
+        );
+        IndexSettings settings = new IndexSettings(metadata, Settings.EMPTY);
+        assertTrue(settings.isEnableFuzzySetForDocId());
+        settings.updateIndexMetadata(
+            newIndexMeta(
+                "index",
+                Settings.builder()
+                    .put(IndexSettings.INDEX_VERSION_MAP_TYPE_SETTING.getKey(), VersionMapType.PACKED.getValue())
+                    .put(IndexSettings.INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING.getKey(), false)
+                    .build()
+            )
+        );
+        assertFalse(settings.isEnableFuzzySetForDocId());
+    }
+
     public void testRefreshInterval() {
         String refreshInterval = getRandomTimeString(false);
         IndexMetadata metadata = newIndexMeta(
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.composite;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.BaseDocValuesFormatTestCase;
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.compositeindex.startree.StarTree;
+import org.opensearch.index.compositeindex.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the doc values format test suite against the star tree codec, and checks that the star tree read back from a
+ * segment holds the same aggregates as the documents it was built from.
+ */
+@LuceneTestCase.SuppressSysoutChecks(bugUrl = "we log a lot on purpose")
+public class StarTreeDocValuesFormatTests extends BaseDocValuesFormatTestCase {
+
+    private static final String DIM = "star_tree_dim";
+    private static final String TIMESTAMP = "star_tree_timestamp";
+    private static final String METRIC = "star_tree_metric";
+    private static final long HOUR = TimeValue.timeValueHours(1).millis();
+
+    private static final Map<String, MappedFieldType> FIELD_TYPES = Map.of(
+        DIM,
+        new NumberFieldMapper.NumberFieldType(DIM, NumberFieldMapper.NumberType.LONG),
+        TIMESTAMP,
+        new DateFieldMapper.DateFieldType(TIMESTAMP),
+        METRIC,
+        new NumberFieldMapper.NumberFieldType(METRIC, NumberFieldMapper.NumberType.LONG)
+    );
+
+    private final Codec codec = new StarTreeCodec(
+        new Lucene99Codec(),
+        new StarTreeFieldConfiguration(
+            List.of(new StarTreeFieldConfiguration.Dimension(DIM, 0), new StarTreeFieldConfiguration.Dimension(TIMESTAMP, HOUR)),
+            List.of(METRIC),
+            random().nextInt(20) + 1
+        ),
+        FIELD_TYPES::get
+    );
+
+    @Override
+    protected Codec getCodec() {
+        return codec;
+    }
+
+    public void testStarTreeRoundTrip() throws IOException {
+        try (Directory directory = newDirectory()) {
+            final List<long[]> docs = new ArrayList<>();
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setCodec(codec))) {
+                final int numDocs = atLeast(200);
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    // dimension, hour, sum and value count of the metric, -1 for missing dimensions
+                    final long[] doc = new long[] { -1, -1, 0, 0 };
+                    if (random().nextInt(5) != 0) {
+                        doc[0] = random().nextInt(6);
+                        document.add(new SortedNumericDocValuesField(DIM, doc[0]));
+                    }
+                    if (random().nextInt(5) != 0) {
+                        final long timestamp = random().nextInt(48) * HOUR + random().nextInt((int) HOUR);
+                        doc[1] = timestamp - timestamp % HOUR;
+                        document.add(new SortedNumericDocValuesField(TIMESTAMP, timestamp));
+                    }
+                    final int numValues = random().nextInt(3);
+                    for (int v = 0; v < numValues; v++) {
+                        final long value = random().nextInt(2000) - 1000;
+                        doc[2] += value;
+                        document.add(new SortedNumericDocValuesField(METRIC, value));
+                    }
+                    doc[3] = numValues;
+                    docs.add(doc);
+                    writer.addDocument(document);
+                    if (rarely()) {
+                        writer.commit();
+                    }
+                }
+                if (random().nextBoolean()) {
+                    writer.forceMerge(1);
+                }
+            }
+
+            final Map<Long, long[]> expectedByDim = new TreeMap<>();
+            final Map<Long, Long> expectedByHour = new TreeMap<>();
+            for (long[] doc : docs) {
+                if (doc[0] >= 0) {
+                    final long[] expected = expectedByDim.computeIfAbsent(doc[0], k -> new long[3]);
+                    expected[0]++;
+                    expected[1] += doc[2];
+                    expected[2] += doc[3];
+                }
+                if (doc[1] >= 0) {
+                    expectedByHour.merge(doc[1], 1L, Long::sum);
+                }
+            }
+
+            // the segments are read back with the codec resolved by name, which doesn't know the configuration
+            final Map<Long, long[]> actualByDim = new TreeMap<>();
+            final Map<Long, Long> actualByHour = new TreeMap<>();
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    final SegmentReader segmentReader = (SegmentReader) leaf.reader();
+                    assertEquals(StarTreeCodec.STAR_TREE_CODEC_NAME, segmentReader.getSegmentInfo().info.getCodec().getName());
+                    final StarTree starTree = ((StarTreeDocValuesReader) segmentReader.getDocValuesReader()).getStarTree();
+                    assertNotNull(starTree);
+                    assertEquals(HOUR, starTree.interval(starTree.dimensionOrd(TIMESTAMP)));
+                    assertEquals(0L, starTree.interval(starTree.dimensionOrd(DIM)));
+                    final int metric = starTree.metricOrd(METRIC);
+                    starTree.traverse(starTree.matchAll(), starTree.dimensionOrd(DIM), (value, row) -> {
+                        final long[] actual = actualByDim.computeIfAbsent(value, k -> new long[3]);
+                        actual[0] += starTree.docCount(row);
+                        actual[1] += (long) starTree.sum(metric, row);
+                        actual[2] += starTree.valueCount(metric, row);
+                    });
+                    starTree.traverse(
+                        starTree.matchAll(),
+                        starTree.dimensionOrd(TIMESTAMP),
+                        (value, row) -> actualByHour.merge(value, starTree.docCount(row), Long::sum)
+                    );
+                }
+            }
+
+            assertEquals(expectedByDim.keySet(), actualByDim.keySet());
+            for (Map.Entry<Long, long[]> entry : expectedByDim.entrySet()) {
+                assertArrayEquals("dimension value " + entry.getKey(), entry.getValue(), actualByDim.get(entry.getKey()));
+            }
+            assertEquals(expectedByHour, actualByHour);
+        }
+    }
+
+    public void testNoStarTreeWithoutConfiguration() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setCodec(new StarTreeCodec()))) {
+                final Document document = new Document();
+                document.add(new SortedNumericDocValuesField(DIM, 1));
+                document.add(new SortedNumericDocValuesField(METRIC, 1));
+                writer.addDocument(document);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(1, reader.leaves().size());
+                final SegmentReader segmentReader = (SegmentReader) reader.leaves().get(0).reader();
+                assertNull(((StarTreeDocValuesReader) segmentReader.getDocValuesReader()).getStarTree());
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.startree;
+
+import org.apache.lucene.store.ByteBuffersDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+public class StarTreeBuilderTests extends OpenSearchTestCase {
+
+    private static final String[] DIMENSIONS = new String[] { "dim0", "dim1", "dim2" };
+    private static final String[] METRICS = new String[] { "metric" };
+
+    public void testEmpty() {
+        StarTree starTree = new StarTreeBuilder(DIMENSIONS, new long[DIMENSIONS.length], METRICS, 10).build();
+        assertEquals(0, starTree.numRecords());
+        Map<Long, long[]> result = new HashMap<>();
+        starTree.traverse(starTree.matchAll(), -1, (key, row) -> accumulate(result, key, starTree.docCount(row), 0L));
+        long total = result.values().stream().mapToLong(counts -> counts[0]).sum();
+        assertEquals(0L, total);
+    }
+
+    public void testTraverseMatchesBruteForce() throws IOException {
+        List<Doc> docs = randomDocs();
+        StarTree starTree = buildStarTree(docs, randomIntBetween(1, 20));
+        if (randomBoolean()) {
+            starTree = roundTrip(starTree);
+        }
+
+        for (int iter = 0; iter < 20; iter++) {
+            LongPredicate[] predicates = starTree.matchAll();
+            for (int dim = 0; dim < DIMENSIONS.length; dim++) {
+                if (randomBoolean()) {
+                    long threshold = randomLongBetween(0, 5);
+                    predicates[dim] = value -> value <= threshold;
+                }
+            }
+            int groupBy = randomIntBetween(-1, DIMENSIONS.length - 1);
+            assertTraversal(starTree, docs, predicates, groupBy);
+        }
+    }
+
+    public void testDocsWithSameDimensionsAreMerged() {
+        StarTreeBuilder builder = new StarTreeBuilder(DIMENSIONS, new long[DIMENSIONS.length], METRICS, 10);
+        for (int i = 0; i < 5; i++) {
+            double value = i;
+            builder.addDocument(
+                new long[] { 1, 2, 3 },
+                0L,
+                1L,
+                new double[] { value },
+                new double[] { value },
+                new double[] { value },
+                new long[] { 1 }
+            );
+        }
+        StarTree starTree = builder.build();
+        assertEquals(1, starTree.numRecords());
+        assertEquals(5L, starTree.docCount(0));
+        assertEquals(10d, starTree.sum(0, 0), 0d);
+        assertEquals(0d, starTree.min(0, 0), 0d);
+        assertEquals(4d, starTree.max(0, 0), 0d);
+        assertEquals(5L, starTree.valueCount(0, 0));
+    }
+
+    public void testSerialization() throws IOException {
+        List<Doc> docs = randomDocs();
+        StarTree starTree = buildStarTree(docs, randomIntBetween(1, 20));
+        StarTree copy = roundTrip(starTree);
+        assertEquals(starTree.numRecords(), copy.numRecords());
+        assertEquals(starTree.numNodes(), copy.numNodes());
+        assertEquals(starTree.numDimensions(), copy.numDimensions());
+        for (int dim = 0; dim < DIMENSIONS.length; dim++) {
+            assertEquals(starTree.dimension(dim), copy.dimension(dim));
+            assertEquals(starTree.interval(dim), copy.interval(dim));
+        }
+        for (int row = 0; row < starTree.numRecords() + starTree.numNodes(); row++) {
+            assertEquals(starTree.docCount(row), copy.docCount(row));
+            assertEquals(starTree.sum(0, row), copy.sum(0, row), 0d);
+            assertEquals(starTree.min(0, row), copy.min(0, row), 0d);
+            assertEquals(starTree.max(0, row), copy.max(0, row), 0d);
+            assertEquals(starTree.valueCount(0, row), copy.valueCount(0, row));
+        }
+    }
+
+    public void testDimensionRounding() {
+        StarTreeFieldConfiguration.Dimension dimension = StarTreeFieldConfiguration.Dimension.parse("timestamp:1m");
+        assertEquals("timestamp", dimension.getField());
+        assertEquals(60_000L, dimension.getInterval());
+        assertEquals(60_000L, dimension.round(119_999L));
+        assertEquals(-60_000L, dimension.round(-1L));
+
+        StarTreeFieldConfiguration.Dimension plain = StarTreeFieldConfiguration.Dimension.parse("status");
+        assertEquals(0L, plain.getInterval());
+        assertEquals(404L, plain.round(404L));
+    }
+
+    private void assertTraversal(StarTree starTree, List<Doc> docs, LongPredicate[] predicates, int groupBy) {
+        Map<Long, long[]> expected = new HashMap<>();
+        for (Doc doc : docs) {
+            boolean matches = true;
+            for (int dim = 0; dim < DIMENSIONS.length; dim++) {
+                if (predicates[dim] != null) {
+                    matches &= (doc.missingMask & (1L << dim)) == 0 && predicates[dim].test(doc.values[dim]);
+                }
+            }
+            if (groupBy >= 0 && (doc.missingMask & (1L << groupBy)) != 0) {
+                matches = false;
+            }
+            if (matches) {
+                accumulate(expected, groupBy >= 0 ? doc.values[groupBy] : 0L, doc.docCount, doc.metric);
+            }
+        }
+
+        Map<Long, long[]> actual = new HashMap<>();
+        starTree.traverse(predicates, groupBy, (key, row) -> accumulate(actual, key, starTree.docCount(row), (long) starTree.sum(0, row)));
+        actual.values().removeIf(counts -> counts[0] == 0);
+
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<Long, long[]> entry : expected.entrySet()) {
+            assertArrayEquals(entry.getValue(), actual.get(entry.getKey()));
+        }
+    }
+
+    private static void accumulate(Map<Long, long[]> result, long key, long docCount, long sum) {
+        long[] counts = result.computeIfAbsent(key, k -> new long[2]);
+        counts[0] += docCount;
+        counts[1] += sum;
+    }
+
+    private List<Doc> randomDocs() {
+        int numDocs = randomIntBetween(1, 500);
+        List<Doc> docs = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            long[] values = new long[DIMENSIONS.length];
+            long missingMask = 0;
+            for (int dim = 0; dim < DIMENSIONS.length; dim++) {
+                if (rarely()) {
+                    missingMask |= 1L << dim;
+                } else {
+                    values[dim] = randomLongBetween(0, 5 + dim * 3);
+                }
+            }
+            docs.add(new Doc(values, missingMask, randomLongBetween(1, 3), randomLongBetween(-100, 100)));
+        }
+        return docs;
+    }
+
+    private static StarTree buildStarTree(List<Doc> docs, int maxLeafDocs) {
+        StarTreeBuilder builder = new StarTreeBuilder(DIMENSIONS, new long[DIMENSIONS.length], METRICS, maxLeafDocs);
+        for (Doc doc : docs) {
+            builder.addDocument(
+                doc.values,
+                doc.missingMask,
+                doc.docCount,
+                new double[] { doc.metric },
+                new double[] { doc.metric },
+                new double[] { doc.metric },
+                new long[] { 1L }
+            );
+        }
+        return builder.build();
+    }
+
+    private static StarTree roundTrip(StarTree starTree) throws IOException {
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        starTree.writeTo(out);
+        ByteBuffersDataInput in = out.toDataInput();
+        return StarTree.readFrom(in);
+    }
+
+    private static class Doc {
+        final long[] values;
+        final long missingMask;
+        final long docCount;
+        final long metric;
+
+        Doc(long[] values, long missingMask, long docCount, long metric) {
+            this.values = values;
+            this.missingMask = missingMask;
+            this.docCount = docCount;
+            this.metric = metric;
+        }
+    }
+}
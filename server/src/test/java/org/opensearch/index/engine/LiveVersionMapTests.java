@@ -465,6 +465,56 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    public void testPackedMapMatchesObjectMap() throws IOException {
+        final LiveVersionMap objectMap = new LiveVersionMap(VersionMapType.OBJECT);
+        final LiveVersionMap packedMap = new LiveVersionMap(VersionMapType.PACKED);
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 100);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(uid(TestUtil.randomSimpleString(random(), 10, 20)));
+        }
+        final int numOps = randomIntBetween(100, 2000);
+        for (int i = 0; i < numOps; i++) {
+            if (rarely()) {
+                objectMap.beforeRefresh();
+                packedMap.beforeRefresh();
+                for (BytesRef uid : uids) {
+                    try (Releasable r1 = objectMap.acquireLock(uid); Releasable r2 = packedMap.acquireLock(uid)) {
+                        assertEquals(objectMap.getUnderLock(uid), packedMap.getUnderLock(uid));
+                    }
+                }
+                final boolean didRefresh = randomBoolean();
+                objectMap.afterRefresh(didRefresh);
+                packedMap.afterRefresh(didRefresh);
+            }
+            if (rarely()) {
+                objectMap.enforceSafeAccess();
+                packedMap.enforceSafeAccess();
+            }
+            final BytesRef uid = randomFrom(uids);
+            try (Releasable r1 = objectMap.acquireLock(uid); Releasable r2 = packedMap.acquireLock(uid)) {
+                if (randomBoolean()) {
+                    final DeleteVersionValue delete = new DeleteVersionValue(randomNonNegativeLong(), randomLong(), randomLong(), i);
+                    objectMap.putDeleteUnderLock(uid, delete);
+                    packedMap.putDeleteUnderLock(uid, delete);
+                } else {
+                    final IndexVersionValue index = randomIndexVersionValue();
+                    objectMap.maybePutIndexUnderLock(uid, index);
+                    packedMap.maybePutIndexUnderLock(uid, index);
+                }
+                assertEquals(objectMap.getUnderLock(uid), packedMap.getUnderLock(uid));
+            }
+            assertEquals(objectMap.isSafeAccessRequired(), packedMap.isSafeAccessRequired());
+            assertEquals(objectMap.isUnsafe(), packedMap.isUnsafe());
+            assertEquals(objectMap.getAllCurrent(), packedMap.getAllCurrent());
+            assertEquals(objectMap.getAllTombstones(), packedMap.getAllTombstones());
+        }
+        final long maxTimestampToPrune = randomLongBetween(0, numOps);
+        objectMap.pruneTombstones(maxTimestampToPrune, Long.MAX_VALUE);
+        packedMap.pruneTombstones(maxTimestampToPrune, Long.MAX_VALUE);
+        assertEquals(objectMap.getAllTombstones(), packedMap.getAllTombstones());
+    }
+
     IndexVersionValue randomIndexVersionValue() {
         return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
     }
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PackedVersionMapTests extends OpenSearchTestCase {
+
+    public void testMatchesHashMap() {
+        PackedVersionMap map = new PackedVersionMap(randomIntBetween(0, 100));
+        Map<BytesRef, VersionValue> expected = new HashMap<>();
+        List<BytesRef> uids = new ArrayList<>();
+        int numUids = randomIntBetween(1, 500);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(TestUtil.randomSimpleString(random(), 1, 20)));
+        }
+        int numOps = randomIntBetween(1, 5000);
+        for (int i = 0; i < numOps; i++) {
+            BytesRef uid = randomFrom(uids);
+            if (rarely()) {
+                assertEquals(expected.remove(uid), map.remove(uid));
+            } else {
+                IndexVersionValue value = new IndexVersionValue(
+                    randomBoolean() ? null : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt()),
+                    randomLong(),
+                    randomLong(),
+                    randomLong()
+                );
+                assertEquals(expected.put(uid, value), map.put(uid, value));
+            }
+            assertEquals(expected.get(uid), map.get(uid));
+            assertEquals(expected.size(), map.size());
+        }
+        for (BytesRef uid : uids) {
+            assertEquals(expected.get(uid), map.get(uid));
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.isEmpty(), map.isEmpty());
+    }
+
+    public void testRamBytesUsedIsNotReleasedOnRemove() {
+        PackedVersionMap map = new PackedVersionMap();
+        BytesRef uid = new BytesRef("uid");
+        assertNull(map.put(uid, new IndexVersionValue(null, 1, 1, 1)));
+        long ramBytesUsed = map.ramBytesUsed();
+        assertEquals(PackedVersionMap.BYTES_PER_ENTRY + uid.length, ramBytesUsed);
+        assertEquals(new IndexVersionValue(null, 1, 1, 1), map.remove(uid));
+        assertNull(map.remove(uid));
+        assertNull(map.get(uid));
+        assertTrue(map.isEmpty());
+        assertEquals(ramBytesUsed, map.ramBytesUsed());
+        // the slot of the uid is reused
+        assertNull(map.put(uid, new IndexVersionValue(null, 2, 2, 1)));
+        assertEquals(ramBytesUsed, map.ramBytesUsed());
+        assertEquals(1, map.size());
+    }
+
+    public void testKeysAreCopied() {
+        PackedVersionMap map = new PackedVersionMap();
+        byte[] bytes = new byte[] { 'a', 'b', 'c' };
+        map.put(new BytesRef(bytes), new IndexVersionValue(null, 1, 1, 1));
+        bytes[0] = 'x';
+        assertNotNull(map.get(new BytesRef("abc")));
+        assertNull(map.get(new BytesRef("xbc")));
+    }
+}
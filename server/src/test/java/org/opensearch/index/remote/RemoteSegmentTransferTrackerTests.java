@@ -48,7 +48,7 @@ public class RemoteSegmentTransferTrackerTests extends OpenSearchTestCase {
             new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
             threadPool
         );
-        remoteStoreStatsTrackerFactory = new RemoteStoreStatsTrackerFactory(clusterService, Settings.EMPTY);
+        remoteStoreStatsTrackerFactory = new RemoteStoreStatsTrackerFactory(clusterService, Settings.EMPTY, threadPool);
         shardId = new ShardId("index", "uuid", 0);
         directoryFileTransferTracker = new DirectoryFileTransferTracker();
     }
@@ -446,6 +446,25 @@ public class RemoteSegmentTransferTrackerTests extends OpenSearchTestCase {
         assertEquals((double) sum / movingAverageWindowSize, transferTracker.getUploadTimeMovingAverage(), 0.0d);
     }
 
+    public void testUploadQueueTime() {
+        int movingAverageWindowSize = remoteStoreStatsTrackerFactory.getMovingAverageWindowSize();
+        transferTracker = new RemoteSegmentTransferTracker(shardId, directoryFileTransferTracker, movingAverageWindowSize);
+        assertEquals(0, transferTracker.getTotalUploadQueueTimeInMillis());
+
+        long sum = 0;
+        for (int i = 1; i <= movingAverageWindowSize; i++) {
+            transferTracker.addUploadQueueTimeInMillis(i);
+            sum += i;
+            assertEquals(sum, transferTracker.getTotalUploadQueueTimeInMillis());
+            assertEquals((double) sum / i, transferTracker.getUploadQueueTimeMovingAverage(), 0.0d);
+        }
+
+        // the moving average only covers the window, the total covers all the uploads
+        transferTracker.addUploadQueueTimeInMillis(100);
+        assertEquals(sum + 100, transferTracker.getTotalUploadQueueTimeInMillis());
+        assertEquals((double) (sum + 100 - 1) / movingAverageWindowSize, transferTracker.getUploadQueueTimeMovingAverage(), 0.0d);
+    }
+
     public void testIsDownloadBytesAverageReady() {
         transferTracker = new RemoteSegmentTransferTracker(
             shardId,
@@ -581,6 +600,8 @@ public class RemoteSegmentTransferTrackerTests extends OpenSearchTestCase {
                 assertEquals((int) deserializedStats.totalUploadsStarted, (int) transferTrackerStats.totalUploadsStarted);
                 assertEquals((int) deserializedStats.totalUploadsSucceeded, (int) transferTrackerStats.totalUploadsSucceeded);
                 assertEquals((int) deserializedStats.totalUploadsFailed, (int) transferTrackerStats.totalUploadsFailed);
+                assertEquals(deserializedStats.totalUploadQueueTimeInMs, transferTrackerStats.totalUploadQueueTimeInMs);
+                assertEquals(deserializedStats.uploadQueueTimeMovingAverage, transferTrackerStats.uploadQueueTimeMovingAverage, 0);
                 assertEquals(
                     (int) deserializedStats.directoryFileTransferTrackerStats.transferredBytesStarted,
                     (int) transferTrackerStats.directoryFileTransferTrackerStats.transferredBytesStarted
@@ -607,6 +628,7 @@ public class RemoteSegmentTransferTrackerTests extends OpenSearchTestCase {
         transferTracker.incrementTotalUploadsFailed();
         transferTracker.updateUploadTimeMovingAverage(currentTimeMsUsingSystemNanos() + randomIntBetween(10, 100));
         transferTracker.updateUploadBytesMovingAverage(99);
+        transferTracker.addUploadQueueTimeInMillis(randomIntBetween(0, 100));
         transferTracker.updateRemoteRefreshTimeMs(currentTimeMsUsingSystemNanos() + randomIntBetween(10, 100));
         transferTracker.incrementRejectionCount();
         transferTracker.getDirectoryFileTransferTracker().addTransferredBytesStarted(10);
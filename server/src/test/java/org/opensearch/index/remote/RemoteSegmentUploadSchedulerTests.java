@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.remote;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RemoteSegmentUploadSchedulerTests extends OpenSearchTestCase {
+
+    private static final long SMALL = 1024;
+    private static final long LARGE = 1024 * 1024 * 1024;
+
+    private final List<String> started = new ArrayList<>();
+    private final List<ActionListener<Void>> running = new ArrayList<>();
+
+    private RemoteSegmentUploadScheduler scheduler(int maxConcurrentUploads) {
+        Settings settings = Settings.builder()
+            .put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), maxConcurrentUploads)
+            .build();
+        return new RemoteSegmentUploadScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            OpenSearchExecutors.newDirectExecutorService()
+        );
+    }
+
+    private void schedule(RemoteSegmentUploadScheduler scheduler, String name, long size, boolean lowPriority) {
+        scheduler.schedule(size, lowPriority, ActionListener.wrap(() -> {}), listener -> {
+            started.add(name);
+            running.add(listener);
+        });
+    }
+
+    private void complete(String name) {
+        running.remove(started.indexOf(name)).onResponse(null);
+        started.remove(name);
+    }
+
+    public void testSmallFilesGoFirst() {
+        RemoteSegmentUploadScheduler scheduler = scheduler(4);
+        schedule(scheduler, "large-1", LARGE, false);
+        schedule(scheduler, "large-2", LARGE, false);
+        schedule(scheduler, "large-3", LARGE, false);
+        // large uploads only get half of the slots
+        assertEquals(List.of("large-1", "large-2"), started);
+        schedule(scheduler, "small-1", SMALL, false);
+        schedule(scheduler, "small-2", SMALL, false);
+        schedule(scheduler, "small-3", SMALL, false);
+        assertEquals(List.of("large-1", "large-2", "small-1", "small-2"), started);
+        assertEquals(2, scheduler.getQueuedUploads());
+
+        // the small file takes the slot over the large file that was queued before it
+        complete("large-1");
+        assertEquals(List.of("large-2", "small-1", "small-2", "small-3"), started);
+        complete("small-1");
+        assertEquals(List.of("large-2", "small-2", "small-3", "large-3"), started);
+        assertEquals(0, scheduler.getQueuedUploads());
+        assertEquals(4, scheduler.getInFlightUploads());
+    }
+
+    public void testLargeFilesDoNotStarve() {
+        RemoteSegmentUploadScheduler scheduler = scheduler(2);
+        schedule(scheduler, "small-1", SMALL, false);
+        schedule(scheduler, "small-2", SMALL, false);
+        schedule(scheduler, "large-1", LARGE, false);
+        schedule(scheduler, "small-3", SMALL, false);
+        assertEquals(List.of("small-1", "small-2"), started);
+        // there is no large upload in flight, so the large upload goes ahead of the queued small upload
+        complete("small-1");
+        assertEquals(List.of("small-2", "large-1"), started);
+        complete("small-2");
+        assertEquals(List.of("large-1", "small-3"), started);
+    }
+
+    public void testLowPriorityUploadsAreLarge() {
+        RemoteSegmentUploadScheduler scheduler = scheduler(2);
+        schedule(scheduler, "low-1", SMALL, true);
+        schedule(scheduler, "low-2", SMALL, true);
+        assertEquals(List.of("low-1"), started);
+        schedule(scheduler, "small-1", SMALL, false);
+        assertEquals(List.of("low-1", "small-1"), started);
+    }
+
+    public void testSynchronousUploads() {
+        RemoteSegmentUploadScheduler scheduler = scheduler(1);
+        AtomicInteger completed = new AtomicInteger();
+        int numUploads = randomIntBetween(1, 10_000);
+        for (int i = 0; i < numUploads; i++) {
+            // uploads that complete on the calling thread don't recurse into each other
+            scheduler.schedule(randomBoolean() ? SMALL : LARGE, randomBoolean(), ActionListener.wrap(completed::incrementAndGet), l -> {
+                assertEquals(1, scheduler.getInFlightUploads());
+                l.onResponse(null);
+            });
+        }
+        assertEquals(numUploads, completed.get());
+        assertEquals(0, scheduler.getInFlightUploads());
+        assertEquals(0, scheduler.getQueuedUploads());
+    }
+
+    public void testFailureToStartReleasesSlot() {
+        RemoteSegmentUploadScheduler scheduler = scheduler(1);
+        AtomicInteger failures = new AtomicInteger();
+        scheduler.schedule(SMALL, false, ActionListener.wrap(r -> fail(), e -> failures.incrementAndGet()), l -> {
+            throw new IllegalStateException("boom");
+        });
+        assertEquals(1, failures.get());
+        assertEquals(0, scheduler.getInFlightUploads());
+        schedule(scheduler, "small-1", SMALL, false);
+        assertEquals(List.of("small-1"), started);
+    }
+
+    public void testUpdateMaxConcurrentUploads() {
+        Settings settings = Settings.builder().put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 1).build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(
+            settings,
+            clusterSettings,
+            OpenSearchExecutors.newDirectExecutorService()
+        );
+        schedule(scheduler, "small-1", SMALL, false);
+        schedule(scheduler, "small-2", SMALL, false);
+        schedule(scheduler, "small-3", SMALL, false);
+        assertEquals(List.of("small-1"), started);
+        clusterSettings.applySettings(
+            Settings.builder().put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 3).build()
+        );
+        assertEquals(List.of("small-1", "small-2", "small-3"), started);
+    }
+
+    public void testUploadsStartOnExecutor() {
+        Settings settings = Settings.builder().put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 1).build();
+        List<Runnable> tasks = new ArrayList<>();
+        RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            tasks::add
+        );
+        schedule(scheduler, "small-1", SMALL, false);
+        schedule(scheduler, "small-2", SMALL, false);
+        // neither the scheduling thread nor the completing one runs the upload
+        assertEquals(List.of(), started);
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(List.of("small-1"), started);
+        complete("small-1");
+        assertEquals(List.of(), started);
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(List.of("small-2"), started);
+    }
+
+    public void testRejectionReleasesSlot() {
+        Settings settings = Settings.builder().put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 1).build();
+        RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            command -> {
+                throw new OpenSearchRejectedExecutionException("rejected");
+            }
+        );
+        AtomicInteger failures = new AtomicInteger();
+        scheduler.schedule(SMALL, false, ActionListener.wrap(r -> fail(), e -> failures.incrementAndGet()), l -> fail());
+        scheduler.schedule(SMALL, false, ActionListener.wrap(r -> fail(), e -> failures.incrementAndGet()), l -> fail());
+        assertEquals(2, failures.get());
+        assertEquals(0, scheduler.getInFlightUploads());
+        assertEquals(0, scheduler.getQueuedUploads());
+    }
+}
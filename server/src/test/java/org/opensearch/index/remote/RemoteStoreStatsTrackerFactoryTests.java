@@ -45,7 +45,7 @@ public class RemoteStoreStatsTrackerFactoryTests extends OpenSearchTestCase {
             new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
             threadPool
         );
-        remoteStoreStatsTrackerFactory = new RemoteStoreStatsTrackerFactory(clusterService, settings);
+        remoteStoreStatsTrackerFactory = new RemoteStoreStatsTrackerFactory(clusterService, settings, threadPool);
     }
 
     @Override
@@ -95,7 +95,8 @@ public class RemoteStoreStatsTrackerFactoryTests extends OpenSearchTestCase {
                     new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
                     threadPool
                 ),
-                settings
+                settings,
+                threadPool
             )
         );
     }
@@ -121,7 +122,8 @@ public class RemoteStoreStatsTrackerFactoryTests extends OpenSearchTestCase {
                 new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
                 threadPool
             ),
-            Settings.EMPTY
+            Settings.EMPTY,
+            threadPool
         );
         // Check moving average window size updated
         assertEquals(
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.file;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class BlockReadAheadTests extends OpenSearchTestCase {
+
+    public void testSequential() {
+        BlockReadAhead readAhead = new BlockReadAhead(4);
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(0, 100));
+        // a single step is not a pattern yet
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(1, 100));
+        // the window doubles up to the maximum, without requesting a block twice
+        assertArrayEquals(new int[] { 3 }, readAhead.onBlockSwitch(2, 100));
+        assertArrayEquals(new int[] { 4, 5 }, readAhead.onBlockSwitch(3, 100));
+        assertArrayEquals(new int[] { 6, 7, 8 }, readAhead.onBlockSwitch(4, 100));
+        assertArrayEquals(new int[] { 9 }, readAhead.onBlockSwitch(5, 100));
+        assertArrayEquals(new int[] { 10 }, readAhead.onBlockSwitch(6, 100));
+    }
+
+    public void testStrided() {
+        BlockReadAhead readAhead = new BlockReadAhead(2);
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(10, 100));
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(13, 100));
+        assertArrayEquals(new int[] { 19 }, readAhead.onBlockSwitch(16, 100));
+        assertArrayEquals(new int[] { 22, 25 }, readAhead.onBlockSwitch(19, 100));
+        assertArrayEquals(new int[] { 28 }, readAhead.onBlockSwitch(22, 100));
+    }
+
+    public void testRandomAccessResetsWindow() {
+        BlockReadAhead readAhead = new BlockReadAhead(4);
+        readAhead.onBlockSwitch(0, 100);
+        readAhead.onBlockSwitch(1, 100);
+        assertArrayEquals(new int[] { 3 }, readAhead.onBlockSwitch(2, 100));
+        // backward jump
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(0, 100));
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(1, 100));
+        // the pattern is back, but the window starts over
+        assertArrayEquals(new int[] { 3 }, readAhead.onBlockSwitch(2, 100));
+        // forward jump with a different stride
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(50, 100));
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(51, 100));
+        assertArrayEquals(new int[] { 53 }, readAhead.onBlockSwitch(52, 100));
+    }
+
+    public void testStopsAtLastBlock() {
+        BlockReadAhead readAhead = new BlockReadAhead(8);
+        readAhead.onBlockSwitch(0, 5);
+        readAhead.onBlockSwitch(1, 5);
+        assertArrayEquals(new int[] { 3 }, readAhead.onBlockSwitch(2, 5));
+        assertArrayEquals(new int[] { 4, 5 }, readAhead.onBlockSwitch(3, 5));
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(4, 5));
+        assertArrayEquals(new int[0], readAhead.onBlockSwitch(5, 5));
+    }
+
+    public void testDisabled() {
+        BlockReadAhead readAhead = new BlockReadAhead(0);
+        for (int blockId = 0; blockId < 10; blockId++) {
+            assertArrayEquals(new int[0], readAhead.onBlockSwitch(blockId, 100));
+        }
+    }
+}
@@ -32,11 +32,14 @@ import org.junit.Before;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -102,6 +105,44 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         );
     }
 
+    public void testReadAheadOfSequentialReads() throws IOException {
+        final int blockSizeShift = 12;
+        final int blockSize = 1 << blockSizeShift;
+        final int fileSize = 8 * blockSize;
+        when(transferManager.fetchBlob(any())).thenAnswer(invocation -> new ByteArrayIndexInput("test", new byte[blockSize]));
+        try (
+            FSDirectory directory = new MMapDirectory(path, lockFactory);
+            IndexInput indexInput = new OnDemandBlockSnapshotIndexInput(
+                OnDemandBlockIndexInput.builder()
+                    .resourceDescription(RESOURCE_DESCRIPTION)
+                    .offset(BLOCK_SNAPSHOT_FILE_OFFSET)
+                    .length(fileSize)
+                    .blockSizeShift(blockSizeShift)
+                    .maxReadAheadBlocks(2)
+                    .isClone(IS_CLONE),
+                new BlobStoreIndexShardSnapshot.FileInfo(FILE_NAME, new StoreFileMetadata(FILE_NAME, fileSize, "", Version.LATEST), null),
+                directory,
+                transferManager
+            )
+        ) {
+            final byte[] bytes = new byte[blockSize];
+            for (int block = 0; block < 4; block++) {
+                indexInput.readBytes(bytes, 0, blockSize);
+            }
+        }
+
+        // the third block establishes the pattern, then the window grows
+        verify(transferManager).prefetchBlobs(argThat(requests -> blockFileNames(requests).equals(List.of(BLOCK_FILE_PREFIX + ".3"))));
+        verify(transferManager).prefetchBlobs(
+            argThat(requests -> blockFileNames(requests).equals(List.of(BLOCK_FILE_PREFIX + ".4", BLOCK_FILE_PREFIX + ".5")))
+        );
+        verify(transferManager, times(2)).prefetchBlobs(any());
+    }
+
+    private static List<String> blockFileNames(List<BlobFetchRequest> requests) {
+        return requests.stream().map(BlobFetchRequest::getFileName).collect(Collectors.toList());
+    }
+
     private void verifyChunkedRepository(long blockSize, long repositoryChunkSize, long fileSize) throws IOException {
         when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[(int) blockSize]));
         try (
@@ -8,11 +8,13 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.index.store.remote.utils.cache.CacheUsage;
 import org.opensearch.index.store.remote.utils.cache.stats.CacheStats;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
 
 import java.io.IOException;
 
@@ -46,7 +48,9 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
             usage.usage(),
             stats.evictionWeight(),
             stats.hitCount(),
-            stats.missCount()
+            stats.missCount(),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000)
         );
     }
 
@@ -64,6 +68,8 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(original.getEvicted(), deserialized.getEvicted());
         assertEquals(original.getCacheHits(), deserialized.getCacheHits());
         assertEquals(original.getCacheMisses(), deserialized.getCacheMisses());
+        assertEquals(original.getTrackedBlocks(), deserialized.getTrackedBlocks());
+        assertEquals(original.getBlockAccesses(), deserialized.getBlockAccesses());
     }
 
     public void testFileCacheStatsSerialization() throws IOException {
@@ -76,4 +82,26 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
             }
         }
     }
+
+    public void testFileCacheStatsSerializationBeforeBlockStats() throws IOException {
+        final FileCacheStats fileCacheStats = getMockFileCacheStats();
+        final Version version = VersionUtils.randomVersionBetween(
+            random(),
+            Version.V_2_7_0,
+            VersionUtils.getPreviousVersion(Version.V_3_0_0)
+        );
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            fileCacheStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                final FileCacheStats deserialized = new FileCacheStats(in);
+                assertEquals(0, in.available());
+                assertEquals(fileCacheStats.getUsed(), deserialized.getUsed());
+                assertEquals(fileCacheStats.getCacheMisses(), deserialized.getCacheMisses());
+                assertEquals(0, deserialized.getTrackedBlocks());
+                assertEquals(0, deserialized.getBlockAccesses());
+            }
+        }
+    }
 }
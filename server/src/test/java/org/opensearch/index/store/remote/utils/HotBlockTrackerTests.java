@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+public class HotBlockTrackerTests extends OpenSearchTestCase {
+
+    public void testHottestFirst() {
+        HotBlockTracker tracker = new HotBlockTracker();
+        assertEquals(List.of(), tracker.hottest(10));
+        for (int i = 0; i < 3; i++) {
+            tracker.record("_0.cfs.1");
+        }
+        tracker.record("_0.cfs.0");
+        tracker.record("_1.doc.0");
+        tracker.record("_1.doc.0");
+
+        assertEquals(List.of("_0.cfs.1", "_1.doc.0", "_0.cfs.0"), tracker.hottest(10));
+        assertEquals(List.of("_0.cfs.1", "_1.doc.0"), tracker.hottest(2));
+        assertEquals(3, tracker.trackedBlocks());
+        assertEquals(6, tracker.totalAccesses());
+    }
+
+    public void testPruneKeepsHottestBlocks() {
+        HotBlockTracker tracker = new HotBlockTracker(4);
+        for (int i = 0; i < 10; i++) {
+            tracker.record("hot." + (i % 2));
+        }
+        // cold blocks fill the tracker until it is pruned
+        for (int i = 0; i < 6; i++) {
+            tracker.record("cold." + i);
+        }
+        assertEquals(4, tracker.trackedBlocks());
+        assertEquals(List.of("hot.0", "hot.1"), tracker.hottest(2));
+        assertEquals(16, tracker.totalAccesses());
+
+        // counts were halved, so new blocks can catch up with blocks that used to be hot
+        for (int i = 0; i < 3; i++) {
+            tracker.record("new.0");
+        }
+        assertEquals(List.of("hot.0", "hot.1", "new.0"), tracker.hottest(3));
+        for (int i = 0; i < 3; i++) {
+            tracker.record("new.0");
+        }
+        assertEquals("new.0", tracker.hottest(1).get(0));
+    }
+
+    public void testInvalidMaxTrackedBlocks() {
+        expectThrows(IllegalArgumentException.class, () -> new HotBlockTracker(0));
+    }
+}
@@ -14,11 +14,13 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.SimpleFSLockFactory;
 import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.filecache.FileCacheStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.MatcherAssert;
 import org.junit.After;
@@ -27,6 +29,7 @@ import org.junit.Before;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -41,6 +44,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ThreadLeakFilters(filters = CleanerDaemonThreadLeakFilter.class)
 public class TransferManagerTests extends OpenSearchTestCase {
@@ -206,6 +211,123 @@ public class TransferManagerTests extends OpenSearchTestCase {
         assertFalse(blockingThread.isAlive());
     }
 
+    public void testPrefetchCoalescesAdjacentBlobParts() throws Exception {
+        final int blockSize = 1024;
+        final byte[] data = randomByteArrayOfLength(blockSize * 4);
+        doAnswer(i -> new ByteArrayInputStream(data, Math.toIntExact(i.<Long>getArgument(1)), Math.toIntExact(i.<Long>getArgument(2))))
+            .when(blobContainer)
+            .readBlob(eq("prefetched-blob"), anyLong(), anyLong());
+        final TransferManager prefetchingTransferManager = new TransferManager(
+            blobContainer,
+            fileCache,
+            OpenSearchExecutors.newDirectExecutorService()
+        );
+
+        // blocks 0, 1 and 3 of the blob: the first two are read at once
+        final List<BlobFetchRequest> requests = new ArrayList<>();
+        for (int block : new int[] { 0, 1, 3 }) {
+            requests.add(
+                BlobFetchRequest.builder()
+                    .fileName("prefetched-file." + block)
+                    .directory(directory)
+                    .blobParts(List.of(new BlobFetchRequest.BlobPart("prefetched-blob", (long) block * blockSize, blockSize)))
+                    .build()
+            );
+        }
+        prefetchingTransferManager.prefetchBlobs(requests);
+        verify(blobContainer).readBlob("prefetched-blob", 0, 2 * blockSize);
+        verify(blobContainer).readBlob("prefetched-blob", 3 * blockSize, blockSize);
+        MatcherAssert.assertThat(fileCache.usage().activeUsage(), equalTo(0L));
+        MatcherAssert.assertThat(fileCache.usage().usage(), equalTo(3L * blockSize));
+
+        // the prefetched blobs are served from the cache
+        for (int i = 0; i < requests.size(); i++) {
+            final int block = i == 2 ? 3 : i;
+            try (IndexInput indexInput = prefetchingTransferManager.fetchBlob(requests.get(i))) {
+                final byte[] bytes = new byte[blockSize];
+                indexInput.readBytes(bytes, 0, blockSize);
+                assertArrayEquals(Arrays.copyOfRange(data, block * blockSize, (block + 1) * blockSize), bytes);
+            }
+        }
+        prefetchingTransferManager.prefetchBlobs(requests);
+        verify(blobContainer, times(2)).readBlob(eq("prefetched-blob"), anyLong(), anyLong());
+    }
+
+    public void testPrefetchFallsBackToSingleFetches() throws Exception {
+        // the coalesced read of both blocks is truncated after the first one
+        doAnswer(i -> new ByteArrayInputStream(createData())).when(blobContainer).readBlob(eq("truncated-blob"), anyLong(), anyLong());
+        final TransferManager prefetchingTransferManager = new TransferManager(
+            blobContainer,
+            fileCache,
+            OpenSearchExecutors.newDirectExecutorService()
+        );
+        final List<BlobFetchRequest> requests = new ArrayList<>();
+        for (int block = 0; block < 2; block++) {
+            requests.add(
+                BlobFetchRequest.builder()
+                    .fileName("truncated-file." + block)
+                    .directory(directory)
+                    .blobParts(List.of(new BlobFetchRequest.BlobPart("truncated-blob", (long) block * EIGHT_MB, EIGHT_MB)))
+                    .build()
+            );
+        }
+        prefetchingTransferManager.prefetchBlobs(requests);
+        for (BlobFetchRequest request : requests) {
+            try (IndexInput indexInput = prefetchingTransferManager.fetchBlob(request)) {
+                assertIndexInputIsFunctional(indexInput);
+            }
+        }
+        // the first block was fully read from the coalesced read, only the second one is fetched again
+        verify(blobContainer).readBlob("truncated-blob", EIGHT_MB, EIGHT_MB);
+        verify(blobContainer, times(2)).readBlob(eq("truncated-blob"), anyLong(), anyLong());
+    }
+
+    public void testWarmBlobsIsNotAnAccess() throws Exception {
+        final List<BlobFetchRequest> requests = new ArrayList<>();
+        for (String name : new String[] { "warm-file.0", "warm-file.1" }) {
+            requests.add(
+                BlobFetchRequest.builder()
+                    .fileName(name)
+                    .directory(directory)
+                    .blobParts(List.of(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB)))
+                    .build()
+            );
+        }
+        assertEquals(2L * EIGHT_MB, transferManager.warmBlobs(requests));
+        MatcherAssert.assertThat(fileCache.usage().activeUsage(), equalTo(0L));
+        MatcherAssert.assertThat(fileCache.usage().usage(), equalTo(2L * EIGHT_MB));
+        assertEquals(0, transferManager.hotBlocks().totalAccesses());
+
+        // the warmed blobs are served from the cache, and these reads are accesses
+        for (int i = 0; i < 3; i++) {
+            try (IndexInput indexInput = transferManager.fetchBlob(requests.get(1))) {
+                assertIndexInputIsFunctional(indexInput);
+            }
+        }
+        try (IndexInput indexInput = transferManager.fetchBlob(requests.get(0))) {
+            assertIndexInputIsFunctional(indexInput);
+        }
+        verify(blobContainer, times(2)).readBlob(eq("blob"), anyLong(), anyLong());
+        assertEquals(List.of("warm-file.1", "warm-file.0"), transferManager.hotBlocks().hottest(10));
+    }
+
+    public void testHotBlocksInFileCacheStats() throws Exception {
+        for (String name : new String[] { "file.0", "file.1", "file.1" }) {
+            try (IndexInput indexInput = fetchBlobWithName(name)) {
+                assertIndexInputIsFunctional(indexInput);
+            }
+        }
+        FileCacheStats stats = fileCache.fileCacheStats();
+        assertEquals(2, stats.getTrackedBlocks());
+        assertEquals(3, stats.getBlockAccesses());
+
+        // the accesses of closed shards are no longer reported
+        transferManager.close();
+        stats = fileCache.fileCacheStats();
+        assertEquals(0, stats.getTrackedBlocks());
+        assertEquals(0, stats.getBlockAccesses());
+    }
+
     private IndexInput fetchBlobWithName(String blobname) throws IOException {
         List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
         blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class ClockCacheTests extends RefCountedCacheTestCase {
+    public ClockCacheTests() {
+        super(new ClockCache<>(CAPACITY, n -> {}, value -> value, null));
+    }
+
+    public void testSecondChance() {
+        ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, n -> {}, value -> value, null);
+        for (int i = 1; i <= 3; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 25L);
+            cache.decRef(key);
+        }
+        // "1" is used again, so "2" is the next entry to evict
+        assertEquals(25L, (long) cache.get("1"));
+        cache.decRef("1");
+        cache.put("4", 25L);
+        cache.decRef("4");
+        assertNotNull(cache.get("1"));
+        assertNull(cache.get("2"));
+        assertNotNull(cache.get("3"));
+        assertNotNull(cache.get("4"));
+    }
+
+    public void testEvictionOnExecutor() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<RemovalNotification<String, Long>> notifications = new ArrayList<>();
+        ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, notifications::add, value -> value, tasks::add);
+        for (int i = 1; i <= 6; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 25L);
+            cache.decRef(key);
+        }
+        // a single eviction is scheduled, and nothing is evicted until it runs
+        assertEquals(1, tasks.size());
+        assertEquals(150L, cache.usage().usage());
+        assertTrue(notifications.isEmpty());
+
+        tasks.remove(0).run();
+        assertEquals(75L, cache.usage().usage());
+        assertEquals(3, notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            assertEquals(Integer.toString(i + 1), notifications.get(i).getKey());
+            assertEquals(RemovalReason.CAPACITY, notifications.get(i).getRemovalReason());
+        }
+        assertEquals(3, cache.stats().evictionCount());
+
+        // the next overflow schedules a new eviction
+        cache.put("7", 25L);
+        assertEquals(1, tasks.size());
+    }
+
+    public void testPinnedEntriesAreNotEvicted() {
+        ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, n -> {}, value -> value, null);
+        for (int i = 1; i <= 5; i++) {
+            cache.put(Integer.toString(i), 25L);
+        }
+        assertEquals(125L, cache.usage().usage());
+        cache.decRef("3");
+        // releasing an entry doesn't evict, the next insertion does
+        cache.put("6", 1L);
+        assertNull(cache.get("3"));
+        assertEquals(101L, cache.usage().usage());
+    }
+
+    public void testConcurrentAccess() throws Exception {
+        ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, n -> {}, value -> value, null);
+        final int numThreads = randomIntBetween(2, 8);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < 10_000; i++) {
+                    final String key = Integer.toString(randomIntBetween(0, 20));
+                    switch (randomIntBetween(0, 9)) {
+                        case 0:
+                            cache.remove(key);
+                            break;
+                        case 1:
+                            if (cache.get(key) != null) {
+                                cache.decRef(key);
+                            }
+                            break;
+                        default:
+                            assertEquals(10L, (long) cache.compute(key, (k, v) -> v == null ? 10L : v));
+                            cache.decRef(key);
+                            break;
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0L, cache.usage().activeUsage());
+        assertEquals(10L * cache.size(), cache.usage().usage());
+    }
+}
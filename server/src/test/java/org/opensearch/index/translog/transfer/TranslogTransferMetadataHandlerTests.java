@@ -10,6 +10,7 @@ package org.opensearch.index.translog.transfer;
 
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.OutputStreamIndexOutput;
+import org.opensearch.common.io.VersionedCodecStreamWrapper;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -61,6 +62,34 @@ public class TranslogTransferMetadataHandlerTests extends OpenSearchTestCase {
         assertEquals(expectedMetadata, actualMetadata);
     }
 
+    public void testBatchLocations() throws IOException {
+        VersionedCodecStreamWrapper<TranslogTransferMetadata> wrapper = new VersionedCodecStreamWrapper<>(
+            handler,
+            TranslogTransferMetadata.CURRENT_VERSION,
+            TranslogTransferMetadata.METADATA_CODEC
+        );
+        TranslogTransferMetadata expectedMetadata = getTestMetadata();
+        assertTrue(TranslogTransferManager.readMetadata("metadata", writeStream(wrapper, expectedMetadata)).getBatchLocations().isEmpty());
+
+        Map<Long, TranslogBatchLocation> batchLocations = new HashMap<>();
+        batchLocations.put(400L, new TranslogBatchLocation("batch-1", 0, 120, 120, 20));
+        batchLocations.put(500L, new TranslogBatchLocation("batch-2", 4096, 55, 4151, 20));
+        expectedMetadata.setBatchLocations(batchLocations);
+        TranslogTransferMetadata actualMetadata = TranslogTransferManager.readMetadata("metadata", writeStream(wrapper, expectedMetadata));
+        assertEquals(expectedMetadata, actualMetadata);
+        assertEquals(expectedMetadata.getGenerationToPrimaryTermMapper(), actualMetadata.getGenerationToPrimaryTermMapper());
+        assertEquals(batchLocations, actualMetadata.getBatchLocations());
+    }
+
+    private byte[] writeStream(VersionedCodecStreamWrapper<TranslogTransferMetadata> wrapper, TranslogTransferMetadata metadata)
+        throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        try (OutputStreamIndexOutput indexOutput = new OutputStreamIndexOutput("dummy bytes", "dummy stream", output, 4096)) {
+            wrapper.writeStream(indexOutput, metadata);
+        }
+        return BytesReference.toBytes(output.bytes());
+    }
+
     private TranslogTransferMetadata getTestMetadata() {
         long primaryTerm = 3;
         long generation = 500;
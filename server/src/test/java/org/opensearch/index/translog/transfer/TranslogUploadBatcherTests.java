@@ -0,0 +1,248 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog.transfer;
+
+import org.apache.lucene.store.OutputStreamIndexOutput;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.common.io.VersionedCodecStreamWrapper;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.transfer.FileSnapshot.TransferFileSnapshot;
+import org.opensearch.index.translog.transfer.TranslogUploadBatcher.BatchQueue;
+import org.opensearch.index.translog.transfer.TranslogUploadBatcher.BatchedGeneration;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TranslogUploadBatcherTests extends OpenSearchTestCase {
+
+    private final BlobPath batchPath = BlobPath.cleanPath().add("base").add(TranslogUploadBatcher.BATCHES_PATH);
+    private final List<Runnable> uploads = new ArrayList<>();
+    private final Map<String, byte[]> contents = new HashMap<>();
+    private FsBlobStore blobStore;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        blobStore = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        blobStore.close();
+        super.tearDown();
+    }
+
+    private BatchQueue queue(int maxConcurrentUploads, long maxBatchSizeInBytes) {
+        return queue(maxConcurrentUploads, maxBatchSizeInBytes, "node-1");
+    }
+
+    private BatchQueue queue(int maxConcurrentUploads, long maxBatchSizeInBytes, String nodeId) {
+        Settings settings = Settings.builder()
+            .put(TranslogUploadBatcher.ENABLED_SETTING.getKey(), true)
+            .put(TranslogUploadBatcher.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), maxConcurrentUploads)
+            .put(TranslogUploadBatcher.MAX_BATCH_SIZE_SETTING.getKey(), maxBatchSizeInBytes + "b")
+            .build();
+        TranslogUploadBatcher batcher = new TranslogUploadBatcher(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        return batcher.newQueue(blobStore, batchPath, uploads::add, Runnable::run, nodeId);
+    }
+
+    private BatchedGeneration generation(String shard, long generation, int size) throws IOException {
+        byte[] translog = randomByteArrayOfLength(size);
+        byte[] checkpoint = randomByteArrayOfLength(randomIntBetween(1, 64));
+        contents.put(shard + "/" + Translog.getFilename(generation), translog);
+        contents.put(shard + "/" + Translog.getCommitCheckpointFileName(generation), checkpoint);
+        return new BatchedGeneration(
+            1,
+            generation,
+            new TransferFileSnapshot(Translog.getFilename(generation), translog, 1),
+            new TransferFileSnapshot(Translog.getCommitCheckpointFileName(generation), checkpoint, 1)
+        );
+    }
+
+    private BlobPath metadataPath(String shard) {
+        return BlobPath.cleanPath().add("base").add(shard).add("translog").add("metadata");
+    }
+
+    private AtomicReference<Map<Long, TranslogBatchLocation>> upload(BatchQueue queue, String shard, BatchedGeneration... generations) {
+        AtomicReference<Map<Long, TranslogBatchLocation>> locations = new AtomicReference<>();
+        queue.upload(metadataPath(shard), List.of(generations), ActionListener.wrap(locations::set, e -> { throw new AssertionError(e); }));
+        return locations;
+    }
+
+    private void runUploads() {
+        while (uploads.isEmpty() == false) {
+            uploads.remove(0).run();
+        }
+    }
+
+    private void assertContent(String shard, long generation, TranslogBatchLocation location) throws IOException {
+        BlobContainer container = blobStore.blobContainer(batchPath);
+        try (InputStream in = container.readBlob(location.getBlobName(), location.getTranslogOffset(), location.getTranslogLength())) {
+            assertArrayEquals(contents.get(shard + "/" + Translog.getFilename(generation)), in.readAllBytes());
+        }
+        try (InputStream in = container.readBlob(location.getBlobName(), location.getCheckpointOffset(), location.getCheckpointLength())) {
+            assertArrayEquals(contents.get(shard + "/" + Translog.getCommitCheckpointFileName(generation)), in.readAllBytes());
+        }
+    }
+
+    public void testUploadsArePackedWhileBatchesAreInFlight() throws IOException {
+        BatchQueue queue = queue(1, 1024 * 1024);
+        AtomicReference<Map<Long, TranslogBatchLocation>> first = upload(queue, "shard-0", generation("shard-0", 3, 100));
+        assertEquals(1, uploads.size());
+        AtomicReference<Map<Long, TranslogBatchLocation>> second = upload(queue, "shard-1", generation("shard-1", 7, 100));
+        AtomicReference<Map<Long, TranslogBatchLocation>> third = upload(
+            queue,
+            "shard-2",
+            generation("shard-2", 4, 100),
+            generation("shard-2", 5, 100)
+        );
+        // the slot is taken, so the uploads wait for the first batch to complete
+        assertEquals(1, uploads.size());
+        assertNull(second.get());
+
+        runUploads();
+        assertEquals(2, queue.getUploadedBatches());
+        assertEquals(4, queue.getUploadedGenerations());
+        assertEquals(0, queue.getInFlightUploads());
+
+        assertContent("shard-0", 3, first.get().get(3L));
+        assertContent("shard-1", 7, second.get().get(7L));
+        assertContent("shard-2", 4, third.get().get(4L));
+        assertContent("shard-2", 5, third.get().get(5L));
+        assertNotEquals(first.get().get(3L).getBlobName(), second.get().get(7L).getBlobName());
+        assertEquals(second.get().get(7L).getBlobName(), third.get().get(4L).getBlobName());
+
+        String blobName = third.get().get(5L).getBlobName();
+        long blobLength = blobStore.blobContainer(batchPath).listBlobs().get(blobName).length();
+        List<TranslogUploadBatcher.BatchIndexEntry> index = TranslogUploadBatcher.readIndex(
+            blobStore.blobContainer(batchPath),
+            blobName,
+            blobLength
+        );
+        assertEquals(3, index.size());
+        assertEquals(metadataPath("shard-1").buildAsString(), index.get(0).metadataPath.buildAsString());
+        assertEquals(7, index.get(0).generation);
+        assertEquals(second.get().get(7L), index.get(0).location);
+        assertEquals(metadataPath("shard-2").buildAsString(), index.get(2).metadataPath.buildAsString());
+        assertEquals(third.get().get(5L), index.get(2).location);
+    }
+
+    public void testBatchesAreBoundedBySize() throws IOException {
+        BatchQueue queue = queue(1, 1024);
+        upload(queue, "shard-0", generation("shard-0", 1, 100));
+        upload(queue, "shard-1", generation("shard-1", 1, 600));
+        upload(queue, "shard-2", generation("shard-2", 1, 600));
+        upload(queue, "shard-3", generation("shard-3", 1, 100));
+        runUploads();
+        assertEquals(3, queue.getUploadedBatches());
+        assertEquals(4, queue.getUploadedGenerations());
+    }
+
+    public void testRejectedUploadFailsAndReleasesSlot() throws IOException {
+        Settings settings = Settings.builder().put(TranslogUploadBatcher.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 1).build();
+        TranslogUploadBatcher batcher = new TranslogUploadBatcher(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        BatchQueue queue = batcher.newQueue(blobStore, batchPath, command -> {
+            throw new RejectedExecutionException("rejected");
+        }, Runnable::run, "node-1");
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        queue.upload(
+            metadataPath("shard-0"),
+            List.of(generation("shard-0", 1, 10)),
+            ActionListener.wrap(r -> fail(), failure::set)
+        );
+        assertTrue(failure.get() instanceof RejectedExecutionException);
+        assertEquals(0, queue.getInFlightUploads());
+        assertEquals(0, queue.getUploadedBatches());
+    }
+
+    public void testSweepDeletesUnreferencedBatches() throws IOException {
+        BatchQueue queue = queue(1, 1024 * 1024);
+        // shard-0 still references generation 5 and above, shard-1 has no metadata anymore
+        writeMetadata("shard-0", 8, 5);
+        AtomicReference<Map<Long, TranslogBatchLocation>> stale = upload(queue, "shard-0", generation("shard-0", 4, 10));
+        upload(queue, "shard-1", generation("shard-1", 9, 10));
+        runUploads();
+        AtomicReference<Map<Long, TranslogBatchLocation>> live = upload(queue, "shard-0", generation("shard-0", 5, 10));
+        upload(queue, "shard-1", generation("shard-1", 10, 10));
+        runUploads();
+        String staleBlob = stale.get().get(4L).getBlobName();
+        String liveBlob = live.get().get(5L).getBlobName();
+        assertEquals(2, blobStore.blobContainer(batchPath).listBlobs().size());
+
+        // batches that are too recent are not considered
+        queue.sweep(0);
+        assertEquals(2, blobStore.blobContainer(batchPath).listBlobs().size());
+
+        queue.sweep(Long.MAX_VALUE);
+        assertEquals(1, queue.getDeletedBatches());
+        Map<String, ?> remaining = blobStore.blobContainer(batchPath).listBlobs();
+        assertFalse(remaining.containsKey(staleBlob));
+        assertTrue(remaining.containsKey(liveBlob));
+    }
+
+    public void testSweepDeletesUnreferencedBatchesOfOtherNodes() throws IOException {
+        BatchQueue departed = queue(1, 1024 * 1024, "node-1");
+        BatchQueue remaining = queue(1, 1024 * 1024, "node-2");
+        writeMetadata("shard-0", 8, 5);
+        AtomicReference<Map<Long, TranslogBatchLocation>> stale = upload(departed, "shard-0", generation("shard-0", 4, 10));
+        runUploads();
+        AtomicReference<Map<Long, TranslogBatchLocation>> live = upload(departed, "shard-0", generation("shard-0", 6, 10));
+        runUploads();
+        AtomicReference<Map<Long, TranslogBatchLocation>> own = upload(remaining, "shard-1", generation("shard-1", 3, 10));
+        runUploads();
+        assertEquals(3, blobStore.blobContainer(batchPath).listBlobs().size());
+
+        // node-1 left the cluster, so its batches are swept by node-2, as long as their shard doesn't reference them
+        remaining.sweep(Long.MAX_VALUE);
+        assertEquals(2, remaining.getDeletedBatches());
+        Map<String, ?> blobs = blobStore.blobContainer(batchPath).listBlobs();
+        assertFalse(blobs.containsKey(stale.get().get(4L).getBlobName()));
+        assertFalse(blobs.containsKey(own.get().get(3L).getBlobName()));
+        assertTrue(blobs.containsKey(live.get().get(6L).getBlobName()));
+    }
+
+    private void writeMetadata(String shard, long generation, long minGeneration) throws IOException {
+        TranslogTransferMetadata metadata = new TranslogTransferMetadata(1, generation, minGeneration, 1, "node-1");
+        metadata.setGenerationToPrimaryTermMapper(Map.of(Long.toString(generation), "1"));
+        VersionedCodecStreamWrapper<TranslogTransferMetadata> wrapper = new VersionedCodecStreamWrapper<>(
+            new TranslogTransferMetadataHandler(),
+            TranslogTransferMetadata.CURRENT_VERSION,
+            TranslogTransferMetadata.METADATA_CODEC
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        try (OutputStreamIndexOutput indexOutput = new OutputStreamIndexOutput("metadata", "metadata", output, 4096)) {
+            wrapper.writeStream(indexOutput, metadata);
+        }
+        byte[] bytes = BytesReference.toBytes(output.bytes());
+        blobStore.blobContainer(metadataPath(shard)).writeBlob(metadata.getFileName(), new ByteArrayInputStream(bytes), bytes.length, true);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class FileChunkRequestTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final FileChunkRequest request = randomFileChunkRequest();
+        final Version version = VersionUtils.randomVersionBetween(random(), Version.V_2_0_0, Version.CURRENT);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                final FileChunkRequest deserialized = new FileChunkRequest(in);
+                assertEquals(0, in.available());
+                assertFileChunkRequest(request, deserialized);
+                deserialized.releaseContent();
+            }
+        }
+    }
+
+    public void testContentInlineBeforeV3() throws IOException {
+        final FileChunkRequest request = randomFileChunkRequest();
+        final Version version = VersionUtils.randomVersionBetween(
+            random(),
+            Version.V_2_0_0,
+            VersionUtils.getPreviousVersion(Version.V_3_0_0)
+        );
+        try (BytesStreamOutput thin = new BytesStreamOutput(); BytesStreamOutput full = new BytesStreamOutput()) {
+            thin.setVersion(version);
+            full.setVersion(version);
+            // older nodes read the content in the middle of the request, so there are no trailing bytes to send as they are
+            assertThat(request.writeThin(thin), sameInstance(BytesArray.EMPTY));
+            request.writeTo(full);
+            assertEquals(full.bytes(), thin.bytes());
+        }
+    }
+
+    public void testContentLastFromV3() throws IOException {
+        final FileChunkRequest request = randomFileChunkRequest();
+        final Version version = VersionUtils.randomVersionBetween(random(), Version.V_3_0_0, Version.CURRENT);
+        try (BytesStreamOutput thin = new BytesStreamOutput(); BytesStreamOutput full = new BytesStreamOutput()) {
+            thin.setVersion(version);
+            full.setVersion(version);
+            final BytesReference trailingBytes = request.writeThin(thin);
+            assertThat(trailingBytes, sameInstance(request.content()));
+            request.writeTo(full);
+            assertEquals(full.bytes(), CompositeBytesReference.of(thin.bytes(), trailingBytes));
+            final BytesReference serialized = full.bytes();
+            final int contentLength = request.content().length();
+            assertEquals(request.content(), serialized.slice(serialized.length() - contentLength, contentLength));
+        }
+    }
+
+    public void testReleaseContent() throws IOException {
+        final FileChunkRequest request = randomFileChunkRequest();
+        final Version version = VersionUtils.randomVersionBetween(random(), Version.V_2_0_0, Version.CURRENT);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            request.writeTo(out);
+            final AtomicBoolean released = new AtomicBoolean();
+            final Releasable release = () -> assertTrue(released.compareAndSet(false, true));
+            final ReleasableBytesReference message = new ReleasableBytesReference(out.bytes(), release);
+            final FileChunkRequest deserialized;
+            try (StreamInput in = message.streamInput()) {
+                in.setVersion(version);
+                deserialized = new FileChunkRequest(in);
+            }
+            // the content outlives the inbound message it was read from until the request releases it
+            message.close();
+            assertFalse(released.get());
+            assertThat(deserialized.content(), equalTo(request.content()));
+            deserialized.releaseContent();
+            assertTrue(released.get());
+        }
+    }
+
+    private static FileChunkRequest randomFileChunkRequest() {
+        final BytesReference content = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 1 << 14)));
+        final StoreFileMetadata metadata = new StoreFileMetadata(
+            randomAlphaOfLength(8),
+            randomLongBetween(content.length(), Long.MAX_VALUE / 2),
+            randomAlphaOfLength(8),
+            org.apache.lucene.util.Version.LATEST
+        );
+        return new FileChunkRequest(
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            new ShardId(randomAlphaOfLength(8), "_na_", randomIntBetween(0, 10)),
+            metadata,
+            randomNonNegativeLong(),
+            content,
+            randomBoolean(),
+            randomIntBetween(0, Integer.MAX_VALUE),
+            randomNonNegativeLong()
+        );
+    }
+
+    private static void assertFileChunkRequest(FileChunkRequest expected, FileChunkRequest actual) {
+        assertThat(actual.recoveryId(), equalTo(expected.recoveryId()));
+        assertThat(actual.requestSeqNo(), equalTo(expected.requestSeqNo()));
+        assertThat(actual.shardId(), equalTo(expected.shardId()));
+        assertThat(actual.name(), equalTo(expected.name()));
+        assertThat(actual.length(), equalTo(expected.length()));
+        assertThat(actual.metadata().checksum(), equalTo(expected.metadata().checksum()));
+        assertThat(actual.metadata().writtenBy(), equalTo(expected.metadata().writtenBy()));
+        assertThat(actual.position(), equalTo(expected.position()));
+        assertThat(actual.content(), equalTo(expected.content()));
+        assertThat(actual.lastChunk(), equalTo(expected.lastChunk()));
+        assertThat(actual.totalTranslogOps(), equalTo(expected.totalTranslogOps()));
+        assertThat(actual.sourceThrottleTimeInNanos(), equalTo(expected.sourceThrottleTimeInNanos()));
+    }
+}
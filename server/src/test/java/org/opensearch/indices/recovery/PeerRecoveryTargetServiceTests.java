@@ -32,8 +32,12 @@
 
 package org.opensearch.indices.recovery;
 
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakFilters;
+
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.NIOFSDirectory;
 import org.opensearch.Version;
 import org.opensearch.action.admin.indices.flush.FlushRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -44,11 +48,15 @@ import org.opensearch.cluster.routing.RecoverySource;
 import org.opensearch.cluster.routing.ShardRoutingHelper;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.EngineConfigFactory;
 import org.opensearch.index.engine.NoOpEngine;
 import org.opensearch.index.mapper.SourceToParse;
@@ -57,10 +65,19 @@ import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
 import org.opensearch.index.shard.IndexShardTestUtils;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.index.store.remote.directory.RemoteSnapshotDirectory;
+import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
+import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.test.DummyShardLock;
+import org.opensearch.test.IndexSettingsModule;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -77,7 +94,14 @@ import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
+@ThreadLeakFilters(filters = CleanerDaemonThreadLeakFilter.class)
 public class PeerRecoveryTargetServiceTests extends IndexShardTestCase {
 
     public void testWriteFileChunksConcurrently() throws Exception {
@@ -409,4 +433,44 @@ public class PeerRecoveryTargetServiceTests extends IndexShardTestCase {
         recoveryTarget.decRef();
         closeShards(shard);
     }
+
+    public void testWarmFileCache() throws Exception {
+        final long blockSize = 1 << 23;
+        final long fileLength = 2 * blockSize + randomIntBetween(1, 100);
+        final BlobStoreIndexShardSnapshot.FileInfo fileInfo = new BlobStoreIndexShardSnapshot.FileInfo(
+            "__data",
+            new StoreFileMetadata("_0.cfs", fileLength, "", org.apache.lucene.util.Version.LATEST),
+            null
+        );
+        final BlobStoreIndexShardSnapshot snapshot = new BlobStoreIndexShardSnapshot("snapshot", 0, List.of(fileInfo), 0, 0, 0, 0);
+        final BlobContainer blobContainer = mock(BlobContainer.class);
+        when(blobContainer.readBlob(eq("__data"), anyLong(), anyLong())).thenAnswer(
+            invocation -> new ByteArrayInputStream(new byte[Math.toIntExact(invocation.getArgument(2))])
+        );
+        final FileCache fileCache = FileCacheFactory.createConcurrentLRUFileCache(4 * blockSize, 1, new NoopCircuitBreaker("test"));
+        final RemoteSnapshotDirectory remoteSnapshotDirectory = new RemoteSnapshotDirectory(
+            snapshot,
+            new NIOFSDirectory(createTempDir()),
+            new TransferManager(blobContainer, fileCache)
+        );
+
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings("index", Settings.EMPTY);
+        try (Store store = new Store(shardId, indexSettings, remoteSnapshotDirectory, new DummyShardLock(shardId))) {
+            // blocks of unknown files and out of range blocks are ignored
+            final List<String> hotBlocks = List.of("_0.cfs.2", "_0.cfs.0", "_1.cfs.0", "_0.cfs.3");
+            final long warmed = PeerRecoveryTargetService.warmFileCache(store.directory(), hotBlocks);
+            assertEquals(fileLength - blockSize, warmed);
+            assertEquals(warmed, fileCache.usage().usage());
+            assertEquals(0, fileCache.usage().activeUsage());
+            verify(blobContainer).readBlob("__data", 0, blockSize);
+            verify(blobContainer).readBlob("__data", 2 * blockSize, fileLength - 2 * blockSize);
+            verifyNoMoreInteractions(blobContainer);
+        }
+
+        // shards that don't read through the file cache have nothing to warm
+        try (Directory directory = newFSDirectory(createTempDir())) {
+            assertEquals(-1, PeerRecoveryTargetService.warmFileCache(directory, List.of("_0.cfs.0")));
+        }
+    }
 }
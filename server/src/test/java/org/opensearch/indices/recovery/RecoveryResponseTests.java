@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class RecoveryResponseTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final RecoveryResponse response = randomRecoveryResponse();
+        final Version version = VersionUtils.randomVersionBetween(random(), Version.V_3_0_0, Version.CURRENT);
+        final RecoveryResponse deserialized = copy(response, version);
+        assertRecoveryResponse(response, deserialized);
+        assertThat(deserialized.hotBlocks, equalTo(response.hotBlocks));
+    }
+
+    public void testSerializationBeforeHotBlocks() throws IOException {
+        final RecoveryResponse response = randomRecoveryResponse();
+        final Version version = VersionUtils.randomVersionBetween(
+            random(),
+            Version.V_2_0_0,
+            VersionUtils.getPreviousVersion(Version.V_3_0_0)
+        );
+        final RecoveryResponse deserialized = copy(response, version);
+        assertRecoveryResponse(response, deserialized);
+        // older nodes neither send nor read the hot blocks, the target then doesn't warm its file cache
+        assertThat(deserialized.hotBlocks, empty());
+    }
+
+    private static RecoveryResponse randomRecoveryResponse() {
+        final int numFiles = randomIntBetween(0, 5);
+        return new RecoveryResponse(
+            randomList(numFiles, numFiles, () -> randomAlphaOfLength(8)),
+            randomList(numFiles, numFiles, OpenSearchTestCase::randomNonNegativeLong),
+            randomList(numFiles, numFiles, () -> randomAlphaOfLength(8)),
+            randomList(numFiles, numFiles, OpenSearchTestCase::randomNonNegativeLong),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomIntBetween(0, Integer.MAX_VALUE),
+            randomNonNegativeLong(),
+            randomList(1, 10, () -> randomAlphaOfLength(8) + "." + randomIntBetween(0, 100))
+        );
+    }
+
+    private static RecoveryResponse copy(RecoveryResponse response, Version version) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            response.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                final RecoveryResponse deserialized = new RecoveryResponse(in);
+                assertEquals(0, in.available());
+                return deserialized;
+            }
+        }
+    }
+
+    private static void assertRecoveryResponse(RecoveryResponse expected, RecoveryResponse actual) {
+        assertThat(actual.phase1FileNames, equalTo(expected.phase1FileNames));
+        assertThat(actual.phase1FileSizes, equalTo(expected.phase1FileSizes));
+        assertThat(actual.phase1ExistingFileNames, equalTo(expected.phase1ExistingFileNames));
+        assertThat(actual.phase1ExistingFileSizes, equalTo(expected.phase1ExistingFileSizes));
+        assertThat(actual.phase1TotalSize, equalTo(expected.phase1TotalSize));
+        assertThat(actual.phase1ExistingTotalSize, equalTo(expected.phase1ExistingTotalSize));
+        assertThat(actual.phase1Time, equalTo(expected.phase1Time));
+        assertThat(actual.phase1ThrottlingWaitTime, equalTo(expected.phase1ThrottlingWaitTime));
+        assertThat(actual.startTime, equalTo(expected.startTime));
+        assertThat(actual.phase2Operations, equalTo(expected.phase2Operations));
+        assertThat(actual.phase2Time, equalTo(expected.phase2Time));
+    }
+}
@@ -12,6 +12,7 @@ import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexFileNames;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
@@ -27,6 +28,7 @@ import org.junit.Assert;
 import java.io.IOException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.IntSupplier;
 
 import static java.util.Collections.emptyMap;
@@ -225,6 +227,53 @@ public class SegmentFileTransferHandlerTests extends IndexShardTestCase {
         IOUtils.close(transfer);
     }
 
+    public void testSendFiles_releasesContentOfFailedChunk() throws IOException, InterruptedException {
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        final AtomicReference<ReleasableBytesReference> sentContent = new AtomicReference<>();
+        final FileChunkWriter chunkWriter = new FileChunkWriter() {
+            @Override
+            public void writeFileChunk(
+                StoreFileMetadata fileMetadata,
+                long position,
+                BytesReference content,
+                boolean lastChunk,
+                int totalTranslogOps,
+                ActionListener<Void> listener
+            ) {
+                // the send still holds on to the content after the chunk failed, like a request that timed out while in flight
+                sentContent.set(((ReleasableBytesReference) content).retain());
+                listener.onFailure(new IllegalStateException("test"));
+            }
+        };
+        SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
+            shard,
+            targetNode,
+            chunkWriter,
+            logger,
+            shard.getThreadPool(),
+            cancellableThreads,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks
+        );
+
+        final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = handler.createTransfer(
+            shard.store(),
+            filesToSend,
+            translogOps,
+            ActionListener.wrap(r -> Assert.fail(), e -> countDownLatch.countDown())
+        );
+
+        transfer.start();
+        assertTrue(countDownLatch.await(30, TimeUnit.SECONDS));
+        final ReleasableBytesReference content = sentContent.get();
+        assertNotNull(content);
+        // the chunk let go of its buffer, which is reused once the send did too
+        assertEquals(1, content.refCount());
+        content.close();
+        assertEquals(0, content.refCount());
+        IOUtils.close(transfer);
+    }
+
     public void testSendFiles_CorruptIndexException() throws Exception {
         final CancellableThreads cancellableThreads = new CancellableThreads();
         SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
@@ -12,6 +12,7 @@ import org.apache.lucene.store.AlreadyClosedException;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
@@ -40,6 +41,8 @@ import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.recovery.ForceSyncRequest;
 import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
+import org.opensearch.indices.replication.checkpoint.PublishMergedSegmentRequest;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.CopyState;
 import org.opensearch.indices.replication.common.ReplicationCollection;
@@ -59,6 +62,7 @@ import org.junit.Assert;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -671,6 +675,68 @@ public class SegmentReplicationTargetServiceTests extends IndexShardTestCase {
         ).txGet();
     }
 
+    public void testPublishMergedSegment_ShardDoesNotExist() {
+        final MergedSegmentCheckpoint mergedSegmentCheckpoint = new MergedSegmentCheckpoint(
+            new ShardId("no", "", 0),
+            1L,
+            1L,
+            1L,
+            1L,
+            initialCheckpoint.getCodec(),
+            Map.of(),
+            "_0"
+        );
+        when(indicesService.getShardOrNull(mergedSegmentCheckpoint.getShardId())).thenReturn(null);
+        TransportResponse response = transportService.submitRequest(
+            localNode,
+            SegmentReplicationTargetService.Actions.PUBLISH_MERGED_SEGMENT,
+            new PublishMergedSegmentRequest(mergedSegmentCheckpoint),
+            TransportRequestOptions.builder().withTimeout(TRANSPORT_TIMEOUT).build(),
+            EmptyTransportResponseHandler.INSTANCE_SAME
+        ).txGet();
+        assertEquals(TransportResponse.Empty.INSTANCE, response);
+    }
+
+    public void testOnNewMergedSegmentCheckpoint_FilesAlreadyPresent() throws IOException {
+        when(indicesService.getShardOrNull(replicaShard.shardId())).thenReturn(replicaShard);
+        final Map<String, StoreFileMetadata> localFiles = replicaShard.snapshotStoreMetadata().fileMetadataMap();
+        final MergedSegmentCheckpoint mergedSegmentCheckpoint = new MergedSegmentCheckpoint(
+            replicaShard.shardId(),
+            replicaShard.getOperationPrimaryTerm(),
+            initialCheckpoint.getSegmentsGen(),
+            initialCheckpoint.getSegmentInfosVersion(),
+            localFiles.values().stream().mapToLong(StoreFileMetadata::length).sum(),
+            initialCheckpoint.getCodec(),
+            localFiles,
+            "_0"
+        );
+        final PlainActionFuture<Void> future = PlainActionFuture.newFuture();
+        sut.onNewMergedSegmentCheckpoint(mergedSegmentCheckpoint, future);
+        // nothing to copy, the listener completes right away
+        assertTrue(future.isDone());
+        future.actionGet();
+    }
+
+    public void testOnNewMergedSegmentCheckpoint_StalePrimaryTerm() {
+        when(indicesService.getShardOrNull(replicaShard.shardId())).thenReturn(replicaShard);
+        final StoreFileMetadata missingFile = new StoreFileMetadata("_missing.cfs", 1L, "checksum", org.apache.lucene.util.Version.LATEST);
+        final MergedSegmentCheckpoint mergedSegmentCheckpoint = new MergedSegmentCheckpoint(
+            replicaShard.shardId(),
+            replicaShard.getOperationPrimaryTerm() - 1,
+            initialCheckpoint.getSegmentsGen(),
+            initialCheckpoint.getSegmentInfosVersion(),
+            missingFile.length(),
+            initialCheckpoint.getCodec(),
+            Map.of(missingFile.name(), missingFile),
+            "_missing"
+        );
+        final PlainActionFuture<Void> future = PlainActionFuture.newFuture();
+        sut.onNewMergedSegmentCheckpoint(mergedSegmentCheckpoint, future);
+        // segments of a former primary are ignored
+        assertTrue(future.isDone());
+        future.actionGet();
+    }
+
     public void testTargetCancelledBeforeStartInvoked() {
         final String cancelReason = "test";
         final SegmentReplicationTarget target = new SegmentReplicationTarget(
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.apache.lucene.util.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class MergedSegmentCheckpointTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final StoreFileMetadata cfs = new StoreFileMetadata("_4.cfs", 1024L, "abc", Version.LATEST);
+        final StoreFileMetadata cfe = new StoreFileMetadata("_4.cfe", 64L, "def", Version.LATEST);
+        final MergedSegmentCheckpoint checkpoint = new MergedSegmentCheckpoint(
+            new ShardId("index", "_na_", 0),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            cfs.length() + cfe.length(),
+            "Lucene99",
+            Map.of(cfs.name(), cfs, cfe.name(), cfe),
+            "_4"
+        );
+        final PublishMergedSegmentRequest request = new PublishMergedSegmentRequest(checkpoint);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final MergedSegmentCheckpoint deserialized = new PublishMergedSegmentRequest(in).getCheckpoint();
+                assertEquals(checkpoint, deserialized);
+                assertEquals("_4", deserialized.getSegmentName());
+                assertEquals(checkpoint.getMetadataMap().keySet(), deserialized.getMetadataMap().keySet());
+            }
+        }
+    }
+
+    public void testEqualsIncludesSegmentName() {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final MergedSegmentCheckpoint first = new MergedSegmentCheckpoint(shardId, 1L, 2L, 3L, 0L, "Lucene99", Map.of(), "_1");
+        final MergedSegmentCheckpoint second = new MergedSegmentCheckpoint(shardId, 1L, 2L, 3L, 0L, "Lucene99", Map.of(), "_2");
+        assertNotEquals(first, second);
+        assertEquals(first, new MergedSegmentCheckpoint(shardId, 1L, 2L, 3L, 0L, "Lucene99", Map.of(), "_1"));
+    }
+}
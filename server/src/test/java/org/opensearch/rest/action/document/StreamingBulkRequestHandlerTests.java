@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.http.HttpChunk;
+import org.opensearch.rest.AbstractRestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpNodeClient;
+import org.opensearch.test.rest.FakeRestRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+public class StreamingBulkRequestHandlerTests extends OpenSearchTestCase {
+
+    public void testBatchesAreExecutedAndRespondedInOrder() {
+        final String content = "{\"index\":{\"_index\":\"test\",\"_id\":\"1\"}}\n"
+            + "{\"field\":\"value1\"}\n"
+            + "{\"delete\":{\"_index\":\"test\",\"_id\":\"2\"}}\n"
+            + "{\"create\":{\"_index\":\"test\",\"_id\":\"3\"}}\n"
+            + "{\"field\":\"value3\"}";
+        try (CapturingClient client = new CapturingClient(getTestName())) {
+            TestStreamingRestChannel channel = new TestStreamingRestChannel(new FakeRestRequest());
+            // every item makes a batch of its own
+            chunks(content).subscribe(handler(channel, client, 1));
+
+            assertEquals(StreamingBulkRequestHandler.MAX_IN_FLIGHT_BATCHES, client.requests.size());
+            assertEquals(DocWriteRequest.OpType.INDEX, client.requests.get(0).requests().get(0).opType());
+            assertEquals(DocWriteRequest.OpType.DELETE, client.requests.get(1).requests().get(0).opType());
+
+            // the response of the second batch waits for the one of the first batch
+            client.listeners.get(1).onResponse(new BulkResponse(new BulkItemResponse[0], 2));
+            assertTrue(channel.chunks.isEmpty());
+            client.listeners.get(0).onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            assertEquals(2, channel.chunks.size());
+            assertEquals(1, parse(channel.chunks.get(0)).get("took"));
+            assertEquals(2, parse(channel.chunks.get(1)).get("took"));
+
+            // the content is read again once there is room for another batch
+            assertEquals(3, client.requests.size());
+            assertEquals(DocWriteRequest.OpType.CREATE, client.requests.get(2).requests().get(0).opType());
+            client.listeners.get(2).onResponse(new BulkResponse(new BulkItemResponse[0], 3));
+
+            assertEquals(RestStatus.OK, channel.status);
+            assertEquals(List.of(StreamingBulkRequestHandler.CONTENT_TYPE), channel.headers.get("Content-Type"));
+            assertEquals(4, channel.chunks.size());
+            assertEquals(3, parse(channel.chunks.get(2)).get("took"));
+            assertTrue(channel.chunks.get(3).isLast());
+            assertEquals(0, channel.chunks.get(3).content().length());
+            assertNull(channel.response);
+        }
+    }
+
+    public void testItemsAreNotSplitAcrossBatches() {
+        final StringBuilder content = new StringBuilder();
+        final int items = randomIntBetween(1, 50);
+        for (int i = 0; i < items; i++) {
+            content.append("{\"index\":{\"_index\":\"test\"}}\n{\"field\":").append(i).append("}\n");
+        }
+        try (CapturingClient client = new CapturingClient(getTestName())) {
+            TestStreamingRestChannel channel = new TestStreamingRestChannel(new FakeRestRequest());
+            chunks(content.toString()).subscribe(handler(channel, client, randomIntBetween(1, 200)));
+            int responded = 0;
+            while (responded < client.listeners.size()) {
+                client.listeners.get(responded++).onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            }
+            assertEquals(items, client.requests.stream().mapToInt(BulkRequest::numberOfActions).sum());
+            assertEquals(client.requests.size() + 1, channel.chunks.size());
+            assertTrue(channel.chunks.get(channel.chunks.size() - 1).isLast());
+        }
+    }
+
+    public void testRejectedBatchIsRetried() throws Exception {
+        try (CapturingClient client = new CapturingClient(getTestName())) {
+            TestStreamingRestChannel channel = new TestStreamingRestChannel(new FakeRestRequest());
+            chunks("{\"delete\":{\"_index\":\"test\",\"_id\":\"1\"}}\n").subscribe(handler(channel, client, 1024));
+            assertEquals(1, client.requests.size());
+            client.listeners.get(0).onFailure(new OpenSearchRejectedExecutionException("rejected"));
+            assertBusy(() -> assertEquals(2, client.requests.size()));
+            assertSame(client.requests.get(0), client.requests.get(1));
+            client.listeners.get(1).onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            assertEquals(2, channel.chunks.size());
+            assertTrue(channel.chunks.get(1).isLast());
+        }
+    }
+
+    public void testFailureBeforeStreaming() {
+        try (CapturingClient client = new CapturingClient(getTestName())) {
+            TestStreamingRestChannel channel = new TestStreamingRestChannel(new FakeRestRequest());
+            chunks("{\"index\":{\"_index\":\"test\"}}\n").subscribe(handler(channel, client, 1024));
+
+            assertTrue(client.requests.isEmpty());
+            assertNull(channel.status);
+            assertNotNull(channel.response);
+            assertEquals(RestStatus.BAD_REQUEST, channel.response.status());
+        }
+    }
+
+    public void testFailureAfterStreaming() {
+        try (CapturingClient client = new CapturingClient(getTestName())) {
+            TestStreamingRestChannel channel = new TestStreamingRestChannel(new FakeRestRequest());
+            chunks("{\"delete\":{\"_index\":\"test\",\"_id\":\"1\"}}\n{\"index\":{\"_index\":\"test\"}}\n").subscribe(
+                handler(channel, client, 1)
+            );
+            assertEquals(1, client.requests.size());
+            client.listeners.get(0).onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+
+            assertEquals(2, channel.chunks.size());
+            HttpChunk last = channel.chunks.get(1);
+            assertTrue(last.isLast());
+            Map<String, Object> error = parse(last);
+            assertEquals(400, error.get("status"));
+            assertTrue(error.containsKey("error"));
+        }
+    }
+
+    private static StreamingBulkRequestHandler handler(TestStreamingRestChannel channel, CapturingClient client, long batchSize) {
+        return new StreamingBulkRequestHandler(
+            channel,
+            client,
+            content -> new BulkRequest().add(content, null, XContentType.JSON),
+            XContentType.JSON,
+            batchSize
+        );
+    }
+
+    private static Publisher<HttpChunk> chunks(String content) {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final List<HttpChunk> chunks = new ArrayList<>();
+        int from = 0;
+        while (from < bytes.length) {
+            final int length = randomIntBetween(1, bytes.length - from);
+            chunks.add(new HttpChunk(new BytesArray(bytes, from, length), false));
+            from += length;
+        }
+        chunks.add(new HttpChunk(BytesArray.EMPTY, true));
+        return Flux.fromIterable(chunks);
+    }
+
+    private static Map<String, Object> parse(HttpChunk chunk) {
+        // every chunk is a single line
+        assertEquals('\n', chunk.content().get(chunk.content().length() - 1));
+        return XContentHelper.convertToMap(chunk.content(), false, XContentType.JSON).v2();
+    }
+
+    private static final class CapturingClient extends NoOpNodeClient {
+        private final List<BulkRequest> requests = new ArrayList<>();
+        private final List<ActionListener<BulkResponse>> listeners = new ArrayList<>();
+
+        CapturingClient(String testName) {
+            super(testName);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <Request extends ActionRequest, Response extends ActionResponse> void doExecute(
+            ActionType<Response> action,
+            Request request,
+            ActionListener<Response> listener
+        ) {
+            requests.add((BulkRequest) request);
+            listeners.add((ActionListener<BulkResponse>) listener);
+        }
+    }
+
+    private static final class TestStreamingRestChannel extends AbstractRestChannel implements StreamingRestChannel {
+        private final List<HttpChunk> chunks = new ArrayList<>();
+        private RestStatus status;
+        private Map<String, List<String>> headers;
+        private RestResponse response;
+
+        TestStreamingRestChannel(RestRequest request) {
+            super(request, randomBoolean());
+        }
+
+        @Override
+        public void prepareResponse(RestStatus status, Map<String, List<String>> headers) {
+            assertNull("response already prepared", this.status);
+            this.status = status;
+            this.headers = headers;
+        }
+
+        @Override
+        public void sendChunk(HttpChunk chunk) {
+            assertNotNull("response not prepared", status);
+            assertTrue("response already complete", chunks.isEmpty() || chunks.get(chunks.size() - 1).isLast() == false);
+            chunks.add(chunk);
+        }
+
+        @Override
+        public Publisher<HttpChunk> requestContent() {
+            return Flux.just(new HttpChunk(request().content(), true));
+        }
+
+        @Override
+        public void sendResponse(RestResponse response) {
+            assertNull("streaming already started", status);
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchShard;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.http.HttpChunk;
+import org.opensearch.rest.AbstractRestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+public class StreamingSearchResponseListenerTests extends OpenSearchTestCase {
+
+    public void testStreamsPartialReducesThenResponse() {
+        TestStreamingRestChannel channel = new TestStreamingRestChannel(new FakeRestRequest());
+        StreamingSearchResponseListener listener = new StreamingSearchResponseListener(channel);
+        List<SearchShard> shards = shards(4);
+        listener.onListShards(shards, shards(1), SearchResponse.Clusters.EMPTY, false);
+        listener.onPartialReduce(shards.subList(0, 2), new TotalHits(10, TotalHits.Relation.EQUAL_TO), null, 1);
+        listener.onPartialReduce(shards.subList(0, 3), new TotalHits(15, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO), null, 2);
+        listener.onResponse(emptyResponse());
+
+        assertEquals(RestStatus.OK, channel.status);
+        assertEquals(List.of(StreamingSearchResponseListener.CONTENT_TYPE), channel.headers.get("Content-Type"));
+        assertNull(channel.response);
+        assertEquals(3, channel.chunks.size());
+
+        Map<String, Object> first = partial(channel.chunks.get(0));
+        assertFalse(channel.chunks.get(0).isLast());
+        assertEquals(1, first.get("num_reduce_phases"));
+        assertEquals(Map.of("total", 4, "skipped", 1, "reduced", 2), first.get("_shards"));
+        assertEquals(Map.of("total", Map.of("value", 10, "relation", "eq")), first.get("hits"));
+
+        Map<String, Object> second = partial(channel.chunks.get(1));
+        assertFalse(channel.chunks.get(1).isLast());
+        assertEquals(2, second.get("num_reduce_phases"));
+        assertEquals(Map.of("total", Map.of("value", 15, "relation", "gte")), second.get("hits"));
+
+        HttpChunk last = channel.chunks.get(2);
+        assertTrue(last.isLast());
+        Map<String, Object> response = parse(last);
+        assertTrue(response.containsKey("response"));
+
+        // nothing is sent once the stream is complete
+        listener.onFailure(new IllegalStateException("too late"));
+        assertEquals(3, channel.chunks.size());
+        assertNull(channel.response);
+    }
+
+    public void testTotalHitsAsInt() {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withParams(
+            new HashMap<>(Map.of(RestSearchAction.TOTAL_HITS_AS_INT_PARAM, "true"))
+        ).build();
+        TestStreamingRestChannel channel = new TestStreamingRestChannel(request);
+        StreamingSearchResponseListener listener = new StreamingSearchResponseListener(channel);
+        List<SearchShard> shards = shards(2);
+        listener.onListShards(shards, List.of(), SearchResponse.Clusters.EMPTY, false);
+        listener.onPartialReduce(shards.subList(0, 1), new TotalHits(7, TotalHits.Relation.EQUAL_TO), null, 1);
+        assertEquals(Map.of("total", 7), partial(channel.chunks.get(0)).get("hits"));
+    }
+
+    public void testFailureBeforeStreaming() {
+        TestStreamingRestChannel channel = new TestStreamingRestChannel(new FakeRestRequest());
+        StreamingSearchResponseListener listener = new StreamingSearchResponseListener(channel);
+        listener.onListShards(shards(2), List.of(), SearchResponse.Clusters.EMPTY, false);
+        listener.onFailure(new IllegalArgumentException("bad request"));
+
+        assertNull(channel.status);
+        assertTrue(channel.chunks.isEmpty());
+        assertNotNull(channel.response);
+        assertEquals(RestStatus.BAD_REQUEST, channel.response.status());
+    }
+
+    public void testFailureAfterStreaming() {
+        TestStreamingRestChannel channel = new TestStreamingRestChannel(new FakeRestRequest());
+        StreamingSearchResponseListener listener = new StreamingSearchResponseListener(channel);
+        List<SearchShard> shards = shards(3);
+        listener.onListShards(shards, List.of(), SearchResponse.Clusters.EMPTY, false);
+        listener.onPartialReduce(shards.subList(0, 2), new TotalHits(1, TotalHits.Relation.EQUAL_TO), null, 1);
+        listener.onFailure(new IllegalArgumentException("bad request"));
+
+        assertNull(channel.response);
+        assertEquals(2, channel.chunks.size());
+        HttpChunk last = channel.chunks.get(1);
+        assertTrue(last.isLast());
+        Map<String, Object> error = parse(last);
+        assertEquals(400, error.get("status"));
+        assertTrue(error.containsKey("error"));
+
+        // a late response is dropped
+        listener.onResponse(emptyResponse());
+        assertEquals(2, channel.chunks.size());
+    }
+
+    private static List<SearchShard> shards(int count) {
+        List<SearchShard> shards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shards.add(new SearchShard(null, new ShardId("index", "_na_", i)));
+        }
+        return shards;
+    }
+
+    private static SearchResponse emptyResponse() {
+        return new SearchResponse(
+            InternalSearchResponse.empty(),
+            null,
+            1,
+            1,
+            0,
+            10,
+            ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY
+        );
+    }
+
+    private static Map<String, Object> parse(HttpChunk chunk) {
+        // every chunk is a single line
+        assertEquals('\n', chunk.content().get(chunk.content().length() - 1));
+        return XContentHelper.convertToMap(chunk.content(), false, XContentType.JSON).v2();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> partial(HttpChunk chunk) {
+        Map<String, Object> map = parse(chunk);
+        assertEquals(1, map.size());
+        return (Map<String, Object>) map.get("partial");
+    }
+
+    private static final class TestStreamingRestChannel extends AbstractRestChannel implements StreamingRestChannel {
+        private final List<HttpChunk> chunks = new ArrayList<>();
+        private RestStatus status;
+        private Map<String, List<String>> headers;
+        private RestResponse response;
+
+        TestStreamingRestChannel(RestRequest request) {
+            super(request, randomBoolean());
+        }
+
+        @Override
+        public void prepareResponse(RestStatus status, Map<String, List<String>> headers) {
+            assertNull("response already prepared", this.status);
+            this.status = status;
+            this.headers = headers;
+        }
+
+        @Override
+        public void sendChunk(HttpChunk chunk) {
+            assertNotNull("response not prepared", status);
+            assertTrue("response already complete", chunks.isEmpty() || chunks.get(chunks.size() - 1).isLast() == false);
+            chunks.add(chunk);
+        }
+
+        @Override
+        public Publisher<HttpChunk> requestContent() {
+            return Flux.just(new HttpChunk(request().content(), true));
+        }
+
+        @Override
+        public void sendResponse(RestResponse response) {
+            assertNull("streaming already started", status);
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.search.TaskExecutor;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.bucket.terms.InternalSignificantTerms;
+import org.opensearch.search.aggregations.bucket.terms.SignificantStringTerms;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregator;
+import org.opensearch.search.aggregations.bucket.terms.heuristic.JLHScore;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
+public class SliceAggregationsReducerTests extends OpenSearchTestCase {
+
+    public void testReduceMatchesSequentialReduce() throws Exception {
+        int numSlices = randomIntBetween(1, 50);
+        List<InternalAggregation> slices = new ArrayList<>();
+        double sum = 0;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < numSlices; i++) {
+            double value = randomDoubleBetween(-100, 100, true);
+            sum += value;
+            max = Math.max(max, value);
+            slices.add(new InternalSum("sum", value, DocValueFormat.RAW, emptyMap()));
+            slices.add(new InternalMax("max", value, DocValueFormat.RAW, emptyMap()));
+        }
+
+        AtomicInteger reductions = new AtomicInteger();
+        InternalAggregations reduced = treeReduce(slices, () -> {
+            reductions.incrementAndGet();
+            return newSliceReduceContext();
+        });
+
+        assertEquals(2, reduced.asList().size());
+        assertEquals(sum, ((InternalSum) reduced.get("sum")).getValue(), 1e-6);
+        assertEquals(max, ((InternalMax) reduced.get("max")).getValue(), 0d);
+        // one context for the final reduction, plus the ones of the intermediate reductions
+        if (numSlices <= SliceAggregationsReducer.FAN_IN) {
+            assertEquals(1, reductions.get());
+        } else {
+            assertTrue(reductions.get() > 1);
+        }
+    }
+
+    public void testTermsTreeReduceMatchesSequentialReduce() throws Exception {
+        final int numSlices = randomIntBetween(SliceAggregationsReducer.FAN_IN + 1, 40);
+        final int numTerms = randomIntBetween(1, 20);
+        // the shard size is larger than the number of terms, so that neither reduce has a doc count error
+        final TermsAggregator.BucketCountThresholds thresholds = randomThresholds();
+        final List<InternalAggregation> slices = new ArrayList<>();
+        for (int i = 0; i < numSlices; i++) {
+            final List<StringTerms.Bucket> buckets = new ArrayList<>();
+            for (int term = 0; term < numTerms; term++) {
+                if (randomBoolean()) {
+                    buckets.add(
+                        new StringTerms.Bucket(
+                            new BytesRef(String.format(Locale.ROOT, "term%02d", term)),
+                            randomLongBetween(1, 100),
+                            InternalAggregations.EMPTY,
+                            false,
+                            0,
+                            DocValueFormat.RAW
+                        )
+                    );
+                }
+            }
+            slices.add(
+                new StringTerms(
+                    "terms",
+                    BucketOrder.key(true),
+                    BucketOrder.count(false),
+                    emptyMap(),
+                    DocValueFormat.RAW,
+                    thresholds.getShardSize(),
+                    false,
+                    0,
+                    buckets,
+                    0,
+                    thresholds
+                )
+            );
+        }
+
+        final StringTerms sequential = (StringTerms) sequentialReduce(slices).get("terms");
+        final StringTerms tree = (StringTerms) treeReduce(slices, SliceAggregationsReducerTests::newSliceReduceContext).get("terms");
+        assertEquals(termsBuckets(sequential), termsBuckets(tree));
+        assertEquals(sequential.getSumOfOtherDocCounts(), tree.getSumOfOtherDocCounts());
+        assertEquals(sequential.getDocCountError(), tree.getDocCountError());
+    }
+
+    public void testSignificantTermsTreeReduceMatchesSequentialReduce() throws Exception {
+        final int numSlices = randomIntBetween(SliceAggregationsReducer.FAN_IN + 1, 40);
+        final int numTerms = randomIntBetween(1, 20);
+        final TermsAggregator.BucketCountThresholds thresholds = randomThresholds();
+        // the background counts are shard level counts, the same for every slice
+        final long supersetSize = randomLongBetween(10_000, 100_000);
+        final long[] supersetDfs = new long[numTerms];
+        for (int term = 0; term < numTerms; term++) {
+            supersetDfs[term] = randomLongBetween(100, 1_000);
+        }
+        final List<InternalAggregation> slices = new ArrayList<>();
+        long subsetSize = 0;
+        for (int i = 0; i < numSlices; i++) {
+            final long sliceSubsetSize = randomLongBetween(100, 1_000);
+            subsetSize += sliceSubsetSize;
+            final List<SignificantStringTerms.Bucket> buckets = new ArrayList<>();
+            for (int term = 0; term < numTerms; term++) {
+                if (randomBoolean()) {
+                    buckets.add(
+                        new SignificantStringTerms.Bucket(
+                            new BytesRef(String.format(Locale.ROOT, "term%02d", term)),
+                            randomLongBetween(1, 10),
+                            sliceSubsetSize,
+                            supersetDfs[term],
+                            supersetSize,
+                            InternalAggregations.EMPTY,
+                            DocValueFormat.RAW,
+                            0
+                        )
+                    );
+                }
+            }
+            slices.add(
+                new SignificantStringTerms(
+                    "significant_terms",
+                    emptyMap(),
+                    DocValueFormat.RAW,
+                    sliceSubsetSize,
+                    supersetSize,
+                    new JLHScore(),
+                    buckets,
+                    thresholds
+                )
+            );
+        }
+
+        final SignificantStringTerms sequential = (SignificantStringTerms) sequentialReduce(slices).get("significant_terms");
+        final InternalAggregations treeReduced = treeReduce(slices, SliceAggregationsReducerTests::newSliceReduceContext);
+        final SignificantStringTerms tree = (SignificantStringTerms) treeReduced.get("significant_terms");
+        assertEquals(significantTermsBuckets(sequential), significantTermsBuckets(tree));
+        for (SignificantStringTerms.Bucket bucket : tree.getBuckets()) {
+            // the shard level counts aren't summed across slices, on any level of the tree
+            assertEquals(subsetSize, bucket.getSubsetSize());
+            assertEquals(supersetSize, bucket.getSupersetSize());
+            assertEquals(supersetDfs[Integer.parseInt(bucket.getKeyAsString().substring("term".length()))], bucket.getSupersetDf());
+        }
+    }
+
+    private static TermsAggregator.BucketCountThresholds randomThresholds() {
+        return new TermsAggregator.BucketCountThresholds(1, 0, randomIntBetween(1, 10), 50);
+    }
+
+    private static InternalAggregations treeReduce(List<InternalAggregation> slices, Supplier<InternalAggregation.ReduceContext> contexts)
+        throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4, OpenSearchExecutors.daemonThreadFactory("test"));
+        try {
+            return SliceAggregationsReducer.reduce(InternalAggregations.from(slices), contexts, new TaskExecutor(executorService));
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static InternalAggregations sequentialReduce(List<InternalAggregation> slices) {
+        return InternalAggregations.reduce(singletonList(InternalAggregations.from(slices)), newSliceReduceContext());
+    }
+
+    private static List<String> termsBuckets(StringTerms terms) {
+        return terms.getBuckets().stream().map(bucket -> bucket.getKeyAsString() + ":" + bucket.getDocCount()).collect(Collectors.toList());
+    }
+
+    private static List<String> significantTermsBuckets(InternalSignificantTerms<?, ?> terms) {
+        return terms.getBuckets()
+            .stream()
+            .sorted(Comparator.comparing(bucket -> bucket.getKeyAsString()))
+            .map(
+                bucket -> bucket.getKeyAsString()
+                    + ":"
+                    + bucket.getSubsetDf()
+                    + "/"
+                    + bucket.getSubsetSize()
+                    + ":"
+                    + bucket.getSupersetDf()
+                    + "/"
+                    + bucket.getSupersetSize()
+                    + ":"
+                    + bucket.getSignificanceScore()
+            )
+            .collect(Collectors.toList());
+    }
+
+    private static InternalAggregation.ReduceContext newSliceReduceContext() {
+        InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forPartialReduction(
+            null,
+            null,
+            () -> PipelineTree.EMPTY
+        );
+        reduceContext.setSliceLevel(true);
+        return reduceContext;
+    }
+}
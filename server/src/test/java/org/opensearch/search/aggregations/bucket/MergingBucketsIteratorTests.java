@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+public class MergingBucketsIteratorTests extends OpenSearchTestCase {
+
+    public void testMergesSortedLists() {
+        int numLists = randomIntBetween(0, 20);
+        List<List<LongTerms.Bucket>> lists = new ArrayList<>(numLists);
+        TreeMap<Long, Long> expected = new TreeMap<>();
+        for (int i = 0; i < numLists; i++) {
+            List<LongTerms.Bucket> buckets = new ArrayList<>();
+            long term = randomLongBetween(-100, 100);
+            int numBuckets = randomIntBetween(0, 50);
+            for (int b = 0; b < numBuckets; b++) {
+                long docCount = randomLongBetween(1, 10);
+                buckets.add(bucket(term, docCount));
+                expected.merge(term, docCount, Long::sum);
+                term += randomLongBetween(1, 5);
+            }
+            lists.add(buckets);
+        }
+
+        MergingBucketsIterator<LongTerms.Bucket> merged = new MergingBucketsIterator<>(lists, LongTerms.Bucket::compareKey);
+        TreeMap<Long, Long> actual = new TreeMap<>();
+        long previous = Long.MIN_VALUE;
+        while (merged.hasNext()) {
+            List<LongTerms.Bucket> sameKey = merged.next();
+            assertFalse(sameKey.isEmpty());
+            assertTrue(sameKey.size() <= numLists);
+            long term = sameKey.get(0).getKeyAsNumber().longValue();
+            assertTrue(term > previous);
+            previous = term;
+            long docCount = 0;
+            for (LongTerms.Bucket bucket : sameKey) {
+                assertEquals(term, bucket.getKeyAsNumber().longValue());
+                docCount += bucket.getDocCount();
+            }
+            actual.put(term, docCount);
+        }
+        assertEquals(expected, actual);
+        expectThrows(NoSuchElementException.class, merged::next);
+    }
+
+    private static LongTerms.Bucket bucket(long term, long docCount) {
+        return new LongTerms.Bucket(term, docCount, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW);
+    }
+}
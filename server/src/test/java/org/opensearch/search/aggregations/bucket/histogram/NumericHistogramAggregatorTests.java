@@ -33,12 +33,15 @@
 package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.apache.lucene.util.BytesRef;
@@ -56,8 +59,12 @@ import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -445,4 +452,91 @@ public class NumericHistogramAggregatorTests extends AggregatorTestCase {
         };
         testCase(request, new MatchAllDocsQuery(), buildIndex, verify, longField("outer"), longField("inner"), longField("n"));
     }
+
+    public void testFilterRewriteLongs() throws Exception {
+        double interval = randomFrom(1d, 7d, 10.5d);
+        double offset = randomDoubleBetween(0, interval, false);
+        HistogramAggregationBuilder aggBuilder = new HistogramAggregationBuilder("my_agg").field("field").interval(interval).offset(offset);
+        Number[] values = new Number[randomIntBetween(100, 2000)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomLongBetween(-1000, 1000);
+        }
+        filterRewriteTestCase(aggBuilder, new MatchAllDocsQuery(), v -> true, NumberFieldMapper.NumberType.LONG, values);
+    }
+
+    public void testFilterRewriteIntegersWithHardBounds() throws Exception {
+        HistogramAggregationBuilder aggBuilder = new HistogramAggregationBuilder("my_agg").field("field")
+            .interval(10)
+            .hardBounds(new DoubleBounds(-100d, 100d));
+        Number[] values = new Number[randomIntBetween(100, 2000)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomIntBetween(-1000, 1000);
+        }
+        filterRewriteTestCase(
+            aggBuilder,
+            IntPoint.newRangeQuery("field", -500, 500),
+            v -> -500 <= v && v <= 500 && -100 <= Math.floor(v / 10) * 10 && Math.floor(v / 10) * 10 <= 100,
+            NumberFieldMapper.NumberType.INTEGER,
+            values
+        );
+    }
+
+    public void testFilterRewriteDoubles() throws Exception {
+        HistogramAggregationBuilder aggBuilder = new HistogramAggregationBuilder("my_agg").field("field").interval(2.5).offset(0.3);
+        Number[] values = new Number[randomIntBetween(100, 2000)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomDoubleBetween(-100, 100, true);
+        }
+        filterRewriteTestCase(aggBuilder, new MatchAllDocsQuery(), v -> true, NumberFieldMapper.NumberType.DOUBLE, values);
+    }
+
+    /**
+     * Checks the buckets of the histogram against the values, and that the aggregation was rewritten into a traversal of the
+     * points of the field.
+     */
+    private void filterRewriteTestCase(
+        HistogramAggregationBuilder aggBuilder,
+        Query query,
+        DoublePredicate matches,
+        NumberFieldMapper.NumberType numberType,
+        Number[] values
+    ) throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("field", numberType);
+        try (Directory dir = newDirectory()) {
+            try (RandomIndexWriter w = new RandomIndexWriter(random(), dir)) {
+                for (Number value : values) {
+                    w.addDocument(numberType.createFields("field", value, true, true, false));
+                }
+            }
+
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                NumericHistogramAggregator aggregator = createAggregator(query, aggBuilder, searcher, createIndexSettings(), fieldType);
+                aggregator.preCollection();
+                searcher.search(query, aggregator);
+                aggregator.postCollection();
+                InternalHistogram histogram = (InternalHistogram) aggregator.buildTopLevel();
+
+                Map<Double, Long> expected = new TreeMap<>();
+                for (Number value : values) {
+                    double v = value.doubleValue();
+                    if (matches.test(v)) {
+                        double key = Math.floor((v - aggBuilder.offset()) / aggBuilder.interval()) * aggBuilder.interval()
+                            + aggBuilder.offset();
+                        expected.merge(key, 1L, Long::sum);
+                    }
+                }
+                Map<Double, Long> actual = new TreeMap<>();
+                for (InternalHistogram.Bucket bucket : histogram.getBuckets()) {
+                    actual.put((Double) bucket.getKey(), bucket.getDocCount());
+                }
+                assertEquals(expected, actual);
+
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertEquals(reader.leaves().size(), debug.get("optimized_segments"));
+                assertEquals(0, debug.get("unoptimized_segments"));
+            }
+        }
+    }
 }
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.DoublePoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
@@ -56,8 +57,11 @@ import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
 
 import static java.util.Collections.singleton;
 import static org.hamcrest.Matchers.equalTo;
@@ -305,6 +309,96 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testFilterRewriteLongRanges() throws IOException {
+        RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("test").field(NUMBER_FIELD_NAME)
+            .addUnboundedTo(-500d)
+            .addRange(-500d, -100d)
+            .addRange(0d, 10.5d)
+            .addUnboundedFrom(500d);
+        Number[] values = new Number[randomIntBetween(100, 2000)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomLongBetween(-1000, 1000);
+        }
+        filterRewriteTestCase(aggregationBuilder, new MatchAllDocsQuery(), v -> true, NumberFieldMapper.NumberType.LONG, values, true);
+    }
+
+    public void testFilterRewriteDoubleRangesWithRangeQuery() throws IOException {
+        RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("test").field(NUMBER_FIELD_NAME)
+            .addRange(-50d, -0.5d)
+            .addRange(0d, 25.25d)
+            .addRange(25.25d, 80d);
+        Number[] values = new Number[randomIntBetween(100, 2000)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomDoubleBetween(-100, 100, true);
+        }
+        Query query = DoublePoint.newRangeQuery(NUMBER_FIELD_NAME, -60, 60);
+        filterRewriteTestCase(aggregationBuilder, query, v -> -60 <= v && v <= 60, NumberFieldMapper.NumberType.DOUBLE, values, true);
+    }
+
+    public void testFilterRewriteSkipsOverlappingRanges() throws IOException {
+        RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("test").field(NUMBER_FIELD_NAME)
+            .addRange(0d, 10d)
+            .addRange(5d, 20d);
+        Number[] values = new Number[randomIntBetween(1, 200)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomIntBetween(-5, 25);
+        }
+        filterRewriteTestCase(aggregationBuilder, new MatchAllDocsQuery(), v -> true, NumberFieldMapper.NumberType.INTEGER, values, false);
+    }
+
+    /**
+     * Checks the doc counts of the ranges against the values, and whether the aggregation was rewritten into a traversal of the
+     * points of the field.
+     */
+    private void filterRewriteTestCase(
+        RangeAggregationBuilder aggregationBuilder,
+        Query query,
+        DoublePredicate matches,
+        NumberFieldMapper.NumberType numberType,
+        Number[] values,
+        boolean expectOptimized
+    ) throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD_NAME, numberType);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                for (Number value : values) {
+                    indexWriter.addDocument(numberType.createFields(NUMBER_FIELD_NAME, value, true, true, false));
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                RangeAggregator aggregator = createAggregator(query, aggregationBuilder, indexSearcher, createIndexSettings(), fieldType);
+                aggregator.preCollection();
+                indexSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                InternalRange<?, ?> range = (InternalRange<?, ?>) aggregator.buildTopLevel();
+
+                for (InternalRange.Bucket bucket : range.getBuckets()) {
+                    double from = (Double) bucket.getFrom();
+                    double to = (Double) bucket.getTo();
+                    long expected = 0;
+                    for (Number value : values) {
+                        double v = value.doubleValue();
+                        if (from <= v && v < to && matches.test(v)) {
+                            expected++;
+                        }
+                    }
+                    assertEquals(bucket.getKeyAsString(), expected, bucket.getDocCount());
+                }
+
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                if (expectOptimized) {
+                    assertEquals(indexReader.leaves().size(), debug.get("optimized_segments"));
+                    assertEquals(0, debug.get("unoptimized_segments"));
+                } else {
+                    assertFalse(debug.containsKey("optimized_segments"));
+                }
+            }
+        }
+    }
+
     private void testCase(
         Query query,
         CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
@@ -45,6 +45,7 @@ import java.util.Set;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
 
 public class LongKeyedBucketOrdsTests extends OpenSearchTestCase {
     private final MockBigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
@@ -57,6 +58,31 @@ public class LongKeyedBucketOrdsTests extends OpenSearchTestCase {
         collectsFromSingleBucketCase(LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.MANY));
     }
 
+    public void testHighCardinalityCollectsFromSingleBucket() {
+        LongKeyedBucketOrds ords = LongKeyedBucketOrds.build(
+            bigArrays,
+            CardinalityUpperBound.ONE,
+            randomLongBetween(LongKeyedBucketOrds.SWISS_TABLE_MIN_KEYS, Long.MAX_VALUE)
+        );
+        assertThat(ords, instanceOf(LongKeyedBucketOrds.FromSingleSwissTable.class));
+        collectsFromSingleBucketCase(ords);
+    }
+
+    public void testBuildWithEstimatedKeys() {
+        try (
+            LongKeyedBucketOrds ords = LongKeyedBucketOrds.build(
+                bigArrays,
+                CardinalityUpperBound.ONE,
+                randomLongBetween(0, LongKeyedBucketOrds.SWISS_TABLE_MIN_KEYS - 1)
+            )
+        ) {
+            assertThat(ords, instanceOf(LongKeyedBucketOrds.FromSingle.class));
+        }
+        try (LongKeyedBucketOrds ords = LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.MANY, randomNonNegativeLong())) {
+            assertThat(ords, instanceOf(LongKeyedBucketOrds.FromMany.class));
+        }
+    }
+
     private void collectsFromSingleBucketCase(LongKeyedBucketOrds ords) {
         try {
             // Test a few explicit values
@@ -32,6 +32,7 @@
 package org.opensearch.search.aggregations.bucket.terms;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
@@ -114,6 +115,28 @@ public class NumericTermsAggregatorTests extends AggregatorTestCase {
         );
     }
 
+    public void testEstimateDistinctKeys() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                // many documents, but few distinct values: the bounds of the points are the better estimate
+                for (int i = 0; i < 100; i++) {
+                    Document document = new Document();
+                    document.add(new LongPoint(LONG_FIELD, i % 10));
+                    document.add(new IntPoint("int", i * 1000));
+                    document.add(new SortedNumericDocValuesField("doc_values_only", i));
+                    indexWriter.addDocument(document);
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                assertEquals(10, NumericTermsAggregator.estimateDistinctKeys(reader, LONG_FIELD));
+                // sparse values: the number of points is the better estimate
+                assertEquals(100, NumericTermsAggregator.estimateDistinctKeys(reader, "int"));
+                // without points, the number of documents isn't used as an estimate
+                assertEquals(0, NumericTermsAggregator.estimateDistinctKeys(reader, "doc_values_only"));
+            }
+        }
+    }
+
     public void testBadIncludeExclude() throws IOException {
         IncludeExclude includeExclude = new IncludeExclude("foo", null);
 
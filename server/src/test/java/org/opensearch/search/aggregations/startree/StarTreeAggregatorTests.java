@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.codec.composite.StarTreeCodec;
+import org.opensearch.index.compositeindex.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.NumericMetricsAggregation;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that aggregations answered from the star tree of the segments return the same results as the ones collecting the
+ * documents of the same index written without star tree.
+ */
+public class StarTreeAggregatorTests extends AggregatorTestCase {
+
+    private static final String ID = "id";
+    private static final String DIM = "dim";
+    private static final String TIMESTAMP = "timestamp";
+    private static final String METRIC = "metric";
+    private static final long HOUR = TimeValue.timeValueHours(1).millis();
+    // 2020-01-01T00:00:00Z
+    private static final long START = 1577836800000L;
+
+    public void testMetrics() throws IOException {
+        try (Directory starTreeDirectory = newDirectory(); Directory plainDirectory = newDirectory()) {
+            indexDocs(starTreeDirectory, plainDirectory, false);
+            for (AggregationBuilder builder : metricAggregations()) {
+                assertSameMetric(starTreeDirectory, plainDirectory, builder);
+            }
+        }
+    }
+
+    public void testDateHistogram() throws IOException {
+        try (Directory starTreeDirectory = newDirectory(); Directory plainDirectory = newDirectory()) {
+            indexDocs(starTreeDirectory, plainDirectory, false);
+            // intervals that are multiples of the hourly granularity of the tree are answered from it
+            for (AggregationBuilder builder : alignedDateHistograms()) {
+                assertSameBuckets(starTreeDirectory, plainDirectory, builder);
+                assertEquals(numLeavesWithoutDeletions(starTreeDirectory), starTreeOptimizedSegments(starTreeDirectory, builder));
+            }
+            // half hours split every hour of the tree, the documents are collected instead
+            DateHistogramAggregationBuilder halfHours = new DateHistogramAggregationBuilder("histo").field(TIMESTAMP)
+                .fixedInterval(new DateHistogramInterval("30m"));
+            assertSameBuckets(starTreeDirectory, plainDirectory, halfHours);
+            assertEquals(0, starTreeOptimizedSegments(starTreeDirectory, halfHours));
+            // 90 minutes split every third hour, segments fall back to collecting as soon as they hold one
+            assertSameBuckets(
+                starTreeDirectory,
+                plainDirectory,
+                new DateHistogramAggregationBuilder("histo").field(TIMESTAMP).fixedInterval(new DateHistogramInterval("90m"))
+            );
+        }
+    }
+
+    public void testNumericTerms() throws IOException {
+        try (Directory starTreeDirectory = newDirectory(); Directory plainDirectory = newDirectory()) {
+            indexDocs(starTreeDirectory, plainDirectory, false);
+            TermsAggregationBuilder terms = new TermsAggregationBuilder("terms").field(DIM).size(100);
+            assertSameBuckets(starTreeDirectory, plainDirectory, terms);
+            assertEquals(numLeavesWithoutDeletions(starTreeDirectory), starTreeOptimizedSegments(starTreeDirectory, terms));
+
+            // documents without value are put in the missing bucket, which the star tree can't answer
+            TermsAggregationBuilder missing = new TermsAggregationBuilder("terms").field(DIM).size(100).missing(3L);
+            assertSameBuckets(starTreeDirectory, plainDirectory, missing);
+            assertEquals(0, starTreeOptimizedSegments(starTreeDirectory, missing));
+        }
+    }
+
+    public void testDeletedDocs() throws IOException {
+        try (Directory starTreeDirectory = newDirectory(); Directory plainDirectory = newDirectory()) {
+            indexDocs(starTreeDirectory, plainDirectory, true);
+            for (AggregationBuilder builder : metricAggregations()) {
+                assertSameMetric(starTreeDirectory, plainDirectory, builder);
+            }
+            List<AggregationBuilder> bucketAggregations = new ArrayList<>(alignedDateHistograms());
+            bucketAggregations.add(new TermsAggregationBuilder("terms").field(DIM).size(100));
+            for (AggregationBuilder builder : bucketAggregations) {
+                assertSameBuckets(starTreeDirectory, plainDirectory, builder);
+                // the star tree pre-aggregates deleted documents too, segments with deletions are collected
+                assertEquals(numLeavesWithoutDeletions(starTreeDirectory), starTreeOptimizedSegments(starTreeDirectory, builder));
+            }
+        }
+    }
+
+    private static List<AggregationBuilder> metricAggregations() {
+        return List.of(
+            new SumAggregationBuilder("sum").field(METRIC),
+            new MinAggregationBuilder("min").field(METRIC),
+            new MaxAggregationBuilder("max").field(METRIC),
+            new AvgAggregationBuilder("avg").field(METRIC),
+            new ValueCountAggregationBuilder("value_count").field(METRIC),
+            // documents without value count as the missing value, which the star tree can't answer
+            new SumAggregationBuilder("sum").field(METRIC).missing(7)
+        );
+    }
+
+    private static List<AggregationBuilder> alignedDateHistograms() {
+        return List.of(
+            new DateHistogramAggregationBuilder("histo").field(TIMESTAMP).fixedInterval(new DateHistogramInterval("1h")),
+            new DateHistogramAggregationBuilder("histo").field(TIMESTAMP).fixedInterval(new DateHistogramInterval("3h")),
+            new DateHistogramAggregationBuilder("histo").field(TIMESTAMP).calendarInterval(DateHistogramInterval.DAY)
+        );
+    }
+
+    /**
+     * Writes the same documents to both directories, with and without star tree, in segments of the same size. Every segment
+     * holds documents with and without dimension and metric values.
+     */
+    private void indexDocs(Directory starTreeDirectory, Directory plainDirectory, boolean deleteDocs) throws IOException {
+        final StarTreeFieldConfiguration configuration = new StarTreeFieldConfiguration(
+            List.of(new StarTreeFieldConfiguration.Dimension(DIM, 0), new StarTreeFieldConfiguration.Dimension(TIMESTAMP, HOUR)),
+            List.of(METRIC),
+            randomIntBetween(1, 20)
+        );
+        final MapperService mapperService = mapperServiceMock();
+        for (MappedFieldType fieldType : fieldTypes()) {
+            when(mapperService.fieldType(fieldType.name())).thenReturn(fieldType);
+        }
+        final int segmentSize = randomIntBetween(10, 50);
+        final int numDocs = segmentSize * randomIntBetween(2, 6);
+        try (
+            IndexWriter starTreeWriter = newWriter(starTreeDirectory, new StarTreeCodec(new Lucene99Codec(), configuration, mapperService));
+            IndexWriter plainWriter = newWriter(plainDirectory, new Lucene99Codec())
+        ) {
+            for (int i = 0; i < numDocs; i++) {
+                final Document document = new Document();
+                document.add(new StringField(ID, Integer.toString(i), Field.Store.NO));
+                if (i % 7 != 3) {
+                    document.add(new SortedNumericDocValuesField(DIM, randomLongBetween(0, 5)));
+                }
+                if (i % 10 != 9) {
+                    document.add(new SortedNumericDocValuesField(TIMESTAMP, START + randomLongBetween(0, 3 * 24 * HOUR)));
+                }
+                // no value, one value or two values
+                final int numValues = i % 5 == 0 ? 0 : i % 5 == 1 ? 2 : 1;
+                for (int v = 0; v < numValues; v++) {
+                    document.add(new SortedNumericDocValuesField(METRIC, randomLongBetween(-1000, 1000)));
+                }
+                starTreeWriter.addDocument(document);
+                plainWriter.addDocument(document);
+                if ((i + 1) % segmentSize == 0) {
+                    starTreeWriter.commit();
+                    plainWriter.commit();
+                }
+            }
+            if (deleteDocs) {
+                for (int i = 0; i < numDocs; i++) {
+                    if (rarely()) {
+                        starTreeWriter.deleteDocuments(new Term(ID, Integer.toString(i)));
+                        plainWriter.deleteDocuments(new Term(ID, Integer.toString(i)));
+                    }
+                }
+                // make sure at least one segment has deletions
+                starTreeWriter.deleteDocuments(new Term(ID, "0"));
+                plainWriter.deleteDocuments(new Term(ID, "0"));
+            }
+        }
+    }
+
+    private static IndexWriter newWriter(Directory directory, Codec codec) throws IOException {
+        return new IndexWriter(directory, new IndexWriterConfig().setCodec(codec).setMergePolicy(NoMergePolicy.INSTANCE));
+    }
+
+    private MappedFieldType[] fieldTypes() {
+        return new MappedFieldType[] { longField(DIM), dateField(TIMESTAMP, DateFieldMapper.Resolution.MILLISECONDS), longField(METRIC) };
+    }
+
+    private void assertSameMetric(Directory starTreeDirectory, Directory plainDirectory, AggregationBuilder builder) throws IOException {
+        final NumericMetricsAggregation.SingleValue expected = aggregate(plainDirectory, builder);
+        final NumericMetricsAggregation.SingleValue actual = aggregate(starTreeDirectory, builder);
+        assertEquals(builder.toString(), expected.value(), actual.value(), 0d);
+    }
+
+    private void assertSameBuckets(Directory starTreeDirectory, Directory plainDirectory, AggregationBuilder builder) throws IOException {
+        final MultiBucketsAggregation expected = aggregate(plainDirectory, builder);
+        final MultiBucketsAggregation actual = aggregate(starTreeDirectory, builder);
+        assertEquals(builder.toString(), bucketDocCounts(expected), bucketDocCounts(actual));
+    }
+
+    private static List<String> bucketDocCounts(MultiBucketsAggregation aggregation) {
+        final List<String> docCounts = new ArrayList<>();
+        for (MultiBucketsAggregation.Bucket bucket : aggregation.getBuckets()) {
+            docCounts.add(bucket.getKeyAsString() + "=" + bucket.getDocCount());
+        }
+        return docCounts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A> A aggregate(Directory directory, AggregationBuilder builder) throws IOException {
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            final InternalAggregation aggregation = searchAndReduce(
+                newIndexSearcher(reader),
+                new MatchAllDocsQuery(),
+                builder,
+                fieldTypes()
+            );
+            return (A) aggregation;
+        }
+    }
+
+    /**
+     * Returns the number of segments a bucket aggregation answered from their star tree
+     */
+    private int starTreeOptimizedSegments(Directory directory, AggregationBuilder builder) throws IOException {
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            final IndexSearcher searcher = newIndexSearcher(reader);
+            final Aggregator aggregator = createAggregator(
+                new MatchAllDocsQuery(),
+                builder,
+                searcher,
+                createIndexSettings(),
+                fieldTypes()
+            );
+            aggregator.preCollection();
+            searcher.search(new MatchAllDocsQuery(), aggregator);
+            aggregator.postCollection();
+            final Map<String, Object> debug = new HashMap<>();
+            aggregator.collectDebugInfo(debug::put);
+            return (int) debug.getOrDefault("star_tree_optimized_segments", 0);
+        }
+    }
+
+    private static int numLeavesWithoutDeletions(Directory directory) throws IOException {
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            int count = 0;
+            for (LeafReaderContext leaf : reader.leaves()) {
+                if (leaf.reader().hasDeletions() == false) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
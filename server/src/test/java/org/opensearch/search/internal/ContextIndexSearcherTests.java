@@ -50,6 +50,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
@@ -59,10 +60,13 @@ import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
 import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.search.TotalHitCountCollectorManager;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Accountable;
@@ -82,24 +86,38 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.BucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.profile.ProfileResult;
+import org.opensearch.search.profile.query.ConcurrentQueryProfileTree;
+import org.opensearch.search.profile.query.QueryProfiler;
+import org.opensearch.search.profile.query.QueryTimingType;
+import org.opensearch.search.profile.query.SlicingResult;
 import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableLeafReader;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitablePointValues;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableTerms;
 import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
+import static org.opensearch.search.profile.AbstractProfileBreakdown.TIMING_TYPE_COUNT_SUFFIX;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -424,6 +442,127 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCostAwareSlicingSplitsSegments() throws Exception {
+        final int numDocs = 300;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (
+            final Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            for (int i = 0; i < numDocs; i++) {
+                Document document = new Document();
+                document.add(new StringField("field", i % 2 == 0 ? "even" : "odd", Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                SearchContext searchContext = mock(SearchContext.class);
+                IndexShard indexShard = mock(IndexShard.class);
+                when(searchContext.indexShard()).thenReturn(indexShard);
+                when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+                when(searchContext.shouldUseConcurrentSearch()).thenReturn(true);
+                when(searchContext.shouldUseCostAwareSlicing()).thenReturn(true);
+                when(searchContext.getTargetMaxSliceCount()).thenReturn(4);
+                when(searchContext.getMinPartitionDocCount()).thenReturn(10);
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    directoryReader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    false,
+                    executor,
+                    searchContext
+                );
+                QueryProfiler profiler = new QueryProfiler(new ConcurrentQueryProfileTree());
+                searcher.setProfiler(profiler);
+
+                // the single segment is split when profiling too, each slice reports the breakdown of its own range
+                assertEquals(numDocs, (int) searcher.search(new MatchAllDocsQuery(), new TotalHitCountCollectorManager()));
+                SlicingResult slicing = profiler.getSlicing();
+                assertNotNull(slicing);
+                assertThat(slicing.getSlices().size(), greaterThan(1));
+                List<ProfileResult> profileResults = profiler.getTree();
+                assertEquals(1, profileResults.size());
+                assertEquals(
+                    Long.valueOf(slicing.getSlices().size()),
+                    profileResults.get(0).getTimeBreakdown().get(QueryTimingType.BUILD_SCORER + TIMING_TYPE_COUNT_SUFFIX)
+                );
+
+                // collectors that need whole segments keep the segment in a single slice
+                profiler = new QueryProfiler(new ConcurrentQueryProfileTree());
+                searcher.setProfiler(profiler);
+                assertEquals(numDocs, (int) searcher.search(new MatchAllDocsQuery(), new WholeLeafCountingCollectorManager()));
+                slicing = profiler.getSlicing();
+                assertNotNull(slicing);
+                assertEquals(1, slicing.getSlices().size());
+                assertEquals(new SlicingResult.Partition(0, 0, numDocs), slicing.getSlices().get(0).getPartitions().get(0));
+
+                // partitions of the segment are counted once each
+                searcher.setProfiler(null);
+                assertEquals(numDocs, (int) searcher.search(new MatchAllDocsQuery(), new TotalHitCountCollectorManager()));
+                Query evenQuery = new TermQuery(new Term("field", "even"));
+                assertEquals(numDocs / 2, (int) searcher.search(evenQuery, new TotalHitCountCollectorManager()));
+                TopDocs topDocs = searcher.search(evenQuery, TopScoreDocCollector.createSharedManager(numDocs, null, Integer.MAX_VALUE));
+                assertEquals(numDocs / 2, topDocs.scoreDocs.length);
+                Set<Integer> docs = new HashSet<>();
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    assertEquals(0, scoreDoc.doc % 2);
+                    assertTrue(docs.add(scoreDoc.doc));
+                }
+            }
+        } finally {
+            terminate(executor);
+        }
+    }
+
+    /**
+     * Counts the matching documents with bucket collectors that don't support collecting a leaf as several ranges of doc ids
+     */
+    private static class WholeLeafCountingCollectorManager implements CollectorManager<BucketCollector, Integer> {
+        private final Map<BucketCollector, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        @Override
+        public BucketCollector newCollector() {
+            final AtomicInteger count = new AtomicInteger();
+            final BucketCollector collector = new BucketCollector() {
+                @Override
+                public LeafBucketCollector getLeafCollector(LeafReaderContext ctx) {
+                    return new LeafBucketCollector() {
+                        @Override
+                        public void collect(int doc, long owningBucketOrd) {
+                            count.incrementAndGet();
+                        }
+                    };
+                }
+
+                @Override
+                public void preCollection() {}
+
+                @Override
+                public void postCollection() {}
+
+                @Override
+                public ScoreMode scoreMode() {
+                    return ScoreMode.COMPLETE_NO_SCORES;
+                }
+            };
+            counts.put(collector, count);
+            return collector;
+        }
+
+        @Override
+        public Integer reduce(Collection<BucketCollector> collectors) {
+            int total = 0;
+            for (BucketCollector collector : collectors) {
+                total += counts.get(collector).get();
+            }
+            return total;
+        }
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.opensearch.search.profile.query.SlicingResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
+import static org.apache.lucene.tests.util.LuceneTestCase.newDirectory;
+
+public class CostAwareSliceSupplierTests extends OpenSearchTestCase {
+
+    public void testNegativeSliceCount() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CostAwareSliceSupplier.plan(new ArrayList<>(), new long[0], randomIntBetween(-3, 0), 1)
+        );
+        assertThrows(IllegalArgumentException.class, () -> CostAwareSliceSupplier.adaptSliceCount(randomIntBetween(-3, 0), 8, 0));
+    }
+
+    public void testEmptyLeaves() {
+        assertEquals(0, CostAwareSliceSupplier.plan(new ArrayList<>(), new long[0], 4, 1).size());
+        assertEquals(0, CostAwareSliceSupplier.getSlices(new ArrayList<>(), 4).length);
+    }
+
+    public void testBalancesByCost() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(5);
+        // one expensive leaf and four cheap ones
+        long[] costs = new long[] { 1, 100, 1, 1, 1 };
+        List<List<CostAwareSliceSupplier.Partition>> slices = CostAwareSliceSupplier.plan(leaves, costs, 2, Integer.MAX_VALUE);
+        assertEquals(2, slices.size());
+        // the expensive leaf gets a slice of its own
+        List<CostAwareSliceSupplier.Partition> expensive = slices.get(0).size() == 1 ? slices.get(0) : slices.get(1);
+        assertEquals(1, expensive.size());
+        assertSame(leaves.get(1), expensive.get(0).ctx);
+        assertTrue(expensive.get(0).isWholeLeaf());
+        assertCoversAllDocs(leaves, slices);
+    }
+
+    public void testSliceCountLessThanLeafCount() throws Exception {
+        int leafCount = randomIntBetween(2, 12);
+        List<LeafReaderContext> leaves = getLeaves(leafCount);
+        int targetSliceCount = randomIntBetween(1, leafCount + 2);
+        long[] costs = new long[leafCount];
+        for (int i = 0; i < leafCount; i++) {
+            costs[i] = randomLongBetween(0, 1000);
+        }
+        List<List<CostAwareSliceSupplier.Partition>> slices = CostAwareSliceSupplier.plan(leaves, costs, targetSliceCount, 1);
+        assertEquals(Math.min(leafCount, targetSliceCount), slices.size());
+        assertCoversAllDocs(leaves, slices);
+    }
+
+    public void testSplitsLargeLeaf() throws Exception {
+        int largeLeafDocs = 1000;
+        try (Directory directory = newDirectory()) {
+            List<LeafReaderContext> leaves = getLeavesWithDocCounts(directory, new int[] { largeLeafDocs, 1, 1, 1 });
+            long[] costs = new long[leaves.size()];
+            for (int i = 0; i < costs.length; i++) {
+                costs[i] = leaves.get(i).reader().maxDoc();
+            }
+            int targetSliceCount = 4;
+            List<List<CostAwareSliceSupplier.Partition>> slices = CostAwareSliceSupplier.plan(leaves, costs, targetSliceCount, 100);
+            assertEquals(targetSliceCount, slices.size());
+            assertCoversAllDocs(leaves, slices);
+            for (List<CostAwareSliceSupplier.Partition> slice : slices) {
+                // the large leaf is split across all slices, each range holding at least the minimum number of docs
+                long largeLeafPartitions = slice.stream().filter(p -> p.ctx.reader().maxDoc() == largeLeafDocs).count();
+                assertEquals(1, largeLeafPartitions);
+                for (CostAwareSliceSupplier.Partition partition : slice) {
+                    if (partition.ctx.reader().maxDoc() == largeLeafDocs) {
+                        assertFalse(partition.isWholeLeaf());
+                        assertTrue(partition.maxDoc - partition.minDoc >= 100);
+                    }
+                }
+            }
+
+            // not split if ranges would be smaller than the minimum
+            slices = CostAwareSliceSupplier.plan(leaves, costs, targetSliceCount, largeLeafDocs);
+            for (List<CostAwareSliceSupplier.Partition> slice : slices) {
+                for (CostAwareSliceSupplier.Partition partition : slice) {
+                    assertTrue(partition.isWholeLeaf());
+                }
+            }
+            assertCoversAllDocs(leaves, slices);
+
+            // whole-leaf slices are balanced by live docs
+            IndexSearcher.LeafSlice[] leafSlices = CostAwareSliceSupplier.getSlices(leaves, 2);
+            assertEquals(2, leafSlices.length);
+            IndexSearcher.LeafSlice large = leafSlices[0].leaves.length == 1 ? leafSlices[0] : leafSlices[1];
+            assertEquals(1, large.leaves.length);
+            assertEquals(largeLeafDocs, large.leaves[0].reader().maxDoc());
+        }
+    }
+
+    public void testAdaptSliceCount() {
+        assertEquals(8, CostAwareSliceSupplier.adaptSliceCount(8, 8, 0));
+        assertEquals(8, CostAwareSliceSupplier.adaptSliceCount(8, 0, 100));
+        assertEquals(4, CostAwareSliceSupplier.adaptSliceCount(8, 8, 8));
+        assertEquals(2, CostAwareSliceSupplier.adaptSliceCount(8, 8, 24));
+        assertEquals(1, CostAwareSliceSupplier.adaptSliceCount(8, 8, 1000));
+    }
+
+    public void testToSlicingResult() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(3);
+        long[] costs = new long[] { 3, 2, 1 };
+        List<List<CostAwareSliceSupplier.Partition>> slices = CostAwareSliceSupplier.plan(leaves, costs, 2, Integer.MAX_VALUE);
+        SlicingResult result = CostAwareSliceSupplier.toSlicingResult(slices, 2, 5);
+        assertEquals(2, result.getTargetSliceCount());
+        assertEquals(5, result.getQueueSize());
+        assertEquals(2, result.getSlices().size());
+        // the most expensive leaf alone, then the two others
+        assertEquals(3, result.getSlices().get(0).getCost());
+        assertEquals(List.of(new SlicingResult.Partition(0, 0, 1)), result.getSlices().get(0).getPartitions());
+        assertEquals(3, result.getSlices().get(1).getCost());
+        assertEquals(
+            List.of(new SlicingResult.Partition(1, 0, 1), new SlicingResult.Partition(2, 0, 1)),
+            result.getSlices().get(1).getPartitions()
+        );
+    }
+
+    private static void assertCoversAllDocs(List<LeafReaderContext> leaves, List<List<CostAwareSliceSupplier.Partition>> slices) {
+        for (LeafReaderContext leaf : leaves) {
+            List<CostAwareSliceSupplier.Partition> partitions = new ArrayList<>();
+            for (List<CostAwareSliceSupplier.Partition> slice : slices) {
+                Set<LeafReaderContext> sliceLeaves = new HashSet<>();
+                for (CostAwareSliceSupplier.Partition partition : slice) {
+                    // a slice never searches a leaf twice
+                    assertTrue(sliceLeaves.add(partition.ctx));
+                    if (partition.ctx == leaf) {
+                        partitions.add(partition);
+                    }
+                }
+            }
+            partitions.sort((a, b) -> Integer.compare(a.minDoc, b.minDoc));
+            int next = 0;
+            for (CostAwareSliceSupplier.Partition partition : partitions) {
+                assertEquals(next, partition.minDoc);
+                assertTrue(partition.maxDoc > partition.minDoc);
+                next = partition.maxDoc;
+            }
+            assertEquals(leaf.reader().maxDoc(), next);
+        }
+    }
+
+    private static List<LeafReaderContext> getLeavesWithDocCounts(Directory directory, int[] docCounts) throws Exception {
+        try (
+            IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            for (int docCount : docCounts) {
+                for (int i = 0; i < docCount; i++) {
+                    Document document = new Document();
+                    document.add(new StringField("field", "value" + i, Field.Store.NO));
+                    iw.addDocument(document);
+                }
+                iw.commit();
+            }
+        }
+        try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+            return directoryReader.leaves();
+        }
+    }
+}
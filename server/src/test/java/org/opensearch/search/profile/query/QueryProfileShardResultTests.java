@@ -32,6 +32,7 @@
 
 package org.opensearch.search.profile.query;
 
+import org.opensearch.Version;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.ToXContent;
@@ -61,7 +62,23 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             rewriteTime = rewriteTime % 1000; // make sure to often test this with small values too
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector);
+        SlicingResult slicing = randomBoolean() ? createSlicingResult() : null;
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector, slicing);
+    }
+
+    private static SlicingResult createSlicingResult() {
+        int sliceCount = randomIntBetween(0, 4);
+        List<SlicingResult.Slice> slices = new ArrayList<>(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            int partitionCount = randomIntBetween(1, 3);
+            List<SlicingResult.Partition> partitions = new ArrayList<>(partitionCount);
+            for (int j = 0; j < partitionCount; j++) {
+                int minDoc = randomIntBetween(0, 1000);
+                partitions.add(new SlicingResult.Partition(randomIntBetween(0, 20), minDoc, minDoc + randomIntBetween(1, 1000)));
+            }
+            slices.add(new SlicingResult.Slice(randomNonNegativeLong(), partitions));
+        }
+        return new SlicingResult(randomIntBetween(1, 16), randomIntBetween(0, 100), slices);
     }
 
     public void testFromXContent() throws IOException {
@@ -78,6 +95,18 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
             assertNull(parser.nextToken());
         }
         assertToXContentEquivalent(originalBytes, toXContent(parsed, xContentType, humanReadable), xContentType);
+        assertEquals(profileResult.getSlicing(), parsed.getSlicing());
+    }
+
+    public void testSerialization() throws IOException {
+        QueryProfileShardResult profileResult = createTestItem();
+        QueryProfileShardResult deserialized = copyWriteable(profileResult, writableRegistry(), QueryProfileShardResult::new);
+        assertEquals(profileResult.getRewriteTime(), deserialized.getRewriteTime());
+        assertEquals(profileResult.getSlicing(), deserialized.getSlicing());
+
+        deserialized = copyWriteable(profileResult, writableRegistry(), QueryProfileShardResult::new, Version.V_2_15_0);
+        assertEquals(profileResult.getRewriteTime(), deserialized.getRewriteTime());
+        assertNull(deserialized.getSlicing());
     }
 
 }
@@ -2083,7 +2083,7 @@ public class SnapshotResiliencyTests extends OpenSearchTestCase {
                     new RemoteSegmentStoreDirectoryFactory(() -> repositoriesService, threadPool),
                     repositoriesServiceReference::get,
                     null,
-                    new RemoteStoreStatsTrackerFactory(clusterService, settings),
+                    new RemoteStoreStatsTrackerFactory(clusterService, settings, threadPool),
                     DefaultRecoverySettings.INSTANCE,
                     new CacheModule(new ArrayList<>(), settings).getCacheService(),
                     DefaultRemoteStoreSettings.INSTANCE
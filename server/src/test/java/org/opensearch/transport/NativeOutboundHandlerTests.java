@@ -80,6 +80,7 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
     private NativeOutboundHandler nativeOutboundHandler;
     private FakeTcpChannel channel;
     private DiscoveryNode node;
+    private StatsTracker statsTracker;
 
     @Before
     public void setUp() throws Exception {
@@ -88,7 +89,7 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
         TransportAddress transportAddress = buildNewFakeTransportAddress();
         node = new DiscoveryNode("", transportAddress, Version.CURRENT);
         String[] features = { feature1, feature2 };
-        StatsTracker statsTracker = new StatsTracker();
+        statsTracker = new StatsTracker();
         handler = new OutboundHandler(statsTracker, threadPool);
         nativeOutboundHandler = new NativeOutboundHandler(
             "node",
@@ -101,7 +102,7 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
         );
 
         final LongSupplier millisSupplier = () -> TimeValue.nsecToMSec(System.nanoTime());
-        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE, statsTracker);
         final Supplier<CircuitBreaker> breaker = () -> new NoopCircuitBreaker("test");
         final InboundAggregator aggregator = new InboundAggregator(breaker, (Predicate<String>) action -> true);
         pipeline = new InboundPipeline(statsTracker, millisSupplier, decoder, aggregator, (c, m) -> {
@@ -127,7 +128,7 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
         String action = "handshake";
         long requestId = randomLongBetween(0, 300);
         boolean isHandshake = randomBoolean();
-        boolean compress = randomBoolean();
+        TransportCompressionScheme scheme = randomFrom(TransportCompressionScheme.values());
         String value = "message";
         threadContext.putHeader("header", "header_value");
         TestRequest request = new TestRequest(value);
@@ -151,7 +152,7 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
                 requestRef.set(request);
             }
         });
-        nativeOutboundHandler.sendRequest(node, channel, requestId, action, request, options, version, compress, isHandshake);
+        nativeOutboundHandler.sendRequest(node, channel, requestId, action, request, options, version, scheme, isHandshake);
 
         BytesReference reference = channel.getMessageCaptor().get();
         ActionListener<Void> sendListener = channel.getListenerCaptor().get();
@@ -178,10 +179,14 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
         } else {
             assertFalse(header.isHandshake());
         }
-        if (compress) {
-            assertTrue(header.isCompressed());
-        } else {
-            assertFalse(header.isCompressed());
+        assertEquals(scheme != TransportCompressionScheme.NONE, header.isCompressed());
+        assertEquals(scheme, header.getCompressionScheme());
+        for (TransportCompressionStats stats : statsTracker.getCompressionStats()) {
+            final boolean compressed = stats.getScheme().equals(scheme.getValue());
+            assertEquals(compressed ? 1 : 0, stats.getCompressedMessages());
+            assertEquals(compressed ? 1 : 0, stats.getDecompressedMessages());
+            assertEquals(stats.getBytesBeforeCompression(), stats.getBytesAfterDecompression());
+            assertEquals(stats.getBytesAfterCompression(), stats.getBytesBeforeDecompression());
         }
 
         assertEquals(value, message.getValue());
@@ -194,7 +199,7 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
         String action = "handshake";
         long requestId = randomLongBetween(0, 300);
         boolean isHandshake = randomBoolean();
-        boolean compress = randomBoolean();
+        TransportCompressionScheme scheme = randomFrom(TransportCompressionScheme.values());
         String value = "message";
         threadContext.putHeader("header", "header_value");
         TestResponse response = new TestResponse(value);
@@ -210,7 +215,7 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
                 responseRef.set(response);
             }
         });
-        nativeOutboundHandler.sendResponse(version, Collections.emptySet(), channel, requestId, action, response, compress, isHandshake);
+        nativeOutboundHandler.sendResponse(version, Collections.emptySet(), channel, requestId, action, response, scheme, isHandshake);
 
         BytesReference reference = channel.getMessageCaptor().get();
         ActionListener<Void> sendListener = channel.getListenerCaptor().get();
@@ -236,11 +241,8 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
         } else {
             assertFalse(header.isHandshake());
         }
-        if (compress) {
-            assertTrue(header.isCompressed());
-        } else {
-            assertFalse(header.isCompressed());
-        }
+        assertEquals(scheme != TransportCompressionScheme.NONE, header.isCompressed());
+        assertEquals(scheme, header.getCompressionScheme());
 
         assertFalse(header.isError());
 
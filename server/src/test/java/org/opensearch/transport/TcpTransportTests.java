@@ -281,6 +281,31 @@ public class TcpTransportTests extends OpenSearchTestCase {
         }
     }
 
+    public void testRequestCompressionScheme() {
+        final TransportCompressionScheme negotiated = randomFrom(TransportCompressionScheme.values());
+        final boolean compress = randomBoolean();
+
+        // actions that always compress use the negotiated scheme even if compression is disabled for the connection
+        assertEquals(
+            negotiated,
+            TcpTransport.requestCompressionScheme(TransportRequestOptions.CompressionPolicy.ALWAYS, compress, negotiated)
+        );
+        // and actions that never compress don't use it even if it is enabled
+        assertEquals(
+            TransportCompressionScheme.NONE,
+            TcpTransport.requestCompressionScheme(TransportRequestOptions.CompressionPolicy.NEVER, compress, negotiated)
+        );
+
+        assertEquals(
+            negotiated,
+            TcpTransport.requestCompressionScheme(TransportRequestOptions.CompressionPolicy.DEFAULT, true, negotiated)
+        );
+        assertEquals(
+            TransportCompressionScheme.NONE,
+            TcpTransport.requestCompressionScheme(TransportRequestOptions.CompressionPolicy.DEFAULT, false, negotiated)
+        );
+    }
+
     public void testReadMessageLengthWithIncompleteHeader() throws IOException {
         BytesStreamOutput streamOutput = new BytesStreamOutput(1 << 14);
         streamOutput.write('E');
@@ -151,4 +151,46 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIncrementalMultiPageCompressionOfBufferedSchemes() throws IOException {
+        final TransportCompressionScheme scheme = randomFrom(TransportCompressionScheme.ZSTD, TransportCompressionScheme.LZ4);
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                StreamOutput compressedStream = new OutputStreamStreamOutput(
+                    scheme.compressor().threadLocalOutputStream(Streams.flushOnCloseStream(output))
+                )
+            ) {
+                for (int i = 0; i < 10000; ++i) {
+                    compressedStream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE, bytes.length());
+
+            int split = (int) (bytes.length() * 0.5);
+            BytesReference inbound1 = bytes.slice(0, split);
+            BytesReference inbound2 = bytes.slice(split, bytes.length() - split);
+
+            int bytesConsumed1 = decompressor.decompress(inbound1);
+            assertEquals(inbound1.length(), bytesConsumed1);
+            assertEquals(scheme, decompressor.getScheme());
+            assertFalse(decompressor.isEOS());
+            assertNull(decompressor.pollDecompressedPage());
+            int bytesConsumed2 = decompressor.decompress(inbound2);
+            assertEquals(inbound2.length(), bytesConsumed2);
+            assertTrue(decompressor.isEOS());
+            ReleasableBytesReference reference1 = decompressor.pollDecompressedPage();
+            ReleasableBytesReference reference2 = decompressor.pollDecompressedPage();
+            ReleasableBytesReference reference3 = decompressor.pollDecompressedPage();
+            assertNull(decompressor.pollDecompressedPage());
+            BytesReference composite = CompositeBytesReference.of(reference1, reference2, reference3);
+            assertEquals(4 * 10000, composite.length());
+            StreamInput streamInput = composite.streamInput();
+            for (int i = 0; i < 10000; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            Releasables.close(reference1, reference2, reference3);
+        }
+    }
 }
@@ -43,6 +43,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
@@ -50,6 +51,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class TransportHandshakerTests extends OpenSearchTestCase {
 
@@ -189,6 +191,119 @@ public class TransportHandshakerTests extends OpenSearchTestCase {
         assertNull(handshaker.removeHandlerForHandshake(reqId));
     }
 
+    public void testNegotiatesSharedCompressionScheme() throws IOException {
+        final TransportHandshaker receiver = new TransportHandshaker(
+            Version.CURRENT,
+            threadPool,
+            requestSender,
+            Arrays.asList(TransportCompressionScheme.ZSTD, TransportCompressionScheme.DEFLATE)
+        );
+        // the preference order of the sending node wins
+        final TransportHandshaker.HandshakeResponse response = handleHandshake(
+            receiver,
+            new TransportHandshaker.HandshakeRequest(
+                Version.CURRENT,
+                Arrays.asList(TransportCompressionScheme.LZ4, TransportCompressionScheme.DEFLATE, TransportCompressionScheme.ZSTD)
+            )
+        );
+        assertEquals(TransportCompressionScheme.DEFLATE, response.getCompressionScheme());
+
+        assertEquals(TransportCompressionScheme.DEFLATE, receiveHandshakeResponse(response));
+    }
+
+    public void testNegotiatesNoCompressionScheme() throws IOException {
+        final TransportHandshaker receiver = new TransportHandshaker(
+            Version.CURRENT,
+            threadPool,
+            requestSender,
+            Collections.singletonList(TransportCompressionScheme.NONE)
+        );
+        // the receiving node disabled compression
+        TransportHandshaker.HandshakeResponse response = handleHandshake(
+            receiver,
+            new TransportHandshaker.HandshakeRequest(
+                Version.CURRENT,
+                Arrays.asList(TransportCompressionScheme.LZ4, TransportCompressionScheme.NONE)
+            )
+        );
+        assertEquals(TransportCompressionScheme.NONE, response.getCompressionScheme());
+        assertEquals(TransportCompressionScheme.NONE, receiveHandshakeResponse(response));
+
+        // the nodes don't share any scheme
+        response = handleHandshake(
+            receiver,
+            new TransportHandshaker.HandshakeRequest(
+                Version.CURRENT,
+                Arrays.asList(TransportCompressionScheme.LZ4, TransportCompressionScheme.DEFLATE)
+            )
+        );
+        assertEquals(TransportCompressionScheme.NONE, response.getCompressionScheme());
+        assertEquals(TransportCompressionScheme.NONE, receiveHandshakeResponse(response));
+    }
+
+    public void testHandshakeRequestWithoutCompressionSchemes() throws IOException {
+        final TransportHandshaker receiver = new TransportHandshaker(
+            Version.CURRENT,
+            threadPool,
+            requestSender,
+            Arrays.asList(TransportCompressionScheme.LZ4, TransportCompressionScheme.DEFLATE)
+        );
+        // nodes that don't negotiate compression schemes only send their version
+        final TransportHandshaker.HandshakeResponse response = handleHandshake(
+            receiver,
+            new TransportHandshaker.HandshakeRequest(Version.CURRENT)
+        );
+        assertNull(response.getCompressionScheme());
+
+        // and must get a response they can fully read
+        final BytesStreamOutput responseBytes = new BytesStreamOutput();
+        response.writeTo(responseBytes);
+        final BytesStreamOutput versionOnlyBytes = new BytesStreamOutput();
+        versionOnlyBytes.writeVersion(Version.CURRENT);
+        assertEquals(versionOnlyBytes.bytes(), responseBytes.bytes());
+    }
+
+    public void testHandshakeResponseWithoutCompressionScheme() throws IOException {
+        // nodes that don't negotiate compression schemes compress with DEFLATE
+        assertEquals(
+            TransportCompressionScheme.DEFLATE,
+            receiveHandshakeResponse(new TransportHandshaker.HandshakeResponse(Version.CURRENT))
+        );
+    }
+
+    /**
+     * Handles the given handshake request with the receiving handshaker, and returns the response it sends back.
+     */
+    private TransportHandshaker.HandshakeResponse handleHandshake(
+        TransportHandshaker receiver,
+        TransportHandshaker.HandshakeRequest handshakeRequest
+    ) throws IOException {
+        final BytesStreamOutput requestBytes = new BytesStreamOutput();
+        handshakeRequest.writeTo(requestBytes);
+        final PlainActionFuture<TransportResponse> responseFuture = PlainActionFuture.newFuture();
+        receiver.handleHandshake(new TestTransportChannel(responseFuture), randomNonNegativeLong(), requestBytes.bytes().streamInput());
+        return (TransportHandshaker.HandshakeResponse) responseFuture.actionGet();
+    }
+
+    /**
+     * Sends a handshake, reads the serialized response as the sending node would, and returns the compression scheme it
+     * negotiated for the channel.
+     */
+    private TransportCompressionScheme receiveHandshakeResponse(TransportHandshaker.HandshakeResponse response) throws IOException {
+        when(channel.isOpen()).thenReturn(true);
+        final PlainActionFuture<Version> versionFuture = PlainActionFuture.newFuture();
+        final long reqId = randomLongBetween(1, 10);
+        handshaker.sendHandshake(reqId, node, channel, new TimeValue(30, TimeUnit.SECONDS), versionFuture);
+
+        final BytesStreamOutput responseBytes = new BytesStreamOutput();
+        response.writeTo(responseBytes);
+        final TransportResponseHandler<TransportHandshaker.HandshakeResponse> handler = handshaker.removeHandlerForHandshake(reqId);
+        handler.handleResponse(handler.read(responseBytes.bytes().streamInput()));
+        assertEquals(Version.CURRENT, versionFuture.actionGet());
+
+        return handshaker.removeCompressionScheme(channel);
+    }
+
     private Version getMinCompatibilityVersionForHandshakeRequest() {
         return Version.CURRENT.minimumCompatibilityVersion();
     }
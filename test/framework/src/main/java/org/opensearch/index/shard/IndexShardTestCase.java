@@ -669,7 +669,11 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
 
                 remoteStore = createRemoteStore(remotePath, routing, indexMetadata, shardPath);
 
-                remoteStoreStatsTrackerFactory = new RemoteStoreStatsTrackerFactory(clusterService, indexSettings.getSettings());
+                remoteStoreStatsTrackerFactory = new RemoteStoreStatsTrackerFactory(
+                    clusterService,
+                    indexSettings.getSettings(),
+                    threadPool
+                );
                 BlobStoreRepository repo = createRepository(remotePath);
                 when(mockRepoSvc.repository(any())).thenAnswer(invocationOnMock -> repo);
             } else {
@@ -365,6 +365,7 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         when(searchContext.indexShard()).thenReturn(indexShard);
         when(searchContext.aggregations()).thenReturn(new SearchContextAggregations(AggregatorFactories.EMPTY, bucketConsumer));
         when(searchContext.query()).thenReturn(query);
+        when(searchContext.queryWeight()).thenCallRealMethod();
         when(searchContext.bucketCollectorProcessor()).thenReturn(new BucketCollectorProcessor());
         when(searchContext.asLocalBucketCountThresholds(any())).thenCallRealMethod();
         /*